@@ -14,6 +14,9 @@ import com.example.admin.dto.AdminUserDto;
 import com.example.admin.service.AdminService;
 import com.example.BegaDiary.Service.SeatViewService;
 import com.example.common.dto.ApiResponse;
+import com.example.kbo.dto.ScheduleIndexRebuildResultDto;
+import com.example.kbo.dto.TeamStandingsParityResultDto;
+import com.example.kbo.dto.TeamStandingsRebuildResultDto;
 import com.example.prediction.GameInningScoreRequestDto;
 import com.example.prediction.GameScoreSyncBatchResultDto;
 import com.example.prediction.GameScoreSyncResultDto;
@@ -269,6 +272,39 @@ public class AdminController {
         ));
     }
 
+    /**
+     * 팀 순위 projection 시즌 전체 재구성
+     * POST /api/admin/team-standings/rebuild?seasonYear=2026
+     */
+    @PostMapping("/team-standings/rebuild")
+    public ResponseEntity<ApiResponse<TeamStandingsRebuildResultDto>> rebuildTeamStandings(
+            @RequestParam int seasonYear) {
+        TeamStandingsRebuildResultDto result = adminService.rebuildTeamStandings(seasonYear);
+        return ResponseEntity.ok(ApiResponse.success("팀 순위 projection 재구성 성공", result));
+    }
+
+    /**
+     * 팀 순위 projection과 전체 집계 쿼리 결과 비교
+     * GET /api/admin/team-standings/parity?seasonYear=2026
+     */
+    @GetMapping("/team-standings/parity")
+    public ResponseEntity<ApiResponse<TeamStandingsParityResultDto>> verifyTeamStandings(
+            @RequestParam int seasonYear) {
+        TeamStandingsParityResultDto result = adminService.verifyTeamStandings(seasonYear);
+        return ResponseEntity.ok(ApiResponse.success("팀 순위 projection 정합성 확인 성공", result));
+    }
+
+    /**
+     * 경기 일정 색인 재구성 (이 노드만, seasonYear가 없으면 전체 시즌)
+     * POST /api/admin/schedule-index/rebuild?seasonYear=2026
+     */
+    @PostMapping("/schedule-index/rebuild")
+    public ResponseEntity<ApiResponse<ScheduleIndexRebuildResultDto>> rebuildScheduleIndex(
+            @RequestParam(required = false) Integer seasonYear) {
+        ScheduleIndexRebuildResultDto result = adminService.rebuildScheduleIndex(seasonYear);
+        return ResponseEntity.ok(ApiResponse.success("경기 일정 색인 재구성 성공", result));
+    }
+
     /**
      * 비정상 팀 코드 정제 tracker 목록 조회
      * GET /api/admin/games/non-canonical-cleanup-trackers
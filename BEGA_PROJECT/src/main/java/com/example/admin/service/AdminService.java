@@ -34,6 +34,11 @@ import com.example.prediction.GameScoreSyncResultDto;
 import com.example.prediction.GameStatusMismatchBatchResultDto;
 import com.example.prediction.GameStatusRepairBatchResultDto;
 import com.example.prediction.PredictionService;
+import com.example.kbo.dto.ScheduleIndexRebuildResultDto;
+import com.example.kbo.dto.TeamStandingsParityResultDto;
+import com.example.kbo.dto.TeamStandingsRebuildResultDto;
+import com.example.kbo.service.SeasonScheduleIndex;
+import com.example.kbo.service.TeamStandingsService;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -73,6 +78,8 @@ public class AdminService {
     private final PartyService partyService;
     private final RefreshRepository refreshRepository;
     private final PredictionService predictionService;
+    private final TeamStandingsService teamStandingsService;
+    private final SeasonScheduleIndex seasonScheduleIndex;
     private final AdminUserDeletionPreparationService deletionPreparationService;
     private static final Set<String> NON_CANONICAL_TRACKER_STATUSES =
             Set.of("draft", "requested", "in_progress", "done");
@@ -545,6 +552,20 @@ public class AdminService {
         return predictionService.repairGameStatusMismatchesByDateRange(startDate, endDate, dryRun);
     }
 
+    public TeamStandingsRebuildResultDto rebuildTeamStandings(int seasonYear) {
+        return teamStandingsService.rebuildSeason(seasonYear);
+    }
+
+    public TeamStandingsParityResultDto verifyTeamStandings(int seasonYear) {
+        return teamStandingsService.verifySeason(seasonYear);
+    }
+
+    public ScheduleIndexRebuildResultDto rebuildScheduleIndex(Integer seasonYear) {
+        return seasonYear == null
+                ? seasonScheduleIndex.rebuildAll()
+                : seasonScheduleIndex.rebuildSeason(seasonYear);
+    }
+
     @Transactional(readOnly = true)
     public List<AdminNonCanonicalCleanupTrackerDto> getNonCanonicalCleanupTrackers() {
         return nonCanonicalCleanupTrackerRepository.findAllByOrderByUpdatedAtDesc().stream()
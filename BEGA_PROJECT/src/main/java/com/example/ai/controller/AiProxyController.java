@@ -8,12 +8,15 @@ import com.example.ai.service.AiProxyService.ProxyByteResponse;
 import com.example.ai.service.AiProxyService.ProxyStreamResponse;
 import com.example.ai.service.AiProxyStreamConcurrencyLimiter;
 import com.example.ai.service.AiProxyStreamConcurrencyLimiter.Permit;
+import com.example.ai.service.AiStreamRelay;
+import com.example.ai.service.AiStreamRelay.Outcome;
 import com.example.ai.service.CoachAutoBriefMonitoringService;
 import com.example.common.ratelimit.RateLimit;
 import jakarta.servlet.http.HttpServletRequest;
-import java.io.IOException;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -41,6 +44,7 @@ public class AiProxyController {
     private final CoachAutoBriefMonitoringService coachAutoBriefMonitoringService;
     private final AiProxyRequestLimits requestLimits;
     private final AiProxyStreamConcurrencyLimiter streamConcurrencyLimiter;
+    private final AiStreamRelay streamRelay;
 
     @PostMapping("/chat/completion")
     @RateLimit(limit = 60, window = 60, key = "ai:chat", failClosed = true)
@@ -54,13 +58,15 @@ public class AiProxyController {
     @RateLimit(limit = 60, window = 60, key = "ai:chat", failClosed = true)
     public ResponseEntity<StreamingResponseBody> chatStream(
             @RequestBody String payload,
-            @RequestHeader(value = AiProxyService.AI_EVENT_VERSION_HEADER, required = false) String eventVersion) {
+            @RequestHeader(value = AiProxyService.AI_EVENT_VERSION_HEADER, required = false) String eventVersion,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         Permit streamPermit = null;
         try {
             requestLimits.validateChatJson(payload);
             streamPermit = streamConcurrencyLimiter.acquire("chat_stream");
             ProxyStreamResponse proxyResponse = forwardJsonStream("/ai/chat/stream", payload, eventVersion);
-            return toStreamResponse(proxyResponse, streamPermit);
+            return toStreamResponse(proxyResponse, streamPermit, request, response);
         } catch (AiProxyException exception) {
             closeStreamPermit(streamPermit);
             return toLocalStreamErrorResponse(exception);
@@ -82,7 +88,9 @@ public class AiProxyController {
     @RateLimit(limit = 25, window = 60, key = "ai:coach", failClosed = true)
     public ResponseEntity<StreamingResponseBody> coachAnalyze(
             @RequestBody String payload,
-            @RequestHeader(value = AiProxyService.AI_EVENT_VERSION_HEADER, required = false) String eventVersion) {
+            @RequestHeader(value = AiProxyService.AI_EVENT_VERSION_HEADER, required = false) String eventVersion,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         String requestMode = coachAutoBriefMonitoringService.extractRequestMode(payload);
         String analysisType = coachAutoBriefMonitoringService.extractAnalysisType(payload);
         long startNanos = System.nanoTime();
@@ -99,7 +107,14 @@ public class AiProxyController {
                     analysisType,
                     proxyResponse.status().value(),
                     elapsedMillis(startNanos));
-            return toCoachAnalyzeStreamResponse(proxyResponse, requestMode, analysisType, startNanos, streamPermit);
+            return toCoachAnalyzeStreamResponse(
+                    proxyResponse,
+                    requestMode,
+                    analysisType,
+                    startNanos,
+                    streamPermit,
+                    request,
+                    response);
         } catch (AiProxyException exception) {
             closeStreamPermit(streamPermit);
             coachAutoBriefMonitoringService.recordCoachAnalyzeDuration(
@@ -253,32 +268,31 @@ public class AiProxyController {
         return aiProxyService.forwardJsonStream(uri, payload, eventVersion);
     }
 
-    private ResponseEntity<StreamingResponseBody> toStreamResponse(ProxyStreamResponse proxyResponse, Permit streamPermit) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.putAll(proxyResponse.headers());
-
-        StreamingResponseBody responseBody;
+    /**
+     * upstream 오류 응답은 기존처럼 StreamingResponseBody로 쓰고,
+     * 성공 스트림은 AiStreamRelay가 서블릿 비동기 I/O로 중계하므로 null을 반환한다.
+     */
+    private ResponseEntity<StreamingResponseBody> toStreamResponse(
+            ProxyStreamResponse proxyResponse,
+            Permit streamPermit,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         if (!proxyResponse.status().is2xxSuccessful()) {
             byte[] errorBody = proxyResponse.errorBody() != null ? proxyResponse.errorBody() : new byte[0];
-            responseBody = outputStream -> {
+            StreamingResponseBody responseBody = outputStream -> {
                 try {
                     outputStream.write(errorBody);
                 } finally {
                     streamPermit.close();
                 }
             };
-        } else {
-            responseBody = outputStream -> {
-                try {
-                    aiProxyService.writeStream(proxyResponse.bodyFlux(), outputStream);
-                } finally {
-                    streamPermit.close();
-                }
-            };
+            return ResponseEntity.status(proxyResponse.status())
+                    .headers(copyHeaders(proxyResponse))
+                    .body(responseBody);
         }
-        return ResponseEntity.status(proxyResponse.status())
-                .headers(headers)
-                .body(responseBody);
+
+        relayStream(proxyResponse, request, response, outcome -> streamPermit.close());
+        return null;
     }
 
     private ResponseEntity<StreamingResponseBody> toCoachAnalyzeStreamResponse(
@@ -286,14 +300,12 @@ public class AiProxyController {
             String requestMode,
             String analysisType,
             long startNanos,
-            Permit streamPermit) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.putAll(proxyResponse.headers());
-
-        StreamingResponseBody responseBody;
+            Permit streamPermit,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         if (!proxyResponse.status().is2xxSuccessful()) {
             byte[] errorBody = proxyResponse.errorBody() != null ? proxyResponse.errorBody() : new byte[0];
-            responseBody = outputStream -> {
+            StreamingResponseBody responseBody = outputStream -> {
                 try {
                     outputStream.write(errorBody);
                 } finally {
@@ -314,44 +326,55 @@ public class AiProxyController {
                     }
                 }
             };
-        } else {
-            responseBody = outputStream -> {
-                try {
-                    aiProxyService.writeStream(proxyResponse.bodyFlux(), outputStream);
-                } catch (IOException | RuntimeException exception) {
-                    coachAutoBriefMonitoringService.recordCoachAnalyzeDuration(
+            return ResponseEntity.status(proxyResponse.status())
+                    .headers(copyHeaders(proxyResponse))
+                    .body(responseBody);
+        }
+
+        relayStream(proxyResponse, request, response, outcome -> {
+            try {
+                coachAutoBriefMonitoringService.recordCoachAnalyzeDuration(
+                        requestMode,
+                        analysisType,
+                        proxyResponse.status().value(),
+                        System.nanoTime() - startNanos);
+                if (outcome == Outcome.COMPLETED) {
+                    log.info(
+                            "Coach analyze stream completed request_mode={} analysis_type={} status={} elapsed_ms={}",
                             requestMode,
                             analysisType,
                             proxyResponse.status().value(),
-                            System.nanoTime() - startNanos);
+                            elapsedMillis(startNanos));
+                } else {
                     log.warn(
-                            "Coach analyze stream interrupted request_mode={} analysis_type={} status={} elapsed_ms={} error={}",
+                            "Coach analyze stream interrupted request_mode={} analysis_type={} status={} elapsed_ms={} outcome={}",
                             requestMode,
                             analysisType,
                             proxyResponse.status().value(),
                             elapsedMillis(startNanos),
-                            exception.toString());
-                    throw exception;
-                } finally {
-                    streamPermit.close();
+                            outcome);
                 }
-                coachAutoBriefMonitoringService.recordCoachAnalyzeDuration(
-                        requestMode,
-                        analysisType,
-                        proxyResponse.status().value(),
-                        System.nanoTime() - startNanos);
-                log.info(
-                        "Coach analyze stream completed request_mode={} analysis_type={} status={} elapsed_ms={}",
-                        requestMode,
-                        analysisType,
-                        proxyResponse.status().value(),
-                        elapsedMillis(startNanos));
-            };
-        }
+            } finally {
+                streamPermit.close();
+            }
+        });
+        return null;
+    }
 
-        return ResponseEntity.status(proxyResponse.status())
-                .headers(headers)
-                .body(responseBody);
+    private void relayStream(
+            ProxyStreamResponse proxyResponse,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Consumer<Outcome> onTermination) {
+        response.setStatus(proxyResponse.status().value());
+        proxyResponse.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        streamRelay.relay(request, response, proxyResponse.bodyFlux(), onTermination);
+    }
+
+    private HttpHeaders copyHeaders(ProxyStreamResponse proxyResponse) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(proxyResponse.headers());
+        return headers;
     }
 
     private String withQuery(String path, HttpServletRequest request) {
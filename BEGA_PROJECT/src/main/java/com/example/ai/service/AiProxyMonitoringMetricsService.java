@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 public class AiProxyMonitoringMetricsService {
 
     static final String UPSTREAM_REQUEST_DURATION_METRIC = "ai_proxy_upstream_request_duration_seconds";
+    static final String RESPONSE_CACHE_METRIC = "ai_proxy_response_cache_total";
 
     private static final String UNKNOWN = "unknown";
     private static final Map<String, String> KNOWN_ENDPOINTS = Map.ofEntries(
@@ -55,6 +56,21 @@ public class AiProxyMonitoringMetricsService {
                 .record(durationNanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * 응답 캐시 조회 결과. hit는 캐시 재생, coalesced는 진행 중인 같은 upstream 호출에 합류, miss는 upstream 호출이다.
+     */
+    public void recordResponseCache(String uri, String mode, String result) {
+        if (meterRegistry == null) {
+            return;
+        }
+        meterRegistry.counter(
+                RESPONSE_CACHE_METRIC,
+                "endpoint", normalizeEndpoint(uri),
+                "mode", "stream".equals(mode) ? "stream" : "byte",
+                "result", normalizeCacheResult(result))
+                .increment();
+    }
+
     private String normalizeEndpoint(String uri) {
         if (uri == null || uri.isBlank()) {
             return UNKNOWN;
@@ -92,6 +108,13 @@ public class AiProxyMonitoringMetricsService {
         };
     }
 
+    private String normalizeCacheResult(String result) {
+        if ("hit".equals(result) || "coalesced".equals(result)) {
+            return result;
+        }
+        return "miss";
+    }
+
     private String normalizeResult(String result) {
         if (result == null || result.isBlank()) {
             return "failure";
@@ -0,0 +1,459 @@
+package com.example.ai.service;
+
+import com.example.ai.service.AiProxyService.ProxyByteResponse;
+import com.example.ai.service.AiProxyService.ProxyStreamResponse;
+import com.example.common.cache.TieredCacheInvalidationBus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * 결정적인 AI proxy 호출(같은 payload면 같은 응답)의 노드 로컬 응답 캐시.
+ *
+ * app.ai.proxy.response-cache.endpoints에 적은 upstream 경로만 대상이며 기본값은 비어 있다(opt-in).
+ * - 키는 경로 + X-AI-Event-Version + 정규화한 payload(JSON 키 정렬)의 SHA-256이다.
+ * - 같은 키로 진행 중인 upstream 호출이 있으면 새로 보내지 않고 그 결과를 함께 받는다.
+ * - 스트림은 upstream을 한 번만 구독해 청크를 기록하고, 같은 키의 요청은 기록을 처음부터 다시 받는다.
+ *   끝까지 성공한 스트림은 캐시에 넣어 이후 요청에 그대로 재생한다.
+ *   기록이 max-entry-bytes를 넘으면 캐시하지 않고 새 요청도 합류시키지 않으며, 이미 받은 응답이 모두 구독하면 기록을 버린다.
+ * - 2xx 응답만 캐시하고, 야구 데이터가 갱신되면 BaseballReadCacheInvalidator가 전체를 비운다.
+ *   비우기는 L1 무효화 채널로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Component
+public class AiProxyResponseCache {
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+    private static final String DEFAULT_EVENT_VERSION = "default";
+    private static final String MODE_BYTE = "byte";
+    private static final String MODE_STREAM = "stream";
+    static final String INVALIDATION_NAME = "aiProxyResponses";
+
+    private final AiProxyMonitoringMetricsService metricsService;
+    private final TieredCacheInvalidationBus invalidationBus;
+    private final Set<String> endpoints;
+    private final int maxEntryBytes;
+    private final Duration streamRecordTimeout;
+    private final Cache<String, CachedResponse> responses;
+    private final ConcurrentMap<String, CompletableFuture<ProxyByteResponse>> byteInFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<SharedStream>> streamInFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public AiProxyResponseCache(
+            AiProxyMonitoringMetricsService metricsService,
+            TieredCacheInvalidationBus invalidationBus,
+            @Value("${app.ai.proxy.response-cache.endpoints:}") String endpoints,
+            @Value("${app.ai.proxy.response-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.ai.proxy.response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.ai.proxy.response-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+            @Value("${app.ai.proxy.request-timeout-seconds:180}") long requestTimeoutSeconds) {
+        this.metricsService = metricsService != null ? metricsService : AiProxyMonitoringMetricsService.noop();
+        this.invalidationBus = invalidationBus;
+        this.endpoints = parseEndpoints(endpoints);
+        this.maxEntryBytes = Math.max(0, maxEntryBytes);
+        this.streamRecordTimeout = Duration.ofSeconds(Math.max(30L, requestTimeoutSeconds));
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(Math.max(0L, maxBytes))
+                .weigher((String key, CachedResponse value) -> value.weight())
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1L, ttlSeconds)))
+                .build();
+        if (invalidationBus != null) {
+            invalidationBus.subscribe((cacheName, key) -> {
+                if (INVALIDATION_NAME.equals(cacheName)) {
+                    invalidateLocal();
+                }
+            });
+        }
+        if (!this.endpoints.isEmpty()) {
+            log.info("AI proxy response cache enabled endpoints={} ttl_seconds={}", this.endpoints, ttlSeconds);
+        }
+    }
+
+    static AiProxyResponseCache disabled() {
+        return new AiProxyResponseCache(AiProxyMonitoringMetricsService.noop(), null, "", 1L, 0L, 0, 180L);
+    }
+
+    public ProxyByteResponse getOrLoad(
+            String uri,
+            String payload,
+            String eventVersion,
+            Supplier<ProxyByteResponse> loader) {
+        if (!isCacheable(uri)) {
+            return loader.get();
+        }
+        String key = cacheKey(MODE_BYTE, uri, payload, eventVersion);
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            metricsService.recordResponseCache(uri, MODE_BYTE, "hit");
+            return cached.toByteResponse();
+        }
+
+        CompletableFuture<ProxyByteResponse> loading = new CompletableFuture<>();
+        CompletableFuture<ProxyByteResponse> existing = byteInFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            metricsService.recordResponseCache(uri, MODE_BYTE, "coalesced");
+            ProxyByteResponse shared = await(existing);
+            return new ProxyByteResponse(shared.status(), copyHeaders(shared.headers()), shared.body());
+        }
+
+        metricsService.recordResponseCache(uri, MODE_BYTE, "miss");
+        long loadGeneration = generation.get();
+        try {
+            ProxyByteResponse response = loader.get();
+            if (response.status().is2xxSuccessful()
+                    && response.body().length <= maxEntryBytes
+                    && loadGeneration == generation.get()) {
+                responses.put(key, new CachedResponse(
+                        response.status(),
+                        copyHeaders(response.headers()),
+                        List.of(response.body())));
+            }
+            loading.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Error도 future에 넘겨야 합류한 요청이 join()에서 멈추지 않는다.
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            byteInFlight.remove(key, loading);
+        }
+    }
+
+    public ProxyStreamResponse getOrLoadStream(
+            String uri,
+            String payload,
+            String eventVersion,
+            Supplier<ProxyStreamResponse> loader) {
+        if (!isCacheable(uri)) {
+            return loader.get();
+        }
+        String key = cacheKey(MODE_STREAM, uri, payload, eventVersion);
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            metricsService.recordResponseCache(uri, MODE_STREAM, "hit");
+            return cached.toStreamResponse();
+        }
+
+        CompletableFuture<SharedStream> loading = new CompletableFuture<>();
+        CompletableFuture<SharedStream> existing = streamInFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            metricsService.recordResponseCache(uri, MODE_STREAM, "coalesced");
+            ProxyStreamResponse replay = await(existing).toStreamResponse();
+            // 상한을 넘어 기록을 버린 스트림에는 처음부터 다시 받을 수 없으므로 직접 호출한다.
+            return replay != null ? replay : loader.get();
+        }
+
+        metricsService.recordResponseCache(uri, MODE_STREAM, "miss");
+        long loadGeneration = generation.get();
+        SharedStream shared;
+        ProxyStreamResponse first;
+        try {
+            ProxyStreamResponse response = loader.get();
+            if (!response.status().is2xxSuccessful()) {
+                streamInFlight.remove(key, loading);
+                loading.complete(new SharedStream(response.status(), response.headers(), null, response.errorBody()));
+                return response;
+            }
+            RecordedStream recording = new RecordedStream(key, loading, loadGeneration, response);
+            shared = new SharedStream(response.status(), copyHeaders(response.headers()), recording, null);
+            // 첫 응답의 재생 몫을 upstream 구독 전에 잡아 두어야 빠른 upstream이 상한을 넘겨도 처음부터 받을 수 있다.
+            first = shared.toStreamResponse();
+            recording.start(response.bodyFlux());
+        } catch (Throwable e) {
+            streamInFlight.remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        loading.complete(shared);
+        return first;
+    }
+
+    /**
+     * 야구 데이터가 바뀌면 호출한다. 진행 중인 호출의 결과도 캐시에 넣지 않고, 이후 요청은 새로 upstream을 부른다.
+     * 다른 노드에도 같은 무효화를 전파한다.
+     */
+    public void invalidateAll() {
+        invalidateLocal();
+        if (invalidationBus != null) {
+            invalidationBus.publish(INVALIDATION_NAME, null);
+        }
+    }
+
+    private void invalidateLocal() {
+        generation.incrementAndGet();
+        byteInFlight.clear();
+        streamInFlight.clear();
+        responses.invalidateAll();
+        log.info("Invalidated AI proxy response cache");
+    }
+
+    boolean isCacheable(String uri) {
+        if (endpoints.isEmpty() || uri == null) {
+            return false;
+        }
+        int queryIndex = uri.indexOf('?');
+        return endpoints.contains(queryIndex >= 0 ? uri.substring(0, queryIndex) : uri);
+    }
+
+    long estimatedSize() {
+        responses.cleanUp();
+        return responses.estimatedSize();
+    }
+
+    private String cacheKey(String mode, String uri, String payload, String eventVersion) {
+        String version = StringUtils.hasText(eventVersion) ? eventVersion.trim() : DEFAULT_EVENT_VERSION;
+        return mode + "|" + uri + "|" + version + "|" + sha256(normalizePayload(payload));
+    }
+
+    static String normalizePayload(String payload) {
+        if (!StringUtils.hasText(payload)) {
+            return "";
+        }
+        try {
+            JsonNode tree = CANONICAL_MAPPER.readTree(payload);
+            return CANONICAL_MAPPER.writeValueAsString(CANONICAL_MAPPER.treeToValue(tree, Object.class));
+        } catch (IOException ignored) {
+            return payload.trim();
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static byte[] copyAndRelease(DataBuffer dataBuffer) {
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    private static Flux<DataBuffer> replay(Flux<byte[]> chunks) {
+        return chunks.map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private static HttpHeaders copyHeaders(HttpHeaders source) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(source);
+        return headers;
+    }
+
+    private static Set<String> parseEndpoints(String endpoints) {
+        if (!StringUtils.hasText(endpoints)) {
+            return Set.of();
+        }
+        return Arrays.stream(endpoints.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, List<byte[]> chunks) {
+
+        int weight() {
+            long bytes = 0;
+            for (byte[] chunk : chunks) {
+                bytes += chunk.length;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+
+        ProxyByteResponse toByteResponse() {
+            return new ProxyByteResponse(status, copyHeaders(headers), chunks.isEmpty() ? new byte[0] : chunks.get(0));
+        }
+
+        ProxyStreamResponse toStreamResponse() {
+            return new ProxyStreamResponse(status, copyHeaders(headers), replay(Flux.fromIterable(chunks)), null);
+        }
+    }
+
+    private record SharedStream(HttpStatusCode status, HttpHeaders headers, RecordedStream recording, byte[] errorBody) {
+
+        /**
+         * @return 처음부터 재생하는 응답, 기록을 이미 버렸으면 null
+         */
+        ProxyStreamResponse toStreamResponse() {
+            if (recording == null) {
+                return new ProxyStreamResponse(status, copyHeaders(headers), Flux.empty(), errorBody);
+            }
+            Flux<byte[]> chunks = recording.view();
+            return chunks != null ? new ProxyStreamResponse(status, copyHeaders(headers), replay(chunks), errorBody) : null;
+        }
+    }
+
+    /**
+     * upstream 본문을 한 번만 구독해 청크를 byte[]로 복사해 두고, 구독자마다 처음부터 다시 내보낸다.
+     * 클라이언트 하나가 끊겨도 upstream은 끝까지 읽어 같은 키를 기다리는 요청과 캐시에 쓴다.
+     * 기록이 maxEntryBytes를 넘으면 캐시/합류 대상에서 빼고, 내준 재생 Flux가 모두 구독한 뒤에는 기록을 버린다.
+     */
+    private final class RecordedStream {
+
+        private final String key;
+        private final CompletableFuture<SharedStream> loading;
+        private final long loadGeneration;
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final List<FluxSink<byte[]>> subscribers = new ArrayList<>();
+        private List<byte[]> chunks = new ArrayList<>();
+        private long recordedBytes;
+        private boolean overLimit;
+        private int pendingViews;
+        private boolean completed;
+        private Throwable failure;
+
+        private RecordedStream(
+                String key,
+                CompletableFuture<SharedStream> loading,
+                long loadGeneration,
+                ProxyStreamResponse response) {
+            this.key = key;
+            this.loading = loading;
+            this.loadGeneration = loadGeneration;
+            this.status = response.status();
+            this.headers = copyHeaders(response.headers());
+        }
+
+        private void start(Flux<DataBuffer> body) {
+            // 구독한 클라이언트가 모두 끊겨도 upstream이 멈춰 연결을 붙잡지 않도록 청크 간 대기 시간을 제한한다.
+            body.timeout(streamRecordTimeout)
+                    .map(AiProxyResponseCache::copyAndRelease)
+                    .subscribe(this::onNext, this::onError, this::onComplete);
+        }
+
+        /**
+         * 응답 하나에 줄 재생 Flux. 구독할 때까지 기록을 붙잡아 두며, 기록을 이미 버렸으면 null이다.
+         */
+        private synchronized Flux<byte[]> view() {
+            if (chunks == null) {
+                return null;
+            }
+            pendingViews++;
+            AtomicBoolean subscribed = new AtomicBoolean();
+            return Flux.create(sink -> attach(sink, subscribed), FluxSink.OverflowStrategy.BUFFER);
+        }
+
+        private synchronized void attach(FluxSink<byte[]> sink, AtomicBoolean subscribed) {
+            if (subscribed.compareAndSet(false, true)) {
+                pendingViews--;
+            }
+            if (chunks == null) {
+                sink.error(new IllegalStateException("AI proxy stream recording exceeded max-entry-bytes"));
+                return;
+            }
+            chunks.forEach(sink::next);
+            releaseIfOverLimit();
+            if (failure != null) {
+                sink.error(failure);
+            } else if (completed) {
+                sink.complete();
+            } else {
+                subscribers.add(sink);
+                sink.onDispose(() -> detach(sink));
+            }
+        }
+
+        private synchronized void detach(FluxSink<byte[]> sink) {
+            subscribers.remove(sink);
+        }
+
+        private synchronized void onNext(byte[] chunk) {
+            recordedBytes += chunk.length;
+            if (chunks != null) {
+                chunks.add(chunk);
+            }
+            if (!overLimit && recordedBytes > maxEntryBytes) {
+                overLimit = true;
+                streamInFlight.remove(key, loading);
+            }
+            releaseIfOverLimit();
+            for (FluxSink<byte[]> subscriber : List.copyOf(subscribers)) {
+                subscriber.next(chunk);
+            }
+        }
+
+        private synchronized void onError(Throwable error) {
+            failure = error;
+            streamInFlight.remove(key, loading);
+            for (FluxSink<byte[]> subscriber : List.copyOf(subscribers)) {
+                subscriber.error(error);
+            }
+            subscribers.clear();
+        }
+
+        private synchronized void onComplete() {
+            completed = true;
+            if (!overLimit && loadGeneration == generation.get()) {
+                responses.put(key, new CachedResponse(status, headers, List.copyOf(chunks)));
+            }
+            streamInFlight.remove(key, loading);
+            for (FluxSink<byte[]> subscriber : List.copyOf(subscribers)) {
+                subscriber.complete();
+            }
+            subscribers.clear();
+        }
+
+        private void releaseIfOverLimit() {
+            if (overLimit && pendingViews == 0) {
+                chunks = null;
+            }
+        }
+    }
+}
@@ -9,7 +9,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PreDestroy;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
@@ -19,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -73,6 +71,7 @@ public class AiProxyService {
     private final Duration streamHeaderTimeout;
     private final ConnectionProvider connectionProvider;
     private final AiProxyMonitoringMetricsService metricsService;
+    private final AiProxyResponseCache responseCache;
 
     private volatile WebClient cachedClient;
     private volatile String cachedClientBaseUrl;
@@ -82,6 +81,7 @@ public class AiProxyService {
             AiServiceSettings aiServiceSettings,
             WebClient.Builder webClientBuilder,
             AiProxyMonitoringMetricsService metricsService,
+            AiProxyResponseCache responseCache,
             @org.springframework.beans.factory.annotation.Value("${app.ai.proxy.request-timeout-seconds:180}") long requestTimeoutSeconds,
             @org.springframework.beans.factory.annotation.Value("${app.ai.proxy.stream-header-timeout-seconds:30}") long streamHeaderTimeoutSeconds,
             @org.springframework.beans.factory.annotation.Value("${app.ai.proxy.max-connections:40}") int maxConnections,
@@ -95,7 +95,8 @@ public class AiProxyService {
                 Duration.ofSeconds(Math.max(5L, streamHeaderTimeoutSeconds)),
                 maxConnections,
                 Duration.ofMillis(Math.max(1L, pendingAcquireTimeoutMs)),
-                pendingAcquireMaxCount);
+                pendingAcquireMaxCount,
+                responseCache);
     }
 
     AiProxyService(
@@ -155,6 +156,28 @@ public class AiProxyService {
             int maxConnections,
             Duration pendingAcquireTimeout,
             int pendingAcquireMaxCount) {
+        this(
+                aiServiceSettings,
+                webClientBuilder,
+                metricsService,
+                requestTimeout,
+                streamHeaderTimeout,
+                maxConnections,
+                pendingAcquireTimeout,
+                pendingAcquireMaxCount,
+                AiProxyResponseCache.disabled());
+    }
+
+    AiProxyService(
+            AiServiceSettings aiServiceSettings,
+            WebClient.Builder webClientBuilder,
+            AiProxyMonitoringMetricsService metricsService,
+            Duration requestTimeout,
+            Duration streamHeaderTimeout,
+            int maxConnections,
+            Duration pendingAcquireTimeout,
+            int pendingAcquireMaxCount,
+            AiProxyResponseCache responseCache) {
         this.aiServiceSettings = aiServiceSettings;
         this.webClientBuilder = webClientBuilder;
         this.requestTimeout = requestTimeout != null ? requestTimeout : Duration.ofSeconds(30);
@@ -162,6 +185,7 @@ public class AiProxyService {
                 ? streamHeaderTimeout
                 : DEFAULT_STREAM_HEADER_TIMEOUT;
         this.metricsService = metricsService != null ? metricsService : AiProxyMonitoringMetricsService.noop();
+        this.responseCache = responseCache != null ? responseCache : AiProxyResponseCache.disabled();
         this.connectionProvider = ConnectionProvider.builder(CONNECTION_PROVIDER_NAME)
                 .maxConnections(Math.max(1, maxConnections))
                 .pendingAcquireTimeout(pendingAcquireTimeout != null
@@ -178,17 +202,21 @@ public class AiProxyService {
     }
 
     public ProxyByteResponse forwardJson(String uri, String payload) {
-        return executeByteRequest(uri, internalToken -> client().post()
-                .uri(uri)
-                .contentType(MediaType.APPLICATION_JSON)
-                .headers(headers -> applyInternalAuth(headers, internalToken))
-                .bodyValue(payload));
+        return responseCache.getOrLoad(uri, payload, null, () -> executeByteRequest(
+                uri,
+                internalToken -> client().post()
+                        .uri(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .headers(headers -> applyInternalAuth(headers, internalToken))
+                        .bodyValue(payload)));
     }
 
     public ProxyByteResponse forwardGet(String uri) {
-        return executeByteRequest(uri, internalToken -> client().get()
-                .uri(uri)
-                .headers(headers -> applyInternalAuth(headers, internalToken)));
+        return responseCache.getOrLoad(uri, null, null, () -> executeByteRequest(
+                uri,
+                internalToken -> client().get()
+                        .uri(uri)
+                        .headers(headers -> applyInternalAuth(headers, internalToken))));
     }
 
     public ProxyByteResponse forwardMultipart(String uri, MultipartFile file) {
@@ -218,35 +246,18 @@ public class AiProxyService {
     }
 
     public ProxyStreamResponse forwardJsonStream(String uri, String payload, String eventVersion) {
-        return executeStreamRequest(uri, internalToken -> client().post()
-                .uri(uri)
-                .contentType(MediaType.APPLICATION_JSON)
-                .headers(headers -> {
-                    applyInternalAuth(headers, internalToken);
-                    if (StringUtils.hasText(eventVersion)) {
-                        headers.set(AI_EVENT_VERSION_HEADER, eventVersion.trim());
-                    }
-                })
-                .bodyValue(payload));
-    }
-
-    public void writeStream(Flux<DataBuffer> bodyFlux, OutputStream outputStream) throws IOException {
-        for (DataBuffer dataBuffer : bodyFlux.toIterable()) {
-            try {
-                byte[] chunk = new byte[dataBuffer.readableByteCount()];
-                dataBuffer.read(chunk);
-                outputStream.write(chunk);
-                outputStream.flush();
-            } catch (IOException e) {
-                if (isClientDisconnect(e)) {
-                    log.debug("Downstream client disconnected while streaming AI response.");
-                    return;
-                }
-                throw e;
-            } finally {
-                DataBufferUtils.release(dataBuffer);
-            }
-        }
+        return responseCache.getOrLoadStream(uri, payload, eventVersion, () -> executeStreamRequest(
+                uri,
+                internalToken -> client().post()
+                        .uri(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .headers(headers -> {
+                            applyInternalAuth(headers, internalToken);
+                            if (StringUtils.hasText(eventVersion)) {
+                                headers.set(AI_EVENT_VERSION_HEADER, eventVersion.trim());
+                            }
+                        })
+                        .bodyValue(payload)));
     }
 
     private ProxyByteResponse executeByteRequest(
@@ -502,28 +513,6 @@ public class AiProxyService {
         return false;
     }
 
-    private boolean isClientDisconnect(IOException exception) {
-        Throwable current = exception;
-        while (current != null) {
-            String className = current.getClass().getName();
-            String message = current.getMessage();
-            if ("org.apache.catalina.connector.ClientAbortException".equals(className)
-                    || "org.apache.coyote.ClientAbortException".equals(className)) {
-                return true;
-            }
-            if (message != null) {
-                String normalized = message.toLowerCase();
-                if (normalized.contains("broken pipe")
-                        || normalized.contains("connection reset by peer")
-                        || normalized.contains("connection reset")) {
-                    return true;
-                }
-            }
-            current = current.getCause();
-        }
-        return false;
-    }
-
     private byte[] buildStandardizedErrorBody(HttpStatusCode statusCode) {
         AiUpstreamError error = resolveUpstreamError(statusCode);
         try {
@@ -0,0 +1,320 @@
+package com.example.ai.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI upstream SSE 본문을 서블릿 비동기 I/O(WriteListener)로 클라이언트에 중계한다.
+ *
+ * 스트림마다 요청 스레드를 붙잡고 blocking write를 하던 방식 대신,
+ * - upstream에는 한 번에 청크 하나만 요청하고, 클라이언트 소켓이 쓰기 가능해진 뒤에 다음 청크를 요청한다.
+ *   느린 클라이언트는 upstream 읽기를 늦추므로 스트림당 메모리는 청크 1~2개로 묶인다.
+ * - DataBuffer의 ByteBuffer를 그대로 ServletOutputStream.write(ByteBuffer)에 넘기고,
+ *   컨테이너가 다 가져간 뒤(isReady == true)에 버퍼를 반환한다.
+ * - 비동기 수명(타임아웃, 오류, 재디스패치)은 Spring MVC의 DeferredResult에 맡긴다.
+ *   기본 타임아웃은 spring.mvc.async.request-timeout(WebAsyncConfig)과 같다.
+ *
+ * 스트림을 중계하는 동안 점유하는 스레드가 없으므로 동시 스트림 상한은 스레드가 아니라 메모리와
+ * upstream 연결 수(app.ai.proxy.max-connections)로 정한다.
+ */
+@Slf4j
+@Component
+public class AiStreamRelay {
+
+    static final String RELAY_RESULT_METRIC = "ai_proxy_stream_relay_total";
+
+    public enum Outcome {
+        COMPLETED,
+        CLIENT_DISCONNECTED,
+        UPSTREAM_FAILED,
+        TIMED_OUT,
+        FAILED
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeRelays = new AtomicInteger();
+
+    public AiStreamRelay(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ai_proxy_stream_relay_active", activeRelays, AtomicInteger::get)
+                .description("AI SSE streams currently relayed with servlet async I/O")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 응답 상태와 헤더는 호출 전에 설정해 둔다. 호출한 핸들러는 바로 반환해야 하며(null 반환),
+     * 이후 본문 중계는 upstream 이벤트와 컨테이너 쓰기 콜백이 이어서 진행한다.
+     *
+     * @param onTermination 스트림이 어떤 이유로든 끝나면 한 번 호출된다. 스트림 permit 반환 등에 쓴다.
+     */
+    public void relay(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Flux<DataBuffer> body,
+            Consumer<Outcome> onTermination) {
+        DeferredResult<Object> deferredResult = new DeferredResult<>();
+        RelaySubscriber subscriber;
+        try {
+            WebAsyncUtils.getAsyncManager(request).startDeferredResultProcessing(deferredResult);
+            ServletOutputStream outputStream = response.getOutputStream();
+            subscriber = new RelaySubscriber(outputStream, deferredResult, onTermination);
+            outputStream.setWriteListener(subscriber.writeListener);
+        } catch (IOException e) {
+            discard(body);
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            discard(body);
+            throw new IllegalStateException("AI 스트림 비동기 중계를 시작할 수 없습니다.", e);
+        }
+
+        deferredResult.onTimeout(() -> {
+            subscriber.terminate(Outcome.TIMED_OUT, null);
+            // 타임아웃 콜백 안에서 결과를 채워야 MVC가 이미 커밋된 응답에 503을 쓰려 하지 않는다.
+            deferredResult.setResult(null);
+        });
+        deferredResult.onError(error -> subscriber.terminate(Outcome.CLIENT_DISCONNECTED, error));
+        deferredResult.onCompletion(() -> subscriber.terminate(Outcome.CLIENT_DISCONNECTED, null));
+        activeRelays.incrementAndGet();
+        body.subscribe(subscriber);
+    }
+
+    public int getActiveRelays() {
+        return activeRelays.get();
+    }
+
+    private void discard(Flux<DataBuffer> body) {
+        // 구독 후 바로 취소해 upstream 연결을 풀로 돌려준다.
+        body.subscribe(DataBufferUtils::release).dispose();
+    }
+
+    private void recordOutcome(Outcome outcome) {
+        meterRegistry.counter(RELAY_RESULT_METRIC, "result", outcome.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    static boolean isClientDisconnect(Throwable exception) {
+        Throwable current = exception;
+        while (current != null) {
+            String className = current.getClass().getName();
+            String message = current.getMessage();
+            if ("org.apache.catalina.connector.ClientAbortException".equals(className)
+                    || "org.apache.coyote.ClientAbortException".equals(className)) {
+                return true;
+            }
+            if (message != null) {
+                String normalized = message.toLowerCase(Locale.ROOT);
+                if (normalized.contains("broken pipe")
+                        || normalized.contains("connection reset by peer")
+                        || normalized.contains("connection reset")) {
+                    return true;
+                }
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * upstream 구독자. 컨테이너 쓰기 콜백은 writeListener로 받는다.
+     * upstream 스레드와 컨테이너 스레드가 모두 drain()을 부르지만, 실제 쓰기와 정리는 wip로 한 스레드만 수행한다.
+     */
+    private final class RelaySubscriber extends BaseSubscriber<DataBuffer> {
+
+        private final ServletOutputStream outputStream;
+        private final DeferredResult<Object> deferredResult;
+        private final Consumer<Outcome> onTermination;
+        private final Queue<DataBuffer> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean demanded = new AtomicBoolean();
+        private final AtomicReference<Outcome> outcome = new AtomicReference<>();
+        private volatile boolean upstreamDone;
+        private volatile @Nullable Throwable upstreamError;
+
+        // 아래 필드는 drain 루프 안에서만 접근한다.
+        private @Nullable DataBuffer writing;
+        private DataBuffer.@Nullable ByteBufferIterator writingBuffers;
+        private boolean flushPending;
+        private boolean released;
+
+        // BaseSubscriber.onError가 final이라 WriteListener는 따로 둔다.
+        private final WriteListener writeListener = new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                terminate(isClientDisconnect(throwable) ? Outcome.CLIENT_DISCONNECTED : Outcome.FAILED, throwable);
+            }
+        };
+
+        private RelaySubscriber(
+                ServletOutputStream outputStream,
+                DeferredResult<Object> deferredResult,
+                Consumer<Outcome> onTermination) {
+            this.outputStream = outputStream;
+            this.deferredResult = deferredResult;
+            this.onTermination = onTermination;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // 기본 구현의 무제한 요청 대신 쓰기 가능할 때 한 청크씩 요청한다.
+            drain();
+        }
+
+        @Override
+        protected void hookOnNext(DataBuffer dataBuffer) {
+            pending.offer(dataBuffer);
+            demanded.set(false);
+            drain();
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            upstreamError = throwable;
+            upstreamDone = true;
+            drain();
+        }
+
+        void terminate(Outcome terminal, @Nullable Throwable error) {
+            if (outcome.compareAndSet(null, terminal)) {
+                logTermination(terminal, error);
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainLoop();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (true) {
+                Outcome terminal = outcome.get();
+                if (terminal != null) {
+                    releaseAll(terminal);
+                    return;
+                }
+                try {
+                    // false면 컨테이너가 쓰기 가능해질 때 onWritePossible을 다시 부른다.
+                    if (!outputStream.isReady()) {
+                        return;
+                    }
+                    if (writing != null) {
+                        if (writingBuffers.hasNext()) {
+                            outputStream.write(writingBuffers.next());
+                            continue;
+                        }
+                        // 직전 write 이후 isReady가 true이므로 컨테이너가 버퍼를 다 가져갔다.
+                        releaseWriting();
+                        flushPending = true;
+                        continue;
+                    }
+                    if (flushPending) {
+                        flushPending = false;
+                        outputStream.flush();
+                        continue;
+                    }
+                    boolean done = upstreamDone;
+                    DataBuffer next = pending.poll();
+                    if (next != null) {
+                        writing = next;
+                        writingBuffers = next.readableByteBuffers();
+                        continue;
+                    }
+                    if (done) {
+                        Throwable error = upstreamError;
+                        terminate(error == null ? Outcome.COMPLETED : Outcome.UPSTREAM_FAILED, error);
+                        continue;
+                    }
+                    if (demanded.compareAndSet(false, true)) {
+                        request(1);
+                    }
+                    return;
+                } catch (IOException | RuntimeException e) {
+                    terminate(isClientDisconnect(e) ? Outcome.CLIENT_DISCONNECTED : Outcome.FAILED, e);
+                }
+            }
+        }
+
+        private void releaseWriting() {
+            if (writingBuffers != null) {
+                writingBuffers.close();
+                writingBuffers = null;
+            }
+            if (writing != null) {
+                DataBufferUtils.release(writing);
+                writing = null;
+            }
+        }
+
+        private void releaseAll(Outcome terminal) {
+            releaseWriting();
+            DataBuffer dataBuffer;
+            while ((dataBuffer = pending.poll()) != null) {
+                DataBufferUtils.release(dataBuffer);
+            }
+            if (released) {
+                return;
+            }
+            released = true;
+            if (terminal != Outcome.COMPLETED && terminal != Outcome.UPSTREAM_FAILED) {
+                cancel();
+            }
+            activeRelays.decrementAndGet();
+            recordOutcome(terminal);
+            deferredResult.setResult(null);
+            try {
+                onTermination.accept(terminal);
+            } catch (RuntimeException e) {
+                log.warn("AI stream relay termination callback failed outcome={}", terminal, e);
+            }
+        }
+
+        private void logTermination(Outcome terminal, @Nullable Throwable error) {
+            switch (terminal) {
+                case COMPLETED -> {
+                }
+                case CLIENT_DISCONNECTED, TIMED_OUT ->
+                        log.debug("AI stream relay ended early outcome={} error={}", terminal, String.valueOf(error));
+                default -> log.warn("AI stream relay failed outcome={} error={}", terminal, String.valueOf(error));
+            }
+        }
+    }
+}
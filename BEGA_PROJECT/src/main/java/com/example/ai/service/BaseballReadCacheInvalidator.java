@@ -6,6 +6,7 @@ import static com.example.common.config.CacheConfig.HOME_RANKING_SNAPSHOT;
 import static com.example.common.config.CacheConfig.HOME_WIDGETS;
 import static com.example.common.config.CacheConfig.TEAM_RANKINGS;
 
+import com.example.kbo.service.SeasonScheduleIndex;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,8 @@ public class BaseballReadCacheInvalidator {
             HOME_RANKING_SNAPSHOT);
 
     private final CacheManager cacheManager;
+    private final AiProxyResponseCache aiProxyResponseCache;
+    private final SeasonScheduleIndex seasonScheduleIndex;
 
     public void invalidateAll() {
         for (String cacheName : BASEBALL_READ_CACHES) {
@@ -34,6 +37,14 @@ public class BaseballReadCacheInvalidator {
                 cache.clear();
             }
         }
+        // AI 브리핑/분석 응답은 같은 야구 데이터에서 만들어지므로 함께 비운다.
+        aiProxyResponseCache.invalidateAll();
+        // 일정 적재가 끝났으므로 이 노드의 일정 색인도 다시 만든다. 실패하면 주기 재구성에 맡긴다.
+        try {
+            seasonScheduleIndex.rebuildAll();
+        } catch (RuntimeException e) {
+            log.warn("Schedule index rebuild after baseball ingest failed: {}", e.getMessage());
+        }
         log.info("Invalidated baseball read caches count={}", BASEBALL_READ_CACHES.size());
     }
 }
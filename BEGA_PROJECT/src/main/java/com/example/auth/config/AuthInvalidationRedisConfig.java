@@ -0,0 +1,46 @@
+package com.example.auth.config;
+
+import com.example.auth.service.LocalTokenRevocationIndex;
+import com.example.auth.service.UserAuthStateCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 인증 경로의 노드 로컬 상태(토큰 폐기 색인, 사용자 권한 캐시)를 다른 노드와 맞추는 pub/sub 구독.
+ * 별도 컨테이너를 만들지 않고 realtime Redis 리스너 컨테이너의 연결에 채널을 붙인다.
+ * realtime 전송이 local(단일 노드)이면 컨테이너가 없고, 맞출 다른 노드도 없으므로 구독하지 않는다.
+ */
+@Configuration
+@Slf4j
+public class AuthInvalidationRedisConfig {
+
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final LocalTokenRevocationIndex tokenRevocationIndex;
+    private final UserAuthStateCache userAuthStateCache;
+
+    public AuthInvalidationRedisConfig(
+            @Qualifier("realtimeRedisMessageListenerContainer")
+            ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+            LocalTokenRevocationIndex tokenRevocationIndex,
+            UserAuthStateCache userAuthStateCache) {
+        this.listenerContainer = listenerContainer;
+        this.tokenRevocationIndex = tokenRevocationIndex;
+        this.userAuthStateCache = userAuthStateCache;
+    }
+
+    @PostConstruct
+    void subscribeInvalidationChannels() {
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container == null) {
+            log.info("Auth invalidation pub/sub disabled: no realtime Redis listener container (single-node transport)");
+            return;
+        }
+        container.addMessageListener(tokenRevocationIndex, new ChannelTopic(tokenRevocationIndex.getChannel()));
+        container.addMessageListener(userAuthStateCache, new ChannelTopic(userAuthStateCache.getChannel()));
+    }
+}
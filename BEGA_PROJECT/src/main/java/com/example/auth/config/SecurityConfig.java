@@ -199,6 +199,7 @@ public class SecurityConfig {
         private final CookieAuthorizationRequestRepository cookieauthorizationrequestRepository;
         private final com.example.auth.service.TokenBlacklistService tokenBlacklistService;
         private final UserRepository userRepository;
+        private final com.example.auth.service.UserAuthStateCache userAuthStateCache;
         private final com.example.auth.service.AuthSecurityMonitoringService authSecurityMonitoringService;
         private final Environment environment;
         private final AiServiceSettings aiServiceSettings;
@@ -217,6 +218,7 @@ public class SecurityConfig {
                         CookieAuthorizationRequestRepository cookieauthorizationrequestRepository,
                         com.example.auth.service.TokenBlacklistService tokenBlacklistService,
                         UserRepository userRepository,
+                        com.example.auth.service.UserAuthStateCache userAuthStateCache,
                         com.example.auth.service.AuthSecurityMonitoringService authSecurityMonitoringService,
                         Environment environment,
                         AiServiceSettings aiServiceSettings,
@@ -228,6 +230,7 @@ public class SecurityConfig {
                 this.cookieauthorizationrequestRepository = cookieauthorizationrequestRepository;
                 this.tokenBlacklistService = tokenBlacklistService;
                 this.userRepository = userRepository;
+                this.userAuthStateCache = userAuthStateCache;
                 this.authSecurityMonitoringService = authSecurityMonitoringService;
                 this.environment = environment;
                 this.aiServiceSettings = aiServiceSettings;
@@ -417,7 +420,8 @@ public class SecurityConfig {
                                 tokenBlacklistService,
                                 userRepository,
                                 authSecurityMonitoringService,
-                                rejectLegacyAccessTokens);
+                                rejectLegacyAccessTokens,
+                                userAuthStateCache);
         }
 
         @Bean
@@ -557,7 +561,8 @@ public class SecurityConfig {
                                                                                         || internalTokenAuthorized);
                                                 })
                                                 .requestMatchers(HttpMethod.GET, "/api/parties/my").authenticated()
-                                                .requestMatchers(HttpMethod.GET, "/api/cheer/posts/following")
+                                                .requestMatchers(HttpMethod.GET, "/api/cheer/posts/following",
+                                                                "/api/cheer/posts/following/cursor")
                                                 .authenticated()
                                                 .requestMatchers(HttpMethod.GET, "/api/diary/games").permitAll()
                                                 .requestMatchers("/api/diary/**").authenticated()
@@ -0,0 +1,29 @@
+package com.example.auth.entity;
+
+import com.example.auth.service.UserAuthStateCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * users 행이 바뀌거나 삭제되면 JWTFilter의 권한/토큰 버전 캐시를 비운다.
+ * role, token_version, enabled, locked를 바꾸는 곳이 여러 서비스에 흩어져 있어 엔티티 단위로 받는다.
+ * (Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입을 쓴다.)
+ */
+public class UserAuthStateEntityListener {
+
+    private final ObjectProvider<UserAuthStateCache> userAuthStateCache;
+
+    public UserAuthStateEntityListener(ObjectProvider<UserAuthStateCache> userAuthStateCache) {
+        this.userAuthStateCache = userAuthStateCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(UserEntity user) {
+        UserAuthStateCache cache = userAuthStateCache.getIfAvailable();
+        if (cache != null) {
+            cache.invalidate(user.getId());
+        }
+    }
+}
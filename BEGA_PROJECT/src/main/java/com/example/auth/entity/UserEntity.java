@@ -18,7 +18,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table(name = "users")
-@EntityListeners(AuditingEntityListener.class) // 생성/수정일자 자동 관리를 위한 Auditing 리스너
+@EntityListeners({AuditingEntityListener.class, UserAuthStateEntityListener.class}) // Auditing + 인증 상태 캐시 무효화
 public class UserEntity {
 
     @Id
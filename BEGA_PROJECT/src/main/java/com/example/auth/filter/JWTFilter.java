@@ -1,6 +1,8 @@
 package com.example.auth.filter;
 
 import com.example.auth.repository.UserRepository;
+import com.example.auth.service.UserAuthStateCache;
+import com.example.auth.util.JwtPrincipal;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
@@ -8,6 +10,7 @@ import java.net.URI;
 import java.util.Objects;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -36,6 +39,8 @@ public class JWTFilter extends OncePerRequestFilter {
      * 문제 시 설정으로 즉시 false 롤백 가능.
      */
     private final boolean rejectLegacyAccessTokens;
+    /** 사용자 권한/토큰 버전 단기 캐시. 없으면 요청마다 DB를 조회한다. */
+    private final @Nullable UserAuthStateCache userAuthStateCache;
 
     public JWTFilter(com.example.auth.util.JWTUtil jwtUtil, List<String> allowedOrigins,
             com.example.auth.service.TokenBlacklistService tokenBlacklistService,
@@ -49,12 +54,23 @@ public class JWTFilter extends OncePerRequestFilter {
             UserRepository userRepository,
             com.example.auth.service.AuthSecurityMonitoringService securityMonitoringService,
             boolean rejectLegacyAccessTokens) {
+        this(jwtUtil, allowedOrigins, tokenBlacklistService, userRepository, securityMonitoringService,
+                rejectLegacyAccessTokens, null);
+    }
+
+    public JWTFilter(com.example.auth.util.JWTUtil jwtUtil, List<String> allowedOrigins,
+            com.example.auth.service.TokenBlacklistService tokenBlacklistService,
+            UserRepository userRepository,
+            com.example.auth.service.AuthSecurityMonitoringService securityMonitoringService,
+            boolean rejectLegacyAccessTokens,
+            @Nullable UserAuthStateCache userAuthStateCache) {
         this.jwtUtil = jwtUtil;
         this.allowedOrigins = allowedOrigins;
         this.tokenBlacklistService = tokenBlacklistService;
         this.userRepository = userRepository;
         this.securityMonitoringService = securityMonitoringService;
         this.rejectLegacyAccessTokens = rejectLegacyAccessTokens;
+        this.userAuthStateCache = userAuthStateCache;
     }
 
     @Override
@@ -175,8 +191,16 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 토큰은 한 번만 검증/파싱한다. 서명/형식 오류는 기존과 같이 만료 토큰으로 처리한다.
+        JwtPrincipal principal;
+        try {
+            principal = jwtUtil.parsePrincipal(token);
+        } catch (Exception e) {
+            principal = null;
+        }
+
         // 토큰 소멸 시간 검증
-        if (jwtUtil.isExpired(token)) {
+        if (principal == null || principal.isExpired(System.currentTimeMillis())) {
             securityMonitoringService.recordTokenReject();
             if (mutableRequest) {
                 sendInvalidAuthorResponse(response, "토큰이 만료되었습니다. 다시 로그인해 주세요.");
@@ -189,7 +213,7 @@ public class JWTFilter extends OncePerRequestFilter {
         // [Security Fix] 토큰 타입 검증: access 토큰만 허용 (link, refresh 등 차단)
         // 신규 토큰은 항상 token_type=access 를 포함하므로, token_type이 없는 레거시 토큰은
         // 기본적으로 거부한다(rejectLegacyAccessTokens=true). 롤백이 필요하면 설정으로 false 전환.
-        String tokenType = jwtUtil.getTokenType(token);
+        String tokenType = principal.tokenType();
         boolean tokenTypeMissing = (tokenType == null || tokenType.trim().isEmpty());
         boolean nonAccessType = (tokenType != null && !"access".equalsIgnoreCase(tokenType.trim()));
         if (nonAccessType || (tokenTypeMissing && rejectLegacyAccessTokens)) {
@@ -204,11 +228,11 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // ✅ JWT에서 필요한 정보 모두 추출 (캐싱 적용, DB 조회 없음!)
+        // ✅ 파싱해 둔 principal에서 필요한 정보 추출
         try {
-            String role = jwtUtil.getRole(token);
-            Long userId = jwtUtil.getUserId(token);
-            Integer tokenVersion = jwtUtil.getTokenVersion(token);
+            String role = principal.role();
+            Long userId = principal.userId();
+            Integer tokenVersion = principal.tokenVersion();
 
             // [Security Fix] 레거시 링크 토큰(claim 없음) 방지
             if ("LINK_MODE".equals(role)) {
@@ -234,7 +258,9 @@ public class JWTFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String currentRole = userRepository.findUsableRoleByIdAndTokenVersion(userId, tokenVersion)
+            String currentRole = (userAuthStateCache != null
+                    ? userAuthStateCache.findUsableRole(userId, tokenVersion)
+                    : userRepository.findUsableRoleByIdAndTokenVersion(userId, tokenVersion))
                     .orElse(null);
             if (currentRole == null || currentRole.isBlank()) {
                 securityMonitoringService.recordTokenReject();
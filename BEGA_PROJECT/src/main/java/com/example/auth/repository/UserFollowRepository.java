@@ -31,6 +31,10 @@ public interface UserFollowRepository extends JpaRepository<UserFollow, Id> {
         @Query("SELECT uf.following.id FROM UserFollow uf WHERE uf.follower.id = :userId")
         List<Long> findFollowingIdsByFollowerId(@Param("userId") Long userId);
 
+        // 나를 팔로우하는 유저 ID 목록 (팔로잉 타임라인 fan-out용)
+        @Query("SELECT uf.id.followerId FROM UserFollow uf WHERE uf.id.followingId = :userId")
+        List<Long> findFollowerIdsByFollowingId(@Param("userId") Long userId);
+
         // 나를 팔로우하고 알림 설정이 켜진 유저 ID 목록 (새 글 알림용)
         @Query("SELECT uf.id.followerId FROM UserFollow uf WHERE uf.id.followingId = :userId AND uf.notifyNewPosts = true")
         List<Long> findFollowerIdsWithNotifyEnabled(@Param("userId") Long userId);
@@ -0,0 +1,36 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.LocalTokenRevocationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 폐기 로컬 색인 동기화 스케줄러.
+ * pub/sub 메시지가 유실돼도 Redis 색인을 주기적으로 다시 읽어 맞춘다.
+ * 동기화가 연달아 실패하면 색인이 준비되지 않은 상태가 되어 블랙리스트 조회가 Redis로 돌아간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationSyncScheduler {
+
+    private final LocalTokenRevocationIndex tokenRevocationIndex;
+
+    @Scheduled(
+            fixedDelayString = "${app.auth.revocation.local-index.sync-fixed-delay-ms:30000}",
+            initialDelayString = "${app.auth.revocation.local-index.sync-initial-delay-ms:0}")
+    public void syncRevocations() {
+        if (!tokenRevocationIndex.isEnabled()) {
+            return;
+        }
+
+        try {
+            int synced = tokenRevocationIndex.resync();
+            log.debug("Token revocation index synced: {} entries", synced);
+        } catch (Exception e) {
+            log.warn("Token revocation index sync failed: {}", e.getMessage());
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.example.auth.repository.UserFollowRepository;
 import com.example.auth.repository.UserRepository;
 import com.example.auth.util.HandleNormalizer;
 import com.example.cheerboard.config.CurrentUser;
+import com.example.cheerboard.service.FollowingTimelineService;
 import com.example.notification.entity.Notification;
 import com.example.notification.service.NotificationService;
 import com.example.profile.storage.service.ProfileImageService;
@@ -37,6 +38,7 @@ public class FollowService {
     private final CurrentUser currentUser;
     private final NotificationService notificationService;
     private final ProfileImageService profileImageService;
+    private final FollowingTimelineService followingTimelineService;
 
     /**
      * 팔로우 토글 (팔로우/언팔로우)
@@ -67,6 +69,7 @@ public class FollowService {
         if (followRepo.existsById(followId)) {
             // 이미 팔로우 중이면 언팔로우
             followRepo.deleteById(followId);
+            followingTimelineService.onUnfollowed(me.getId(), targetUserId);
             following = false;
         } else {
             // 팔로우
@@ -76,6 +79,7 @@ public class FollowService {
             follow.setFollowing(target);
             follow.setNotifyNewPosts(false); // 기본값: 알림 끔
             followRepo.save(follow);
+            followingTimelineService.onFollowed(me.getId(), targetUserId);
             following = true;
 
             // 새 팔로워 알림 전송
@@ -280,6 +284,7 @@ public class FollowService {
         }
 
         followRepo.deleteById(followId);
+        followingTimelineService.onUnfollowed(followerId, me.getId());
     }
 
     /**
@@ -289,11 +294,17 @@ public class FollowService {
     public void removeBidirectionalFollow(Long userId1, Long userId2) {
         // userId1 -> userId2 관계 삭제
         followRepo.findByFollowerIdAndFollowingId(userId1, userId2)
-                .ifPresent(followRepo::delete);
+                .ifPresent(follow -> {
+                    followRepo.delete(follow);
+                    followingTimelineService.onUnfollowed(userId1, userId2);
+                });
 
         // userId2 -> userId1 관계 삭제
         followRepo.findByFollowerIdAndFollowingId(userId2, userId1)
-                .ifPresent(followRepo::delete);
+                .ifPresent(follow -> {
+                    followRepo.delete(follow);
+                    followingTimelineService.onUnfollowed(userId2, userId1);
+                });
     }
 
     private UserEntity resolveAccessibleTargetById(Long userId, UserEntity viewer) {
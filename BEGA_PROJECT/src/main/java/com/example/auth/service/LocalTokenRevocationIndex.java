@@ -0,0 +1,202 @@
+package com.example.auth.service;
+
+import com.example.auth.util.JWTUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃으로 폐기된 access 토큰의 노드 로컬 색인
+ *
+ * 요청마다 Redis에 블랙리스트 키를 묻는 대신 폐기된 토큰의 SHA-256 해시를 인스턴스 메모리에 두고 조회합니다.
+ * - 폐기 시: 로컬에 바로 추가하고, Redis ZSET 색인(score=토큰 만료 시각)에 기록한 뒤 pub/sub으로 다른 노드에 알립니다.
+ * - 주기 동기화: ZSET 색인을 다시 읽어 유실된 메시지를 메웁니다. 노드 시작 후 첫 동기화에서는 색인 도입 전 블랙리스트 키도 SCAN합니다.
+ * - 마지막 동기화가 허용 지연보다 오래되면 isReady()=false가 되어 호출 측이 Redis를 직접 조회합니다.
+ * 항목은 토큰 만료 시각에만 사라지므로 개수 상한을 두지 않습니다.
+ */
+@Component
+@Slf4j
+public class LocalTokenRevocationIndex implements MessageListener {
+
+    static final String INDEX_KEY = "token:blacklist-index";
+    private static final String LEGACY_KEY_PREFIX = "token:blacklist:";
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String channel;
+    private final long maxStalenessMs;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, Long> revokedTokenHashes;
+    private volatile long lastSyncedAtMillis;
+    private volatile boolean legacyKeysLoaded;
+
+    public LocalTokenRevocationIndex(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.revocation.local-index.enabled:true}") boolean enabled,
+            @Value("${app.auth.revocation.channel:bega:auth:token-revocation:v1}") String channel,
+            @Value("${app.auth.revocation.local-index.max-staleness-ms:90000}") long maxStalenessMs) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.maxStalenessMs = maxStalenessMs;
+        this.revokedTokenHashes = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Long expiresAt, long currentTime) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Long expiresAt, long currentTime,
+                            long currentDuration) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Long expiresAt, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        Gauge.builder("auth.token_revocation.local.entries", revokedTokenHashes, Cache::estimatedSize)
+                .description("Revoked access tokens held in the node-local index")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * 마지막 동기화가 허용 지연 안에 있어 로컬 조회 결과를 믿을 수 있는지 여부.
+     */
+    public boolean isReady() {
+        long syncedAt = lastSyncedAtMillis;
+        return enabled && syncedAt > 0 && System.currentTimeMillis() - syncedAt <= maxStalenessMs;
+    }
+
+    public boolean isRevoked(String token) {
+        Long expiresAt = revokedTokenHashes.getIfPresent(JWTUtil.hashKey(token));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 폐기된 토큰을 로컬/Redis 색인에 기록하고 다른 노드에 알립니다.
+     * 색인 기록 실패는 호출 측으로 전파하고, 알림 실패는 다음 동기화에서 메워지므로 경고만 남깁니다.
+     */
+    public void recordRevocation(String token, long expiryMs) {
+        String tokenHash = JWTUtil.hashKey(token);
+        long expiresAt = System.currentTimeMillis() + expiryMs;
+        remember(tokenHash, expiresAt);
+        if (!enabled) {
+            return;
+        }
+
+        redisTemplate.opsForZSet().add(INDEX_KEY, tokenHash, expiresAt);
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + tokenHash + SEPARATOR + expiresAt);
+        } catch (Exception e) {
+            log.warn("event=token_revocation_publish_failed reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 색인 전체를 다시 읽어 로컬 색인을 맞춥니다.
+     *
+     * @return 색인에 남아 있는 폐기 토큰 수
+     */
+    public int resync() {
+        if (!enabled) {
+            return 0;
+        }
+        if (!legacyKeysLoaded) {
+            loadLegacyKeys();
+        }
+
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+        Set<TypedTuple<String>> entries =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+        int synced = 0;
+        if (entries != null) {
+            for (TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    remember(entry.getValue(), entry.getScore().longValue());
+                    synced++;
+                }
+            }
+        }
+        lastSyncedAtMillis = now;
+        return synced;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            remember(parts[1], Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("event=token_revocation_message_invalid reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인 도입 전 형식({@code token:blacklist:<token>})으로만 남아 있는 항목을 읽어 들인다.
+     * 이 키들은 access 토큰 만료 시간 안에 모두 사라지므로 노드마다 시작 시 한 번만 훑는다.
+     */
+    private void loadLegacyKeys() {
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttlMs = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMs != null && ttlMs > 0) {
+                    remember(JWTUtil.hashKey(key.substring(LEGACY_KEY_PREFIX.length())), now + ttlMs);
+                    loaded++;
+                }
+            }
+        }
+        legacyKeysLoaded = true;
+        log.info("event=token_revocation_legacy_keys_loaded count={}", loaded);
+    }
+
+    private void remember(String tokenHash, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenHashes.asMap().merge(tokenHash, expiresAt, Math::max);
+    }
+
+    private static long remainingNanos(Long expiresAt) {
+        long remainingMs = expiresAt == null ? 0L : expiresAt - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMs));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
@@ -10,17 +11,34 @@ import java.time.Duration;
 /**
  * JWT 토큰 블랙리스트 서비스
  * 로그아웃된 토큰을 Redis에 저장하여 재사용 방지
+ * 조회는 동기화된 노드 로컬 색인(LocalTokenRevocationIndex)을 먼저 쓰고, 색인을 믿을 수 없을 때만 Redis를 조회합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklistService {
 
     private final StringRedisTemplate redisTemplate;
+    private final LocalTokenRevocationIndex revocationIndex;
+    private final Counter localCheckCounter;
+    private final Counter redisCheckCounter;
 
     private static final String PREFIX = "token:blacklist:";
     public static final String ERROR_CODE_BLACKLIST_UNAVAILABLE = "token_blacklist_unavailable";
 
+    public TokenBlacklistService(
+            StringRedisTemplate redisTemplate,
+            LocalTokenRevocationIndex revocationIndex,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.revocationIndex = revocationIndex;
+        this.localCheckCounter = Counter.builder("auth.token_revocation.checks")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.redisCheckCounter = Counter.builder("auth.token_revocation.checks")
+                .tag("source", "redis")
+                .register(meterRegistry);
+    }
+
     /**
      * 토큰을 블랙리스트에 추가
      * @param token JWT 토큰
@@ -40,6 +58,7 @@ public class TokenBlacklistService {
         try {
             String key = PREFIX + token;
             redisTemplate.opsForValue().set(key, "revoked", Duration.ofMillis(expiryMs));
+            revocationIndex.recordRevocation(token, expiryMs);
             log.info("Token blacklisted for {} ms", expiryMs);
         } catch (Exception e) {
             log.error("Failed to write token blacklist entry", e);
@@ -57,6 +76,12 @@ public class TokenBlacklistService {
             return false;
         }
 
+        if (revocationIndex.isReady()) {
+            localCheckCounter.increment();
+            return revocationIndex.isRevoked(token);
+        }
+
+        redisCheckCounter.increment();
         try {
             String key = PREFIX + token;
             return Boolean.TRUE.equals(redisTemplate.hasKey(key));
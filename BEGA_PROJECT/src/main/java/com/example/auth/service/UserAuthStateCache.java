@@ -0,0 +1,153 @@
+package com.example.auth.service;
+
+import com.example.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWTFilter용 사용자 권한/토큰 버전 단기 캐시
+ *
+ * 요청마다 users 테이블에서 role, token_version, 잠금 상태를 확인하던 조회를 사용자별로 짧게 캐시합니다.
+ * - 캐시 값은 마지막으로 확인한 토큰 버전과 그 결과(사용 가능한 role 또는 없음)입니다. 다른 버전으로 조회하면 DB를 다시 봅니다.
+ * - 사용자 행이 바뀌면(UserAuthStateEntityListener) 커밋 후 로컬 항목을 지우고 pub/sub으로 다른 노드에도 알립니다.
+ * - 메시지가 유실돼도 TTL 안에 다시 조회하고, 무효화와 겹친 조회 결과는 캐시에 넣지 않습니다.
+ */
+@Component
+@Slf4j
+public class UserAuthStateCache implements MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<Long, CachedRole> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private record CachedRole(int tokenVersion, String role) {
+    }
+
+    public UserAuthStateCache(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.user-state-cache.enabled:true}") boolean enabled,
+            @Value("${app.auth.user-state-cache.ttl-ms:30000}") long ttlMs,
+            @Value("${app.auth.user-state-cache.max-size:50000}") long maxSize,
+            @Value("${app.auth.user-state-cache.channel:bega:auth:user-state:v1}") String channel) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+        this.hitCounter = Counter.builder("auth.user_state.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("auth.user_state.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * UserRepository.findUsableRoleByIdAndTokenVersion과 같은 결과를 캐시를 거쳐 돌려줍니다.
+     */
+    public Optional<String> findUsableRole(Long userId, Integer tokenVersion) {
+        if (!enabled) {
+            return userRepository.findUsableRoleByIdAndTokenVersion(userId, tokenVersion);
+        }
+
+        // 조회 쿼리와 같이 null 버전은 0으로 본다.
+        int version = tokenVersion == null ? 0 : tokenVersion;
+        CachedRole cached = cache.getIfPresent(userId);
+        if (cached != null && cached.tokenVersion() == version) {
+            hitCounter.increment();
+            return Optional.ofNullable(cached.role());
+        }
+
+        missCounter.increment();
+        long invalidationsBefore = invalidations.get();
+        Optional<String> role = userRepository.findUsableRoleByIdAndTokenVersion(userId, tokenVersion);
+        if (invalidations.get() == invalidationsBefore) {
+            cache.put(userId, new CachedRole(version, role.orElse(null)));
+        }
+        return role;
+    }
+
+    /**
+     * 사용자 권한/토큰 버전/잠금 상태가 바뀌었을 때 호출합니다.
+     * 트랜잭션 안이면 커밋 후에 한 번 더 비우고 다른 노드에 알립니다.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evictLocal(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(userId);
+                    publish(userId);
+                }
+            });
+            return;
+        }
+        publish(userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            evictLocal(Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("event=user_auth_state_message_invalid reason={}", e.getMessage());
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    private void publish(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + userId);
+        } catch (Exception e) {
+            log.warn("event=user_auth_state_publish_failed userId={} reason={}", userId, e.getMessage());
+        }
+    }
+}
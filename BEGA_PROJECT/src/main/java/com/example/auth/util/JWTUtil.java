@@ -14,6 +14,7 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Component;
 import lombok.extern.slf4j.Slf4j;
 
@@ -185,6 +186,16 @@ public class JWTUtil {
         }
     }
 
+    /**
+     * 토큰을 한 번만 검증/파싱해 인증용 principal로 돌려준다.
+     * 만료된 토큰도 claim을 그대로 담아 돌려주므로 만료 여부는 호출 측이 현재 시각으로 판단한다.
+     * 서명/형식이 잘못된 토큰은 예외를 던진다.
+     */
+    @Cacheable(value = "jwtPrincipalCache", key = "T(com.example.auth.util.JWTUtil).hashKey(#token)")
+    public JwtPrincipal parsePrincipal(String token) {
+        return JwtPrincipal.from(getClaims(token));
+    }
+
     // Email 추출 (캐싱 적용)
     public String getEmail(String token) {
         return getClaims(token).get("email", String.class);
@@ -192,7 +203,15 @@ public class JWTUtil {
 
     // User ID 추출 (캐싱 적용)
     public Long getUserId(String token) {
-        Object rawUserId = getClaims(token).get("user_id");
+        return toLong(getClaims(token).get("user_id"));
+    }
+
+    // Token Version 추출
+    public Integer getTokenVersion(String token) {
+        return toInteger(getClaims(token).get(TOKEN_VERSION_CLAIM));
+    }
+
+    static Long toLong(Object rawUserId) {
         if (rawUserId == null) {
             return null;
         }
@@ -220,9 +239,7 @@ public class JWTUtil {
         return null;
     }
 
-    // Token Version 추출
-    public Integer getTokenVersion(String token) {
-        Object rawTokenVersion = getClaims(token).get(TOKEN_VERSION_CLAIM);
+    static Integer toInteger(Object rawTokenVersion) {
         if (rawTokenVersion == null) {
             return null;
         }
@@ -297,7 +314,10 @@ public class JWTUtil {
      * [Security Fix] 로그아웃된 토큰의 캐시된 Claims 정보 제거
      * @param token 무효화할 토큰
      */
-    @CacheEvict(value = "jwtUserCache", key = "T(com.example.auth.util.JWTUtil).hashKey(#token)")
+    @Caching(evict = {
+            @CacheEvict(value = "jwtUserCache", key = "T(com.example.auth.util.JWTUtil).hashKey(#token)"),
+            @CacheEvict(value = "jwtPrincipalCache", key = "T(com.example.auth.util.JWTUtil).hashKey(#token)")
+    })
     public void evictTokenCache(String token) {
         // [Security Fix - High #2] 토큰 prefix 로깅 제거 (CWE-532).
         // 필요 시 log.debug("Evicted token cache for key {}", hashKey(token)) 형태로 대체 가능.
@@ -0,0 +1,34 @@
+package com.example.auth.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT에서 인증에 필요한 claim만 꺼내 둔 불변 값.
+ * Claims는 변경 가능한 Map이므로 캐시에는 이 값을 공유한다.
+ *
+ * @param expiresAt 만료 시각 (epoch millis, claim이 없으면 null)
+ */
+public record JwtPrincipal(
+        Long userId,
+        String role,
+        String tokenType,
+        Integer tokenVersion,
+        Long expiresAt) {
+
+    static JwtPrincipal from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                JWTUtil.toLong(claims.get("user_id")),
+                claims.get("role", String.class),
+                claims.get("token_type", String.class),
+                JWTUtil.toInteger(claims.get("token_version")),
+                expiration == null ? null : expiration.getTime());
+    }
+
+    /** 만료 claim이 없는 토큰도 만료된 것으로 본다. */
+    public boolean isExpired(long nowMillis) {
+        return expiresAt == null || expiresAt < nowMillis;
+    }
+}
@@ -7,6 +7,7 @@ import com.example.cheerboard.dto.PostSummaryRes;
 import com.example.cheerboard.dto.PostDetailRes;
 import com.example.cheerboard.dto.PostLightweightSummaryRes;
 import com.example.cheerboard.dto.PostChangesResponse;
+import com.example.cheerboard.dto.PostCursorPageRes;
 import com.example.cheerboard.dto.CreateCommentReq;
 import com.example.cheerboard.dto.CommentRes;
 import com.example.cheerboard.dto.LikeToggleResponse;
@@ -57,6 +58,20 @@ public class CheerController {
         }
     }
 
+    /**
+     * 커서 기반 피드 조회 (COUNT 쿼리 없음)
+     * - 첫 페이지는 cursor 없이 요청하고, 이후 응답의 nextCursor를 그대로 전달
+     * - 최근 공지는 첫 페이지 앞에만 고정
+     */
+    @GetMapping("/posts/cursor")
+    public PostCursorPageRes listCursor(
+            @RequestParam(required = false) String teamId,
+            @RequestParam(required = false) String postType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return svc.listCursor(teamId, postType, cursor, size);
+    }
+
     @GetMapping("/posts/hot")
     public Page<PostSummaryRes> listHot(
             @RequestParam(required = false, defaultValue = "HYBRID") String algorithm,
@@ -90,6 +105,14 @@ public class CheerController {
         return svc.listFollowingPosts(pageable);
     }
 
+    @GetMapping("/posts/following/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public PostCursorPageRes listFollowingCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return svc.listFollowingPostsCursor(cursor, size);
+    }
+
     @GetMapping("/me/posts")
     @PreAuthorize("isAuthenticated()")
     public Page<PostSummaryRes> listMyPosts(
@@ -97,6 +120,14 @@ public class CheerController {
         return svc.listMyPosts(pageable);
     }
 
+    @GetMapping("/me/posts/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public PostCursorPageRes listMyPostsCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return svc.listMyPostsCursor(cursor, size);
+    }
+
     @PostMapping(value = "/posts/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("isAuthenticated()")
     @RateLimit(limit = 10, window = 60, key = "image:cheer")
@@ -119,6 +150,15 @@ public class CheerController {
         return svc.search(q, teamId, pageable);
     }
 
+    @GetMapping("/posts/search/cursor")
+    public PostCursorPageRes searchCursor(
+            @RequestParam String q,
+            @RequestParam(required = false) String teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return svc.searchCursor(q, teamId, cursor, size);
+    }
+
     @GetMapping("/posts/{id}")
     public PostDetailRes get(@PathVariable Long id) {
         return svc.get(id);
@@ -265,6 +305,13 @@ public class CheerController {
         return svc.listByUserHandle(handle, pageable);
     }
 
+    @GetMapping("/user/{handle}/posts/cursor")
+    public PostCursorPageRes listByUserCursor(@PathVariable String handle,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return svc.listByUserHandleCursor(handle, cursor, size);
+    }
+
     @GetMapping("/battle/{gameId}/status")
     public com.example.cheerboard.dto.CheerBattleStatusRes getBattleStatus(
             @PathVariable String gameId,
@@ -0,0 +1,16 @@
+package com.example.cheerboard.dto;
+
+import java.util.List;
+
+/**
+ * Cursor-based feed page
+ * - No total count: the next page is requested with nextCursor until hasNext is false
+ * - Pinned notices are only included at the head of the first page
+ */
+public record PostCursorPageRes(
+        List<PostSummaryRes> content,
+        int size,            // Requested page size (pinned notices are not counted)
+        String nextCursor,   // Opaque cursor for the next page (null on the last page)
+        boolean hasNext
+) {
+}
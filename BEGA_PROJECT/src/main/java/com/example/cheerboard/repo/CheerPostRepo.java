@@ -34,10 +34,6 @@ public interface CheerPostRepo extends JpaRepository<CheerPost, Long>, JpaSpecif
         @Query("UPDATE CheerPost p SET p.views = p.views + 1 WHERE p.id = :postId")
         void incrementViewCount(@Param("postId") Long postId);
 
-        @Modifying
-        @Query("UPDATE CheerPost p SET p.views = p.views + :delta WHERE p.id = :postId")
-        void incrementViewCountByDelta(@Param("postId") Long postId, @Param("delta") int delta);
-
         @Query("SELECT p.likeCount FROM CheerPost p WHERE p.id = :postId")
         Integer findLikeCountById(@Param("postId") Long postId);
 
@@ -50,9 +46,56 @@ public interface CheerPostRepo extends JpaRepository<CheerPost, Long>, JpaSpecif
                             p.repostCount AS repostCount,
                             p.createdAt AS createdAt
                         FROM CheerPost p
-                        WHERE p.id = :postId
+                        WHERE p.id IN :postIds
+                        """)
+        List<CheerPostHotScoreProjection> findHotScoreProjectionsByIdIn(@Param("postIds") Collection<Long> postIds);
+
+        /**
+         * 팔로잉 타임라인 적재용 (게시글 ID, 작성자 ID, 작성 시각)만 최신순으로 조회
+         */
+        @Query("""
+                        SELECT
+                            p.id AS id,
+                            p.author.id AS authorId,
+                            p.createdAt AS createdAt
+                        FROM CheerPost p
+                        WHERE p.author.id IN :authorIds
+                        ORDER BY p.createdAt DESC, p.id DESC
+                        """)
+        List<CheerPostTimelineProjection> findTimelineEntriesByAuthorIds(
+                        @Param("authorIds") Collection<Long> authorIds,
+                        Pageable pageable);
+
+        @Query("""
+                        SELECT
+                            p.id AS id,
+                            p.author.id AS authorId,
+                            p.createdAt AS createdAt
+                        FROM CheerPost p
+                        WHERE p.author.id IN :authorIds
+                          AND (p.createdAt < :before OR (p.createdAt = :before AND p.id < :beforeId))
+                        ORDER BY p.createdAt DESC, p.id DESC
+                        """)
+        List<CheerPostTimelineProjection> findTimelineEntriesByAuthorIdsBefore(
+                        @Param("authorIds") Collection<Long> authorIds,
+                        @Param("before") java.time.Instant before,
+                        @Param("beforeId") Long beforeId,
+                        Pageable pageable);
+
+        @Query("""
+                        SELECT
+                            p.id AS id,
+                            p.author.id AS authorId,
+                            p.createdAt AS createdAt
+                        FROM CheerPost p
+                        WHERE p.author.id IN :authorIds
+                          AND p.createdAt >= :since
+                        ORDER BY p.createdAt DESC, p.id DESC
                         """)
-        Optional<CheerPostHotScoreProjection> findHotScoreProjectionById(@Param("postId") Long postId);
+        List<CheerPostTimelineProjection> findTimelineEntriesByAuthorIdsSince(
+                        @Param("authorIds") Collection<Long> authorIds,
+                        @Param("since") java.time.Instant since,
+                        Pageable pageable);
 
         @Modifying(clearAutomatically = true)
         @Query("UPDATE CheerPost p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
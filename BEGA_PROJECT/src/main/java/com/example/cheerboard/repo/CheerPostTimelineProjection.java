@@ -0,0 +1,12 @@
+package com.example.cheerboard.repo;
+
+import java.time.Instant;
+
+public interface CheerPostTimelineProjection {
+
+    Long getId();
+
+    Long getAuthorId();
+
+    Instant getCreatedAt();
+}
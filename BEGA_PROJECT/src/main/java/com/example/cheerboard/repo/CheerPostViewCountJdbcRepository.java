@@ -0,0 +1,44 @@
+package com.example.cheerboard.repo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회수 동기화 전용 JDBC 배치 저장소.
+ * JPQL 벌크 UPDATE는 게시글마다 별도 문장으로 나가므로, 한 chunk의 델타를 JDBC batch 한 번으로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CheerPostViewCountJdbcRepository {
+
+    private static final String INCREMENT_VIEWS_SQL = "UPDATE cheer_post SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param viewDeltas 게시글 ID별 증가시킬 조회수
+     * @return 실제로 갱신된 게시글 수
+     */
+    public int incrementViewCounts(Map<Long, Integer> viewDeltas) {
+        if (viewDeltas == null || viewDeltas.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(viewDeltas.size());
+        viewDeltas.forEach((postId, delta) -> batchArgs.add(new Object[] { delta, postId }));
+        int[] results = jdbcTemplate.batchUpdate(INCREMENT_VIEWS_SQL, batchArgs);
+        int updated = 0;
+        for (int result : results) {
+            // 일부 드라이버는 batch 결과로 SUCCESS_NO_INFO(-2)를 돌려준다.
+            if (result > 0 || result == java.sql.Statement.SUCCESS_NO_INFO) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.domain.CheerPost;
+import com.example.common.exception.BadRequestBusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 응원 피드 커서 페이지의 위치 (직전 페이지 마지막 게시글의 작성 시각, ID)
+ *
+ * 클라이언트에는 Base64URL로 감싼 불투명 문자열로만 내려주며, 다음 요청에서는
+ * (createdAt, id)보다 오래된 게시글부터 조회한다.
+ */
+public record CheerFeedCursor(Instant createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static CheerFeedCursor of(CheerPost post) {
+        return new CheerFeedCursor(post.getCreatedAt(), post.getId());
+    }
+
+    /**
+     * @return 빈 값이면 null (첫 페이지)
+     */
+    public static CheerFeedCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+                throw invalidCursor();
+            }
+            return new CheerFeedCursor(
+                    Instant.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BadRequestBusinessException invalidCursor() {
+        return new BadRequestBusinessException("INVALID_FEED_CURSOR", "유효하지 않은 피드 커서입니다.");
+    }
+}
@@ -5,6 +5,7 @@ import com.example.cheerboard.domain.PostType;
 import com.example.cheerboard.dto.EmbeddedPostDto;
 import com.example.cheerboard.dto.LinkedContentRes;
 import com.example.cheerboard.dto.PostChangesResponse;
+import com.example.cheerboard.dto.PostCursorPageRes;
 import com.example.cheerboard.dto.PostLightweightSummaryRes;
 import com.example.cheerboard.dto.PostSummaryRes;
 import com.example.cheerboard.repo.CheerPostRepo;
@@ -25,6 +26,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.stereotype.Service;
@@ -39,6 +41,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -62,6 +65,11 @@ public class CheerFeedService {
     private static final long DEFAULT_FEED_ENRICHMENT_PERMIT_WAIT_TIMEOUT_MS = 50L;
     private static final long DEFAULT_FEED_ENRICHMENT_TASK_TIMEOUT_MS = 800L;
     private static final int DEFAULT_CHANGES_POLL_MAX_SCAN_SIZE = 200;
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final Sort CURSOR_FEED_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final List<String> FEED_FETCH_GRAPH_PATHS =
+            List.of("author", "team", "repostOf", "repostOf.author", "repostOf.team");
 
     private final CheerPostRepo postRepo;
     private final CheerInteractionService interactionService;
@@ -78,6 +86,7 @@ public class CheerFeedService {
     private final com.example.cheerboard.repo.CheerBookmarkRepo bookmarkRepo;
     private final CheerMonitoringMetricsService metricsService;
     private final CheerLinkedPostService linkedPostService;
+    private final FollowingTimelineService followingTimelineService;
 
     private ExecutorService feedEnrichmentExecutor = Executors.newVirtualThreadPerTaskExecutor();
     private volatile Semaphore feedEnrichmentBulkhead = new Semaphore(DEFAULT_FEED_ENRICHMENT_MAX_CONCURRENCY);
@@ -137,21 +146,8 @@ public class CheerFeedService {
         String normalizedTeamId = resolveTeamFilter(teamId);
 
         try {
-            if (normalizedTeamId != null && !normalizedTeamId.isBlank()) {
-                if (me == null) {
-                    throw new AuthenticationCredentialsNotFoundException("로그인 후 마이팀 게시판을 이용할 수 있습니다.");
-                }
-                permissionValidator.validateTeamAccess(me, normalizedTeamId, "게시글 조회");
-            }
-
-            PostType postType = null;
-            if (postTypeStr != null && !postTypeStr.isBlank()) {
-                try {
-                    postType = PostType.valueOf(postTypeStr);
-                } catch (IllegalArgumentException e) {
-                    // Ignore
-                }
-            }
+            validateTeamFeedAccess(normalizedTeamId, me);
+            PostType postType = resolvePostType(postTypeStr);
 
             Page<CheerPost> page = findVisibleFeedPage(normalizedTeamId, postType, pageable, me);
             Page<PostSummaryRes> response = buildPostSummaryPage(page, me);
@@ -168,11 +164,7 @@ public class CheerFeedService {
         long startedAtNanos = System.nanoTime();
         String normalizedTeamId = resolveTeamFilter(teamId);
         try {
-            Specification<CheerPost> spec = notSimpleRepost()
-                    .and(teamMatches(normalizedTeamId))
-                    .and(contentContains(q))
-                    .and(visibleToViewer(me));
-            Page<CheerPost> page = postRepo.findAll(spec, pageable);
+            Page<CheerPost> page = postRepo.findAll(searchSpec(q, normalizedTeamId, me), pageable);
 
             Page<PostSummaryRes> response = buildPostSummaryPage(page, me);
             recordFeedRequest("search", normalizedTeamId, null, null, pageable, me, "success", startedAtNanos);
@@ -189,21 +181,8 @@ public class CheerFeedService {
         long startedAtNanos = System.nanoTime();
         String normalizedTeamId = resolveTeamFilter(teamId);
         try {
-            if (normalizedTeamId != null && !normalizedTeamId.isBlank()) {
-                if (me == null) {
-                    throw new AuthenticationCredentialsNotFoundException("로그인 후 마이팀 게시판을 이용할 수 있습니다.");
-                }
-                permissionValidator.validateTeamAccess(me, normalizedTeamId, "게시글 조회");
-            }
-
-            PostType postType = null;
-            if (postTypeStr != null && !postTypeStr.isBlank()) {
-                try {
-                    postType = PostType.valueOf(postTypeStr);
-                } catch (IllegalArgumentException e) {
-                    // Ignore
-                }
-            }
+            validateTeamFeedAccess(normalizedTeamId, me);
+            PostType postType = resolvePostType(postTypeStr);
 
             Page<CheerPost> page = findVisibleFeedPage(normalizedTeamId, postType, pageable, me);
             List<CheerPost> visiblePosts = filterPostsWithAuthor(page.getContent());
@@ -333,6 +312,28 @@ public class CheerFeedService {
         return Math.max(1, changesPollMaxScanSize);
     }
 
+    private void validateTeamFeedAccess(String normalizedTeamId, UserEntity me) {
+        if (normalizedTeamId == null || normalizedTeamId.isBlank()) {
+            return;
+        }
+        if (me == null) {
+            throw new AuthenticationCredentialsNotFoundException("로그인 후 마이팀 게시판을 이용할 수 있습니다.");
+        }
+        permissionValidator.validateTeamAccess(me, normalizedTeamId, "게시글 조회");
+    }
+
+    private PostType resolvePostType(String postTypeStr) {
+        if (postTypeStr == null || postTypeStr.isBlank()) {
+            return null;
+        }
+        try {
+            return PostType.valueOf(postTypeStr);
+        } catch (IllegalArgumentException e) {
+            // Ignore
+            return null;
+        }
+    }
+
     private String resolveTeamFilter(String teamId) {
         String normalizedTeamId = TeamCodeNormalizer.normalize(teamId);
         if (normalizedTeamId == null || normalizedTeamId.isBlank()) {
@@ -403,17 +404,225 @@ public class CheerFeedService {
         return buildPostSummaryPage(page, me);
     }
 
-    private Page<CheerPost> findVisibleFeedPage(String normalizedTeamId, PostType postType, Pageable pageable, UserEntity me) {
-        Specification<CheerPost> spec = notSimpleRepost()
+    // --- Cursor Feed ---
+    // (createdAt, id) keyset으로 다음 페이지를 조회한다. OFFSET/COUNT 쿼리가 없어 깊은 페이지도 첫 페이지와 같은 비용이다.
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listCursor(String teamId, String postTypeStr, String cursor, int size, UserEntity me) {
+        long startedAtNanos = System.nanoTime();
+        String normalizedTeamId = resolveTeamFilter(teamId);
+        Pageable sizePageable = PageRequest.of(0, normalizeCursorPageSize(size));
+        try {
+            validateTeamFeedAccess(normalizedTeamId, me);
+            PostType postType = resolvePostType(postTypeStr);
+            CheerFeedCursor position = CheerFeedCursor.decode(cursor);
+            Specification<CheerPost> spec = feedSpec(normalizedTeamId, postType, me);
+
+            // 최근 공지 고정은 첫 페이지에서만 별도 head 쿼리로 붙이고, keyset 본문에서는 제외한다.
+            java.time.Instant cutoffDate = noticePinCutoff();
+            boolean pinsNotices = postType == null || postType == PostType.NOTICE;
+            List<CheerPost> pinnedNotices = position == null && pinsNotices
+                    ? fetchCursorSlice(spec.and(pinnedNotice(cutoffDate)), sizePageable.getPageSize())
+                    : Collections.emptyList();
+            Specification<CheerPost> bodySpec = pinsNotices ? spec.and(notPinnedNotice(cutoffDate)) : spec;
+
+            PostCursorPageRes response = findCursorPage(
+                    bodySpec, position, sizePageable.getPageSize(), pinnedNotices, me);
+            recordFeedRequest("feed_cursor", normalizedTeamId, postTypeStr, null, sizePageable, me, "success",
+                    startedAtNanos);
+            return response;
+        } catch (RuntimeException ex) {
+            recordFeedRequest("feed_cursor", normalizedTeamId, postTypeStr, null, sizePageable, me, "failure",
+                    startedAtNanos);
+            throw ex;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes searchCursor(String q, String teamId, String cursor, int size, UserEntity me) {
+        long startedAtNanos = System.nanoTime();
+        String normalizedTeamId = resolveTeamFilter(teamId);
+        Pageable sizePageable = PageRequest.of(0, normalizeCursorPageSize(size));
+        try {
+            PostCursorPageRes response = findCursorPage(
+                    searchSpec(q, normalizedTeamId, me),
+                    CheerFeedCursor.decode(cursor),
+                    sizePageable.getPageSize(),
+                    Collections.emptyList(),
+                    me);
+            recordFeedRequest("search_cursor", normalizedTeamId, null, null, sizePageable, me, "success",
+                    startedAtNanos);
+            return response;
+        } catch (RuntimeException ex) {
+            recordFeedRequest("search_cursor", normalizedTeamId, null, null, sizePageable, me, "failure",
+                    startedAtNanos);
+            throw ex;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listFollowingPostsCursor(String cursor, int size, UserEntity me) {
+        if (me == null) {
+            throw new AuthenticationCredentialsNotFoundException("로그인이 필요합니다.");
+        }
+
+        int pageSize = normalizeCursorPageSize(size);
+        CheerFeedCursor position = CheerFeedCursor.decode(cursor);
+        Optional<List<FollowingTimelineStore.TimelineEntry>> entries =
+                followingTimelineService.readEntriesBefore(me.getId(), position, pageSize + 1);
+        if (entries.isPresent()) {
+            return buildTimelineCursorPage(entries.get(), pageSize, me);
+        }
+
+        List<Long> followingIds = followService.getFollowingIds(me.getId());
+        if (followingIds.isEmpty()) {
+            return new PostCursorPageRes(Collections.emptyList(), pageSize, null, false);
+        }
+
+        Specification<CheerPost> spec = authorIdIn(followingIds)
+                .and(visibleToViewer(me));
+        return findCursorPage(spec, position, pageSize, Collections.emptyList(), me);
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listMyPostsCursor(String cursor, int size, UserEntity me) {
+        if (me == null) {
+            throw new AuthenticationCredentialsNotFoundException("로그인이 필요합니다.");
+        }
+
+        Specification<CheerPost> spec = authorIdIn(List.of(me.getId()))
+                .and(visibleToViewer(me));
+        return findCursorPage(
+                spec, CheerFeedCursor.decode(cursor), normalizeCursorPageSize(size), Collections.emptyList(), me);
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listByUserHandleCursor(String handle, String cursor, int size, UserEntity me) {
+        Long viewerId = me != null ? me.getId() : null;
+        String normalizedHandle = userService.getPublicUserProfileByHandle(handle, viewerId).getHandle();
+        Specification<CheerPost> spec = authorHandleMatches(normalizedHandle)
+                .and(visibleToViewer(me));
+        return findCursorPage(
+                spec, CheerFeedCursor.decode(cursor), normalizeCursorPageSize(size), Collections.emptyList(), me);
+    }
+
+    private PostCursorPageRes findCursorPage(
+            Specification<CheerPost> spec,
+            CheerFeedCursor position,
+            int pageSize,
+            List<CheerPost> headPosts,
+            UserEntity me) {
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다.
+        List<CheerPost> fetched = fetchCursorSlice(spec.and(olderThan(position)), pageSize + 1);
+        boolean hasNext = fetched.size() > pageSize;
+        List<CheerPost> pagePosts = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasNext ? CheerFeedCursor.of(pagePosts.getLast()).encode() : null;
+
+        List<CheerPost> posts = headPosts.isEmpty()
+                ? pagePosts
+                : java.util.stream.Stream.concat(headPosts.stream(), pagePosts.stream()).toList();
+        return new PostCursorPageRes(mapPostSummaries(posts, me), pageSize, nextCursor, hasNext);
+    }
+
+    private PostCursorPageRes buildTimelineCursorPage(
+            List<FollowingTimelineStore.TimelineEntry> entries, int pageSize, UserEntity me) {
+        boolean hasNext = entries.size() > pageSize;
+        List<FollowingTimelineStore.TimelineEntry> pageEntries = hasNext ? entries.subList(0, pageSize) : entries;
+        String nextCursor = null;
+        if (hasNext) {
+            // 삭제된 글이 섞여 있어도 다음 페이지가 타임라인 위치에서 이어지도록 마지막 항목 기준으로 만든다.
+            FollowingTimelineStore.TimelineEntry last = pageEntries.getLast();
+            nextCursor = new CheerFeedCursor(
+                    java.time.Instant.ofEpochMilli(last.createdAtMillis()), last.postId()).encode();
+        }
+        return new PostCursorPageRes(
+                mapPostSummaries(loadTimelinePosts(pageEntries, me), me), pageSize, nextCursor, hasNext);
+    }
+
+    // 타임라인 순서대로 게시글을 한 번에 읽는다. 그 사이 삭제됐거나 차단/비공개 전환으로 볼 수 없게 된 글은 건너뛴다.
+    private List<CheerPost> loadTimelinePosts(List<FollowingTimelineStore.TimelineEntry> entries, UserEntity me) {
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> postIds = entries.stream().map(FollowingTimelineStore.TimelineEntry::postId).toList();
+        Specification<CheerPost> spec = idIn(postIds).and(visibleToViewer(me));
+        Map<Long, CheerPost> postsById = postRepo.findBy(spec, query -> query
+                        .project(FEED_FETCH_GRAPH_PATHS)
+                        .all())
+                .stream()
+                .collect(Collectors.toMap(CheerPost::getId, Function.identity(), (left, right) -> left));
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<CheerPost> fetchCursorSlice(Specification<CheerPost> spec, int limit) {
+        return postRepo.findBy(spec, query -> query
+                .sortBy(CURSOR_FEED_SORT)
+                .project(FEED_FETCH_GRAPH_PATHS)
+                .limit(limit)
+                .all());
+    }
+
+    private int normalizeCursorPageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_CURSOR_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    private Specification<CheerPost> olderThan(CheerFeedCursor position) {
+        return (root, query, cb) -> {
+            if (position == null) {
+                return cb.conjunction();
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), position.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), position.createdAt()),
+                            cb.lessThan(root.get("id"), position.id())));
+        };
+    }
+
+    private Specification<CheerPost> pinnedNotice(java.time.Instant cutoffDate) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("postType"), PostType.NOTICE),
+                cb.greaterThan(root.get("createdAt"), cutoffDate));
+    }
+
+    private Specification<CheerPost> notPinnedNotice(java.time.Instant cutoffDate) {
+        return (root, query, cb) -> cb.or(
+                cb.notEqual(root.get("postType"), PostType.NOTICE),
+                cb.lessThanOrEqualTo(root.get("createdAt"), cutoffDate));
+    }
+
+    private Specification<CheerPost> feedSpec(String normalizedTeamId, PostType postType, UserEntity me) {
+        return notSimpleRepost()
                 .and(teamMatches(normalizedTeamId))
                 .and(postTypeMatches(postType))
                 .and(visibleToViewer(me));
+    }
+
+    private Specification<CheerPost> searchSpec(String q, String normalizedTeamId, UserEntity me) {
+        return notSimpleRepost()
+                .and(teamMatches(normalizedTeamId))
+                .and(contentContains(q))
+                .and(visibleToViewer(me));
+    }
+
+    private java.time.Instant noticePinCutoff() {
+        return java.time.Instant.now().minus(3, java.time.temporal.ChronoUnit.DAYS);
+    }
+
+    private Page<CheerPost> findVisibleFeedPage(String normalizedTeamId, PostType postType, Pageable pageable, UserEntity me) {
+        Specification<CheerPost> spec = feedSpec(normalizedTeamId, postType, me);
 
         if (usesCustomFeedSort(pageable)) {
             return postRepo.findAll(spec, pageable);
         }
 
-        java.time.Instant cutoffDate = java.time.Instant.now().minus(3, java.time.temporal.ChronoUnit.DAYS);
+        java.time.Instant cutoffDate = noticePinCutoff();
         Pageable orderManagedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
         return postRepo.findAll(spec.and(defaultFeedOrder(cutoffDate)), orderManagedPageable);
     }
@@ -473,6 +682,10 @@ public class CheerFeedService {
         return (root, query, cb) -> cb.equal(root.get("author").get("handle"), handle);
     }
 
+    private Specification<CheerPost> idIn(List<Long> postIds) {
+        return (root, query, cb) -> root.get("id").in(postIds);
+    }
+
     private Specification<CheerPost> authorIdIn(List<Long> authorIds) {
         return (root, query, cb) -> authorIds == null || authorIds.isEmpty()
                 ? cb.disjunction()
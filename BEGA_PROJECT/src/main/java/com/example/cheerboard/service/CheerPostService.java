@@ -29,6 +29,7 @@ import com.example.kbo.util.TeamCodeNormalizer;
 import com.example.media.entity.MediaAsset;
 import com.example.media.entity.MediaDomain;
 import com.example.media.service.MediaLinkService;
+import com.example.notification.service.NotificationFanoutService;
 import com.example.notification.service.NotificationService;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +42,8 @@ import org.springframework.web.util.HtmlUtils;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -76,6 +79,7 @@ public class CheerPostService {
     private final TeamRepository teamRepo;
     private final UserRepository userRepo;
     private final NotificationService notificationService;
+    private final NotificationFanoutService notificationFanoutService;
     private final ImageService imageService;
     private final PostImageRepository postImageRepository;
     private final FollowService followService;
@@ -89,6 +93,7 @@ public class CheerPostService {
     private final MediaLinkService mediaLinkService;
     private final StorageConfig storageConfig;
     private final CheerLinkedPostService linkedPostService;
+    private final FollowingTimelineService followingTimelineService;
 
     @Transactional
     public CheerPostCreationOutcome createPost(CreatePostReq req, UserEntity me) {
@@ -137,6 +142,7 @@ public class CheerPostService {
 
         // 팔로워들에게 새 글 알림 (notify_new_posts=true 인 팔로워에게만)
         sendNewPostNotificationToFollowers(savedPost, author);
+        followingTimelineService.publishAfterCommit(savedPost);
 
         return new CheerPostCreationOutcome(savedPost, true);
     }
@@ -300,6 +306,7 @@ public class CheerPostService {
                     .build();
             postRepo.save(Objects.requireNonNull(repost));
             createRepostTracking(original, author);
+            followingTimelineService.publishAfterCommit(repost);
             postRepo.incrementRepostCount(original.getId());
             sendRepostNotification(author, original, "리포스트 알림");
             updateHotScore(original);
@@ -340,6 +347,7 @@ public class CheerPostService {
                     .build();
             postRepo.save(Objects.requireNonNull(quoteRepost));
             postRepo.incrementRepostCount(original.getId());
+            followingTimelineService.publishAfterCommit(quoteRepost);
             int updatedRepostCount = readRepostCount(original.getId());
             original.setRepostCount(updatedRepostCount);
 
@@ -716,18 +724,13 @@ public class CheerPostService {
             String authorName = author.getName() != null && !author.getName().isBlank() ? author.getName()
                     : author.getHandle();
 
-            for (Long userId : notifyUserIds) {
-                try {
-                    notificationService.createNotification(
-                            userId,
-                            com.example.notification.entity.Notification.NotificationType.FOLLOWING_NEW_POST,
-                            "새 게시글",
-                            authorName + "님이 새 게시글을 작성했습니다.",
-                            post.getId());
-                } catch (Exception e) {
-                    log.warn("팔로워 알림 전송 실패: userId={}, postId={}, error={}", userId, post.getId(), e.getMessage());
-                }
-            }
+            // 팔로워 수만큼 트랜잭션을 열지 않도록 커밋 후 chunk 단위 batch로 보낸다.
+            notificationFanoutService.fanOut(
+                    com.example.notification.entity.Notification.NotificationType.FOLLOWING_NEW_POST,
+                    "새 게시글",
+                    authorName + "님이 새 게시글을 작성했습니다.",
+                    post.getId(),
+                    notifyUserIds);
         } catch (Exception e) {
             log.warn("팔로워 알림 전송 중 오류: postId={}, error={}", post.getId(), e.getMessage());
         }
@@ -838,4 +841,27 @@ public class CheerPostService {
         redisPostService.updateHotScore(post.getId(), engagementRateScore,
                 com.example.cheerboard.service.PopularFeedAlgorithm.ENGAGEMENT_RATE);
     }
+
+    /**
+     * 조회수 동기화 chunk용 일괄 HOT 점수 갱신.
+     * 전달받은 views에 이미 동기화된 델타가 포함되어 있으므로 Redis 조회수를 다시 읽지 않는다.
+     */
+    public void updateHotScores(Collection<CheerPost> posts) {
+        if (posts == null || posts.isEmpty()) {
+            return;
+        }
+        java.time.Instant now = java.time.Instant.now();
+        List<RedisPostService.HotScoreUpdate> updates = new ArrayList<>(posts.size());
+        for (CheerPost post : posts) {
+            int views = post.getViews();
+            double baseScore = popularFeedScoringService.calculateGlobalHotBaseScore(post, views, now);
+            boolean hotEligible = popularFeedScoringService.isHotEligible(baseScore);
+            updates.add(new RedisPostService.HotScoreUpdate(
+                    post.getId(),
+                    hotEligible,
+                    hotEligible ? popularFeedScoringService.calculateTimeDecayScore(post, views, now) : 0.0,
+                    hotEligible ? popularFeedScoringService.calculateEngagementRateScore(post, views) : 0.0));
+        }
+        redisPostService.applyHotScores(updates);
+    }
 }
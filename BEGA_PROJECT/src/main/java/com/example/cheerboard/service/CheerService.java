@@ -7,6 +7,7 @@ import com.example.cheerboard.dto.CreateCommentReq;
 import com.example.cheerboard.dto.CreatePostReq;
 import com.example.cheerboard.dto.LikeToggleResponse;
 import com.example.cheerboard.dto.PostChangesResponse;
+import com.example.cheerboard.dto.PostCursorPageRes;
 import com.example.cheerboard.dto.PostDetailRes;
 import com.example.cheerboard.dto.PostLightweightSummaryRes;
 import com.example.cheerboard.dto.PostSummaryRes;
@@ -31,8 +32,9 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -54,7 +56,7 @@ public class CheerService {
     // Components retained for orchestration
     private final CurrentUser current;
     private final PostDtoMapper postDtoMapper;
-    private final RedisPostService redisPostService;
+    private final PostViewCountBuffer viewCountBuffer;
     private final PublicVisibilityVerifier publicVisibilityVerifier;
     private final PermissionValidator permissionValidator;
     private final CheerLinkedPostService linkedPostService;
@@ -120,6 +122,36 @@ public class CheerService {
         return feedService.listByUserHandle(handle, pageable, me);
     }
 
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listCursor(String teamId, String postTypeStr, String cursor, int size) {
+        UserEntity me = current.getOrNull();
+        return feedService.listCursor(teamId, postTypeStr, cursor, size, me);
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes searchCursor(String q, String teamId, String cursor, int size) {
+        UserEntity me = current.getOrNull();
+        return feedService.searchCursor(q, teamId, cursor, size, me);
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listFollowingPostsCursor(String cursor, int size) {
+        UserEntity me = current.get();
+        return feedService.listFollowingPostsCursor(cursor, size, me);
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listMyPostsCursor(String cursor, int size) {
+        UserEntity me = current.get();
+        return feedService.listMyPostsCursor(cursor, size, me);
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorPageRes listByUserHandleCursor(String handle, String cursor, int size) {
+        UserEntity me = current.getOrNull();
+        return feedService.listByUserHandleCursor(handle, cursor, size, me);
+    }
+
     @Transactional(readOnly = true)
     public Page<PostSummaryRes> getBookmarkedPosts(Pageable pageable) {
         UserEntity me = current.get();
@@ -171,7 +203,7 @@ public class CheerService {
 
         // Increase view count
         if (me == null || !post.getAuthor().getId().equals(me.getId())) {
-            redisPostService.incrementViewCount(id, me != null ? me.getId() : null);
+            viewCountBuffer.recordView(id, me != null ? me.getId() : null);
         }
 
         return reconstructPostDetailRes(post, me);
@@ -263,6 +295,10 @@ public class CheerService {
         postService.updateHotScore(post);
     }
 
+    public void updateHotScores(Collection<CheerPost> posts) {
+        postService.updateHotScores(posts);
+    }
+
     @Transactional(readOnly = true)
     public List<PostImageDto> getPostImages(Long postId) {
         UserEntity me = current.getOrNull();
@@ -0,0 +1,320 @@
+package com.example.cheerboard.service;
+
+import com.example.auth.repository.UserFollowRepository;
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.cheerboard.repo.CheerPostTimelineProjection;
+import com.example.cheerboard.service.FollowingTimelineStore.TimelineEntry;
+import com.example.cheerboard.service.FollowingTimelineStore.TimelineSlice;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 팔로잉 피드 fan-out-on-write 타임라인
+ *
+ * 글 작성 시 팔로워 타임라인에 게시글 ID를 밀어 넣고(push), 팔로워가 pullFollowerThreshold 이상인 작성자는
+ * 밀어 넣지 않고 조회 시점에 DB에서 최신 글을 합쳐 읽습니다(pull).
+ * 팔로우/언팔로우/차단은 커밋 이후 해당 작성자의 최근 글을 채우거나 지웁니다.
+ * 타임라인을 쓸 수 없으면 Optional.empty()를 돌려 CheerFeedService가 기존 쿼리로 응답하게 합니다.
+ *
+ * FollowService가 이 서비스를 호출하므로 FollowService/BlockService에는 의존하지 않습니다.
+ */
+@Service
+public class FollowingTimelineService {
+
+    private static final int AUTHOR_QUERY_CHUNK_SIZE = 500;
+    // 같은 밀리초에 쓰인 글을 커서 이후로 걸러낼 여유분
+    private static final int CURSOR_READ_SLACK = 10;
+    // 작성 시각은 INSERT 때 정해지고 커밋은 그 뒤라서, 재구성 스냅샷 이전 시각으로 커밋되는 글까지 다시 확인한다.
+    private static final Duration SEED_COMMIT_GRACE = Duration.ofMinutes(1);
+    private static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+            .comparingLong(TimelineEntry::createdAtMillis)
+            .thenComparing(TimelineEntry::postId)
+            .reversed();
+
+    private final FollowingTimelineStore timelineStore;
+    private final CheerPostRepo postRepo;
+    private final UserFollowRepository followRepo;
+    private final long pullFollowerThreshold;
+
+    @Autowired
+    public FollowingTimelineService(
+            FollowingTimelineStore timelineStore,
+            CheerPostRepo postRepo,
+            UserFollowRepository followRepo,
+            @Value("${app.cheer.following-timeline.pull-follower-threshold:5000}") long pullFollowerThreshold) {
+        this.timelineStore = timelineStore;
+        this.postRepo = postRepo;
+        this.followRepo = followRepo;
+        this.pullFollowerThreshold = Math.max(1L, pullFollowerThreshold);
+    }
+
+    public boolean isEnabled() {
+        return timelineStore.isEnabled();
+    }
+
+    /**
+     * 팔로잉 피드의 offset부터 limit건을 최신순으로 읽습니다.
+     *
+     * @return 타임라인으로 응답할 수 없으면 empty (비활성화, Redis 오류, 보관 상한을 넘는 깊은 페이지)
+     */
+    public Optional<List<TimelineEntry>> readEntries(Long viewerId, int offset, int limit) {
+        if (!timelineStore.isEnabled() || viewerId == null || offset < 0 || limit <= 0
+                || (long) offset + limit > timelineStore.maxEntries()) {
+            return Optional.empty();
+        }
+        Optional<List<Long>> pullAuthorIds = followedPullAuthorIds(viewerId);
+        if (pullAuthorIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int window = offset + limit;
+        boolean merging = !pullAuthorIds.get().isEmpty();
+        TimelineSlice slice = merging
+                ? readOrRebuild(viewerId, pullAuthorIds.get(), 0, window)
+                : readOrRebuild(viewerId, pullAuthorIds.get(), offset, limit);
+        if (isTruncated(slice, merging ? window : limit)) {
+            return Optional.empty();
+        }
+        if (!merging) {
+            return Optional.of(merge(slice.entries(), List.of()));
+        }
+
+        List<TimelineEntry> merged = merge(slice.entries(), findRecentEntries(pullAuthorIds.get(), window));
+        return Optional.of(merged.subList(Math.min(offset, merged.size()), Math.min(window, merged.size())));
+    }
+
+    /**
+     * 커서(직전 페이지 마지막 게시글)보다 오래된 항목을 최신순으로 limit건 읽습니다.
+     *
+     * @return 타임라인으로 응답할 수 없으면 empty
+     */
+    public Optional<List<TimelineEntry>> readEntriesBefore(Long viewerId, CheerFeedCursor cursor, int limit) {
+        if (cursor == null) {
+            return readEntries(viewerId, 0, limit);
+        }
+        if (!timelineStore.isEnabled() || viewerId == null || limit <= 0) {
+            return Optional.empty();
+        }
+        Optional<List<Long>> pullAuthorIds = followedPullAuthorIds(viewerId);
+        if (pullAuthorIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long cursorMillis = cursor.createdAt().toEpochMilli();
+        int fetchSize = limit + CURSOR_READ_SLACK;
+        Optional<TimelineSlice> read = timelineStore.readAtOrBefore(viewerId, cursorMillis, fetchSize);
+        if (read.isEmpty()) {
+            // 커서 페이지에서는 일부만 읽을 수 없으므로 재구성 후 다시 읽는다.
+            rebuild(viewerId, pullAuthorIds.get());
+            read = timelineStore.readAtOrBefore(viewerId, cursorMillis, fetchSize);
+            if (read.isEmpty()) {
+                return Optional.empty();
+            }
+        }
+
+        List<TimelineEntry> pushed = olderThan(read.get().entries(), cursor);
+        if (read.get().entries().size() == fetchSize && pushed.size() < limit) {
+            // 같은 밀리초의 글이 여유분보다 많으면 정확한 다음 페이지를 보장할 수 없다.
+            return Optional.empty();
+        }
+        if (isTruncated(read.get(), fetchSize) && pushed.size() < limit) {
+            return Optional.empty();
+        }
+        List<TimelineEntry> pulled = new ArrayList<>();
+        for (List<Long> chunk : chunks(pullAuthorIds.get())) {
+            postRepo.findTimelineEntriesByAuthorIdsBefore(
+                            chunk, cursor.createdAt(), cursor.id(), PageRequest.of(0, limit))
+                    .forEach(row -> pulled.add(toEntry(row)));
+        }
+        List<TimelineEntry> merged = merge(pushed, pulled);
+        return Optional.of(merged.subList(0, Math.min(limit, merged.size())));
+    }
+
+    /**
+     * 새 글을 팔로워 타임라인에 반영합니다. 팔로워 목록은 트랜잭션 안에서 읽고 Redis 반영은 커밋 이후에 합니다.
+     */
+    public void publishAfterCommit(CheerPost post) {
+        if (!timelineStore.isEnabled() || post == null || post.getId() == null
+                || post.getAuthor() == null || post.getCreatedAt() == null) {
+            return;
+        }
+        Long authorId = post.getAuthor().getId();
+        TimelineEntry entry = new TimelineEntry(post.getId(), authorId, post.getCreatedAt().toEpochMilli());
+
+        if (followRepo.countByFollowingId(authorId) >= pullFollowerThreshold) {
+            // 팔로워가 많은 작성자는 쓰기 증폭 대신 조회 시점에 합쳐 읽는다.
+            afterCommit(() -> timelineStore.markPullAuthor(authorId));
+            return;
+        }
+        List<Long> followerIds = followRepo.findFollowerIdsByFollowingId(authorId);
+        if (followerIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> timelineStore.fanOut(followerIds, entry));
+    }
+
+    /**
+     * 새로 팔로우한 작성자의 최근 글을 팔로워 타임라인에 채웁니다.
+     */
+    public void onFollowed(Long followerId, Long followingId) {
+        if (!timelineStore.isEnabled() || followerId == null || followingId == null
+                || timelineStore.isPullAuthor(followingId)) {
+            return;
+        }
+        List<TimelineEntry> entries = findRecentEntries(List.of(followingId), timelineStore.maxEntries());
+        if (entries.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> timelineStore.addEntries(followerId, entries));
+    }
+
+    /**
+     * 언팔로우/팔로워 삭제/차단으로 끊긴 작성자의 글을 팔로워 타임라인에서 지웁니다.
+     */
+    public void onUnfollowed(Long followerId, Long followingId) {
+        if (!timelineStore.isEnabled() || followerId == null || followingId == null) {
+            return;
+        }
+        afterCommit(() -> timelineStore.removeAuthor(followerId, followingId));
+    }
+
+    private Optional<List<Long>> followedPullAuthorIds(Long viewerId) {
+        Optional<Set<Long>> pullAuthorIds = timelineStore.pullAuthorIds();
+        if (pullAuthorIds.isEmpty()) {
+            return Optional.empty();
+        }
+        if (pullAuthorIds.get().isEmpty()) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(followRepo.findFollowingIdsInList(viewerId, List.copyOf(pullAuthorIds.get())));
+    }
+
+    private TimelineSlice readOrRebuild(Long viewerId, List<Long> pullAuthorIds, int offset, int limit) {
+        Optional<TimelineSlice> read = timelineStore.readRange(viewerId, offset, limit);
+        if (read.isPresent()) {
+            return read.get();
+        }
+        List<TimelineEntry> rebuilt = rebuild(viewerId, pullAuthorIds);
+        List<TimelineEntry> page = rebuilt.subList(Math.min(offset, rebuilt.size()),
+                Math.min(offset + limit, rebuilt.size()));
+        return new TimelineSlice(page, rebuilt.size());
+    }
+
+    // 타임라인이 없거나 만료되면 팔로우 중인 작성자(pull 작성자 제외)의 최신 글로 다시 만든다.
+    // DB를 읽은 뒤 seed 전에 커밋된 글은 fan-out 시점에 초기화 표식이 없어 빠지므로,
+    // seed 후 스냅샷 시작 시각 이후의 글을 한 번 더 읽어 채운다. seed 이후 커밋된 글은 fan-out이 반영한다.
+    private List<TimelineEntry> rebuild(Long viewerId, List<Long> pullAuthorIds) {
+        Set<Long> authorIds = new HashSet<>(followRepo.findFollowingIdsByFollowerId(viewerId));
+        pullAuthorIds.forEach(authorIds::remove);
+        Instant snapshotStartedAt = Instant.now();
+        List<TimelineEntry> entries = findRecentEntries(authorIds, timelineStore.maxEntries());
+        timelineStore.seed(viewerId, entries);
+
+        List<TimelineEntry> committedDuringSeed = findEntriesSince(
+                authorIds, snapshotStartedAt.minus(SEED_COMMIT_GRACE), timelineStore.maxEntries());
+        if (committedDuringSeed.isEmpty()) {
+            return entries;
+        }
+        timelineStore.addEntries(viewerId, committedDuringSeed);
+        List<TimelineEntry> merged = merge(entries, committedDuringSeed);
+        return merged.size() > timelineStore.maxEntries()
+                ? new ArrayList<>(merged.subList(0, timelineStore.maxEntries()))
+                : merged;
+    }
+
+    private List<TimelineEntry> findEntriesSince(Collection<Long> authorIds, Instant since, int limit) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (List<Long> chunk : chunks(authorIds)) {
+            postRepo.findTimelineEntriesByAuthorIdsSince(chunk, since, PageRequest.of(0, limit))
+                    .forEach(row -> entries.add(toEntry(row)));
+        }
+        return entries;
+    }
+
+    private List<TimelineEntry> findRecentEntries(Collection<Long> authorIds, int limit) {
+        if (authorIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (List<Long> chunk : chunks(authorIds)) {
+            postRepo.findTimelineEntriesByAuthorIds(chunk, PageRequest.of(0, limit))
+                    .forEach(row -> entries.add(toEntry(row)));
+        }
+        entries.sort(NEWEST_FIRST);
+        return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+    }
+
+    // 보관 상한에 닿은 타임라인에서 요청보다 적게 읽혔다면 더 오래된 글이 잘려 나갔을 수 있다.
+    private boolean isTruncated(TimelineSlice slice, int requested) {
+        return slice.entries().size() < requested && slice.totalEntries() >= timelineStore.maxEntries();
+    }
+
+    private static List<TimelineEntry> olderThan(List<TimelineEntry> entries, CheerFeedCursor cursor) {
+        long cursorMillis = cursor.createdAt().toEpochMilli();
+        List<TimelineEntry> older = new ArrayList<>(entries.size());
+        for (TimelineEntry entry : entries) {
+            if (entry.createdAtMillis() < cursorMillis
+                    || (entry.createdAtMillis() == cursorMillis && entry.postId() < cursor.id())) {
+                older.add(entry);
+            }
+        }
+        return older;
+    }
+
+    // pull 작성자로 바뀌기 전에 밀어 넣은 글이 남아 있을 수 있으므로 게시글 ID로 중복을 제거한다.
+    // 같은 점수는 Redis가 멤버 문자열 순으로 돌려주므로 (작성 시각, ID) 순으로 다시 정렬한다.
+    private static List<TimelineEntry> merge(List<TimelineEntry> pushed, List<TimelineEntry> pulled) {
+        Map<Long, TimelineEntry> byPostId = new LinkedHashMap<>();
+        pushed.forEach(entry -> byPostId.putIfAbsent(entry.postId(), entry));
+        pulled.forEach(entry -> byPostId.putIfAbsent(entry.postId(), entry));
+        List<TimelineEntry> merged = new ArrayList<>(byPostId.values());
+        merged.sort(NEWEST_FIRST);
+        return merged;
+    }
+
+    private static TimelineEntry toEntry(CheerPostTimelineProjection row) {
+        return new TimelineEntry(row.getId(), row.getAuthorId(), row.getCreatedAt().toEpochMilli());
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> source = List.copyOf(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < source.size(); from += AUTHOR_QUERY_CHUNK_SIZE) {
+            chunks.add(source.subList(from, Math.min(from + AUTHOR_QUERY_CHUNK_SIZE, source.size())));
+        }
+        return chunks;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
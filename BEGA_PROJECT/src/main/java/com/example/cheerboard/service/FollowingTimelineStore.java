@@ -0,0 +1,398 @@
+package com.example.cheerboard.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 팔로잉 홈 타임라인 저장소
+ *
+ * 사용자별 Redis ZSET(멤버 "작성자ID:게시글ID", 점수 작성 시각 epoch millis)에 팔로우한 작성자의
+ * 최신 게시글을 최대 maxEntries건까지 유지해 팔로잉 피드 조회를 ZREVRANGE 한 번으로 응답합니다.
+ * DB(cheer_post + user_follow)가 원본이며 이 타임라인은 파생 값입니다.
+ * - 글 작성 fan-out은 커밋 이후에만, 그리고 DB로 초기화(seed)된 타임라인에만 반영합니다.
+ * - 초기화 전이거나 Redis 오류 시 Optional.empty()를 돌려 기존 팔로잉 피드 쿼리로 대체하게 합니다.
+ * - 조회나 fan-out으로 수명을 늘리지 않아 초기화 후 ttl이 지나면 반드시 DB로 다시 만들어집니다.
+ *   fan-out이 놓친 글이 있어도 ttl 안에는 보정됩니다.
+ * - 팔로워가 많은 작성자는 fan-out 대신 조회 시점에 DB에서 합쳐 읽도록 pull 작성자로 표시합니다.
+ */
+@Component
+@Slf4j
+public class FollowingTimelineStore {
+
+    static final String TIMELINE_KEY = "cheer:timeline:following:%d:v1";
+    static final String SEEDED_KEY = "cheer:timeline:following:%d:seeded:v1";
+    static final String PULL_AUTHORS_KEY = "cheer:timeline:pull-authors:v1";
+
+    private static final int FAN_OUT_CHUNK_SIZE = 500;
+
+    // 초기화 표식이 없으면 nil을 돌려 DB 재구성을 유도한다. 첫 원소는 잘림 여부 판단용 ZCARD.
+    // 조회로 만료를 늦추면 자주 읽는 타임라인이 영영 재구성되지 않으므로 TTL은 건드리지 않는다.
+    private static final RedisScript<List> READ_RANGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return false end "
+                    + "local entries = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2], 'WITHSCORES') "
+                    + "table.insert(entries, 1, tostring(redis.call('ZCARD', KEYS[1]))) "
+                    + "return entries",
+            List.class);
+
+    private static final RedisScript<List> READ_BEFORE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return false end "
+                    + "local entries = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], '-inf', "
+                    + "'WITHSCORES', 'LIMIT', 0, ARGV[2]) "
+                    + "table.insert(entries, 1, tostring(redis.call('ZCARD', KEYS[1]))) "
+                    + "return entries",
+            List.class);
+
+    // 빈 타임라인도 초기화된 것으로 봐야 하므로 ZSET과 별도로 표식 키를 둔다.
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) "
+                    + "for i = 3, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1)) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[1]) "
+                    + "redis.call('SET', KEYS[2], '1', 'PX', ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    // 초기화되지 않은 타임라인에 ZADD하면 최근 글 일부만 있는 타임라인이 생기므로 표식 확인 후 반영한다.
+    // 만료 시각은 초기화 때 정해진 것을 유지하고, ZSET만 따로 사라진 경우에만 TTL을 다시 건다.
+    private static final RedisScript<Long> ADD_IF_SEEDED_SCRIPT = new DefaultRedisScript<>(
+            "local applied = 0 "
+                    + "for i = 1, #KEYS, 2 do "
+                    + "if redis.call('EXISTS', KEYS[i + 1]) == 1 then "
+                    + "for j = 3, #ARGV, 2 do redis.call('ZADD', KEYS[i], ARGV[j], ARGV[j + 1]) end "
+                    + "redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[2]) + 1)) "
+                    + "if redis.call('PTTL', KEYS[i]) < 0 then redis.call('PEXPIRE', KEYS[i], ARGV[1]) end "
+                    + "applied = applied + 1 end end "
+                    + "return applied",
+            Long.class);
+
+    private static final RedisScript<Long> REMOVE_AUTHOR_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 "
+                    + "local prefix = ARGV[1] "
+                    + "for _, member in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do "
+                    + "if string.sub(member, 1, #prefix) == prefix then "
+                    + "removed = removed + redis.call('ZREM', KEYS[1], member) end end "
+                    + "return removed",
+            Long.class);
+
+    private static final FollowingTimelineStore DISABLED = new FollowingTimelineStore();
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Counter timelineReads;
+    private final Counter missedReads;
+
+    /**
+     * 타임라인 항목 한 건 (점수 = 작성 시각 epoch millis)
+     */
+    public record TimelineEntry(Long postId, Long authorId, long createdAtMillis) {
+
+        String member() {
+            return authorId + ":" + postId;
+        }
+
+        static TimelineEntry parse(String member, String score) {
+            int separatorIndex = member.indexOf(':');
+            return new TimelineEntry(
+                    Long.valueOf(member.substring(separatorIndex + 1)),
+                    Long.valueOf(member.substring(0, separatorIndex)),
+                    (long) Double.parseDouble(score));
+        }
+    }
+
+    /**
+     * 조회 결과와 함께 타임라인 전체 건수를 돌려 상한(maxEntries)에서 잘렸는지 판단하게 합니다.
+     */
+    public record TimelineSlice(List<TimelineEntry> entries, long totalEntries) {
+
+        public TimelineSlice {
+            entries = List.copyOf(entries);
+        }
+    }
+
+    @Autowired
+    public FollowingTimelineStore(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cheer.following-timeline.enabled:true}") boolean enabled,
+            @Value("${app.cheer.following-timeline.max-entries:800}") int maxEntries,
+            @Value("${app.cheer.following-timeline.ttl:6h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttl = ttl;
+        this.timelineReads = readCounter(meterRegistry, "timeline");
+        this.missedReads = readCounter(meterRegistry, "miss");
+    }
+
+    private FollowingTimelineStore() {
+        this.redisTemplate = null;
+        this.enabled = false;
+        this.maxEntries = 0;
+        this.ttl = Duration.ZERO;
+        this.timelineReads = null;
+        this.missedReads = null;
+    }
+
+    public static FollowingTimelineStore disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * 최신순 offset부터 count건을 읽습니다. 초기화 전이거나 Redis 오류 시 empty.
+     */
+    public Optional<TimelineSlice> readRange(Long userId, long offset, int count) {
+        if (!enabled || userId == null || count <= 0) {
+            return Optional.empty();
+        }
+        return read(READ_RANGE_SCRIPT, userId, String.valueOf(offset), String.valueOf(offset + count - 1));
+    }
+
+    /**
+     * 작성 시각이 maxCreatedAtMillis 이하인 항목을 최신순으로 count건 읽습니다. 초기화 전이거나 Redis 오류 시 empty.
+     */
+    public Optional<TimelineSlice> readAtOrBefore(Long userId, long maxCreatedAtMillis, int count) {
+        if (!enabled || userId == null || count <= 0) {
+            return Optional.empty();
+        }
+        return read(READ_BEFORE_SCRIPT, userId, String.valueOf(maxCreatedAtMillis), String.valueOf(count));
+    }
+
+    /**
+     * DB에서 읽은 최신 게시글로 타임라인을 다시 만듭니다. 빈 목록이어도 초기화된 것으로 표시합니다.
+     */
+    public void seed(Long userId, List<TimelineEntry> entries) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        try {
+            List<String> args = baseArgs();
+            appendEntries(args, entries);
+            redisTemplate.execute(SEED_SCRIPT, List.of(timelineKey(userId), seededKey(userId)), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Following timeline seed failed. userId={}, cause={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋된 게시글을 팔로워들의 타임라인에 반영합니다. 커밋 이후(afterCommit)에서만 호출해야 합니다.
+     *
+     * @return 타임라인이 초기화되어 있어 반영된 팔로워 수
+     */
+    public long fanOut(Collection<Long> followerIds, TimelineEntry entry) {
+        if (!enabled || entry == null || followerIds == null || followerIds.isEmpty()) {
+            return 0L;
+        }
+        List<String> args = baseArgs();
+        appendEntries(args, List.of(entry));
+        Object[] argArray = args.toArray();
+
+        long applied = 0L;
+        List<String> keys = new ArrayList<>(FAN_OUT_CHUNK_SIZE * 2);
+        for (Long followerId : new LinkedHashSet<>(followerIds)) {
+            if (followerId == null) {
+                continue;
+            }
+            keys.add(timelineKey(followerId));
+            keys.add(seededKey(followerId));
+            if (keys.size() >= FAN_OUT_CHUNK_SIZE * 2) {
+                applied += addIfSeeded(keys, argArray, entry);
+                keys = new ArrayList<>(FAN_OUT_CHUNK_SIZE * 2);
+            }
+        }
+        if (!keys.isEmpty()) {
+            applied += addIfSeeded(keys, argArray, entry);
+        }
+        return applied;
+    }
+
+    /**
+     * 새로 팔로우한 작성자의 최근 게시글을 한 사용자의 타임라인에 채웁니다. 커밋 이후에서만 호출해야 합니다.
+     */
+    public void addEntries(Long userId, List<TimelineEntry> entries) {
+        if (!enabled || userId == null || entries == null || entries.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> args = baseArgs();
+            appendEntries(args, entries);
+            redisTemplate.execute(ADD_IF_SEEDED_SCRIPT, List.of(timelineKey(userId), seededKey(userId)), args.toArray());
+        } catch (RuntimeException e) {
+            // 일부 작성자 글이 빠진 타임라인이 남지 않도록 지워 다음 조회에서 DB로 다시 초기화한다.
+            log.warn("Following timeline backfill failed. userId={}, cause={}", userId, e.getMessage());
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * 언팔로우/차단된 작성자의 항목을 한 사용자의 타임라인에서 지웁니다. 커밋 이후에서만 호출해야 합니다.
+     */
+    public void removeAuthor(Long userId, Long authorId) {
+        if (!enabled || userId == null || authorId == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(REMOVE_AUTHOR_SCRIPT, List.of(timelineKey(userId)), authorId + ":");
+        } catch (RuntimeException e) {
+            // 언팔로우한 작성자 글이 계속 보이면 안 되므로 타임라인을 지워 DB 재구성으로 돌린다.
+            log.warn("Following timeline purge failed. userId={}, authorId={}, cause={}",
+                    userId, authorId, e.getMessage());
+            invalidate(userId);
+        }
+    }
+
+    public void invalidate(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(List.of(seededKey(userId), timelineKey(userId)));
+        } catch (RuntimeException e) {
+            log.warn("Following timeline invalidation failed. userId={}, cause={}", userId, e.getMessage());
+        }
+    }
+
+    public void markPullAuthor(Long authorId) {
+        if (!enabled || authorId == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(PULL_AUTHORS_KEY, String.valueOf(authorId));
+        } catch (RuntimeException e) {
+            log.warn("Following timeline pull author mark failed. authorId={}, cause={}", authorId, e.getMessage());
+        }
+    }
+
+    public boolean isPullAuthor(Long authorId) {
+        if (!enabled || authorId == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(PULL_AUTHORS_KEY, String.valueOf(authorId)));
+        } catch (RuntimeException e) {
+            log.warn("Following timeline pull author check failed. authorId={}, cause={}", authorId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * fan-out 대신 조회 시점에 합쳐 읽는 작성자 목록. Redis 오류 시 empty.
+     */
+    public Optional<Set<Long>> pullAuthorIds() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(PULL_AUTHORS_KEY);
+            if (members == null || members.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+            Set<Long> authorIds = new HashSet<>(members.size());
+            for (String member : members) {
+                try {
+                    authorIds.add(Long.valueOf(member));
+                } catch (NumberFormatException ignored) {
+                    redisTemplate.opsForSet().remove(PULL_AUTHORS_KEY, member);
+                }
+            }
+            return Optional.of(authorIds);
+        } catch (RuntimeException e) {
+            log.warn("Following timeline pull author read failed. cause={}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<TimelineSlice> read(RedisScript<List> script, Long userId, String... args) {
+        try {
+            List<?> raw = redisTemplate.execute(script, List.of(timelineKey(userId), seededKey(userId)), (Object[]) args);
+            if (raw == null || raw.isEmpty()) {
+                missedReads.increment();
+                return Optional.empty();
+            }
+            long totalEntries = Long.parseLong(raw.get(0).toString());
+            List<TimelineEntry> entries = new ArrayList<>((raw.size() - 1) / 2);
+            for (int i = 1; i + 1 < raw.size(); i += 2) {
+                entries.add(TimelineEntry.parse(raw.get(i).toString(), raw.get(i + 1).toString()));
+            }
+            timelineReads.increment();
+            return Optional.of(new TimelineSlice(entries, totalEntries));
+        } catch (RuntimeException e) {
+            missedReads.increment();
+            log.warn("Following timeline read failed. userId={}, cause={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private long addIfSeeded(List<String> keys, Object[] args, TimelineEntry entry) {
+        try {
+            Long applied = redisTemplate.execute(ADD_IF_SEEDED_SCRIPT, keys, args);
+            return applied == null ? 0L : applied;
+        } catch (RuntimeException e) {
+            // 이 글이 빠진 타임라인이 남지 않도록 청크의 팔로워 타임라인을 지워 다음 조회에서 DB로 다시 만든다.
+            // 지우기마저 실패하면 초기화 후 ttl이 지나 재구성될 때 보정된다.
+            log.warn("Following timeline fan-out failed. postId={}, followers={}, cause={}",
+                    entry.postId(), keys.size() / 2, e.getMessage());
+            try {
+                redisTemplate.delete(keys);
+            } catch (RuntimeException deleteFailure) {
+                log.warn("Following timeline invalidation after fan-out failure failed. postId={}, cause={}",
+                        entry.postId(), deleteFailure.getMessage());
+            }
+            return 0L;
+        }
+    }
+
+    private List<String> baseArgs() {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(maxEntries));
+        return args;
+    }
+
+    private static void appendEntries(List<String> args, List<TimelineEntry> entries) {
+        for (TimelineEntry entry : entries) {
+            args.add(String.valueOf(entry.createdAtMillis()));
+            args.add(entry.member());
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("cheer.following_timeline.reads")
+                .description("Total following feed reads served by the materialized timeline")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static String timelineKey(Long userId) {
+        return String.format(TIMELINE_KEY, userId);
+    }
+
+    private static String seededKey(Long userId) {
+        return String.format(SEEDED_KEY, userId);
+    }
+}
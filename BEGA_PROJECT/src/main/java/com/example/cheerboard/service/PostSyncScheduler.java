@@ -3,6 +3,10 @@ package com.example.cheerboard.service;
 import com.example.cheerboard.domain.CheerPost;
 import com.example.cheerboard.repo.CheerPostHotScoreProjection;
 import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.cheerboard.repo.CheerPostViewCountJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.jobrunr.jobs.annotations.Job;
 import org.jobrunr.scheduling.JobScheduler;
@@ -11,9 +15,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Objects;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -23,20 +32,45 @@ public class PostSyncScheduler implements ApplicationRunner {
     private final RedisPostService redisPostService;
     private final CheerPostRepo postRepo;
     private final CheerService cheerService;
+    private final CheerPostViewCountJdbcRepository viewCountJdbcRepository;
     private final JobScheduler jobScheduler;
+    private final TransactionTemplate chunkTransactionTemplate;
     private final boolean schedulerEnabled;
+    private final int chunkSize;
+    private final Timer chunkTimer;
+    private final Counter syncedPostCounter;
+    private final Counter failedChunkCounter;
 
     public PostSyncScheduler(
             RedisPostService redisPostService,
             CheerPostRepo postRepo,
             CheerService cheerService,
+            CheerPostViewCountJdbcRepository viewCountJdbcRepository,
             JobScheduler jobScheduler,
-            @Value("${app.cheer.post-sync.scheduler.enabled:true}") boolean schedulerEnabled) {
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.cheer.post-sync.scheduler.enabled:true}") boolean schedulerEnabled,
+            @Value("${app.cheer.post-sync.view-chunk-size:200}") int chunkSize,
+            @Value("${app.cheer.post-sync.view-chunk-transaction-timeout:10s}") Duration chunkTransactionTimeout) {
         this.redisPostService = redisPostService;
         this.postRepo = postRepo;
         this.cheerService = cheerService;
+        this.viewCountJdbcRepository = viewCountJdbcRepository;
         this.jobScheduler = jobScheduler;
         this.schedulerEnabled = schedulerEnabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkTransactionTemplate.setTimeout((int) Math.max(1L, chunkTransactionTimeout.toSeconds()));
+        this.chunkTimer = Timer.builder("cheer.view_sync.chunk.duration")
+                .description("Duration of one view-count sync chunk (Redis drain, DB batch, hot scores)")
+                .register(meterRegistry);
+        this.syncedPostCounter = Counter.builder("cheer.view_sync.posts")
+                .tag("outcome", "synced")
+                .register(meterRegistry);
+        this.failedChunkCounter = Counter.builder("cheer.view_sync.chunks")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
     }
 
     @Override
@@ -57,9 +91,11 @@ public class PostSyncScheduler implements ApplicationRunner {
     /**
      * JobRunr에 의해 실행될 백그라운드 작업
      * Job 어노테이션을 통해 대시보드에서 식별 가능
+     *
+     * dirty 게시글을 chunk 단위로 나눠 chunk마다 Redis 델타 읽기/초기화 스크립트 1회, DB batch UPDATE 1회(짧은 트랜잭션),
+     * Redis pipeline 1회(HOT 점수)로 처리한다. 한 chunk가 실패해도 다음 chunk는 계속 진행한다.
      */
     @Job(name = "Sync Redis View Counts to DB")
-    @Transactional
     public void syncViewCounts() {
         Set<Long> dirtyPostIds = redisPostService.getDirtyPostIds();
         if (dirtyPostIds.isEmpty()) {
@@ -68,35 +104,57 @@ public class PostSyncScheduler implements ApplicationRunner {
 
         log.info("Starting persistent sync job for {} posts", dirtyPostIds.size());
 
-        for (Long postId : dirtyPostIds) {
+        List<Long> postIds = new ArrayList<>(dirtyPostIds);
+        int synced = 0;
+        for (int from = 0; from < postIds.size(); from += chunkSize) {
+            List<Long> chunk = postIds.subList(from, Math.min(postIds.size(), from + chunkSize));
             try {
-                processPostSync(postId);
+                synced += syncChunk(chunk);
             } catch (Exception e) {
-                log.error("Failed to sync post {}: {}", postId, e.getMessage());
+                failedChunkCounter.increment();
+                log.error("Failed to sync view count chunk size={} firstPostId={}: {}",
+                        chunk.size(), chunk.get(0), e.getMessage());
             }
         }
-        log.info("Post sync job completed");
+        log.info("Post sync job completed synced={}", synced);
     }
 
-    @Transactional
-    public void processPostSync(Long postId) {
-        Long requiredPostId = Objects.requireNonNull(postId);
-        Integer viewsInRedis = redisPostService.getViewCount(requiredPostId);
-        if (viewsInRedis == null || viewsInRedis <= 0) {
-            return;
-        }
+    int syncChunk(List<Long> postIds) {
+        Timer.Sample sample = Timer.start();
+        try {
+            // 읽기와 초기화를 한 번에 하므로 Redis 오류면 아무것도 지우지 않고 chunk 실패로 끝난다.
+            Map<Long, Integer> deltas = redisPostService.drainViewDeltas(postIds);
+            if (deltas.isEmpty()) {
+                return 0;
+            }
 
-        postRepo.findHotScoreProjectionById(requiredPostId).ifPresent(post -> {
-            postRepo.incrementViewCountByDelta(requiredPostId, viewsInRedis);
-            redisPostService.clearDirtyPost(requiredPostId, viewsInRedis);
-            cheerService.updateHotScore(toHotScorePost(post, viewsInRedis));
-        });
+            List<CheerPostHotScoreProjection> synced;
+            try {
+                synced = chunkTransactionTemplate.execute(status -> {
+                    viewCountJdbcRepository.incrementViewCounts(deltas);
+                    return postRepo.findHotScoreProjectionsByIdIn(deltas.keySet());
+                });
+            } catch (RuntimeException e) {
+                // 이미 비운 델타를 되돌려 다음 실행에서 다시 반영한다.
+                redisPostService.restoreViewDeltas(deltas);
+                throw e;
+            }
+            List<CheerPostHotScoreProjection> syncedPosts = synced != null ? synced : List.of();
+
+            cheerService.updateHotScores(syncedPosts.stream()
+                    .map(this::toHotScorePost)
+                    .toList());
+            syncedPostCounter.increment(syncedPosts.size());
+            return syncedPosts.size();
+        } finally {
+            sample.stop(chunkTimer);
+        }
     }
 
-    private CheerPost toHotScorePost(CheerPostHotScoreProjection post, int viewDelta) {
+    private CheerPost toHotScorePost(CheerPostHotScoreProjection post) {
         return CheerPost.builder()
                 .id(post.getId())
-                .views(post.getViews() + viewDelta)
+                .views(post.getViews())
                 .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
                 .repostCount(post.getRepostCount())
@@ -0,0 +1,189 @@
+package com.example.cheerboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 조회수를 노드 로컬에서 모았다가 짧은 주기로 Redis에 한 번에 반영한다.
+ *
+ * 같은 노드에서 이미 본 (게시글, 조회자)는 Redis 호출 없이 버리고, 새 조회자만 모아
+ * {@link RedisPostService#applyBufferedViews}의 Lua 스크립트 한 번으로 중복 제거/증가/dirty 등록을 처리한다.
+ * 노드 간 중복은 Redis 쪽 SET 또는 HyperLogLog가 걸러낸다.
+ */
+@Slf4j
+@Component
+public class PostViewCountBuffer {
+
+    static final String ANONYMOUS_VIEWER = "anonymous";
+    private static final int MAX_VIEWERS_PER_ENTRY = 500;
+    private static final int MAX_VIEWERS_PER_SCRIPT = 2000;
+
+    private final RedisPostService redisPostService;
+    private final boolean enabled;
+    private final ViewerDedupeMode dedupeMode;
+    private final Duration dedupeWindow;
+    private final int maxPendingViews;
+    private final Cache<String, Boolean> recentViews;
+    private final ConcurrentHashMap<Long, Set<String>> pendingViewers = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingViewCount = new AtomicInteger();
+    private final Counter bufferedCounter;
+    private final Counter localDuplicateCounter;
+    private final Counter overflowCounter;
+    private final Counter flushCounter;
+    private final Counter flushFailureCounter;
+
+    public PostViewCountBuffer(
+            RedisPostService redisPostService,
+            MeterRegistry meterRegistry,
+            @Value("${app.cheer.view-count.buffer.enabled:true}") boolean enabled,
+            @Value("${app.cheer.view-count.dedupe-mode:HLL}") ViewerDedupeMode dedupeMode,
+            @Value("${app.cheer.view-count.dedupe-window:24h}") Duration dedupeWindow,
+            @Value("${app.cheer.view-count.buffer.local-dedupe-max-size:200000}") long localDedupeMaxSize,
+            @Value("${app.cheer.view-count.buffer.max-pending-views:50000}") int maxPendingViews) {
+        this.redisPostService = redisPostService;
+        this.enabled = enabled;
+        this.dedupeMode = dedupeMode != null ? dedupeMode : ViewerDedupeMode.HLL;
+        this.dedupeWindow = dedupeWindow;
+        this.maxPendingViews = Math.max(1, maxPendingViews);
+        this.recentViews = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, localDedupeMaxSize))
+                .expireAfterWrite(dedupeWindow)
+                .build();
+        this.bufferedCounter = Counter.builder("cheer.view_count.buffer.views")
+                .tag("outcome", "buffered")
+                .register(meterRegistry);
+        this.localDuplicateCounter = Counter.builder("cheer.view_count.buffer.views")
+                .tag("outcome", "local_duplicate")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("cheer.view_count.buffer.views")
+                .tag("outcome", "overflow_direct")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder("cheer.view_count.buffer.flush")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("cheer.view_count.buffer.flush")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        Gauge.builder("cheer.view_count.buffer.pending", pendingViewCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 기록. 버퍼가 꺼져 있거나 가득 차면 모으지 않고 바로 Redis에 반영한다.
+     * 이때도 버퍼 flush와 같은 스크립트/중복 제거 키를 써서 두 경로를 오간 조회자가 두 번 집계되지 않게 한다.
+     */
+    public void recordView(Long postId, Long userId) {
+        if (postId == null) {
+            return;
+        }
+        String viewer = userId != null ? userId.toString() : ANONYMOUS_VIEWER;
+        if (!enabled) {
+            applyDirect(postId, viewer);
+            return;
+        }
+
+        if (recentViews.asMap().putIfAbsent(postId + ":" + viewer, Boolean.TRUE) != null) {
+            localDuplicateCounter.increment();
+            return;
+        }
+        if (pendingViewCount.get() >= maxPendingViews) {
+            overflowCounter.increment();
+            if (!applyDirect(postId, viewer)) {
+                recentViews.invalidate(postId + ":" + viewer);
+            }
+            return;
+        }
+
+        pendingViewers.compute(postId, (id, viewers) -> {
+            Set<String> target = viewers != null ? viewers : new LinkedHashSet<>();
+            if (target.add(viewer)) {
+                pendingViewCount.incrementAndGet();
+            }
+            return target;
+        });
+        bufferedCounter.increment();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.cheer.view-count.buffer.flush-interval-ms:1000}",
+            initialDelayString = "${app.cheer.view-count.buffer.flush-interval-ms:1000}")
+    public void flush() {
+        if (pendingViewers.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, List<String>>> chunk = new ArrayList<>();
+        int chunkViewers = 0;
+        for (Long postId : List.copyOf(pendingViewers.keySet())) {
+            // compute/remove는 키 단위로 원자적이므로 제거된 Set은 더 이상 변경되지 않는다.
+            Set<String> viewers = pendingViewers.remove(postId);
+            if (viewers == null || viewers.isEmpty()) {
+                continue;
+            }
+            pendingViewCount.addAndGet(-viewers.size());
+            List<String> viewerList = new ArrayList<>(viewers);
+            for (int from = 0; from < viewerList.size(); from += MAX_VIEWERS_PER_ENTRY) {
+                List<String> slice = viewerList.subList(from, Math.min(viewerList.size(), from + MAX_VIEWERS_PER_ENTRY));
+                chunk.add(new AbstractMap.SimpleImmutableEntry<>(postId, slice));
+                chunkViewers += slice.size();
+                if (chunkViewers >= MAX_VIEWERS_PER_SCRIPT) {
+                    applyChunk(chunk);
+                    chunk = new ArrayList<>();
+                    chunkViewers = 0;
+                }
+            }
+        }
+        applyChunk(chunk);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    int pendingViewCount() {
+        return pendingViewCount.get();
+    }
+
+    private boolean applyDirect(Long postId, String viewer) {
+        long applied = redisPostService.applyBufferedViews(
+                List.of(new AbstractMap.SimpleImmutableEntry<>(postId, List.of(viewer))), dedupeMode, dedupeWindow);
+        return applied >= 0;
+    }
+
+    private void applyChunk(List<Map.Entry<Long, List<String>>> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        long applied = redisPostService.applyBufferedViews(chunk, dedupeMode, dedupeWindow);
+        if (applied < 0) {
+            flushFailureCounter.increment();
+            // Redis 반영에 실패한 조회자는 다음 조회 때 다시 집계될 수 있게 로컬 중복 기록을 지운다.
+            chunk.forEach(entry -> entry.getValue()
+                    .forEach(viewer -> recentViews.invalidate(entry.getKey() + ":" + viewer)));
+            log.warn("Buffered view count flush failed posts={}", chunk.size());
+            return;
+        }
+        flushCounter.increment();
+    }
+}
@@ -5,13 +5,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,47 +35,127 @@ public class RedisPostService {
 
     private static final String VIEW_COUNT_KEY = "post:views:%d";
     private static final String VIEWED_USERS_KEY = "post:viewed:%d";
+    private static final String VIEWED_USERS_HLL_KEY = "post:viewed:hll:%d";
     private static final String DIRTY_POSTS_KEY = "posts:dirty:views";
     private static final String HOT_STATUS_KEY = "post:hot:%d";
     private static final String HOT_POSTS_ZSET_KEY = "posts:hot:list";
     private static final String HOT_POSTS_ZSET_KEY_TEMPLATE = "posts:hot:list:%s";
 
+    // KEYS: (viewersKey, viewCountKey) per entry, dirty set last.
+    // ARGV: mode, ttlSeconds, entryCount, then per entry: dirtyMember, viewerCount, viewers...
+    private static final String APPLY_VIEWS_LUA = "local mode = ARGV[1] " +
+            "local ttl = tonumber(ARGV[2]) " +
+            "local entries = tonumber(ARGV[3]) " +
+            "local dirtyKey = KEYS[#KEYS] " +
+            "local argIndex = 4 " +
+            "local total = 0 " +
+            "for i = 1, entries do " +
+            "  local viewersKey = KEYS[(i - 1) * 2 + 1] " +
+            "  local viewsKey = KEYS[(i - 1) * 2 + 2] " +
+            "  local member = ARGV[argIndex] " +
+            "  local count = tonumber(ARGV[argIndex + 1]) " +
+            "  local first = argIndex + 2 " +
+            "  local last = argIndex + 1 + count " +
+            "  local added = 0 " +
+            "  if mode == 'hll' then " +
+            "    local before = redis.call('pfcount', viewersKey) " +
+            "    redis.call('pfadd', viewersKey, unpack(ARGV, first, last)) " +
+            "    added = redis.call('pfcount', viewersKey) - before " +
+            "  else " +
+            "    added = redis.call('sadd', viewersKey, unpack(ARGV, first, last)) " +
+            "  end " +
+            "  redis.call('expire', viewersKey, ttl) " +
+            "  if added > 0 then " +
+            "    redis.call('incrby', viewsKey, added) " +
+            "    redis.call('sadd', dirtyKey, member) " +
+            "    total = total + added " +
+            "  end " +
+            "  argIndex = last + 1 " +
+            "end " +
+            "return total";
+
+    // KEYS: viewCountKey per post, dirty set last. ARGV: dirtyMember per post.
+    // 델타를 읽은 키는 같은 스크립트 안에서 지워 읽기와 초기화 사이에 들어온 조회가 사라지지 않게 한다.
+    private static final String DRAIN_VIEWS_LUA = "local dirtyKey = KEYS[#KEYS] " +
+            "local deltas = {} " +
+            "for i = 1, #KEYS - 1 do " +
+            "  local value = redis.call('get', KEYS[i]) " +
+            "  if value then redis.call('del', KEYS[i]) end " +
+            "  redis.call('srem', dirtyKey, ARGV[i]) " +
+            "  deltas[i] = tonumber(value) or 0 " +
+            "end " +
+            "return deltas";
+
+    private static final RedisScript<Long> APPLY_VIEWS_SCRIPT = new DefaultRedisScript<>(APPLY_VIEWS_LUA, Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_VIEWS_SCRIPT = new DefaultRedisScript<>(DRAIN_VIEWS_LUA, List.class);
+    private static final RedisSerializer<String> SCRIPT_STRING_SERIALIZER = RedisSerializer.string();
+    private static final RedisSerializer<Long> SCRIPT_LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
     /**
-     * 조회수 증가 로직 (Redis에서 관리)
-     * 
-     * @param postId 게시글 ID
-     * @param userId 사용자 ID (null일 경우 익명)
-     * @return 증가 후 조회수
-     */
-    /**
-     * 조회수 증가 로직 (Redis에서 관리)
-     * 
-     * @param postId 게시글 ID
-     * @param userId 사용자 ID (null일 경우 익명)
-     * @return 증가 후 조회수
+     * 노드 로컬 버퍼에 모인 조회 기록을 Lua 스크립트 한 번으로 반영한다.
+     * 신규 조회자 수만큼 조회수를 올리고 dirty 목록에 추가하며, 반영된 신규 조회 수를 반환한다.
+     *
+     * @param viewersByPost 게시글별 조회자 식별자 (게시글 하나가 여러 번 나와도 된다)
+     * @param dedupeMode    조회자 중복 제거 저장 방식
+     * @param viewerTtl     조회자 중복 제거 키 TTL
+     * @return 반영된 신규 조회 수, Redis 오류 시 -1
      */
-    public void incrementViewCount(Long postId, Long userId) {
+    public long applyBufferedViews(
+            List<Map.Entry<Long, List<String>>> viewersByPost,
+            ViewerDedupeMode dedupeMode,
+            Duration viewerTtl) {
+        if (viewersByPost == null || viewersByPost.isEmpty()) {
+            return 0L;
+        }
         try {
-            String viewedKey = String.format(VIEWED_USERS_KEY, postId);
-            String identifier = (userId != null) ? userId.toString() : "anonymous";
-
-            // 중복 조회 방지 (Set 활용)
-            Boolean alreadyViewed = redisTemplate.opsForSet().isMember(Objects.requireNonNull(viewedKey),
-                    Objects.requireNonNull(identifier));
-            if (Boolean.FALSE.equals(alreadyViewed)) {
-                redisTemplate.opsForSet().add(Objects.requireNonNull(viewedKey), Objects.requireNonNull(identifier));
-                // 하루 동안 유지 (중복 방지 세션)
-                redisTemplate.expire(Objects.requireNonNull(viewedKey), Objects.requireNonNull(Duration.ofDays(1)));
-
-                String viewKey = String.format(VIEW_COUNT_KEY, postId);
-                redisTemplate.opsForValue().increment(Objects.requireNonNull(viewKey));
-
-                // 동기화 대상 목록에 추가
-                redisTemplate.opsForSet().add(DIRTY_POSTS_KEY, Objects.requireNonNull(postId.toString()));
+            List<String> keys = new ArrayList<>(viewersByPost.size() * 2 + 1);
+            List<String> args = new ArrayList<>();
+            args.add(dedupeMode == ViewerDedupeMode.HLL ? "hll" : "set");
+            args.add(String.valueOf(Math.max(1L, viewerTtl.toSeconds())));
+            args.add(String.valueOf(viewersByPost.size()));
+            for (Map.Entry<Long, List<String>> entry : viewersByPost) {
+                Long postId = entry.getKey();
+                keys.add(dedupeMode == ViewerDedupeMode.HLL
+                        ? String.format(VIEWED_USERS_HLL_KEY, postId)
+                        : String.format(VIEWED_USERS_KEY, postId));
+                keys.add(String.format(VIEW_COUNT_KEY, postId));
+                args.add(dirtyPostMember(postId));
+                args.add(String.valueOf(entry.getValue().size()));
+                args.addAll(dedupeMode == ViewerDedupeMode.HLL
+                        ? entry.getValue()
+                        : entry.getValue().stream().map(this::serializedViewer).toList());
             }
+            keys.add(DIRTY_POSTS_KEY);
+
+            Long applied = redisTemplate.execute(
+                    APPLY_VIEWS_SCRIPT,
+                    SCRIPT_STRING_SERIALIZER,
+                    SCRIPT_LONG_SERIALIZER,
+                    keys,
+                    args.toArray());
+            return applied != null ? applied : 0L;
         } catch (Exception e) {
-            log.warn("Redis error in incrementViewCount: {}", e.getMessage());
+            log.warn("Redis error in applyBufferedViews: {}", e.getMessage());
+            return -1L;
+        }
+    }
+
+    /**
+     * 기존 Set 멤버(템플릿 값 직렬화)와 같은 형식을 유지해 스크립트로 쓴 멤버도 그대로 조회/삭제되게 한다.
+     */
+    private String dirtyPostMember(Long postId) {
+        return serializedViewer(postId.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String serializedViewer(String value) {
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        if (serializer == null) {
+            return value;
         }
+        byte[] bytes = serializer.serialize(value);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : value;
     }
 
     /**
@@ -105,17 +191,99 @@ public class RedisPostService {
     }
 
     /**
-     * 동기화 완료 후 Redis 데이터 정리 및 델타 차감
+     * chunk의 조회수 델타를 읽는 동시에 0으로 돌리고 dirty 표시를 지운다 (Lua 스크립트 한 번).
+     * 이후 들어온 조회는 키와 dirty 표시를 새로 만들므로 다음 동기화에서 반영된다.
+     * Redis 오류는 그대로 던져 호출 측이 chunk를 건너뛰게 한다 (dirty 표시와 델타는 남는다).
+     *
+     * @return 델타가 있는 게시글만 담은 게시글 ID → 델타
      */
-    public void clearDirtyPost(Long postId, int delta) {
+    public Map<Long, Integer> drainViewDeltas(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> keys = new ArrayList<>(postIds.size() + 1);
+        List<String> args = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            keys.add(String.format(VIEW_COUNT_KEY, postId));
+            args.add(dirtyPostMember(postId));
+        }
+        keys.add(DIRTY_POSTS_KEY);
+
+        List<?> values = redisTemplate.execute(
+                DRAIN_VIEWS_SCRIPT,
+                SCRIPT_STRING_SERIALIZER,
+                SCRIPT_LONG_SERIALIZER,
+                keys,
+                args.toArray());
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        if (values == null) {
+            return deltas;
+        }
+        for (int i = 0; i < postIds.size() && i < values.size(); i++) {
+            if (values.get(i) instanceof Number delta && delta.intValue() > 0) {
+                deltas.put(postIds.get(i), delta.intValue());
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * DB 반영에 실패한 chunk의 델타를 되돌리고 다시 dirty로 표시한다 (pipeline 한 번).
+     */
+    public void restoreViewDeltas(Map<Long, Integer> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
         try {
-            redisTemplate.opsForSet().remove(DIRTY_POSTS_KEY, postId.toString());
-            // 반영된 만큼 차감
-            String key = String.format(VIEW_COUNT_KEY, postId);
-            redisTemplate.opsForValue().increment(Objects.requireNonNull(key), -delta);
-            redisTemplate.expire(Objects.requireNonNull(key), Objects.requireNonNull(Duration.ofHours(6)));
+            redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings({ "rawtypes", "unchecked" })
+                public Object execute(RedisOperations operations) {
+                    deltas.forEach((postId, delta) -> {
+                        operations.opsForValue().increment(String.format(VIEW_COUNT_KEY, postId), delta);
+                        operations.opsForSet().add(DIRTY_POSTS_KEY, postId.toString());
+                    });
+                    return null;
+                }
+            });
         } catch (Exception e) {
-            log.warn("Redis error in clearDirtyPost: {}", e.getMessage());
+            log.error("Redis error in restoreViewDeltas, lost view deltas={}: {}", deltas, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 게시글의 HOT 상태와 알고리즘별 점수를 pipeline 한 번으로 반영한다.
+     */
+    public void applyHotScores(Collection<HotScoreUpdate> updates) {
+        if (updates == null || updates.isEmpty()) {
+            return;
+        }
+        String timeDecayKey = resolveHotListKey(PopularFeedAlgorithm.TIME_DECAY);
+        String engagementKey = resolveHotListKey(PopularFeedAlgorithm.ENGAGEMENT_RATE);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings({ "rawtypes", "unchecked" })
+                public Object execute(RedisOperations operations) {
+                    for (HotScoreUpdate update : updates) {
+                        String member = update.postId().toString();
+                        operations.opsForValue().set(
+                                String.format(HOT_STATUS_KEY, update.postId()),
+                                update.hotEligible(),
+                                Duration.ofMinutes(10));
+                        if (update.hotEligible()) {
+                            operations.opsForZSet().add(timeDecayKey, member, update.timeDecayScore());
+                            operations.opsForZSet().add(engagementKey, member, update.engagementRateScore());
+                        } else {
+                            operations.opsForZSet().remove(timeDecayKey, member);
+                            operations.opsForZSet().remove(engagementKey, member);
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in applyHotScores: {}", e.getMessage());
         }
     }
 
@@ -345,6 +513,13 @@ public class RedisPostService {
         return null;
     }
 
+    public record HotScoreUpdate(
+            Long postId,
+            boolean hotEligible,
+            double timeDecayScore,
+            double engagementRateScore) {
+    }
+
     public record FeedRedisStats(Map<Long, Integer> viewCounts, Map<Long, Boolean> hotStatuses) {
         private static FeedRedisStats empty() {
             return new FeedRedisStats(Collections.emptyMap(), Collections.emptyMap());
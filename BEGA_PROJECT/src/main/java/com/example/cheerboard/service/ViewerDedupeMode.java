@@ -0,0 +1,10 @@
+package com.example.cheerboard.service;
+
+/**
+ * 게시글 조회자 중복 제거 저장 방식.
+ * SET은 정확하지만 조회자 수만큼 메모리가 늘고, HLL은 게시글당 최대 12KB로 고정되는 대신 약 1% 오차가 있다.
+ */
+public enum ViewerDedupeMode {
+    SET,
+    HLL
+}
@@ -7,12 +7,14 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import jakarta.annotation.PreDestroy;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -23,13 +25,19 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.scheduling.JobScheduler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.Cache;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -54,7 +62,10 @@ import com.example.auth.service.PublicVisibilityVerifier;
 import com.example.common.exception.BadRequestBusinessException;
 import com.example.common.exception.InternalServerBusinessException;
 import com.example.common.exception.NotFoundBusinessException;
+import com.example.media.entity.MediaDomain;
+import com.example.media.entity.MediaVariant;
 import com.example.media.service.MediaObjectKeyGuard;
+import com.example.media.service.MediaVariantService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -64,6 +75,7 @@ import reactor.core.publisher.Mono;
  * 이미지 업로드/삭제/조회 서비스
  * - 보상 트랜잭션: 스토리지 업로드 성공 -> DB 실패 시 스토리지 롤백
  * - 썸네일 단일성: 게시글당 1개만 허용
+ * - 업로드는 메타데이터만 걷어낸 원본을 PUT 한 번으로 저장하고, 너비별 파생본은 커밋 후 JobRunr 작업으로 만든다
  */
 @Service
 @RequiredArgsConstructor
@@ -87,10 +99,13 @@ public class ImageService {
     private final PermissionValidator permissionValidator;
     private final CacheManager cacheManager;
     private final StringRedisTemplate stringRedisTemplate;
-    private final com.example.common.image.ImageUtil imageUtil;
     private final com.example.common.image.ImageOptimizationMetricsService metricsService;
     private final PublicVisibilityVerifier publicVisibilityVerifier;
+    private final com.example.common.image.ImageUtil imageUtil;
     private final MediaObjectKeyGuard mediaObjectKeyGuard;
+    private final MediaVariantService mediaVariantService;
+    private final SignedUrlService signedUrlService;
+    private final ObjectProvider<JobScheduler> jobSchedulerProvider;
     private volatile ExecutorService imageUploadExecutor;
     private volatile MeterRegistry imageUploadMeterRegistry = Metrics.globalRegistry;
     private volatile boolean imageUploadExecutorMetricsRegistered;
@@ -144,39 +159,15 @@ public class ImageService {
 
         List<PostImageDto> uploadedImages = new ArrayList<>();
 
-        // Async Result Helper
-        record UploadResult(String path, com.example.common.image.ImageUtil.ProcessedImage info) {
-        }
-
-        // 1. Parallel Process & Upload
-        List<CompletableFuture<UploadResult>> futures = files.stream()
+        // 1. Parallel Upload (메타데이터를 걷어낸 원본 PUT 한 번, 리사이즈/인코딩은 파생본 작업에서 처리)
+        List<CompletableFuture<StoredUpload>> futures = files.stream()
                 .map(file -> CompletableFuture.supplyAsync(() -> {
                     try {
-                        // 1. 서버 사이드 이미지 압축 및 WebP 변환
-                        var processed = imageUtil.process(file, "cheer_post");
-                        log.debug("이미지 처리 완료: 원본={}bytes -> 처리후={}bytes ({})",
-                                file.getSize(), processed.getSize(), processed.getExtension());
-
-                        // 스토리지 경로 생성
-                        String storagePath = generateStoragePath("posts", postId, processed.getExtension());
-
-                        // 2. 스토리지 업로드 (Blocking IO in Async Thread)
-                        log.debug("Parallel Upload Start: path={}", storagePath);
-
-                        // StorageStrategy.uploadBytes returns Mono<String> (path)
-                        String uploadedPath = storageStrategy.uploadBytes(
-                                processed.getBytes(),
-                                processed.getContentType(),
-                                config.getCheerBucket(),
-                                storagePath)
-                                .block();
-
-                        if (uploadedPath == null) {
-                            throw new RuntimeException("스토리지 업로드 결과가 null입니다.");
-                        }
-
-                        log.debug("Parallel Upload Success: path={}", uploadedPath);
-                        return new UploadResult(uploadedPath, processed);
+                        log.debug("Parallel Upload Start: file={}", file.getOriginalFilename());
+                        StoredUpload uploaded = storeUpload(file, config.getCheerBucket(),
+                                extension -> generateStoragePath("posts", postId, extension), "cheer_post");
+                        log.debug("Parallel Upload Success: path={}", uploaded.path());
+                        return uploaded;
                     } catch (Exception e) {
                         throw new RuntimeException("Async Upload Failed: " + file.getOriginalFilename(), e);
                     }
@@ -199,15 +190,15 @@ public class ImageService {
         }
 
         // 3. DB Save (Single Batch Transaction)
-        List<UploadResult> results = futures.stream().map(CompletableFuture::join).toList();
+        List<StoredUpload> results = futures.stream().map(CompletableFuture::join).toList();
 
         try {
-            for (UploadResult res : results) {
+            for (StoredUpload res : results) {
                 PostImage image = PostImage.builder()
                         .post(post)
                         .storagePath(res.path())
-                        .mimeType(res.info().getContentType())
-                        .bytes(res.info().getSize())
+                        .mimeType(res.contentType())
+                        .bytes(res.size())
                         .isThumbnail(false)
                         .build();
 
@@ -223,14 +214,173 @@ public class ImageService {
                         generateSignedUrl(image.getStoragePath())));
             }
         } catch (RuntimeException e) {
-            compensateUploadFailure(results.stream().map(UploadResult::path).toList());
+            compensateUploadFailure(results.stream().map(StoredUpload::path).toList());
             throw new InternalServerBusinessException("POST_IMAGE_UPLOAD_FAILED", "이미지 업로드 중 오류가 발생했습니다.");
         }
 
+        // 4. 커밋 후 파생본 작업 등록 (롤백되면 등록하지 않음)
+        Long ownerUserId = post.getAuthor().getId();
+        for (StoredUpload res : results) {
+            if (res.deriveVariants()) {
+                afterCommit(() -> enqueuePostImageVariants(postId, ownerUserId, res.path()));
+            }
+        }
+
         log.info("이미지 업로드 완료: postId={}, 성공 {}개", postId, uploadedImages.size());
         return uploadedImages;
     }
 
+    /**
+     * 게시글 이미지 파생본 생성 (JobRunr)
+     * public이어야 JobRunr가 호출 가능. 실패하면 JobRunr가 재시도하고, 그동안 조회는 원본으로 응답한다.
+     */
+    @Job(name = "Generate post image variants %2")
+    public void generatePostImageVariants(Long postId, Long ownerUserId, String storagePath) {
+        if (mediaVariantService.generateVariants(MediaDomain.CHEER, ownerUserId, storagePath)) {
+            // 원본 URL로 채워진 목록 캐시를 비워 다음 조회부터 파생본을 쓰게 한다.
+            evictPostImageCache(postId);
+        }
+    }
+
+    /**
+     * 다이어리 이미지 파생본 생성 (JobRunr)
+     */
+    @Job(name = "Generate diary image variants %1")
+    public void generateDiaryImageVariants(Long ownerUserId, String storagePath) {
+        mediaVariantService.generateVariants(MediaDomain.DIARY, ownerUserId, storagePath);
+    }
+
+    private void enqueuePostImageVariants(Long postId, Long ownerUserId, String storagePath) {
+        JobScheduler jobScheduler = jobSchedulerProvider.getIfAvailable();
+        if (jobScheduler == null) {
+            log.warn("JobScheduler unavailable. 파생본 없이 원본으로 제공합니다: path={}", storagePath);
+            return;
+        }
+        try {
+            jobScheduler.enqueue(() -> generatePostImageVariants(postId, ownerUserId, storagePath));
+        } catch (RuntimeException e) {
+            log.warn("게시글 이미지 파생본 작업 등록 실패. 원본으로 제공합니다: path={}", storagePath, e);
+        }
+    }
+
+    private void enqueueDiaryImageVariants(Long ownerUserId, String storagePath) {
+        JobScheduler jobScheduler = jobSchedulerProvider.getIfAvailable();
+        if (jobScheduler == null) {
+            log.warn("JobScheduler unavailable. 파생본 없이 원본으로 제공합니다: path={}", storagePath);
+            return;
+        }
+        try {
+            jobScheduler.enqueue(() -> generateDiaryImageVariants(ownerUserId, storagePath));
+        } catch (RuntimeException e) {
+            log.warn("다이어리 이미지 파생본 작업 등록 실패. 원본으로 제공합니다: path={}", storagePath, e);
+        }
+    }
+
+    /**
+     * 업로드 원본을 PUT 한 번으로 저장한다.
+     * 파생본을 만들 수 있는 형식은 디코딩 없이 메타데이터(EXIF 위치 정보 등)만 걷어낸 바이트를 올리고, 파생본 작업도 이 key를 입력으로 쓴다.
+     * GIF처럼 파생본을 만들 수 없는 형식은 원본을 그대로 저장한다.
+     */
+    private StoredUpload storeUpload(MultipartFile file, String bucket, UnaryOperator<String> pathForExtension,
+            String source) throws IOException {
+        if (!imageUtil.canDeriveVariants(file.getContentType())) {
+            String uploadedPath = requireUploadedPath(storageStrategy
+                    .upload(file, bucket, pathForExtension.apply(originalExtension(file))).block());
+            return new StoredUpload(uploadedPath, false, file.getContentType(), file.getSize());
+        }
+
+        com.example.common.image.ImageUtil.ProcessedImage stripped = imageUtil.stripMetadata(file, source);
+        log.debug("업로드 이미지 메타데이터 정리 완료: 원본={}bytes -> 처리후={}bytes ({})",
+                file.getSize(), stripped.getSize(), stripped.getExtension());
+        String uploadedPath = requireUploadedPath(storageStrategy.uploadBytes(
+                stripped.getBytes(),
+                stripped.getContentType(),
+                bucket,
+                pathForExtension.apply(stripped.getExtension())).block());
+        return new StoredUpload(uploadedPath, true, stripped.getContentType(), stripped.getSize());
+    }
+
+    private String requireUploadedPath(String uploadedPath) {
+        if (uploadedPath == null) {
+            throw new IllegalStateException("스토리지 업로드 결과가 null입니다.");
+        }
+        return uploadedPath;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 실행한다.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private record StoredUpload(String path, boolean deriveVariants, String contentType, long size) {
+    }
+
+    /**
+     * 호출 스레드의 트랜잭션에 묶어 두는 커밋 후 작업.
+     * Mono로 돌려주는 업로드는 구독 시점이 트랜잭션 커밋 전일 수도, 후일 수도 있어 afterCommit 등록을 구독 스레드에 맡길 수 없다.
+     * 호출 시점에 동기화를 등록해 두고, 커밋 전에 넘어온 작업은 커밋 때, 커밋 후에 넘어온 작업은 바로 실행한다. 롤백되면 버린다.
+     */
+    private static final class CommitBoundActions implements TransactionSynchronization {
+
+        private final List<Runnable> pending = new ArrayList<>();
+        private Integer completionStatus;
+
+        static CommitBoundActions bindToCurrentTransaction() {
+            CommitBoundActions actions = new CommitBoundActions();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(actions);
+            } else {
+                actions.completionStatus = STATUS_COMMITTED;
+            }
+            return actions;
+        }
+
+        void submit(Runnable action) {
+            synchronized (this) {
+                if (completionStatus == null) {
+                    pending.add(action);
+                    return;
+                }
+                if (completionStatus != STATUS_COMMITTED) {
+                    return;
+                }
+            }
+            action.run();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            List<Runnable> ready;
+            synchronized (this) {
+                completionStatus = status;
+                ready = status == STATUS_COMMITTED ? List.copyOf(pending) : List.of();
+                pending.clear();
+            }
+            ready.forEach(Runnable::run);
+        }
+    }
+
+    private String originalExtension(MultipartFile file) {
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        if (!StringUtils.hasText(extension)) {
+            String contentType = file.getContentType();
+            extension = contentType != null && contentType.startsWith("image/") ? contentType.substring(6) : "";
+        }
+        extension = extension.replaceAll("[^a-zA-Z0-9]", "").toLowerCase(Locale.ROOT);
+        return extension.isEmpty() ? "jpg" : extension;
+    }
+
     /**
      * 게시글 이미지 목록 조회
      */
@@ -244,6 +394,8 @@ public class ImageService {
         CheerPost post = requireAccessiblePost(postId);
         publicVisibilityVerifier.validate(post.getAuthor(), viewerId, "게시글");
         List<PostImage> images = postImageRepo.findByPostIdOrderByCreatedAtAsc(postId);
+        Map<String, String> signedUrls = signedUrlService.signAll(
+                config.getCheerBucket(), storagePaths(images), "post_images");
 
         return images.stream()
                 .map(image -> new PostImageDto(
@@ -252,7 +404,7 @@ public class ImageService {
                         image.getMimeType(),
                         image.getBytes(),
                         image.getIsThumbnail(),
-                        generateSignedUrl(image.getStoragePath())))
+                        signedUrls.get(image.getStoragePath())))
                 .toList();
     }
 
@@ -277,6 +429,7 @@ public class ImageService {
     /**
      * 게시글의 이미지 서명 URL 목록 조회 (DTO 변환용)
      * 캐싱: postId 기준으로 Redis 문자열 JSON 캐시에 저장
+     * 상세 화면용이라 FULL 파생본이 있으면 그것을, 없으면 원본을 서명한다.
      */
     @Transactional(readOnly = true)
     public List<String> getPostImageUrls(Long postId) {
@@ -288,14 +441,17 @@ public class ImageService {
         log.debug("이미지 URL 조회 시작: postId={}", postId);
         List<PostImage> images = postImageRepo.findByPostIdOrderByCreatedAtAsc(postId);
         log.debug("DB에서 조회된 이미지 수: {}", images.size());
+        Map<String, String> variantKeys = mediaVariantService.resolveVariantKeys(storagePaths(images), MediaVariant.FULL);
+        List<String> servedPaths = images.stream()
+                .map(PostImage::getStoragePath)
+                .filter(StringUtils::hasText)
+                .map(path -> variantKeys.getOrDefault(path, path))
+                .toList();
+        Map<String, String> signedUrls = signedUrlService.signAll(config.getCheerBucket(), servedPaths, "post_detail");
 
-        List<String> urls = images.stream()
-                .map(image -> {
-                    String url = generateSignedUrl(image.getStoragePath());
-                    log.debug("이미지 URL 생성: path={}, url={}", image.getStoragePath(), url != null ? "성공" : "실패");
-                    return url;
-                })
-                .filter(url -> url != null && !url.isEmpty())
+        List<String> urls = servedPaths.stream()
+                .map(signedUrls::get)
+                .filter(StringUtils::hasText)
                 .toList();
 
         cachePostImageUrls(postId, urls);
@@ -305,8 +461,9 @@ public class ImageService {
 
     /**
      * 여러 게시글의 이미지 URL 목록 조회 (목록 페이지용)
-     * - 캐시에 존재하는 경우 재사용
-     * - 없는 경우에만 일괄 조회 후 캐싱
+     * - 게시글별 URL 캐시는 MGET 한 번으로 확인하고, 없는 게시글만 일괄 조회 후 캐싱
+     * - 서명은 SignedUrlService에서 한 번에 처리한다 (executor 전환 없음)
+     * - 피드 카드 크기에 맞는 FEED 파생본을 우선 사용하고, 아직 없으면 원본을 사용
      */
     @Transactional(readOnly = true)
     public Map<Long, List<String>> getPostImageUrlsByPostIds(List<Long> postIds) {
@@ -315,47 +472,48 @@ public class ImageService {
             return result;
         }
 
-        List<Long> missingPostIds = new ArrayList<>();
-
-        for (Long postId : postIds) {
-            if (postId == null) {
-                continue;
-            }
+        List<Long> requestedPostIds = postIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (requestedPostIds.isEmpty()) {
+            return result;
+        }
 
-            List<String> cached = getCachedPostImageUrls(postId);
+        Map<Long, List<String>> cachedUrls = getCachedPostImageUrls(requestedPostIds);
+        List<Long> missingPostIds = new ArrayList<>();
+        for (Long postId : requestedPostIds) {
+            List<String> cached = cachedUrls.get(postId);
             if (cached != null) {
                 result.put(postId, cached);
             } else {
                 missingPostIds.add(postId);
             }
         }
+        log.debug("게시글 이미지 URL 캐시: requested={}, hits={}", requestedPostIds.size(),
+                requestedPostIds.size() - missingPostIds.size());
 
         if (missingPostIds.isEmpty()) {
             return result;
         }
 
-        List<PostImage> images = postImageRepo.findByPostIdInOrderByPostIdAscCreatedAtAsc(missingPostIds);
-        Map<Long, List<String>> groupedUrls = new HashMap<>();
-        record SignedUrlResult(Long postId, String url) {
-        }
-
-        List<CompletableFuture<SignedUrlResult>> signedUrlFutures = images.stream()
+        List<PostImage> images = postImageRepo.findByPostIdInOrderByPostIdAscCreatedAtAsc(missingPostIds).stream()
                 .filter(image -> image != null && image.getPost() != null && image.getPost().getId() != null)
-                .map(image -> CompletableFuture.supplyAsync(() -> {
-                    Long postId = image.getPost().getId();
-                    String url = generateSignedUrl(image.getStoragePath());
-                    if (url != null && !url.isEmpty()) {
-                        return new SignedUrlResult(postId, url);
-                    }
-                    return null;
-                }, imageUploadExecutor()))
+                .filter(image -> StringUtils.hasText(image.getStoragePath()))
                 .toList();
+        Map<String, String> variantKeys = mediaVariantService.resolveVariantKeys(storagePaths(images), MediaVariant.FEED);
+        Map<String, String> signedUrls = signedUrlService.signAll(
+                config.getCheerBucket(),
+                images.stream()
+                        .map(image -> variantKeys.getOrDefault(image.getStoragePath(), image.getStoragePath()))
+                        .toList(),
+                "post_feed");
 
-        for (CompletableFuture<SignedUrlResult> signedUrlFuture : signedUrlFutures) {
-            SignedUrlResult signedUrl = signedUrlFuture.join();
-            if (signedUrl != null) {
-                groupedUrls.computeIfAbsent(signedUrl.postId(), key -> new ArrayList<>())
-                        .add(signedUrl.url());
+        Map<Long, List<String>> groupedUrls = new HashMap<>();
+        for (PostImage image : images) {
+            String url = signedUrls.get(variantKeys.getOrDefault(image.getStoragePath(), image.getStoragePath()));
+            if (StringUtils.hasText(url)) {
+                groupedUrls.computeIfAbsent(image.getPost().getId(), key -> new ArrayList<>()).add(url);
             }
         }
 
@@ -368,6 +526,14 @@ public class ImageService {
         return result;
     }
 
+    private List<String> storagePaths(List<PostImage> images) {
+        return images.stream()
+                .filter(Objects::nonNull)
+                .map(PostImage::getStoragePath)
+                .filter(StringUtils::hasText)
+                .toList();
+    }
+
     private List<String> getCachedPostImageUrls(Long postId) {
         if (postId == null) {
             return null;
@@ -381,20 +547,55 @@ public class ImageService {
             }
             return parseCachedPostImageUrls(rawValue);
         } catch (RuntimeException e) {
-            if (isRecoverableCacheReadFailure(e)) {
-                log.warn(
-                        "게시글 이미지 URL 캐시 조회 실패. 캐시 엔트리를 비우고 DB fallback으로 전환합니다: postId={}, reason={}",
-                        postId,
-                        summarizeCacheReadFailure(e));
-            } else {
-                log.warn("게시글 이미지 URL 캐시 조회 실패. 캐시 엔트리를 비우고 DB fallback으로 전환합니다: postId={}",
-                        postId, e);
-            }
-            safeDeletePostImageCache(cacheKey, postId);
+            handleCachedPostImageUrlsReadFailure(postId, cacheKey, e);
             return null;
         }
     }
 
+    /**
+     * 게시글 이미지 URL 캐시 일괄 조회 (Redis MGET 한 번). 손상된 엔트리만 비우고 나머지는 그대로 사용한다.
+     */
+    private Map<Long, List<String>> getCachedPostImageUrls(List<Long> postIds) {
+        List<String> cacheKeys = postIds.stream()
+                .map(this::getPostImageCacheKey)
+                .toList();
+        List<String> rawValues;
+        try {
+            rawValues = stringRedisTemplate.opsForValue().multiGet(cacheKeys);
+        } catch (RuntimeException e) {
+            log.warn("게시글 이미지 URL 캐시 일괄 조회 실패. DB fallback으로 전환합니다: posts={}, reason={}",
+                    postIds.size(), summarizeCacheReadFailure(e));
+            return Collections.emptyMap();
+        }
+
+        Map<Long, List<String>> cached = new HashMap<>();
+        for (int i = 0; rawValues != null && i < postIds.size() && i < rawValues.size(); i++) {
+            String rawValue = rawValues.get(i);
+            if (rawValue == null) {
+                continue;
+            }
+            try {
+                cached.put(postIds.get(i), parseCachedPostImageUrls(rawValue));
+            } catch (RuntimeException e) {
+                handleCachedPostImageUrlsReadFailure(postIds.get(i), cacheKeys.get(i), e);
+            }
+        }
+        return cached;
+    }
+
+    private void handleCachedPostImageUrlsReadFailure(Long postId, String cacheKey, RuntimeException e) {
+        if (isRecoverableCacheReadFailure(e)) {
+            log.warn(
+                    "게시글 이미지 URL 캐시 조회 실패. 캐시 엔트리를 비우고 DB fallback으로 전환합니다: postId={}, reason={}",
+                    postId,
+                    summarizeCacheReadFailure(e));
+        } else {
+            log.warn("게시글 이미지 URL 캐시 조회 실패. 캐시 엔트리를 비우고 DB fallback으로 전환합니다: postId={}",
+                    postId, e);
+        }
+        safeDeletePostImageCache(cacheKey, postId);
+    }
+
     private boolean isRecoverableCacheReadFailure(RuntimeException exception) {
         Throwable current = exception;
         while (current != null) {
@@ -553,6 +754,8 @@ public class ImageService {
             log.error("스토리지 삭제 실패 (DB는 이미 삭제됨): path={}", image.getStoragePath(), e);
             // DB는 이미 삭제되었으므로 스토리지 삭제 실패는 로그만 남김
         }
+        mediaVariantService.deleteVariants(MediaDomain.CHEER, List.of(image.getStoragePath()))
+                .forEach(this::evictSignedUrlCache);
 
         // 3. 이미지 URL 캐시 무효화
         evictPostImageCache(postId);
@@ -600,6 +803,8 @@ public class ImageService {
                 allSuccess = false;
             }
         }
+        mediaVariantService.deleteVariants(MediaDomain.CHEER, storagePaths(images))
+                .forEach(this::evictSignedUrlCache);
 
         // 게시글 이미지 목록 캐시 무효화
         evictPostImageCache(postId);
@@ -695,19 +900,12 @@ public class ImageService {
             }
             log.info("Signed URL cache miss: path={}", storagePath);
         }
-        try {
-            // Storage strategy handles provider-specific URL generation.
-            String url = storageStrategy.getUrl(config.getCheerBucket(), storagePath,
-                    config.getSignedUrlTtlSeconds()).block();
-
-            if (cache != null && url != null && !url.isBlank() && storagePath != null) {
-                cacheSignedUrl(cache, storagePath, url);
-            }
-            return url;
-        } catch (Exception e) {
-            log.error("URL generation failed for path: {}", storagePath, e);
-            return null;
+        // 시간 버킷 단위로 인스턴스 간에 같은 URL을 공유한다.
+        String url = signedUrlService.sign(config.getCheerBucket(), storagePath, "post_image");
+        if (cache != null && url != null && !url.isBlank() && storagePath != null) {
+            cacheSignedUrl(cache, storagePath, url);
         }
+        return url;
     }
 
     private String getCachedSignedUrl(Cache cache, String storagePath) {
@@ -812,41 +1010,35 @@ public class ImageService {
             return Mono.error(e);
         }
 
-        // 1. Process and Upload in Parallel using CompletableFuture (matching
-        // uploadPostImages style for consistency)
+        // 파생본 작업은 구독 스레드가 아니라 이 호출의 트랜잭션 결과에 맞춰 등록한다.
+        CommitBoundActions variantJobs = CommitBoundActions.bindToCurrentTransaction();
+
+        // 1. Upload in Parallel using CompletableFuture (matching uploadPostImages style for consistency)
+        // 메타데이터를 걷어낸 원본 PUT 한 번으로 끝내고, 압축/리사이즈는 커밋 후 파생본 작업에서 처리
         return Mono.fromCallable(() -> {
-            List<CompletableFuture<String>> futures = files.stream()
+            List<CompletableFuture<StoredUpload>> futures = files.stream()
                     .map(file -> CompletableFuture.supplyAsync(() -> {
                         try {
-                            // 이미지 압축 및 WebP 변환
-                            var processed = imageUtil.process(file, "diary");
-
-                            String fileName = UUID.randomUUID() + "." + processed.getExtension();
-                            String storagePath = String.format("diary/%d/%d/%s",
-                                    Objects.requireNonNull(userId).longValue(),
-                                    Objects.requireNonNull(diaryId).longValue(),
-                                    fileName);
-
-                            log.debug("다이어리 이미지 처리 완료: {}, {}bytes", storagePath, processed.getSize());
-
-                            // 스토리지 업로드
-                            String uploadedPath = storageStrategy.uploadBytes(
-                                    processed.getBytes(),
-                                    processed.getContentType(),
-                                    config.getDiaryBucket(),
-                                    storagePath)
-                                    .block();
-
-                            return uploadedPath;
+                            StoredUpload uploaded = storeUpload(file, config.getDiaryBucket(),
+                                    extension -> String.format("diary/%d/%d/%s.%s",
+                                            Objects.requireNonNull(userId).longValue(),
+                                            Objects.requireNonNull(diaryId).longValue(),
+                                            UUID.randomUUID(),
+                                            extension),
+                                    "diary");
+                            log.debug("다이어리 이미지 업로드 완료: {}, {}bytes", uploaded.path(), uploaded.size());
+
+                            return uploaded;
                         } catch (Exception e) {
                             throw new RuntimeException("다이어리 이미지 업로드 실패: " + file.getOriginalFilename(), e);
                         }
                     }, imageUploadExecutor()))
                     .toList();
 
+            List<StoredUpload> uploads;
             try {
                 CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-                return futures.stream()
+                uploads = futures.stream()
                         .map(CompletableFuture::join)
                         .filter(Objects::nonNull)
                         .toList();
@@ -854,6 +1046,13 @@ public class ImageService {
                 log.error("다이어리 병렬 업로드 중 오류 발생", e);
                 throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다.", e);
             }
+
+            for (StoredUpload upload : uploads) {
+                if (upload.deriveVariants()) {
+                    variantJobs.submit(() -> enqueueDiaryImageVariants(userId, upload.path()));
+                }
+            }
+            return uploads.stream().map(StoredUpload::path).toList();
         });
     }
 
@@ -945,11 +1144,13 @@ public class ImageService {
             return Mono.empty();
         }
 
-        List<Mono<Void>> deleteMonos = storagePaths.stream()
+        List<String> deletablePaths = storagePaths.stream()
                 .map(this::normalizeDiaryStoragePath)
                 .filter(StringUtils::hasText)
                 .filter(path -> !isHttpUrl(path))
                 .filter(path -> canReadDiaryKey(path, ownerUserId, diaryId))
+                .toList();
+        List<Mono<Void>> deleteMonos = deletablePaths.stream()
                 .map(path -> storageStrategy.delete(config.getDiaryBucket(), path)
                         .doOnSuccess(v -> log.info("다이어리 이미지 삭제 성공: path={}", path))
                         .doOnError(err -> log.error("다이어리 이미지 삭제 실패: path={}, error={}",
@@ -957,6 +1158,7 @@ public class ImageService {
                 .toList();
 
         return Mono.when(deleteMonos)
+                .then(Mono.<Void>fromRunnable(() -> mediaVariantService.deleteVariants(MediaDomain.DIARY, deletablePaths)))
                 .doOnSuccess(v -> log.info("다이어리 이미지 삭제 완료: 총 {}개", storagePaths.size()))
                 .doOnError(err -> log.error("다이어리 이미지 삭제 중 오류 발생: error={}", err.getMessage()));
     }
@@ -982,8 +1184,13 @@ public class ImageService {
             return Mono.just(List.of());
         }
 
+        // 상세 화면용이라 FULL 파생본이 있으면 그것을, 없으면 업로드 때 저장한 원본을 서명한다.
+        List<String> managedPaths = normalizeDiaryStoragePaths(storagePaths).stream()
+                .filter(path -> !isHttpUrl(path))
+                .toList();
+        Map<String, String> variantKeys = mediaVariantService.resolveVariantKeys(managedPaths, MediaVariant.FULL);
         List<Mono<String>> urlMonos = storagePaths.stream()
-                .map(path -> resolveDiarySignedUrl(path, ownerUserId, diaryId))
+                .map(path -> resolveDiarySignedUrl(path, ownerUserId, diaryId, variantKeys))
                 .toList();
 
         return Mono.zip(urlMonos, results -> {
@@ -1043,7 +1250,8 @@ public class ImageService {
         return normalized;
     }
 
-    private Mono<String> resolveDiarySignedUrl(String pathOrUrl, Long ownerUserId, Long diaryId) {
+    private Mono<String> resolveDiarySignedUrl(String pathOrUrl, Long ownerUserId, Long diaryId,
+            Map<String, String> variantKeys) {
         if (!StringUtils.hasText(pathOrUrl)) {
             return Mono.empty();
         }
@@ -1060,8 +1268,9 @@ public class ImageService {
             return Mono.empty();
         }
 
+        String signedPath = variantKeys.getOrDefault(normalizedPath, normalizedPath);
         return storageStrategy
-                .getUrl(Objects.requireNonNull(config.getDiaryBucket()), normalizedPath, config.getSignedUrlTtlSeconds())
+                .getUrl(Objects.requireNonNull(config.getDiaryBucket()), signedPath, config.getSignedUrlTtlSeconds())
                 .doOnError(err -> log.error("다이어리 이미지 URL 생성 실패: path={}, error={}",
                         normalizedPath, err.getMessage()))
                 .onErrorResume(err -> Mono.empty());
@@ -0,0 +1,235 @@
+package com.example.cheerboard.storage.service;
+
+import com.example.cheerboard.storage.config.StorageConfig;
+import com.example.cheerboard.storage.strategy.StorageStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * 이미지 서명 URL 발급
+ * - 만료 시각을 시간 버킷 경계에 맞추고, 버킷마다 처음 서명한 URL을 Redis에 공유한다.
+ *   같은 버킷 안에서는 어느 인스턴스가 응답해도 같은 object에 대해 같은 URL이 나가므로 브라우저/CDN 캐시가 유지된다.
+ * - 버킷 안 어느 시점에 받은 URL이든 최소 {@link StorageConfig#getSignedUrlTtlSeconds()} 동안 유효하다.
+ * - 캐시 조회는 MGET 한 번, 미스는 요청 스레드에서 바로 서명하고 SETNX pipeline 한 번으로 저장한다.
+ */
+@Slf4j
+@Service
+public class SignedUrlService {
+
+    static final String KEY_PREFIX = "signedUrl:v1:";
+    // SigV4 presigned URL 최대 유효 시간 (7일)
+    private static final long MAX_EXPIRY_SECONDS = Duration.ofDays(7).toSeconds();
+
+    private final StorageStrategy storageStrategy;
+    private final StorageConfig config;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long bucketSeconds;
+    private final Clock clock;
+
+    @Autowired
+    public SignedUrlService(
+            StorageStrategy storageStrategy,
+            StorageConfig config,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.signed-url-bucket:1h}") Duration bucket) {
+        this(storageStrategy, config, stringRedisTemplate, meterRegistry, bucket, Clock.systemUTC());
+    }
+
+    SignedUrlService(
+            StorageStrategy storageStrategy,
+            StorageConfig config,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            Duration bucket,
+            Clock clock) {
+        this.storageStrategy = storageStrategy;
+        this.config = config;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+        this.bucketSeconds = bucket == null || bucket.toSeconds() <= 0 ? Duration.ofHours(1).toSeconds() : bucket.toSeconds();
+        this.clock = clock == null ? Clock.systemUTC() : clock;
+    }
+
+    /**
+     * 단건 서명 URL. 실패하면 null.
+     */
+    public String sign(String bucket, String storagePath, String source) {
+        if (!StringUtils.hasText(storagePath)) {
+            return null;
+        }
+        return signAll(bucket, List.of(storagePath), source).get(storagePath);
+    }
+
+    /**
+     * 여러 object의 서명 URL을 한 번에 발급한다. 서명에 실패한 경로는 결과에 포함되지 않는다.
+     *
+     * @param source 요청 단위 지표 태그 (예: post_feed)
+     * @return 저장 경로 -> 서명 URL
+     */
+    public Map<String, String> signAll(String bucket, Collection<String> storagePaths, String source) {
+        if (storagePaths == null || storagePaths.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        for (String storagePath : storagePaths) {
+            if (StringUtils.hasText(storagePath)) {
+                paths.add(storagePath);
+            }
+        }
+        if (paths.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        long now = clock.instant().getEpochSecond();
+        long windowStart = now - Math.floorMod(now, bucketSeconds);
+        long windowEnd = windowStart + bucketSeconds;
+        List<String> pathList = new ArrayList<>(paths);
+        List<String> keys = pathList.stream()
+                .map(path -> cacheKey(bucket, windowStart, path))
+                .toList();
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        List<String> cachedValues = multiGet(keys);
+        Map<String, String> signedKeys = new LinkedHashMap<>();
+        Map<String, String> pathByKey = new LinkedHashMap<>();
+        int presignCalls = 0;
+        for (int i = 0; i < pathList.size(); i++) {
+            String path = pathList.get(i);
+            String cached = cachedValues == null || i >= cachedValues.size() ? null : cachedValues.get(i);
+            if (StringUtils.hasText(cached)) {
+                urls.put(path, cached);
+                continue;
+            }
+            presignCalls++;
+            String url = presign(bucket, path, windowEnd + config.getSignedUrlTtlSeconds() - now);
+            if (StringUtils.hasText(url)) {
+                urls.put(path, url);
+                signedKeys.put(keys.get(i), url);
+                pathByKey.put(keys.get(i), path);
+            }
+        }
+        // 다른 인스턴스가 먼저 저장했으면 그 URL을 따라가야 버킷 안 URL이 하나로 유지된다.
+        storeIfAbsent(signedKeys, Duration.ofSeconds(Math.max(1L, windowEnd - now)))
+                .forEach((key, winner) -> urls.put(pathByKey.get(key), winner));
+
+        recordBatch(source, pathList.size(), presignCalls);
+        return urls;
+    }
+
+    private String presign(String bucket, String storagePath, long expiresInSeconds) {
+        int expiresIn = (int) Math.min(expiresInSeconds, MAX_EXPIRY_SECONDS);
+        try {
+            // getUrl은 Mono.fromCallable이라 구독한 요청 스레드에서 바로 서명한다 (네트워크 호출 없음).
+            return storageStrategy.getUrl(bucket, storagePath, expiresIn).block();
+        } catch (Exception e) {
+            log.error("URL generation failed for path: {}", storagePath, e);
+            return null;
+        }
+    }
+
+    private List<String> multiGet(List<String> keys) {
+        try {
+            return stringRedisTemplate.opsForValue().multiGet(keys);
+        } catch (RuntimeException e) {
+            log.warn("Signed URL 캐시 일괄 조회 실패. 직접 서명으로 계속합니다: keys={}, reason={}", keys.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * SETNX pipeline으로 저장하고, 이미 값이 있던 key는 저장된 URL을 돌려준다.
+     */
+    private Map<String, String> storeIfAbsent(Map<String, String> signedKeys, Duration ttl) {
+        if (signedKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings({ "rawtypes", "unchecked" })
+                public Object execute(RedisOperations operations) {
+                    signedKeys.forEach((key, url) -> operations.opsForValue().setIfAbsent(key, url, ttl));
+                    return null;
+                }
+            });
+            List<String> lostKeys = new ArrayList<>();
+            int index = 0;
+            for (String key : signedKeys.keySet()) {
+                Object stored = results == null || index >= results.size() ? null : results.get(index);
+                if (Boolean.FALSE.equals(stored)) {
+                    lostKeys.add(key);
+                }
+                index++;
+            }
+            if (lostKeys.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            List<String> winners = stringRedisTemplate.opsForValue().multiGet(lostKeys);
+            Map<String, String> adopted = new LinkedHashMap<>();
+            for (int i = 0; winners != null && i < lostKeys.size() && i < winners.size(); i++) {
+                if (StringUtils.hasText(winners.get(i))) {
+                    adopted.put(lostKeys.get(i), winners.get(i));
+                }
+            }
+            return adopted;
+        } catch (RuntimeException e) {
+            log.warn("Signed URL 캐시 저장 실패. 응답은 계속 진행합니다: keys={}, reason={}", signedKeys.size(), e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private void recordBatch(String source, int requested, int presignCalls) {
+        String sourceTag = StringUtils.hasText(source) ? source : "unknown";
+        int hits = requested - presignCalls;
+        Counter.builder("image_signed_url_lookups_total")
+                .description("서명 URL 캐시 조회 건수")
+                .tag("source", sourceTag)
+                .tag("result", "hit")
+                .register(meterRegistry)
+                .increment(hits);
+        Counter.builder("image_signed_url_lookups_total")
+                .description("서명 URL 캐시 조회 건수")
+                .tag("source", sourceTag)
+                .tag("result", "miss")
+                .register(meterRegistry)
+                .increment(presignCalls);
+        DistributionSummary.builder("image_signed_url_presign_calls")
+                .description("요청당 presign 호출 수")
+                .tag("source", sourceTag)
+                .register(meterRegistry)
+                .record(presignCalls);
+        DistributionSummary.builder("image_signed_url_cache_hit_ratio")
+                .description("요청당 서명 URL 캐시 적중률")
+                .tag("source", sourceTag)
+                .register(meterRegistry)
+                .record((double) hits / requested);
+        log.debug("Signed URL batch: source={}, requested={}, cacheHits={}, presignCalls={}",
+                sourceTag, requested, hits, presignCalls);
+    }
+
+    private String cacheKey(String bucket, long windowStart, String storagePath) {
+        return KEY_PREFIX + bucket + ":" + windowStart + ":" + storagePath;
+    }
+}
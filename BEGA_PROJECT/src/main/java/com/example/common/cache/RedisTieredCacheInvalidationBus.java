@@ -0,0 +1,99 @@
+package com.example.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis pub/sub 기반 L1 무효화 전파.
+ * 메시지는 {@code nodeId \n cacheName \n key} 형식이며, 전체 무효화는 key 줄을 생략한다.
+ * 발행에 실패해도 다른 노드의 L1은 짧은 TTL 안에 만료되므로 경고만 남긴다.
+ * 구독은 별도 컨테이너를 만들지 않고 realtime Redis 리스너 컨테이너의 연결을 함께 쓴다.
+ */
+@Component
+@Slf4j
+public class RedisTieredCacheInvalidationBus implements TieredCacheInvalidationBus, MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisTieredCacheInvalidationBus(
+            StringRedisTemplate redisTemplate,
+            @Qualifier("realtimeRedisMessageListenerContainer")
+            ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+            @Value("${app.cache.tiered.invalidation-channel:bega:cache:l1-invalidation:v1}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    void subscribeChannel() {
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container == null) {
+            log.warn("event=tiered_cache_invalidation_unsubscribed reason=no_realtime_redis_listener_container");
+            return;
+        }
+        container.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        String payload = key == null
+                ? nodeId + SEPARATOR + cacheName
+                : nodeId + SEPARATOR + cacheName + SEPARATOR + key;
+        try {
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            log.warn("event=tiered_cache_invalidation_publish_failed cache={} key={} reason={}",
+                    cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String cacheName = parts[1];
+        String key = parts.length == 3 ? parts[2] : null;
+        for (BiConsumer<String, String> listener : listeners) {
+            try {
+                listener.accept(cacheName, key);
+            } catch (RuntimeException e) {
+                log.warn("event=tiered_cache_invalidation_apply_failed cache={} key={} reason={}",
+                        cacheName, key, e.getMessage());
+            }
+        }
+    }
+}
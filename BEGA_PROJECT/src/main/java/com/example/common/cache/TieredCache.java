@@ -0,0 +1,249 @@
+package com.example.common.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * L1(Caffeine) 앞단 + L2(Redis) 읽기 관통 캐시.
+ *
+ * 조회는 L1 → L2 순서로 수행하고, L2 적중 시 L1을 채운다.
+ * 쓰기/삭제는 L2에 먼저 반영한 뒤 L1을 비우고 다른 노드에 무효화를 전파한다.
+ * L1 키는 노드 간 무효화 메시지와 맞추기 위해 {@code String.valueOf(key)}로 정규화한다.
+ * L1은 기본적으로 값 객체를 그대로 공유하므로, 여기에 두는 캐시 값은 호출 측이 고치지 않아야 한다.
+ * 돌려받은 값을 고치는 캐시만 {@code valueSerializer}를 넘겨 L1에 직렬화 스냅샷을 두고
+ * 적중할 때마다 새 객체로 풀어 돌려준다.
+ */
+public class TieredCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final @Nullable RedisSerializer<Object> snapshotSerializer;
+    private final TieredCacheInvalidationBus invalidationBus;
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    public TieredCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            Cache remote,
+            TieredCacheInvalidationBus invalidationBus) {
+        this(name, local, remote, null, invalidationBus);
+    }
+
+    public TieredCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            Cache remote,
+            @Nullable RedisSerializer<Object> snapshotSerializer,
+            TieredCacheInvalidationBus invalidationBus) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.local = Objects.requireNonNull(local, "local must not be null");
+        this.remote = Objects.requireNonNull(remote, "remote must not be null");
+        this.snapshotSerializer = snapshotSerializer;
+        this.invalidationBus = Objects.requireNonNull(invalidationBus, "invalidationBus must not be null");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = lookup(key);
+        return value != null ? new SimpleValueWrapper(value) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Object value = lookup(key);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = readLocal(localKey);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        T value = remote.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (loaded.get()) {
+            remoteMisses.increment();
+            // L2가 비어 있었다면 다른 노드 L1에 남은 이전 값도 함께 정리한다.
+            invalidationBus.publish(name, localKey);
+        } else {
+            remoteHits.increment();
+        }
+        if (value != null) {
+            writeLocal(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        if (value != null) {
+            writeLocal(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationBus.publish(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = localKey(key);
+        if (existing == null) {
+            if (value != null) {
+                writeLocal(localKey, value);
+            }
+            invalidationBus.publish(name, localKey);
+        } else if (existing.get() != null) {
+            writeLocal(localKey, existing.get());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationBus.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationBus.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationBus.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        invalidationBus.publish(name, null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화를 L1에만 반영한다.
+     */
+    public void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    public CacheStats localStats() {
+        return local.stats();
+    }
+
+    public long remoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    public long remoteMissCount() {
+        return remoteMisses.sum();
+    }
+
+    public double remoteHitRatio() {
+        long hits = remoteHits.sum();
+        long total = hits + remoteMisses.sum();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    private Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object cached = readLocal(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        writeLocal(localKey, value);
+        return value;
+    }
+
+    private Object readLocal(String localKey) {
+        Object cached = local.getIfPresent(localKey);
+        if (cached instanceof Snapshot snapshot && snapshotSerializer != null) {
+            return snapshotSerializer.deserialize(snapshot.bytes());
+        }
+        return cached;
+    }
+
+    private void writeLocal(String localKey, Object value) {
+        if (snapshotSerializer == null) {
+            local.put(localKey, value);
+            return;
+        }
+        try {
+            byte[] bytes = snapshotSerializer.serialize(value);
+            if (bytes != null) {
+                local.put(localKey, new Snapshot(bytes));
+                return;
+            }
+        } catch (SerializationException e) {
+            // 직렬화할 수 없는 값은 L1에 두지 않고 L2만 쓴다.
+        }
+        local.invalidate(localKey);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(Objects.requireNonNull(key, "key must not be null"));
+    }
+
+    /**
+     * 캐시 값 자체가 byte[]인 경우와 구분하기 위해 직렬화 스냅샷을 감싼다.
+     */
+    private record Snapshot(byte[] bytes) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.common.cache;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 노드 간 L1 캐시 무효화 전파 채널.
+ * key가 null이면 해당 캐시 전체 무효화를 뜻한다.
+ */
+public interface TieredCacheInvalidationBus {
+
+    void publish(String cacheName, String key);
+
+    void subscribe(BiConsumer<String, String> listener);
+}
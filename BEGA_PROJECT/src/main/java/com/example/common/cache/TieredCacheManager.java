@@ -0,0 +1,146 @@
+package com.example.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 등록된 캐시 이름에 대해 {@link TieredCache}를 만들어 주는 CacheManager.
+ *
+ * L2는 주입된 Redis CacheManager의 캐시를 쓰되 그 트랜잭션 데코레이터는 벗기고, 대신 만들어진
+ * {@link TieredCache} 전체를 {@link TransactionAwareCacheDecorator}로 감싼다.
+ * 트랜잭션 안의 put/evict는 커밋 이후에 L2 반영 → L1 갱신 → 다른 노드 무효화 순서로 한 번에 실행된다.
+ * 등록되지 않은 이름은 null을 돌려주어 CompositeCacheManager의 다음 매니저로 넘긴다.
+ * L1은 값 객체를 공유하고, {@link LocalTier#copyOnRead()}를 켠 캐시만 직렬화 스냅샷을 두고 적중마다 새로 푼다.
+ */
+public class TieredCacheManager extends AbstractTransactionSupportingCacheManager implements MeterBinder {
+
+    public record LocalTier(Duration ttl, long maximumSize, boolean copyOnRead) {
+
+        public LocalTier(Duration ttl, long maximumSize) {
+            this(ttl, maximumSize, false);
+        }
+    }
+
+    private final Map<String, LocalTier> localTiers;
+    private final CacheManager remoteCacheManager;
+    private final RedisSerializer<Object> valueSerializer;
+    private final TieredCacheInvalidationBus invalidationBus;
+
+    public TieredCacheManager(
+            Map<String, LocalTier> localTiers,
+            CacheManager remoteCacheManager,
+            RedisSerializer<Object> valueSerializer,
+            TieredCacheInvalidationBus invalidationBus) {
+        this.localTiers = new LinkedHashMap<>(Objects.requireNonNull(localTiers, "localTiers must not be null"));
+        this.remoteCacheManager = Objects.requireNonNull(remoteCacheManager, "remoteCacheManager must not be null");
+        this.valueSerializer = Objects.requireNonNull(valueSerializer, "valueSerializer must not be null");
+        this.invalidationBus = Objects.requireNonNull(invalidationBus, "invalidationBus must not be null");
+        this.invalidationBus.subscribe(this::applyRemoteInvalidation);
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>(localTiers.size());
+        localTiers.forEach((name, tier) -> {
+            Cache remote = remoteCacheManager.getCache(name);
+            if (remote == null) {
+                return;
+            }
+            if (remote instanceof TransactionAwareCacheDecorator decorator) {
+                remote = decorator.getTargetCache();
+            }
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumSize(tier.maximumSize())
+                    .expireAfterWrite(tier.ttl())
+                    .recordStats()
+                    .build();
+            caches.add(tier.copyOnRead()
+                    ? new TieredCache(name, local, remote, valueSerializer, invalidationBus)
+                    : new TieredCache(name, local, remote, invalidationBus));
+        });
+        return caches;
+    }
+
+    void applyRemoteInvalidation(String cacheName, String key) {
+        TieredCache cache = tieredCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    /**
+     * 계층별 적중률: cache.tier.hit.ratio{cache, tier=l1|l2}
+     * L2 적중률은 L1 미스로 Redis까지 내려간 조회만 분모로 삼는다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : localTiers.keySet()) {
+            registerTier(registry, name, "l1",
+                    cache -> cache.localStats().hitRate(),
+                    cache -> cache.localStats().hitCount(),
+                    cache -> cache.localStats().missCount());
+            registerTier(registry, name, "l2",
+                    TieredCache::remoteHitRatio,
+                    TieredCache::remoteHitCount,
+                    TieredCache::remoteMissCount);
+        }
+    }
+
+    private void registerTier(
+            MeterRegistry registry,
+            String name,
+            String tier,
+            ToDoubleFunction<TieredCache> ratio,
+            ToDoubleFunction<TieredCache> hits,
+            ToDoubleFunction<TieredCache> misses) {
+        Gauge.builder("cache.tier.hit.ratio", this, manager -> manager.readTier(name, ratio, Double.NaN))
+                .tag("cache", name)
+                .tag("tier", tier)
+                .register(registry);
+        FunctionCounter.builder("cache.tier.gets", this, manager -> manager.readTier(name, hits, 0))
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.gets", this, manager -> manager.readTier(name, misses, 0))
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    private double readTier(String name, ToDoubleFunction<TieredCache> reader, double fallback) {
+        TieredCache cache = tieredCache(name);
+        return cache != null ? reader.applyAsDouble(cache) : fallback;
+    }
+
+    private TieredCache tieredCache(String name) {
+        Cache cache = lookupCache(name);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return cache instanceof TieredCache tiered ? tiered : null;
+    }
+}
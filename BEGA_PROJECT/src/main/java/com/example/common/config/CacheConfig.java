@@ -1,6 +1,10 @@
 package com.example.common.config;
 
+import com.example.common.cache.RedisTieredCacheInvalidationBus;
+import com.example.common.cache.TieredCacheManager;
+import com.example.common.cache.TieredCacheManager.LocalTier;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -17,6 +21,7 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,6 +33,9 @@ import java.util.concurrent.TimeUnit;
  * L1 캐시 (Caffeine): 로컬 인메모리, 초저지연, 인스턴스별 독립
  * L2 캐시 (Redis): 분산 캐시, 멀티 인스턴스 환경에서 공유
  *
+ * L1 + L2 계층 캐시 (TieredCache): 자주 읽히는 공유 캐시는 짧은 TTL의 L1을 Redis 앞에 두고,
+ * 쓰기/삭제는 Redis pub/sub으로 다른 인스턴스의 L1에 전파한다.
+ *
  * 캐시 조회 순서: L1 → L2 → Database
  */
 @Configuration
@@ -36,6 +44,7 @@ public class CacheConfig {
 
         // L1 전용 캐시 (Caffeine only) - 인스턴스 로컬 데이터
         public static final String JWT_USER_CACHE = "jwtUserCache";
+        public static final String JWT_PRINCIPAL_CACHE = "jwtPrincipalCache";
         public static final String SIGNED_URLS = "signedUrls";
 
         // Redis 전용 또는 공유 캐시
@@ -70,17 +79,18 @@ public class CacheConfig {
         public static final String DIARY_STATS = "diaryStats";
 
         /**
-         * Primary CacheManager: L1(Caffeine) + L2(Redis) 조합
-         * 캐시 조회 시 Caffeine을 먼저 확인하고, 없으면 Redis에서 조회
+         * Primary CacheManager: L1(Caffeine) + L1/L2 계층 + L2(Redis) 조합
+         * 캐시 이름을 소유한 첫 번째 매니저가 응답한다. (Caffeine 전용 → 계층 캐시 → Redis 전용)
          */
         @Bean
         @Primary
         public CacheManager cacheManager(
                         CacheManager caffeineCacheManager,
+                        CacheManager tieredCacheManager,
                         CacheManager redisCacheManager) {
                 CompositeCacheManager compositeCacheManager = new CompositeCacheManager();
                 compositeCacheManager.setCacheManagers(
-                                Objects.requireNonNull(List.of(caffeineCacheManager, redisCacheManager)));
+                                Objects.requireNonNull(List.of(caffeineCacheManager, tieredCacheManager, redisCacheManager)));
                 compositeCacheManager.setFallbackToNoOpCache(true);
                 return compositeCacheManager;
         }
@@ -117,6 +127,13 @@ public class CacheConfig {
                                                 .expireAfterWrite(60, TimeUnit.SECONDS)
                                                 .recordStats()
                                                 .build());
+                // JWTFilter가 요청마다 읽는 파싱 결과. 활성 토큰 수만큼 필요하므로 크기만 넉넉히 둔다.
+                manager.registerCustomCache(JWT_PRINCIPAL_CACHE,
+                                Caffeine.newBuilder()
+                                                .maximumSize(10_000)
+                                                .expireAfterWrite(60, TimeUnit.SECONDS)
+                                                .recordStats()
+                                                .build());
                 manager.registerCustomCache(DIARY_STATS,
                                 Caffeine.newBuilder()
                                                 .maximumSize(1000)
@@ -139,6 +156,29 @@ public class CacheConfig {
                 return manager;
         }
 
+        /**
+         * L1/L2 계층 캐시 매니저
+         * - L1 TTL은 항상 L2(Redis) TTL보다 짧게 둔다.
+         * - L1은 값 객체를 공유한다. 아래 캐시의 DTO는 호출 측이 고치지 않으므로 스냅샷 복사(copyOnRead)를 켜지 않는다.
+         * - 비활성화 시 해당 캐시들은 Redis 전용 캐시로 동작한다.
+         */
+        @Bean
+        public TieredCacheManager tieredCacheManager(
+                        CacheManager redisCacheManager,
+                        RedisSerializer<Object> redisValueSerializer,
+                        RedisTieredCacheInvalidationBus tieredCacheInvalidationBus,
+                        @Value("${app.cache.tiered.enabled:true}") boolean enabled) {
+                Map<String, LocalTier> localTiers = new LinkedHashMap<>();
+                if (enabled) {
+                        localTiers.put(TEAM_RANKINGS, new LocalTier(Duration.ofMinutes(1), 200));
+                        localTiers.put(GAME_SCHEDULE, new LocalTier(Duration.ofSeconds(15), 500));
+                        localTiers.put(HOME_BOOTSTRAP, new LocalTier(Duration.ofSeconds(15), 200));
+                        localTiers.put(GAME_DETAIL, new LocalTier(Duration.ofMinutes(5), 1000));
+                }
+                return new TieredCacheManager(localTiers, redisCacheManager, redisValueSerializer,
+                                tieredCacheInvalidationBus);
+        }
+
         /**
          * L2 캐시 매니저 (Redis)
          * - 분산 캐시
@@ -0,0 +1,80 @@
+package com.example.common.image;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시에 메모리에 올라가 있는 디코딩 래스터 크기를 픽셀 수로 제한한다.
+ * - 래스터는 픽셀당 4바이트(int RGB/ARGB)라 픽셀 수가 곧 힙 사용량이다.
+ * - 한 이미지가 전체 예산보다 크면 예산 전체를 잡아 혼자 처리한다.
+ * - 대기 시간을 넘기면 IOException을 던지고, 호출한 쪽은 원본 이미지로 fallback 한다.
+ */
+@Slf4j
+@Component
+public class ImageDecodeBudget {
+
+    private static final long DEFAULT_MAX_CONCURRENT_PIXELS = 48_000_000L;
+    private static final long DEFAULT_ACQUIRE_TIMEOUT_MS = 10_000L;
+
+    private final int maxPixels;
+    private final Duration acquireTimeout;
+    private final Semaphore pixels;
+
+    public ImageDecodeBudget(
+            @Value("${app.image.decode.max-concurrent-pixels:48000000}") long maxConcurrentPixels,
+            @Value("${app.image.decode.acquire-timeout-ms:10000}") long acquireTimeoutMs) {
+        this.maxPixels = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, maxConcurrentPixels));
+        this.acquireTimeout = Duration.ofMillis(Math.max(0L, acquireTimeoutMs));
+        this.pixels = new Semaphore(this.maxPixels, true);
+    }
+
+    static ImageDecodeBudget defaults() {
+        return new ImageDecodeBudget(DEFAULT_MAX_CONCURRENT_PIXELS, DEFAULT_ACQUIRE_TIMEOUT_MS);
+    }
+
+    public Permit acquire(long requestedPixels) throws IOException {
+        int permits = (int) Math.min(maxPixels, Math.max(1L, requestedPixels));
+        try {
+            if (!pixels.tryAcquire(permits, acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Image decode budget exhausted requested_pixels={} available_pixels={}",
+                        requestedPixels, pixels.availablePermits());
+                throw new IOException("이미지 디코딩 대기 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 디코딩 대기 중 인터럽트되었습니다.", e);
+        }
+        return new Permit(permits);
+    }
+
+    public int availablePixels() {
+        return pixels.availablePermits();
+    }
+
+    public int maxPixels() {
+        return maxPixels;
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final int permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                pixels.release(permits);
+            }
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.example.common.image;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 업로드 원본에서 메타데이터(EXIF 위치 정보, XMP, 주석 등)만 걷어낸다.
+ * - 픽셀 데이터를 디코딩하지 않고 컨테이너 구조만 다시 쓰므로 요청 스레드에서 재인코딩 비용이 들지 않는다.
+ * - 표시 방향이 바뀌지 않도록 EXIF Orientation 태그 하나만 최소 EXIF로 다시 넣는다.
+ * - 구조를 해석할 수 없으면 IOException을 던지고, 호출자가 재인코딩으로 fallback 한다.
+ */
+final class ImageMetadataStripper {
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int DEFAULT_ORIENTATION = 1;
+
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] ICC_HEADER = "ICC_PROFILE\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] ADOBE_HEADER = "Adobe".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] PNG_SIGNATURE = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+
+    private static final int VP8X_EXIF_FLAG = 0x08;
+    private static final int VP8X_XMP_FLAG = 0x04;
+
+    private ImageMetadataStripper() {
+    }
+
+    static byte[] strip(byte[] bytes, String contentType) throws IOException {
+        if (bytes == null || contentType == null) {
+            throw new IOException("이미지 데이터가 비어있습니다.");
+        }
+        return switch (contentType) {
+            case "image/jpeg" -> stripJpeg(bytes);
+            case "image/png" -> stripPng(bytes);
+            case "image/webp" -> stripWebp(bytes);
+            default -> throw new IOException("메타데이터를 정리할 수 없는 이미지 형식입니다: " + contentType);
+        };
+    }
+
+    // ---------------------------------------------------------------- JPEG
+
+    private static byte[] stripJpeg(byte[] bytes) throws IOException {
+        if (bytes.length < 4 || u8(bytes, 0) != 0xFF || u8(bytes, 1) != 0xD8) {
+            throw new IOException("JPEG SOI 마커가 없습니다.");
+        }
+
+        int orientation = DEFAULT_ORIENTATION;
+        ByteArrayOutputStream kept = new ByteArrayOutputStream(bytes.length);
+        int pos = 2;
+        while (true) {
+            if (pos + 1 >= bytes.length || u8(bytes, pos) != 0xFF) {
+                throw new IOException("JPEG 마커 위치가 올바르지 않습니다: " + pos);
+            }
+            int markerStart = pos;
+            while (pos < bytes.length && u8(bytes, pos) == 0xFF) {
+                pos++;
+            }
+            if (pos >= bytes.length) {
+                throw new IOException("JPEG 마커가 잘려 있습니다.");
+            }
+            int marker = u8(bytes, pos);
+            pos++;
+
+            if (marker == 0xD9) {
+                kept.write(bytes, markerStart, pos - markerStart);
+                break;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                kept.write(bytes, markerStart, pos - markerStart);
+                continue;
+            }
+            if (pos + 2 > bytes.length) {
+                throw new IOException("JPEG 세그먼트 길이가 잘려 있습니다.");
+            }
+            int length = u16be(bytes, pos);
+            int segmentEnd = pos + length;
+            if (length < 2 || segmentEnd > bytes.length) {
+                throw new IOException("JPEG 세그먼트 길이가 올바르지 않습니다: " + length);
+            }
+            int payload = pos + 2;
+
+            if (marker == 0xDA) {
+                // SOS 이후는 엔트로피 코딩된 스캔 데이터와 나머지 세그먼트이므로 그대로 복사한다.
+                kept.write(bytes, markerStart, bytes.length - markerStart);
+                break;
+            }
+            if (marker == 0xE1 && startsWith(bytes, payload, segmentEnd, EXIF_HEADER)) {
+                orientation = readTiffOrientation(bytes, payload + EXIF_HEADER.length, segmentEnd);
+            } else if (keepJpegSegment(marker, bytes, payload, segmentEnd)) {
+                kept.write(bytes, markerStart, segmentEnd - markerStart);
+            }
+            pos = segmentEnd;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(kept.size() + 64);
+        out.write(0xFF);
+        out.write(0xD8);
+        byte[] rest = kept.toByteArray();
+        int insertAt = leadingApp0Length(rest);
+        out.write(rest, 0, insertAt);
+        if (orientation != DEFAULT_ORIENTATION) {
+            byte[] exif = concat(EXIF_HEADER, minimalTiff(orientation));
+            out.write(0xFF);
+            out.write(0xE1);
+            writeU16be(out, exif.length + 2);
+            out.write(exif);
+        }
+        out.write(rest, insertAt, rest.length - insertAt);
+        return out.toByteArray();
+    }
+
+    private static boolean keepJpegSegment(int marker, byte[] bytes, int payload, int end) {
+        if (marker == 0xE0) {
+            return true;
+        }
+        if (marker == 0xE2) {
+            return startsWith(bytes, payload, end, ICC_HEADER);
+        }
+        if (marker == 0xEE) {
+            return startsWith(bytes, payload, end, ADOBE_HEADER);
+        }
+        if (marker >= 0xE1 && marker <= 0xEF) {
+            return false;
+        }
+        return marker != 0xFE;
+    }
+
+    private static int leadingApp0Length(byte[] segments) {
+        int pos = 0;
+        while (pos + 4 <= segments.length && u8(segments, pos) == 0xFF && u8(segments, pos + 1) == 0xE0) {
+            pos += 2 + u16be(segments, pos + 2);
+        }
+        return Math.min(pos, segments.length);
+    }
+
+    // ---------------------------------------------------------------- PNG
+
+    private static byte[] stripPng(byte[] bytes) throws IOException {
+        if (!startsWith(bytes, 0, bytes.length, PNG_SIGNATURE)) {
+            throw new IOException("PNG 시그니처가 없습니다.");
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        out.write(bytes, 0, PNG_SIGNATURE.length);
+        int pos = PNG_SIGNATURE.length;
+        boolean ended = false;
+        while (!ended) {
+            if (pos + 12 > bytes.length) {
+                throw new IOException("PNG 청크가 잘려 있습니다.");
+            }
+            long length = u32be(bytes, pos);
+            if (length > bytes.length - pos - 12) {
+                throw new IOException("PNG 청크 길이가 올바르지 않습니다: " + length);
+            }
+            String type = new String(bytes, pos + 4, 4, StandardCharsets.ISO_8859_1);
+            int dataStart = pos + 8;
+            int chunkEnd = dataStart + (int) length + 4;
+
+            switch (type) {
+                case "eXIf" -> {
+                    int orientation = readTiffOrientation(bytes, dataStart, dataStart + (int) length);
+                    if (orientation != DEFAULT_ORIENTATION) {
+                        writePngChunk(out, "eXIf", minimalTiff(orientation));
+                    }
+                }
+                case "tEXt", "iTXt", "zTXt", "tIME" -> {
+                    // 촬영 정보나 편집기 주석이 들어가는 텍스트 청크는 버린다.
+                }
+                default -> out.write(bytes, pos, chunkEnd - pos);
+            }
+            ended = "IEND".equals(type);
+            pos = chunkEnd;
+        }
+        return out.toByteArray();
+    }
+
+    private static void writePngChunk(ByteArrayOutputStream out, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.ISO_8859_1);
+        writeU32be(out, data.length);
+        out.write(typeBytes);
+        out.write(data);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        writeU32be(out, crc.getValue());
+    }
+
+    // ---------------------------------------------------------------- WebP
+
+    private static byte[] stripWebp(byte[] bytes) throws IOException {
+        if (bytes.length < 12
+                || !"RIFF".equals(new String(bytes, 0, 4, StandardCharsets.ISO_8859_1))
+                || !"WEBP".equals(new String(bytes, 8, 4, StandardCharsets.ISO_8859_1))) {
+            throw new IOException("WebP RIFF 헤더가 없습니다.");
+        }
+
+        int orientation = DEFAULT_ORIENTATION;
+        int vp8xFlagsOffset = -1;
+        ByteArrayOutputStream body = new ByteArrayOutputStream(bytes.length);
+        body.write(bytes, 8, 4);
+        int pos = 12;
+        while (pos + 8 <= bytes.length) {
+            String fourCc = new String(bytes, pos, 4, StandardCharsets.ISO_8859_1);
+            long size = u32le(bytes, pos + 4);
+            long padded = size + (size & 1);
+            if (padded > bytes.length - pos - 8) {
+                throw new IOException("WebP 청크 길이가 올바르지 않습니다: " + size);
+            }
+            int dataStart = pos + 8;
+            int chunkEnd = dataStart + (int) padded;
+
+            if ("EXIF".equals(fourCc)) {
+                int exifStart = startsWith(bytes, dataStart, dataStart + (int) size, EXIF_HEADER)
+                        ? dataStart + EXIF_HEADER.length
+                        : dataStart;
+                orientation = readTiffOrientation(bytes, exifStart, dataStart + (int) size);
+            } else if (!"XMP ".equals(fourCc)) {
+                if ("VP8X".equals(fourCc) && size >= 1) {
+                    // 청크 헤더(FourCC + 크기) 바로 다음 바이트가 VP8X 플래그다.
+                    vp8xFlagsOffset = body.size() + 8;
+                }
+                body.write(bytes, pos, chunkEnd - pos);
+            }
+            pos = chunkEnd;
+        }
+        if (pos != bytes.length) {
+            throw new IOException("WebP 청크가 잘려 있습니다.");
+        }
+
+        boolean writeExif = orientation != DEFAULT_ORIENTATION && vp8xFlagsOffset >= 0;
+        if (writeExif) {
+            byte[] exif = minimalTiff(orientation);
+            body.write("EXIF".getBytes(StandardCharsets.ISO_8859_1));
+            writeU32le(body, exif.length);
+            body.write(exif);
+        }
+
+        byte[] chunks = body.toByteArray();
+        if (vp8xFlagsOffset >= 0) {
+            int flags = u8(chunks, vp8xFlagsOffset) & ~(VP8X_EXIF_FLAG | VP8X_XMP_FLAG);
+            if (writeExif) {
+                flags |= VP8X_EXIF_FLAG;
+            }
+            chunks[vp8xFlagsOffset] = (byte) flags;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(chunks.length + 8);
+        out.write("RIFF".getBytes(StandardCharsets.ISO_8859_1));
+        writeU32le(out, chunks.length);
+        out.write(chunks);
+        return out.toByteArray();
+    }
+
+    // ---------------------------------------------------------------- EXIF(TIFF)
+
+    /**
+     * TIFF 구조의 IFD0에서 Orientation 값만 읽는다. 해석할 수 없으면 기본 방향(1)으로 본다.
+     */
+    private static int readTiffOrientation(byte[] bytes, int start, int end) {
+        if (end - start < 8) {
+            return DEFAULT_ORIENTATION;
+        }
+        boolean littleEndian;
+        if (u8(bytes, start) == 'I' && u8(bytes, start + 1) == 'I') {
+            littleEndian = true;
+        } else if (u8(bytes, start) == 'M' && u8(bytes, start + 1) == 'M') {
+            littleEndian = false;
+        } else {
+            return DEFAULT_ORIENTATION;
+        }
+
+        long ifdOffset = tiffU32(bytes, start + 4, littleEndian);
+        if (ifdOffset < 8 || ifdOffset > end - start - 2) {
+            return DEFAULT_ORIENTATION;
+        }
+        int ifd = start + (int) ifdOffset;
+        int entries = tiffU16(bytes, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return DEFAULT_ORIENTATION;
+            }
+            if (tiffU16(bytes, entry, littleEndian) == ORIENTATION_TAG) {
+                int value = tiffU16(bytes, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : DEFAULT_ORIENTATION;
+            }
+        }
+        return DEFAULT_ORIENTATION;
+    }
+
+    /**
+     * Orientation 태그 하나만 담은 big-endian TIFF 블록을 만든다.
+     */
+    private static byte[] minimalTiff(int orientation) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(26);
+        out.write('M');
+        out.write('M');
+        writeU16be(out, 42);
+        writeU32be(out, 8);
+        writeU16be(out, 1);
+        writeU16be(out, ORIENTATION_TAG);
+        writeU16be(out, 3); // SHORT
+        writeU32be(out, 1);
+        writeU16be(out, orientation);
+        writeU16be(out, 0);
+        writeU32be(out, 0); // 다음 IFD 없음
+        return out.toByteArray();
+    }
+
+    // ---------------------------------------------------------------- bytes
+
+    private static boolean startsWith(byte[] bytes, int offset, int end, byte[] prefix) {
+        if (end - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static int u8(byte[] bytes, int offset) {
+        return bytes[offset] & 0xFF;
+    }
+
+    private static int u16be(byte[] bytes, int offset) {
+        return (u8(bytes, offset) << 8) | u8(bytes, offset + 1);
+    }
+
+    private static long u32be(byte[] bytes, int offset) {
+        return ((long) u16be(bytes, offset) << 16) | u16be(bytes, offset + 2);
+    }
+
+    private static long u32le(byte[] bytes, int offset) {
+        return u8(bytes, offset)
+                | ((long) u8(bytes, offset + 1) << 8)
+                | ((long) u8(bytes, offset + 2) << 16)
+                | ((long) u8(bytes, offset + 3) << 24);
+    }
+
+    private static int tiffU16(byte[] bytes, int offset, boolean littleEndian) {
+        return littleEndian
+                ? u8(bytes, offset) | (u8(bytes, offset + 1) << 8)
+                : u16be(bytes, offset);
+    }
+
+    private static long tiffU32(byte[] bytes, int offset, boolean littleEndian) {
+        return littleEndian ? u32le(bytes, offset) : u32be(bytes, offset);
+    }
+
+    private static void writeU16be(ByteArrayOutputStream out, int value) {
+        out.write((value >>> 8) & 0xFF);
+        out.write(value & 0xFF);
+    }
+
+    private static void writeU32be(ByteArrayOutputStream out, long value) {
+        writeU16be(out, (int) ((value >>> 16) & 0xFFFF));
+        writeU16be(out, (int) (value & 0xFFFF));
+    }
+
+    private static void writeU32le(ByteArrayOutputStream out, long value) {
+        out.write((int) (value & 0xFF));
+        out.write((int) ((value >>> 8) & 0xFF));
+        out.write((int) ((value >>> 16) & 0xFF));
+        out.write((int) ((value >>> 24) & 0xFF));
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.common.image;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.filters.ImageFilter;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -16,6 +20,7 @@ import java.io.InputStream;
 import java.awt.image.BufferedImage;
 import java.util.Iterator;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
 
@@ -23,10 +28,11 @@ import javax.imageio.stream.ImageInputStream;
  * Common Image Processing Utility
  * - Provides compression and format conversion (e.g., to WebP)
  * - Uses Thumbnailator library
+ * - Decodes straight from the upload stream with source subsampling, so the full-resolution raster is never built
+ * - Concurrent raster memory is bounded by ImageDecodeBudget (pixels)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ImageUtil {
 
     private static final int MAX_WIDTH = 1024;
@@ -41,11 +47,24 @@ public class ImageUtil {
     // 품질을 최상위로 상향해 재샘플링 후 보간 손실을 최소화합니다.
     private static final double FEED_PROFILE_COMPRESSION_QUALITY = 1.0;
     private static final long COMPRESSION_THRESHOLD_BYTES = 1024 * 1024; // 1MB
+    // 너비 기준 파생본이라도 세로로 아주 긴 이미지가 과하게 커지지 않도록 높이는 너비의 3배로 제한합니다.
+    private static final int VARIANT_MAX_ASPECT = 3;
 
     private final ImageOptimizationMetricsService metricsService;
+    private final ImageDecodeBudget decodeBudget;
 
     private boolean webpAvailable = false;
 
+    @Autowired
+    public ImageUtil(ImageOptimizationMetricsService metricsService, ImageDecodeBudget decodeBudget) {
+        this.metricsService = metricsService;
+        this.decodeBudget = decodeBudget != null ? decodeBudget : ImageDecodeBudget.defaults();
+    }
+
+    public ImageUtil(ImageOptimizationMetricsService metricsService) {
+        this(metricsService, ImageDecodeBudget.defaults());
+    }
+
     @jakarta.annotation.PostConstruct
     public void init() {
         // Ensure ImageIO plugins are scanned
@@ -100,43 +119,32 @@ public class ImageUtil {
 
     public ProcessedImage process(MultipartFile file, String source) throws IOException {
         String originalContentType = file.getContentType();
-        byte[] originalBytes = file.getBytes();
-        String originalExtension = getExtension(file.getOriginalFilename());
+        long originalSize = file.getSize();
 
-        if (shouldSkip(originalContentType, originalBytes.length)) {
-            metricsService.record(source, "skipped");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+        if (shouldSkip(originalContentType, originalSize)) {
+            return original(file, source, "skipped");
         }
 
         if (!webpAvailable) {
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         }
 
         try {
-            ProcessedImage processed = convertToWebP(originalBytes, MAX_WIDTH, MAX_HEIGHT, COMPRESSION_QUALITY);
+            ProcessedImage processed = convertToWebP(file, MAX_WIDTH, MAX_HEIGHT, COMPRESSION_QUALITY);
             metricsService.record(source, "optimized");
-            metricsService.recordBytes(source, originalBytes.length, processed.getSize());
+            metricsService.recordBytes(source, originalSize, processed.getSize());
             return processed;
         } catch (UnsatisfiedLinkError e) {
             webpAvailable = false;
             log.warn("WebP native codec not available. Falling back to original image. reason={}", e.getMessage());
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         } catch (LinkageError e) {
             webpAvailable = false;
             log.warn("WebP link error. Falling back to original image. reason={}", e.getMessage());
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         } catch (Exception e) {
             log.warn("Image optimization failed. Falling back to original image.", e);
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         }
     }
 
@@ -150,77 +158,128 @@ public class ImageUtil {
 
     public ProcessedImage processFeedProfileImage(MultipartFile file, String source) throws IOException {
         String originalContentType = file.getContentType();
-        byte[] originalBytes = file.getBytes();
-        String originalExtension = getExtension(file.getOriginalFilename());
+        long originalSize = file.getSize();
 
         if (shouldSkipFeedDerivative(originalContentType)) {
-            metricsService.record(source, "skipped");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "skipped");
         }
 
         try {
-            BufferedImage flattenedImage = flattenToOpaqueRgb(originalBytes);
-            ProcessedImage processed = convertFeedDerivative(flattenedImage, originalBytes.length);
+            ProcessedImage processed = decodeAndEncode(file, FEED_PROFILE_MAX_WIDTH, FEED_PROFILE_MAX_HEIGHT, true,
+                    (image, orientation) -> convertFeedDerivative(image, orientation, originalSize));
             metricsService.record(source, "optimized");
-            metricsService.recordBytes(source, originalBytes.length, processed.getSize());
+            metricsService.recordBytes(source, originalSize, processed.getSize());
             return processed;
         } catch (Exception e) {
             log.warn("Feed image optimization failed. Falling back to original image.", e);
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         }
     }
 
     public ProcessedImage processProfileImage(MultipartFile file, String source) throws IOException {
         String originalContentType = file.getContentType();
-        byte[] originalBytes = file.getBytes();
-        String originalExtension = getExtension(file.getOriginalFilename());
+        long originalSize = file.getSize();
 
-        if (shouldSkip(originalContentType, originalBytes.length)) {
-            metricsService.record(source, "skipped");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+        if (shouldSkip(originalContentType, originalSize)) {
+            return original(file, source, "skipped");
         }
 
         if (!webpAvailable) {
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         }
 
         try {
-            ProcessedImage processed = convertToWebP(originalBytes, PROFILE_MAX_WIDTH, PROFILE_MAX_HEIGHT, PROFILE_COMPRESSION_QUALITY);
+            ProcessedImage processed = convertToWebP(file, PROFILE_MAX_WIDTH, PROFILE_MAX_HEIGHT, PROFILE_COMPRESSION_QUALITY);
             metricsService.record(source, "optimized");
-            metricsService.recordBytes(source, originalBytes.length, processed.getSize());
+            metricsService.recordBytes(source, originalSize, processed.getSize());
             return processed;
         } catch (UnsatisfiedLinkError e) {
             webpAvailable = false;
             log.warn("WebP native codec not available. Falling back to original image. reason={}", e.getMessage());
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         } catch (LinkageError e) {
             webpAvailable = false;
             log.warn("WebP link error. Falling back to original image. reason={}", e.getMessage());
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         } catch (Exception e) {
             log.warn("Image optimization failed. Falling back to original image.", e);
-            metricsService.record(source, "fallback");
-            metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return original(file, source, "fallback");
         }
     }
 
+    /**
+     * 너비 기준 파생본(썸네일/피드/상세)을 만든다.
+     * 다른 process 메서드와 달리 실패해도 원본으로 fallback 하지 않고 예외를 던진다.
+     * 파생본 작업은 재시도되므로 원본 바이트를 파생본 키로 저장하는 것보다 실패로 남기는 편이 낫다.
+     */
+    public ProcessedImage processVariant(MultipartFile file, int maxWidth, String source) throws IOException {
+        if (!canDeriveVariants(file.getContentType())) {
+            throw new IllegalArgumentException("파생본을 만들 수 없는 이미지 형식입니다: " + file.getContentType());
+        }
+
+        long originalSize = file.getSize();
+        int maxHeight = maxWidth * VARIANT_MAX_ASPECT;
+        boolean encodeWebP = webpAvailable;
+        ProcessedImage processed = decodeAndEncode(file, maxWidth, maxHeight, !encodeWebP,
+                (image, orientation) -> encodeVariant(image, orientation, originalSize, maxWidth, maxHeight, encodeWebP));
+        metricsService.record(source, "optimized");
+        metricsService.recordBytes(source, originalSize, processed.getSize());
+        return processed;
+    }
+
+    /**
+     * 업로드 직후 파생본이 준비될 때까지 제공할 이미지를 만든다.
+     * 1024px 안으로 줄이고 다시 인코딩하므로 EXIF(위치 정보 포함)가 남지 않는다.
+     * WebP를 쓸 수 없으면 JPEG로 인코딩하며, process와 달리 원본을 그대로 돌려주지 않고 실패하면 예외를 던진다.
+     */
+    public ProcessedImage processServedImage(MultipartFile file, String source) throws IOException {
+        if (!canDeriveVariants(file.getContentType())) {
+            throw new IllegalArgumentException("다시 인코딩할 수 없는 이미지 형식입니다: " + file.getContentType());
+        }
+
+        long originalSize = file.getSize();
+        boolean encodeWebP = webpAvailable;
+        ProcessedImage processed = decodeAndEncode(file, MAX_WIDTH, MAX_HEIGHT, !encodeWebP,
+                (image, orientation) -> encodeVariant(image, orientation, originalSize, MAX_WIDTH, MAX_HEIGHT, encodeWebP));
+        metricsService.record(source, "optimized");
+        metricsService.recordBytes(source, originalSize, processed.getSize());
+        return processed;
+    }
+
+    /**
+     * 업로드 원본에서 메타데이터(EXIF 위치 정보, XMP, 주석)만 걷어낸 바이트를 만든다.
+     * 픽셀을 디코딩하지 않으므로 요청 스레드에서 재인코딩 비용이 없고, 방향(Orientation) 태그는 유지한다.
+     * 컨테이너 구조를 해석할 수 없으면 processServedImage로 다시 인코딩한다.
+     */
+    public ProcessedImage stripMetadata(MultipartFile file, String source) throws IOException {
+        if (!canDeriveVariants(file.getContentType())) {
+            throw new IllegalArgumentException("메타데이터를 정리할 수 없는 이미지 형식입니다: " + file.getContentType());
+        }
+
+        byte[] originalBytes = file.getBytes();
+        byte[] stripped;
+        try {
+            stripped = ImageMetadataStripper.strip(originalBytes, file.getContentType());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image metadata strip failed. Re-encoding instead. contentType={}, reason={}",
+                    file.getContentType(), e.getMessage());
+            return processServedImage(file, source);
+        }
+        metricsService.record(source, "metadata_stripped");
+        metricsService.recordBytes(source, originalBytes.length, stripped.length);
+        return new ProcessedImage(stripped, file.getContentType(), strippedExtension(file.getContentType()));
+    }
+
+    public boolean canDeriveVariants(String contentType) {
+        return !shouldSkipFeedDerivative(contentType);
+    }
+
     public ImageDimension getImageDimension(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("이미지 파일이 비어있습니다.");
         }
-        try {
-            return getImageDimension(file.getBytes());
+        try (InputStream inputStream = file.getInputStream()) {
+            return readImageDimension(inputStream);
         } catch (IOException e) {
             throw new IllegalArgumentException("이미지 크기 확인 중 오류가 발생했습니다.", e);
         }
@@ -231,7 +290,11 @@ public class ImageUtil {
             throw new IllegalArgumentException("이미지 데이터가 비어있습니다.");
         }
 
-        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+        return readImageDimension(new ByteArrayInputStream(bytes));
+    }
+
+    private ImageDimension readImageDimension(InputStream inputStream) {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
             if (imageInputStream == null) {
                 throw new IllegalArgumentException("이미지 데이터를 읽을 수 없습니다.");
             }
@@ -282,38 +345,120 @@ public class ImageUtil {
         return "image/gif".equals(contentType);
     }
 
-    private ProcessedImage convertToWebP(byte[] originalBytes, int maxWidth, int maxHeight, double quality) throws IOException {
-        long originalSize = originalBytes.length;
-        ImageDimension originalDimension = getImageDimension(originalBytes);
-        int targetWidth = Math.max(1, Math.min(maxWidth, originalDimension.width()));
-        int targetHeight = Math.max(1, Math.min(maxHeight, originalDimension.height()));
+    private ProcessedImage original(MultipartFile file, String source, String result) throws IOException {
+        byte[] originalBytes = file.getBytes();
+        metricsService.record(source, result);
+        metricsService.recordBytes(source, originalBytes.length, originalBytes.length);
+        return new ProcessedImage(originalBytes, file.getContentType(), getExtension(file.getOriginalFilename()));
+    }
 
-        try (InputStream inputStream = new ByteArrayInputStream(originalBytes);
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+    private ProcessedImage convertToWebP(MultipartFile file, int maxWidth, int maxHeight, double quality) throws IOException {
+        long originalSize = file.getSize();
+        return decodeAndEncode(file, maxWidth, maxHeight, false, (image, orientation) -> {
+            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+                resize(image, orientation, maxWidth, maxHeight)
+                        .outputQuality(quality)
+                        .outputFormat("webp")
+                        .toOutputStream(outputStream);
 
-            Thumbnails.of(inputStream)
-                    .size(targetWidth, targetHeight)
-                    .keepAspectRatio(true)
-                    .outputQuality(quality)
-                    .outputFormat("webp")
-                    .toOutputStream(outputStream);
+                byte[] compressedBytes = outputStream.toByteArray();
+                long compressedSize = compressedBytes.length;
 
-            byte[] compressedBytes = outputStream.toByteArray();
-            long compressedSize = compressedBytes.length;
+                double ratio = (1 - (double) compressedSize / originalSize) * 100;
+                log.info("Image processed (WebP): {} -> {} ({}% reduction)",
+                        formatSize(originalSize), formatSize(compressedSize), String.format("%.1f", ratio));
 
-            double ratio = (1 - (double) compressedSize / originalSize) * 100;
-            log.info("Image processed (WebP): {} -> {} ({}% reduction)",
-                    formatSize(originalSize), formatSize(compressedSize), String.format("%.1f", ratio));
+                return new ProcessedImage(compressedBytes, "image/webp", "webp");
+            }
+        });
+    }
 
-            return new ProcessedImage(compressedBytes, "image/webp", "webp");
+    /**
+     * 업로드 스트림에서 바로 디코딩하되, ImageReadParam 소스 서브샘플링으로 목표 크기 이상인 가장 작은 래스터만 만든다.
+     * 원본 해상도 래스터는 만들지 않으며, 디코딩부터 인코딩이 끝날 때까지 ImageDecodeBudget의 픽셀 permit을 잡는다.
+     * 남은 축소와 EXIF 방향 보정은 Thumbnailator가 처리한다.
+     */
+    private ProcessedImage decodeAndEncode(MultipartFile file, int maxWidth, int maxHeight, boolean flattenToOpaque,
+            ImageEncoder encoder) throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+                ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                throw new IllegalArgumentException("이미지 데이터를 읽을 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("이미지 데이터를 읽을 수 없습니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0) {
+                    throw new IllegalArgumentException("이미지 치수가 유효하지 않습니다.");
+                }
+
+                int subsampling = subsamplingFactor(width, height, maxWidth, maxHeight);
+                long decodedPixels = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling);
+                ImageFilter orientation = readOrientationFilter(reader);
+                // 불투명 RGB로 옮기는 경우 같은 크기 래스터가 하나 더 생긴다.
+                try (ImageDecodeBudget.Permit ignored = decodeBudget.acquire(
+                        flattenToOpaque ? decodedPixels * 2 : decodedPixels)) {
+                    ImageReadParam readParam = reader.getDefaultReadParam();
+                    readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    BufferedImage image = reader.read(0, readParam);
+                    if (flattenToOpaque) {
+                        image = flattenToOpaqueRgb(image);
+                    }
+                    return encoder.encode(image, orientation);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static int subsamplingFactor(int width, int height, int maxWidth, int maxHeight) {
+        // keepAspectRatio로 maxWidth x maxHeight 안에 맞출 때의 축소 배율의 역수를 내림하면
+        // 서브샘플링 결과가 목표 크기보다 작아지지 않는다.
+        double inverseScale = Math.max((double) width / maxWidth, (double) height / maxHeight);
+        return Math.max(1, (int) Math.floor(inverseScale));
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private ImageFilter readOrientationFilter(ImageReader reader) {
+        try {
+            Orientation orientation = ExifUtils.getExifOrientation(reader, 0);
+            return orientation != null ? ExifFilterUtils.getFilterForOrientation(orientation) : null;
+        } catch (Exception e) {
+            log.debug("EXIF orientation could not be read. reason={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Thumbnails.Builder<BufferedImage> resize(BufferedImage image, ImageFilter orientation, int maxWidth, int maxHeight) {
+        int targetWidth = Math.max(1, Math.min(maxWidth, image.getWidth()));
+        int targetHeight = Math.max(1, Math.min(maxHeight, image.getHeight()));
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(image)
+                .size(targetWidth, targetHeight)
+                .keepAspectRatio(true);
+        if (orientation != null) {
+            builder.addFilter(orientation);
         }
+        return builder;
     }
 
-    private ProcessedImage convertFeedDerivative(BufferedImage flattenedImage, long originalSize) throws IOException {
+    private ProcessedImage convertFeedDerivative(BufferedImage flattenedImage, ImageFilter orientation, long originalSize)
+            throws IOException {
         if (webpAvailable) {
             try {
-                return encodeFlattenedImage(flattenedImage, originalSize, FEED_PROFILE_MAX_WIDTH, FEED_PROFILE_MAX_HEIGHT,
-                        FEED_PROFILE_COMPRESSION_QUALITY, "webp", "image/webp", "webp", "Feed image processed (WebP)");
+                return encodeFlattenedImage(flattenedImage, orientation, originalSize, FEED_PROFILE_MAX_WIDTH,
+                        FEED_PROFILE_MAX_HEIGHT, FEED_PROFILE_COMPRESSION_QUALITY, "webp", "image/webp", "webp",
+                        "Feed image processed (WebP)");
             } catch (UnsatisfiedLinkError e) {
                 webpAvailable = false;
                 log.warn("Feed WebP native codec not available. Falling back to JPEG. reason={}", e.getMessage());
@@ -325,19 +470,37 @@ public class ImageUtil {
             }
         }
 
-        return encodeFlattenedImage(flattenedImage, originalSize, FEED_PROFILE_MAX_WIDTH, FEED_PROFILE_MAX_HEIGHT,
-                FEED_PROFILE_COMPRESSION_QUALITY, "jpg", "image/jpeg", "jpg", "Feed image processed (JPEG)");
+        return encodeFlattenedImage(flattenedImage, orientation, originalSize, FEED_PROFILE_MAX_WIDTH,
+                FEED_PROFILE_MAX_HEIGHT, FEED_PROFILE_COMPRESSION_QUALITY, "jpg", "image/jpeg", "jpg",
+                "Feed image processed (JPEG)");
     }
 
-    private ProcessedImage encodeFlattenedImage(BufferedImage sourceImage, long originalSize, int maxWidth, int maxHeight,
-            double quality, String outputFormat, String contentType, String extension, String logLabel) throws IOException {
-        int targetWidth = Math.max(1, Math.min(maxWidth, sourceImage.getWidth()));
-        int targetHeight = Math.max(1, Math.min(maxHeight, sourceImage.getHeight()));
+    private ProcessedImage encodeVariant(BufferedImage image, ImageFilter orientation, long originalSize, int maxWidth,
+            int maxHeight, boolean encodeWebP) throws IOException {
+        if (encodeWebP) {
+            try {
+                return encodeFlattenedImage(image, orientation, originalSize, maxWidth, maxHeight, COMPRESSION_QUALITY,
+                        "webp", "image/webp", "webp", "Image variant processed (WebP)");
+            } catch (UnsatisfiedLinkError e) {
+                webpAvailable = false;
+                log.warn("Variant WebP native codec not available. Falling back to JPEG. reason={}", e.getMessage());
+            } catch (LinkageError e) {
+                webpAvailable = false;
+                log.warn("Variant WebP link error. Falling back to JPEG. reason={}", e.getMessage());
+            }
+            // WebP용으로는 알파 채널을 유지한 채 디코딩했으므로 JPEG로 가기 전에 불투명 RGB로 옮긴다.
+            image = flattenToOpaqueRgb(image);
+        }
+
+        return encodeFlattenedImage(image, orientation, originalSize, maxWidth, maxHeight, COMPRESSION_QUALITY,
+                "jpg", "image/jpeg", "jpg", "Image variant processed (JPEG)");
+    }
 
+    private ProcessedImage encodeFlattenedImage(BufferedImage sourceImage, ImageFilter orientation, long originalSize,
+            int maxWidth, int maxHeight, double quality, String outputFormat, String contentType, String extension,
+            String logLabel) throws IOException {
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            Thumbnails.of(sourceImage)
-                    .size(targetWidth, targetHeight)
-                    .keepAspectRatio(true)
+            resize(sourceImage, orientation, maxWidth, maxHeight)
                     .outputQuality(quality)
                     .outputFormat(outputFormat)
                     .toOutputStream(outputStream);
@@ -353,28 +516,26 @@ public class ImageUtil {
         }
     }
 
-    private BufferedImage flattenToOpaqueRgb(byte[] originalBytes) throws IOException {
-        try (InputStream inputStream = new ByteArrayInputStream(originalBytes)) {
-            BufferedImage image = javax.imageio.ImageIO.read(inputStream);
-            if (image == null) {
-                throw new IllegalArgumentException("이미지 데이터를 읽을 수 없습니다.");
-            }
-
-            BufferedImage flattenedImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
-            Graphics2D graphics = flattenedImage.createGraphics();
-            try {
-                graphics.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-                graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-                graphics.setColor(Color.WHITE);
-                graphics.fillRect(0, 0, flattenedImage.getWidth(), flattenedImage.getHeight());
-                graphics.drawImage(image, 0, 0, null);
-            } finally {
-                graphics.dispose();
-            }
-            return flattenedImage;
+    private BufferedImage flattenToOpaqueRgb(BufferedImage image) {
+        BufferedImage flattenedImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = flattenedImage.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, flattenedImage.getWidth(), flattenedImage.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
         }
+        return flattenedImage;
+    }
+
+    @FunctionalInterface
+    private interface ImageEncoder {
+        ProcessedImage encode(BufferedImage image, ImageFilter orientation) throws IOException;
     }
 
     private String getExtension(String filename) {
@@ -383,6 +544,14 @@ public class ImageUtil {
         return filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
     }
 
+    private String strippedExtension(String contentType) {
+        return switch (contentType) {
+            case "image/png" -> "png";
+            case "image/webp" -> "webp";
+            default -> "jpg";
+        };
+    }
+
     private String formatSize(long bytes) {
         if (bytes < 1024)
             return bytes + "B";
@@ -0,0 +1,186 @@
+package com.example.common.realtime;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 노드의 SimpleBroker 세션이 들고 있는 구독을 목적지/사용자 단위로 참조 카운트한다.
+ * 인터셉터를 통과한 SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트만 반영하므로,
+ * 카운트가 0인 라우트는 이 노드에서 전달해도 받을 세션이 없다.
+ * 라우트가 0↔1로 바뀔 때마다 리스너에 알려 Redis 라우팅 채널 구독을 맞추게 한다.
+ *
+ * 노출 메트릭:
+ * - realtime.local.routes (gauge): 이 노드에서 구독 중인 목적지/사용자 라우트 수
+ */
+@Component
+@Slf4j
+public class RealtimeLocalSubscriptionRegistry {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+
+    private final Map<String, Map<String, RealtimeRoute>> routesBySession = new HashMap<>();
+    private final Map<RealtimeRoute, Integer> routeCounts = new ConcurrentHashMap<>();
+    private final List<Consumer<RealtimeRoute>> routeListeners = new CopyOnWriteArrayList<>();
+
+    public RealtimeLocalSubscriptionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("realtime.local.routes", routeCounts, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 라우트 구독 여부가 바뀔 수 있을 때 호출된다. 알림 순서는 보장하지 않으므로
+     * 리스너는 {@link #isActive(RealtimeRoute)}로 현재 상태를 다시 읽어 맞춰야 한다.
+     */
+    public void addRouteListener(Consumer<RealtimeRoute> listener) {
+        routeListeners.add(listener);
+    }
+
+    public boolean isActive(RealtimeRoute route) {
+        return routeCounts.containsKey(route);
+    }
+
+    public boolean hasLocalInterest(RealtimeMessageEnvelope envelope) {
+        return isActive(RealtimeRoute.of(envelope));
+    }
+
+    public Set<RealtimeRoute> activeRoutes() {
+        return Set.copyOf(routeCounts.keySet());
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        subscribe(
+                accessor.getSessionId(),
+                accessor.getSubscriptionId(),
+                accessor.getDestination(),
+                resolveUser(event.getUser(), event.getMessage()));
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    void subscribe(String sessionId, String subscriptionId, String destination, Principal user) {
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+        RealtimeRoute route;
+        if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            if (user == null || user.getName() == null) {
+                return;
+            }
+            route = RealtimeRoute.user(user.getName());
+        } else {
+            route = RealtimeRoute.destination(destination);
+        }
+
+        boolean added;
+        synchronized (this) {
+            Map<String, RealtimeRoute> subscriptions =
+                    routesBySession.computeIfAbsent(sessionId, ignored -> new HashMap<>());
+            if (subscriptions.containsKey(subscriptionId)) {
+                return;
+            }
+            subscriptions.put(subscriptionId, route);
+            added = increment(route);
+        }
+        if (added) {
+            notifyListeners(route);
+        }
+    }
+
+    void unsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        RealtimeRoute removedRoute = null;
+        synchronized (this) {
+            Map<String, RealtimeRoute> subscriptions = routesBySession.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            RealtimeRoute route = subscriptions.remove(subscriptionId);
+            if (subscriptions.isEmpty()) {
+                routesBySession.remove(sessionId);
+            }
+            if (route != null && decrement(route)) {
+                removedRoute = route;
+            }
+        }
+        if (removedRoute != null) {
+            notifyListeners(removedRoute);
+        }
+    }
+
+    void disconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        List<RealtimeRoute> removedRoutes;
+        synchronized (this) {
+            Map<String, RealtimeRoute> subscriptions = routesBySession.remove(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            removedRoutes = subscriptions.values().stream()
+                    .filter(this::decrement)
+                    .distinct()
+                    .toList();
+        }
+        removedRoutes.forEach(this::notifyListeners);
+    }
+
+    // 0 → 1이 되면 true
+    private boolean increment(RealtimeRoute route) {
+        return routeCounts.merge(route, 1, Integer::sum) == 1;
+    }
+
+    // 1 → 0이 되면 true
+    private boolean decrement(RealtimeRoute route) {
+        if (!routeCounts.containsKey(route)) {
+            return false;
+        }
+        Integer remaining = routeCounts.computeIfPresent(route, (ignored, count) -> count > 1 ? count - 1 : null);
+        return remaining == null;
+    }
+
+    private void notifyListeners(RealtimeRoute route) {
+        for (Consumer<RealtimeRoute> listener : routeListeners) {
+            try {
+                listener.accept(route);
+            } catch (Exception e) {
+                log.warn("Realtime route listener failed route={}", route, e);
+            }
+        }
+    }
+
+    private Principal resolveUser(Principal eventUser, Message<?> message) {
+        return eventUser != null ? eventUser : SimpMessageHeaderAccessor.getUser(message.getHeaders());
+    }
+}
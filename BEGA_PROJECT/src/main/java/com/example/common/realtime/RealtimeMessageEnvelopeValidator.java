@@ -13,6 +13,7 @@ final class RealtimeMessageEnvelopeValidator {
     private static final Pattern PARTY_TOPIC_PATTERN = Pattern.compile("^/topic/party/\\d+$");
     private static final Pattern DM_TOPIC_PATTERN = Pattern.compile("^/topic/dm/\\d+$");
     private static final Pattern BATTLE_TOPIC_PATTERN = Pattern.compile("^/topic/battle/[A-Za-z0-9_-]{1,64}$");
+    private static final Pattern LIVE_GAME_TOPIC_PATTERN = Pattern.compile("^/topic/live(-relay)?/[A-Za-z0-9_-]{1,64}$");
     private static final String NOTIFICATION_QUEUE = "/queue/notifications";
 
     private RealtimeMessageEnvelopeValidator() {
@@ -57,7 +58,8 @@ final class RealtimeMessageEnvelopeValidator {
         String destination = envelope.destination();
         if (!PARTY_TOPIC_PATTERN.matcher(destination).matches()
                 && !DM_TOPIC_PATTERN.matcher(destination).matches()
-                && !BATTLE_TOPIC_PATTERN.matcher(destination).matches()) {
+                && !BATTLE_TOPIC_PATTERN.matcher(destination).matches()
+                && !LIVE_GAME_TOPIC_PATTERN.matcher(destination).matches()) {
             throw new IllegalArgumentException("Realtime broadcast destination is not allowed");
         }
     }
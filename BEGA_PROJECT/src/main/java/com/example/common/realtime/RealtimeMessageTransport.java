@@ -1,5 +1,9 @@
 package com.example.common.realtime;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Strict transport used by durable relays. A successful return means that the
  * envelope was accepted by the configured fan-out transport.
@@ -7,4 +11,21 @@ package com.example.common.realtime;
 public interface RealtimeMessageTransport {
 
     void publish(RealtimeMessageEnvelope envelope);
+
+    /**
+     * Publishes a batch of envelopes and reports per-envelope failures keyed by
+     * event id. An empty result means every envelope was accepted. Transports
+     * that can pipeline should override this; the default publishes one by one.
+     */
+    default Map<String, RuntimeException> publishAll(List<RealtimeMessageEnvelope> envelopes) {
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        for (RealtimeMessageEnvelope envelope : envelopes) {
+            try {
+                publish(envelope);
+            } catch (RuntimeException e) {
+                failures.put(envelope.eventId(), e);
+            }
+        }
+        return failures;
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.common.realtime;
 
+import java.time.Instant;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -11,7 +13,20 @@ public record RealtimeOutboxClaim(
         String destination,
         String userId,
         String payload,
-        int attemptCount) {
+        int attemptCount,
+        Instant createdAt) {
+
+    RealtimeOutboxClaim(
+            Long id,
+            int envelopeVersion,
+            String eventId,
+            RealtimeMessageEnvelope.Target target,
+            String destination,
+            String userId,
+            String payload,
+            int attemptCount) {
+        this(id, envelopeVersion, eventId, target, destination, userId, payload, attemptCount, null);
+    }
 
     static RealtimeOutboxClaim from(RealtimeOutboxEvent event) {
         return new RealtimeOutboxClaim(
@@ -22,7 +37,8 @@ public record RealtimeOutboxClaim(
                 event.getDestination(),
                 event.getUserId(),
                 event.getPayload(),
-                event.getAttemptCount());
+                event.getAttemptCount(),
+                event.getCreatedAt());
     }
 
     RealtimeMessageEnvelope toEnvelope(ObjectMapper objectMapper) {
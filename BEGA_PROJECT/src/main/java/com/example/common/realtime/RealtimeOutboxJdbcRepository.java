@@ -0,0 +1,50 @@
+package com.example.common.realtime;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 알림 fan-out 전용 outbox JDBC 배치 저장소.
+ * realtime_outbox_events는 IDENTITY 키라 Hibernate가 INSERT를 묶지 못하므로 한 chunk를 JDBC batch 한 번으로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RealtimeOutboxJdbcRepository {
+
+    private static final String INSERT_PENDING_SQL = """
+            INSERT INTO realtime_outbox_events
+                (envelope_version, event_id, target, destination, user_id, payload,
+                 status, attempt_count, available_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<RealtimeOutboxEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (RealtimeOutboxEvent event : events) {
+            batchArgs.add(new Object[] {
+                    event.getEnvelopeVersion(),
+                    event.getEventId(),
+                    event.getTarget().name(),
+                    event.getDestination(),
+                    event.getUserId(),
+                    event.getPayload(),
+                    event.getStatus().name(),
+                    event.getAttemptCount(),
+                    Timestamp.from(event.getAvailableAt()),
+                    Timestamp.from(event.getCreatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_PENDING_SQL, batchArgs);
+    }
+}
@@ -20,6 +20,11 @@ public class RealtimeOutboxProperties {
     private int cleanupBatchSize = 500;
     private int cleanupMaxBatches = 20;
     private Duration leaseClockSkew = Duration.ofSeconds(5);
+    private boolean batchClaimEnabled = false;
+    private int maxBatchesPerPoll = 5;
+    private boolean wakeupEnabled = true;
+    private Duration safetyPollInterval = Duration.ofSeconds(2);
+    private Duration wakeupBroadcastMinInterval = Duration.ofMillis(20);
 
     public boolean isEnabled() {
         return enabled;
@@ -108,4 +113,44 @@ public class RealtimeOutboxProperties {
     public void setLeaseClockSkew(Duration leaseClockSkew) {
         this.leaseClockSkew = leaseClockSkew;
     }
+
+    public boolean isBatchClaimEnabled() {
+        return batchClaimEnabled;
+    }
+
+    public void setBatchClaimEnabled(boolean batchClaimEnabled) {
+        this.batchClaimEnabled = batchClaimEnabled;
+    }
+
+    public int getMaxBatchesPerPoll() {
+        return maxBatchesPerPoll;
+    }
+
+    public void setMaxBatchesPerPoll(int maxBatchesPerPoll) {
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+    }
+
+    public boolean isWakeupEnabled() {
+        return wakeupEnabled;
+    }
+
+    public void setWakeupEnabled(boolean wakeupEnabled) {
+        this.wakeupEnabled = wakeupEnabled;
+    }
+
+    public Duration getSafetyPollInterval() {
+        return safetyPollInterval;
+    }
+
+    public void setSafetyPollInterval(Duration safetyPollInterval) {
+        this.safetyPollInterval = safetyPollInterval;
+    }
+
+    public Duration getWakeupBroadcastMinInterval() {
+        return wakeupBroadcastMinInterval;
+    }
+
+    public void setWakeupBroadcastMinInterval(Duration wakeupBroadcastMinInterval) {
+        this.wakeupBroadcastMinInterval = wakeupBroadcastMinInterval;
+    }
 }
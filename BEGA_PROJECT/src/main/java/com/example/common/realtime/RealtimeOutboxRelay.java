@@ -2,11 +2,16 @@ package com.example.common.realtime;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -14,6 +19,7 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -34,6 +40,9 @@ public class RealtimeOutboxRelay {
     private final RealtimeMessageTransport transport;
     private final RealtimeOutboxProperties properties;
     private final ObjectMapper objectMapper;
+    private final Executor drainExecutor;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private volatile Instant lastDrainAt = Instant.EPOCH;
     private final String workerId = UUID.randomUUID().toString();
     private final Counter publishSuccessCounter;
     private final Counter retryCounter;
@@ -42,17 +51,25 @@ public class RealtimeOutboxRelay {
     private final Counter claimLostCounter;
     private final Counter leaseLostCounter;
     private final Timer publishTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final DistributionSummary batchThroughputSummary;
+    private final Timer batchTimer;
+    private final Timer deliveryLatencyTimer;
+    private final Counter wakeupCounter;
 
     public RealtimeOutboxRelay(
             RealtimeOutboxStateService stateService,
             RealtimeMessageTransport transport,
             RealtimeOutboxProperties properties,
             MeterRegistry meterRegistry,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            RealtimeOutboxWakeup wakeup,
+            @Qualifier("realtimeOutboxTaskScheduler") Executor drainExecutor) {
         this.stateService = stateService;
         this.transport = transport;
         this.properties = properties;
         this.objectMapper = objectMapper;
+        this.drainExecutor = drainExecutor;
         this.publishSuccessCounter = Counter.builder("realtime.outbox.publish")
                 .tag("outcome", "success")
                 .register(meterRegistry);
@@ -72,21 +89,79 @@ public class RealtimeOutboxRelay {
                 .register(meterRegistry);
         this.publishTimer = Timer.builder("realtime.outbox.publish.duration")
                 .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("realtime.outbox.batch.size")
+                .baseUnit("events")
+                .register(meterRegistry);
+        this.batchThroughputSummary = DistributionSummary.builder("realtime.outbox.batch.throughput")
+                .baseUnit("events.per.second")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("realtime.outbox.batch.duration")
+                .register(meterRegistry);
+        this.deliveryLatencyTimer = Timer.builder("realtime.outbox.delivery.latency")
+                .description("Time from outbox row creation until the transport accepted it")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.wakeupCounter = Counter.builder("realtime.outbox.wakeup")
+                .register(meterRegistry);
         Gauge.builder("realtime.outbox.pending", stateService, RealtimeOutboxStateService::countActive)
                 .register(meterRegistry);
         Gauge.builder("realtime.outbox.oldest.age", stateService, this::oldestAgeSeconds)
                 .register(meterRegistry);
+        if (properties.isWakeupEnabled()) {
+            wakeup.registerListener(this::requestDrain);
+        }
     }
 
+    /**
+     * Fixed-delay tick. With wakeups enabled, committed writes trigger drains
+     * directly and this tick only hits the DB once per safety-poll interval to
+     * pick up retries, expired leases and missed signals.
+     */
     @Scheduled(
             fixedDelayString = "${app.realtime.outbox.poll-interval-ms:200}",
             scheduler = "realtimeOutboxTaskScheduler")
     void poll() {
-        Instant scanTime = Instant.now();
-        List<Long> ids = stateService.findClaimableIds(scanTime, properties.getBatchSize());
+        if (properties.isWakeupEnabled()
+                && Instant.now().isBefore(lastDrainAt.plus(properties.getSafetyPollInterval()))) {
+            return;
+        }
+        drain();
+    }
+
+    void requestDrain() {
+        if (!drainRequested.compareAndSet(false, true)) {
+            return;
+        }
+        wakeupCounter.increment();
+        try {
+            drainExecutor.execute(this::drainOnWakeup);
+        } catch (Exception e) {
+            drainRequested.set(false);
+            log.warn("Realtime outbox wakeup drain could not be scheduled: {}", e.getMessage());
+        }
+    }
+
+    private void drainOnWakeup() {
+        drainRequested.set(false);
+        if (drain()) {
+            requestDrain();
+        }
+    }
+
+    /**
+     * @return {@code true} when the last claim was full and more rows are likely due
+     */
+    private boolean drain() {
+        lastDrainAt = Instant.now();
+        if (properties.isBatchClaimEnabled()) {
+            return pollBatches();
+        }
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<Long> ids = stateService.findClaimableIds(lastDrainAt, batchSize);
         for (Long id : ids) {
             relayOne(id);
         }
+        return ids.size() >= batchSize;
     }
 
     @Scheduled(
@@ -109,6 +184,77 @@ public class RealtimeOutboxRelay {
         }
     }
 
+    private boolean pollBatches() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int maxBatches = Math.max(1, properties.getMaxBatchesPerPoll());
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int claimed = relayBatch(batchSize);
+            if (claimed < batchSize) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int relayBatch(int batchSize) {
+        long startedAt = System.nanoTime();
+        List<RealtimeOutboxClaim> claims = stateService.claimBatch(
+                workerId,
+                Instant.now(),
+                properties.getLeaseDuration(),
+                batchSize);
+        if (claims.isEmpty()) {
+            return 0;
+        }
+        claimWonCounter.increment(claims.size());
+        batchSizeSummary.record(claims.size());
+
+        List<RealtimeOutboxClaim> publishable = new ArrayList<>(claims.size());
+        List<RealtimeMessageEnvelope> envelopes = new ArrayList<>(claims.size());
+        for (RealtimeOutboxClaim claim : claims) {
+            try {
+                envelopes.add(claim.toEnvelope(objectMapper));
+                publishable.add(claim);
+            } catch (Exception e) {
+                handleFailure(claim, e);
+            }
+        }
+
+        Map<String, RuntimeException> failures = publishable.isEmpty()
+                ? Map.of()
+                : transport.publishAll(envelopes);
+        List<Long> publishedIds = new ArrayList<>(publishable.size());
+        Instant publishedAt = Instant.now();
+        for (RealtimeOutboxClaim claim : publishable) {
+            RuntimeException failure = failures.get(claim.eventId());
+            if (failure == null) {
+                publishedIds.add(claim.id());
+                recordDeliveryLatency(claim, publishedAt);
+            } else {
+                handleFailure(claim, failure);
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            int marked = stateService.markAllPublished(publishedIds, workerId, publishedAt);
+            publishSuccessCounter.increment(marked);
+            int lost = publishedIds.size() - marked;
+            if (lost > 0) {
+                leaseLostCounter.increment(lost);
+                log.warn(
+                        "Realtime outbox batch publish leases were lost count={} batchSize={} workerId={}",
+                        lost,
+                        claims.size(),
+                        workerId);
+            }
+        }
+
+        long elapsedNanos = Math.max(1L, System.nanoTime() - startedAt);
+        batchTimer.record(Duration.ofNanos(elapsedNanos));
+        batchThroughputSummary.record(claims.size() * 1_000_000_000.0 / elapsedNanos);
+        return claims.size();
+    }
+
     private void relayOne(Long id) {
         Instant claimTime = Instant.now();
         Optional<RealtimeOutboxClaim> claim = stateService.claim(
@@ -128,7 +274,9 @@ public class RealtimeOutboxRelay {
         Timer.Sample sample = Timer.start();
         try {
             transport.publish(claim.toEnvelope(objectMapper));
-            if (!stateService.markPublished(claim.id(), workerId, Instant.now())) {
+            Instant publishedAt = Instant.now();
+            recordDeliveryLatency(claim, publishedAt);
+            if (!stateService.markPublished(claim.id(), workerId, publishedAt)) {
                 leaseLostCounter.increment();
                 log.warn(
                         "Realtime outbox publish lease was lost outboxId={} eventId={} target={} destination={} attempt={} workerId={}",
@@ -148,6 +296,12 @@ public class RealtimeOutboxRelay {
         }
     }
 
+    private void recordDeliveryLatency(RealtimeOutboxClaim claim, Instant publishedAt) {
+        if (claim.createdAt() != null && !publishedAt.isBefore(claim.createdAt())) {
+            deliveryLatencyTimer.record(Duration.between(claim.createdAt(), publishedAt));
+        }
+    }
+
     private void handleFailure(RealtimeOutboxClaim claim, Exception failure) {
         boolean dead = claim.attemptCount() >= properties.getMaxAttempts();
         RealtimeOutboxStatus nextStatus = dead
@@ -26,6 +26,39 @@ public interface RealtimeOutboxRepository extends JpaRepository<RealtimeOutboxEv
             @Param("leaseExpiredBefore") Instant leaseExpiredBefore,
             Pageable pageable);
 
+    @Query("""
+            select event
+            from RealtimeOutboxEvent event
+            where event.id in :ids
+              and event.status = :processingStatus
+              and event.lockedBy = :workerId
+            order by event.id
+            """)
+    List<RealtimeOutboxEvent> findLeasedBy(
+            @Param("ids") Collection<Long> ids,
+            @Param("workerId") String workerId,
+            @Param("processingStatus") RealtimeOutboxStatus processingStatus);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update RealtimeOutboxEvent event
+               set event.status = :processingStatus,
+                   event.lockedBy = :workerId,
+                   event.lockedUntil = :lockedUntil,
+                   event.attemptCount = event.attemptCount + 1
+             where event.id in :ids
+               and ((event.status in :readyStatuses and event.availableAt <= :dueAt)
+                    or (event.status = :processingStatus and event.lockedUntil <= :leaseExpiredBefore))
+            """)
+    int claimAllIfAvailable(
+            @Param("ids") Collection<Long> ids,
+            @Param("workerId") String workerId,
+            @Param("dueAt") Instant dueAt,
+            @Param("leaseExpiredBefore") Instant leaseExpiredBefore,
+            @Param("lockedUntil") Instant lockedUntil,
+            @Param("readyStatuses") Collection<RealtimeOutboxStatus> readyStatuses,
+            @Param("processingStatus") RealtimeOutboxStatus processingStatus);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
             update RealtimeOutboxEvent event
@@ -81,6 +114,25 @@ public interface RealtimeOutboxRepository extends JpaRepository<RealtimeOutboxEv
             @Param("processingStatus") RealtimeOutboxStatus processingStatus,
             @Param("publishedStatus") RealtimeOutboxStatus publishedStatus);
 
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update RealtimeOutboxEvent event
+               set event.status = :publishedStatus,
+                   event.publishedAt = :publishedAt,
+                   event.lockedBy = null,
+                   event.lockedUntil = null,
+                   event.lastError = null
+             where event.id in :ids
+               and event.status = :processingStatus
+               and event.lockedBy = :workerId
+            """)
+    int markAllPublished(
+            @Param("ids") Collection<Long> ids,
+            @Param("workerId") String workerId,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("processingStatus") RealtimeOutboxStatus processingStatus,
+            @Param("publishedStatus") RealtimeOutboxStatus publishedStatus);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
             update RealtimeOutboxEvent event
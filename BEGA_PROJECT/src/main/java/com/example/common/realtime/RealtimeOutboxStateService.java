@@ -2,6 +2,7 @@ package com.example.common.realtime;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,6 +58,48 @@ public class RealtimeOutboxStateService {
         return repository.findById(id).map(RealtimeOutboxClaim::from);
     }
 
+    /**
+     * Claims up to {@code batchSize} events in one transaction: a plain select
+     * of candidate ids, one conditional bulk update that leases only the rows
+     * that are still claimable, and a re-read of the rows this worker now holds.
+     * A relay racing on the same ids blocks on the row locks of the update and
+     * then re-evaluates the predicate, so the two batches stay disjoint and a
+     * partial claim is the expected outcome. Lease and attempt semantics match
+     * {@link #claim}.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<RealtimeOutboxClaim> claimBatch(
+            String workerId,
+            Instant now,
+            Duration leaseDuration,
+            int batchSize) {
+        Duration clockSkew = clockSkew();
+        List<Long> candidateIds = repository.findClaimableIds(
+                CLAIMABLE_STATUSES,
+                RealtimeOutboxStatus.PROCESSING,
+                now,
+                now.minus(clockSkew),
+                PageRequest.of(0, Math.max(1, batchSize)));
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        int claimed = repository.claimAllIfAvailable(
+                candidateIds,
+                workerId,
+                now,
+                now.minus(clockSkew),
+                now.plus(leaseDuration).plus(clockSkew),
+                CLAIMABLE_STATUSES,
+                RealtimeOutboxStatus.PROCESSING);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return repository.findLeasedBy(candidateIds, workerId, RealtimeOutboxStatus.PROCESSING)
+                .stream()
+                .map(RealtimeOutboxClaim::from)
+                .toList();
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public boolean markPublished(Long id, String workerId, Instant publishedAt) {
         return repository.markPublished(
@@ -67,6 +110,19 @@ public class RealtimeOutboxStateService {
                 RealtimeOutboxStatus.PUBLISHED) == 1;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int markAllPublished(Collection<Long> ids, String workerId, Instant publishedAt) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return repository.markAllPublished(
+                ids,
+                workerId,
+                publishedAt,
+                RealtimeOutboxStatus.PROCESSING,
+                RealtimeOutboxStatus.PUBLISHED);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public boolean markFailure(
             Long id,
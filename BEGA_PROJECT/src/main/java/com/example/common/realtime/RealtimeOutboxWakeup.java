@@ -0,0 +1,72 @@
+package com.example.common.realtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Signals relays that new outbox rows are committed so they can drain without
+ * waiting for the next safety poll. Local listeners run on this node; broadcasters
+ * forward the signal to other nodes.
+ */
+@Component
+@Slf4j
+public class RealtimeOutboxWakeup {
+
+    private static final Object SIGNAL_RESOURCE_KEY = RealtimeOutboxWakeup.class.getName() + ".pending";
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> broadcasters = new CopyOnWriteArrayList<>();
+
+    public void registerListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void registerBroadcaster(Runnable broadcaster) {
+        broadcasters.add(broadcaster);
+    }
+
+    /**
+     * Registers one signal per transaction, fired only after a successful commit.
+     */
+    public void signalAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(SIGNAL_RESOURCE_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(SIGNAL_RESOURCE_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SIGNAL_RESOURCE_KEY);
+                if (status == STATUS_COMMITTED) {
+                    signal();
+                }
+            }
+        });
+    }
+
+    public void signal() {
+        notifyAll(listeners);
+        notifyAll(broadcasters);
+    }
+
+    public void onRemoteSignal() {
+        notifyAll(listeners);
+    }
+
+    private void notifyAll(List<Runnable> targets) {
+        for (Runnable target : targets) {
+            try {
+                target.run();
+            } catch (Exception e) {
+                log.warn("Realtime outbox wakeup signal failed", e);
+            }
+        }
+    }
+}
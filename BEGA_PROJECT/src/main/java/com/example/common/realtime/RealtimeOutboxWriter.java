@@ -1,22 +1,44 @@
 package com.example.common.realtime;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class RealtimeOutboxWriter {
 
     private final RealtimeOutboxRepository repository;
     private final ObjectMapper objectMapper;
+    private final RealtimeOutboxWakeup wakeup;
+    private final @Nullable RealtimeOutboxJdbcRepository jdbcRepository;
+
+    public RealtimeOutboxWriter(
+            RealtimeOutboxRepository repository,
+            ObjectMapper objectMapper,
+            RealtimeOutboxWakeup wakeup) {
+        this(repository, objectMapper, wakeup, null);
+    }
+
+    @Autowired
+    public RealtimeOutboxWriter(
+            RealtimeOutboxRepository repository,
+            ObjectMapper objectMapper,
+            RealtimeOutboxWakeup wakeup,
+            @Nullable RealtimeOutboxJdbcRepository jdbcRepository) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.wakeup = wakeup;
+        this.jdbcRepository = jdbcRepository;
+    }
 
     public void broadcast(String destination, Object payload) {
         write(RealtimeMessageEnvelope.broadcast(
@@ -33,24 +55,63 @@ public class RealtimeOutboxWriter {
                 objectMapper.valueToTree(payload)));
     }
 
+    /**
+     * 여러 사용자에게 보내는 메시지를 한 번에 outbox에 쓴다.
+     * JDBC 배치 저장소가 있으면 INSERT 한 batch로, 없으면 행마다 저장한다. wakeup은 커밋 후 한 번만 보낸다.
+     */
+    public void sendToUsers(String destination, List<UserMessage> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        requireActiveTransaction();
+
+        Instant now = Instant.now();
+        List<RealtimeOutboxEvent> events = new ArrayList<>(messages.size());
+        for (UserMessage message : messages) {
+            events.add(pending(RealtimeMessageEnvelope.user(
+                    UUID.randomUUID().toString(),
+                    message.userId(),
+                    destination,
+                    objectMapper.valueToTree(message.payload())), now));
+        }
+        if (jdbcRepository != null) {
+            jdbcRepository.insertAll(events);
+        } else {
+            repository.saveAll(events);
+        }
+        wakeup.signalAfterCommit();
+    }
+
     private void write(RealtimeMessageEnvelope envelope) {
+        requireActiveTransaction();
+
+        repository.save(pending(envelope, Instant.now()));
+        wakeup.signalAfterCommit();
+    }
+
+    private void requireActiveTransaction() {
         if (!TransactionSynchronizationManager.isActualTransactionActive()) {
             throw new IllegalStateException("Realtime outbox write requires an active transaction");
         }
+    }
 
+    private RealtimeOutboxEvent pending(RealtimeMessageEnvelope envelope, Instant now) {
         RealtimeMessageEnvelopeValidator.validate(envelope);
         try {
             String serializedEnvelope = objectMapper.writeValueAsString(envelope);
             RealtimeMessageEnvelopeValidator.validateSerialized(serializedEnvelope);
             JsonNode payload = envelope.payload();
-            repository.save(RealtimeOutboxEvent.pending(
+            return RealtimeOutboxEvent.pending(
                     envelope,
                     objectMapper.writeValueAsString(payload),
-                    Instant.now()));
+                    now);
         } catch (IllegalArgumentException e) {
             throw e;
         } catch (Exception e) {
             throw new IllegalStateException("Failed to serialize realtime outbox event", e);
         }
     }
+
+    public record UserMessage(String userId, Object payload) {
+    }
 }
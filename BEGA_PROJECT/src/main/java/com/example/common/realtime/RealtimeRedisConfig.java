@@ -16,10 +16,17 @@ public class RealtimeRedisConfig {
     public RedisMessageListenerContainer realtimeRedisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             RedisRealtimeMessageSubscriber subscriber,
+            RedisRealtimeOutboxWakeupChannel outboxWakeupChannel,
             @Value("${app.realtime.redis-channel:bega:realtime:v1}") String redisChannel) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        // 라우팅 채널은 RedisRealtimeRouteSubscriptions가 로컬 구독에 맞춰 붙인다.
+        // 공용 채널은 라우팅을 끈 노드와 롤링 배포 중 이전 버전 노드가 보내는 메시지를 받기 위해 유지한다.
+        // 반대로 이전 버전 노드는 공용 채널만 구독하므로, 라우팅 도입 릴리스 동안은 발행 노드가 공용 채널에도 함께 보낸다
+        // (app.realtime.redis-routing.legacy-publish.enabled). 그 사본은 표식이 붙어 있어 라우팅을 켠 노드의 subscriber가 건너뛴다.
         container.addMessageListener(subscriber, new ChannelTopic(redisChannel));
+        container.addMessageListener(outboxWakeupChannel, new ChannelTopic(outboxWakeupChannel.getChannel()));
+        // 노드 로컬 캐시/인증 상태 무효화 채널도 이 컨테이너에 구독을 붙여 Redis 연결을 늘리지 않는다.
         return container;
     }
 }
@@ -0,0 +1,32 @@
+package com.example.common.realtime;
+
+/**
+ * 실시간 메시지가 도달해야 하는 노드 로컬 구독 단위.
+ * BROADCAST는 STOMP 목적지(/topic/...) 하나, USER는 사용자 큐를 구독한 사용자 하나를 가리키며
+ * Redis 라우팅 채널 이름도 이 단위로 나뉜다.
+ */
+public record RealtimeRoute(RealtimeMessageEnvelope.Target target, String key) {
+
+    private static final String DESTINATION_CHANNEL_SEGMENT = ":d:";
+    private static final String USER_CHANNEL_SEGMENT = ":u:";
+
+    public static RealtimeRoute destination(String destination) {
+        return new RealtimeRoute(RealtimeMessageEnvelope.Target.BROADCAST, destination);
+    }
+
+    public static RealtimeRoute user(String userId) {
+        return new RealtimeRoute(RealtimeMessageEnvelope.Target.USER, userId);
+    }
+
+    public static RealtimeRoute of(RealtimeMessageEnvelope envelope) {
+        return envelope.target() == RealtimeMessageEnvelope.Target.USER
+                ? user(envelope.userId())
+                : destination(envelope.destination());
+    }
+
+    public String channel(String baseChannel) {
+        return baseChannel
+                + (target == RealtimeMessageEnvelope.Target.USER ? USER_CHANNEL_SEGMENT : DESTINATION_CHANNEL_SEGMENT)
+                + key;
+    }
+}
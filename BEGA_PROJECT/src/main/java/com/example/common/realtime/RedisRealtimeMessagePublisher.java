@@ -1,35 +1,104 @@
 package com.example.common.realtime;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Redis Pub/Sub 실시간 전송.
+ * 라우팅이 켜져 있으면 공용 채널 대신 목적지/사용자별 채널({@link RealtimeRoute#channel(String)})로 보내,
+ * 해당 라우트를 로컬 세션이 구독 중인 노드만 메시지를 받는다.
+ * 라우팅 채널의 구독자가 0이어도 이 노드에 로컬 구독이 없으면 받을 세션이 없는 것이므로 성공으로 본다.
+ * 로컬 구독이 있는데 0이면 이 노드의 Redis 구독이 어긋난 것이므로 기존처럼 로컬 전달하거나 실패로 돌린다.
+ * 라우팅 도입 릴리스 동안은 공용 채널만 구독하는 이전 버전 노드를 위해 공용 채널에도 같은 envelope를 보낸다
+ * ({@code app.realtime.redis-routing.legacy-publish.enabled}). 공용 채널 사본은 앞에 {@link #LEGACY_COPY_MARKER}를 붙여 보내므로
+ * 이전 버전 노드는 JSON 앞 공백으로 보고 그대로 읽고, 라우팅 채널을 구독하는 새 노드는 파싱 전에 버린다.
+ * 모든 노드가 새 버전으로 바뀐 다음 릴리스에서 이 설정을 끈다(docs/REALTIME_REDIS_ROUTING_ROLLOUT.md).
+ *
+ * 노출 메트릭:
+ * - realtime.redis.publish{outcome=delivered|unrouted|fallback} (counter)
+ */
 @Component
 @Slf4j
 @ConditionalOnProperty(prefix = "app.realtime", name = "transport", havingValue = "redis", matchIfMissing = true)
 public class RedisRealtimeMessagePublisher implements RealtimeMessagePublisher, RealtimeMessageTransport {
 
+    /** 라우팅 발행 노드가 공용 채널로 보내는 사본의 표식. JSON 파서는 앞 공백을 무시한다. */
+    static final String LEGACY_COPY_MARKER = "\t";
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
     private final RealtimeMessageDispatcher fallbackDispatcher;
     private final String redisChannel;
+    private final @Nullable RealtimeLocalSubscriptionRegistry subscriptionRegistry;
+    private final boolean legacyPublish;
+    private final Counter deliveredCounter;
+    private final Counter unroutedCounter;
+    private final Counter fallbackCounter;
+
+    public RedisRealtimeMessagePublisher(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            RealtimeMessageDispatcher fallbackDispatcher,
+            String redisChannel) {
+        this(redisTemplate, objectMapper, fallbackDispatcher, redisChannel, null, false, Metrics.globalRegistry);
+    }
+
+    public RedisRealtimeMessagePublisher(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            RealtimeMessageDispatcher fallbackDispatcher,
+            String redisChannel,
+            @Nullable RealtimeLocalSubscriptionRegistry subscriptionRegistry,
+            boolean routingEnabled,
+            MeterRegistry meterRegistry) {
+        this(redisTemplate, objectMapper, fallbackDispatcher, redisChannel, subscriptionRegistry, routingEnabled,
+                false, meterRegistry);
+    }
 
+    @Autowired
     public RedisRealtimeMessagePublisher(
             StringRedisTemplate redisTemplate,
             ObjectMapper objectMapper,
             RealtimeMessageDispatcher fallbackDispatcher,
-            @Value("${app.realtime.redis-channel:bega:realtime:v1}") String redisChannel) {
+            @Value("${app.realtime.redis-channel:bega:realtime:v1}") String redisChannel,
+            @Nullable RealtimeLocalSubscriptionRegistry subscriptionRegistry,
+            @Value("${app.realtime.redis-routing.enabled:true}") boolean routingEnabled,
+            @Value("${app.realtime.redis-routing.legacy-publish.enabled:false}") boolean legacyPublishEnabled,
+            MeterRegistry meterRegistry) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
         this.fallbackDispatcher = fallbackDispatcher;
         this.redisChannel = redisChannel;
+        this.subscriptionRegistry = routingEnabled ? subscriptionRegistry : null;
+        this.legacyPublish = this.subscriptionRegistry != null && legacyPublishEnabled;
+        this.deliveredCounter = Counter.builder("realtime.redis.publish")
+                .tag("outcome", "delivered")
+                .register(meterRegistry);
+        this.unroutedCounter = Counter.builder("realtime.redis.publish")
+                .tag("outcome", "unrouted")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("realtime.redis.publish")
+                .tag("outcome", "fallback")
+                .register(meterRegistry);
     }
 
     @Override
@@ -64,8 +133,8 @@ public class RedisRealtimeMessagePublisher implements RealtimeMessagePublisher,
         RealtimeMessageEnvelopeValidator.validateSerialized(serializedEnvelope);
 
         try {
-            Long subscriberCount = redisTemplate.convertAndSend(redisChannel, serializedEnvelope);
-            if (subscriberCount == null || subscriberCount <= 0) {
+            Long subscriberCount = send(envelope, serializedEnvelope);
+            if (!isAccepted(envelope, subscriberCount)) {
                 throw new RealtimeMessageTransportException(
                         "Realtime Redis channel has no subscribers");
             }
@@ -76,6 +145,70 @@ public class RedisRealtimeMessagePublisher implements RealtimeMessagePublisher,
         }
     }
 
+    @Override
+    public Map<String, RuntimeException> publishAll(List<RealtimeMessageEnvelope> envelopes) {
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        List<RealtimeMessageEnvelope> accepted = new ArrayList<>(envelopes.size());
+        List<String> serializedEnvelopes = new ArrayList<>(envelopes.size());
+        for (RealtimeMessageEnvelope envelope : envelopes) {
+            try {
+                RealtimeMessageEnvelopeValidator.validate(envelope);
+                String serializedEnvelope = objectMapper.writeValueAsString(envelope);
+                RealtimeMessageEnvelopeValidator.validateSerialized(serializedEnvelope);
+                accepted.add(envelope);
+                serializedEnvelopes.add(serializedEnvelope);
+            } catch (IllegalArgumentException e) {
+                failures.put(envelope.eventId(), e);
+            } catch (Exception e) {
+                failures.put(
+                        envelope.eventId(),
+                        new RealtimeMessageTransportException("Realtime Redis serialization failed", e));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return failures;
+        }
+
+        List<Object> subscriberCounts;
+        try {
+            subscriberCounts = redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings({ "rawtypes", "unchecked" })
+                public Object execute(RedisOperations operations) {
+                    for (int i = 0; i < accepted.size(); i++) {
+                        operations.convertAndSend(channelFor(accepted.get(i)), serializedEnvelopes.get(i));
+                        if (legacyPublish) {
+                            operations.convertAndSend(redisChannel, LEGACY_COPY_MARKER + serializedEnvelopes.get(i));
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            RealtimeMessageTransportException failure =
+                    new RealtimeMessageTransportException("Realtime Redis publish failed", e);
+            accepted.forEach(envelope -> failures.put(envelope.eventId(), failure));
+            return failures;
+        }
+
+        int sendsPerEnvelope = legacyPublish ? 2 : 1;
+        for (int i = 0; i < accepted.size(); i++) {
+            Long subscriberCount = null;
+            for (int j = i * sendsPerEnvelope; j < (i + 1) * sendsPerEnvelope; j++) {
+                Object result = subscriberCounts != null && j < subscriberCounts.size()
+                        ? subscriberCounts.get(j)
+                        : null;
+                subscriberCount = sum(subscriberCount, result instanceof Long count ? count : null);
+            }
+            if (!isAccepted(accepted.get(i), subscriberCount)) {
+                failures.put(
+                        accepted.get(i).eventId(),
+                        new RealtimeMessageTransportException("Realtime Redis channel has no subscribers"));
+            }
+        }
+        return failures;
+    }
+
     private void publishBestEffort(RealtimeMessageEnvelope envelope) {
         RealtimeMessageEnvelopeValidator.validate(envelope);
 
@@ -88,6 +221,7 @@ public class RedisRealtimeMessagePublisher implements RealtimeMessagePublisher,
                     envelope.eventId(),
                     envelope.destination(),
                     e);
+            fallbackCounter.increment();
             fallbackDispatcher.dispatch(envelope);
             return;
         }
@@ -95,8 +229,8 @@ public class RedisRealtimeMessagePublisher implements RealtimeMessagePublisher,
         RealtimeMessageEnvelopeValidator.validateSerialized(serializedEnvelope);
 
         try {
-            Long subscriberCount = redisTemplate.convertAndSend(redisChannel, serializedEnvelope);
-            if (subscriberCount != null && subscriberCount > 0) {
+            Long subscriberCount = send(envelope, serializedEnvelope);
+            if (isAccepted(envelope, subscriberCount)) {
                 return;
             }
 
@@ -112,6 +246,39 @@ public class RedisRealtimeMessagePublisher implements RealtimeMessagePublisher,
                     e);
         }
 
+        fallbackCounter.increment();
         fallbackDispatcher.dispatch(envelope);
     }
+
+    private Long send(RealtimeMessageEnvelope envelope, String serializedEnvelope) {
+        Long subscriberCount = redisTemplate.convertAndSend(channelFor(envelope), serializedEnvelope);
+        if (!legacyPublish) {
+            return subscriberCount;
+        }
+        return sum(subscriberCount, redisTemplate.convertAndSend(redisChannel, LEGACY_COPY_MARKER + serializedEnvelope));
+    }
+
+    private static Long sum(Long left, Long right) {
+        if (left == null) {
+            return right;
+        }
+        return right == null ? left : left + right;
+    }
+
+    private String channelFor(RealtimeMessageEnvelope envelope) {
+        return subscriptionRegistry == null ? redisChannel : RealtimeRoute.of(envelope).channel(redisChannel);
+    }
+
+    private boolean isAccepted(RealtimeMessageEnvelope envelope, Long subscriberCount) {
+        if (subscriberCount != null && subscriberCount > 0) {
+            deliveredCounter.increment();
+            return true;
+        }
+        // 라우팅 채널에서는 구독자 0이 곧 "받을 노드 없음"이다. 단 이 노드에 로컬 구독이 있으면 구독 누락이다.
+        if (subscriptionRegistry != null && !subscriptionRegistry.hasLocalInterest(envelope)) {
+            unroutedCounter.increment();
+            return true;
+        }
+        return false;
+    }
 }
@@ -2,6 +2,9 @@ package com.example.common.realtime;
 
 import java.nio.charset.StandardCharsets;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
@@ -9,17 +12,75 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Redis로 받은 실시간 envelope를 이 노드의 STOMP 구독자에게 전달한다.
+ * 로컬 구독 레지스트리가 있으면 이 노드에 받을 세션이 없는 envelope는 브로커에 넘기지 않고 버린다.
+ * 발행 노드가 라우팅 채널과 공용 채널에 함께 보내는 동안({@code app.realtime.redis-routing.legacy-publish.enabled})에는
+ * 공용 채널 사본에 {@link RedisRealtimeMessagePublisher#LEGACY_COPY_MARKER}가 붙어 오므로, 라우팅이 켜진 노드는
+ * 같은 envelope를 라우팅 채널로 받는 것으로 보고 파싱 전에 버린다.
+ *
+ * 노출 메트릭 (노드별):
+ * - realtime.redis.fanout{outcome=received|dispatched|dropped|skipped|rejected} (counter)
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 @ConditionalOnProperty(prefix = "app.realtime", name = "transport", havingValue = "redis", matchIfMissing = true)
 public class RedisRealtimeMessageSubscriber implements MessageListener {
 
     private final ObjectMapper objectMapper;
     private final RealtimeMessageDispatcher dispatcher;
+    private final @Nullable RealtimeLocalSubscriptionRegistry subscriptionRegistry;
+    private final boolean skipLegacyCopies;
+    private final Counter receivedCounter;
+    private final Counter dispatchedCounter;
+    private final Counter droppedCounter;
+    private final Counter skippedCounter;
+    private final Counter rejectedCounter;
+
+    public RedisRealtimeMessageSubscriber(ObjectMapper objectMapper, RealtimeMessageDispatcher dispatcher) {
+        this(objectMapper, dispatcher, null, Metrics.globalRegistry);
+    }
+
+    public RedisRealtimeMessageSubscriber(
+            ObjectMapper objectMapper,
+            RealtimeMessageDispatcher dispatcher,
+            @Nullable RealtimeLocalSubscriptionRegistry subscriptionRegistry,
+            MeterRegistry meterRegistry) {
+        this(objectMapper, dispatcher, subscriptionRegistry, false, meterRegistry);
+    }
+
+    @Autowired
+    public RedisRealtimeMessageSubscriber(
+            ObjectMapper objectMapper,
+            RealtimeMessageDispatcher dispatcher,
+            @Nullable RealtimeLocalSubscriptionRegistry subscriptionRegistry,
+            @Value("${app.realtime.redis-routing.enabled:true}") boolean routingEnabled,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.skipLegacyCopies = routingEnabled;
+        this.receivedCounter = Counter.builder("realtime.redis.fanout")
+                .tag("outcome", "received")
+                .register(meterRegistry);
+        this.dispatchedCounter = Counter.builder("realtime.redis.fanout")
+                .tag("outcome", "dispatched")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("realtime.redis.fanout")
+                .tag("outcome", "dropped")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("realtime.redis.fanout")
+                .tag("outcome", "skipped")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("realtime.redis.fanout")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
@@ -27,15 +88,35 @@ public class RedisRealtimeMessageSubscriber implements MessageListener {
     }
 
     public void handleMessage(String serializedEnvelope) {
+        receivedCounter.increment();
+        if (skipLegacyCopies
+                && serializedEnvelope != null
+                && serializedEnvelope.startsWith(RedisRealtimeMessagePublisher.LEGACY_COPY_MARKER)) {
+            skippedCounter.increment();
+            return;
+        }
+        RealtimeMessageEnvelope envelope;
         try {
             RealtimeMessageEnvelopeValidator.validateSerialized(serializedEnvelope);
-            RealtimeMessageEnvelope envelope = objectMapper.readValue(
+            envelope = objectMapper.readValue(
                     serializedEnvelope,
                     RealtimeMessageEnvelope.class);
             RealtimeMessageEnvelopeValidator.validate(envelope);
-            dispatcher.dispatch(envelope);
         } catch (Exception e) {
+            rejectedCounter.increment();
             log.warn("Realtime Redis message was rejected", e);
+            return;
+        }
+
+        if (subscriptionRegistry != null && !subscriptionRegistry.hasLocalInterest(envelope)) {
+            droppedCounter.increment();
+            return;
+        }
+        try {
+            dispatcher.dispatch(envelope);
+            dispatchedCounter.increment();
+        } catch (Exception e) {
+            log.warn("Realtime Redis message dispatch failed eventId={}", envelope.eventId(), e);
         }
     }
 }
@@ -0,0 +1,71 @@
+package com.example.common.realtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cross-node outbox wakeup over Redis pub/sub. Publishes are throttled because a
+ * wakeup only shortens latency; the writing node always drains its own rows.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.realtime", name = "transport", havingValue = "redis", matchIfMissing = true)
+public class RedisRealtimeOutboxWakeupChannel implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RealtimeOutboxWakeup wakeup;
+    private final String channel;
+    private final long minPublishIntervalNanos;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong lastPublishNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    public RedisRealtimeOutboxWakeupChannel(
+            StringRedisTemplate redisTemplate,
+            RealtimeOutboxWakeup wakeup,
+            RealtimeOutboxProperties properties,
+            @Value("${app.realtime.outbox.wakeup-channel:bega:realtime:outbox-wakeup:v1}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.wakeup = wakeup;
+        this.channel = channel;
+        this.minPublishIntervalNanos = Math.max(0L, properties.getWakeupBroadcastMinInterval().toNanos());
+        if (properties.isWakeupEnabled()) {
+            wakeup.registerBroadcaster(this::broadcast);
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    void broadcast() {
+        long now = System.nanoTime();
+        long last = lastPublishNanos.get();
+        if (now - last < minPublishIntervalNanos || !lastPublishNanos.compareAndSet(last, now)) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, nodeId);
+        } catch (Exception e) {
+            log.debug("Realtime outbox wakeup broadcast failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (nodeId.equals(sender)) {
+            return;
+        }
+        wakeup.onRemoteSignal();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.common.realtime;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 구독 레지스트리의 라우트 변화를 Redis 라우팅 채널 구독으로 옮긴다.
+ * 목적지/사용자를 처음 구독한 세션이 생기면 해당 채널을 SUBSCRIBE하고, 마지막 세션이 빠지면 UNSUBSCRIBE한다.
+ * 알림은 순서가 뒤바뀔 수 있으므로 매번 레지스트리의 현재 상태로 맞춘다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.realtime", name = "transport", havingValue = "redis", matchIfMissing = true)
+public class RedisRealtimeRouteSubscriptions {
+
+    private final RealtimeLocalSubscriptionRegistry subscriptionRegistry;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisRealtimeMessageSubscriber subscriber;
+    private final String redisChannel;
+    private final boolean routingEnabled;
+    private final Set<RealtimeRoute> subscribedRoutes = new HashSet<>();
+
+    public RedisRealtimeRouteSubscriptions(
+            RealtimeLocalSubscriptionRegistry subscriptionRegistry,
+            @Qualifier("realtimeRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+            RedisRealtimeMessageSubscriber subscriber,
+            @Value("${app.realtime.redis-channel:bega:realtime:v1}") String redisChannel,
+            @Value("${app.realtime.redis-routing.enabled:true}") boolean routingEnabled) {
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.listenerContainer = listenerContainer;
+        this.subscriber = subscriber;
+        this.redisChannel = redisChannel;
+        this.routingEnabled = routingEnabled;
+    }
+
+    @PostConstruct
+    void init() {
+        if (!routingEnabled) {
+            return;
+        }
+        subscriptionRegistry.addRouteListener(this::reconcile);
+        subscriptionRegistry.activeRoutes().forEach(this::reconcile);
+    }
+
+    synchronized void reconcile(RealtimeRoute route) {
+        ChannelTopic topic = new ChannelTopic(route.channel(redisChannel));
+        if (subscriptionRegistry.isActive(route)) {
+            if (subscribedRoutes.add(route)) {
+                listenerContainer.addMessageListener(subscriber, topic);
+                log.debug("Realtime Redis route subscribed channel={}", topic.getTopic());
+            }
+        } else if (subscribedRoutes.remove(route)) {
+            listenerContainer.removeMessageListener(subscriber, topic);
+            log.debug("Realtime Redis route unsubscribed channel={}", topic.getTopic());
+        }
+    }
+
+    synchronized int subscribedRouteCount() {
+        return subscribedRoutes.size();
+    }
+}
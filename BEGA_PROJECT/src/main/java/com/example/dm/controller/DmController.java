@@ -1,5 +1,6 @@
 package com.example.dm.controller;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.common.dto.ApiResponse;
@@ -30,10 +32,18 @@ public class DmController {
     private final DmRoomService dmRoomService;
     private final DmMessageService dmMessageService;
 
+    // 받은편지함 (최근 활동 순 keyset 페이지, 다음 페이지는 마지막 항목의 lastActivityAt/roomId를 before 값으로 전달)
     @GetMapping("/rooms/my")
     public ResponseEntity<ApiResponse<List<DmRoomDto.InboxItem>>> getMyRooms(
-            @AuthenticationPrincipal Long currentUserId) {
-        List<DmRoomDto.InboxItem> rooms = dmRoomService.getMyRooms(currentUserId);
+            @AuthenticationPrincipal Long currentUserId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Instant beforeActivityAt,
+            @RequestParam(required = false) Long beforeRoomId) {
+        List<DmRoomDto.InboxItem> rooms = dmRoomService.getMyRooms(
+                currentUserId,
+                limit,
+                beforeActivityAt,
+                beforeRoomId);
         return ResponseEntity.ok(ApiResponse.success("DM 목록 조회 성공", rooms));
     }
 
@@ -56,6 +56,9 @@ public class DmRoomDto {
         private TargetUser targetUser;
         private LastMessagePreview lastMessage;
         private boolean hasUnread;
+        private int unreadCount;
+        // keyset 다음 페이지 요청 시 roomId와 함께 before 값으로 사용
+        private Instant lastActivityAt;
 
         @Getter
         @Setter
@@ -0,0 +1,84 @@
+package com.example.dm.entity;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DM 받은편지함 projection 행 (사용자, 대화방)당 1행.
+ * 마지막 메시지와 안 읽은 수를 비정규화해 두어 받은편지함을 최근 활동 순 keyset 페이지로 바로 읽는다.
+ * 원본은 dm_rooms/dm_messages이며 DmInboxProjection이 같은 트랜잭션에서 갱신한다.
+ */
+@Entity
+@Table(
+        name = "dm_inbox_entries",
+        indexes = @Index(
+                name = "idx_dm_inbox_user_activity",
+                columnList = "user_id, last_activity_at, room_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DmInboxEntry {
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(name = "counterpart_id", nullable = false)
+    private Long counterpartId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_content", length = 1000)
+    private String lastMessageContent;
+
+    @Column(name = "last_message_sender_id")
+    private Long lastMessageSenderId;
+
+    // 메시지가 없으면 대화방 생성 시각
+    @Column(name = "last_activity_at", nullable = false)
+    private Instant lastActivityAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getUserId() {
+        return id.getUserId();
+    }
+
+    public Long getRoomId() {
+        return id.getRoomId();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    @EqualsAndHashCode
+    public static class Id implements Serializable {
+
+        @Column(name = "user_id")
+        private Long userId;
+
+        @Column(name = "room_id")
+        private Long roomId;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.dm.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.dm.entity.DmInboxEntry;
+
+public interface DmInboxEntryRepository extends JpaRepository<DmInboxEntry, DmInboxEntry.Id> {
+
+    // 받은편지함 첫 페이지 (최근 활동 순, 같은 시각은 대화방 ID 역순)
+    @Query("""
+            select e from DmInboxEntry e
+            where e.id.userId = :userId
+            order by e.lastActivityAt desc, e.id.roomId desc
+            """)
+    List<DmInboxEntry> findInboxPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 받은편지함 다음 페이지 (직전 페이지 마지막 행의 (활동 시각, 대화방 ID) 이후)
+    @Query("""
+            select e from DmInboxEntry e
+            where e.id.userId = :userId
+              and (e.lastActivityAt < :beforeActivityAt
+                   or (e.lastActivityAt = :beforeActivityAt and e.id.roomId < :beforeRoomId))
+            order by e.lastActivityAt desc, e.id.roomId desc
+            """)
+    List<DmInboxEntry> findInboxPageBefore(
+            @Param("userId") Long userId,
+            @Param("beforeActivityAt") Instant beforeActivityAt,
+            @Param("beforeRoomId") Long beforeRoomId,
+            Pageable pageable);
+
+    // 동시에 보낸 메시지의 커밋 순서가 뒤바뀌어도 미리보기가 더 오래된 메시지로 돌아가지 않도록
+    // (보낸 시각, 메시지 ID)가 현재 값보다 클 때만 미리보기 컬럼을 바꾼다. 안 읽은 수 변경은 조건 없이 반영한다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update DmInboxEntry e
+            set e.lastMessageId = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :messageId else e.lastMessageId end,
+                e.lastMessageContent = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :content else e.lastMessageContent end,
+                e.lastMessageSenderId = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :senderId else e.lastMessageSenderId end,
+                e.lastActivityAt = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :sentAt else e.lastActivityAt end,
+                e.unreadCount = 0,
+                e.updatedAt = case when e.updatedAt < :sentAt then :sentAt else e.updatedAt end
+            where e.id.roomId = :roomId
+              and e.id.userId = :senderId
+            """)
+    int applySentMessage(
+            @Param("roomId") Long roomId,
+            @Param("senderId") Long senderId,
+            @Param("messageId") Long messageId,
+            @Param("content") String content,
+            @Param("sentAt") Instant sentAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update DmInboxEntry e
+            set e.lastMessageId = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :messageId else e.lastMessageId end,
+                e.lastMessageContent = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :content else e.lastMessageContent end,
+                e.lastMessageSenderId = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :senderId else e.lastMessageSenderId end,
+                e.lastActivityAt = case
+                    when e.lastActivityAt < :sentAt
+                      or (e.lastActivityAt = :sentAt and (e.lastMessageId is null or e.lastMessageId < :messageId))
+                    then :sentAt else e.lastActivityAt end,
+                e.unreadCount = e.unreadCount + 1,
+                e.updatedAt = case when e.updatedAt < :sentAt then :sentAt else e.updatedAt end
+            where e.id.roomId = :roomId
+              and e.id.userId = :recipientId
+            """)
+    int applyReceivedMessage(
+            @Param("roomId") Long roomId,
+            @Param("recipientId") Long recipientId,
+            @Param("senderId") Long senderId,
+            @Param("messageId") Long messageId,
+            @Param("content") String content,
+            @Param("sentAt") Instant sentAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update DmInboxEntry e
+            set e.unreadCount = 0,
+                e.updatedAt = :readAt
+            where e.id.roomId = :roomId
+              and e.id.userId = :userId
+              and e.unreadCount <> 0
+            """)
+    int markRead(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("readAt") Instant readAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update DmInboxEntry e
+            set e.unreadCount = e.unreadCount - 1,
+                e.updatedAt = :updatedAt
+            where e.id.roomId = :roomId
+              and e.id.userId = :userId
+              and e.unreadCount > 0
+            """)
+    int decrementUnread(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("updatedAt") Instant updatedAt);
+
+    // 삭제된 메시지가 마지막 메시지인 행만 직전 메시지(없으면 대화방 생성 시각)로 되돌린다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update DmInboxEntry e
+            set e.lastMessageId = :messageId,
+                e.lastMessageContent = :content,
+                e.lastMessageSenderId = :senderId,
+                e.lastActivityAt = :activityAt,
+                e.updatedAt = :updatedAt
+            where e.id.roomId = :roomId
+              and e.lastMessageId = :deletedMessageId
+            """)
+    int replaceLastMessage(
+            @Param("roomId") Long roomId,
+            @Param("deletedMessageId") Long deletedMessageId,
+            @Param("messageId") Long messageId,
+            @Param("content") String content,
+            @Param("senderId") Long senderId,
+            @Param("activityAt") Instant activityAt,
+            @Param("updatedAt") Instant updatedAt);
+}
@@ -1,6 +1,5 @@
 package com.example.dm.repository;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,11 +21,4 @@ public interface DmRoomRepository extends JpaRepository<DmRoom, Long> {
     Optional<DmRoom> findAccessibleByIdAndParticipantId(
             @Param("roomId") Long roomId,
             @Param("userId") Long userId);
-
-    @Query("""
-            select room from DmRoom room
-            where room.participantOneId = :userId or room.participantTwoId = :userId
-            order by room.createdAt desc
-            """)
-    List<DmRoom> findAllByParticipantId(@Param("userId") Long userId);
 }
@@ -0,0 +1,134 @@
+package com.example.dm.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dm.entity.DmInboxEntry;
+import com.example.dm.entity.DmMessage;
+import com.example.dm.entity.DmRoom;
+import com.example.dm.repository.DmInboxEntryRepository;
+import com.example.dm.repository.DmMessageRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DM 받은편지함 projection 갱신
+ *
+ * 대화방 생성, 메시지 전송/삭제, 읽음 처리와 같은 트랜잭션에서 (사용자, 대화방) 행을 갱신합니다.
+ * 전송은 행마다 UPDATE 한 번이며, 행이 없으면(마이그레이션 이후 누락된 방) 그 자리에서 만들어 다시 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DmInboxProjection {
+
+    private final DmInboxEntryRepository dmInboxEntryRepository;
+    private final DmMessageRepository dmMessageRepository;
+
+    /**
+     * 대화방 참여자 두 명의 행을 만듭니다. 이미 있는 행은 그대로 둡니다.
+     */
+    @Transactional
+    public void ensureEntries(DmRoom room) {
+        List<DmInboxEntry.Id> missingIds = new ArrayList<>(2);
+        for (Long userId : List.of(room.getParticipantOneId(), room.getParticipantTwoId())) {
+            DmInboxEntry.Id id = new DmInboxEntry.Id(userId, room.getId());
+            if (!dmInboxEntryRepository.existsById(id)) {
+                missingIds.add(id);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        DmMessage latest = dmMessageRepository.findFirstByRoomIdOrderByCreatedAtDescIdDesc(room.getId())
+                .orElse(null);
+        List<DmInboxEntry> missing = new ArrayList<>(missingIds.size());
+        for (DmInboxEntry.Id id : missingIds) {
+            missing.add(DmInboxEntry.builder()
+                    .id(id)
+                    .counterpartId(counterpartOf(room, id.getUserId()))
+                    .lastMessageId(latest != null ? latest.getId() : null)
+                    .lastMessageContent(latest != null ? latest.getContent() : null)
+                    .lastMessageSenderId(latest != null ? latest.getSenderId() : null)
+                    .lastActivityAt(resolveActivityAt(room, latest))
+                    .unreadCount(0)
+                    .updatedAt(now)
+                    .build());
+        }
+        dmInboxEntryRepository.saveAll(missing);
+    }
+
+    /**
+     * 전송된 메시지를 발신자(안 읽은 수 0)와 수신자(안 읽은 수 +1) 행에 반영합니다.
+     */
+    @Transactional
+    public void recordMessage(DmRoom room, DmMessage message) {
+        if (applyMessage(room, message) < 2) {
+            log.info("DM inbox entries missing for room {}. Creating them before applying message {}",
+                    room.getId(), message.getId());
+            ensureEntries(room);
+            applyMessage(room, message);
+        }
+    }
+
+    /**
+     * 삭제된 메시지를 반영합니다. 수신자가 아직 읽지 않은 메시지였다면 안 읽은 수를 줄이고,
+     * 마지막 메시지였다면 남은 메시지 중 최신 메시지로 미리보기를 되돌립니다.
+     */
+    @Transactional
+    public void recordDeletion(DmRoom room, DmMessage deleted) {
+        Instant now = Instant.now();
+        Long recipientId = counterpartOf(room, deleted.getSenderId());
+        Instant recipientLastReadAt = recipientId.equals(room.getParticipantOneId())
+                ? room.getParticipantOneLastReadAt()
+                : room.getParticipantTwoLastReadAt();
+        if (recipientLastReadAt == null || deleted.getCreatedAt() == null
+                || deleted.getCreatedAt().isAfter(recipientLastReadAt)) {
+            dmInboxEntryRepository.decrementUnread(room.getId(), recipientId, now);
+        }
+
+        DmMessage latest = dmMessageRepository.findFirstByRoomIdOrderByCreatedAtDescIdDesc(room.getId())
+                .orElse(null);
+        dmInboxEntryRepository.replaceLastMessage(
+                room.getId(),
+                deleted.getId(),
+                latest != null ? latest.getId() : null,
+                latest != null ? latest.getContent() : null,
+                latest != null ? latest.getSenderId() : null,
+                resolveActivityAt(room, latest),
+                now);
+    }
+
+    @Transactional
+    public void markRead(Long roomId, Long userId, Instant readAt) {
+        dmInboxEntryRepository.markRead(roomId, userId, readAt);
+    }
+
+    private int applyMessage(DmRoom room, DmMessage message) {
+        Long senderId = message.getSenderId();
+        Instant sentAt = message.getCreatedAt() != null ? message.getCreatedAt() : Instant.now();
+        int updated = dmInboxEntryRepository.applySentMessage(
+                room.getId(), senderId, message.getId(), message.getContent(), sentAt);
+        updated += dmInboxEntryRepository.applyReceivedMessage(
+                room.getId(), counterpartOf(room, senderId), senderId, message.getId(), message.getContent(), sentAt);
+        return updated;
+    }
+
+    private static Long counterpartOf(DmRoom room, Long userId) {
+        return room.getParticipantOneId().equals(userId) ? room.getParticipantTwoId() : room.getParticipantOneId();
+    }
+
+    private static Instant resolveActivityAt(DmRoom room, DmMessage latest) {
+        if (latest != null && latest.getCreatedAt() != null) {
+            return latest.getCreatedAt();
+        }
+        return room.getCreatedAt() != null ? room.getCreatedAt() : Instant.now();
+    }
+}
@@ -12,6 +12,7 @@ import com.example.common.exception.NotFoundBusinessException;
 import com.example.common.realtime.RealtimeOutboxWriter;
 import com.example.dm.dto.DmMessageDto;
 import com.example.dm.entity.DmMessage;
+import com.example.dm.entity.DmRoom;
 import com.example.dm.repository.DmMessageRepository;
 import com.example.dm.repository.DmRoomRepository;
 
@@ -24,6 +25,7 @@ public class DmMessageService {
     private final DmMessageRepository dmMessageRepository;
     private final DmRoomRepository dmRoomRepository;
     private final DmRoomService dmRoomService;
+    private final DmInboxProjection dmInboxProjection;
     private final RealtimeOutboxWriter realtimeOutboxWriter;
 
     @Transactional
@@ -39,7 +41,7 @@ public class DmMessageService {
     @Transactional
     public DmMessageDto.Response sendMessage(Long currentUserId, DmMessageDto.Request request) {
         String normalizedContent = normalizeContent(request.getContent());
-        dmRoomService.getAccessibleRoom(request.getRoomId(), currentUserId);
+        DmRoom room = dmRoomService.getAccessibleRoom(request.getRoomId(), currentUserId);
 
         if (request.getClientMessageId() != null && !request.getClientMessageId().isBlank()) {
             DmMessage existingMessage = dmMessageRepository.findByRoomIdAndSenderIdAndClientMessageId(
@@ -57,6 +59,7 @@ public class DmMessageService {
                 .content(normalizedContent)
                 .clientMessageId(blankToNull(request.getClientMessageId()))
                 .build());
+        dmInboxProjection.recordMessage(room, savedMessage);
         DmMessageDto.Response response = DmMessageDto.Response.from(savedMessage);
         realtimeOutboxWriter.broadcast("/topic/dm/" + response.getRoomId(), response);
         return response;
@@ -67,13 +70,14 @@ public class DmMessageService {
         DmMessage message = dmMessageRepository.findById(messageId)
                 .orElseThrow(() -> new NotFoundBusinessException("DM_MESSAGE_NOT_FOUND", "메시지를 찾을 수 없습니다."));
         // Non-participants get 404 (same as not-found) to prevent message-ID enumeration
-        dmRoomRepository.findAccessibleByIdAndParticipantId(message.getRoomId(), currentUserId)
+        DmRoom room = dmRoomRepository.findAccessibleByIdAndParticipantId(message.getRoomId(), currentUserId)
                 .orElseThrow(() -> new NotFoundBusinessException("DM_MESSAGE_NOT_FOUND", "메시지를 찾을 수 없습니다."));
         if (!message.getSenderId().equals(currentUserId)) {
             throw new ForbiddenBusinessException("DM_DELETE_FORBIDDEN", "본인의 메시지만 삭제할 수 있습니다.");
         }
         Long roomId = message.getRoomId();
         dmMessageRepository.delete(message);
+        dmInboxProjection.recordDeletion(room, message);
         realtimeOutboxWriter.broadcast(
                 "/topic/dm/" + roomId,
                 Map.of("messageId", messageId, "deleted", true, "roomId", roomId));
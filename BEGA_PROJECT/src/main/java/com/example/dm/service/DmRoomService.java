@@ -1,7 +1,6 @@
 package com.example.dm.service;
 
 import java.time.Instant;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -9,6 +8,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +24,9 @@ import com.example.common.exception.BadRequestBusinessException;
 import com.example.common.exception.ForbiddenBusinessException;
 import com.example.common.exception.NotFoundBusinessException;
 import com.example.dm.dto.DmRoomDto;
-import com.example.dm.entity.DmMessage;
+import com.example.dm.entity.DmInboxEntry;
 import com.example.dm.entity.DmRoom;
-import com.example.dm.repository.DmMessageRepository;
+import com.example.dm.repository.DmInboxEntryRepository;
 import com.example.dm.repository.DmRoomRepository;
 import com.example.profile.storage.service.ProfileImageService;
 
@@ -39,8 +40,12 @@ public class DmRoomService {
 
     public static final String MEMBERSHIP_ACTIVE = "ACTIVE";
 
+    private static final int DEFAULT_INBOX_LIMIT = 30;
+    private static final int MAX_INBOX_LIMIT = 100;
+
     private final DmRoomRepository dmRoomRepository;
-    private final DmMessageRepository dmMessageRepository;
+    private final DmInboxEntryRepository dmInboxEntryRepository;
+    private final DmInboxProjection dmInboxProjection;
     private final UserRepository userRepository;
     private final UserFollowRepository userFollowRepository;
     private final UserBlockRepository userBlockRepository;
@@ -83,6 +88,7 @@ public class DmRoomService {
 
         try {
             DmRoom savedRoom = dmRoomRepository.save(room);
+            dmInboxProjection.ensureEntries(savedRoom);
             return toBootstrapResponse(savedRoom, targetUser);
         } catch (DataIntegrityViolationException e) {
             log.info("DM room already created concurrently for users {} and {}", participantOneId, participantTwoId);
@@ -128,65 +134,82 @@ public class DmRoomService {
 
     @Transactional(readOnly = true)
     public List<DmRoomDto.InboxItem> getMyRooms(Long userId) {
+        return getMyRooms(userId, null, null, null);
+    }
+
+    /**
+     * 받은편지함 projection을 최근 활동 순으로 keyset 페이지 조회합니다.
+     * 다음 페이지는 직전 페이지 마지막 항목의 lastActivityAt/roomId를 before 값으로 넘깁니다.
+     * 페이지 파라미터를 하나도 보내지 않은 기존 클라이언트에는 이전처럼 전체 목록을 돌려줍니다.
+     * before 값은 둘 다 보내거나 둘 다 생략해야 하며, 하나만 보내면 첫 페이지로 되돌리지 않고 400으로 거절합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<DmRoomDto.InboxItem> getMyRooms(
+            Long userId,
+            Integer limit,
+            Instant beforeActivityAt,
+            Long beforeRoomId) {
         requireCurrentUserId(userId);
-        List<DmRoom> rooms = dmRoomRepository.findAllByParticipantId(userId);
-        if (rooms.isEmpty()) {
+        if ((beforeActivityAt == null) != (beforeRoomId == null)) {
+            throw new BadRequestBusinessException("DM_INBOX_CURSOR_INCOMPLETE",
+                    "beforeActivityAt과 beforeRoomId는 함께 보내야 합니다.");
+        }
+        boolean legacyRequest = limit == null && beforeActivityAt == null;
+        Pageable pageable = legacyRequest ? Pageable.unpaged() : PageRequest.of(0, resolveInboxLimit(limit));
+        List<DmInboxEntry> entries = beforeActivityAt == null
+                ? dmInboxEntryRepository.findInboxPage(userId, pageable)
+                : dmInboxEntryRepository.findInboxPageBefore(userId, beforeActivityAt, beforeRoomId, pageable);
+        if (entries.isEmpty()) {
             return List.of();
         }
 
-        List<Long> roomIds = rooms.stream().map(DmRoom::getId).toList();
-        Map<Long, DmMessage> latestByRoom = dmMessageRepository.findLatestMessagePerRoom(roomIds)
-                .stream()
-                .collect(Collectors.toMap(DmMessage::getRoomId, Function.identity(), (a, b) -> a));
-
-        List<Long> targetUserIds = rooms.stream()
-                .map(r -> resolveTargetUserId(r, userId))
+        List<Long> targetUserIds = entries.stream()
+                .map(DmInboxEntry::getCounterpartId)
                 .distinct()
                 .toList();
         Map<Long, UserEntity> usersById = userRepository.findAllById(targetUserIds)
                 .stream()
                 .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
 
-        return rooms.stream()
-                .map(room -> {
-                    Long targetUserId = resolveTargetUserId(room, userId);
-                    UserEntity targetUser = usersById.get(targetUserId);
-                    DmMessage lastMsg = latestByRoom.get(room.getId());
-                    Instant myLastRead = room.getParticipantOneId().equals(userId)
-                            ? room.getParticipantOneLastReadAt()
-                            : room.getParticipantTwoLastReadAt();
-                    boolean hasUnread = lastMsg != null
-                            && !lastMsg.getSenderId().equals(userId)
-                            && (myLastRead == null || lastMsg.getCreatedAt().isAfter(myLastRead));
-
+        return entries.stream()
+                .map(entry -> {
+                    UserEntity targetUser = usersById.get(entry.getCounterpartId());
                     return DmRoomDto.InboxItem.builder()
-                            .roomId(room.getId())
+                            .roomId(entry.getRoomId())
                             .targetUser(targetUser != null ? toTargetUser(targetUser) : null)
-                            .lastMessage(lastMsg != null
+                            .lastMessage(entry.getLastMessageId() != null
                                     ? DmRoomDto.InboxItem.LastMessagePreview.builder()
-                                            .content(lastMsg.getContent())
-                                            .createdAt(lastMsg.getCreatedAt())
-                                            .senderId(lastMsg.getSenderId())
+                                            .content(entry.getLastMessageContent())
+                                            .createdAt(entry.getLastActivityAt())
+                                            .senderId(entry.getLastMessageSenderId())
                                             .build()
                                     : null)
-                            .hasUnread(hasUnread)
+                            .hasUnread(entry.getUnreadCount() > 0)
+                            .unreadCount(entry.getUnreadCount())
+                            .lastActivityAt(entry.getLastActivityAt())
                             .build();
                 })
-                .sorted(Comparator.comparing(
-                        item -> item.getLastMessage() != null ? item.getLastMessage().getCreatedAt() : Instant.EPOCH,
-                        Comparator.reverseOrder()))
                 .toList();
     }
 
+    private int resolveInboxLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_INBOX_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_INBOX_LIMIT));
+    }
+
     @Transactional
     public void markAsRead(Long roomId, Long userId) {
         dmRoomRepository.findAccessibleByIdAndParticipantId(roomId, userId).ifPresent(room -> {
+            Instant readAt = Instant.now();
             if (room.getParticipantOneId().equals(userId)) {
-                room.setParticipantOneLastReadAt(Instant.now());
+                room.setParticipantOneLastReadAt(readAt);
             } else {
-                room.setParticipantTwoLastReadAt(Instant.now());
+                room.setParticipantTwoLastReadAt(readAt);
             }
             dmRoomRepository.save(room);
+            dmInboxProjection.markRead(roomId, userId, readAt);
         });
     }
 
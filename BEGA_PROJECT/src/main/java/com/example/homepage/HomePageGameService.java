@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -21,7 +22,10 @@ import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.example.kbo.repository.GameRepository;
 import com.example.kbo.repository.MatchRangeProjection;
+import com.example.kbo.entity.TeamStandingEntity;
 import com.example.kbo.service.LeagueStageResolver;
+import com.example.kbo.service.SeasonScheduleIndex;
+import com.example.kbo.service.TeamStandingsService;
 import com.example.kbo.validation.BaseballDataIntegrityGuard;
 import com.example.kbo.validation.ManualBaseballDataRequest;
 import com.example.kbo.util.GameStatusResolver;
@@ -47,13 +51,7 @@ public class HomePageGameService {
     private static final List<Integer> REGULAR_LEAGUE_CODES = List.of(0);
     private static final List<Integer> POSTSEASON_LEAGUE_CODES = List.of(2, 3, 4);
     private static final List<Integer> KOREAN_SERIES_LEAGUE_CODES = List.of(5);
-    private static final List<String> SCHEDULED_NAVIGATION_STATUSES = List.of(
-            "SCHEDULED",
-            "READY",
-            "UPCOMING",
-            "NOT_STARTED",
-            "PRE_GAME",
-            "BEFORE_GAME");
+    private static final List<String> SCHEDULED_NAVIGATION_STATUSES = SeasonScheduleIndex.SCHEDULED_NAVIGATION_STATUSES;
     private static final List<String> SCHEDULED_WINDOW_STATUSES = List.of(
             "SCHEDULED",
             "READY",
@@ -64,7 +62,7 @@ public class HomePageGameService {
             "POSTPONED",
             "CANCELLED",
             "CANCEL");
-    private static final List<String> STANDARD_NAVIGATION_EXCLUDED_STATUSES = SCHEDULED_WINDOW_STATUSES;
+    private static final List<String> STANDARD_NAVIGATION_EXCLUDED_STATUSES = SeasonScheduleIndex.NAVIGATION_EXCLUDED_STATUSES;
 
     private final GameRepository gameRepository;
 	private final HomePageTeamRepository homePageTeamRepository;
@@ -72,6 +70,8 @@ public class HomePageGameService {
     private final DataSource stadiumDataSource;
     private final LeagueStageResolver leagueStageResolver;
     private final BaseballDataIntegrityGuard baseballDataIntegrityGuard;
+    private final TeamStandingsService teamStandingsService;
+    private final SeasonScheduleIndex seasonScheduleIndex;
 
 	private final Map<String, HomePageTeam> teamMap = new ConcurrentHashMap<>();
 
@@ -318,6 +318,11 @@ public class HomePageGameService {
     @Cacheable(value = TEAM_RANKINGS, key = "#seasonYear", unless = "#result == null || #result.isEmpty()")
     @Transactional(readOnly = true, transactionManager = "kboGameTransactionManager")
     public List<HomePageTeamRankingDto> getTeamRankings(int seasonYear) {
+        List<HomePageTeamRankingDto> projectedRankings = findProjectedTeamRankings(seasonYear);
+        if (!projectedRankings.isEmpty()) {
+            return projectedRankings;
+        }
+
         LocalDate seasonStart = LocalDate.of(seasonYear, 1, 1);
         LocalDate nextSeasonStart = LocalDate.of(seasonYear + 1, 1, 1);
         long fastStartedAt = System.nanoTime();
@@ -353,6 +358,38 @@ public class HomePageGameService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * team_standings projection 기준 순위. 재구성 전 시즌이거나 조회에 실패하면 빈 목록을 돌려 전체 집계 쿼리로 넘어간다.
+     */
+    private List<HomePageTeamRankingDto> findProjectedTeamRankings(int seasonYear) {
+        long startedAt = System.nanoTime();
+        List<TeamStandingEntity> standings;
+        try {
+            standings = teamStandingsService.findRankedStandings(seasonYear);
+        } catch (Exception e) {
+            log.warn("event=home_team_rankings_projection_failed seasonYear={} message={}", seasonYear, e.getMessage());
+            return List.of();
+        }
+        logTeamRankingQueryCompleted(seasonYear, "projection", standings.size(), startedAt);
+
+        return standings.stream()
+                .map(standing -> HomePageTeamRankingDto.builder()
+                        .rank(standing.getSeasonRank())
+                        .teamId(standing.getTeamId())
+                        .teamName(standing.getTeamId())
+                        .wins(standing.getWins())
+                        .losses(standing.getLosses())
+                        .draws(standing.getDraws())
+                        .winRate(TeamStandingsService.winRate(standing))
+                        .games(standing.getGamesPlayed())
+                        .gamesBehind(standing.getGamesBehind() == null ? null : standing.getGamesBehind().doubleValue())
+                        .recentForm(standing.getRecentForm().chars()
+                                .mapToObj(result -> String.valueOf((char) result))
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     private Map<String, List<String>> fetchRecentFormByTeam(int seasonYear, LocalDate seasonStart, LocalDate nextSeasonStart) {
         try {
             List<Object[]> rows = gameRepository.findRecentFormBySeasonAndTeams(seasonYear, seasonStart, nextSeasonStart);
@@ -442,8 +479,13 @@ public class HomePageGameService {
     @Cacheable(value = GAME_SCHEDULE, key = "#root.target.buildScheduleNavigationCacheKey(#date)")
     @Transactional(readOnly = true, transactionManager = "kboGameTransactionManager")
     public ScheduleNavigationDto getScheduleNavigation(LocalDate date) {
-        LocalDate prev = gameRepository.findPrevGameDate(date).orElse(null);
-        LocalDate next = gameRepository.findNextGameDate(date).orElse(null);
+        Optional<SeasonScheduleIndex.Snapshot> index = seasonScheduleIndex.current();
+        LocalDate prev = index.isPresent()
+                ? index.get().findPrevGameDate(date).orElse(null)
+                : gameRepository.findPrevGameDate(date).orElse(null);
+        LocalDate next = index.isPresent()
+                ? index.get().findNextGameDate(date).orElse(null)
+                : gameRepository.findNextGameDate(date).orElse(null);
 
         return ScheduleNavigationDto.builder()
                 .prevGameDate(prev)
@@ -503,9 +545,19 @@ public class HomePageGameService {
         return findPrevScopedDate(anchorDate.plusDays(1), scope, seasonYear);
     }
 
+    // 날짜 이동 조회는 일정 색인이 준비돼 있으면 메모리에서 답하고, 아니면 같은 조건의 쿼리를 쓴다.
     private LocalDate findCurrentScopedDate(LocalDate anchorDate, String scope, int seasonYear) {
+        Optional<SeasonScheduleIndex.Snapshot> index = seasonScheduleIndex.current();
         if (SCOPE_SCHEDULED.equals(scope)) {
-            return gameRepository.findScheduledNavigationDateOnOrAfter(anchorDate, SCHEDULED_NAVIGATION_STATUSES)
+            return index.map(snapshot -> snapshot.findScheduledNavigationDateOnOrAfter(anchorDate))
+                    .orElseGet(() -> gameRepository.findScheduledNavigationDateOnOrAfter(
+                            anchorDate,
+                            SCHEDULED_NAVIGATION_STATUSES))
+                    .filter(anchorDate::equals)
+                    .orElse(null);
+        }
+        if (index.isPresent()) {
+            return index.get().findScopedGameDateOnOrAfter(anchorDate, seasonYear, resolveLeagueCodes(scope))
                     .filter(anchorDate::equals)
                     .orElse(null);
         }
@@ -520,8 +572,16 @@ public class HomePageGameService {
     }
 
     private LocalDate findPrevScopedDate(LocalDate anchorDate, String scope, int seasonYear) {
+        Optional<SeasonScheduleIndex.Snapshot> index = seasonScheduleIndex.current();
         if (SCOPE_SCHEDULED.equals(scope)) {
-            return gameRepository.findPrevScheduledNavigationDate(anchorDate, SCHEDULED_NAVIGATION_STATUSES)
+            return index.map(snapshot -> snapshot.findPrevScheduledNavigationDate(anchorDate))
+                    .orElseGet(() -> gameRepository.findPrevScheduledNavigationDate(
+                            anchorDate,
+                            SCHEDULED_NAVIGATION_STATUSES))
+                    .orElse(null);
+        }
+        if (index.isPresent()) {
+            return index.get().findPrevScopedGameDate(anchorDate, seasonYear, resolveLeagueCodes(scope))
                     .orElse(null);
         }
 
@@ -534,8 +594,16 @@ public class HomePageGameService {
     }
 
     private LocalDate findNextScopedDate(LocalDate anchorDate, String scope, int seasonYear) {
+        Optional<SeasonScheduleIndex.Snapshot> index = seasonScheduleIndex.current();
         if (SCOPE_SCHEDULED.equals(scope)) {
-            return gameRepository.findNextScheduledNavigationDate(anchorDate, SCHEDULED_NAVIGATION_STATUSES)
+            return index.map(snapshot -> snapshot.findNextScheduledNavigationDate(anchorDate))
+                    .orElseGet(() -> gameRepository.findNextScheduledNavigationDate(
+                            anchorDate,
+                            SCHEDULED_NAVIGATION_STATUSES))
+                    .orElse(null);
+        }
+        if (index.isPresent()) {
+            return index.get().findNextScopedGameDate(anchorDate, seasonYear, resolveLeagueCodes(scope))
                     .orElse(null);
         }
 
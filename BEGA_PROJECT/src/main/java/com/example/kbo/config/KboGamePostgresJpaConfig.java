@@ -14,6 +14,8 @@ import com.example.kbo.entity.GamePlayByPlayEntity;
 import com.example.kbo.entity.GameSummaryEntity;
 import com.example.kbo.entity.PlayerSeasonBattingEntity;
 import com.example.kbo.entity.PlayerSeasonPitchingEntity;
+import com.example.kbo.entity.TeamStandingEntity;
+import com.example.kbo.entity.TeamStandingGameEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -111,7 +113,9 @@ public class KboGamePostgresJpaConfig {
 						GameEventEntity.class.getName(),
 						GamePlayByPlayEntity.class.getName(),
 						PlayerSeasonBattingEntity.class.getName(),
-						PlayerSeasonPitchingEntity.class.getName()
+						PlayerSeasonPitchingEntity.class.getName(),
+						TeamStandingEntity.class.getName(),
+						TeamStandingGameEntity.class.getName()
 				),
 				List.of()
 		);
@@ -0,0 +1,7 @@
+package com.example.kbo.dto;
+
+public record ScheduleIndexRebuildResultDto(
+        int seasons,
+        int games
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.kbo.dto;
+
+import java.util.List;
+
+public record TeamStandingsParityResultDto(
+        int seasonYear,
+        boolean matched,
+        int projectedTeams,
+        int liveTeams,
+        List<String> mismatches
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.kbo.dto;
+
+public record TeamStandingsRebuildResultDto(
+        int seasonYear,
+        int games,
+        int teams
+) {
+}
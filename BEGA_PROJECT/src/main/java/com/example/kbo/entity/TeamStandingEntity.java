@@ -0,0 +1,118 @@
+package com.example.kbo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 팀 순위 projection (team_standings)
+ * 경기 스냅샷이 확정될 때마다 두 팀 행만 갱신하고, 순위/승차는 같은 시즌 행 전체에서 다시 매긴다.
+ */
+@Entity
+@Table(name = "team_standings")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamStandingEntity implements Persistable<TeamStandingEntity.Id> {
+
+    @EmbeddedId
+    private Id id = new Id();
+
+    @Column(name = "wins", nullable = false)
+    private int wins;
+
+    @Column(name = "losses", nullable = false)
+    private int losses;
+
+    @Column(name = "draws", nullable = false)
+    private int draws;
+
+    @Column(name = "games_played", nullable = false)
+    private int gamesPlayed;
+
+    @Column(name = "season_rank")
+    private Integer seasonRank;
+
+    @Column(name = "games_behind", precision = 5, scale = 1)
+    private BigDecimal gamesBehind;
+
+    /**
+     * 최근 5경기 결과 (최신순, 예: WLDWW)
+     */
+    @Column(name = "recent_form", nullable = false, length = 5)
+    private String recentForm = "";
+
+    @Column(name = "last_game_date")
+    private LocalDate lastGameDate;
+
+    @Column(name = "last_game_id", length = 20)
+    private String lastGameId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean newEntity = true;
+
+    public TeamStandingEntity(int seasonYear, String teamId) {
+        this.id = new Id(seasonYear, teamId);
+    }
+
+    public int getSeasonYear() {
+        return id.getSeasonYear();
+    }
+
+    public String getTeamId() {
+        return id.getTeamId();
+    }
+
+    @Override
+    @Transient
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    @EqualsAndHashCode
+    public static class Id implements Serializable {
+
+        @Column(name = "season_year")
+        private int seasonYear;
+
+        @Column(name = "team_id", length = 20)
+        private String teamId;
+    }
+}
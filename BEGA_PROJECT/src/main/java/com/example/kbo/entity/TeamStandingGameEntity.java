@@ -0,0 +1,73 @@
+package com.example.kbo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * team_standings에 반영된 경기 ledger
+ * 같은 경기를 다시 반영하거나 점수가 정정되면 이 행을 기준으로 이전 결과를 되돌린다.
+ */
+@Entity
+@Table(name = "team_standing_games")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamStandingGameEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "game_id", length = 20)
+    private String gameId;
+
+    @Column(name = "season_year", nullable = false)
+    private int seasonYear;
+
+    @Column(name = "game_date")
+    private LocalDate gameDate;
+
+    @Column(name = "home_team_id", length = 20)
+    private String homeTeamId;
+
+    @Column(name = "away_team_id", length = 20)
+    private String awayTeamId;
+
+    /**
+     * 홈 팀 기준 결과 (W/L/D)
+     */
+    @Column(name = "home_result", nullable = false, length = 1)
+    private String homeResult;
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return gameId;
+    }
+
+    @Override
+    @Transient
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -215,7 +215,8 @@ public interface GameRepository extends JpaRepository<GameEntity, Long> {
               WHEN g.home_score = g.away_score THEN 'draw'
               WHEN g.home_score > g.away_score THEN 'home'
               ELSE 'away'
-          END AS "winner"
+          END AS "winner",
+          g.game_date AS "gameDate"
       FROM game g
       WHERE g.game_id IN :gameIds
         AND g.home_score IS NOT NULL
@@ -670,6 +671,54 @@ public interface GameRepository extends JpaRepository<GameEntity, Long> {
       @Param("seasonStart") LocalDate seasonStart,
       @Param("nextSeasonStart") LocalDate nextSeasonStart);
 
+  /**
+   * team_standings 전체 재구성용 시즌 경기 목록.
+   *
+   * season_games 조건은 findTeamRankingsBySeasonFast와 동일하고, 집계 없이 경기 단위로 돌려준다.
+   *
+   * @param seasonYear 시즌 연도
+   * @param seasonStart 시즌 연도 시작일
+   * @param nextSeasonStart 다음 시즌 연도 시작일
+   * @return (game_id, game_date, home_team_id, away_team_id, home_score, away_score) 목록
+   */
+  @Query(value = """
+      SELECT
+          g.game_id,
+          g.game_date,
+          UPPER(TRIM(g.home_team)) AS home_team_id,
+          UPPER(TRIM(g.away_team)) AS away_team_id,
+          g.home_score,
+          g.away_score
+      FROM game g
+      JOIN kbo_seasons s ON g.season_id = s.season_id
+      WHERE s.season_year = :seasonYear
+        AND COALESCE(s.league_type_code, 0) = 0
+        AND g.home_score IS NOT NULL
+        AND g.away_score IS NOT NULL
+        AND g.is_dummy IS NOT TRUE
+        AND g.game_id NOT LIKE 'MOCK%'
+      UNION ALL
+      SELECT
+          g.game_id,
+          g.game_date,
+          UPPER(TRIM(g.home_team)) AS home_team_id,
+          UPPER(TRIM(g.away_team)) AS away_team_id,
+          g.home_score,
+          g.away_score
+      FROM game g
+      WHERE g.season_id IS NULL
+        AND g.game_date >= :seasonStart
+        AND g.game_date < :nextSeasonStart
+        AND g.home_score IS NOT NULL
+        AND g.away_score IS NOT NULL
+        AND g.is_dummy IS NOT TRUE
+        AND g.game_id NOT LIKE 'MOCK%'
+      """, nativeQuery = true)
+  List<Object[]> findStandingGamesBySeason(
+      @Param("seasonYear") int seasonYear,
+      @Param("seasonStart") LocalDate seasonStart,
+      @Param("nextSeasonStart") LocalDate nextSeasonStart);
+
   /**
    * 특정 시즌의 팀별 순위 데이터 조회 (game 테이블에서 집계)
    *
@@ -1109,6 +1158,43 @@ public interface GameRepository extends JpaRepository<GameEntity, Long> {
       @Param("date") LocalDate date,
       @Param("statuses") Collection<String> statuses);
 
+  /**
+   * 일정 색인(SeasonScheduleIndex) 적재용 경기 목록.
+   * 시즌/리그 코드는 scoped 네비게이션 쿼리와 같은 COALESCE 규칙으로 계산한다.
+   */
+  @Query(value = """
+      SELECT
+          g.game_id AS "gameId",
+          g.game_date AS "gameDate",
+          g.home_team AS "homeTeam",
+          g.away_team AS "awayTeam",
+          g.is_dummy AS "isDummy",
+          g.game_status AS "gameStatus",
+          CAST(COALESCE(s.season_year, EXTRACT(YEAR FROM g.game_date)) AS INTEGER) AS "seasonYear",
+          COALESCE(s.league_type_code, 0) AS "leagueTypeCode"
+      FROM game g
+      LEFT JOIN kbo_seasons s ON g.season_id = s.season_id
+      WHERE g.game_date IS NOT NULL
+      """, nativeQuery = true)
+  List<ScheduleIndexRowProjection> findScheduleIndexRows();
+
+  @Query(value = """
+      SELECT
+          g.game_id AS "gameId",
+          g.game_date AS "gameDate",
+          g.home_team AS "homeTeam",
+          g.away_team AS "awayTeam",
+          g.is_dummy AS "isDummy",
+          g.game_status AS "gameStatus",
+          CAST(COALESCE(s.season_year, EXTRACT(YEAR FROM g.game_date)) AS INTEGER) AS "seasonYear",
+          COALESCE(s.league_type_code, 0) AS "leagueTypeCode"
+      FROM game g
+      LEFT JOIN kbo_seasons s ON g.season_id = s.season_id
+      WHERE g.game_date IS NOT NULL
+        AND COALESCE(s.season_year, EXTRACT(YEAR FROM g.game_date)) = :seasonYear
+      """, nativeQuery = true)
+  List<ScheduleIndexRowProjection> findScheduleIndexRowsBySeason(@Param("seasonYear") int seasonYear);
+
   /**
    * season_id로 리그 타입 코드 조회
    */
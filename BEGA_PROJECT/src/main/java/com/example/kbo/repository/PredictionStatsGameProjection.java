@@ -1,8 +1,12 @@
 package com.example.kbo.repository;
 
+import java.time.LocalDate;
+
 public interface PredictionStatsGameProjection {
 
     String getGameId();
 
     String getWinner();
+
+    LocalDate getGameDate();
 }
@@ -0,0 +1,22 @@
+package com.example.kbo.repository;
+
+import java.time.LocalDate;
+
+public interface ScheduleIndexRowProjection {
+
+    String getGameId();
+
+    LocalDate getGameDate();
+
+    String getHomeTeam();
+
+    String getAwayTeam();
+
+    Boolean getIsDummy();
+
+    String getGameStatus();
+
+    Integer getSeasonYear();
+
+    Integer getLeagueTypeCode();
+}
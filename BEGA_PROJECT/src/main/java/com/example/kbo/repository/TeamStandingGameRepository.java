@@ -0,0 +1,30 @@
+package com.example.kbo.repository;
+
+import com.example.kbo.entity.TeamStandingGameEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TeamStandingGameRepository extends JpaRepository<TeamStandingGameEntity, String> {
+
+    /**
+     * 팀의 최근 경기 (findRecentFormBySeasonAndTeams와 같은 game_date DESC, game_id DESC 순서)
+     */
+    @Query("""
+            select g from TeamStandingGameEntity g
+            where g.seasonYear = :seasonYear
+              and (g.homeTeamId = :teamId or g.awayTeamId = :teamId)
+            order by g.gameDate desc, g.gameId desc
+            """)
+    List<TeamStandingGameEntity> findRecentByTeam(
+            @Param("seasonYear") int seasonYear,
+            @Param("teamId") String teamId,
+            Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TeamStandingGameEntity g where g.seasonYear = :seasonYear")
+    int deleteBySeasonYear(@Param("seasonYear") int seasonYear);
+}
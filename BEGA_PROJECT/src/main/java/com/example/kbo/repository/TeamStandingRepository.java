@@ -0,0 +1,30 @@
+package com.example.kbo.repository;
+
+import com.example.kbo.entity.TeamStandingEntity;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TeamStandingRepository extends JpaRepository<TeamStandingEntity, TeamStandingEntity.Id> {
+
+    boolean existsByIdSeasonYear(int seasonYear);
+
+    List<TeamStandingEntity> findByIdSeasonYear(int seasonYear);
+
+    List<TeamStandingEntity> findByIdSeasonYearAndSeasonRankIsNotNullOrderBySeasonRankAsc(int seasonYear);
+
+    /**
+     * 증분 반영 전에 시즌 행 전체를 잠가 같은 시즌 갱신을 직렬화한다. (순위/승차가 시즌 행 전체에 걸려 있음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TeamStandingEntity s where s.id.seasonYear = :seasonYear")
+    List<TeamStandingEntity> findAllBySeasonYearForUpdate(@Param("seasonYear") int seasonYear);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TeamStandingEntity s where s.id.seasonYear = :seasonYear")
+    int deleteBySeasonYear(@Param("seasonYear") int seasonYear);
+}
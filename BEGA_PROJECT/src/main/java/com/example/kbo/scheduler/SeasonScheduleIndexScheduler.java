@@ -0,0 +1,57 @@
+package com.example.kbo.scheduler;
+
+import com.example.kbo.dto.ScheduleIndexRebuildResultDto;
+import com.example.kbo.service.SeasonScheduleIndex;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경기 일정 색인 재구성 스케줄러.
+ * 크롤러가 관리자 동기화를 거치지 않고 적재한 일정/상태 변경을 따라잡도록 현재 시즌을 주기적으로 다시 읽고,
+ * 새벽에는 전체 시즌을 다시 만든다. 첫 실행에서는 전체를 적재한다.
+ * 재구성이 연달아 실패하면 색인이 오래된 상태가 되어 날짜 이동 조회가 기존 쿼리로 돌아간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeasonScheduleIndexScheduler {
+
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+	private final SeasonScheduleIndex seasonScheduleIndex;
+
+	@Scheduled(
+			fixedDelayString = "${app.baseball.schedule-index.refresh-fixed-delay-ms:60000}",
+			initialDelayString = "${app.baseball.schedule-index.refresh-initial-delay-ms:15000}")
+	public void refreshCurrentSeason() {
+		if (!seasonScheduleIndex.isEnabled()) {
+			return;
+		}
+		try {
+			if (!seasonScheduleIndex.isLoaded()) {
+				seasonScheduleIndex.rebuildAll();
+				return;
+			}
+			seasonScheduleIndex.rebuildSeason(LocalDate.now(KST).getYear());
+		} catch (Exception e) {
+			log.warn("Schedule index refresh failed: {}", e.getMessage());
+		}
+	}
+
+	@Scheduled(cron = "${app.baseball.schedule-index.rebuild-cron:0 40 4 * * *}", zone = "Asia/Seoul")
+	public void rebuildAll() {
+		if (!seasonScheduleIndex.isEnabled()) {
+			return;
+		}
+		try {
+			ScheduleIndexRebuildResultDto result = seasonScheduleIndex.rebuildAll();
+			log.info("Schedule index rebuilt: seasons={}, games={}", result.seasons(), result.games());
+		} catch (Exception e) {
+			log.error("Error rebuilding schedule index: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.kbo.scheduler;
+
+import com.example.kbo.dto.TeamStandingsRebuildResultDto;
+import com.example.kbo.service.TeamStandingsService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀 순위 projection 유지보수 스케줄러.
+ * 관리자 동기화를 거치지 않고 적재된 최근 경기를 주기적으로 다시 반영하고(ledger 기준이라 변경 없는 경기는 건너뜀),
+ * 새벽에는 현재 시즌을 전체 재구성해 누락/정정을 보정한다.
+ */
+@Component
+@Slf4j
+public class TeamStandingsScheduler {
+
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+	private final TeamStandingsService teamStandingsService;
+	private final boolean enabled;
+	private final int lookbackDays;
+
+	public TeamStandingsScheduler(
+			TeamStandingsService teamStandingsService,
+			@Value("${app.baseball.team-standings.scheduler.enabled:true}") boolean enabled,
+			@Value("${app.baseball.team-standings.scheduler.catch-up-lookback-days:2}") int lookbackDays) {
+		this.teamStandingsService = teamStandingsService;
+		this.enabled = enabled;
+		this.lookbackDays = Math.max(0, lookbackDays);
+	}
+
+	@Scheduled(
+			fixedDelayString = "${app.baseball.team-standings.scheduler.catch-up-fixed-delay-ms:300000}",
+			initialDelayString = "${app.baseball.team-standings.scheduler.catch-up-initial-delay-ms:120000}")
+	public void applyRecentGames() {
+		if (!enabled) {
+			return;
+		}
+		LocalDate today = LocalDate.now(KST);
+		try {
+			int changed = teamStandingsService.applyGamesByDateRange(today.minusDays(lookbackDays), today);
+			if (changed > 0) {
+				log.info("event=team_standings_catch_up_applied startDate={} endDate={} changedGames={}",
+						today.minusDays(lookbackDays), today, changed);
+			}
+		} catch (Exception e) {
+			log.error("Error applying recent games to team standings: {}", e.getMessage(), e);
+		}
+	}
+
+	@Scheduled(cron = "${app.baseball.team-standings.scheduler.rebuild-cron:0 50 4 * * *}", zone = "Asia/Seoul")
+	public void rebuildCurrentSeason() {
+		if (!enabled) {
+			return;
+		}
+		int seasonYear = LocalDate.now(KST).getYear();
+		try {
+			TeamStandingsRebuildResultDto result = teamStandingsService.rebuildSeason(seasonYear);
+			log.info("Team standings rebuilt for season {}: games={}, teams={}",
+					seasonYear, result.games(), result.teams());
+		} catch (Exception e) {
+			log.error("Error rebuilding team standings for season {}: {}", seasonYear, e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,523 @@
+package com.example.kbo.service;
+
+import com.example.kbo.dto.ScheduleIndexRebuildResultDto;
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.repository.ScheduleIndexRowProjection;
+import com.example.kbo.util.TeamCodeResolver;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 경기 일정 노드 로컬 색인
+ *
+ * 날짜 이동(이전/다음 경기일, 전체 범위)마다 game 테이블에 MIN/MAX 쿼리를 보내는 대신
+ * 시즌별로 정렬한 경기일 배열을 메모리에 두고 이분 탐색으로 답합니다.
+ * - 시즌 일정(SeasonSchedule)과 스냅샷(Snapshot)은 불변이며, 재구성은 새 스냅샷을 만든 뒤 참조를 한 번에 바꿉니다.
+ * - 관리자 동기화/복구로 경기가 바뀌면 커밋 뒤 해당 시즌만, 야구 데이터 적재가 끝나면 전체를 다시 만듭니다.
+ * - 크롤러가 직접 적재한 변경은 SeasonScheduleIndexScheduler의 주기 재구성으로 따라잡습니다.
+ * - 아직 적재 전이거나 마지막 재구성이 허용 지연보다 오래되면 current()가 비어 호출 측이 기존 쿼리를 씁니다.
+ * 판정 규칙은 GameRepository의 canonical/scoped/scheduled 네비게이션 쿼리와 같습니다.
+ */
+@Slf4j
+@Component
+public class SeasonScheduleIndex {
+
+    public static final List<String> CANONICAL_TEAM_CODES = Stream
+            .of("SS", "LT", "LG", "DB", "KIA", "KH", "HH", "SSG", "NC", "KT")
+            .flatMap(teamCode -> TeamCodeResolver.resolveVariants(teamCode).stream())
+            .distinct()
+            .collect(Collectors.toList());
+    public static final List<String> SCHEDULED_NAVIGATION_STATUSES = List.of(
+            "SCHEDULED",
+            "READY",
+            "UPCOMING",
+            "NOT_STARTED",
+            "PRE_GAME",
+            "BEFORE_GAME");
+    public static final List<String> NAVIGATION_EXCLUDED_STATUSES = List.of(
+            "SCHEDULED",
+            "READY",
+            "UPCOMING",
+            "NOT_STARTED",
+            "PRE_GAME",
+            "BEFORE_GAME",
+            "POSTPONED",
+            "CANCELLED",
+            "CANCEL");
+    private static final Set<String> CANONICAL_TEAM_CODE_SET = Set.copyOf(CANONICAL_TEAM_CODES);
+    private static final Set<String> SCHEDULED_NAVIGATION_STATUS_SET = Set.copyOf(SCHEDULED_NAVIGATION_STATUSES);
+    private static final Set<String> NAVIGATION_EXCLUDED_STATUS_SET = Set.copyOf(NAVIGATION_EXCLUDED_STATUSES);
+
+    private final GameRepository gameRepository;
+    private final TransactionTemplate readTransaction;
+    private final boolean enabled;
+    private final long maxStalenessMs;
+    private volatile Snapshot snapshot;
+    private volatile long lastRebuiltAtMillis;
+
+    public SeasonScheduleIndex(
+            GameRepository gameRepository,
+            @Qualifier("kboGameTransactionManager") PlatformTransactionManager transactionManager,
+            @Value("${app.baseball.schedule-index.enabled:true}") boolean enabled,
+            @Value("${app.baseball.schedule-index.max-staleness-ms:900000}") long maxStalenessMs) {
+        this.gameRepository = gameRepository;
+        // 요청/커밋 후 콜백 어디서 불려도 호출한 쪽 트랜잭션에 섞이지 않도록 별도 읽기 트랜잭션에서 적재한다.
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * 믿고 쓸 수 있는 스냅샷. 비어 있으면 호출 측은 기존 쿼리로 조회한다.
+     */
+    public Optional<Snapshot> current() {
+        Snapshot current = snapshot;
+        if (!enabled || current == null || System.currentTimeMillis() - lastRebuiltAtMillis > maxStalenessMs) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    /**
+     * 전체 경기를 다시 읽어 색인을 새로 만든다.
+     */
+    public synchronized ScheduleIndexRebuildResultDto rebuildAll() {
+        if (!enabled) {
+            return new ScheduleIndexRebuildResultDto(0, 0);
+        }
+        List<ScheduleIndexRowProjection> rows = readTransaction.execute(status -> gameRepository.findScheduleIndexRows());
+        Snapshot rebuilt = Snapshot.of(rows == null ? List.of() : rows);
+        publish(rebuilt);
+        log.info("event=schedule_index_rebuilt seasons={} games={}", rebuilt.seasonCount(), rebuilt.gameCount());
+        return new ScheduleIndexRebuildResultDto(rebuilt.seasonCount(), rebuilt.gameCount());
+    }
+
+    /**
+     * 한 시즌만 다시 읽어 현재 스냅샷의 해당 시즌을 바꾼다. 아직 적재 전이면 전체를 만든다.
+     */
+    public synchronized ScheduleIndexRebuildResultDto rebuildSeason(int seasonYear) {
+        if (!enabled) {
+            return new ScheduleIndexRebuildResultDto(0, 0);
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return rebuildAll();
+        }
+        List<ScheduleIndexRowProjection> rows =
+                readTransaction.execute(status -> gameRepository.findScheduleIndexRowsBySeason(seasonYear));
+        SeasonSchedule season = SeasonSchedule.of(seasonYear, rows == null ? List.of() : rows);
+        publish(current.withSeason(season));
+        log.debug("event=schedule_index_season_rebuilt seasonYear={} games={}", seasonYear, season.gameCount);
+        return new ScheduleIndexRebuildResultDto(1, season.gameCount);
+    }
+
+    /**
+     * 일정이 바뀐 시즌을 커밋 뒤에 다시 만든다.
+     * 같은 트랜잭션에서 여러 경기를 고쳐도(기간 동기화/상태 복구) 시즌마다 한 번만 읽는다.
+     */
+    public void rebuildSeasonAfterCommit(int seasonYear) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuildSeasonQuietly(seasonYear);
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingSeasonRebuild pending && pending.owner == this) {
+                pending.seasons.add(seasonYear);
+                return;
+            }
+        }
+        PendingSeasonRebuild pending = new PendingSeasonRebuild(this);
+        pending.seasons.add(seasonYear);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    private void rebuildSeasonQuietly(int seasonYear) {
+        if (snapshot == null) {
+            // 첫 적재는 스케줄러가 전체로 만든다.
+            return;
+        }
+        try {
+            rebuildSeason(seasonYear);
+        } catch (RuntimeException e) {
+            // 다음 주기 재구성에서 보정되고, 그 사이 오래되면 current()가 비어 쿼리로 돌아간다.
+            log.warn("event=schedule_index_season_rebuild_failed seasonYear={} reason={}", seasonYear, e.getMessage());
+        }
+    }
+
+    private void publish(Snapshot rebuilt) {
+        snapshot = rebuilt;
+        lastRebuiltAtMillis = System.currentTimeMillis();
+    }
+
+    private static final class PendingSeasonRebuild implements TransactionSynchronization {
+
+        private final SeasonScheduleIndex owner;
+        private final Set<Integer> seasons = new TreeSet<>();
+
+        private PendingSeasonRebuild(SeasonScheduleIndex owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void afterCommit() {
+            seasons.forEach(owner::rebuildSeasonQuietly);
+        }
+    }
+
+    /**
+     * 색인 전체의 불변 스냅샷. 시즌을 가로지르는 조회(canonical/scheduled/전체)는 미리 합쳐 둔 배열을 쓴다.
+     */
+    public static final class Snapshot {
+
+        private final NavigableMap<Integer, SeasonSchedule> seasons;
+        private final SortedDates allDates;
+        private final SortedDates canonicalDates;
+        private final SortedDates scheduledDates;
+        private final int gameCount;
+
+        private Snapshot(NavigableMap<Integer, SeasonSchedule> seasons) {
+            this.seasons = Collections.unmodifiableNavigableMap(seasons);
+            this.allDates = SortedDates.merge(seasons.values().stream().map(season -> season.allDates).toList());
+            this.canonicalDates = SortedDates.merge(seasons.values().stream().map(season -> season.canonicalDates).toList());
+            this.scheduledDates = SortedDates.merge(seasons.values().stream().map(season -> season.scheduledDates).toList());
+            this.gameCount = seasons.values().stream().mapToInt(season -> season.gameCount).sum();
+        }
+
+        static Snapshot of(List<ScheduleIndexRowProjection> rows) {
+            Map<Integer, List<ScheduleIndexRowProjection>> rowsBySeason = new HashMap<>();
+            for (ScheduleIndexRowProjection row : rows) {
+                if (row.getGameDate() == null || row.getSeasonYear() == null) {
+                    continue;
+                }
+                rowsBySeason.computeIfAbsent(row.getSeasonYear(), ignored -> new ArrayList<>()).add(row);
+            }
+            NavigableMap<Integer, SeasonSchedule> seasons = new TreeMap<>();
+            rowsBySeason.forEach((seasonYear, seasonRows) -> seasons.put(seasonYear, SeasonSchedule.of(seasonYear, seasonRows)));
+            return new Snapshot(seasons);
+        }
+
+        Snapshot withSeason(SeasonSchedule season) {
+            NavigableMap<Integer, SeasonSchedule> seasons = new TreeMap<>(this.seasons);
+            if (season.gameCount == 0) {
+                seasons.remove(season.seasonYear);
+            } else {
+                seasons.put(season.seasonYear, season);
+            }
+            return new Snapshot(seasons);
+        }
+
+        public int seasonCount() {
+            return seasons.size();
+        }
+
+        public int gameCount() {
+            return gameCount;
+        }
+
+        /** GameRepository.findPrevGameDate와 같다 (더미/MOCK 포함 전체 경기). */
+        public Optional<LocalDate> findPrevGameDate(LocalDate date) {
+            return Optional.ofNullable(allDates.lower(date));
+        }
+
+        /** GameRepository.findNextGameDate와 같다. */
+        public Optional<LocalDate> findNextGameDate(LocalDate date) {
+            return Optional.ofNullable(allDates.higher(date));
+        }
+
+        public Optional<LocalDate> findCanonicalPrevGameDate(LocalDate date) {
+            return Optional.ofNullable(canonicalDates.lower(date));
+        }
+
+        public Optional<LocalDate> findCanonicalNextGameDate(LocalDate date) {
+            return Optional.ofNullable(canonicalDates.higher(date));
+        }
+
+        public Optional<LocalDate> findCanonicalMinGameDate() {
+            return Optional.ofNullable(canonicalDates.first());
+        }
+
+        public Optional<LocalDate> findCanonicalMaxGameDate() {
+            return Optional.ofNullable(canonicalDates.last());
+        }
+
+        public Optional<LocalDate> findScheduledNavigationDateOnOrAfter(LocalDate date) {
+            return Optional.ofNullable(scheduledDates.ceiling(date));
+        }
+
+        public Optional<LocalDate> findPrevScheduledNavigationDate(LocalDate date) {
+            return Optional.ofNullable(scheduledDates.lower(date));
+        }
+
+        public Optional<LocalDate> findNextScheduledNavigationDate(LocalDate date) {
+            return Optional.ofNullable(scheduledDates.higher(date));
+        }
+
+        public Optional<LocalDate> findScopedGameDateOnOrAfter(
+                LocalDate date, int seasonYear, Collection<Integer> leagueTypeCodes) {
+            LocalDate found = null;
+            for (SortedDates dates : scopedDates(seasonYear, leagueTypeCodes)) {
+                found = earlier(found, dates.ceiling(date));
+            }
+            return Optional.ofNullable(found);
+        }
+
+        public Optional<LocalDate> findPrevScopedGameDate(
+                LocalDate date, int seasonYear, Collection<Integer> leagueTypeCodes) {
+            LocalDate found = null;
+            for (SortedDates dates : scopedDates(seasonYear, leagueTypeCodes)) {
+                found = later(found, dates.lower(date));
+            }
+            return Optional.ofNullable(found);
+        }
+
+        public Optional<LocalDate> findNextScopedGameDate(
+                LocalDate date, int seasonYear, Collection<Integer> leagueTypeCodes) {
+            LocalDate found = null;
+            for (SortedDates dates : scopedDates(seasonYear, leagueTypeCodes)) {
+                found = earlier(found, dates.higher(date));
+            }
+            return Optional.ofNullable(found);
+        }
+
+        /**
+         * 해당 날짜의 경기 ID (더미/MOCK 포함, game_id 순)
+         */
+        public List<String> findGameIds(LocalDate date) {
+            List<String> gameIds = new ArrayList<>();
+            for (SeasonSchedule season : seasons.values()) {
+                gameIds.addAll(season.gameIdsByDate.getOrDefault(date, List.of()));
+            }
+            Collections.sort(gameIds);
+            return gameIds;
+        }
+
+        private List<SortedDates> scopedDates(int seasonYear, Collection<Integer> leagueTypeCodes) {
+            SeasonSchedule season = seasons.get(seasonYear);
+            if (season == null || leagueTypeCodes == null) {
+                return List.of();
+            }
+            List<SortedDates> dates = new ArrayList<>(leagueTypeCodes.size());
+            for (Integer leagueTypeCode : leagueTypeCodes) {
+                SortedDates leagueDates = season.navigableDatesByLeague.get(leagueTypeCode);
+                if (leagueDates != null) {
+                    dates.add(leagueDates);
+                }
+            }
+            return dates;
+        }
+
+        private static LocalDate earlier(LocalDate current, LocalDate candidate) {
+            if (candidate == null) {
+                return current;
+            }
+            return current == null || candidate.isBefore(current) ? candidate : current;
+        }
+
+        private static LocalDate later(LocalDate current, LocalDate candidate) {
+            if (candidate == null) {
+                return current;
+            }
+            return current == null || candidate.isAfter(current) ? candidate : current;
+        }
+    }
+
+    /**
+     * 한 시즌(COALESCE(season_year, 경기 연도))의 불변 일정.
+     */
+    static final class SeasonSchedule {
+
+        private final int seasonYear;
+        private final int gameCount;
+        private final SortedDates allDates;
+        private final SortedDates canonicalDates;
+        private final SortedDates scheduledDates;
+        // 리그 코드별, 예정/취소 상태를 뺀 경기일 (scoped 네비게이션)
+        private final Map<Integer, SortedDates> navigableDatesByLeague;
+        private final Map<LocalDate, List<String>> gameIdsByDate;
+
+        private SeasonSchedule(
+                int seasonYear,
+                int gameCount,
+                SortedDates allDates,
+                SortedDates canonicalDates,
+                SortedDates scheduledDates,
+                Map<Integer, SortedDates> navigableDatesByLeague,
+                Map<LocalDate, List<String>> gameIdsByDate) {
+            this.seasonYear = seasonYear;
+            this.gameCount = gameCount;
+            this.allDates = allDates;
+            this.canonicalDates = canonicalDates;
+            this.scheduledDates = scheduledDates;
+            this.navigableDatesByLeague = navigableDatesByLeague;
+            this.gameIdsByDate = gameIdsByDate;
+        }
+
+        static SeasonSchedule of(int seasonYear, List<ScheduleIndexRowProjection> rows) {
+            Set<LocalDate> allDates = new HashSet<>();
+            Set<LocalDate> canonicalDates = new HashSet<>();
+            Set<LocalDate> scheduledDates = new HashSet<>();
+            Map<Integer, Set<LocalDate>> navigableDates = new HashMap<>();
+            Map<LocalDate, List<String>> gameIds = new HashMap<>();
+            int gameCount = 0;
+
+            for (ScheduleIndexRowProjection row : rows) {
+                LocalDate gameDate = row.getGameDate();
+                if (gameDate == null) {
+                    continue;
+                }
+                gameCount++;
+                allDates.add(gameDate);
+                gameIds.computeIfAbsent(gameDate, ignored -> new ArrayList<>()).add(row.getGameId());
+
+                if (Boolean.TRUE.equals(row.getIsDummy()) || row.getGameId() == null || row.getGameId().startsWith("MOCK")) {
+                    continue;
+                }
+                if (isCanonicalTeam(row.getHomeTeam()) && isCanonicalTeam(row.getAwayTeam())) {
+                    canonicalDates.add(gameDate);
+                }
+                String status = row.getGameStatus() == null ? "" : row.getGameStatus().toUpperCase(Locale.ROOT);
+                if (SCHEDULED_NAVIGATION_STATUS_SET.contains(status)) {
+                    scheduledDates.add(gameDate);
+                }
+                if (!NAVIGATION_EXCLUDED_STATUS_SET.contains(status)) {
+                    int leagueTypeCode = row.getLeagueTypeCode() == null ? 0 : row.getLeagueTypeCode();
+                    navigableDates.computeIfAbsent(leagueTypeCode, ignored -> new HashSet<>()).add(gameDate);
+                }
+            }
+
+            Map<Integer, SortedDates> navigableDatesByLeague = new HashMap<>();
+            navigableDates.forEach((leagueTypeCode, dates) -> navigableDatesByLeague.put(leagueTypeCode, SortedDates.of(dates)));
+            Map<LocalDate, List<String>> gameIdsByDate = new HashMap<>();
+            gameIds.forEach((gameDate, ids) -> gameIdsByDate.put(gameDate, ids.stream()
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .toList()));
+            return new SeasonSchedule(
+                    seasonYear,
+                    gameCount,
+                    SortedDates.of(allDates),
+                    SortedDates.of(canonicalDates),
+                    SortedDates.of(scheduledDates),
+                    Map.copyOf(navigableDatesByLeague),
+                    Map.copyOf(gameIdsByDate));
+        }
+
+        private static boolean isCanonicalTeam(String teamCode) {
+            return teamCode != null && CANONICAL_TEAM_CODE_SET.contains(teamCode);
+        }
+    }
+
+    /**
+     * 중복 없이 정렬된 경기일 (epoch day 배열). lower/higher/ceiling은 TreeSet과 같은 의미다.
+     */
+    static final class SortedDates {
+
+        private static final SortedDates EMPTY = new SortedDates(new int[0]);
+
+        private final int[] epochDays;
+
+        private SortedDates(int[] epochDays) {
+            this.epochDays = epochDays;
+        }
+
+        static SortedDates of(Collection<LocalDate> dates) {
+            if (dates.isEmpty()) {
+                return EMPTY;
+            }
+            return new SortedDates(dates.stream()
+                    .mapToInt(date -> (int) date.toEpochDay())
+                    .distinct()
+                    .sorted()
+                    .toArray());
+        }
+
+        static SortedDates merge(Collection<SortedDates> parts) {
+            int size = 0;
+            for (SortedDates part : parts) {
+                size += part.epochDays.length;
+            }
+            if (size == 0) {
+                return EMPTY;
+            }
+            int[] merged = new int[size];
+            int offset = 0;
+            for (SortedDates part : parts) {
+                System.arraycopy(part.epochDays, 0, merged, offset, part.epochDays.length);
+                offset += part.epochDays.length;
+            }
+            return new SortedDates(Arrays.stream(merged).sorted().distinct().toArray());
+        }
+
+        LocalDate first() {
+            return epochDays.length == 0 ? null : LocalDate.ofEpochDay(epochDays[0]);
+        }
+
+        LocalDate last() {
+            return epochDays.length == 0 ? null : LocalDate.ofEpochDay(epochDays[epochDays.length - 1]);
+        }
+
+        /** date보다 이전인 가장 늦은 날짜 */
+        LocalDate lower(LocalDate date) {
+            int index = insertionPoint(date, false) - 1;
+            return index >= 0 ? LocalDate.ofEpochDay(epochDays[index]) : null;
+        }
+
+        /** date보다 이후인 가장 이른 날짜 */
+        LocalDate higher(LocalDate date) {
+            int index = insertionPoint(date, true);
+            return index < epochDays.length ? LocalDate.ofEpochDay(epochDays[index]) : null;
+        }
+
+        /** date 당일 또는 이후인 가장 이른 날짜 */
+        LocalDate ceiling(LocalDate date) {
+            int index = insertionPoint(date, false);
+            return index < epochDays.length ? LocalDate.ofEpochDay(epochDays[index]) : null;
+        }
+
+        private int insertionPoint(LocalDate date, boolean afterMatch) {
+            int index = Arrays.binarySearch(epochDays, (int) date.toEpochDay());
+            if (index >= 0) {
+                return afterMatch ? index + 1 : index;
+            }
+            return -index - 1;
+        }
+    }
+}
@@ -0,0 +1,534 @@
+package com.example.kbo.service;
+
+import static com.example.common.config.CacheConfig.TEAM_RANKINGS;
+
+import com.example.kbo.dto.TeamStandingsParityResultDto;
+import com.example.kbo.dto.TeamStandingsRebuildResultDto;
+import com.example.kbo.entity.GameEntity;
+import com.example.kbo.entity.TeamStandingEntity;
+import com.example.kbo.entity.TeamStandingGameEntity;
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.repository.SeasonInfoProjection;
+import com.example.kbo.repository.TeamStandingGameRepository;
+import com.example.kbo.repository.TeamStandingRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 팀 순위 projection(team_standings) 유지
+ *
+ * - 경기 하나가 확정/정정될 때 ledger(team_standing_games)와 비교해 두 팀 행만 증감하고,
+ *   순위/승차는 같은 시즌 행(최대 10팀 + 비정규 코드) 안에서 다시 매긴다.
+ * - 집계 규칙은 GameRepository.findTeamRankingsBySeasonFast / findRecentFormBySeasonAndTeams와 같다.
+ * - 한 번도 재구성하지 않은 시즌은 증분 반영하지 않는다. 일부 경기만 쌓인 projection이 순위로 노출되지 않게 하기 위함이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamStandingsService {
+
+    static final int RECENT_FORM_SIZE = 5;
+    private static final int RANKED_TEAM_LIMIT = 10;
+    private static final Comparator<TeamStandingEntity> GAMES_PLAYED_ORDER = Comparator
+            .comparingInt(TeamStandingEntity::getGamesPlayed).reversed()
+            .thenComparing(TeamStandingEntity::getTeamId);
+    private static final Comparator<TeamStandingEntity> RANKING_ORDER = Comparator
+            .comparingInt(TeamStandingEntity::getWins).reversed()
+            .thenComparingInt(TeamStandingEntity::getLosses)
+            .thenComparing(TeamStandingEntity::getTeamId);
+    // game_date DESC(NULL 먼저), game_id DESC — PostgreSQL 기본 DESC 정렬과 같다.
+    private static final Comparator<TeamStandingGameEntity> RECENT_GAME_ORDER = Comparator
+            .comparing(TeamStandingGameEntity::getGameDate, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(TeamStandingGameEntity::getGameId)
+            .reversed();
+
+    private final GameRepository gameRepository;
+    private final TeamStandingRepository teamStandingRepository;
+    private final TeamStandingGameRepository teamStandingGameRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * 경기 하나의 현재 상태를 projection에 반영한다. 이미 같은 결과로 반영된 경기면 아무것도 하지 않는다.
+     * 호출한 쪽의 트랜잭션이 끝난 뒤(afterCommit) 부르는 경로라 항상 새 트랜잭션에서 실행한다.
+     *
+     * @return projection이 바뀌었으면 true
+     */
+    @Transactional(transactionManager = "kboGameTransactionManager", propagation = Propagation.REQUIRES_NEW)
+    public boolean applyGame(String gameId) {
+        Optional<GameEntity> game = gameRepository.findByGameId(gameId);
+        Optional<TeamStandingGameEntity> previous = teamStandingGameRepository.findById(gameId);
+        Set<Integer> touchedSeasons = new TreeSet<>();
+        boolean changed = applyInternal(gameId, game.orElse(null), previous.orElse(null), touchedSeasons);
+        touchedSeasons.forEach(this::refreshRanks);
+        evictTeamRankingsAfterCommit(touchedSeasons);
+        return changed;
+    }
+
+    /**
+     * 날짜 범위 경기를 한 트랜잭션에서 다시 반영한다. 관리자 동기화를 거치지 않고 적재된 경기를 따라잡는 용도다.
+     *
+     * @return projection이 바뀐 경기 수
+     */
+    @Transactional(transactionManager = "kboGameTransactionManager")
+    public int applyGamesByDateRange(LocalDate startDate, LocalDate endDate) {
+        List<GameEntity> games = gameRepository.findAllByDateRange(startDate, endDate);
+        if (games.isEmpty()) {
+            return 0;
+        }
+        Map<String, TeamStandingGameEntity> ledger = new HashMap<>();
+        teamStandingGameRepository.findAllById(games.stream().map(GameEntity::getGameId).toList())
+                .forEach(entry -> ledger.put(entry.getGameId(), entry));
+
+        Set<Integer> touchedSeasons = new TreeSet<>();
+        int changed = 0;
+        for (GameEntity game : games) {
+            if (applyInternal(game.getGameId(), game, ledger.get(game.getGameId()), touchedSeasons)) {
+                changed++;
+            }
+        }
+        touchedSeasons.forEach(this::refreshRanks);
+        evictTeamRankingsAfterCommit(touchedSeasons);
+        return changed;
+    }
+
+    /**
+     * 시즌 projection을 game 테이블 기준으로 전체 재구성한다.
+     */
+    @Transactional(transactionManager = "kboGameTransactionManager")
+    public TeamStandingsRebuildResultDto rebuildSeason(int seasonYear) {
+        List<Object[]> rows = gameRepository.findStandingGamesBySeason(
+                seasonYear,
+                LocalDate.of(seasonYear, 1, 1),
+                LocalDate.of(seasonYear + 1, 1, 1));
+
+        List<TeamStandingGameEntity> ledger = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ledger.add(TeamStandingGameEntity.builder()
+                    .gameId((String) row[0])
+                    .seasonYear(seasonYear)
+                    .gameDate(toLocalDate(row[1]))
+                    .homeTeamId(blankToNull((String) row[2]))
+                    .awayTeamId(blankToNull((String) row[3]))
+                    .homeResult(homeResult(((Number) row[4]).intValue(), ((Number) row[5]).intValue()))
+                    .build());
+        }
+        ledger.sort(RECENT_GAME_ORDER);
+
+        Map<String, TeamStandingEntity> standings = new LinkedHashMap<>();
+        for (TeamStandingGameEntity entry : ledger) {
+            accumulate(standings, seasonYear, entry.getHomeTeamId(), entry.getHomeResult(), entry);
+            accumulate(standings, seasonYear, entry.getAwayTeamId(), opposite(entry.getHomeResult()), entry);
+        }
+        assignRanks(standings.values());
+
+        teamStandingGameRepository.deleteBySeasonYear(seasonYear);
+        teamStandingRepository.deleteBySeasonYear(seasonYear);
+        teamStandingGameRepository.saveAll(ledger);
+        teamStandingRepository.saveAll(standings.values());
+        evictTeamRankingsAfterCommit(Set.of(seasonYear));
+
+        log.info("event=team_standings_rebuilt seasonYear={} games={} teams={}",
+                seasonYear, ledger.size(), standings.size());
+        return new TeamStandingsRebuildResultDto(seasonYear, ledger.size(), standings.size());
+    }
+
+    /**
+     * projection 순위를 기존 전체 집계 쿼리 결과와 비교한다.
+     */
+    @Transactional(readOnly = true, transactionManager = "kboGameTransactionManager")
+    public TeamStandingsParityResultDto verifySeason(int seasonYear) {
+        LocalDate seasonStart = LocalDate.of(seasonYear, 1, 1);
+        LocalDate nextSeasonStart = LocalDate.of(seasonYear + 1, 1, 1);
+        List<Object[]> liveRows = gameRepository.findTeamRankingsBySeasonFast(seasonYear, seasonStart, nextSeasonStart);
+        Map<String, List<String>> liveRecentForm = new HashMap<>();
+        for (Object[] row : gameRepository.findRecentFormBySeasonAndTeams(seasonYear, seasonStart, nextSeasonStart)) {
+            liveRecentForm.computeIfAbsent((String) row[0], key -> new ArrayList<>()).add((String) row[2]);
+        }
+        List<TeamStandingEntity> projected =
+                teamStandingRepository.findByIdSeasonYearAndSeasonRankIsNotNullOrderBySeasonRankAsc(seasonYear);
+
+        Map<String, TeamStandingEntity> projectedByTeam = new LinkedHashMap<>();
+        projected.forEach(standing -> projectedByTeam.put(standing.getTeamId(), standing));
+        List<String> mismatches = new ArrayList<>();
+        Set<String> liveTeams = new LinkedHashSet<>();
+        for (Object[] row : liveRows) {
+            String teamId = (String) row[1];
+            liveTeams.add(teamId);
+            TeamStandingEntity standing = projectedByTeam.get(teamId);
+            if (standing == null) {
+                mismatches.add(teamId + ": missing in projection");
+                continue;
+            }
+            compare(mismatches, teamId, "rank", ((Number) row[0]).intValue(), standing.getSeasonRank());
+            compare(mismatches, teamId, "wins", ((Number) row[3]).intValue(), standing.getWins());
+            compare(mismatches, teamId, "losses", ((Number) row[4]).intValue(), standing.getLosses());
+            compare(mismatches, teamId, "draws", ((Number) row[5]).intValue(), standing.getDraws());
+            compare(mismatches, teamId, "winRate", row[6].toString(), winRate(standing));
+            compare(mismatches, teamId, "games", ((Number) row[7]).intValue(), standing.getGamesPlayed());
+            compare(mismatches, teamId, "gamesBehind",
+                    row[8] == null ? null : ((Number) row[8]).doubleValue(),
+                    standing.getGamesBehind() == null ? null : standing.getGamesBehind().doubleValue());
+            compare(mismatches, teamId, "recentForm",
+                    String.join("", liveRecentForm.getOrDefault(teamId, List.of())),
+                    standing.getRecentForm());
+        }
+        projectedByTeam.keySet().stream()
+                .filter(teamId -> !liveTeams.contains(teamId))
+                .forEach(teamId -> mismatches.add(teamId + ": missing in live ranking"));
+
+        boolean matched = mismatches.isEmpty();
+        if (!matched) {
+            log.warn("event=team_standings_parity_mismatch seasonYear={} mismatchCount={} sample={}",
+                    seasonYear, mismatches.size(), mismatches.subList(0, Math.min(5, mismatches.size())));
+        }
+        return new TeamStandingsParityResultDto(seasonYear, matched, projected.size(), liveRows.size(), mismatches);
+    }
+
+    /**
+     * 순위가 매겨진 projection 행 (rank 오름차순). 재구성 전 시즌이면 빈 목록이다.
+     * 테이블이 아직 없는 환경에서도 호출한 쪽 트랜잭션이 깨지지 않도록 별도 트랜잭션으로 읽는다.
+     */
+    @Transactional(readOnly = true, transactionManager = "kboGameTransactionManager", propagation = Propagation.REQUIRES_NEW)
+    public List<TeamStandingEntity> findRankedStandings(int seasonYear) {
+        return teamStandingRepository.findByIdSeasonYearAndSeasonRankIsNotNullOrderBySeasonRankAsc(seasonYear);
+    }
+
+    /**
+     * 승률 문자열 (findTeamRankingsBySeasonFast의 win_pct와 같은 소수 셋째 자리 반올림)
+     */
+    public static String winRate(TeamStandingEntity standing) {
+        int decisions = standing.getWins() + standing.getLosses();
+        if (decisions <= 0) {
+            return "0.000";
+        }
+        return BigDecimal.valueOf(standing.getWins())
+                .divide(BigDecimal.valueOf(decisions), 3, RoundingMode.HALF_UP)
+                .toPlainString();
+    }
+
+    private boolean applyInternal(
+            String gameId,
+            GameEntity game,
+            TeamStandingGameEntity previous,
+            Set<Integer> touchedSeasons) {
+        TeamStandingGameEntity next = toLedgerEntry(game);
+        if (next != null && !teamStandingRepository.existsByIdSeasonYear(next.getSeasonYear())) {
+            next = null;
+        }
+        if (previous == null && next == null) {
+            return false;
+        }
+        if (previous != null && next != null && sameResult(previous, next)) {
+            return false;
+        }
+
+        if (previous != null) {
+            lockSeason(previous.getSeasonYear(), touchedSeasons);
+        }
+        if (next != null) {
+            lockSeason(next.getSeasonYear(), touchedSeasons);
+        }
+
+        Map<TeamStandingEntity.Id, TeamStandingEntity> rows = new LinkedHashMap<>();
+        boolean pushable = previous == null && next.getGameDate() != null;
+        if (previous != null) {
+            adjust(rows, previous, -1);
+        }
+        if (next != null) {
+            adjust(rows, next, 1);
+        }
+
+        if (previous != null && next != null) {
+            previous.setSeasonYear(next.getSeasonYear());
+            previous.setGameDate(next.getGameDate());
+            previous.setHomeTeamId(next.getHomeTeamId());
+            previous.setAwayTeamId(next.getAwayTeamId());
+            previous.setHomeResult(next.getHomeResult());
+        } else if (previous != null) {
+            teamStandingGameRepository.delete(previous);
+        } else {
+            teamStandingGameRepository.save(next);
+        }
+
+        for (TeamStandingEntity row : rows.values()) {
+            if (row.getGamesPlayed() <= 0) {
+                // 새로 만든 행(isNew)은 delete가 무시한다.
+                teamStandingRepository.delete(row);
+                continue;
+            }
+            if (pushable && isNewestGame(row, next)) {
+                String result = next.getHomeTeamId() != null && next.getHomeTeamId().equals(row.getTeamId())
+                        ? next.getHomeResult()
+                        : opposite(next.getHomeResult());
+                pushRecentForm(row, result, next);
+            } else {
+                reloadRecentForm(row);
+            }
+            teamStandingRepository.save(row);
+        }
+
+        log.debug("event=team_standings_game_applied gameId={} previous={} next={}",
+                gameId,
+                previous == null ? null : previous.getSeasonYear(),
+                next == null ? null : next.getSeasonYear());
+        return true;
+    }
+
+    /**
+     * 집계 대상 경기면 ledger 행으로, 아니면 null로 변환한다. (정규시즌, 점수 확정, dummy/MOCK 제외)
+     */
+    private TeamStandingGameEntity toLedgerEntry(GameEntity game) {
+        if (game == null
+                || game.getGameId() == null
+                || game.getGameId().startsWith("MOCK")
+                || Boolean.TRUE.equals(game.getIsDummy())
+                || game.getHomeScore() == null
+                || game.getAwayScore() == null) {
+            return null;
+        }
+        Integer seasonYear = resolveRegularSeasonYear(game);
+        String homeTeamId = normalizeTeamId(game.getHomeTeam());
+        String awayTeamId = normalizeTeamId(game.getAwayTeam());
+        if (seasonYear == null || (homeTeamId == null && awayTeamId == null)) {
+            return null;
+        }
+        return TeamStandingGameEntity.builder()
+                .gameId(game.getGameId())
+                .seasonYear(seasonYear)
+                .gameDate(game.getGameDate())
+                .homeTeamId(homeTeamId)
+                .awayTeamId(awayTeamId)
+                .homeResult(homeResult(game.getHomeScore(), game.getAwayScore()))
+                .build();
+    }
+
+    private Integer resolveRegularSeasonYear(GameEntity game) {
+        if (game.getSeasonId() == null) {
+            return game.getGameDate() == null ? null : game.getGameDate().getYear();
+        }
+        return gameRepository.findSeasonInfoBySeasonId(game.getSeasonId())
+                .filter(info -> info.getLeagueTypeCode() == null || info.getLeagueTypeCode() == 0)
+                .map(SeasonInfoProjection::getSeasonYear)
+                .orElse(null);
+    }
+
+    /**
+     * 트랜잭션에서 처음 건드리는 시즌이면 시즌 행을 잠근다. 잠근 행은 영속성 컨텍스트에 올라가 이후 findById가 재사용한다.
+     */
+    private void lockSeason(int seasonYear, Set<Integer> touchedSeasons) {
+        if (touchedSeasons.add(seasonYear)) {
+            teamStandingRepository.findAllBySeasonYearForUpdate(seasonYear);
+        }
+    }
+
+    private void adjust(Map<TeamStandingEntity.Id, TeamStandingEntity> rows, TeamStandingGameEntity entry, int delta) {
+        adjustTeam(rows, entry.getSeasonYear(), entry.getHomeTeamId(), entry.getHomeResult(), delta);
+        adjustTeam(rows, entry.getSeasonYear(), entry.getAwayTeamId(), opposite(entry.getHomeResult()), delta);
+    }
+
+    private void adjustTeam(
+            Map<TeamStandingEntity.Id, TeamStandingEntity> rows,
+            int seasonYear,
+            String teamId,
+            String result,
+            int delta) {
+        if (teamId == null) {
+            return;
+        }
+        TeamStandingEntity row = rows.computeIfAbsent(new TeamStandingEntity.Id(seasonYear, teamId),
+                id -> teamStandingRepository.findById(id).orElseGet(() -> new TeamStandingEntity(seasonYear, teamId)));
+        addResult(row, result, delta);
+    }
+
+    private void accumulate(
+            Map<String, TeamStandingEntity> standings,
+            int seasonYear,
+            String teamId,
+            String result,
+            TeamStandingGameEntity entry) {
+        if (teamId == null) {
+            return;
+        }
+        TeamStandingEntity row = standings.computeIfAbsent(teamId, key -> new TeamStandingEntity(seasonYear, key));
+        addResult(row, result, 1);
+        // ledger가 최신순으로 정렬돼 있으므로 앞쪽 5경기가 최근 5경기다.
+        if (row.getLastGameId() == null) {
+            row.setLastGameId(entry.getGameId());
+            row.setLastGameDate(entry.getGameDate());
+        }
+        if (row.getRecentForm().length() < RECENT_FORM_SIZE) {
+            row.setRecentForm(row.getRecentForm() + result);
+        }
+    }
+
+    private void addResult(TeamStandingEntity row, String result, int delta) {
+        switch (result) {
+            case "W" -> row.setWins(row.getWins() + delta);
+            case "L" -> row.setLosses(row.getLosses() + delta);
+            default -> row.setDraws(row.getDraws() + delta);
+        }
+        row.setGamesPlayed(row.getGamesPlayed() + delta);
+    }
+
+    private boolean isNewestGame(TeamStandingEntity row, TeamStandingGameEntity entry) {
+        if (row.getLastGameId() == null || row.getLastGameDate() == null) {
+            return row.getGamesPlayed() == 1;
+        }
+        int byDate = entry.getGameDate().compareTo(row.getLastGameDate());
+        return byDate > 0 || (byDate == 0 && entry.getGameId().compareTo(row.getLastGameId()) > 0);
+    }
+
+    private void pushRecentForm(TeamStandingEntity row, String result, TeamStandingGameEntity entry) {
+        String recentForm = result + row.getRecentForm();
+        row.setRecentForm(recentForm.length() > RECENT_FORM_SIZE ? recentForm.substring(0, RECENT_FORM_SIZE) : recentForm);
+        row.setLastGameDate(entry.getGameDate());
+        row.setLastGameId(entry.getGameId());
+    }
+
+    /**
+     * 정정/삭제/과거 경기 반영처럼 맨 앞에 붙일 수 없는 경우 ledger에서 최근 5경기를 다시 읽는다.
+     */
+    private void reloadRecentForm(TeamStandingEntity row) {
+        List<TeamStandingGameEntity> recentGames = teamStandingGameRepository.findRecentByTeam(
+                row.getSeasonYear(), row.getTeamId(), PageRequest.of(0, RECENT_FORM_SIZE));
+        StringBuilder recentForm = new StringBuilder(RECENT_FORM_SIZE);
+        for (TeamStandingGameEntity recentGame : recentGames) {
+            recentForm.append(row.getTeamId().equals(recentGame.getHomeTeamId())
+                    ? recentGame.getHomeResult()
+                    : opposite(recentGame.getHomeResult()));
+        }
+        row.setRecentForm(recentForm.toString());
+        row.setLastGameDate(recentGames.isEmpty() ? null : recentGames.get(0).getGameDate());
+        row.setLastGameId(recentGames.isEmpty() ? null : recentGames.get(0).getGameId());
+    }
+
+    private void refreshRanks(int seasonYear) {
+        List<TeamStandingEntity> standings = teamStandingRepository.findByIdSeasonYear(seasonYear);
+        assignRanks(standings);
+        teamStandingRepository.saveAll(standings);
+    }
+
+    /**
+     * 경기 수 상위 10팀만 순위를 매기고 (나머지는 null), 1위와의 승차를 계산한다.
+     */
+    private void assignRanks(Iterable<TeamStandingEntity> standings) {
+        List<TeamStandingEntity> byGamesPlayed = new ArrayList<>();
+        standings.forEach(byGamesPlayed::add);
+        byGamesPlayed.sort(GAMES_PLAYED_ORDER);
+
+        List<TeamStandingEntity> ranked = new ArrayList<>(
+                byGamesPlayed.subList(0, Math.min(RANKED_TEAM_LIMIT, byGamesPlayed.size())));
+        byGamesPlayed.subList(ranked.size(), byGamesPlayed.size()).forEach(standing -> {
+            standing.setSeasonRank(null);
+            standing.setGamesBehind(null);
+        });
+        if (ranked.isEmpty()) {
+            return;
+        }
+        ranked.sort(RANKING_ORDER);
+        TeamStandingEntity leader = ranked.get(0);
+        for (int i = 0; i < ranked.size(); i++) {
+            TeamStandingEntity standing = ranked.get(i);
+            int gap = (leader.getWins() - standing.getWins()) + (standing.getLosses() - leader.getLosses());
+            standing.setSeasonRank(i + 1);
+            standing.setGamesBehind(BigDecimal.valueOf(gap).divide(BigDecimal.valueOf(2), 1, RoundingMode.HALF_UP));
+        }
+    }
+
+    private void evictTeamRankingsAfterCommit(Set<Integer> seasonYears) {
+        if (seasonYears.isEmpty()) {
+            return;
+        }
+        Runnable evict = () -> {
+            try {
+                Cache cache = cacheManager.getCache(TEAM_RANKINGS);
+                if (cache != null) {
+                    seasonYears.forEach(cache::evict);
+                }
+            } catch (RuntimeException e) {
+                log.warn("캐시 엔트리 무효화 실패: cache={}, key={}, reason={}", TEAM_RANKINGS, seasonYears, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+            return;
+        }
+        evict.run();
+    }
+
+    private static boolean sameResult(TeamStandingGameEntity previous, TeamStandingGameEntity next) {
+        return previous.getSeasonYear() == next.getSeasonYear()
+                && Objects.equals(previous.getGameDate(), next.getGameDate())
+                && Objects.equals(previous.getHomeTeamId(), next.getHomeTeamId())
+                && Objects.equals(previous.getAwayTeamId(), next.getAwayTeamId())
+                && Objects.equals(previous.getHomeResult(), next.getHomeResult());
+    }
+
+    private static void compare(List<String> mismatches, String teamId, String field, Object live, Object projected) {
+        if (!Objects.equals(live, projected)) {
+            mismatches.add(teamId + "." + field + ": live=" + live + ", projected=" + projected);
+        }
+    }
+
+    private static String homeResult(int homeScore, int awayScore) {
+        if (homeScore > awayScore) {
+            return "W";
+        }
+        return homeScore < awayScore ? "L" : "D";
+    }
+
+    private static String opposite(String result) {
+        return switch (result) {
+            case "W" -> "L";
+            case "L" -> "W";
+            default -> "D";
+        };
+    }
+
+    private static String normalizeTeamId(String team) {
+        return team == null ? null : blankToNull(team.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return value == null ? null : LocalDate.parse(value.toString().substring(0, 10));
+    }
+}
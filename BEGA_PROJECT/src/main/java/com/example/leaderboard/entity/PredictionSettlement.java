@@ -0,0 +1,46 @@
+package com.example.leaderboard.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예측 정산 마커 엔티티
+ * 경기 예측 한 건이 정산되었음을 기록합니다. 정답/오답 모두 남기므로
+ * 중단된 정산을 다시 실행해도 이미 처리된 예측을 건너뛸 수 있습니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "prediction_settlements", indexes = {
+        @Index(name = "idx_pred_settlement_game", columnList = "game_id")
+})
+public class PredictionSettlement {
+
+    /** 예측 ID (predictions.id와 1:1) */
+    @Id
+    @Column(name = "prediction_id")
+    private Long predictionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "game_id", nullable = false, length = 50)
+    private String gameId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", nullable = false, length = 20)
+    private Outcome outcome;
+
+    @Column(name = "settled_at", nullable = false)
+    private LocalDateTime settledAt;
+
+    public enum Outcome {
+        CORRECT,
+        INCORRECT
+    }
+}
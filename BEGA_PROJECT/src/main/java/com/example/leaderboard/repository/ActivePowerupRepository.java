@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,11 @@ public interface ActivePowerupRepository extends JpaRepository<ActivePowerup, Lo
         @Query("SELECT ap FROM ActivePowerup ap WHERE ap.userId = :userId AND ap.gameId = :gameId AND ap.used = false")
         List<ActivePowerup> findActiveForGame(@Param("userId") Long userId, @Param("gameId") String gameId);
 
+        @Query("SELECT ap FROM ActivePowerup ap WHERE ap.userId IN :userIds AND ap.gameId = :gameId AND ap.used = false")
+        List<ActivePowerup> findActiveForGameByUserIdIn(
+                        @Param("userIds") Collection<Long> userIds,
+                        @Param("gameId") String gameId);
+
         @Query("SELECT ap FROM ActivePowerup ap WHERE ap.userId = :userId AND ap.gameId = :gameId AND ap.powerupType = :type AND ap.used = false")
         Optional<ActivePowerup> findActiveForGameAndType(
                         @Param("userId") Long userId,
@@ -0,0 +1,78 @@
+package com.example.leaderboard.repository;
+
+import com.example.leaderboard.entity.PredictionSettlement;
+import com.example.leaderboard.entity.ScoreEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경기 예측 정산 전용 JDBC 배치 저장소.
+ * score_events는 IDENTITY 키라 Hibernate가 INSERT를 묶지 못하므로, 한 chunk의 이벤트와
+ * 정산 마커를 JDBC batch 한 번씩으로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PredictionSettlementJdbcRepository {
+
+    private static final String INSERT_SCORE_EVENT_SQL = """
+            INSERT INTO score_events
+                (user_id, prediction_id, game_id, event_type, base_score, multiplier,
+                 final_score, streak_count, description, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // prediction_id가 PK이므로 같은 예측을 두 번 정산하려 하면 chunk 전체가 롤백된다.
+    private static final String INSERT_SETTLEMENT_SQL = """
+            INSERT INTO prediction_settlements (prediction_id, user_id, game_id, outcome, settled_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertScoreEvents(List<ScoreEvent> events, LocalDateTime createdAt) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (ScoreEvent event : events) {
+            batchArgs.add(new Object[] {
+                    event.getUserId(),
+                    event.getPredictionId(),
+                    event.getGameId(),
+                    event.getEventType().name(),
+                    event.getBaseScore(),
+                    event.getMultiplier() != null ? event.getMultiplier() : BigDecimal.ONE,
+                    event.getFinalScore(),
+                    event.getStreakCount() != null ? event.getStreakCount() : 0,
+                    event.getDescription(),
+                    timestamp
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SCORE_EVENT_SQL, batchArgs);
+    }
+
+    public void insertSettlements(List<PredictionSettlement> settlements) {
+        if (settlements == null || settlements.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(settlements.size());
+        for (PredictionSettlement settlement : settlements) {
+            batchArgs.add(new Object[] {
+                    settlement.getPredictionId(),
+                    settlement.getUserId(),
+                    settlement.getGameId(),
+                    settlement.getOutcome().name(),
+                    Timestamp.valueOf(settlement.getSettledAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SETTLEMENT_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.leaderboard.repository;
+
+import com.example.leaderboard.entity.PredictionSettlement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PredictionSettlementRepository extends JpaRepository<PredictionSettlement, Long> {
+
+    @Query("SELECT ps.predictionId FROM PredictionSettlement ps WHERE ps.predictionId IN :predictionIds")
+    List<Long> findSettledPredictionIds(@Param("predictionIds") Collection<Long> predictionIds);
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,16 @@ public interface UserScoreRepository extends JpaRepository<UserScore, Long> {
 
     Optional<UserScore> findByUserId(Long userId);
 
+    List<UserScore> findByUserIdIn(Collection<Long> userIds);
+
+    // ============================================
+    // RANKING INDEX MAINTENANCE (Redis ZSET)
+    // ============================================
+
+    List<UserScore> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<UserScore> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
     // ============================================
     // LEADERBOARD QUERIES (TOTAL SCORE)
     // ============================================
@@ -0,0 +1,41 @@
+package com.example.leaderboard.scheduler;
+
+import com.example.leaderboard.service.LeaderboardRankingMaintenanceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리더보드 랭킹 ZSET 유지 스케줄러
+ * 최초 기동 시 DB로부터 재구축하고, 이후 주기적으로 정합성을 점검합니다.
+ */
+@Component
+@Slf4j
+public class LeaderboardRankingScheduler {
+
+    private final LeaderboardRankingMaintenanceService maintenanceService;
+    private final boolean enabled;
+
+    public LeaderboardRankingScheduler(
+            LeaderboardRankingMaintenanceService maintenanceService,
+            @Value("${app.leaderboard.ranking.maintenance.enabled:true}") boolean enabled) {
+        this.maintenanceService = maintenanceService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.leaderboard.ranking.maintenance.fixed-delay-ms:600000}",
+            initialDelayString = "${app.leaderboard.ranking.maintenance.initial-delay-ms:30000}")
+    public void maintainRankingIndex() {
+        if (!enabled) {
+            log.debug("Skipping leaderboard ranking maintenance because app.leaderboard.ranking.maintenance.enabled=false");
+            return;
+        }
+        try {
+            maintenanceService.runMaintenance();
+        } catch (Exception e) {
+            log.error("Error in leaderboard ranking maintenance: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -3,14 +3,11 @@ package com.example.leaderboard.service;
 import com.example.kbo.entity.GameEntity;
 import com.example.kbo.repository.GameRepository;
 import com.example.kbo.util.KboTeamCodePolicy;
-import com.example.leaderboard.dto.ScoreResultDto;
-import com.example.leaderboard.repository.ScoreEventRepository;
 import com.example.prediction.Prediction;
 import com.example.prediction.PredictionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -20,7 +17,7 @@ import java.util.*;
  * 종료된 게임의 예측 결과를 처리하고 점수를 부여합니다.
  *
  * 트랜잭션 정책:
- * - 점수/예측 결과 반영은 primary(transactionManager) 기준으로 처리
+ * - 예측 정산은 PredictionSettlementService가 chunk마다 primary(transactionManager) 트랜잭션으로 처리
  * - 경기 조회(GameRepository)는 kboGameTransactionManager 경로의 read 전용 호출
  */
 @Service
@@ -30,8 +27,8 @@ public class GameResultScoringService {
 
     private final GameRepository gameRepository;
     private final PredictionRepository predictionRepository;
-    private final ScoreEventRepository scoreEventRepository;
     private final ScoringService scoringService;
+    private final PredictionSettlementService settlementService;
 
     /**
      * 특정 게임의 모든 예측 결과 처리
@@ -40,7 +37,6 @@ public class GameResultScoringService {
      * @param gameId 게임 ID
      * @return 처리된 예측 수
      */
-    @Transactional(transactionManager = "transactionManager")
     public int processGameResult(String gameId) {
         // 게임 조회
         GameEntity game = gameRepository.findByGameId(gameId)
@@ -56,7 +52,6 @@ public class GameResultScoringService {
      * @param date 처리할 날짜
      * @return 처리된 게임 수
      */
-    @Transactional(transactionManager = "transactionManager")
     public int processGamesForDate(LocalDate date) {
         List<GameEntity> finishedGames = gameRepository.findByGameDate(date).stream()
                 .filter(GameEntity::isFinished)
@@ -103,48 +98,20 @@ public class GameResultScoringService {
         // 이변 여부 확인 (약팀이 이긴 경우)
         boolean isUpset = isUpsetGame(game);
 
-        // 해당 게임의 모든 예측 조회
-        List<Prediction> predictions = predictionRepository.findByGameId(game.getGameId());
-
-        if (predictions.isEmpty()) {
+        // 예측 정산 (chunk 단위 배치, 이미 정산된 예측은 건너뜀)
+        // 더미/MOCK 경기는 사용자 예측 통계 집계 대상이 아니므로 경기 날짜를 넘기지 않는다.
+        boolean countsTowardUserStats = !game.isDummyGame() && !game.getGameId().startsWith("MOCK");
+        LocalDate statsGameDate = countsTowardUserStats ? game.getGameDate() : null;
+        PredictionSettlementService.SettlementReport report =
+                settlementService.settleGame(game.getGameId(), statsGameDate, winner, isUpset);
+        int processedCount = report.settled();
+        if (processedCount == 0 && report.skipped() == 0 && report.failedChunks() == 0) {
             log.info("No predictions found for game {}.", game.getGameId());
             return 0;
         }
 
-        Set<Long> processedPredictionIds = loadProcessedPredictionIds(
-                predictions.stream().map(Prediction::getId).toList());
-
-        int processedCount = 0;
-        for (Prediction prediction : predictions) {
-            // 이미 점수가 처리되었는지 확인
-            if (isAlreadyProcessed(prediction.getId(), processedPredictionIds)) {
-                log.debug("Prediction {} already processed for user {}.", prediction.getId(), prediction.getUserId());
-                continue;
-            }
-
-            boolean isCorrect = prediction.getVotedTeam().equalsIgnoreCase(winner);
-
-            try {
-                ScoreResultDto result = scoringService.processPredictionResult(
-                        prediction.getUserId(),
-                        prediction.getId(),
-                        game.getGameId(),
-                        isCorrect,
-                        isCorrect && isUpset);
-
-                if (Boolean.TRUE.equals(result.getCorrect())) {
-                    log.info("User {} earned {} points for game {} (streak: {})",
-                            prediction.getUserId(), result.getTotalEarned(), game.getGameId(), result.getCurrentStreak());
-                }
-
-                processedCount++;
-            } catch (Exception e) {
-                log.error("Failed to process prediction {} for user {}: {}",
-                        prediction.getId(), prediction.getUserId(), e.getMessage());
-            }
-        }
-
-        log.info("Processed {} predictions for game {}.", processedCount, game.getGameId());
+        log.info("Processed {} predictions for game {} (skipped={}).",
+                processedCount, game.getGameId(), report.skipped());
 
         if (runPerfectDayCheck) {
             checkPerfectDay(gameRepository.findByGameDate(game.getGameDate()).stream()
@@ -228,21 +195,6 @@ public class GameResultScoringService {
         return "away".equalsIgnoreCase(game.getWinner());
     }
 
-    /**
-     * 이미 점수가 처리되었는지 확인
-     */
-    private Set<Long> loadProcessedPredictionIds(List<Long> predictionIds) {
-        if (predictionIds == null || predictionIds.isEmpty()) {
-            return Collections.emptySet();
-        }
-
-        return new HashSet<>(scoreEventRepository.findProcessedPredictionIdsByPredictionIdIn(predictionIds));
-    }
-
-    private boolean isAlreadyProcessed(Long predictionId, Set<Long> processedPredictionIds) {
-        return processedPredictionIds.contains(predictionId);
-    }
-
     private boolean isCanonicalGame(GameEntity game) {
         if (game == null) {
             return false;
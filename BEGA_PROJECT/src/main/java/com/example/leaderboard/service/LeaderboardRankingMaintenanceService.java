@@ -0,0 +1,186 @@
+package com.example.leaderboard.service;
+
+import com.example.leaderboard.entity.UserScore;
+import com.example.leaderboard.repository.UserScoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리더보드 ZSET 재구축 및 정합성 점검
+ *
+ * DB(user_scores)를 id 키셋 페이지로 순회하며 ZSET을 다시 만들거나,
+ * ZSET 점수를 DB와 비교해 어긋난 사용자만 보정합니다.
+ */
+@Service
+@Slf4j
+public class LeaderboardRankingMaintenanceService {
+
+    static final int PAGE_SIZE = 1000;
+    private static final Duration MAINTENANCE_LOCK_TTL = Duration.ofMinutes(10);
+    // 재구축 중 커밋된 점수를 놓치지 않도록 시작 시각보다 조금 앞선 변경분부터 다시 반영한다.
+    private static final Duration REBUILD_CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final UserScoreRepository userScoreRepository;
+    private final LeaderboardRankingStore rankingStore;
+    private final MeterRegistry meterRegistry;
+    private final Timer rebuildTimer;
+
+    public record ConsistencyReport(long checked, Map<LeaderboardType, Long> mismatched,
+            Map<LeaderboardType, Long> extraMembers) {
+
+        public long totalMismatched() {
+            return mismatched.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * DB에 없는 member가 남아 있으면 순위가 부풀려지므로 보정 대신 재구축한다.
+         */
+        public boolean requiresRebuild() {
+            return extraMembers.values().stream().anyMatch(count -> count > 0);
+        }
+    }
+
+    public LeaderboardRankingMaintenanceService(
+            UserScoreRepository userScoreRepository,
+            LeaderboardRankingStore rankingStore,
+            MeterRegistry meterRegistry) {
+        this.userScoreRepository = userScoreRepository;
+        this.rankingStore = rankingStore;
+        this.meterRegistry = meterRegistry;
+        this.rebuildTimer = Timer.builder("leaderboard.ranking.rebuild.duration")
+                .description("Time to rebuild leaderboard ranking sorted sets from user_scores")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 준비되지 않았으면 재구축하고, 준비되어 있으면 정합성 점검 후 필요 시 재구축합니다.
+     * 분산 락을 얻지 못한 인스턴스는 아무것도 하지 않습니다.
+     */
+    public void runMaintenance() {
+        if (!rankingStore.isEnabled() || !rankingStore.tryAcquireMaintenanceLock(MAINTENANCE_LOCK_TTL)) {
+            return;
+        }
+        try {
+            if (!rankingStore.isReady()) {
+                rebuild();
+                return;
+            }
+            ConsistencyReport report = checkAndRepair();
+            if (report.requiresRebuild()) {
+                log.warn("Leaderboard ranking has members missing from DB. extra={}", report.extraMembers());
+                rebuild();
+            }
+        } finally {
+            rankingStore.releaseMaintenanceLock();
+        }
+    }
+
+    /**
+     * DB 전체를 스테이징 ZSET에 적재한 뒤 라이브 키와 교체합니다.
+     *
+     * @return 적재한 사용자 수
+     */
+    public long rebuild() {
+        return rebuildTimer.record(() -> {
+            LocalDateTime startedAt = LocalDateTime.now().minus(REBUILD_CATCH_UP_MARGIN);
+            rankingStore.beginRebuild();
+
+            long loaded = 0;
+            Long lastId = 0L;
+            while (true) {
+                List<UserScore> page = userScoreRepository.findByIdGreaterThanOrderByIdAsc(
+                        lastId, PageRequest.of(0, PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                rankingStore.stage(page);
+                loaded += page.size();
+                lastId = page.get(page.size() - 1).getId();
+                if (page.size() < PAGE_SIZE) {
+                    break;
+                }
+            }
+            rankingStore.publishRebuild();
+
+            List<UserScore> updatedDuringRebuild = userScoreRepository.findByUpdatedAtGreaterThanEqual(startedAt);
+            rankingStore.sync(updatedDuringRebuild);
+
+            log.info("Leaderboard ranking rebuilt. users={}, caughtUp={}", loaded, updatedDuringRebuild.size());
+            return loaded;
+        });
+    }
+
+    /**
+     * ZSET 점수를 DB와 비교해 어긋난 사용자를 보정합니다.
+     * 보정 직전에 DB를 다시 읽어 점검 중 커밋된 최신 점수를 덮어쓰지 않도록 합니다.
+     */
+    public ConsistencyReport checkAndRepair() {
+        Map<LeaderboardType, Long> mismatched = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            mismatched.put(type, 0L);
+        }
+
+        long checked = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<UserScore> page = userScoreRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            List<Long> userIds = page.stream().map(UserScore::getUserId).toList();
+            Map<LeaderboardType, List<Double>> rankedScores = rankingStore.scores(userIds);
+
+            List<Long> driftedUserIds = new ArrayList<>();
+            for (int i = 0; i < page.size(); i++) {
+                UserScore userScore = page.get(i);
+                boolean drifted = false;
+                for (LeaderboardType type : LeaderboardType.values()) {
+                    Double actual = rankedScores.get(type).get(i);
+                    if (actual == null || actual.longValue() != type.scoreOf(userScore)) {
+                        mismatched.merge(type, 1L, Long::sum);
+                        drifted = true;
+                    }
+                }
+                if (drifted) {
+                    driftedUserIds.add(userScore.getUserId());
+                }
+            }
+            if (!driftedUserIds.isEmpty()) {
+                rankingStore.sync(userScoreRepository.findByUserIdIn(driftedUserIds));
+            }
+
+            checked += page.size();
+            lastId = page.get(page.size() - 1).getId();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        Map<LeaderboardType, Long> extraMembers = new EnumMap<>(LeaderboardType.class);
+        Map<LeaderboardType, Long> sizes = rankingStore.sizes();
+        for (LeaderboardType type : LeaderboardType.values()) {
+            extraMembers.put(type, Math.max(0L, sizes.getOrDefault(type, 0L) - checked));
+            meterRegistry.counter("leaderboard.ranking.drift", "type", type.getKey())
+                    .increment(mismatched.get(type));
+        }
+
+        ConsistencyReport report = new ConsistencyReport(checked, mismatched, extraMembers);
+        if (report.totalMismatched() > 0) {
+            log.warn("Leaderboard ranking drift repaired. checked={}, mismatched={}", checked, mismatched);
+        } else {
+            log.debug("Leaderboard ranking consistent. checked={}", checked);
+        }
+        return report;
+    }
+}
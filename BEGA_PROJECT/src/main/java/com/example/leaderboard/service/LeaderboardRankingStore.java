@@ -0,0 +1,297 @@
+package com.example.leaderboard.service;
+
+import com.example.leaderboard.entity.UserScore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis ZSET 기반 리더보드 랭킹 저장소
+ *
+ * 기간별(total/season/monthly/weekly) ZSET 하나씩을 두고 member=userId, score=점수로 유지합니다.
+ * DB가 원본이며 ZSET은 파생 인덱스입니다. 재구축이 끝나 준비 키가 존재할 때만 조회에 사용하고,
+ * 그 외(비활성화, 재구축 전, Redis 오류)에는 Optional.empty()를 돌려 DB 쿼리로 대체하게 합니다.
+ */
+@Component
+@Slf4j
+public class LeaderboardRankingStore {
+
+    static final String RANKING_KEY = "leaderboard:zset:%s:v1";
+    static final String STAGING_KEY = "leaderboard:zset:%s:v1:staging";
+    static final String READY_KEY = "leaderboard:zset:ready:v1";
+    static final String MAINTENANCE_LOCK_KEY = "leaderboard:zset:maintenance-lock:v1";
+
+    private static final long READY_CHECK_INTERVAL_MILLIS = 5_000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final AtomicLong readyCheckedUntil = new AtomicLong();
+    private volatile boolean ready;
+
+    public record RankedUser(Long userId, long score) {
+    }
+
+    public LeaderboardRankingStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.leaderboard.ranking.redis-enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재구축이 한 번 이상 완료되어 ZSET을 조회에 쓸 수 있는지 확인합니다.
+     * 매 조회마다 왕복하지 않도록 결과를 5초간 재사용합니다.
+     */
+    public boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long checkedUntil = readyCheckedUntil.get();
+        if (now < checkedUntil || !readyCheckedUntil.compareAndSet(checkedUntil, now + READY_CHECK_INTERVAL_MILLIS)) {
+            return ready;
+        }
+        try {
+            ready = Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+        } catch (RuntimeException e) {
+            log.warn("Leaderboard ranking readiness check failed: {}", e.getMessage());
+            ready = false;
+        }
+        return ready;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 사용자 점수를 ZSET에 반영합니다.
+     * 커밋 시점의 엔티티 값을 읽으므로 같은 트랜잭션 안의 후속 변경도 함께 반영됩니다.
+     */
+    public void syncAfterCommit(UserScore userScore) {
+        if (!enabled || userScore == null || userScore.getUserId() == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sync(List.of(userScore));
+                }
+            });
+            return;
+        }
+        sync(List.of(userScore));
+    }
+
+    /**
+     * 점수를 라이브 ZSET에 즉시 반영합니다. 실패는 정합성 점검 작업이 보정하므로 로그만 남깁니다.
+     */
+    public void sync(Collection<UserScore> userScores) {
+        if (!enabled || userScores.isEmpty()) {
+            return;
+        }
+        try {
+            zAddAll(RANKING_KEY, userScores);
+        } catch (RuntimeException e) {
+            log.warn("Leaderboard ranking sync failed. users={}, cause={}", userScores.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 주어진 점수들의 기간별 순위를 조회합니다.
+     * 기존 DB 쿼리(COUNT(score > ?) + 1)와 같은 동점 처리를 위해 ZREVRANK 대신 ZCOUNT(score, +inf]를 씁니다.
+     */
+    public Optional<Map<LeaderboardType, Long>> ranks(Map<LeaderboardType, Long> scores) {
+        if (scores.isEmpty() || !isReady()) {
+            return Optional.empty();
+        }
+        List<LeaderboardType> types = new ArrayList<>(scores.keySet());
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings({ "rawtypes", "unchecked" })
+                public Object execute(RedisOperations operations) {
+                    for (LeaderboardType type : types) {
+                        long score = scores.get(type) != null ? scores.get(type) : 0L;
+                        operations.opsForZSet().count(rankingKey(type), score + 1, Double.POSITIVE_INFINITY);
+                    }
+                    return null;
+                }
+            });
+            Map<LeaderboardType, Long> ranks = new EnumMap<>(LeaderboardType.class);
+            for (int i = 0; i < types.size(); i++) {
+                Object result = results.get(i);
+                if (!(result instanceof Number higherCount)) {
+                    return Optional.empty();
+                }
+                ranks.put(types.get(i), higherCount.longValue() + 1);
+            }
+            return Optional.of(ranks);
+        } catch (RuntimeException e) {
+            log.warn("Leaderboard ranking rank lookup failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Long> rank(LeaderboardType type, long score) {
+        return ranks(Map.of(type, score)).map(ranks -> ranks.get(type));
+    }
+
+    /**
+     * 점수 내림차순 페이지 조회 (ZREVRANGE WITHSCORES, O(log n + size))
+     */
+    public Optional<List<RankedUser>> page(LeaderboardType type, long offset, int size) {
+        if (size <= 0 || !isReady()) {
+            return Optional.empty();
+        }
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(rankingKey(type), offset, offset + size - 1);
+            if (tuples == null) {
+                return Optional.empty();
+            }
+            List<RankedUser> rankedUsers = new ArrayList<>(tuples.size());
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() == null || tuple.getScore() == null) {
+                    continue;
+                }
+                rankedUsers.add(new RankedUser(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+            }
+            return Optional.of(rankedUsers);
+        } catch (RuntimeException e) {
+            log.warn("Leaderboard ranking page lookup failed. type={}, cause={}", type.getKey(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 주어진 사용자들의 ZSET 점수를 기간별로 조회합니다. 값이 없으면 null이 들어갑니다.
+     */
+    public Map<LeaderboardType, List<Double>> scores(List<Long> userIds) {
+        List<LeaderboardType> types = List.of(LeaderboardType.values());
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            public Object execute(RedisOperations operations) {
+                for (LeaderboardType type : types) {
+                    for (Long userId : userIds) {
+                        operations.opsForZSet().score(rankingKey(type), userId.toString());
+                    }
+                }
+                return null;
+            }
+        });
+        Map<LeaderboardType, List<Double>> scores = new EnumMap<>(LeaderboardType.class);
+        int index = 0;
+        for (LeaderboardType type : types) {
+            List<Double> typeScores = new ArrayList<>(userIds.size());
+            for (int i = 0; i < userIds.size(); i++) {
+                Object result = results.get(index++);
+                typeScores.add(result instanceof Number number ? number.doubleValue() : null);
+            }
+            scores.put(type, typeScores);
+        }
+        return scores;
+    }
+
+    public Map<LeaderboardType, Long> sizes() {
+        Map<LeaderboardType, Long> sizes = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            Long size = redisTemplate.opsForZSet().zCard(rankingKey(type));
+            sizes.put(type, size != null ? size : 0L);
+        }
+        return sizes;
+    }
+
+    // ============================================
+    // REBUILD
+    // ============================================
+
+    public void beginRebuild() {
+        redisTemplate.delete(stagingKeys());
+    }
+
+    public void stage(Collection<UserScore> userScores) {
+        if (!userScores.isEmpty()) {
+            zAddAll(STAGING_KEY, userScores);
+        }
+    }
+
+    /**
+     * 스테이징 ZSET을 RENAME으로 라이브 키와 원자적으로 교체하고 준비 키를 기록합니다.
+     */
+    public void publishRebuild() {
+        for (LeaderboardType type : LeaderboardType.values()) {
+            String stagingKey = String.format(STAGING_KEY, type.getKey());
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(stagingKey))) {
+                redisTemplate.rename(stagingKey, rankingKey(type));
+            } else {
+                redisTemplate.delete(rankingKey(type));
+            }
+        }
+        redisTemplate.opsForValue().set(READY_KEY, String.valueOf(System.currentTimeMillis()));
+        ready = true;
+        readyCheckedUntil.set(System.currentTimeMillis() + READY_CHECK_INTERVAL_MILLIS);
+    }
+
+    /**
+     * 여러 인스턴스가 동시에 재구축/점검하지 않도록 잡는 분산 락
+     */
+    public boolean tryAcquireMaintenanceLock(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(MAINTENANCE_LOCK_KEY, lockOwner, ttl));
+    }
+
+    public void releaseMaintenanceLock() {
+        if (lockOwner.equals(redisTemplate.opsForValue().get(MAINTENANCE_LOCK_KEY))) {
+            redisTemplate.delete(MAINTENANCE_LOCK_KEY);
+        }
+    }
+
+    private void zAddAll(String keyPattern, Collection<UserScore> userScores) {
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            public Object execute(RedisOperations operations) {
+                for (UserScore userScore : userScores) {
+                    String member = userScore.getUserId().toString();
+                    for (LeaderboardType type : LeaderboardType.values()) {
+                        operations.opsForZSet().add(
+                                String.format(keyPattern, type.getKey()), member, type.scoreOf(userScore));
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    private List<String> stagingKeys() {
+        List<String> keys = new ArrayList<>();
+        for (LeaderboardType type : LeaderboardType.values()) {
+            keys.add(String.format(STAGING_KEY, type.getKey()));
+        }
+        return keys;
+    }
+
+    private static String rankingKey(LeaderboardType type) {
+        return String.format(RANKING_KEY, type.getKey());
+    }
+}
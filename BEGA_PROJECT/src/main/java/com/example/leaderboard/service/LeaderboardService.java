@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +46,7 @@ public class LeaderboardService {
     private final UserRepository userRepository;
     private final PublicVisibilityVerifier publicVisibilityVerifier;
     private final ProfileImageService profileImageService;
+    private final LeaderboardRankingStore rankingStore;
 
     /**
      * 리더보드 조회
@@ -54,16 +56,15 @@ public class LeaderboardService {
      */
     public Page<LeaderboardEntryDto> getLeaderboard(String type, int page, int size, Long viewerId) {
         Pageable pageable = PageRequest.of(page, size);
+        LeaderboardType leaderboardType = LeaderboardType.from(type);
 
-        Page<UserScore> scorePage = switch (type.toLowerCase()) {
-            case "season" -> userScoreRepository.findAllBySeasonScoreDesc(pageable);
-            case "monthly" -> userScoreRepository.findAllByMonthlyScoreDesc(pageable);
-            case "weekly" -> userScoreRepository.findAllByWeeklyScoreDesc(pageable);
-            default -> userScoreRepository.findAllByTotalScoreDesc(pageable);
-        };
+        // 랭킹 ZSET이 준비되어 있으면 ZREVRANGE로 페이지를 읽고, 아니면 DB 정렬 쿼리로 대체
+        List<UserScore> pageScores = rankingStore.page(leaderboardType, pageable.getOffset(), size)
+                .map(this::loadRankedUserScores)
+                .orElseGet(() -> findLeaderboardPage(leaderboardType, pageable));
 
         // 사용자 정보 일괄 조회
-        List<Long> userIds = scorePage.getContent().stream()
+        List<Long> userIds = pageScores.stream()
                 .map(UserScore::getUserId)
                 .toList();
         Map<Long, UserEntity> userMap = getUserMap(userIds);
@@ -73,8 +74,8 @@ public class LeaderboardService {
 
         List<LeaderboardEntryDto> visibleEntries = new ArrayList<>();
         long visibleRank = startRank;
-        for (UserScore userScore : scorePage.getContent()) {
-            LeaderboardEntryDto entry = buildVisibleLeaderboardEntry(userScore, userMap, viewerId, type, visibleRank);
+        for (UserScore userScore : pageScores) {
+            LeaderboardEntryDto entry = buildVisibleLeaderboardEntry(userScore, userMap, viewerId, leaderboardType, visibleRank);
             if (entry != null) {
                 visibleEntries.add(entry);
                 visibleRank++;
@@ -86,7 +87,8 @@ public class LeaderboardService {
 
     /**
      * 현재 사용자 통계 조회
-     * 랭킹 스냅샷은 한 번의 집계 쿼리로 조회하므로 5분 캐시. 점수 변경 시 ScoringService 에서 @CacheEvict 로 무효화.
+     * 랭킹은 ZSET ZCOUNT 파이프라인(준비 전에는 한 번의 집계 쿼리)으로 조회하며 5분 캐시.
+     * 점수 변경 시 ScoringService 에서 @CacheEvict 로 무효화.
      */
     @Cacheable(value = CacheConfig.USER_STATS, key = "#userId", unless = "#result == null")
     public UserStatsDto getUserStats(Long userId) {
@@ -100,7 +102,22 @@ public class LeaderboardService {
 
         UserStatsDto stats = UserStatsDto.from(userScore, handle, nickname, profileUrl);
 
-        // 랭킹 정보 추가
+        // 랭킹 정보 추가 (ZSET 우선, 준비 전이거나 Redis 장애 시 DB 집계 쿼리)
+        Map<LeaderboardType, Long> scores = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            scores.put(type, type.scoreOf(userScore));
+        }
+        Optional<Map<LeaderboardType, Long>> rankedByIndex = rankingStore.ranks(scores);
+        if (rankedByIndex.isPresent()) {
+            Map<LeaderboardType, Long> ranks = rankedByIndex.get();
+            stats.setTotalRank(ranks.get(LeaderboardType.TOTAL));
+            stats.setSeasonRank(ranks.get(LeaderboardType.SEASON));
+            stats.setMonthlyRank(ranks.get(LeaderboardType.MONTHLY));
+            stats.setWeeklyRank(ranks.get(LeaderboardType.WEEKLY));
+            stats.setRank(stats.getSeasonRank());
+            return stats;
+        }
+
         UserScoreRepository.ScoreRankSnapshot rankSnapshot = userScoreRepository.findRanksByScores(
                 userScore.getTotalScore(),
                 userScore.getSeasonScore(),
@@ -132,7 +149,7 @@ public class LeaderboardService {
 
     /**
      * 특정 사용자 랭킹 조회 (시즌 기준)
-     * findSeasonRankByScore 는 전체 유저 대상 COUNT(*) 이므로 캐싱으로 DB 부하 감소.
+     * 시즌 ZSET에서 O(log n)으로 조회하고, 준비 전이거나 Redis 장애 시 findSeasonRankByScore(COUNT(*))로 대체.
      * 점수 변경 시 ScoringService 의 @CacheEvict 로 즉시 무효화됨.
      */
     @Cacheable(value = CacheConfig.USER_RANK, key = "#userId", unless = "#result == null")
@@ -140,7 +157,8 @@ public class LeaderboardService {
         UserScore userScore = userScoreRepository.findByUserId(userId)
                 .orElseGet(() -> UserScore.createForUser(userId));
 
-        Long rank = userScoreRepository.findSeasonRankByScore(userScore.getSeasonScore());
+        Long rank = rankingStore.rank(LeaderboardType.SEASON, LeaderboardType.SEASON.scoreOf(userScore))
+                .orElseGet(() -> userScoreRepository.findSeasonRankByScore(userScore.getSeasonScore()));
 
         return UserRankDto.builder()
                 .rank(rank != null ? rank : 0L)
@@ -161,7 +179,11 @@ public class LeaderboardService {
     @Transactional
     public UserScore getOrCreateUserScore(Long userId) {
         return userScoreRepository.findByUserId(userId)
-                .orElseGet(() -> userScoreRepository.save(UserScore.createForUser(userId)));
+                .orElseGet(() -> {
+                    UserScore created = userScoreRepository.save(UserScore.createForUser(userId));
+                    rankingStore.syncAfterCommit(created);
+                    return created;
+                });
     }
 
     /**
@@ -268,6 +290,7 @@ public class LeaderboardService {
                         .totalPredictions(random.nextInt(280) + 20)             // 20 ~ 299
                         .build();
                 userScoreRepository.save(score);
+                rankingStore.syncAfterCommit(score);
                 seededCount++;
                 log.info("Seeded test data for userId: {}", user.getId());
             }
@@ -281,6 +304,37 @@ public class LeaderboardService {
     // PRIVATE HELPER METHODS
     // ============================================
 
+    private List<UserScore> findLeaderboardPage(LeaderboardType type, Pageable pageable) {
+        Page<UserScore> scorePage = switch (type) {
+            case SEASON -> userScoreRepository.findAllBySeasonScoreDesc(pageable);
+            case MONTHLY -> userScoreRepository.findAllByMonthlyScoreDesc(pageable);
+            case WEEKLY -> userScoreRepository.findAllByWeeklyScoreDesc(pageable);
+            case TOTAL -> userScoreRepository.findAllByTotalScoreDesc(pageable);
+        };
+        return scorePage.getContent();
+    }
+
+    /**
+     * ZSET 순서를 유지한 채 UserScore를 일괄 조회합니다. (DB에서 사라진 사용자는 건너뜀)
+     */
+    private List<UserScore> loadRankedUserScores(List<LeaderboardRankingStore.RankedUser> rankedUsers) {
+        if (rankedUsers.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, UserScore> scoresByUserId = userScoreRepository.findByUserIdIn(
+                        rankedUsers.stream().map(LeaderboardRankingStore.RankedUser::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(UserScore::getUserId, Function.identity(), (left, right) -> left));
+        List<UserScore> ordered = new ArrayList<>(rankedUsers.size());
+        for (LeaderboardRankingStore.RankedUser rankedUser : rankedUsers) {
+            UserScore userScore = scoresByUserId.get(rankedUser.userId());
+            if (userScore != null) {
+                ordered.add(userScore);
+            }
+        }
+        return ordered;
+    }
+
     private Map<Long, UserEntity> getUserMap(List<Long> userIds) {
         return userRepository.findAllById(userIds).stream()
                 .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
@@ -290,7 +344,7 @@ public class LeaderboardService {
             UserScore userScore,
             Map<Long, UserEntity> userMap,
             Long viewerId,
-            String type,
+            LeaderboardType type,
             long rank) {
         UserEntity user = userMap.get(userScore.getUserId());
         if (!isVisible(user, viewerId)) {
@@ -301,12 +355,7 @@ public class LeaderboardService {
         String nickname = user.getName();
         String profileUrl = resolveProfileImageUrl(user);
 
-        Long score = switch (type.toLowerCase()) {
-            case "season" -> userScore.getSeasonScore();
-            case "monthly" -> userScore.getMonthlyScore();
-            case "weekly" -> userScore.getWeeklyScore();
-            default -> userScore.getTotalScore();
-        };
+        Long score = type.scoreOf(userScore);
 
         return LeaderboardEntryDto.fromWithScore(userScore, rank, score, handle, nickname, profileUrl);
     }
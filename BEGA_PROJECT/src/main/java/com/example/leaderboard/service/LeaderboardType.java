@@ -0,0 +1,48 @@
+package com.example.leaderboard.service;
+
+import com.example.leaderboard.entity.UserScore;
+
+import java.util.Locale;
+
+/**
+ * 리더보드 집계 기간 구분
+ * 알 수 없는 값은 기존 API와 동일하게 전체(total) 기준으로 처리합니다.
+ */
+public enum LeaderboardType {
+    TOTAL("total"),
+    SEASON("season"),
+    MONTHLY("monthly"),
+    WEEKLY("weekly");
+
+    private final String key;
+
+    LeaderboardType(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static LeaderboardType from(String type) {
+        if (type == null) {
+            return TOTAL;
+        }
+        return switch (type.toLowerCase(Locale.ROOT)) {
+            case "season" -> SEASON;
+            case "monthly" -> MONTHLY;
+            case "weekly" -> WEEKLY;
+            default -> TOTAL;
+        };
+    }
+
+    public long scoreOf(UserScore userScore) {
+        Long score = switch (this) {
+            case SEASON -> userScore.getSeasonScore();
+            case MONTHLY -> userScore.getMonthlyScore();
+            case WEEKLY -> userScore.getWeeklyScore();
+            case TOTAL -> userScore.getTotalScore();
+        };
+        return score != null ? score : 0L;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.leaderboard.service;
+
+import com.example.leaderboard.entity.ActivePowerup;
+import com.example.leaderboard.entity.ScoreEvent;
+import com.example.leaderboard.entity.UserPowerup;
+import com.example.leaderboard.entity.UserScore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예측 결과 점수 계산기
+ * 단건 처리(ScoringService)와 배치 정산(PredictionSettlementService)이 같은 규칙을 쓰도록
+ * UserScore/ActivePowerup을 메모리에서만 갱신하고, 저장할 ScoreEvent 목록을 돌려줍니다.
+ */
+final class PredictionScoreCalculator {
+
+    static final int BASE_CORRECT_SCORE = 100;
+    static final int UPSET_BONUS = 50;
+
+    private PredictionScoreCalculator() {
+    }
+
+    record Result(
+            boolean correct,
+            int baseScore,
+            double totalMultiplier,
+            int bonusScore,
+            int totalEarned,
+            int newStreak,
+            boolean newMaxStreak,
+            List<String> appliedPowerups,
+            List<ActivePowerup> usedPowerups,
+            List<ScoreEvent> events) {
+    }
+
+    static Result apply(UserScore userScore, Long predictionId, String gameId,
+            boolean isCorrect, boolean isUpset, List<ActivePowerup> activePowerups) {
+        Long userId = userScore.getUserId();
+        if (!isCorrect) {
+            // 틀린 예측: 연승 초기화
+            userScore.recordIncorrectPrediction();
+            return new Result(false, 0, 0, 0, 0, 0, false, List.of(), List.of(), List.of());
+        }
+
+        // 맞힌 예측 처리
+        userScore.recordCorrectPrediction();
+        int newStreak = userScore.getCurrentStreak() + 1;
+
+        // 기본 점수 계산
+        int baseScore = BASE_CORRECT_SCORE;
+        double streakMultiplier = (double) Math.max(1, newStreak);
+        double powerupMultiplier = 1.0;
+        int bonusScore = 0;
+        List<String> appliedPowerups = new ArrayList<>();
+        List<ActivePowerup> usedPowerups = new ArrayList<>();
+
+        // 파워업 확인 및 적용
+        for (ActivePowerup powerup : activePowerups) {
+            if (powerup.getPowerupType() == UserPowerup.PowerupType.MAGIC_BAT) {
+                powerupMultiplier *= powerup.getPowerupType().getMultiplier();
+                appliedPowerups.add(powerup.getPowerupType().getKoreanName());
+                powerup.markAsUsed();
+                usedPowerups.add(powerup);
+            }
+        }
+
+        // 최종 점수 계산
+        double totalMultiplier = streakMultiplier * powerupMultiplier;
+        int streakScore = (int) Math.round(baseScore * streakMultiplier);
+        int totalEarned = (int) Math.round(baseScore * totalMultiplier);
+
+        List<ScoreEvent> events = new ArrayList<>(3);
+
+        // 이변 보너스
+        if (isUpset) {
+            bonusScore += UPSET_BONUS;
+            totalEarned += UPSET_BONUS;
+            events.add(ScoreEvent.createUpsetBonus(userId, predictionId, gameId));
+        }
+
+        // 점수 추가 (연승 배율까지 적용)
+        userScore.addScore(baseScore, newStreak);
+
+        // 보너스 점수 별도 추가
+        if (bonusScore > 0) {
+            addFlatPoints(userScore, bonusScore);
+        }
+
+        // 파워업 보너스 점수 추가
+        if (powerupMultiplier > 1.0) {
+            addFlatPoints(userScore, (int) Math.round(streakScore * (powerupMultiplier - 1.0)));
+        }
+
+        // 최대 연승 업데이트
+        boolean isNewMaxStreak = newStreak > userScore.getMaxStreak();
+        if (isNewMaxStreak) {
+            userScore.setMaxStreak(newStreak);
+        }
+
+        events.add(ScoreEvent.createCorrectPrediction(userId, predictionId, gameId, newStreak));
+
+        // 파워업 배율 이벤트 기록 (배율이 연승 외에 추가 적용된 경우)
+        if (!appliedPowerups.isEmpty()) {
+            events.add(ScoreEvent.createPowerUpBonus(
+                    userId, predictionId, gameId,
+                    streakScore, // 연승 배율 적용된 점수
+                    powerupMultiplier, // 파워업 배율
+                    String.join(", ", appliedPowerups)));
+        }
+
+        return new Result(true, baseScore, totalMultiplier, bonusScore, totalEarned, newStreak, isNewMaxStreak,
+                appliedPowerups, usedPowerups, events);
+    }
+
+    private static void addFlatPoints(UserScore userScore, int points) {
+        userScore.setTotalScore(userScore.getTotalScore() + points);
+        userScore.setSeasonScore(userScore.getSeasonScore() + points);
+        userScore.setMonthlyScore(userScore.getMonthlyScore() + points);
+        userScore.setWeeklyScore(userScore.getWeeklyScore() + points);
+        userScore.setExperiencePoints(userScore.getExperiencePoints() + points);
+    }
+}
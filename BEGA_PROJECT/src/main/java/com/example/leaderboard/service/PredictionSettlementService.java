@@ -0,0 +1,307 @@
+package com.example.leaderboard.service;
+
+import com.example.common.config.CacheConfig;
+import com.example.leaderboard.entity.ActivePowerup;
+import com.example.leaderboard.entity.PredictionSettlement;
+import com.example.leaderboard.entity.ScoreEvent;
+import com.example.leaderboard.entity.UserScore;
+import com.example.leaderboard.repository.ActivePowerupRepository;
+import com.example.leaderboard.repository.PredictionSettlementJdbcRepository;
+import com.example.leaderboard.repository.PredictionSettlementRepository;
+import com.example.leaderboard.repository.ScoreEventRepository;
+import com.example.leaderboard.repository.UserScoreRepository;
+import com.example.prediction.Prediction;
+import com.example.prediction.PredictionRepository;
+import com.example.prediction.UserPredictionStatsJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 경기 예측 배치 정산 서비스
+ *
+ * 한 경기의 예측을 id 키셋 chunk로 읽어 chunk마다 짧은 트랜잭션 하나로 정산합니다.
+ * - 사용자 점수/파워업은 chunk 단위로 한 번에 읽고, 점수 계산은 메모리에서 수행합니다.
+ * - score_events와 정산 마커는 JDBC batch로, UserScore 변경은 Hibernate batch flush로 반영합니다.
+ * - 정산 마커(prediction_settlements)가 있는 예측은 건너뛰므로 중단된 정산을 다시 실행해도 이어서 처리됩니다.
+ * - 사용자 예측 통계(user_prediction_stats)도 같은 chunk 트랜잭션에서 증분으로 더해 마커와 함께 한 번만 반영됩니다.
+ * - 랭킹 ZSET과 사용자 랭킹 캐시는 경기 정산이 끝난 뒤 한 번에 갱신합니다.
+ */
+@Service
+@Slf4j
+public class PredictionSettlementService {
+
+    private final PredictionRepository predictionRepository;
+    private final UserScoreRepository userScoreRepository;
+    private final ActivePowerupRepository activePowerupRepository;
+    private final ScoreEventRepository scoreEventRepository;
+    private final PredictionSettlementRepository settlementRepository;
+    private final PredictionSettlementJdbcRepository settlementJdbcRepository;
+    private final UserPredictionStatsJdbcRepository userPredictionStatsJdbcRepository;
+    private final AchievementService achievementService;
+    private final LeaderboardRankingStore rankingStore;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int chunkSize;
+    private final Timer chunkTimer;
+    private final Counter settledCounter;
+    private final Counter skippedCounter;
+    private final Counter failedChunkCounter;
+    private final DistributionSummary throughputSummary;
+
+    public record SettlementReport(String gameId, int settled, int skipped, int failedChunks, Duration elapsed) {
+
+        public double predictionsPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? settled / seconds : 0.0;
+        }
+    }
+
+    private record ChunkResult(int settled, int skipped, List<UserScore> touchedScores) {
+    }
+
+    public PredictionSettlementService(
+            PredictionRepository predictionRepository,
+            UserScoreRepository userScoreRepository,
+            ActivePowerupRepository activePowerupRepository,
+            ScoreEventRepository scoreEventRepository,
+            PredictionSettlementRepository settlementRepository,
+            PredictionSettlementJdbcRepository settlementJdbcRepository,
+            UserPredictionStatsJdbcRepository userPredictionStatsJdbcRepository,
+            AchievementService achievementService,
+            LeaderboardRankingStore rankingStore,
+            CacheManager cacheManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.leaderboard.settlement.chunk-size:500}") int chunkSize,
+            @Value("${app.leaderboard.settlement.chunk-transaction-timeout:30s}") Duration chunkTransactionTimeout) {
+        this.predictionRepository = predictionRepository;
+        this.userScoreRepository = userScoreRepository;
+        this.activePowerupRepository = activePowerupRepository;
+        this.scoreEventRepository = scoreEventRepository;
+        this.settlementRepository = settlementRepository;
+        this.settlementJdbcRepository = settlementJdbcRepository;
+        this.userPredictionStatsJdbcRepository = userPredictionStatsJdbcRepository;
+        this.achievementService = achievementService;
+        this.rankingStore = rankingStore;
+        this.cacheManager = cacheManager;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkTransactionTemplate.setTimeout((int) Math.max(1L, chunkTransactionTimeout.toSeconds()));
+        this.chunkTimer = Timer.builder("leaderboard.settlement.chunk.duration")
+                .description("Duration of one prediction settlement chunk (load, score, batch write)")
+                .register(meterRegistry);
+        this.settledCounter = Counter.builder("leaderboard.settlement.predictions")
+                .tag("outcome", "settled")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("leaderboard.settlement.predictions")
+                .tag("outcome", "skipped")
+                .register(meterRegistry);
+        this.failedChunkCounter = Counter.builder("leaderboard.settlement.chunks")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.throughputSummary = DistributionSummary.builder("leaderboard.settlement.throughput")
+                .description("Predictions settled per second for one game")
+                .baseUnit("predictions/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료된 경기 하나의 예측을 정산합니다.
+     * 한 chunk가 실패하면 해당 chunk만 롤백되고 다음 chunk는 계속 진행하며, 다음 실행 때 다시 시도됩니다.
+     *
+     * @param gameId   게임 ID
+     * @param gameDate 경기 날짜 (null이면 사용자 예측 통계는 갱신하지 않음)
+     * @param winner   승리 팀 ("home", "away", "draw")
+     * @param isUpset  이변 여부
+     * @return 정산 결과
+     */
+    public SettlementReport settleGame(String gameId, LocalDate gameDate, String winner, boolean isUpset) {
+        long startedAt = System.nanoTime();
+        Map<Long, UserScore> touchedScores = new LinkedHashMap<>();
+        int settled = 0;
+        int skipped = 0;
+        int failedChunks = 0;
+
+        try {
+            Long lastId = 0L;
+            while (true) {
+                List<Prediction> chunk = predictionRepository.findByGameIdAndIdGreaterThanOrderByIdAsc(
+                        gameId, lastId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                try {
+                    ChunkResult result = chunkTimer.record(() -> chunkTransactionTemplate.execute(
+                            status -> settleChunk(gameId, gameDate, winner, isUpset, chunk)));
+                    if (result != null) {
+                        settled += result.settled();
+                        skipped += result.skipped();
+                        result.touchedScores().forEach(score -> touchedScores.put(score.getUserId(), score));
+                    }
+                } catch (Exception e) {
+                    failedChunks++;
+                    failedChunkCounter.increment();
+                    log.error("Failed to settle prediction chunk game={} size={} firstPredictionId={}: {}",
+                            gameId, chunk.size(), chunk.get(0).getId(), e.getMessage());
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+        } finally {
+            refreshRankings(touchedScores);
+        }
+
+        settledCounter.increment(settled);
+        skippedCounter.increment(skipped);
+        SettlementReport report = new SettlementReport(
+                gameId, settled, skipped, failedChunks, Duration.ofNanos(System.nanoTime() - startedAt));
+        if (settled > 0) {
+            throughputSummary.record(report.predictionsPerSecond());
+            log.info("Settled {} predictions for game {} in {} ms ({} predictions/s, skipped={}, failedChunks={})",
+                    settled, gameId, report.elapsed().toMillis(),
+                    String.format("%.1f", report.predictionsPerSecond()), skipped, failedChunks);
+        }
+        return report;
+    }
+
+    private ChunkResult settleChunk(
+            String gameId, LocalDate gameDate, String winner, boolean isUpset, List<Prediction> chunk) {
+        List<Long> predictionIds = chunk.stream().map(Prediction::getId).toList();
+        Set<Long> alreadySettled = new HashSet<>(settlementRepository.findSettledPredictionIds(predictionIds));
+        // 마커 도입 이전에 단건 경로로 처리된 예측은 score_events로 판별한다.
+        alreadySettled.addAll(scoreEventRepository.findProcessedPredictionIdsByPredictionIdIn(predictionIds));
+
+        List<Prediction> pending = chunk.stream()
+                .filter(prediction -> !alreadySettled.contains(prediction.getId()))
+                .filter(prediction -> prediction.getUserId() != null && prediction.getVotedTeam() != null)
+                .toList();
+        int skipped = chunk.size() - pending.size();
+        if (pending.isEmpty()) {
+            return new ChunkResult(0, skipped, List.of());
+        }
+
+        Map<Long, UserScore> scoresByUserId = loadOrCreateUserScores(pending);
+        Set<Long> correctUserIds = pending.stream()
+                .filter(prediction -> prediction.getVotedTeam().equalsIgnoreCase(winner))
+                .map(Prediction::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, List<ActivePowerup>> powerupsByUserId = correctUserIds.isEmpty()
+                ? Map.of()
+                : activePowerupRepository.findActiveForGameByUserIdIn(correctUserIds, gameId).stream()
+                        .collect(Collectors.groupingBy(ActivePowerup::getUserId));
+
+        LocalDateTime settledAt = LocalDateTime.now();
+        List<ScoreEvent> events = new ArrayList<>(pending.size());
+        List<ActivePowerup> usedPowerups = new ArrayList<>();
+        List<PredictionSettlement> settlements = new ArrayList<>(pending.size());
+        List<UserPredictionStatsJdbcRepository.SettledPrediction> settledPredictions = new ArrayList<>(pending.size());
+        for (Prediction prediction : pending) {
+            Long userId = prediction.getUserId();
+            UserScore userScore = scoresByUserId.get(userId);
+            boolean isCorrect = prediction.getVotedTeam().equalsIgnoreCase(winner);
+
+            PredictionScoreCalculator.Result result = PredictionScoreCalculator.apply(
+                    userScore, prediction.getId(), gameId, isCorrect, isCorrect && isUpset,
+                    powerupsByUserId.getOrDefault(userId, List.of()));
+            events.addAll(result.events());
+            usedPowerups.addAll(result.usedPowerups());
+            settlements.add(PredictionSettlement.builder()
+                    .predictionId(prediction.getId())
+                    .userId(userId)
+                    .gameId(gameId)
+                    .outcome(result.correct()
+                            ? PredictionSettlement.Outcome.CORRECT
+                            : PredictionSettlement.Outcome.INCORRECT)
+                    .settledAt(settledAt)
+                    .build());
+            settledPredictions.add(new UserPredictionStatsJdbcRepository.SettledPrediction(
+                    userId, prediction.getCreatedAt(), result.correct()));
+
+            if (result.correct()) {
+                achievementService.checkAndAwardAchievements(userId, userScore, result.newStreak());
+            }
+        }
+
+        settlementJdbcRepository.insertSettlements(settlements);
+        settlementJdbcRepository.insertScoreEvents(events, settledAt);
+        userPredictionStatsJdbcRepository.applySettlements(gameDate, settledPredictions);
+        if (!usedPowerups.isEmpty()) {
+            activePowerupRepository.saveAll(usedPowerups);
+        }
+        List<UserScore> touchedScores = new ArrayList<>(scoresByUserId.values());
+        userScoreRepository.saveAll(touchedScores);
+
+        return new ChunkResult(pending.size(), skipped, touchedScores);
+    }
+
+    private Map<Long, UserScore> loadOrCreateUserScores(List<Prediction> predictions) {
+        Set<Long> userIds = predictions.stream()
+                .map(Prediction::getUserId)
+                .collect(Collectors.toCollection(HashSet::new));
+        Map<Long, UserScore> scoresByUserId = new LinkedHashMap<>();
+        for (UserScore userScore : userScoreRepository.findByUserIdIn(userIds)) {
+            scoresByUserId.put(userScore.getUserId(), userScore);
+        }
+
+        List<UserScore> created = userIds.stream()
+                .filter(userId -> !scoresByUserId.containsKey(userId))
+                .map(UserScore::createForUser)
+                .toList();
+        if (!created.isEmpty()) {
+            for (UserScore userScore : userScoreRepository.saveAll(created)) {
+                scoresByUserId.put(userScore.getUserId(), userScore);
+            }
+        }
+        return scoresByUserId;
+    }
+
+    /**
+     * 커밋된 chunk들의 점수를 ZSET에 한 번에 반영하고 사용자 랭킹/예측 통계 캐시를 비웁니다.
+     */
+    private void refreshRankings(Map<Long, UserScore> touchedScores) {
+        if (touchedScores.isEmpty()) {
+            return;
+        }
+        rankingStore.sync(touchedScores.values());
+
+        Cache userRankCache = cacheManager.getCache(CacheConfig.USER_RANK);
+        Cache userStatsCache = cacheManager.getCache(CacheConfig.USER_STATS);
+        Cache predictionStatsCache = cacheManager.getCache(CacheConfig.PREDICTION_USER_STATS);
+        for (Long userId : touchedScores.keySet()) {
+            if (userRankCache != null) {
+                userRankCache.evict(userId);
+            }
+            if (userStatsCache != null) {
+                userStatsCache.evict(userId);
+            }
+            if (predictionStatsCache != null) {
+                predictionStatsCache.evict(userId);
+            }
+        }
+    }
+}
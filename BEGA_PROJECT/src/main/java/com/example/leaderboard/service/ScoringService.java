@@ -14,7 +14,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -30,9 +29,8 @@ public class ScoringService {
     private final ScoreEventRepository scoreEventRepository;
     private final ActivePowerupRepository activePowerupRepository;
     private final AchievementService achievementService;
+    private final LeaderboardRankingStore rankingStore;
 
-    private static final int BASE_CORRECT_SCORE = 100;
-    private static final int UPSET_BONUS = 50;
     private static final int PERFECT_DAY_BONUS = 200;
     private static final int SEAT_VIEW_FIRST_POINTS = 100;
     private static final int SEAT_VIEW_POINTS = 50;
@@ -70,98 +68,38 @@ public class ScoringService {
         }
 
         int previousLevel = userScore.getUserLevel();
+        List<ActivePowerup> activePowerups = isCorrect
+                ? activePowerupRepository.findActiveForGame(userId, gameId)
+                : List.of();
+        PredictionScoreCalculator.Result scoring = PredictionScoreCalculator.apply(
+                userScore, predictionId, gameId, isCorrect, isUpset, activePowerups);
 
-        if (!isCorrect) {
+        if (!scoring.correct()) {
             // 틀린 예측
-            userScore.recordIncorrectPrediction();
             userScoreRepository.save(userScore);
+            rankingStore.syncAfterCommit(userScore);
 
             log.info("User {} prediction incorrect. Streak reset.", userId);
             return ScoreResultDto.incorrect(userId, 0);
         }
 
-        // 맞힌 예측 처리
-        userScore.recordCorrectPrediction();
-        int newStreak = userScore.getCurrentStreak() + 1;
-
-        // 기본 점수 계산
-        int baseScore = BASE_CORRECT_SCORE;
-        double streakMultiplier = (double) Math.max(1, newStreak);
-        double powerupMultiplier = 1.0;
-        int bonusScore = 0;
-        List<String> appliedPowerups = new ArrayList<>();
-
-        // 파워업 확인 및 적용
-        List<ActivePowerup> activePowerups = activePowerupRepository.findActiveForGame(userId, gameId);
-        for (ActivePowerup powerup : activePowerups) {
-            if (powerup.getPowerupType() == UserPowerup.PowerupType.MAGIC_BAT) {
-                powerupMultiplier *= powerup.getPowerupType().getMultiplier();
-                appliedPowerups.add(powerup.getPowerupType().getKoreanName());
-                powerup.markAsUsed();
-                activePowerupRepository.save(powerup);
-                log.info("User {} used MAGIC_BAT powerup for game {}", userId, gameId);
-            }
-        }
-
-        // 최종 점수 계산
-        double totalMultiplier = streakMultiplier * powerupMultiplier;
-        int streakScore = (int) Math.round(baseScore * streakMultiplier);
-        int totalEarned = (int) Math.round(baseScore * totalMultiplier);
-
-        // 이변 보너스
-        if (isUpset) {
-            bonusScore += UPSET_BONUS;
-            totalEarned += UPSET_BONUS;
-
-            // 이변 보너스 이벤트 기록
-            ScoreEvent upsetEvent = ScoreEvent.createUpsetBonus(userId, predictionId, gameId);
-            scoreEventRepository.save(upsetEvent);
-        }
-
-        // 점수 추가 (연승 배율까지 적용)
-        userScore.addScore(baseScore, newStreak);
-
-        // 보너스 점수 별도 추가
-        if (bonusScore > 0) {
-            userScore.setTotalScore(userScore.getTotalScore() + bonusScore);
-            userScore.setSeasonScore(userScore.getSeasonScore() + bonusScore);
-            userScore.setMonthlyScore(userScore.getMonthlyScore() + bonusScore);
-            userScore.setWeeklyScore(userScore.getWeeklyScore() + bonusScore);
-            userScore.setExperiencePoints(userScore.getExperiencePoints() + bonusScore);
-        }
-
-        // 파워업 보너스 점수 추가
-        if (powerupMultiplier > 1.0) {
-            int powerupBonus = (int) Math.round(streakScore * (powerupMultiplier - 1.0));
-            userScore.setTotalScore(userScore.getTotalScore() + powerupBonus);
-            userScore.setSeasonScore(userScore.getSeasonScore() + powerupBonus);
-            userScore.setMonthlyScore(userScore.getMonthlyScore() + powerupBonus);
-            userScore.setWeeklyScore(userScore.getWeeklyScore() + powerupBonus);
-            userScore.setExperiencePoints(userScore.getExperiencePoints() + powerupBonus);
-        }
-
-        // 최대 연승 업데이트
-        boolean isNewMaxStreak = newStreak > userScore.getMaxStreak();
-        if (isNewMaxStreak) {
-            userScore.setMaxStreak(newStreak);
+        for (ActivePowerup powerup : scoring.usedPowerups()) {
+            activePowerupRepository.save(powerup);
+            log.info("User {} used MAGIC_BAT powerup for game {}", userId, gameId);
         }
 
         userScoreRepository.save(userScore);
+        rankingStore.syncAfterCommit(userScore);
 
-        // 점수 이벤트 기록
-        ScoreEvent scoreEvent = ScoreEvent.createCorrectPrediction(userId, predictionId, gameId, newStreak);
-        scoreEventRepository.save(scoreEvent);
-
-        // 파워업 배율 이벤트 기록 (배율이 연승 외에 추가 적용된 경우)
-        if (!appliedPowerups.isEmpty()) {
-            ScoreEvent powerupEvent = ScoreEvent.createPowerUpBonus(
-                    userId, predictionId, gameId,
-                    streakScore, // 연승 배율 적용된 점수
-                    powerupMultiplier, // 파워업 배율
-                    String.join(", ", appliedPowerups));
-            scoreEventRepository.save(powerupEvent);
+        // 점수 이벤트 기록 (이변 보너스 / 정답 / 파워업 배율)
+        for (ScoreEvent event : scoring.events()) {
+            scoreEventRepository.save(event);
         }
 
+        int newStreak = scoring.newStreak();
+        boolean isNewMaxStreak = scoring.newMaxStreak();
+        int totalEarned = scoring.totalEarned();
+
         // 업적 확인
         List<Achievement> unlockedAchievements = achievementService.checkAndAwardAchievements(userId, userScore,
                 newStreak);
@@ -175,9 +113,9 @@ public class ScoringService {
         return ScoreResultDto.builder()
                 .userId(userId)
                 .correct(true)
-                .baseScore(baseScore)
-                .multiplier(totalMultiplier)
-                .bonusScore(bonusScore)
+                .baseScore(scoring.baseScore())
+                .multiplier(scoring.totalMultiplier())
+                .bonusScore(scoring.bonusScore())
                 .totalEarned(totalEarned)
                 .newTotalScore(userScore.getTotalScore())
                 .newLevel(userScore.getUserLevel())
@@ -185,7 +123,7 @@ public class ScoringService {
                 .experiencePoints(userScore.getExperiencePoints())
                 .currentStreak(newStreak)
                 .isNewMaxStreak(isNewMaxStreak)
-                .appliedPowerups(appliedPowerups)
+                .appliedPowerups(scoring.appliedPowerups())
                 .unlockedAchievements(unlockedAchievements.stream()
                         .map(a -> com.example.leaderboard.dto.AchievementDto.from(a, true, LocalDateTime.now()))
                         .toList())
@@ -215,6 +153,7 @@ public class ScoringService {
         userScore.setExperiencePoints(userScore.getExperiencePoints() + PERFECT_DAY_BONUS);
 
         userScoreRepository.save(userScore);
+        rankingStore.syncAfterCommit(userScore);
 
         // 퍼펙트 데이 이벤트 기록
         ScoreEvent event = ScoreEvent.createPerfectDay(userId, gamesWon);
@@ -264,6 +203,7 @@ public class ScoringService {
         userScore.setWeeklyScore(userScore.getWeeklyScore() + points);
         userScore.setExperiencePoints(userScore.getExperiencePoints() + points);
         userScoreRepository.save(userScore);
+        rankingStore.syncAfterCommit(userScore);
 
         // 이벤트 기록
         ScoreEvent event = ScoreEvent.createSeatViewContribution(userId, diaryId, stadium, points, isFirst);
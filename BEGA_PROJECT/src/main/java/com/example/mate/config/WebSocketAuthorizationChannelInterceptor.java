@@ -32,6 +32,8 @@ public class WebSocketAuthorizationChannelInterceptor implements ChannelIntercep
     private static final String BATTLE_GAME_ID_PATTERN = "[A-Za-z0-9_-]{1,64}";
     private static final Pattern BATTLE_TOPIC_PATTERN = Pattern.compile(
             "^/topic/battle/" + BATTLE_GAME_ID_PATTERN + "$");
+    private static final Pattern LIVE_GAME_TOPIC_PATTERN = Pattern.compile(
+            "^/topic/live(-relay)?/" + BATTLE_GAME_ID_PATTERN + "$");
     private static final Pattern BATTLE_SEND_PATTERN = Pattern.compile(
             "^/app/battle/vote/" + BATTLE_GAME_ID_PATTERN + "$");
     private static final String USER_NOTIFICATION_DESTINATION = "/user/queue/notifications";
@@ -89,6 +91,11 @@ public class WebSocketAuthorizationChannelInterceptor implements ChannelIntercep
             return;
         }
 
+        if (LIVE_GAME_TOPIC_PATTERN.matcher(destination).matches()) {
+            requireAuthenticated(principal, "문자중계 구독에는 로그인이 필요합니다.");
+            return;
+        }
+
         if (destination.startsWith(LEGACY_NOTIFICATION_TOPIC_PREFIX)) {
             throw new AccessDeniedException("실시간 알림 구독 경로가 변경되었습니다.");
         }
@@ -1,9 +1,13 @@
 package com.example.mate.repository;
 
 import com.example.mate.entity.ChatMessage;
+import com.example.mate.entity.Party;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +35,38 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             java.time.Instant createdAt,
             Long senderId);
 
+    // unread 카운터 보정용: 여러 사용자가 호스트인 파티의 본인 발신 제외 unread 수를 한 번에 센다 (0인 파티는 빠진다)
+    @Query("""
+            select p.hostId as userId, p.id as partyId, count(m.id) as unreadCount
+            from Party p
+            join ChatMessage m on m.partyId = p.id
+            where p.hostId in :userIds
+              and p.status in :statuses
+              and m.createdAt > coalesce(p.hostLastReadChatAt, p.createdAt)
+              and m.senderId <> p.hostId
+            group by p.hostId, p.id
+            """)
+    List<ChatUnreadCountProjection> countHostUnreadByUserIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("statuses") Collection<Party.PartyStatus> statuses);
+
+    // unread 카운터 보정용: 여러 사용자가 승인된 참여자인 파티의 본인 발신 제외 unread 수를 한 번에 센다
+    @Query("""
+            select pa.applicantId as userId, pa.partyId as partyId, count(m.id) as unreadCount
+            from PartyApplication pa
+            join Party p on p.id = pa.partyId
+            join ChatMessage m on m.partyId = pa.partyId
+            where pa.applicantId in :userIds
+              and pa.isApproved = true
+              and p.status in :statuses
+              and m.createdAt > coalesce(pa.lastReadChatAt, pa.createdAt)
+              and m.senderId <> pa.applicantId
+            group by pa.applicantId, pa.partyId
+            """)
+    List<ChatUnreadCountProjection> countApplicantUnreadByUserIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("statuses") Collection<Party.PartyStatus> statuses);
+
     Optional<ChatMessage> findByPartyIdAndSenderIdAndClientMessageId(
             Long partyId,
             Long senderId,
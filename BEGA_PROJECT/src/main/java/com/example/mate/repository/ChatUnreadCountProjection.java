@@ -0,0 +1,10 @@
+package com.example.mate.repository;
+
+public interface ChatUnreadCountProjection {
+
+    Long getUserId();
+
+    Long getPartyId();
+
+    Long getUnreadCount();
+}
@@ -0,0 +1,100 @@
+package com.example.mate.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메이트 검색어 일별 집계 JDBC 배치 저장소.
+ * 노드에 모아 둔 검색 횟수를 UPDATE batch 한 번으로 더하고, 아직 행이 없는 검색어만 INSERT batch로 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MateSearchTermJdbcRepository {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE mate_search_terms_daily
+               SET display_term = ?,
+                   search_count = search_count + ?,
+                   last_searched_at = CASE WHEN last_searched_at < ? THEN ? ELSE last_searched_at END,
+                   updated_at = ?
+             WHERE search_date = ?
+               AND normalized_term = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO mate_search_terms_daily
+                (search_date, normalized_term, display_term, search_count, last_searched_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 한 노드에서 모은 날짜/검색어별 검색 횟수 */
+    public record DailyTermDelta(
+            LocalDate searchDate,
+            String normalizedTerm,
+            String displayTerm,
+            long count,
+            Instant lastSearchedAt) {
+    }
+
+    /**
+     * @return 행이 없어 더하지 못한 델타 (INSERT 대상)
+     */
+    public List<DailyTermDelta> incrementDailyTerms(List<DailyTermDelta> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        for (DailyTermDelta delta : deltas) {
+            Timestamp lastSearchedAt = Timestamp.from(delta.lastSearchedAt());
+            batchArgs.add(new Object[] {
+                    delta.displayTerm(),
+                    delta.count(),
+                    lastSearchedAt,
+                    lastSearchedAt,
+                    now,
+                    Date.valueOf(delta.searchDate()),
+                    delta.normalizedTerm()
+            });
+        }
+        int[] results = jdbcTemplate.batchUpdate(INCREMENT_SQL, batchArgs);
+        List<DailyTermDelta> missing = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            // 일부 드라이버는 batch 결과로 SUCCESS_NO_INFO(-2)를 돌려주므로 0일 때만 행이 없다고 본다.
+            if (results[i] == 0) {
+                missing.add(deltas.get(i));
+            }
+        }
+        return missing;
+    }
+
+    public void insertDailyTerms(List<DailyTermDelta> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        for (DailyTermDelta delta : deltas) {
+            batchArgs.add(new Object[] {
+                    Date.valueOf(delta.searchDate()),
+                    delta.normalizedTerm(),
+                    delta.displayTerm(),
+                    delta.count(),
+                    Timestamp.from(delta.lastSearchedAt()),
+                    now,
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -110,6 +110,10 @@ public interface PartyApplicationRepository extends JpaRepository<PartyApplicati
     List<PartyApplication> findApprovedByApplicantIdAndPartyStatusIn(@Param("applicantId") Long applicantId,
             @Param("statuses") List<Party.PartyStatus> statuses);
 
+    // 파티 채팅 unread 카운터 증가 대상 (승인된 참여자 ID만 조회)
+    @Query("SELECT pa.applicantId FROM PartyApplication pa WHERE pa.partyId = :partyId AND pa.isApproved = true")
+    List<Long> findApprovedApplicantIdsByPartyId(@Param("partyId") Long partyId);
+
     // 파티별 승인된 신청 수
     long countByPartyIdAndIsApprovedTrue(Long partyId);
 
@@ -0,0 +1,42 @@
+package com.example.mate.scheduler;
+
+import com.example.mate.service.ChatUnreadCounterReconciler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티 채팅 unread 카운터 보정 스케줄러.
+ * Redis unread 카운터를 주기적으로 파티별 COUNT와 비교해 누락된 증감이나 참여 상태 변경으로 어긋난 값을 바로잡는다.
+ */
+@Slf4j
+@Component
+public class ChatUnreadCounterReconcileScheduler {
+
+    private final ChatUnreadCounterReconciler reconciler;
+    private final boolean enabled;
+
+    public ChatUnreadCounterReconcileScheduler(
+            ChatUnreadCounterReconciler reconciler,
+            @Value("${app.mate.chat-unread.reconcile.enabled:true}") boolean enabled) {
+        this.reconciler = reconciler;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.mate.chat-unread.reconcile.fixed-delay-ms:300000}",
+            initialDelayString = "${app.mate.chat-unread.reconcile.initial-delay-ms:120000}")
+    public void reconcileUnreadCounters() {
+        if (!enabled) {
+            log.debug("Skipping chat unread counter reconcile because app.mate.chat-unread.reconcile.enabled=false");
+            return;
+        }
+
+        try {
+            reconciler.runReconcile();
+        } catch (Exception e) {
+            log.error("Error reconciling chat unread counters: {}", e.getMessage(), e);
+        }
+    }
+}
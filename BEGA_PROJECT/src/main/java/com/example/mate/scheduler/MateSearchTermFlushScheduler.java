@@ -0,0 +1,34 @@
+package com.example.mate.scheduler;
+
+import com.example.mate.service.MateSearchTermAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메이트 검색어 집계 반영 스케줄러.
+ * 노드에 모아 둔 검색 횟수를 짧은 주기로 DB 일별 집계에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MateSearchTermFlushScheduler {
+
+    private final MateSearchTermAggregator aggregator;
+
+    @Scheduled(
+            fixedDelayString = "${app.mate.search-terms.aggregator.flush-fixed-delay-ms:5000}",
+            initialDelayString = "${app.mate.search-terms.aggregator.flush-initial-delay-ms:5000}")
+    public void flushSearchTerms() {
+        if (!aggregator.isEnabled()) {
+            return;
+        }
+
+        try {
+            aggregator.flush();
+        } catch (Exception e) {
+            log.error("Error flushing mate search terms: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.example.mate.repository.PartyRepository;
 import com.example.mate.service.PartyLifecycleMutationService;
 import com.example.mate.service.PaymentTransactionService;
 import com.example.notification.entity.Notification;
+import com.example.notification.service.NotificationFanoutService;
 import com.example.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +42,7 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
     private final PartyRepository partyRepository;
     private final PartyApplicationRepository applicationRepository;
     private final NotificationService notificationService;
+    private final NotificationFanoutService notificationFanoutService;
     private final JobScheduler jobScheduler;
     private final PaymentTransactionService paymentTransactionService;
     private final PartyLifecycleMutationService lifecycleMutationService;
@@ -339,26 +342,17 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
         allTargetParties.addAll(checkedInParties);
         Map<Long, List<PartyApplication>> applicantsByParty = loadApprovedApplicantsByParty(allTargetParties);
 
-        int notificationCount = 0;
-
-        // MATCHED 파티 알림
-        for (Party party : matchedParties) {
-            sendGameReminder(party,
-                    applicantsByParty.getOrDefault(party.getId(), Collections.emptyList()),
-                    "내일 경기 알림", "내일 경기가 있습니다! 준비해주세요.", Notification.NotificationType.GAME_TOMORROW_REMINDER);
-            notificationCount++;
-        }
-
-        // CHECKED_IN 파티 알림
-        for (Party party : checkedInParties) {
-            sendGameReminder(party,
+        // MATCHED, CHECKED_IN 파티 알림을 모아 한 번에 fan-out
+        List<NotificationFanoutService.NotificationDraft> reminders = new ArrayList<>();
+        for (Party party : allTargetParties) {
+            addGameReminders(reminders, party,
                     applicantsByParty.getOrDefault(party.getId(), Collections.emptyList()),
-                    "내일 경기 알림", "내일 경기가 있습니다! 준비해주세요.", Notification.NotificationType.GAME_TOMORROW_REMINDER);
-            notificationCount++;
+                    "내일 경기 알림", "내일 경기가 있습니다! 준비해주세요.");
         }
+        notificationFanoutService.fanOut(Notification.NotificationType.GAME_TOMORROW_REMINDER, reminders);
 
-        if (notificationCount > 0) {
-            log.info("Sent {} game tomorrow reminders", notificationCount);
+        if (!allTargetParties.isEmpty()) {
+            log.info("Sent {} game tomorrow reminders ({} notifications)", allTargetParties.size(), reminders.size());
         }
     }
 
@@ -382,52 +376,33 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
         allTargetParties.addAll(checkedInParties);
         Map<Long, List<PartyApplication>> applicantsByParty = loadApprovedApplicantsByParty(allTargetParties);
 
-        int notificationCount = 0;
-
-        // MATCHED 파티 알림
-        for (Party party : matchedParties) {
-            sendGameReminder(party,
+        // MATCHED, CHECKED_IN 파티 알림을 모아 한 번에 fan-out
+        List<NotificationFanoutService.NotificationDraft> reminders = new ArrayList<>();
+        for (Party party : allTargetParties) {
+            addGameReminders(reminders, party,
                     applicantsByParty.getOrDefault(party.getId(), Collections.emptyList()),
-                    "오늘 경기 알림", "오늘 경기가 있습니다! 즐거운 관람 되세요!", Notification.NotificationType.GAME_DAY_REMINDER);
-            notificationCount++;
+                    "오늘 경기 알림", "오늘 경기가 있습니다! 즐거운 관람 되세요!");
         }
+        notificationFanoutService.fanOut(Notification.NotificationType.GAME_DAY_REMINDER, reminders);
 
-        // CHECKED_IN 파티 알림
-        for (Party party : checkedInParties) {
-            sendGameReminder(party,
-                    applicantsByParty.getOrDefault(party.getId(), Collections.emptyList()),
-                    "오늘 경기 알림", "오늘 경기가 있습니다! 즐거운 관람 되세요!", Notification.NotificationType.GAME_DAY_REMINDER);
-            notificationCount++;
-        }
-
-        if (notificationCount > 0) {
-            log.info("Sent {} game day reminders", notificationCount);
+        if (!allTargetParties.isEmpty()) {
+            log.info("Sent {} game day reminders ({} notifications)", allTargetParties.size(), reminders.size());
         }
     }
 
     /**
-     * 파티의 호스트와 승인된 참여자들에게 알림 전송
+     * 파티의 호스트와 승인된 참여자들에게 보낼 알림을 추가
      */
-    private void sendGameReminder(Party party, List<PartyApplication> approvedApplicants,
-                                  String title, String message, Notification.NotificationType type) {
+    private void addGameReminders(List<NotificationFanoutService.NotificationDraft> reminders, Party party,
+                                  List<PartyApplication> approvedApplicants, String title, String message) {
         // 호스트에게 알림
-        notificationService.createNotification(
-                party.getHostId(),
-                type,
-                title,
-                message,
-                party.getId()
-        );
+        reminders.add(new NotificationFanoutService.NotificationDraft(
+                party.getHostId(), title, message, party.getId()));
 
         // 승인된 참여자들에게 알림
         for (PartyApplication app : approvedApplicants) {
-            notificationService.createNotification(
-                    app.getApplicantId(),
-                    type,
-                    title,
-                    message,
-                    party.getId()
-            );
+            reminders.add(new NotificationFanoutService.NotificationDraft(
+                    app.getApplicantId(), title, message, party.getId()));
         }
     }
 
@@ -457,7 +432,7 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
         List<PartyApplication> approachingDeadline = applicationRepository
                 .findByIsApprovedFalseAndIsRejectedFalseAndResponseDeadlineBetween(now, in24Hours);
 
-        int nudgeCount = 0;
+        List<NotificationFanoutService.NotificationDraft> nudges = new ArrayList<>();
 
         for (PartyApplication application : approachingDeadline) {
             try {
@@ -466,23 +441,22 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
 
                 long hoursLeft = (application.getResponseDeadline().toEpochMilli() - now.toEpochMilli()) / (1000 * 60 * 60);
 
-                notificationService.createNotification(
+                nudges.add(new NotificationFanoutService.NotificationDraft(
                         party.getHostId(),
-                        Notification.NotificationType.HOST_RESPONSE_NUDGE,
                         "신청 응답을 기다리고 있어요",
                         application.getApplicantName() + "님의 신청이 대기 중입니다. " +
                                 hoursLeft + "시간 후 자동 거절됩니다.",
                         party.getId()
-                );
-                nudgeCount++;
+                ));
             } catch (Exception e) {
-                log.error("호스트 넛지 알림 발송 실패: applicationId={}, error={}",
+                log.error("호스트 넛지 알림 준비 실패: applicationId={}, error={}",
                         application.getId(), e.getMessage());
             }
         }
+        notificationFanoutService.fanOut(Notification.NotificationType.HOST_RESPONSE_NUDGE, nudges);
 
-        if (nudgeCount > 0) {
-            log.info("Sent {} host response nudge notifications", nudgeCount);
+        if (!nudges.isEmpty()) {
+            log.info("Sent {} host response nudge notifications", nudges.size());
         }
     }
 }
@@ -6,12 +6,20 @@ import com.example.mate.entity.Party;
 import com.example.common.exception.AuthenticationRequiredException;
 import com.example.common.realtime.RealtimeOutboxWriter;
 import com.example.mate.repository.ChatMessageRepository;
+import com.example.mate.repository.ChatUnreadCountProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.security.Principal;
 import java.util.stream.Collectors;
 import com.example.auth.service.UserService;
@@ -30,6 +38,11 @@ public class ChatMessageService {
 
     private static final int DEFAULT_HISTORY_LIMIT = 50;
     private static final int MAX_HISTORY_LIMIT = 100;
+    private static final List<PartyStatus> CHAT_ACTIVE_STATUSES = List.of(
+            PartyStatus.PENDING,
+            PartyStatus.MATCHED,
+            PartyStatus.SELLING,
+            PartyStatus.CHECKED_IN);
 
     private final ChatMessageRepository chatMessageRepository;
     private final UserService userService;
@@ -39,6 +52,7 @@ public class ChatMessageService {
     private final ChatImageService chatImageService;
     private final MediaLinkService mediaLinkService;
     private final RealtimeOutboxWriter realtimeOutboxWriter;
+    private final ChatUnreadCounterStore unreadCounterStore;
 
     // 메시지 전송
     @Transactional
@@ -50,7 +64,7 @@ public class ChatMessageService {
     public ChatMessageDTO.Response sendMessage(ChatMessageDTO.Request request, Long userId) {
         requireUserId(userId);
 
-        requireAccessibleParty(request.getPartyId(), userId);
+        Party party = requireAccessibleParty(request.getPartyId(), userId);
 
         MateContentPolicyValidator.validateChatMessage(request.getMessage(), request.getImageUrl());
 
@@ -86,6 +100,7 @@ public class ChatMessageService {
         mediaLinkService.syncChatLink(savedMessage.getId(), userId, savedMessage.getImageUrl());
         ChatMessageDTO.Response response = toResponseWithResolvedImage(savedMessage);
         realtimeOutboxWriter.broadcast("/topic/party/" + response.getPartyId(), response);
+        incrementUnreadAfterCommit(party, userId);
         return response;
     }
 
@@ -168,6 +183,7 @@ public class ChatMessageService {
 
         if (party.getHostId().equals(userId)) {
             party.setHostLastReadChatAt(java.time.Instant.now());
+            resetUnreadAfterCommit(userId, partyId);
             return;
         }
 
@@ -177,6 +193,7 @@ public class ChatMessageService {
             throw new PartyNotFoundException(partyId);
         }
         app.setLastReadChatAt(java.time.Instant.now());
+        resetUnreadAfterCommit(userId, partyId);
     }
 
     // 전체 안 읽은 메시지 개수 조회
@@ -185,40 +202,119 @@ public class ChatMessageService {
         return getTotalUnreadCount(resolveNullableUserId(principal));
     }
 
+    /**
+     * unread 카운터가 초기화되어 있으면 HGET 한 번으로 응답하고,
+     * 없으면 파티별 COUNT로 계산한 값으로 카운터를 초기화합니다.
+     */
     @Transactional(readOnly = true)
     public long getTotalUnreadCount(Long userId) {
         if (userId == null) {
             return 0;
         }
 
-        List<PartyStatus> activeStatuses = List.of(
-                PartyStatus.PENDING,
-                PartyStatus.MATCHED,
-                PartyStatus.SELLING,
-                PartyStatus.CHECKED_IN);
-        List<com.example.mate.entity.Party> hostedParties = partyRepository.findByHostIdAndStatusIn(userId, activeStatuses);
+        Optional<Long> counted = unreadCounterStore.readTotal(userId);
+        if (counted.isPresent()) {
+            return counted.get();
+        }
+
+        ChatUnreadCounterStore.UnreadCounts counts = countUnreadByParty(userId);
+        unreadCounterStore.seed(userId, counts);
+        return counts.total();
+    }
+
+    /**
+     * 활동 중인 파티별 안 읽은 메시지 수를 DB에서 계산합니다 (unread 카운터의 원본).
+     */
+    @Transactional(readOnly = true)
+    public ChatUnreadCounterStore.UnreadCounts countUnreadByParty(Long userId) {
+        List<com.example.mate.entity.Party> hostedParties =
+                partyRepository.findByHostIdAndStatusIn(userId, CHAT_ACTIVE_STATUSES);
         List<com.example.mate.entity.PartyApplication> applications = applicationRepository
-                .findApprovedByApplicantIdAndPartyStatusIn(userId, activeStatuses);
+                .findApprovedByApplicantIdAndPartyStatusIn(userId, CHAT_ACTIVE_STATUSES);
 
-        long totalUnread = 0;
+        Map<Long, Long> unreadByParty = new HashMap<>();
 
         for (com.example.mate.entity.Party party : hostedParties) {
             Instant lastRead = resolveUnreadCountStart(party.getHostLastReadChatAt(), party.getCreatedAt());
-            totalUnread += chatMessageRepository.countByPartyIdAndCreatedAtAfterAndSenderIdNot(
+            unreadByParty.merge(party.getId(), chatMessageRepository.countByPartyIdAndCreatedAtAfterAndSenderIdNot(
                     party.getId(),
                     lastRead,
-                    userId);
+                    userId), Long::sum);
         }
 
         for (com.example.mate.entity.PartyApplication app : applications) {
             Instant lastRead = resolveUnreadCountStart(app.getLastReadChatAt(), app.getCreatedAt());
-            totalUnread += chatMessageRepository.countByPartyIdAndCreatedAtAfterAndSenderIdNot(
+            unreadByParty.merge(app.getPartyId(), chatMessageRepository.countByPartyIdAndCreatedAtAfterAndSenderIdNot(
                     app.getPartyId(),
                     lastRead,
-                    userId);
+                    userId), Long::sum);
+        }
+
+        return ChatUnreadCounterStore.UnreadCounts.of(unreadByParty);
+    }
+
+    /**
+     * 여러 사용자의 파티별 안 읽은 메시지 수를 집계 쿼리 두 번으로 계산합니다 (unread 카운터 보정용).
+     * countUnreadByParty와 같은 기준이며, 안 읽은 메시지가 없는 사용자도 빈 값으로 돌려줍니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ChatUnreadCounterStore.UnreadCounts> countUnreadByPartyForUsers(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Map<Long, Long>> unreadByUser = new HashMap<>();
+        for (Long userId : userIds) {
+            unreadByUser.put(userId, new HashMap<>());
+        }
+        List<ChatUnreadCountProjection> rows = new ArrayList<>(
+                chatMessageRepository.countHostUnreadByUserIds(userIds, CHAT_ACTIVE_STATUSES));
+        rows.addAll(chatMessageRepository.countApplicantUnreadByUserIds(userIds, CHAT_ACTIVE_STATUSES));
+        for (ChatUnreadCountProjection row : rows) {
+            Map<Long, Long> byParty = unreadByUser.get(row.getUserId());
+            if (byParty != null) {
+                byParty.merge(row.getPartyId(), row.getUnreadCount(), Long::sum);
+            }
         }
 
-        return totalUnread;
+        Map<Long, ChatUnreadCounterStore.UnreadCounts> counts = new HashMap<>();
+        unreadByUser.forEach((userId, byParty) -> counts.put(userId, ChatUnreadCounterStore.UnreadCounts.of(byParty)));
+        return counts;
+    }
+
+    // 커밋된 메시지만 수신자(호스트 + 승인된 참여자, 발신자 제외)의 unread 카운터에 더한다.
+    private void incrementUnreadAfterCommit(Party party, Long senderId) {
+        if (!unreadCounterStore.isEnabled()) {
+            return;
+        }
+        List<Long> recipientIds = new ArrayList<>();
+        recipientIds.add(party.getHostId());
+        recipientIds.addAll(applicationRepository.findApprovedApplicantIdsByPartyId(party.getId()));
+        recipientIds.removeIf(recipientId -> recipientId == null || recipientId.equals(senderId));
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+        Long partyId = party.getId();
+        afterCommit(() -> unreadCounterStore.incrementForRecipients(partyId, recipientIds));
+    }
+
+    private void resetUnreadAfterCommit(Long userId, Long partyId) {
+        if (!unreadCounterStore.isEnabled()) {
+            return;
+        }
+        afterCommit(() -> unreadCounterStore.reset(userId, partyId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
     }
 
     private Instant resolveUnreadCountStart(Instant lastReadAt, Instant createdAt) {
@@ -0,0 +1,131 @@
+package com.example.mate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 파티 채팅 unread 카운터 정합성 보정
+ *
+ * 카운터가 초기화된 사용자를 묶음 단위로 파티별 unread 수를 집계 쿼리로 한 번에 세고 Redis 해시와 비교해 어긋난 값을 덮어씁니다.
+ * 시딩 중 커밋된 메시지, 승인/종료 등 참여 상태 변경, Redis 장애로 생긴 차이를 바로잡습니다.
+ * TTL로 사라진 카운터는 추적 대상에서 제거합니다. 한 사용자(또는 한 묶음)의 실패는 로그만 남기고 나머지를 계속 보정합니다.
+ */
+@Service
+@Slf4j
+public class ChatUnreadCounterReconciler {
+
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+    // 집계 쿼리의 IN 목록 크기 (Oracle 상한 1000 안쪽)
+    private static final int USER_BATCH_SIZE = 500;
+
+    private final ChatMessageService chatMessageService;
+    private final ChatUnreadCounterStore unreadCounterStore;
+    private final Counter driftCounter;
+
+    public record ReconcileReport(int checked, int repaired, int removed, int failed) {
+    }
+
+    public ChatUnreadCounterReconciler(
+            ChatMessageService chatMessageService,
+            ChatUnreadCounterStore unreadCounterStore,
+            MeterRegistry meterRegistry) {
+        this.chatMessageService = chatMessageService;
+        this.unreadCounterStore = unreadCounterStore;
+        this.driftCounter = Counter.builder("mate.chat_unread.drift")
+                .description("Unread counters overwritten because they differed from the chat message counts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 분산 락을 얻은 인스턴스만 보정합니다.
+     */
+    public Optional<ReconcileReport> runReconcile() {
+        if (!unreadCounterStore.isEnabled()) {
+            return Optional.empty();
+        }
+        if (!unreadCounterStore.tryAcquireReconcileLock(RECONCILE_LOCK_TTL)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(reconcile());
+        } finally {
+            unreadCounterStore.releaseReconcileLock();
+        }
+    }
+
+    public ReconcileReport reconcile() {
+        int checked = 0;
+        int repaired = 0;
+        int removed = 0;
+        int failed = 0;
+        List<Long> userIds = new ArrayList<>(unreadCounterStore.trackedUserIds());
+        for (int from = 0; from < userIds.size(); from += USER_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + USER_BATCH_SIZE, userIds.size()));
+
+            Map<Long, ChatUnreadCounterStore.UnreadCounts> snapshots = new HashMap<>();
+            for (Long userId : batch) {
+                try {
+                    Optional<ChatUnreadCounterStore.UnreadCounts> current = unreadCounterStore.readRemote(userId);
+                    if (current.isEmpty()) {
+                        unreadCounterStore.untrack(userId);
+                        removed++;
+                    } else {
+                        snapshots.put(userId, current.get());
+                    }
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn("Chat unread counter reconcile failed. userId={}, cause={}", userId, e.getMessage());
+                }
+            }
+            if (snapshots.isEmpty()) {
+                continue;
+            }
+
+            Map<Long, ChatUnreadCounterStore.UnreadCounts> expectedByUser;
+            try {
+                expectedByUser = chatMessageService.countUnreadByPartyForUsers(snapshots.keySet());
+            } catch (RuntimeException e) {
+                failed += snapshots.size();
+                log.warn("Chat unread counter reconcile batch failed. users={}, cause={}",
+                        snapshots.size(), e.getMessage());
+                continue;
+            }
+
+            for (Map.Entry<Long, ChatUnreadCounterStore.UnreadCounts> snapshot : snapshots.entrySet()) {
+                Long userId = snapshot.getKey();
+                try {
+                    checked++;
+                    ChatUnreadCounterStore.UnreadCounts expected = expectedByUser.getOrDefault(
+                            userId, ChatUnreadCounterStore.UnreadCounts.of(Map.of()));
+                    // 비교 중 메시지나 읽음 처리가 반영되었다면 COUNT와 시점이 달라 오탐이 나므로 다음 주기로 미룬다.
+                    if (!Optional.of(snapshot.getValue()).equals(unreadCounterStore.readRemote(userId))) {
+                        continue;
+                    }
+                    if (!snapshot.getValue().equals(expected)) {
+                        log.warn("Chat unread counter drift repaired. userId={}, counter={}, db={}",
+                                userId, snapshot.getValue(), expected);
+                        unreadCounterStore.overwrite(userId, expected);
+                        driftCounter.increment();
+                        repaired++;
+                    }
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn("Chat unread counter reconcile failed. userId={}, cause={}", userId, e.getMessage());
+                }
+            }
+        }
+
+        ReconcileReport report = new ReconcileReport(checked, repaired, removed, failed);
+        log.debug("Chat unread counter reconcile finished. {}", report);
+        return report;
+    }
+}
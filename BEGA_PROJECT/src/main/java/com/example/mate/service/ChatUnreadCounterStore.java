@@ -0,0 +1,325 @@
+package com.example.mate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 파티 채팅 unread 카운터 저장소
+ *
+ * 사용자별 Redis 해시(파티 ID → 안 읽은 수, total → 합계)를 유지해 전체 unread 배지 조회를 HGET 한 번으로 응답합니다.
+ * DB(chat_messages + 읽음 시각)가 원본이며 이 카운터는 파생 값입니다.
+ * - 증가는 메시지 커밋 이후에만, 그리고 DB COUNT로 초기화(seed)된 해시에만 반영합니다.
+ * - 초기화 전이거나 Redis 오류 시 Optional.empty()를 돌려 기존 파티별 COUNT 경로로 대체하게 합니다.
+ * - 어긋난 값은 ChatUnreadCounterReconciler가 주기적으로 DB COUNT와 비교해 보정합니다.
+ */
+@Component
+@Slf4j
+public class ChatUnreadCounterStore {
+
+    static final String COUNTER_KEY = "mate:chat:unread:%d:v1";
+    static final String TRACKED_USERS_KEY = "mate:chat:unread:users:v1";
+    static final String RECONCILE_LOCK_KEY = "mate:chat:unread:reconcile-lock:v1";
+    static final String TOTAL_FIELD = "total";
+
+    private static final Duration COUNTER_TTL = Duration.ofDays(7);
+
+    // 초기화되지 않은 해시에 HINCRBY하면 일부 파티만 있는 해시가 생겨 합계가 틀리므로 EXISTS 확인 후 반영한다.
+    private static final RedisScript<Long> INCREMENT_IF_SEEDED_SCRIPT = new DefaultRedisScript<>(
+            "local applied = 0 "
+                    + "for i = 1, #KEYS do "
+                    + "if redis.call('EXISTS', KEYS[i]) == 1 then "
+                    + "redis.call('HINCRBY', KEYS[i], ARGV[1], 1) "
+                    + "redis.call('HINCRBY', KEYS[i], 'total', 1) "
+                    + "applied = applied + 1 end end "
+                    + "return applied",
+            Long.class);
+
+    // 파티 필드를 지우고 그만큼 합계에서 빼는 작업을 한 번에 처리해 동시 증가와 섞이지 않게 한다.
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "local unread = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') "
+                    + "if unread ~= 0 then "
+                    + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+                    + "if redis.call('HINCRBY', KEYS[1], 'total', -unread) < 0 then "
+                    + "redis.call('HSET', KEYS[1], 'total', 0) end end "
+                    + "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "local seeded = 0 "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then "
+                    + "redis.call('HSET', KEYS[1], unpack(ARGV, 3)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "seeded = 1 end "
+                    + "redis.call('SADD', KEYS[2], ARGV[2]) "
+                    + "return seeded",
+            Long.class);
+
+    private static final RedisScript<Long> OVERWRITE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    private static final ChatUnreadCounterStore DISABLED = new ChatUnreadCounterStore();
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final Counter counterReads;
+    private final Counter missedReads;
+
+    /**
+     * 사용자 한 명의 unread 카운터 (0보다 큰 파티별 값과 합계)
+     */
+    public record UnreadCounts(Map<Long, Long> byParty, long total) {
+
+        public UnreadCounts {
+            byParty = Map.copyOf(byParty);
+        }
+
+        public static UnreadCounts of(Map<Long, Long> counts) {
+            Map<Long, Long> nonZero = new HashMap<>();
+            long total = 0L;
+            for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+                long unread = entry.getValue() == null ? 0L : entry.getValue();
+                if (entry.getKey() != null && unread > 0L) {
+                    nonZero.merge(entry.getKey(), unread, Long::sum);
+                    total += unread;
+                }
+            }
+            return new UnreadCounts(nonZero, total);
+        }
+    }
+
+    @Autowired
+    public ChatUnreadCounterStore(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.mate.chat-unread.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.counterReads = readCounter(meterRegistry, "counter");
+        this.missedReads = readCounter(meterRegistry, "miss");
+    }
+
+    private ChatUnreadCounterStore() {
+        this.redisTemplate = null;
+        this.enabled = false;
+        this.counterReads = null;
+        this.missedReads = null;
+    }
+
+    public static ChatUnreadCounterStore disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 전체 unread 수를 읽습니다. 초기화 전이거나 Redis 오류 시 empty.
+     */
+    public Optional<Long> readTotal(Long userId) {
+        if (!enabled || userId == null) {
+            return Optional.empty();
+        }
+        try {
+            Object total = redisTemplate.opsForHash().get(counterKey(userId), TOTAL_FIELD);
+            if (total == null) {
+                missedReads.increment();
+                return Optional.empty();
+            }
+            counterReads.increment();
+            return Optional.of(Math.max(0L, Long.parseLong(total.toString())));
+        } catch (RuntimeException e) {
+            missedReads.increment();
+            log.warn("Chat unread counter read failed. userId={}, cause={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 보정용으로 해시 전체를 읽습니다. 합계 필드가 없으면 초기화되지 않은 것으로 봅니다.
+     */
+    public Optional<UnreadCounts> readRemote(Long userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(counterKey(userId));
+        if (entries == null || !entries.containsKey(TOTAL_FIELD)) {
+            return Optional.empty();
+        }
+        Map<Long, Long> byParty = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = entry.getKey().toString();
+            if (!TOTAL_FIELD.equals(field)) {
+                byParty.put(Long.valueOf(field), Long.parseLong(entry.getValue().toString()));
+            }
+        }
+        UnreadCounts counts = UnreadCounts.of(byParty);
+        return Optional.of(new UnreadCounts(counts.byParty(),
+                Long.parseLong(entries.get(TOTAL_FIELD).toString())));
+    }
+
+    /**
+     * DB COUNT 결과로 해시를 초기화합니다. 이미 초기화된 해시는 덮어쓰지 않습니다.
+     */
+    public void seed(Long userId, UnreadCounts counts) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(COUNTER_TTL.toSeconds()));
+            args.add(String.valueOf(userId));
+            appendFields(args, counts);
+            redisTemplate.execute(SEED_SCRIPT, List.of(counterKey(userId), TRACKED_USERS_KEY), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Chat unread counter seed failed. userId={}, cause={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋된 메시지를 수신자들의 카운터에 반영합니다. 커밋 이후(afterCommit)에서만 호출해야 합니다.
+     *
+     * @return 카운터가 초기화되어 있어 증가가 반영된 수신자 수
+     */
+    public long incrementForRecipients(Long partyId, Collection<Long> recipientIds) {
+        if (!enabled || partyId == null || recipientIds == null || recipientIds.isEmpty()) {
+            return 0L;
+        }
+        List<String> keys = new ArrayList<>(recipientIds.size());
+        for (Long recipientId : new LinkedHashSet<>(recipientIds)) {
+            if (recipientId != null) {
+                keys.add(counterKey(recipientId));
+            }
+        }
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        try {
+            Long applied = redisTemplate.execute(INCREMENT_IF_SEEDED_SCRIPT, keys, String.valueOf(partyId));
+            return applied == null ? 0L : applied;
+        } catch (RuntimeException e) {
+            log.warn("Chat unread counter increment failed. partyId={}, recipients={}, cause={}",
+                    partyId, keys.size(), e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 읽음 처리된 파티의 unread 수를 0으로 되돌립니다. 커밋 이후(afterCommit)에서만 호출해야 합니다.
+     */
+    public void reset(Long userId, Long partyId) {
+        if (!enabled || userId == null || partyId == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RESET_SCRIPT, List.of(counterKey(userId)), String.valueOf(partyId));
+        } catch (RuntimeException e) {
+            // 줄이지 못한 값이 남으면 배지가 과대 표시되므로 해시를 지워 다음 조회에서 DB로 다시 초기화한다.
+            log.warn("Chat unread counter reset failed. userId={}, partyId={}, cause={}",
+                    userId, partyId, e.getMessage());
+            remove(userId);
+        }
+    }
+
+    /**
+     * DB COUNT로 보정한 값을 덮어씁니다.
+     */
+    public void overwrite(Long userId, UnreadCounts counts) {
+        if (!enabled) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(COUNTER_TTL.toSeconds()));
+        appendFields(args, counts);
+        redisTemplate.execute(OVERWRITE_SCRIPT, List.of(counterKey(userId)), args.toArray());
+    }
+
+    public void remove(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(counterKey(userId));
+        } catch (RuntimeException e) {
+            log.warn("Chat unread counter removal failed. userId={}, cause={}", userId, e.getMessage());
+        }
+    }
+
+    public void untrack(Long userId) {
+        redisTemplate.opsForSet().remove(TRACKED_USERS_KEY, String.valueOf(userId));
+    }
+
+    public Set<Long> trackedUserIds() {
+        if (!enabled) {
+            return Set.of();
+        }
+        Set<String> members = redisTemplate.opsForSet().members(TRACKED_USERS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        Set<Long> userIds = new HashSet<>(members.size());
+        for (String member : members) {
+            try {
+                userIds.add(Long.valueOf(member));
+            } catch (NumberFormatException ignored) {
+                redisTemplate.opsForSet().remove(TRACKED_USERS_KEY, member);
+            }
+        }
+        return userIds;
+    }
+
+    public boolean tryAcquireReconcileLock(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, lockOwner, ttl));
+    }
+
+    public void releaseReconcileLock() {
+        if (lockOwner.equals(redisTemplate.opsForValue().get(RECONCILE_LOCK_KEY))) {
+            redisTemplate.delete(RECONCILE_LOCK_KEY);
+        }
+    }
+
+    private static void appendFields(List<String> args, UnreadCounts counts) {
+        args.add(TOTAL_FIELD);
+        args.add(String.valueOf(counts.total()));
+        for (Map.Entry<Long, Long> entry : counts.byParty().entrySet()) {
+            args.add(String.valueOf(entry.getKey()));
+            args.add(String.valueOf(entry.getValue()));
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("mate.chat_unread.reads")
+                .description("Total unread badge reads served by the unread counter")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static String counterKey(Long userId) {
+        return String.format(COUNTER_KEY, userId);
+    }
+}
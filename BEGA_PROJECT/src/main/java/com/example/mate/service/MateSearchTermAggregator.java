@@ -0,0 +1,284 @@
+package com.example.mate.service;
+
+import com.example.common.config.CacheConfig;
+import com.example.mate.repository.MateSearchTermJdbcRepository;
+import com.example.mate.repository.MateSearchTermJdbcRepository.DailyTermDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메이트 검색어 노드 로컬 집계기
+ *
+ * 검색마다 DB 행을 UPDATE하는 대신 (검색일, 정규화 검색어)별 횟수를 메모리에 모아 두고,
+ * 짧은 주기로 UPDATE batch + INSERT batch 한 번씩으로 반영합니다.
+ * - 항목 추가/증가는 ConcurrentHashMap.compute 안에서, 반영 전 꺼내기는 remove로 처리해 꺼낸 뒤 들어온 검색은 다음 주기로 넘어갑니다.
+ * - 보관 검색어 수가 상한에 닿으면 새 검색어는 받지 않고(offer=false) 호출 측이 DB에 바로 기록합니다.
+ * - 반영에 실패하면 꺼낸 횟수를 다시 합쳐 다음 주기에 재시도합니다. 한 검색어만 거듭 실패하면 정해진 횟수 뒤에 버립니다.
+ * - 반영에 성공하면 인기 검색어 캐시를 한 번 비워, 로컬 집계에서 빠진 횟수가 캐시 만료 전에도 DB 집계로 잡히게 합니다.
+ */
+@Component
+@Slf4j
+public class MateSearchTermAggregator {
+
+    private final MateSearchTermJdbcRepository jdbcRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate flushTransactionTemplate;
+    private final boolean enabled;
+    private final int maxPendingTerms;
+    private final int maxTermAttempts;
+    private final ConcurrentHashMap<TermKey, PendingTerm> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<TermKey, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private final Counter bufferedCounter;
+    private final Counter overflowCounter;
+    private final Counter flushedRowsCounter;
+    private final Counter flushFailureCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private record TermKey(LocalDate searchDate, String normalizedTerm) {
+    }
+
+    private static final class PendingTerm {
+        private volatile long count;
+        private volatile String displayTerm;
+        private volatile Instant lastSearchedAt;
+
+        private void add(long delta, String display, Instant searchedAt) {
+            count += delta;
+            if (lastSearchedAt == null || !searchedAt.isBefore(lastSearchedAt)) {
+                displayTerm = display;
+                lastSearchedAt = searchedAt;
+            }
+        }
+    }
+
+    /** 아직 DB에 반영되지 않은 검색어 집계 (정규화 검색어 기준) */
+    public record PendingTermView(String displayTerm, long count, Instant lastSearchedAt) {
+    }
+
+    public MateSearchTermAggregator(
+            MateSearchTermJdbcRepository jdbcRepository,
+            CacheManager cacheManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.mate.search-terms.aggregator.enabled:true}") boolean enabled,
+            @Value("${app.mate.search-terms.aggregator.max-pending-terms:5000}") int maxPendingTerms,
+            @Value("${app.mate.search-terms.aggregator.max-term-attempts:3}") int maxTermAttempts) {
+        this.jdbcRepository = jdbcRepository;
+        this.cacheManager = cacheManager;
+        this.flushTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.maxPendingTerms = Math.max(1, maxPendingTerms);
+        this.maxTermAttempts = Math.max(1, maxTermAttempts);
+        this.bufferedCounter = Counter.builder("mate.search_terms.recorded")
+                .tag("path", "buffered")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("mate.search_terms.recorded")
+                .tag("path", "overflow")
+                .register(meterRegistry);
+        this.flushedRowsCounter = Counter.builder("mate.search_terms.flush.rows")
+                .description("Daily search term rows upserted by the aggregator flush")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("mate.search_terms.flush.failures")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("mate.search_terms.dropped")
+                .description("Search counts dropped after a failed flush (pending buffer full or term kept failing)")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("mate.search_terms.flush.duration")
+                .register(meterRegistry);
+        Gauge.builder("mate.search_terms.pending", pending, Map::size)
+                .description("Search terms waiting for the next aggregator flush")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 검색 한 건을 집계에 더합니다.
+     *
+     * @return 집계에 넣지 못했으면 false (비활성화 또는 보관 상한 초과)
+     */
+    public boolean offer(LocalDate searchDate, String normalizedTerm, String displayTerm, Instant searchedAt) {
+        if (!enabled) {
+            return false;
+        }
+        TermKey key = new TermKey(searchDate, normalizedTerm);
+        if (!pending.containsKey(key) && pending.size() >= maxPendingTerms) {
+            overflowCounter.increment();
+            return false;
+        }
+        pending.compute(key, (ignored, term) -> {
+            PendingTerm target = term == null ? new PendingTerm() : term;
+            target.add(1L, displayTerm, searchedAt);
+            return target;
+        });
+        bufferedCounter.increment();
+        return true;
+    }
+
+    /**
+     * fromDate 이후 날짜의 미반영 검색 횟수를 정규화 검색어별로 합쳐 돌려줍니다.
+     */
+    public Map<String, PendingTermView> pendingTerms(LocalDate fromDate) {
+        Map<String, PendingTermView> views = new HashMap<>();
+        pending.forEach((key, term) -> {
+            if (key.searchDate().isBefore(fromDate)) {
+                return;
+            }
+            PendingTermView view = new PendingTermView(term.displayTerm, term.count, term.lastSearchedAt);
+            views.merge(key.normalizedTerm(), view, MateSearchTermAggregator::mergeViews);
+        });
+        return views;
+    }
+
+    /**
+     * 모아 둔 검색 횟수를 DB에 반영합니다.
+     * UPDATE batch와 INSERT batch는 한 트랜잭션으로 묶어, 실패하면 꺼낸 횟수 전체를 다시 합쳐도 중복 반영되지 않습니다.
+     *
+     * @return 반영한 (검색일, 검색어) 행 수
+     */
+    public int flush() {
+        List<DailyTermDelta> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            flushTransactionTemplate.executeWithoutResult(status ->
+                    jdbcRepository.insertDailyTerms(jdbcRepository.incrementDailyTerms(drained)));
+            flushedRowsCounter.increment(drained.size());
+            onFlushed(drained);
+            return drained.size();
+        } catch (DataIntegrityViolationException race) {
+            // 다른 노드가 같은 검색어 행을 먼저 만들었다. 트랜잭션이 롤백되었으므로 한 건씩 다시 반영한다.
+            log.debug("Mate search term batch insert raced; retrying {} terms one by one", drained.size());
+            return upsertOneByOne(drained);
+        } catch (Exception e) {
+            // 배치 전체 실패는 DB 장애처럼 일시적인 경우가 대부분이라 검색어별 실패 횟수에 넣지 않는다.
+            flushFailureCounter.increment();
+            restore(drained, false);
+            log.warn("Failed to flush {} mate search terms; will retry next cycle: {}", drained.size(), e.getMessage());
+            return 0;
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    private List<DailyTermDelta> drain() {
+        List<DailyTermDelta> drained = new ArrayList<>(pending.size());
+        for (TermKey key : pending.keySet()) {
+            PendingTerm term = pending.remove(key);
+            if (term != null && term.count > 0) {
+                drained.add(new DailyTermDelta(
+                        key.searchDate(), key.normalizedTerm(), term.displayTerm, term.count, term.lastSearchedAt));
+            }
+        }
+        return drained;
+    }
+
+    private int upsertOneByOne(List<DailyTermDelta> deltas) {
+        List<DailyTermDelta> written = new ArrayList<>(deltas.size());
+        List<DailyTermDelta> failed = new ArrayList<>();
+        for (DailyTermDelta delta : deltas) {
+            try {
+                upsertOne(delta);
+                written.add(delta);
+            } catch (Exception e) {
+                failed.add(delta);
+            }
+        }
+        flushedRowsCounter.increment(written.size());
+        if (!written.isEmpty()) {
+            onFlushed(written);
+        }
+        if (!failed.isEmpty()) {
+            flushFailureCounter.increment();
+            restore(failed, true);
+            log.warn("Failed to flush {} mate search terms; will retry next cycle", failed.size());
+        }
+        return written.size();
+    }
+
+    private void upsertOne(DailyTermDelta delta) {
+        if (jdbcRepository.incrementDailyTerms(List.of(delta)).isEmpty()) {
+            return;
+        }
+        try {
+            jdbcRepository.insertDailyTerms(List.of(delta));
+        } catch (DataIntegrityViolationException race) {
+            jdbcRepository.incrementDailyTerms(List.of(delta));
+        }
+    }
+
+    private void onFlushed(List<DailyTermDelta> written) {
+        for (DailyTermDelta delta : written) {
+            failedAttempts.remove(new TermKey(delta.searchDate(), delta.normalizedTerm()));
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 꺼낸 횟수를 다시 합칩니다. countAttempt가 true면 검색어별 실패로 세고, 상한에 닿은 검색어는 버립니다.
+     */
+    private void restore(List<DailyTermDelta> deltas, boolean countAttempt) {
+        for (DailyTermDelta delta : deltas) {
+            TermKey key = new TermKey(delta.searchDate(), delta.normalizedTerm());
+            if (countAttempt && failedAttempts.merge(key, 1, Integer::sum) >= maxTermAttempts) {
+                failedAttempts.remove(key);
+                droppedCounter.increment(delta.count());
+                log.warn("Dropping mate search term after {} failed flushes date={} term={} count={}",
+                        maxTermAttempts, delta.searchDate(), delta.normalizedTerm(), delta.count());
+                continue;
+            }
+            if (!pending.containsKey(key) && pending.size() >= maxPendingTerms) {
+                failedAttempts.remove(key);
+                droppedCounter.increment(delta.count());
+                continue;
+            }
+            pending.compute(key, (ignored, term) -> {
+                PendingTerm target = term == null ? new PendingTerm() : term;
+                target.add(delta.count(), delta.displayTerm(), delta.lastSearchedAt());
+                return target;
+            });
+        }
+    }
+
+    private static PendingTermView mergeViews(PendingTermView left, PendingTermView right) {
+        PendingTermView latest = right.lastSearchedAt().isAfter(left.lastSearchedAt()) ? right : left;
+        return new PendingTermView(latest.displayTerm(), left.count() + right.count(), latest.lastSearchedAt());
+    }
+}
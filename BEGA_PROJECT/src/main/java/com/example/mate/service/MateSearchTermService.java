@@ -10,14 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -26,6 +25,11 @@ import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
+/**
+ * 메이트 검색어 기록/인기 검색어 조회.
+ * 검색 기록은 MateSearchTermAggregator에 모았다가 주기적으로 일괄 반영하고, 집계기가 받지 못한 검색만 DB에 바로 기록한다.
+ * 인기 검색어는 DB 집계(30초 캐시)에 아직 반영되지 않은 노드 로컬 집계를 합쳐 돌려주므로 검색마다 캐시를 비우지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -38,11 +42,15 @@ public class MateSearchTermService {
     private static final int POPULAR_WINDOW_DAYS = 7;
     private static final Pattern CONTROL_CHARS = Pattern.compile("\\p{Cntrl}+");
     private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Comparator<PopularTerm> POPULAR_ORDER = Comparator
+            .comparingLong(PopularTerm::searchCount).reversed()
+            .thenComparing(PopularTerm::lastSearchedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(PopularTerm::normalizedTerm);
 
     private final MateSearchTermRepository mateSearchTermRepository;
     private final CacheManager cacheManager;
+    private final MateSearchTermAggregator searchTermAggregator;
 
-    @Transactional
     public void recordSearchTerm(String rawTerm) {
         Optional<NormalizedSearchTerm> normalizedTerm = normalize(rawTerm);
         if (normalizedTerm.isEmpty()) {
@@ -52,14 +60,22 @@ public class MateSearchTermService {
         NormalizedSearchTerm term = normalizedTerm.get();
         LocalDate searchDate = LocalDate.now();
         Instant searchedAt = Instant.now();
+        if (searchTermAggregator.offer(searchDate, term.normalized(), term.display(), searchedAt)) {
+            return;
+        }
+        recordDirectly(term, searchDate, searchedAt);
+    }
+
+    /**
+     * 집계기가 꺼져 있거나 보관 상한에 닿았을 때 검색 한 건을 DB에 바로 기록한다.
+     */
+    private void recordDirectly(NormalizedSearchTerm term, LocalDate searchDate, Instant searchedAt) {
         int updatedRows = mateSearchTermRepository.incrementDailyTerm(
                 searchDate,
                 term.normalized(),
                 term.display(),
                 searchedAt);
-
         if (updatedRows > 0) {
-            evictPopularTermsCache();
             return;
         }
 
@@ -71,7 +87,6 @@ public class MateSearchTermService {
                     .searchCount(1L)
                     .lastSearchedAt(searchedAt)
                     .build());
-            evictPopularTermsCache();
         } catch (DataIntegrityViolationException race) {
             log.debug("Mate search term insert raced; retrying as increment term={}", term.normalized());
             mateSearchTermRepository.incrementDailyTerm(
@@ -79,18 +94,35 @@ public class MateSearchTermService {
                     term.normalized(),
                     term.display(),
                     searchedAt);
-            evictPopularTermsCache();
         }
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(
-            value = CacheConfig.MATE_POPULAR_SEARCH_TERMS,
-            key = "#root.target.popularTermsCacheKey(#requestedLimit)",
-            sync = true)
     public List<MateSearchTermDTO.PopularResponse> getPopularTerms(Integer requestedLimit) {
         int limit = normalizeLimit(requestedLimit);
         LocalDate startDate = LocalDate.now().minusDays(POPULAR_WINDOW_DAYS - 1L);
+        List<PopularTerm> popularTerms = mergePendingTerms(
+                loadPersistedPopularTerms(startDate, limit),
+                searchTermAggregator.pendingTerms(startDate),
+                limit);
+        return IntStream.range(0, popularTerms.size())
+                .mapToObj(index -> MateSearchTermDTO.PopularResponse.builder()
+                        .term(popularTerms.get(index).displayTerm())
+                        .count(popularTerms.get(index).searchCount())
+                        .rank(index + 1)
+                        .build())
+                .toList();
+    }
+
+    private List<PopularTerm> loadPersistedPopularTerms(LocalDate startDate, int limit) {
+        Cache cache = cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS);
+        if (cache == null) {
+            return queryPopularTerms(startDate, limit);
+        }
+        List<PopularTerm> cached = cache.get(limit, () -> queryPopularTerms(startDate, limit));
+        return cached == null ? List.of() : cached;
+    }
+
+    private List<PopularTerm> queryPopularTerms(LocalDate startDate, int limit) {
         List<MateSearchTermPopularProjection> popularTerms =
                 mateSearchTermRepository.findPopularTermSummaries(startDate, PageRequest.of(0, limit));
         if (popularTerms.isEmpty()) {
@@ -98,17 +130,49 @@ public class MateSearchTermService {
         }
 
         Map<String, String> latestDisplayTerms = latestDisplayTerms(startDate, popularTerms);
-        return IntStream.range(0, popularTerms.size())
-                .mapToObj(index -> MateSearchTermDTO.PopularResponse.builder()
-                        .term(displayTerm(popularTerms.get(index), latestDisplayTerms))
-                        .count(searchCount(popularTerms.get(index)))
-                        .rank(index + 1)
-                        .build())
+        return popularTerms.stream()
+                .map(popularTerm -> new PopularTerm(
+                        popularTerm.getNormalizedTerm(),
+                        displayTerm(popularTerm, latestDisplayTerms),
+                        searchCount(popularTerm),
+                        popularTerm.getLastSearchedAt()))
                 .toList();
     }
 
-    public int popularTermsCacheKey(Integer requestedLimit) {
-        return normalizeLimit(requestedLimit);
+    /**
+     * DB 상위 검색어에 아직 반영되지 않은 로컬 집계를 더한다.
+     * DB 상위 목록 밖의 검색어는 로컬 집계분만으로 순위를 매기므로 다음 반영/캐시 만료 전까지는 낮게 잡힐 수 있다.
+     */
+    private List<PopularTerm> mergePendingTerms(
+            List<PopularTerm> persisted,
+            Map<String, MateSearchTermAggregator.PendingTermView> pendingTerms,
+            int limit) {
+        if (pendingTerms.isEmpty()) {
+            return persisted;
+        }
+
+        Map<String, PopularTerm> merged = new LinkedHashMap<>();
+        persisted.forEach(term -> merged.put(term.normalizedTerm(), term));
+        pendingTerms.forEach((normalizedTerm, pending) -> merged.merge(
+                normalizedTerm,
+                new PopularTerm(normalizedTerm, pending.displayTerm(), pending.count(), pending.lastSearchedAt()),
+                PopularTerm::plus));
+        return merged.values().stream()
+                .sorted(POPULAR_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    private record PopularTerm(String normalizedTerm, String displayTerm, long searchCount, Instant lastSearchedAt) {
+
+        private PopularTerm plus(PopularTerm pending) {
+            boolean pendingIsLatest = lastSearchedAt == null || pending.lastSearchedAt().isAfter(lastSearchedAt);
+            return new PopularTerm(
+                    normalizedTerm,
+                    pendingIsLatest ? pending.displayTerm() : displayTerm,
+                    searchCount + pending.searchCount(),
+                    pendingIsLatest ? pending.lastSearchedAt() : lastSearchedAt);
+        }
     }
 
     private int normalizeLimit(Integer requestedLimit) {
@@ -137,13 +201,6 @@ public class MateSearchTermService {
     private record NormalizedSearchTerm(String display, String normalized) {
     }
 
-    private void evictPopularTermsCache() {
-        Cache cache = cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS);
-        if (cache != null) {
-            cache.clear();
-        }
-    }
-
     private Map<String, String> latestDisplayTerms(
             LocalDate startDate,
             List<MateSearchTermPopularProjection> popularTerms) {
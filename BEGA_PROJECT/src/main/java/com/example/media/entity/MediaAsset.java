@@ -87,6 +87,16 @@ public class MediaAsset {
     @JoinColumn(name = "derived_from_asset_id")
     private MediaAsset derivedFrom;
 
+    /**
+     * 비동기 파생본이면 원본 object key와 파생 종류를 기록한다. 원본은 media_assets 행이 아닐 수도 있다.
+     */
+    @Column(name = "source_object_key", length = 2048)
+    private String sourceObjectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant", length = 16)
+    private MediaVariant variant;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
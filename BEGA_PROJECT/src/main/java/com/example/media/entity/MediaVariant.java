@@ -0,0 +1,39 @@
+package com.example.media.entity;
+
+import java.util.Locale;
+
+/**
+ * 원본 이미지에서 비동기로 만드는 너비 기준 파생본.
+ * 원본 object key 뒤에 {@code _{suffix}}를 붙여 같은 버킷에 저장한다.
+ */
+public enum MediaVariant {
+    THUMBNAIL("thumb", 320),
+    FEED("feed", 640),
+    FULL("full", 1280);
+
+    private final String suffix;
+    private final int maxWidth;
+
+    MediaVariant(String suffix, int maxWidth) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public String buildObjectKey(String sourceObjectKey, String extension) {
+        String normalizedExtension = extension == null || extension.isBlank()
+                ? "bin"
+                : extension.replaceAll("[^a-zA-Z0-9]", "").toLowerCase(Locale.ROOT);
+        int slash = sourceObjectKey.lastIndexOf('/');
+        int dot = sourceObjectKey.lastIndexOf('.');
+        String base = dot > slash ? sourceObjectKey.substring(0, dot) : sourceObjectKey;
+        return base + "_" + suffix + "." + normalizedExtension;
+    }
+}
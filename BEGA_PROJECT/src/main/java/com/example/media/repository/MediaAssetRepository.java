@@ -3,6 +3,7 @@ package com.example.media.repository;
 import com.example.media.entity.MediaAsset;
 import com.example.media.entity.MediaAssetStatus;
 import com.example.media.entity.MediaDomain;
+import com.example.media.entity.MediaVariant;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
@@ -22,6 +23,15 @@ public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
 
     Optional<MediaAsset> findByDerivedFrom_Id(Long assetId);
 
+    List<MediaAsset> findBySourceObjectKey(String sourceObjectKey);
+
+    List<MediaAsset> findBySourceObjectKeyIn(Collection<String> sourceObjectKeys);
+
+    List<MediaAsset> findBySourceObjectKeyInAndVariantAndStatus(
+            Collection<String> sourceObjectKeys,
+            MediaVariant variant,
+            MediaAssetStatus status);
+
     List<MediaAsset> findByDomainAndStatusOrderByIdDesc(MediaDomain domain, MediaAssetStatus status, Pageable pageable);
 
     List<MediaAsset> findByDomainAndStatusAndDerivedFromIsNullOrderByIdDesc(
@@ -29,7 +39,7 @@ public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
             MediaAssetStatus status,
             Pageable pageable);
 
-    long countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNot(
+    long countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNotAndVariantIsNull(
             Long ownerUserId,
             MediaDomain domain,
             LocalDateTime createdAt,
@@ -48,6 +58,7 @@ public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
             where a.ownerUserId = :ownerUserId
               and a.createdAt >= :since
               and a.status <> :deletedStatus
+              and a.variant is null
             """)
     Long sumDailyUsageBytes(
             @Param("ownerUserId") Long ownerUserId,
@@ -59,6 +70,7 @@ public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
             from MediaAsset a
             where a.status = :status
               and a.createdAt <= :cutoff
+              and a.variant is null
               and not exists (
                   select 1
                   from MediaAssetLink l
@@ -75,6 +87,7 @@ public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
             from MediaAsset a
             where a.status = :status
               and a.createdAt <= :cutoff
+              and a.variant is null
               and not exists (
                   select 1
                   from MediaAssetLink l
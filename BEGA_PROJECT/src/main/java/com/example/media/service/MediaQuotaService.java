@@ -27,7 +27,7 @@ public class MediaQuotaService {
             throw new MediaQuotaExceededException("일일 이미지 업로드 용량 한도를 초과했습니다.");
         }
 
-        long usedCount = mediaAssetRepository.countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNot(
+        long usedCount = mediaAssetRepository.countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNotAndVariantIsNull(
                 userId,
                 domain,
                 startOfDay,
@@ -0,0 +1,242 @@
+package com.example.media.service;
+
+import com.example.cheerboard.storage.config.StorageConfig;
+import com.example.cheerboard.storage.strategy.StorageStrategy;
+import com.example.cheerboard.storage.strategy.StoredObject;
+import com.example.common.image.ImageUtil;
+import com.example.media.entity.MediaAsset;
+import com.example.media.entity.MediaAssetStatus;
+import com.example.media.entity.MediaDomain;
+import com.example.media.entity.MediaVariant;
+import com.example.media.repository.MediaAssetRepository;
+import com.example.media.support.ByteArrayMultipartFile;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 업로드된 원본에서 너비별 파생본(썸네일/피드/상세)을 만들고 media_assets에 기록한다.
+ * - 원본은 업로드 요청에서 PUT 한 번으로 저장되고, 이 서비스는 JobRunr 작업 안에서만 호출된다.
+ * - 파생본 행은 source_object_key + variant로 원본과 연결되며 링크/쿼터/orphan 정리 대상이 아니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MediaVariantService {
+
+    private final MediaAssetRepository mediaAssetRepository;
+    private final StorageStrategy storageStrategy;
+    private final StorageConfig storageConfig;
+    private final ImageUtil imageUtil;
+
+    /**
+     * 아직 없는 파생본을 병렬로 만들어 저장한다. 이미 모두 있으면 아무것도 하지 않으므로 재시도해도 안전하다.
+     *
+     * @return 새로 READY가 된 파생본이 있으면 true
+     */
+    public boolean generateVariants(MediaDomain domain, Long ownerUserId, String sourceObjectKey) {
+        List<MediaAsset> existing = mediaAssetRepository.findBySourceObjectKey(sourceObjectKey);
+        if (existing.stream().anyMatch(asset -> asset.getStatus() == MediaAssetStatus.DELETED)) {
+            log.debug("Media variants skipped: source already deleted key={}", sourceObjectKey);
+            return false;
+        }
+        Map<MediaVariant, MediaAsset> existingByVariant = new EnumMap<>(MediaVariant.class);
+        for (MediaAsset asset : existing) {
+            if (asset.getVariant() != null) {
+                existingByVariant.put(asset.getVariant(), asset);
+            }
+        }
+        List<MediaVariant> missing = new ArrayList<>();
+        for (MediaVariant variant : MediaVariant.values()) {
+            MediaAsset asset = existingByVariant.get(variant);
+            if (asset == null || asset.getStatus() != MediaAssetStatus.READY) {
+                missing.add(variant);
+            }
+        }
+        if (missing.isEmpty()) {
+            return false;
+        }
+
+        String bucket = domain.resolveBucket(storageConfig);
+        StoredObject source = storageStrategy.download(bucket, sourceObjectKey).block();
+        if (source == null || source.bytes() == null || source.bytes().length == 0) {
+            // 원본이 이미 지워졌으면 재시도해도 소용이 없다.
+            log.warn("Media variants skipped: source object missing key={}", sourceObjectKey);
+            return false;
+        }
+        if (!imageUtil.canDeriveVariants(source.contentType())) {
+            log.debug("Media variants skipped: unsupported content type key={} contentType={}",
+                    sourceObjectKey, source.contentType());
+            return false;
+        }
+
+        ByteArrayMultipartFile sourceFile = new ByteArrayMultipartFile(
+                fileName(sourceObjectKey), source.contentType(), source.bytes());
+        ImageUtil.ImageDimension sourceDimension = imageUtil.getImageDimension(source.bytes());
+        List<GeneratedVariant> generated = generateInParallel(sourceFile, bucket, sourceObjectKey, missing);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (GeneratedVariant variant : generated) {
+            MediaAsset asset = existingByVariant.get(variant.variant());
+            if (asset == null) {
+                // declared_* 는 원본 기준으로 채운다. staging key는 따로 없으므로 원본 key를 그대로 둔다.
+                asset = MediaAsset.builder()
+                        .ownerUserId(ownerUserId)
+                        .domain(domain)
+                        .status(MediaAssetStatus.PENDING)
+                        .declaredContentType(source.contentType())
+                        .declaredBytes((long) source.bytes().length)
+                        .declaredWidth(sourceDimension.width())
+                        .declaredHeight(sourceDimension.height())
+                        .stagingObjectKey(sourceObjectKey)
+                        .uploadExpiresAt(now)
+                        .sourceObjectKey(sourceObjectKey)
+                        .variant(variant.variant())
+                        .build();
+            }
+            asset.markReady(
+                    variant.objectKey(),
+                    variant.image().getContentType(),
+                    variant.image().getSize(),
+                    variant.dimension().width(),
+                    variant.dimension().height());
+            mediaAssetRepository.save(asset);
+        }
+        // 생성 중에 원본이 삭제됐다면 deleteVariants가 이 행들을 보지 못했으므로 여기서 정리한다.
+        if (!Boolean.TRUE.equals(storageStrategy.exists(bucket, sourceObjectKey).block())) {
+            deleteVariants(domain, List.of(sourceObjectKey));
+            return false;
+        }
+        log.info("Media variants generated: key={} variants={}", sourceObjectKey,
+                generated.stream().map(GeneratedVariant::variant).toList());
+        return true;
+    }
+
+    /**
+     * 원본 key별로 READY 상태인 파생본 key를 돌려준다. 파생본이 아직 없으면 결과에 포함되지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> resolveVariantKeys(Collection<String> sourceObjectKeys, MediaVariant variant) {
+        if (sourceObjectKeys == null || sourceObjectKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> variantKeys = new LinkedHashMap<>();
+        for (MediaAsset asset : mediaAssetRepository.findBySourceObjectKeyInAndVariantAndStatus(
+                sourceObjectKeys, variant, MediaAssetStatus.READY)) {
+            variantKeys.put(asset.getSourceObjectKey(), asset.getObjectKey());
+        }
+        return variantKeys;
+    }
+
+    /**
+     * 원본을 지울 때 함께 호출한다. 실패해도 원본 삭제 흐름을 막지 않도록 로그만 남긴다.
+     *
+     * @return 지운 파생본 object key 목록
+     */
+    @Transactional
+    public List<String> deleteVariants(MediaDomain domain, Collection<String> sourceObjectKeys) {
+        if (sourceObjectKeys == null || sourceObjectKeys.isEmpty()) {
+            return List.of();
+        }
+        String bucket = domain.resolveBucket(storageConfig);
+        List<String> deletedKeys = new ArrayList<>();
+        for (MediaAsset asset : mediaAssetRepository.findBySourceObjectKeyIn(sourceObjectKeys)) {
+            if (asset.getStatus() == MediaAssetStatus.DELETED) {
+                continue;
+            }
+            if (asset.getObjectKey() != null && !asset.getObjectKey().isBlank()) {
+                try {
+                    storageStrategy.delete(bucket, asset.getObjectKey()).block();
+                    deletedKeys.add(asset.getObjectKey());
+                } catch (Exception ex) {
+                    log.warn("Media variant delete skipped: key={}, cause={}", asset.getObjectKey(), ex.getMessage());
+                }
+            }
+            asset.markDeleted();
+            mediaAssetRepository.save(asset);
+        }
+        return deletedKeys;
+    }
+
+    private List<GeneratedVariant> generateInParallel(
+            ByteArrayMultipartFile sourceFile,
+            String bucket,
+            String sourceObjectKey,
+            List<MediaVariant> variants) {
+        // 디코딩 메모리는 ImageDecodeBudget이 제한하므로 파생본마다 가상 스레드 하나씩 쓴다.
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<GeneratedVariant>> futures = variants.stream()
+                    .map(variant -> CompletableFuture.supplyAsync(
+                            () -> generate(sourceFile, bucket, sourceObjectKey, variant), executor))
+                    .toList();
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException ex) {
+                futures.stream()
+                        .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                        .map(CompletableFuture::join)
+                        .forEach(variant -> deleteQuietly(bucket, variant.objectKey()));
+                throw ex.getCause() instanceof RuntimeException runtimeException ? runtimeException : ex;
+            }
+            return futures.stream().map(CompletableFuture::join).toList();
+        }
+    }
+
+    private GeneratedVariant generate(
+            ByteArrayMultipartFile sourceFile,
+            String bucket,
+            String sourceObjectKey,
+            MediaVariant variant) {
+        try {
+            ImageUtil.ProcessedImage image = imageUtil.processVariant(
+                    sourceFile, variant.getMaxWidth(), "media_variant_" + variant.getSuffix());
+            ImageUtil.ImageDimension dimension = imageUtil.getImageDimension(image.getBytes());
+            String objectKey = storageStrategy.uploadBytes(
+                    image.getBytes(),
+                    image.getContentType(),
+                    bucket,
+                    variant.buildObjectKey(sourceObjectKey, image.getExtension())).block();
+            if (objectKey == null) {
+                throw new IllegalStateException("스토리지 업로드 결과가 null입니다.");
+            }
+            return new GeneratedVariant(variant, objectKey, image, dimension);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException("이미지 파생본 생성 실패: " + sourceObjectKey + " (" + variant + ")", ex);
+        }
+    }
+
+    private void deleteQuietly(String bucket, String objectKey) {
+        try {
+            storageStrategy.delete(bucket, objectKey).block();
+        } catch (Exception ex) {
+            log.warn("Media variant delete skipped: key={}, cause={}", objectKey, ex.getMessage());
+        }
+    }
+
+    private String fileName(String objectKey) {
+        int slash = objectKey.lastIndexOf('/');
+        return slash >= 0 ? objectKey.substring(slash + 1) : objectKey;
+    }
+
+    private record GeneratedVariant(
+            MediaVariant variant,
+            String objectKey,
+            ImageUtil.ProcessedImage image,
+            ImageUtil.ImageDimension dimension) {
+    }
+}
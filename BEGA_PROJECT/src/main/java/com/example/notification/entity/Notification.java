@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = @Index(name = "idx_notifications_fanout_batch", columnList = "fanout_batch_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,6 +42,9 @@ public class Notification {
     @Column(name = "createdat", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "fanout_batch_id", length = 36, updatable = false)
+    private String fanoutBatchId; // 대량 fan-out chunk 식별자 (JDBC 배치 INSERT 후 id를 다시 읽는 용도)
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,127 @@
+package com.example.notification.repository;
+
+import com.example.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대량 알림 fan-out 전용 JDBC 배치 저장소.
+ * notifications는 IDENTITY 키라 Hibernate가 INSERT를 묶지 못하므로 한 chunk를 JDBC batch 한 번으로 보낸다.
+ * batch의 생성 키 반환은 드라이버마다 다르고(Oracle은 batch에서 키를 돌려주지 않는다) IDENTITY 컬럼에는
+ * 미리 뽑은 id를 넣을 수 없을 수 있어, chunk마다 fanout_batch_id를 붙여 INSERT한 뒤 그 값으로 chunk 행만 다시 읽어 id를 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+            INSERT INTO notifications (user_id, type, title, message, related_id, is_read, createdat, fanout_batch_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // idx_notifications_fanout_batch로 이번 chunk 행만 읽는다.
+    private static final String SELECT_INSERTED_SQL = """
+            SELECT id, user_id, type, title, message, related_id
+            FROM notifications
+            WHERE fanout_batch_id = ?
+            ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) {
+            return;
+        }
+        String batchId = UUID.randomUUID().toString();
+        for (Notification notification : notifications) {
+            notification.setFanoutBatchId(batchId);
+        }
+        jdbcTemplate.batchUpdate(
+                INSERT_NOTIFICATION_SQL,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = notifications.get(i);
+                        ps.setLong(1, notification.getUserId());
+                        ps.setString(2, notification.getType().name());
+                        ps.setString(3, notification.getTitle());
+                        ps.setString(4, notification.getMessage());
+                        if (notification.getRelatedId() != null) {
+                            ps.setLong(5, notification.getRelatedId());
+                        } else {
+                            ps.setNull(5, Types.BIGINT);
+                        }
+                        ps.setBoolean(6, Boolean.TRUE.equals(notification.getIsRead()));
+                        ps.setTimestamp(7, Timestamp.valueOf(notification.getCreatedAt()));
+                        ps.setString(8, batchId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                });
+
+        assignIds(batchId, notifications);
+    }
+
+    /**
+     * 이번 chunk 행을 다시 읽어 (사용자, 타입, 제목, 내용, 관련 ID)가 같은 알림에 id 순서대로 채운다.
+     * 한 사용자에게 같은 내용이 여러 번 들어가도 INSERT 순서와 id 순서가 같으므로 순서대로 짝지으면 된다.
+     */
+    private void assignIds(String batchId, List<Notification> notifications) {
+        Map<RowKey, Deque<Notification>> pending = new HashMap<>();
+        for (Notification notification : notifications) {
+            pending.computeIfAbsent(RowKey.of(notification), ignored -> new ArrayDeque<>()).add(notification);
+        }
+
+        jdbcTemplate.query(SELECT_INSERTED_SQL, rs -> {
+            Long relatedId = rs.getLong("related_id");
+            if (rs.wasNull()) {
+                relatedId = null;
+            }
+            RowKey key = new RowKey(
+                    rs.getLong("user_id"),
+                    rs.getString("type"),
+                    rs.getString("title"),
+                    rs.getString("message"),
+                    relatedId);
+            Deque<Notification> candidates = pending.get(key);
+            if (candidates != null && !candidates.isEmpty()) {
+                candidates.poll().setId(rs.getLong("id"));
+            }
+        }, batchId);
+
+        long missing = notifications.stream().filter(notification -> notification.getId() == null).count();
+        if (missing > 0) {
+            throw new IllegalStateException("INSERT한 알림의 id를 다시 읽지 못했습니다: missing="
+                    + missing + ", rows=" + notifications.size());
+        }
+    }
+
+    private record RowKey(long userId, String type, String title, String message, Long relatedId) {
+
+        static RowKey of(Notification notification) {
+            return new RowKey(
+                    notification.getUserId(),
+                    notification.getType().name(),
+                    notification.getTitle(),
+                    notification.getMessage(),
+                    notification.getRelatedId());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.notification.service;
+
+import com.example.common.realtime.RealtimeOutboxWriter;
+import com.example.notification.dto.NotificationDTO;
+import com.example.notification.entity.Notification;
+import com.example.notification.repository.NotificationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.scheduling.JobScheduler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 대량 알림 fan-out 서비스
+ *
+ * 수신자 목록을 받아 원본 트랜잭션이 커밋된 뒤 chunk 단위 JobRunr 작업으로 나눠 보냅니다.
+ * - chunk마다 짧은 트랜잭션 하나에서 notifications와 outbox 행을 각각 JDBC batch 한 번으로 씁니다.
+ * - 원본 트랜잭션이 롤백되면 아무것도 보내지 않고, chunk가 실패하면 해당 chunk만 롤백되어 JobRunr가 재시도합니다.
+ * - JobScheduler를 쓸 수 없으면 커밋 직후 현재 스레드에서 chunk를 처리합니다.
+ * 수신자마다 REQUIRES_NEW 트랜잭션을 여는 {@link NotificationService#createNotification}은 단건 알림에만 씁니다.
+ */
+@Service
+@Slf4j
+public class NotificationFanoutService {
+
+    static final String NOTIFICATION_QUEUE = "/queue/notifications";
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final RealtimeOutboxWriter realtimeOutboxWriter;
+    private final ObjectProvider<JobScheduler> jobSchedulerProvider;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int chunkSize;
+    private final Timer chunkTimer;
+    private final Timer lagTimer;
+    private final Counter deliveredCounter;
+    private final Counter failedChunkCounter;
+
+    /**
+     * 알림 한 건의 수신자별 내용. 모든 수신자에게 같은 내용을 보낼 때는
+     * {@link #fanOut(Notification.NotificationType, String, String, Long, Collection)}을 씁니다.
+     */
+    public record NotificationDraft(Long userId, String title, String message, Long relatedId) {
+    }
+
+    public NotificationFanoutService(
+            NotificationJdbcRepository notificationJdbcRepository,
+            RealtimeOutboxWriter realtimeOutboxWriter,
+            ObjectProvider<JobScheduler> jobSchedulerProvider,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.fanout.chunk-size:500}") int chunkSize,
+            @Value("${app.notification.fanout.chunk-transaction-timeout:30s}") Duration chunkTransactionTimeout) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.realtimeOutboxWriter = realtimeOutboxWriter;
+        this.jobSchedulerProvider = jobSchedulerProvider;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkTransactionTemplate.setTimeout((int) Math.max(1L, chunkTransactionTimeout.toSeconds()));
+        this.chunkTimer = Timer.builder("notification.fanout.chunk.duration")
+                .description("Duration of one notification fan-out chunk (notification and outbox batch inserts)")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("notification.fanout.lag")
+                .description("Time from the fan-out request until its chunk was committed")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("notification.fanout.notifications")
+                .tag("outcome", "delivered")
+                .register(meterRegistry);
+        this.failedChunkCounter = Counter.builder("notification.fanout.chunks")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 알림을 여러 사용자에게 보냅니다. 중복/null 수신자는 한 번만 보내거나 건너뜁니다.
+     */
+    public void fanOut(
+            Notification.NotificationType type,
+            String title,
+            String message,
+            Long relatedId,
+            Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        List<NotificationDraft> drafts = new ArrayList<>(userIds.size());
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            drafts.add(new NotificationDraft(userId, title, message, relatedId));
+        }
+        fanOut(type, drafts);
+    }
+
+    /**
+     * 수신자마다 내용이 다른 알림을 보냅니다. 트랜잭션 안이면 커밋 후에 작업을 등록합니다.
+     */
+    public void fanOut(Notification.NotificationType type, List<NotificationDraft> drafts) {
+        Objects.requireNonNull(type, "type");
+        if (drafts == null || drafts.isEmpty()) {
+            return;
+        }
+        List<NotificationDraft> valid = drafts.stream()
+                .filter(draft -> draft != null && draft.userId() != null)
+                .toList();
+        if (valid.isEmpty()) {
+            return;
+        }
+        long requestedAtEpochMilli = System.currentTimeMillis();
+        afterCommit(() -> {
+            for (int from = 0; from < valid.size(); from += chunkSize) {
+                // JobRunr가 인자를 역직렬화할 수 있도록 불변 리스트 대신 ArrayList로 넘긴다.
+                List<NotificationDraft> chunk = new ArrayList<>(
+                        valid.subList(from, Math.min(valid.size(), from + chunkSize)));
+                enqueueChunk(type, chunk, requestedAtEpochMilli);
+            }
+        });
+    }
+
+    /**
+     * fan-out chunk 하나를 한 트랜잭션으로 씁니다 (JobRunr).
+     * public이어야 JobRunr가 호출 가능. 실패하면 chunk 전체가 롤백되어 재시도해도 중복 알림이 생기지 않습니다.
+     */
+    @Job(name = "Notification fan-out %0")
+    public void deliverChunk(
+            Notification.NotificationType type,
+            List<NotificationDraft> drafts,
+            long requestedAtEpochMilli) {
+        if (drafts == null || drafts.isEmpty()) {
+            return;
+        }
+        try {
+            chunkTimer.record(() -> chunkTransactionTemplate.executeWithoutResult(status -> writeChunk(type, drafts)));
+        } catch (RuntimeException e) {
+            failedChunkCounter.increment();
+            throw e;
+        }
+        deliveredCounter.increment(drafts.size());
+        lagTimer.record(Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - requestedAtEpochMilli)));
+    }
+
+    private void writeChunk(Notification.NotificationType type, List<NotificationDraft> drafts) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(drafts.size());
+        for (NotificationDraft draft : drafts) {
+            notifications.add(Notification.builder()
+                    .userId(draft.userId())
+                    .type(type)
+                    .title(draft.title())
+                    .message(draft.message())
+                    .relatedId(draft.relatedId())
+                    .isRead(false)
+                    .createdAt(createdAt)
+                    .build());
+        }
+        notificationJdbcRepository.insertAll(notifications);
+
+        List<RealtimeOutboxWriter.UserMessage> messages = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            messages.add(new RealtimeOutboxWriter.UserMessage(
+                    String.valueOf(notification.getUserId()),
+                    NotificationDTO.Response.from(notification)));
+        }
+        realtimeOutboxWriter.sendToUsers(NOTIFICATION_QUEUE, messages);
+    }
+
+    private void enqueueChunk(
+            Notification.NotificationType type,
+            List<NotificationDraft> chunk,
+            long requestedAtEpochMilli) {
+        JobScheduler jobScheduler = jobSchedulerProvider.getIfAvailable();
+        if (jobScheduler != null) {
+            try {
+                jobScheduler.enqueue(() -> deliverChunk(type, chunk, requestedAtEpochMilli));
+                return;
+            } catch (RuntimeException e) {
+                log.warn("알림 fan-out 작업 등록 실패. 현재 스레드에서 처리합니다: type={}, recipients={}",
+                        type, chunk.size(), e);
+            }
+        }
+        try {
+            deliverChunk(type, chunk, requestedAtEpochMilli);
+        } catch (RuntimeException e) {
+            log.warn("알림 fan-out chunk 처리 실패: type={}, recipients={}, error={}",
+                    type, chunk.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 실행한다.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -56,7 +56,8 @@ public class GameLiveController {
         try {
             String normalizedGameId = requireGameId(gameId);
             Integer normalizedAfterSeq = normalizeAfterSeq(afterSeq);
-            return ResponseEntity.ok(gameLiveService.getLiveSnapshot(normalizedGameId, normalizedAfterSeq, limit));
+            return ResponseEntity.ok(gameLiveService.findBufferedLiveSnapshot(normalizedGameId, normalizedAfterSeq, limit)
+                    .orElseGet(() -> gameLiveService.getLiveSnapshot(normalizedGameId, normalizedAfterSeq, limit)));
         } catch (BadRequestBusinessException e) {
             result = "bad_request";
             statusCode = 400;
@@ -85,7 +86,8 @@ public class GameLiveController {
         try {
             String normalizedGameId = requireGameId(gameId);
             Integer normalizedAfterId = normalizeAfterId(afterId);
-            return ResponseEntity.ok(gameLiveRelayService.getRelaySnapshot(normalizedGameId, normalizedAfterId, limit));
+            return ResponseEntity.ok(gameLiveRelayService.findBufferedRelaySnapshot(normalizedGameId, normalizedAfterId, limit)
+                    .orElseGet(() -> gameLiveRelayService.getRelaySnapshot(normalizedGameId, normalizedAfterId, limit)));
         } catch (BadRequestBusinessException e) {
             result = "bad_request";
             statusCode = 400;
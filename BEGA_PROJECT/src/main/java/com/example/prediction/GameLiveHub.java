@@ -0,0 +1,417 @@
+package com.example.prediction;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.kbo.entity.GameEntity;
+import com.example.kbo.entity.GameEventEntity;
+import com.example.kbo.entity.GameInningScoreEntity;
+import com.example.kbo.entity.GamePlayByPlayEntity;
+import com.example.kbo.repository.GameDetailHeaderProjection;
+import com.example.kbo.repository.GameEventRepository;
+import com.example.kbo.repository.GameInningScoreRepository;
+import com.example.kbo.repository.GamePlayByPlayRepository;
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.util.GameStatusResolver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중 경기 문자중계 허브
+ *
+ * 시청자마다 game_events/game_play_by_play를 다시 읽는 대신, 노드마다 진행 중 경기 하나당 tailer 하나가
+ * 새로 적재된 행만 읽어 경기별 고정 크기 버퍼에 붙이고, afterSeq/afterId 폴링은 이 버퍼에서 답합니다.
+ * - 경기는 DB 경로 응답이 LIVE일 때 track()으로 등록되고, GameLiveTailScheduler가 주기적으로 tail()을 호출합니다.
+ * - 버퍼 스냅샷(Feed)은 불변이며 tail 한 번마다 새 스냅샷으로 참조를 바꿉니다.
+ * - 커서가 버퍼보다 오래됐거나 마지막 tail이 허용 지연보다 오래되면 비어 있는 값을 돌려 호출 측이 기존 쿼리를 씁니다.
+ * 경기당 tail 쿼리 수(경기, 이닝 점수, 이벤트 증분, 중계 증분)는 시청자 수와 무관하게 일정합니다.
+ */
+@Slf4j
+@Component
+public class GameLiveHub {
+
+    private static final String LIVE_STATUS = "LIVE";
+
+    private final GameRepository gameRepository;
+    private final GameEventRepository gameEventRepository;
+    private final GameInningScoreRepository gameInningScoreRepository;
+    private final GamePlayByPlayRepository gamePlayByPlayRepository;
+    private final TransactionTemplate readTransaction;
+    private final boolean enabled;
+    private final int bufferSize;
+    private final long idleTimeoutMs;
+    private final long maxStalenessMs;
+    private final ConcurrentHashMap<String, TrackedGame> trackedGames = new ConcurrentHashMap<>();
+
+    public GameLiveHub(
+            GameRepository gameRepository,
+            GameEventRepository gameEventRepository,
+            GameInningScoreRepository gameInningScoreRepository,
+            GamePlayByPlayRepository gamePlayByPlayRepository,
+            @Qualifier("kboGameTransactionManager") PlatformTransactionManager transactionManager,
+            @Value("${app.baseball.live-hub.enabled:true}") boolean enabled,
+            @Value("${app.baseball.live-hub.buffer-size:500}") int bufferSize,
+            @Value("${app.baseball.live-hub.idle-timeout-ms:180000}") long idleTimeoutMs,
+            @Value("${app.baseball.live-hub.max-staleness-ms:15000}") long maxStalenessMs) {
+        this.gameRepository = gameRepository;
+        this.gameEventRepository = gameEventRepository;
+        this.gameInningScoreRepository = gameInningScoreRepository;
+        this.gamePlayByPlayRepository = gamePlayByPlayRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        // 버퍼는 응답 한 번의 최대 이벤트 수(200)보다 작으면 초기 스냅샷을 버퍼로 답할 수 없다.
+        this.bufferSize = Math.max(200, bufferSize);
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * DB 경로로 응답한 경기의 실효 상태가 LIVE이면 다음 tail부터 버퍼에 적재한다.
+     */
+    public void track(String gameId, String effectiveStatus) {
+        if (!enabled || gameId == null || gameId.isBlank() || !LIVE_STATUS.equals(effectiveStatus)) {
+            return;
+        }
+        trackedGames.computeIfAbsent(gameId, ignored -> new TrackedGame()).touch();
+    }
+
+    public void untrack(String gameId) {
+        if (gameId != null) {
+            trackedGames.remove(gameId);
+        }
+    }
+
+    public Set<String> trackedGameIds() {
+        return Set.copyOf(trackedGames.keySet());
+    }
+
+    /**
+     * 폴링이나 구독이 허용 유휴 시간 동안 없었는지 여부.
+     */
+    public boolean isIdle(String gameId) {
+        TrackedGame trackedGame = trackedGames.get(gameId);
+        return trackedGame == null || System.currentTimeMillis() - trackedGame.lastAccessedAtMillis > idleTimeoutMs;
+    }
+
+    public void touch(String gameId) {
+        TrackedGame trackedGame = trackedGames.get(gameId);
+        if (trackedGame != null) {
+            trackedGame.touch();
+        }
+    }
+
+    /**
+     * 믿고 쓸 수 있는 버퍼 스냅샷. 비어 있으면 호출 측은 기존 쿼리로 조회한다.
+     */
+    public Optional<Feed> current(String gameId) {
+        if (!enabled || gameId == null) {
+            return Optional.empty();
+        }
+        TrackedGame trackedGame = trackedGames.get(gameId);
+        if (trackedGame == null) {
+            return Optional.empty();
+        }
+        trackedGame.touch();
+        Feed feed = trackedGame.feed;
+        if (feed == null || System.currentTimeMillis() - trackedGame.refreshedAtMillis > maxStalenessMs) {
+            return Optional.empty();
+        }
+        return Optional.of(feed);
+    }
+
+    /**
+     * 경기 하나의 새 이벤트/중계 행을 읽어 버퍼를 갱신한다. 같은 경기에 대해 동시에 불리지 않아야 한다.
+     */
+    public TailResult tail(String gameId) {
+        TrackedGame trackedGame = trackedGames.get(gameId);
+        if (!enabled || trackedGame == null) {
+            return TailResult.notTracked();
+        }
+        Feed previous = trackedGame.feed;
+        Feed next = readTransaction.execute(status -> load(gameId, previous));
+        if (next == null) {
+            trackedGames.remove(gameId, trackedGame);
+            return TailResult.notTracked();
+        }
+        trackedGame.feed = next;
+        trackedGame.refreshedAtMillis = System.currentTimeMillis();
+
+        boolean seeded = previous == null;
+        int newEvents = seeded ? 0 : next.eventsAfterCount(previous.lastEventSeq());
+        int newRelays = seeded ? 0 : next.relaysAfterCount(previous.lastRelayId());
+        boolean finished = !LIVE_STATUS.equals(next.effectiveStatus());
+        return new TailResult(
+                true,
+                seeded,
+                finished,
+                previous == null ? null : previous.lastEventSeq(),
+                newEvents,
+                previous == null ? null : previous.lastRelayId(),
+                newRelays);
+    }
+
+    private Feed load(String gameId, Feed previous) {
+        GameEntity game = gameRepository.findByGameId(gameId).orElse(null);
+        if (game == null) {
+            return null;
+        }
+        LocalTime startTime = previous != null
+                ? previous.startTime()
+                : gameRepository.findGameDetailHeaderByGameId(gameId)
+                        .map(GameDetailHeaderProjection::getStartTime)
+                        .orElse(null);
+        List<GameInningScoreEntity> inningScores = gameInningScoreRepository
+                .findAllByGameIdOrderByInningAscTeamSideAsc(gameId);
+
+        List<GameEventEntity> events;
+        int eventsCoveredAfter;
+        List<GamePlayByPlayEntity> relays;
+        int relaysCoveredAfter;
+        if (previous == null) {
+            events = gameEventRepository.findByGameIdOrderByEventSeqDesc(gameId, PageRequest.of(0, bufferSize))
+                    .stream()
+                    .sorted(Comparator.comparing(GameEventEntity::getEventSeq))
+                    .toList();
+            eventsCoveredAfter = seedCoveredAfter(events, bufferSize, GameEventEntity::getEventSeq);
+            relays = gamePlayByPlayRepository.findByGameIdOrderByIdDesc(gameId, PageRequest.of(0, bufferSize))
+                    .stream()
+                    .sorted(Comparator.comparing(GamePlayByPlayEntity::getId))
+                    .toList();
+            relaysCoveredAfter = seedCoveredAfter(relays, bufferSize, GamePlayByPlayEntity::getId);
+        } else {
+            List<GameEventEntity> newEvents = gameEventRepository.findByGameIdAndEventSeqGreaterThanOrderByEventSeqAsc(
+                    gameId,
+                    previous.lastEventSeq() == null ? -1 : previous.lastEventSeq(),
+                    PageRequest.of(0, bufferSize));
+            events = append(previous.events, newEvents);
+            eventsCoveredAfter = trimmedCoveredAfter(
+                    events, previous.eventsCoveredAfter, bufferSize, GameEventEntity::getEventSeq);
+            events = trim(events, bufferSize);
+
+            List<GamePlayByPlayEntity> newRelays = gamePlayByPlayRepository.findByGameIdAndIdGreaterThanOrderByIdAsc(
+                    gameId,
+                    previous.lastRelayId() == null ? -1 : previous.lastRelayId(),
+                    PageRequest.of(0, bufferSize));
+            relays = append(previous.relays, newRelays);
+            relaysCoveredAfter = trimmedCoveredAfter(
+                    relays, previous.relaysCoveredAfter, bufferSize, GamePlayByPlayEntity::getId);
+            relays = trim(relays, bufferSize);
+        }
+
+        String effectiveStatus = GameStatusResolver.resolveEffectiveStatus(
+                game.getGameStatus(),
+                game.getGameDate(),
+                startTime,
+                game.getHomeScore(),
+                game.getAwayScore(),
+                !events.isEmpty() || !inningScores.isEmpty());
+        return new Feed(game, startTime, inningScores, effectiveStatus, events, eventsCoveredAfter, relays, relaysCoveredAfter);
+    }
+
+    // 가장 최근 N건만 읽었으면 버퍼 첫 항목 직전 키부터, 그보다 적으면 처음부터 모두 담고 있다.
+    private static <T> int seedCoveredAfter(List<T> rows, int limit, ToIntFunction<T> key) {
+        if (rows.size() < limit) {
+            return Integer.MIN_VALUE;
+        }
+        return key.applyAsInt(rows.get(0)) - 1;
+    }
+
+    private static <T> int trimmedCoveredAfter(List<T> rows, int coveredAfter, int limit, ToIntFunction<T> key) {
+        if (rows.size() <= limit) {
+            return coveredAfter;
+        }
+        return key.applyAsInt(rows.get(rows.size() - limit - 1));
+    }
+
+    private static <T> List<T> append(List<T> buffered, List<T> added) {
+        if (added == null || added.isEmpty()) {
+            return buffered;
+        }
+        List<T> merged = new ArrayList<>(buffered.size() + added.size());
+        merged.addAll(buffered);
+        merged.addAll(added);
+        return merged;
+    }
+
+    private static <T> List<T> trim(List<T> rows, int limit) {
+        if (rows.size() <= limit) {
+            return List.copyOf(rows);
+        }
+        return List.copyOf(rows.subList(rows.size() - limit, rows.size()));
+    }
+
+    // 키 오름차순 목록에서 key > after인 첫 위치
+    private static <T> int firstIndexAfter(List<T> rows, ToIntFunction<T> key, int after) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.applyAsInt(rows.get(mid)) <= after) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class TrackedGame {
+        private volatile Feed feed;
+        private volatile long refreshedAtMillis;
+        private volatile long lastAccessedAtMillis = System.currentTimeMillis();
+
+        private void touch() {
+            lastAccessedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    public record TailResult(
+            boolean tracked,
+            boolean seeded,
+            boolean finished,
+            Integer previousLastEventSeq,
+            int newEvents,
+            Integer previousLastRelayId,
+            int newRelays) {
+
+        static TailResult notTracked() {
+            return new TailResult(false, false, true, null, 0, null, 0);
+        }
+    }
+
+    /**
+     * 경기 하나의 불변 버퍼 스냅샷. 이벤트는 event_seq, 중계는 id 오름차순이다.
+     * coveredAfter보다 크거나 같은 커서는 버퍼만으로 빠짐없이 답할 수 있다.
+     */
+    public static final class Feed {
+
+        private final GameEntity game;
+        private final LocalTime startTime;
+        private final List<GameInningScoreEntity> inningScores;
+        private final String effectiveStatus;
+        private final List<GameEventEntity> events;
+        private final int eventsCoveredAfter;
+        private final List<GamePlayByPlayEntity> relays;
+        private final int relaysCoveredAfter;
+
+        Feed(
+                GameEntity game,
+                LocalTime startTime,
+                List<GameInningScoreEntity> inningScores,
+                String effectiveStatus,
+                List<GameEventEntity> events,
+                int eventsCoveredAfter,
+                List<GamePlayByPlayEntity> relays,
+                int relaysCoveredAfter) {
+            this.game = game;
+            this.startTime = startTime;
+            this.inningScores = List.copyOf(inningScores);
+            this.effectiveStatus = effectiveStatus;
+            this.events = List.copyOf(events);
+            this.eventsCoveredAfter = eventsCoveredAfter;
+            this.relays = List.copyOf(relays);
+            this.relaysCoveredAfter = relaysCoveredAfter;
+        }
+
+        public GameEntity game() {
+            return game;
+        }
+
+        public LocalTime startTime() {
+            return startTime;
+        }
+
+        public List<GameInningScoreEntity> inningScores() {
+            return inningScores;
+        }
+
+        public String effectiveStatus() {
+            return effectiveStatus;
+        }
+
+        public GameEventEntity latestEvent() {
+            return events.isEmpty() ? null : events.get(events.size() - 1);
+        }
+
+        public Integer lastEventSeq() {
+            GameEventEntity latest = latestEvent();
+            return latest == null ? null : latest.getEventSeq();
+        }
+
+        public GamePlayByPlayEntity latestRelay() {
+            return relays.isEmpty() ? null : relays.get(relays.size() - 1);
+        }
+
+        public Integer lastRelayId() {
+            GamePlayByPlayEntity latest = latestRelay();
+            return latest == null ? null : latest.getId();
+        }
+
+        /**
+         * afterSeq가 없으면 최근 limit건, 있으면 afterSeq 다음부터 limit건. 버퍼로 답할 수 없으면 비어 있다.
+         */
+        public Optional<List<GameEventEntity>> findEvents(Integer afterSeq, int limit) {
+            return slice(events, eventsCoveredAfter, GameEventEntity::getEventSeq, afterSeq, limit);
+        }
+
+        public Optional<List<GamePlayByPlayEntity>> findRelays(Integer afterId, int limit) {
+            return slice(relays, relaysCoveredAfter, GamePlayByPlayEntity::getId, afterId, limit);
+        }
+
+        public int gameEventCount() {
+            return events.size();
+        }
+
+        public int relayCount() {
+            return relays.size();
+        }
+
+        int eventsAfterCount(Integer afterSeq) {
+            return afterSeq == null ? events.size() : events.size() - firstIndexAfter(events, GameEventEntity::getEventSeq, afterSeq);
+        }
+
+        int relaysAfterCount(Integer afterId) {
+            return afterId == null ? relays.size() : relays.size() - firstIndexAfter(relays, GamePlayByPlayEntity::getId, afterId);
+        }
+
+        private static <T> Optional<List<T>> slice(
+                List<T> rows,
+                int coveredAfter,
+                ToIntFunction<T> key,
+                Integer after,
+                int limit) {
+            boolean complete = coveredAfter == Integer.MIN_VALUE;
+            if (after == null) {
+                if (!complete && rows.size() < limit) {
+                    return Optional.empty();
+                }
+                return Optional.of(rows.subList(Math.max(0, rows.size() - limit), rows.size()));
+            }
+            if (after < coveredAfter) {
+                return Optional.empty();
+            }
+            int from = firstIndexAfter(rows, key, after);
+            return Optional.of(rows.subList(from, Math.min(rows.size(), from + limit)));
+        }
+    }
+}
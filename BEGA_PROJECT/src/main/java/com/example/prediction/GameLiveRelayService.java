@@ -6,19 +6,21 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.kbo.entity.GameEntity;
 import com.example.kbo.entity.GamePlayByPlayEntity;
 import com.example.kbo.repository.GamePlayByPlayRepository;
+import com.example.kbo.util.GameStatusResolver;
 import com.example.kbo.validation.BaseballDataIntegrityGuard;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GameLiveRelayService {
 
@@ -28,15 +30,86 @@ public class GameLiveRelayService {
     private final GamePlayByPlayRepository gamePlayByPlayRepository;
     private final BaseballDataIntegrityGuard baseballDataIntegrityGuard;
     private final PredictionLiveMetricsService predictionLiveMetricsService;
+    private final GameLiveHub gameLiveHub;
+
+    public GameLiveRelayService(
+            GamePlayByPlayRepository gamePlayByPlayRepository,
+            BaseballDataIntegrityGuard baseballDataIntegrityGuard,
+            PredictionLiveMetricsService predictionLiveMetricsService) {
+        this(gamePlayByPlayRepository, baseballDataIntegrityGuard, predictionLiveMetricsService, null);
+    }
+
+    @Autowired
+    public GameLiveRelayService(
+            GamePlayByPlayRepository gamePlayByPlayRepository,
+            BaseballDataIntegrityGuard baseballDataIntegrityGuard,
+            PredictionLiveMetricsService predictionLiveMetricsService,
+            @Nullable GameLiveHub gameLiveHub) {
+        this.gamePlayByPlayRepository = gamePlayByPlayRepository;
+        this.baseballDataIntegrityGuard = baseballDataIntegrityGuard;
+        this.predictionLiveMetricsService = predictionLiveMetricsService;
+        this.gameLiveHub = gameLiveHub;
+    }
 
     @Transactional(readOnly = true, transactionManager = "kboGameTransactionManager")
     public GameRelaySnapshotDto getRelaySnapshot(String gameId, Integer afterId, Integer limit) {
-        baseballDataIntegrityGuard.requireValidGame("prediction.live_relay", gameId);
+        GameEntity game = baseballDataIntegrityGuard.requireValidGame("prediction.live_relay", gameId);
         int normalizedLimit = normalizeLimit(limit);
         List<GamePlayByPlayEntity> events = loadRelayEvents(gameId, afterId, normalizedLimit);
         GamePlayByPlayEntity latestRelay = resolveLatestRelay(gameId, afterId, normalizedLimit, events);
+        if (gameLiveHub != null && game != null) {
+            gameLiveHub.track(gameId, GameStatusResolver.resolveEffectiveStatus(
+                    game.getGameStatus(),
+                    game.getGameDate(),
+                    null,
+                    game.getHomeScore(),
+                    game.getAwayScore(),
+                    latestRelay != null));
+        }
+        return assembleSnapshot(gameId, events, latestRelay, true);
+    }
+
+    /**
+     * 진행 중 경기 버퍼로 답할 수 있으면 DB를 거치지 않고 중계 스냅샷을 만든다. 비어 있으면 getRelaySnapshot을 쓴다.
+     */
+    public Optional<GameRelaySnapshotDto> findBufferedRelaySnapshot(String gameId, Integer afterId, Integer limit) {
+        Optional<GameRelaySnapshotDto> snapshot = buildBufferedSnapshot(gameId, afterId, normalizeLimit(limit), true);
+        predictionLiveMetricsService.recordLiveBufferLookup("relay", snapshot.isPresent());
+        return snapshot;
+    }
+
+    /**
+     * afterId 이후 새 중계만 담은 스냅샷. 문자중계 tailer가 구독자에게 보낼 증분을 만들 때 쓴다.
+     */
+    public Optional<GameRelaySnapshotDto> buildRelayDelta(String gameId, Integer afterId) {
+        return buildBufferedSnapshot(gameId, afterId, MAX_RELAY_LIMIT, false);
+    }
+
+    private Optional<GameRelaySnapshotDto> buildBufferedSnapshot(
+            String gameId,
+            Integer afterId,
+            int normalizedLimit,
+            boolean recordMetrics) {
+        if (gameLiveHub == null) {
+            return Optional.empty();
+        }
+        GameLiveHub.Feed feed = gameLiveHub.current(gameId).orElse(null);
+        if (feed == null) {
+            return Optional.empty();
+        }
+        return feed.findRelays(afterId == null ? null : Math.max(-1, afterId), normalizedLimit)
+                .map(events -> assembleSnapshot(gameId, events, feed.latestRelay(), recordMetrics));
+    }
+
+    private GameRelaySnapshotDto assembleSnapshot(
+            String gameId,
+            List<GamePlayByPlayEntity> events,
+            GamePlayByPlayEntity latestRelay,
+            boolean recordMetrics) {
         String result = latestRelay == null && events.isEmpty() ? "empty" : "ok";
-        predictionLiveMetricsService.recordLiveRelaySnapshot(result);
+        if (recordMetrics) {
+            predictionLiveMetricsService.recordLiveRelaySnapshot(result);
+        }
         log.debug(
                 "prediction.live_relay.resolved gameId={} eventCount={} latestRelayId={} result={}",
                 gameId,
@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,11 +31,9 @@ import com.example.kbo.validation.ManualBaseballDataMissingItem;
 import com.example.kbo.validation.ManualBaseballDataRequest;
 import com.example.kbo.validation.ManualBaseballDataRequiredException;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GameLiveService {
 
@@ -46,6 +46,38 @@ public class GameLiveService {
     private final GameInningScoreRepository gameInningScoreRepository;
     private final BaseballDataIntegrityGuard baseballDataIntegrityGuard;
     private final PredictionLiveMetricsService predictionLiveMetricsService;
+    private final GameLiveHub gameLiveHub;
+
+    public GameLiveService(
+            GameRepository gameRepository,
+            GameEventRepository gameEventRepository,
+            GameInningScoreRepository gameInningScoreRepository,
+            BaseballDataIntegrityGuard baseballDataIntegrityGuard,
+            PredictionLiveMetricsService predictionLiveMetricsService) {
+        this(
+                gameRepository,
+                gameEventRepository,
+                gameInningScoreRepository,
+                baseballDataIntegrityGuard,
+                predictionLiveMetricsService,
+                null);
+    }
+
+    @Autowired
+    public GameLiveService(
+            GameRepository gameRepository,
+            GameEventRepository gameEventRepository,
+            GameInningScoreRepository gameInningScoreRepository,
+            BaseballDataIntegrityGuard baseballDataIntegrityGuard,
+            PredictionLiveMetricsService predictionLiveMetricsService,
+            @Nullable GameLiveHub gameLiveHub) {
+        this.gameRepository = gameRepository;
+        this.gameEventRepository = gameEventRepository;
+        this.gameInningScoreRepository = gameInningScoreRepository;
+        this.baseballDataIntegrityGuard = baseballDataIntegrityGuard;
+        this.predictionLiveMetricsService = predictionLiveMetricsService;
+        this.gameLiveHub = gameLiveHub;
+    }
 
     @Transactional(readOnly = true, transactionManager = "kboGameTransactionManager")
     public GameLiveSnapshotDto getLiveSnapshot(String gameId, Integer afterSeq, Integer limit) {
@@ -61,9 +93,83 @@ public class GameLiveService {
                 : loadEvents(gameId, null, MAX_EVENT_LIMIT);
         GameEventEntity latestEvent = gameEventRepository.findFirstByGameIdOrderByEventSeqDesc(gameId).orElse(null);
         List<GameInningScoreEntity> inningScores = loadMeaningfulInningScores(gameId, game);
-        ensureLiveEventsIfRequired("prediction.live_snapshot.events", game, latestEvent, inningScores, header.getStartTime());
 
-        String gameStatus = resolveLiveStatus(game, latestEvent, inningScores, header.getStartTime());
+        GameLiveSnapshotDto snapshot = assembleSnapshot(
+                gameId,
+                game,
+                header.getStartTime(),
+                events,
+                eventScoreSource,
+                latestEvent,
+                inningScores,
+                true);
+        if (gameLiveHub != null) {
+            gameLiveHub.track(gameId, snapshot.getGameStatus());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 진행 중 경기 버퍼로 답할 수 있으면 DB를 거치지 않고 스냅샷을 만든다. 비어 있으면 getLiveSnapshot을 쓴다.
+     */
+    public Optional<GameLiveSnapshotDto> findBufferedLiveSnapshot(String gameId, Integer afterSeq, Integer limit) {
+        Optional<GameLiveSnapshotDto> snapshot = buildBufferedSnapshot(gameId, afterSeq, normalizeLimit(limit), true);
+        predictionLiveMetricsService.recordLiveBufferLookup("snapshot", snapshot.isPresent());
+        return snapshot;
+    }
+
+    /**
+     * afterSeq 이후 새 이벤트만 담은 스냅샷. 문자중계 tailer가 구독자에게 보낼 증분을 만들 때 쓴다.
+     */
+    public Optional<GameLiveSnapshotDto> buildLiveDelta(String gameId, Integer afterSeq) {
+        return buildBufferedSnapshot(gameId, afterSeq, MAX_EVENT_LIMIT, false);
+    }
+
+    private Optional<GameLiveSnapshotDto> buildBufferedSnapshot(
+            String gameId,
+            Integer afterSeq,
+            int normalizedLimit,
+            boolean recordMetrics) {
+        if (gameLiveHub == null) {
+            return Optional.empty();
+        }
+        GameLiveHub.Feed feed = gameLiveHub.current(gameId).orElse(null);
+        if (feed == null) {
+            return Optional.empty();
+        }
+        Optional<List<GameEventEntity>> events = feed.findEvents(afterSeq == null ? null : Math.max(-1, afterSeq), normalizedLimit);
+        Optional<List<GameEventEntity>> eventScoreSource = feed.findEvents(null, MAX_EVENT_LIMIT);
+        if (events.isEmpty() || eventScoreSource.isEmpty()) {
+            return Optional.empty();
+        }
+        GameEntity game = feed.game();
+        List<GameInningScoreEntity> inningScores = GameInningScoreSupport.normalizeMeaningful(
+                feed.inningScores(),
+                game.getHomeScore(),
+                game.getAwayScore());
+        return Optional.of(assembleSnapshot(
+                gameId,
+                game,
+                feed.startTime(),
+                events.get(),
+                eventScoreSource.get(),
+                feed.latestEvent(),
+                inningScores,
+                recordMetrics));
+    }
+
+    private GameLiveSnapshotDto assembleSnapshot(
+            String gameId,
+            GameEntity game,
+            LocalTime startTime,
+            List<GameEventEntity> events,
+            List<GameEventEntity> eventScoreSource,
+            GameEventEntity latestEvent,
+            List<GameInningScoreEntity> inningScores,
+            boolean recordMetrics) {
+        ensureLiveEventsIfRequired("prediction.live_snapshot.events", game, latestEvent, inningScores, startTime);
+
+        String gameStatus = resolveLiveStatus(game, latestEvent, inningScores, startTime);
         Integer homeScore = resolveHomeScore(game, latestEvent, inningScores);
         Integer awayScore = resolveAwayScore(game, latestEvent, inningScores);
         String scoreSource = resolveScoreSource(game, latestEvent, inningScores);
@@ -79,7 +185,9 @@ public class GameLiveService {
             liveInningScores = deriveInningScoresFromEvents(eventScoreSource, game);
         }
 
-        predictionLiveMetricsService.recordLiveSnapshot(scoreSource, !liveInningScores.isEmpty());
+        if (recordMetrics) {
+            predictionLiveMetricsService.recordLiveSnapshot(scoreSource, !liveInningScores.isEmpty());
+        }
         log.debug(
                 "prediction.live_snapshot.resolved gameId={} eventCount={} inningScoreCount={} scoreSource={} homeScore={} awayScore={} lastEventSeq={}",
                 gameId,
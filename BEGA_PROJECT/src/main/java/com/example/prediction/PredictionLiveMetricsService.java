@@ -14,6 +14,7 @@ public class PredictionLiveMetricsService {
 
     private static final String SNAPSHOT_METRIC = "prediction_live_snapshot_total";
     private static final String RELAY_METRIC = "prediction_live_relay_snapshot_total";
+    private static final String BUFFER_LOOKUP_METRIC = "prediction_live_buffer_lookup_total";
     private static final String MANUAL_REQUIRED_METRIC = "prediction_live_manual_required_total";
     private static final String REQUEST_DURATION_METRIC = "prediction_live_request_duration_seconds";
 
@@ -40,6 +41,15 @@ public class PredictionLiveMetricsService {
                 .increment();
     }
 
+    public void recordLiveBufferLookup(String channel, boolean hit) {
+        Counter.builder(BUFFER_LOOKUP_METRIC)
+                .description("Prediction live polling requests answered from the in-memory live game buffer")
+                .tag("channel", normalizeTag(channel))
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+    }
+
     public void recordManualRequired(String channel) {
         Counter.builder(MANUAL_REQUIRED_METRIC)
                 .description("Prediction live polling manual data required results")
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +17,9 @@ public interface PredictionRepository extends JpaRepository<Prediction, Long>{
 	List<Prediction> findByGameId(String gameId);
 
 	List<Prediction> findByGameIdIn(Collection<String> gameIds);
+
+	// 경기 정산용 id 키셋 페이지 조회
+	List<Prediction> findByGameIdAndIdGreaterThanOrderByIdAsc(String gameId, Long lastId, Pageable pageable);
 	
 	// 특정 경기에 특정 유저가 투표했는지 확인
 	Optional<Prediction> findByGameIdAndUserId(String gameId, Long userId);
@@ -47,13 +51,34 @@ public interface PredictionRepository extends JpaRepository<Prediction, Long>{
 	@Query("""
 			SELECT
 				p.gameId AS gameId,
-				p.votedTeam AS votedTeam
+				p.votedTeam AS votedTeam,
+				p.createdAt AS createdAt
 			FROM Prediction p
 			WHERE p.userId = :userId
 			ORDER BY p.createdAt DESC
 			""")
 	List<PredictionStatsRowProjection> findStatsRowsByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
 
+	// 사용자 예측 중 정산 마커가 있는 경기 (통계 재계산 시 최근 경기 반영 여부 판단)
+	@Query(value = """
+			SELECT ps.game_id
+			FROM prediction_settlements ps
+			WHERE ps.user_id = :userId
+			  AND ps.game_id IN :gameIds
+			""", nativeQuery = true)
+	List<String> findSettledGameIdsByUserIdAndGameIdIn(
+			@Param("userId") Long userId,
+			@Param("gameIds") Collection<String> gameIds);
+
+	// 예측이 있는 사용자 id 키셋 페이지 (통계 backfill)
+	@Query("""
+			SELECT DISTINCT p.userId
+			FROM Prediction p
+			WHERE p.userId > :lastUserId
+			ORDER BY p.userId ASC
+			""")
+	List<Long> findDistinctUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
 	// 특정 유저의 특정 경기들 투표 조회
 	List<Prediction> findByUserIdAndGameIdIn(Long userId, Collection<String> gameIds);
 
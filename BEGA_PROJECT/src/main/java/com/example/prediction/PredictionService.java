@@ -14,9 +14,10 @@ import com.example.kbo.repository.GameRepository;
 import com.example.kbo.repository.GameInningScoreRepository;
 import com.example.kbo.repository.GameMetadataRepository;
 import com.example.kbo.repository.MatchRangeProjection;
-import com.example.kbo.repository.PredictionStatsGameProjection;
 import com.example.kbo.repository.GameSummaryRepository;
 import com.example.kbo.service.LeagueStageResolver;
+import com.example.kbo.service.SeasonScheduleIndex;
+import com.example.kbo.service.TeamStandingsService;
 import com.example.kbo.validation.BaseballDataIntegrityGuard;
 import com.example.kbo.validation.ManualBaseballDataMissingItem;
 import com.example.kbo.validation.ManualBaseballDataOverrideService;
@@ -24,13 +25,12 @@ import com.example.kbo.validation.ManualBaseballDataRequest;
 import com.example.kbo.validation.ManualBaseballDataRequiredException;
 import com.example.kbo.util.GameStatusResolver;
 import com.example.kbo.util.KboTeamCodePolicy;
-import com.example.kbo.util.TeamCodeResolver;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
@@ -79,6 +79,10 @@ public class PredictionService {
     private final ManualBaseballDataOverrideService manualBaseballDataOverrideService;
     private final CacheManager cacheManager;
     private final PlatformTransactionManager transactionManager;
+    private final PredictionVoteTallyStore voteTallyStore;
+    private final UserPredictionStatsService userPredictionStatsService;
+    private final TeamStandingsService teamStandingsService;
+    private final SeasonScheduleIndex seasonScheduleIndex;
     private static final Set<String> BLOCKED_VOTE_STATUSES = Set.of(
             "COMPLETED",
             "CANCELLED",
@@ -89,11 +93,7 @@ public class PredictionService {
             "IN_PROGRESS",
             "INPROGRESS");
     private static final Pattern GAME_ID_PATTERN = Pattern.compile("^[A-Za-z0-9_-]+$");
-    private static final List<String> CANONICAL_TEAMS = List.of("SS", "LT", "LG", "DB", "KIA", "KH", "HH", "SSG", "NC", "KT");
-    private static final List<String> QUERYABLE_TEAM_CODES = CANONICAL_TEAMS.stream()
-            .flatMap(teamCode -> TeamCodeResolver.resolveVariants(teamCode).stream())
-            .distinct()
-            .collect(Collectors.toList());
+    static final List<String> QUERYABLE_TEAM_CODES = SeasonScheduleIndex.CANONICAL_TEAM_CODES;
     private static final int MAX_VOTE_RETRY_ATTEMPTS = 2;
     private static final long MAX_SNAPSHOT_SYNC_RANGE_DAYS = 31;
     private static final long MATCH_DAY_SLOW_LOG_THRESHOLD_MS = 1000L;
@@ -118,7 +118,11 @@ public class PredictionService {
             BaseballDataIntegrityGuard baseballDataIntegrityGuard,
             CacheManager cacheManager,
             @Qualifier("transactionManager") PlatformTransactionManager transactionManager,
-            ManualBaseballDataOverrideService manualBaseballDataOverrideService) {
+            ManualBaseballDataOverrideService manualBaseballDataOverrideService,
+            @Nullable PredictionVoteTallyStore voteTallyStore,
+            @Nullable UserPredictionStatsService userPredictionStatsService,
+            @Nullable TeamStandingsService teamStandingsService,
+            @Nullable SeasonScheduleIndex seasonScheduleIndex) {
         this.predictionRepository = predictionRepository;
         this.gameRepository = gameRepository;
         this.gameMetadataRepository = gameMetadataRepository;
@@ -133,6 +137,76 @@ public class PredictionService {
                 : manualBaseballDataOverrideService;
         this.cacheManager = cacheManager;
         this.transactionManager = transactionManager;
+        this.voteTallyStore = voteTallyStore == null
+                ? PredictionVoteTallyStore.disabled()
+                : voteTallyStore;
+        this.userPredictionStatsService = userPredictionStatsService == null
+                ? UserPredictionStatsService.recomputeOnly(predictionRepository, gameRepository)
+                : userPredictionStatsService;
+        this.teamStandingsService = teamStandingsService;
+        this.seasonScheduleIndex = seasonScheduleIndex;
+    }
+
+    public PredictionService(
+            PredictionRepository predictionRepository,
+            GameRepository gameRepository,
+            GameMetadataRepository gameMetadataRepository,
+            GameInningScoreRepository gameInningScoreRepository,
+            GameSummaryRepository gameSummaryRepository,
+            VoteFinalResultRepository voteFinalResultRepository,
+            com.example.auth.repository.UserRepository userRepository,
+            LeagueStageResolver leagueStageResolver,
+            BaseballDataIntegrityGuard baseballDataIntegrityGuard,
+            CacheManager cacheManager,
+            @Qualifier("transactionManager") PlatformTransactionManager transactionManager,
+            ManualBaseballDataOverrideService manualBaseballDataOverrideService,
+            @Nullable PredictionVoteTallyStore voteTallyStore) {
+        this(
+                predictionRepository,
+                gameRepository,
+                gameMetadataRepository,
+                gameInningScoreRepository,
+                gameSummaryRepository,
+                voteFinalResultRepository,
+                userRepository,
+                leagueStageResolver,
+                baseballDataIntegrityGuard,
+                cacheManager,
+                transactionManager,
+                manualBaseballDataOverrideService,
+                voteTallyStore,
+                null,
+                null,
+                null);
+    }
+
+    public PredictionService(
+            PredictionRepository predictionRepository,
+            GameRepository gameRepository,
+            GameMetadataRepository gameMetadataRepository,
+            GameInningScoreRepository gameInningScoreRepository,
+            GameSummaryRepository gameSummaryRepository,
+            VoteFinalResultRepository voteFinalResultRepository,
+            com.example.auth.repository.UserRepository userRepository,
+            LeagueStageResolver leagueStageResolver,
+            BaseballDataIntegrityGuard baseballDataIntegrityGuard,
+            CacheManager cacheManager,
+            @Qualifier("transactionManager") PlatformTransactionManager transactionManager,
+            ManualBaseballDataOverrideService manualBaseballDataOverrideService) {
+        this(
+                predictionRepository,
+                gameRepository,
+                gameMetadataRepository,
+                gameInningScoreRepository,
+                gameSummaryRepository,
+                voteFinalResultRepository,
+                userRepository,
+                leagueStageResolver,
+                baseballDataIntegrityGuard,
+                cacheManager,
+                transactionManager,
+                manualBaseballDataOverrideService,
+                null);
     }
 
     public PredictionService(
@@ -213,8 +287,7 @@ public class PredictionService {
                 targetDate,
                 QUERYABLE_TEAM_CODES);
         if (matches.isEmpty()) {
-            CanonicalAdjacentGameDatesProjection adjacentDates =
-                    gameRepository.findCanonicalAdjacentGameDates(targetDate, QUERYABLE_TEAM_CODES);
+            CanonicalAdjacentGameDatesProjection adjacentDates = findCanonicalAdjacentGameDates(targetDate);
             if (isCanonicalOffDay(adjacentDates)) {
                 return List.of();
             }
@@ -256,7 +329,7 @@ public class PredictionService {
         List<MatchRangeProjection> displayableMatches = rawMatches;
         try {
             if (rawMatches.isEmpty()) {
-                adjacentDates = gameRepository.findCanonicalAdjacentGameDates(targetDate, QUERYABLE_TEAM_CODES);
+                adjacentDates = findCanonicalAdjacentGameDates(targetDate);
                 if (!isCanonicalOffDay(adjacentDates)) {
                     baseballDataIntegrityGuard.ensurePredictionDateMatches(
                             "prediction.matches_by_date",
@@ -275,7 +348,7 @@ public class PredictionService {
         }
 
         if (adjacentDates == null) {
-            adjacentDates = gameRepository.findCanonicalAdjacentGameDates(targetDate, QUERYABLE_TEAM_CODES);
+            adjacentDates = findCanonicalAdjacentGameDates(targetDate);
         }
 
         Map<String, Integer> seriesGameNos = computeSeriesGameNosForDate(displayableMatches, targetDate);
@@ -316,6 +389,23 @@ public class PredictionService {
                 nextDate != null);
     }
 
+    /**
+     * 일정 색인이 준비돼 있으면 메모리에서, 아니면 기존 쿼리로 canonical 이전/다음 경기일을 찾는다.
+     */
+    private CanonicalAdjacentGameDatesProjection findCanonicalAdjacentGameDates(LocalDate targetDate) {
+        Optional<SeasonScheduleIndex.Snapshot> index = currentScheduleIndex();
+        if (index.isPresent()) {
+            return new IndexedAdjacentGameDates(
+                    index.get().findCanonicalPrevGameDate(targetDate).orElse(null),
+                    index.get().findCanonicalNextGameDate(targetDate).orElse(null));
+        }
+        return gameRepository.findCanonicalAdjacentGameDates(targetDate, QUERYABLE_TEAM_CODES);
+    }
+
+    private Optional<SeasonScheduleIndex.Snapshot> currentScheduleIndex() {
+        return seasonScheduleIndex == null ? Optional.empty() : seasonScheduleIndex.current();
+    }
+
     private boolean isCanonicalOffDay(CanonicalAdjacentGameDatesProjection adjacentDates) {
         return adjacentDates != null
                 && adjacentDates.getPrevDate() != null
@@ -459,9 +549,17 @@ public class PredictionService {
 
     @Transactional(readOnly = true, transactionManager = "kboGameTransactionManager")
     public MatchBoundsResponseDto getMatchBounds() {
-        CanonicalGameDateBoundsProjection bounds = gameRepository.findCanonicalGameDateBounds(QUERYABLE_TEAM_CODES);
-        LocalDate earliestGameDate = bounds == null ? null : bounds.getEarliestGameDate();
-        LocalDate latestGameDate = bounds == null ? null : bounds.getLatestGameDate();
+        LocalDate earliestGameDate;
+        LocalDate latestGameDate;
+        Optional<SeasonScheduleIndex.Snapshot> index = currentScheduleIndex();
+        if (index.isPresent()) {
+            earliestGameDate = index.get().findCanonicalMinGameDate().orElse(null);
+            latestGameDate = index.get().findCanonicalMaxGameDate().orElse(null);
+        } else {
+            CanonicalGameDateBoundsProjection bounds = gameRepository.findCanonicalGameDateBounds(QUERYABLE_TEAM_CODES);
+            earliestGameDate = bounds == null ? null : bounds.getEarliestGameDate();
+            latestGameDate = bounds == null ? null : bounds.getLatestGameDate();
+        }
         boolean hasData = earliestGameDate != null && latestGameDate != null;
 
         return new MatchBoundsResponseDto(
@@ -1062,6 +1160,7 @@ public class PredictionService {
         gameInningScoreRepository.saveAll(entities);
         synchronizeGameScoreSnapshot(game, scores);
         evictPredictionGameCachesAfterCommit(game);
+        applyTeamStandingsAfterCommit(game);
         log.info("Upserted {} inning score records for gameId={}", entities.size(), gameId);
         return entities.size();
     }
@@ -1105,6 +1204,7 @@ public class PredictionService {
         if (canSync) {
             applyGameScoreSnapshot(game, homeScore, awayScore);
             gameRepository.saveAndFlush(game);
+            applyTeamStandingsAfterCommit(game);
         }
         evictPredictionGameCachesAfterCommit(game);
 
@@ -1399,7 +1499,6 @@ public class PredictionService {
         }
     }
 
-    @CacheEvict(value = CacheConfig.PREDICTION_USER_STATS, key = "#userId")
     public void vote(Long userId, PredictionRequestDto request) {
         String gameId = normalizeGameId(request == null ? null : request.getGameId());
         String votedTeam = normalizeVotedTeam(request == null ? null : request.getVotedTeam());
@@ -1439,7 +1538,12 @@ public class PredictionService {
         }
     }
 
-    @Transactional(readOnly = true, transactionManager = "transactionManager")
+    /**
+     * 투표 현황 조회
+     * 진행 중인 경기는 투표 집계(PredictionVoteTallyStore)에서 SQL 없이 응답하고,
+     * 집계가 없을 때만 최종 결과 또는 GROUP BY 집계로 대체한 뒤 집계를 초기화합니다.
+     * 조회 경로에 SQL이 없을 수 있으므로 메서드 단위 트랜잭션을 열지 않습니다.
+     */
     public PredictionResponseDto getVoteStatus(String gameId) {
         String normalizedGameId = normalizeGameId(gameId);
         PredictionResponseDto cachedResponse = getCachedVoteStatus(normalizedGameId);
@@ -1447,6 +1551,11 @@ public class PredictionService {
             return cachedResponse;
         }
 
+        Optional<PredictionVoteTallyStore.VoteTally> tally = voteTallyStore.read(normalizedGameId);
+        if (tally.isPresent()) {
+            return buildVoteStatusResponse(normalizedGameId, tally.get().homeVotes(), tally.get().awayVotes());
+        }
+
         Optional<VoteFinalResult> finalResult = voteFinalResultRepository.findById(normalizedGameId);
 
         if (finalResult.isPresent()) {
@@ -1474,21 +1583,30 @@ public class PredictionService {
         PredictionVoteCountsProjection voteCounts = predictionRepository.findVoteCountsByGameId(normalizedGameId);
         Long homeVotes = voteCounts != null && voteCounts.getHomeVotes() != null ? voteCounts.getHomeVotes() : 0L;
         Long awayVotes = voteCounts != null && voteCounts.getAwayVotes() != null ? voteCounts.getAwayVotes() : 0L;
-        Long totalVotes = homeVotes + awayVotes;
 
+        // 표가 없는 경기(잘못된 gameId 포함)는 집계를 만들지 않고 캐시로만 응답한다.
+        if (homeVotes + awayVotes > 0) {
+            voteTallyStore.seed(normalizedGameId, homeVotes, awayVotes);
+        }
+
+        PredictionResponseDto response = buildVoteStatusResponse(normalizedGameId, homeVotes, awayVotes);
+        cacheVoteStatus(normalizedGameId, response);
+        return response;
+    }
+
+    private PredictionResponseDto buildVoteStatusResponse(String gameId, long homeVotes, long awayVotes) {
+        long totalVotes = homeVotes + awayVotes;
         int homePercentage = totalVotes > 0 ? (int) Math.round((homeVotes * 100.0) / totalVotes) : 0;
         int awayPercentage = totalVotes > 0 ? (int) Math.round((awayVotes * 100.0) / totalVotes) : 0;
 
-        PredictionResponseDto response = Objects.requireNonNull(PredictionResponseDto.builder()
-                .gameId(normalizedGameId)
+        return Objects.requireNonNull(PredictionResponseDto.builder()
+                .gameId(gameId)
                 .homeVotes(homeVotes)
                 .awayVotes(awayVotes)
                 .totalVotes(totalVotes)
                 .homePercentage(homePercentage)
                 .awayPercentage(awayPercentage)
                 .build());
-        cacheVoteStatus(normalizedGameId, response);
-        return response;
     }
 
     private boolean isCanonicalGame(GameEntity game) {
@@ -1515,7 +1633,7 @@ public class PredictionService {
         // 포인트 반환 없음 (No Refund Policy)
 
         predictionRepository.delete(prediction);
-        evictVoteStatusCacheAfterCommit(normalizedGameId);
+        applyVoteChangeAfterCommit(normalizedGameId, null, prediction.getVotedTeam());
     }
 
     private void executeVoteAttempt(Long userId, String gameId, String votedTeam) {
@@ -1541,12 +1659,13 @@ public class PredictionService {
             Prediction prediction = existing.get();
 
             if (prediction.getVotedTeam().equals(votedTeam)) {
-                evictVoteStatusCacheAfterCommit(gameId);
+                applyVoteChangeAfterCommit(gameId, null, null);
                 return;
             }
 
+            String previousTeam = prediction.getVotedTeam();
             prediction.updateVotedTeam(votedTeam);
-            evictVoteStatusCacheAfterCommit(gameId);
+            applyVoteChangeAfterCommit(gameId, votedTeam, previousTeam);
             return;
         }
 
@@ -1565,7 +1684,7 @@ public class PredictionService {
                 .userId(userId)
                 .votedTeam(votedTeam)
                 .build());
-        evictVoteStatusCacheAfterCommit(gameId);
+        applyVoteChangeAfterCommit(gameId, votedTeam, null);
     }
 
     @Transactional(transactionManager = "transactionManager")
@@ -1600,6 +1719,7 @@ public class PredictionService {
 
         voteFinalResultRepository.save(finalResult);
         evictVoteStatusCacheAfterCommit(gameId);
+        removeVoteTallyAfterCommit(gameId);
     }
 
     private PredictionResponseDto getCachedVoteStatus(String gameId) {
@@ -1640,6 +1760,56 @@ public class PredictionService {
         }
     }
 
+    /**
+     * 커밋 이후 투표 집계에 증감을 반영하고 투표 현황 캐시를 비웁니다.
+     * 집계에 반영되면 이후 조회는 집계에서 응답하므로 GROUP BY 재집계(캐시 워밍)를 생략합니다.
+     */
+    private void applyVoteChangeAfterCommit(String gameId, String addedTeam, String removedTeam) {
+        if (!voteTallyStore.isEnabled()) {
+            evictVoteStatusCacheAfterCommit(gameId);
+            return;
+        }
+
+        String normalizedGameId = normalizeGameId(gameId);
+        Runnable applyChange = () -> {
+            boolean applied = voteTallyStore.applyCommittedChange(normalizedGameId, addedTeam, removedTeam);
+            Cache cache = cacheManager.getCache(CacheConfig.PREDICTION_VOTE_STATUS);
+            safeEvictCacheEntry(cache, normalizedGameId, CacheConfig.PREDICTION_VOTE_STATUS);
+            if (!applied) {
+                log.debug("투표 집계가 초기화되지 않아 다음 조회 시 DB 집계로 초기화합니다: gameId={}", normalizedGameId);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyChange.run();
+                }
+            });
+            return;
+        }
+
+        applyChange.run();
+    }
+
+    private void removeVoteTallyAfterCommit(String gameId) {
+        if (!voteTallyStore.isEnabled()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    voteTallyStore.remove(gameId);
+                }
+            });
+            return;
+        }
+
+        voteTallyStore.remove(gameId);
+    }
+
     private void evictVoteStatusCacheAfterCommit(String gameId) {
         String normalizedGameId = normalizeGameId(gameId);
         Cache cache = cacheManager.getCache(CacheConfig.PREDICTION_VOTE_STATUS);
@@ -1720,6 +1890,10 @@ public class PredictionService {
         if (game == null) {
             return;
         }
+        if (seasonScheduleIndex != null && game.getGameDate() != null) {
+            // 상태/일정이 바뀌면 날짜 이동 결과도 달라지므로 해당 시즌 색인을 커밋 뒤 다시 만든다.
+            seasonScheduleIndex.rebuildSeasonAfterCommit(game.getGameDate().getYear());
+        }
 
         Runnable evictCaches = () -> evictPredictionGameCaches(game);
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
@@ -1735,6 +1909,36 @@ public class PredictionService {
         evictCaches.run();
     }
 
+    /**
+     * 확정된 경기 결과를 팀 순위 projection에 반영한다.
+     * 경기 저장이 커밋된 뒤 별도 트랜잭션에서 실행하고, 실패해도 동기화 응답은 유지한다 (재구성/따라잡기 작업에서 보정).
+     */
+    private void applyTeamStandingsAfterCommit(GameEntity game) {
+        if (teamStandingsService == null || game == null) {
+            return;
+        }
+
+        String gameId = game.getGameId();
+        Runnable applyStandings = () -> {
+            try {
+                teamStandingsService.applyGame(gameId);
+            } catch (RuntimeException e) {
+                log.warn("팀 순위 projection 반영 실패: gameId={}, reason={}", gameId, summarizeCacheFailure(e));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyStandings.run();
+                }
+            });
+            return;
+        }
+
+        applyStandings.run();
+    }
+
     private void evictPredictionGameCaches(GameEntity game) {
         if (game == null) {
             return;
@@ -1812,69 +2016,27 @@ public class PredictionService {
 
     /**
      * 사용자의 예측 적중률/스트릭 집계.
-     * 사용자별 누적 예측이 수천 건에 이를 수 있어 결과를 5분간 Redis(PREDICTION_USER_STATS)에 캐시한다.
-     * 새 투표 발생 시 vote() 종료 시점에 동일 키를 evict 한다.
+     * user_prediction_stats 행을 읽고, 행이 없을 때만 전체 예측을 재집계한다 (UserPredictionStatsService).
+     * 결과는 5분간 Redis(PREDICTION_USER_STATS)에 캐시하며, 경기 정산으로 통계가 바뀐 사용자의 키는 정산 후 evict 한다.
+     * 투표 변경은 시작 전 경기에만 가능해 완료 경기 기준 통계에 영향이 없으므로 evict 하지 않는다.
      */
     @Cacheable(value = CacheConfig.PREDICTION_USER_STATS, key = "#userId", unless = "#result == null")
-    @Transactional(readOnly = true, transactionManager = "transactionManager")
     public UserPredictionStatsDto getUserStats(Long userId) {
-        List<PredictionStatsRowProjection> predictions = predictionRepository
-                .findStatsRowsByUserIdOrderByCreatedAtDesc(java.util.Objects.requireNonNull(userId));
-        if (predictions.isEmpty()) {
-            return Objects.requireNonNull(
-                    UserPredictionStatsDto.builder()
-                            .totalPredictions(0)
-                            .correctPredictions(0)
-                            .accuracy(0.0)
-                            .streak(0)
-                            .build());
-        }
-
-        List<String> gameIds = predictions.stream()
-                .map(PredictionStatsRowProjection::getGameId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
+        return userPredictionStatsService.getStats(java.util.Objects.requireNonNull(userId));
+    }
 
-        List<PredictionStatsGameProjection> loadedGames = gameIds.isEmpty()
-                ? List.of()
-                : gameRepository.findPredictionStatsGameSummaries(gameIds, QUERYABLE_TEAM_CODES);
-        Map<String, String> winnerByGameId = loadedGames
-                .stream()
-                .collect(Collectors.toMap(PredictionStatsGameProjection::getGameId, PredictionStatsGameProjection::getWinner));
-
-        // 집계 루프 (전체 순회, 총 완료 + 정답 수)
-        int totalFinished = 0;
-        int correctCount = 0;
-        for (PredictionStatsRowProjection prediction : predictions) {
-            String actualWinner = winnerByGameId.get(prediction.getGameId());
-            if (actualWinner == null) continue;
-            totalFinished++;
-            if (prediction.getVotedTeam().equalsIgnoreCase(actualWinner)) {
-                correctCount++;
-            }
-        }
+    private record IndexedAdjacentGameDates(LocalDate prevDate, LocalDate nextDate)
+            implements CanonicalAdjacentGameDatesProjection {
 
-        // 스트릭 루프 (최근 50개 완료 경기만, 최신순으로 정렬됨)
-        int currentStreak = 0;
-        int finishedForStreak = 0;
-        for (PredictionStatsRowProjection prediction : predictions) {
-            if (finishedForStreak >= 50) break;
-            String actualWinner = winnerByGameId.get(prediction.getGameId());
-            if (actualWinner == null) continue;
-            finishedForStreak++;
-            if (prediction.getVotedTeam().equalsIgnoreCase(actualWinner)) {
-                currentStreak++;
-            } else {
-                break;
-            }
+        @Override
+        public LocalDate getPrevDate() {
+            return prevDate;
         }
 
-        double accuracy = totalFinished > 0 ? Math.round((correctCount * 100.0 / totalFinished) * 10.0) / 10.0 : 0.0;
-
-        return Objects.requireNonNull(
-                UserPredictionStatsDto.builder().totalPredictions(totalFinished).correctPredictions(correctCount)
-                        .accuracy(accuracy).streak(currentStreak).build());
+        @Override
+        public LocalDate getNextDate() {
+            return nextDate;
+        }
     }
 
     private record CanonicalRangeRequest(
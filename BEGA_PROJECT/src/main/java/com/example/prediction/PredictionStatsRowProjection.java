@@ -1,8 +1,12 @@
 package com.example.prediction;
 
+import java.time.LocalDateTime;
+
 public interface PredictionStatsRowProjection {
 
     String getGameId();
 
     String getVotedTeam();
+
+    LocalDateTime getCreatedAt();
 }
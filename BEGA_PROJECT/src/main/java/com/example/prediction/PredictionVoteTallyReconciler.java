@@ -0,0 +1,102 @@
+package com.example.prediction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 투표 집계 정합성 보정
+ *
+ * 집계가 초기화된 경기마다 DB GROUP BY 집계와 Redis 해시를 비교해 어긋난 값을 덮어씁니다.
+ * 최종 결과가 저장된 경기나 TTL로 사라진 집계는 추적 대상에서 제거합니다.
+ */
+@Service
+@Slf4j
+public class PredictionVoteTallyReconciler {
+
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+    private static final Duration LOCAL_TALLY_MAX_IDLE = Duration.ofMinutes(10);
+
+    private final PredictionRepository predictionRepository;
+    private final VoteFinalResultRepository voteFinalResultRepository;
+    private final PredictionVoteTallyStore voteTallyStore;
+    private final Counter driftCounter;
+
+    public record ReconcileReport(int checked, int repaired, int removed) {
+    }
+
+    public PredictionVoteTallyReconciler(
+            PredictionRepository predictionRepository,
+            VoteFinalResultRepository voteFinalResultRepository,
+            PredictionVoteTallyStore voteTallyStore,
+            MeterRegistry meterRegistry) {
+        this.predictionRepository = predictionRepository;
+        this.voteFinalResultRepository = voteFinalResultRepository;
+        this.voteTallyStore = voteTallyStore;
+        this.driftCounter = Counter.builder("prediction.vote_tally.drift")
+                .description("Vote tallies overwritten because they differed from the predictions aggregate")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 분산 락을 얻은 인스턴스만 보정합니다. 로컬 집계 정리는 모든 인스턴스에서 수행합니다.
+     */
+    public Optional<ReconcileReport> runReconcile() {
+        if (!voteTallyStore.isEnabled()) {
+            return Optional.empty();
+        }
+        voteTallyStore.pruneLocal(LOCAL_TALLY_MAX_IDLE);
+        if (!voteTallyStore.tryAcquireReconcileLock(RECONCILE_LOCK_TTL)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(reconcile());
+        } finally {
+            voteTallyStore.releaseReconcileLock();
+        }
+    }
+
+    public ReconcileReport reconcile() {
+        int checked = 0;
+        int repaired = 0;
+        int removed = 0;
+        for (String gameId : voteTallyStore.trackedGameIds()) {
+            if (voteFinalResultRepository.existsById(gameId)) {
+                voteTallyStore.remove(gameId);
+                removed++;
+                continue;
+            }
+
+            Optional<PredictionVoteTallyStore.VoteTally> current = voteTallyStore.readRemote(gameId);
+            if (current.isEmpty()) {
+                voteTallyStore.untrack(gameId);
+                removed++;
+                continue;
+            }
+
+            checked++;
+            PredictionVoteCountsProjection voteCounts = predictionRepository.findVoteCountsByGameId(gameId);
+            long homeVotes = voteCounts != null && voteCounts.getHomeVotes() != null ? voteCounts.getHomeVotes() : 0L;
+            long awayVotes = voteCounts != null && voteCounts.getAwayVotes() != null ? voteCounts.getAwayVotes() : 0L;
+            // 비교 중 투표가 반영되었다면 DB 집계와 시점이 달라 오탐이 나므로 다음 주기로 미룬다.
+            if (!current.equals(voteTallyStore.readRemote(gameId))) {
+                continue;
+            }
+            if (current.get().homeVotes() != homeVotes || current.get().awayVotes() != awayVotes) {
+                log.warn("Prediction vote tally drift repaired. gameId={}, tally={}/{}, db={}/{}",
+                        gameId, current.get().homeVotes(), current.get().awayVotes(), homeVotes, awayVotes);
+                voteTallyStore.overwrite(gameId, homeVotes, awayVotes);
+                driftCounter.increment();
+                repaired++;
+            }
+        }
+
+        ReconcileReport report = new ReconcileReport(checked, repaired, removed);
+        log.debug("Prediction vote tally reconcile finished. {}", report);
+        return report;
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.prediction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경기별 예측 투표 집계 저장소
+ *
+ * Redis 해시(home/away)에 투표 수를 유지하고, 노드마다 짧은 TTL의 로컬 집계(LongAdder)를 앞에 두어
+ * 투표 현황 조회가 SQL 없이 응답하도록 합니다. DB(predictions)가 원본이며 이 집계는 파생 값입니다.
+ * - 증감은 커밋 이후에만, 그리고 DB 집계로 초기화(seed)된 해시에만 반영합니다.
+ * - 초기화 전이거나 Redis 오류 시 Optional.empty()를 돌려 기존 GROUP BY 집계로 대체하게 합니다.
+ * - 어긋난 값은 PredictionVoteTallyReconciler가 주기적으로 DB 집계와 비교해 보정합니다.
+ */
+@Component
+@Slf4j
+public class PredictionVoteTallyStore {
+
+    static final String TALLY_KEY = "prediction:vote-tally:%s:v1";
+    static final String TRACKED_GAMES_KEY = "prediction:vote-tally:games:v1";
+    static final String RECONCILE_LOCK_KEY = "prediction:vote-tally:reconcile-lock:v1";
+    static final String HOME_FIELD = "home";
+    static final String AWAY_FIELD = "away";
+
+    private static final Duration TALLY_TTL = Duration.ofDays(3);
+
+    // 초기화되지 않은 해시에 HINCRBY하면 한쪽 필드만 있는 해시가 생겨 0표로 오인되므로 EXISTS 확인 후 반영한다.
+    private static final RedisScript<Long> INCREMENT_IF_SEEDED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "return 1",
+            Long.class);
+
+    // 동시에 증감이 들어와도 seed 값과 섞이지 않도록 두 필드를 한 번에 기록한다.
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "local seeded = 0 "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then "
+                    + "redis.call('HSET', KEYS[1], 'home', ARGV[1], 'away', ARGV[2]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+                    + "seeded = 1 end "
+                    + "redis.call('SADD', KEYS[2], ARGV[4]) "
+                    + "return seeded",
+            Long.class);
+
+    private static final PredictionVoteTallyStore DISABLED = new PredictionVoteTallyStore();
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long localTtlMillis;
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, LocalTally> localTallies = new ConcurrentHashMap<>();
+    private final Counter localReads;
+    private final Counter redisReads;
+    private final Counter missedReads;
+
+    public record VoteTally(long homeVotes, long awayVotes) {
+
+        public long totalVotes() {
+            return homeVotes + awayVotes;
+        }
+    }
+
+    /**
+     * Redis에서 읽은 값을 기준으로 이 노드에서 커밋된 증감을 더해 짧은 시간 동안 응답하는 로컬 집계
+     */
+    private static final class LocalTally {
+        private final long baseHome;
+        private final long baseAway;
+        private final long loadedAtMillis;
+        private final LongAdder homeDelta = new LongAdder();
+        private final LongAdder awayDelta = new LongAdder();
+
+        private LocalTally(long baseHome, long baseAway, long loadedAtMillis) {
+            this.baseHome = baseHome;
+            this.baseAway = baseAway;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+
+        private VoteTally snapshot() {
+            return new VoteTally(
+                    Math.max(0L, baseHome + homeDelta.sum()),
+                    Math.max(0L, baseAway + awayDelta.sum()));
+        }
+    }
+
+    @Autowired
+    public PredictionVoteTallyStore(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.prediction.vote-tally.enabled:true}") boolean enabled,
+            @Value("${app.prediction.vote-tally.local-ttl-ms:1000}") long localTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.localTtlMillis = Math.max(0L, localTtlMillis);
+        this.localReads = readCounter(meterRegistry, "local");
+        this.redisReads = readCounter(meterRegistry, "redis");
+        this.missedReads = readCounter(meterRegistry, "miss");
+    }
+
+    private PredictionVoteTallyStore() {
+        this.redisTemplate = null;
+        this.enabled = false;
+        this.localTtlMillis = 0L;
+        this.localReads = null;
+        this.redisReads = null;
+        this.missedReads = null;
+    }
+
+    public static PredictionVoteTallyStore disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 투표 현황을 조회합니다. 로컬 집계가 유효하면 Redis도 거치지 않습니다.
+     */
+    public Optional<VoteTally> read(String gameId) {
+        if (!enabled || gameId == null) {
+            return Optional.empty();
+        }
+        LocalTally local = localTallies.get(gameId);
+        long now = System.currentTimeMillis();
+        if (local != null && now - local.loadedAtMillis < localTtlMillis) {
+            localReads.increment();
+            return Optional.of(local.snapshot());
+        }
+
+        Optional<VoteTally> remote = readRemote(gameId);
+        if (remote.isEmpty()) {
+            localTallies.remove(gameId);
+            missedReads.increment();
+            return Optional.empty();
+        }
+        redisReads.increment();
+        localTallies.put(gameId, new LocalTally(remote.get().homeVotes(), remote.get().awayVotes(), now));
+        return remote;
+    }
+
+    /**
+     * 로컬 집계를 거치지 않고 Redis 해시 값을 그대로 읽습니다. 두 필드가 모두 있어야 초기화된 것으로 봅니다.
+     */
+    public Optional<VoteTally> readRemote(String gameId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            List<Object> values = redisTemplate.opsForHash()
+                    .multiGet(tallyKey(gameId), List.of(HOME_FIELD, AWAY_FIELD));
+            if (values == null || values.size() < 2 || values.get(0) == null || values.get(1) == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new VoteTally(
+                    Long.parseLong(values.get(0).toString()),
+                    Long.parseLong(values.get(1).toString())));
+        } catch (RuntimeException e) {
+            log.warn("Prediction vote tally read failed. gameId={}, cause={}", gameId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 집계 값으로 해시를 초기화합니다. 이미 초기화된 해시는 덮어쓰지 않습니다.
+     */
+    public void seed(String gameId, long homeVotes, long awayVotes) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(SEED_SCRIPT, List.of(tallyKey(gameId), TRACKED_GAMES_KEY),
+                    String.valueOf(homeVotes), String.valueOf(awayVotes),
+                    String.valueOf(TALLY_TTL.toSeconds()), gameId);
+        } catch (RuntimeException e) {
+            log.warn("Prediction vote tally seed failed. gameId={}, cause={}", gameId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋된 투표 변경을 반영합니다. 커밋 이후(afterCommit)에서만 호출해야 합니다.
+     *
+     * @param addedTeam   새로 투표한 팀 ("home"/"away"), 없으면 null
+     * @param removedTeam 취소되거나 변경 전 팀, 없으면 null
+     * @return Redis 해시에 반영되었으면 true (초기화 전이거나 실패 시 false)
+     */
+    public boolean applyCommittedChange(String gameId, String addedTeam, String removedTeam) {
+        if (!enabled || gameId == null) {
+            return false;
+        }
+        List<String> args = new ArrayList<>(4);
+        appendDelta(args, addedTeam, 1L);
+        appendDelta(args, removedTeam, -1L);
+        if (args.isEmpty()) {
+            return true;
+        }
+        try {
+            Long applied = redisTemplate.execute(INCREMENT_IF_SEEDED_SCRIPT, List.of(tallyKey(gameId)),
+                    args.toArray());
+            if (applied == null || applied == 0L) {
+                localTallies.remove(gameId);
+                return false;
+            }
+        } catch (RuntimeException e) {
+            localTallies.remove(gameId);
+            log.warn("Prediction vote tally increment failed. gameId={}, cause={}", gameId, e.getMessage());
+            return false;
+        }
+
+        LocalTally local = localTallies.get(gameId);
+        if (local != null) {
+            addLocal(local, addedTeam, 1L);
+            addLocal(local, removedTeam, -1L);
+        }
+        return true;
+    }
+
+    /**
+     * DB 집계로 보정한 값을 덮어씁니다.
+     */
+    public void overwrite(String gameId, long homeVotes, long awayVotes) {
+        if (!enabled) {
+            return;
+        }
+        String key = tallyKey(gameId);
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                HOME_FIELD, String.valueOf(homeVotes),
+                AWAY_FIELD, String.valueOf(awayVotes)));
+        redisTemplate.expire(key, TALLY_TTL);
+        localTallies.remove(gameId);
+    }
+
+    /**
+     * 최종 결과가 저장되었거나 더 이상 필요 없는 경기의 집계를 지웁니다.
+     */
+    public void remove(String gameId) {
+        if (!enabled || gameId == null) {
+            return;
+        }
+        localTallies.remove(gameId);
+        try {
+            redisTemplate.delete(tallyKey(gameId));
+            redisTemplate.opsForSet().remove(TRACKED_GAMES_KEY, gameId);
+        } catch (RuntimeException e) {
+            log.warn("Prediction vote tally removal failed. gameId={}, cause={}", gameId, e.getMessage());
+        }
+    }
+
+    public void untrack(String gameId) {
+        redisTemplate.opsForSet().remove(TRACKED_GAMES_KEY, gameId);
+    }
+
+    public Set<String> trackedGameIds() {
+        if (!enabled) {
+            return Set.of();
+        }
+        Set<String> members = redisTemplate.opsForSet().members(TRACKED_GAMES_KEY);
+        return members == null ? Set.of() : new HashSet<>(members);
+    }
+
+    /**
+     * 오래 조회되지 않은 로컬 집계를 정리합니다.
+     */
+    public void pruneLocal(Duration maxIdle) {
+        long cutoff = System.currentTimeMillis() - maxIdle.toMillis();
+        localTallies.values().removeIf(local -> local.loadedAtMillis < cutoff);
+    }
+
+    public boolean tryAcquireReconcileLock(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, lockOwner, ttl));
+    }
+
+    public void releaseReconcileLock() {
+        if (lockOwner.equals(redisTemplate.opsForValue().get(RECONCILE_LOCK_KEY))) {
+            redisTemplate.delete(RECONCILE_LOCK_KEY);
+        }
+    }
+
+    private static void appendDelta(List<String> args, String team, long delta) {
+        if (HOME_FIELD.equals(team) || AWAY_FIELD.equals(team)) {
+            args.add(team);
+            args.add(String.valueOf(delta));
+        }
+    }
+
+    private static void addLocal(LocalTally local, String team, long delta) {
+        if (HOME_FIELD.equals(team)) {
+            local.homeDelta.add(delta);
+        } else if (AWAY_FIELD.equals(team)) {
+            local.awayDelta.add(delta);
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("prediction.vote_tally.reads")
+                .description("Vote status reads served by the vote tally")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static String tallyKey(String gameId) {
+        return String.format(TALLY_KEY, gameId);
+    }
+}
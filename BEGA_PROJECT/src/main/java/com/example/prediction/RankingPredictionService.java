@@ -25,6 +25,7 @@ import com.example.common.exception.ConflictBusinessException;
 import com.example.common.exception.NotFoundBusinessException;
 import com.example.kbo.repository.GameRepository;
 import com.example.kbo.util.KboTeamCodePolicy;
+import com.example.notification.service.NotificationFanoutService;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
@@ -48,7 +49,7 @@ public class RankingPredictionService {
 	private final com.example.homepage.HomePageTeamRepository homePageTeamRepository;
 	private final UserRepository userRepository;
 	private final CacheManager cacheManager;
-	private final com.example.notification.service.NotificationService notificationService;
+	private final NotificationFanoutService notificationFanoutService;
 
 	// 순위 예측을 저장 (수정 불가, 1회만 가능)
 	@Transactional(transactionManager = "transactionManager")
@@ -210,6 +211,8 @@ public class RankingPredictionService {
 		}
 
 		LocalDateTime settledAt = LocalDateTime.now();
+		List<NotificationFanoutService.NotificationDraft> settlementNotifications =
+				new ArrayList<>(unsettledPredictions.size());
 		for (RankingPrediction prediction : unsettledPredictions) {
 			int exactMatchCount = 0;
 			List<String> predictionData = prediction.getPredictionData();
@@ -220,26 +223,41 @@ public class RankingPredictionService {
 				}
 			}
 			prediction.markSettled(exactMatchCount, settledAt);
-			notifySettlement(prediction, seasonYear, exactMatchCount);
+			addSettlementNotification(settlementNotifications, prediction, seasonYear, exactMatchCount);
 		}
 		rankingPredictionRepository.saveAll(unsettledPredictions);
+		notifySettlements(settlementNotifications);
 
 		log.info("{} 시즌 순위 예측 정산 완료: {}건", seasonYear, unsettledPredictions.size());
 		return unsettledPredictions.size();
 	}
 
-	// 정산 완료 알림 발송. 유저 1명 실패가 나머지 배치 정산을 막지 않도록 개별적으로 흡수
-	private void notifySettlement(RankingPrediction prediction, int seasonYear, int exactMatchCount) {
+	// 정산 완료 알림 내용. userId가 숫자가 아닌 예측 1건이 나머지 알림을 막지 않도록 개별적으로 흡수
+	private void addSettlementNotification(
+			List<NotificationFanoutService.NotificationDraft> notifications,
+			RankingPrediction prediction,
+			int seasonYear,
+			int exactMatchCount) {
 		try {
-			notificationService.createNotification(
+			notifications.add(new NotificationFanoutService.NotificationDraft(
 					Long.valueOf(prediction.getUserId()),
-					com.example.notification.entity.Notification.NotificationType.RANKING_PREDICTION_SETTLED,
 					seasonYear + " 시즌 순위 예측 결과",
 					"예측한 10개 팀 중 " + exactMatchCount + "개 순위를 정확히 맞췄어요!",
-					prediction.getId());
+					prediction.getId()));
+		} catch (NumberFormatException e) {
+			log.warn("순위 예측 정산 알림 대상이 올바르지 않습니다: predictionId={}, userId={}",
+					prediction.getId(), prediction.getUserId());
+		}
+	}
+
+	// 정산 완료 알림은 커밋 후 chunk 단위 batch로 보낸다. 알림 실패가 정산 결과를 되돌리지 않도록 흡수
+	private void notifySettlements(List<NotificationFanoutService.NotificationDraft> notifications) {
+		try {
+			notificationFanoutService.fanOut(
+					com.example.notification.entity.Notification.NotificationType.RANKING_PREDICTION_SETTLED,
+					notifications);
 		} catch (Exception e) {
-			log.warn("순위 예측 정산 알림 발송 실패: predictionId={}, userId={}, reason={}",
-					prediction.getId(), prediction.getUserId(), e.getMessage());
+			log.warn("순위 예측 정산 알림 발송 실패: recipients={}, reason={}", notifications.size(), e.getMessage());
 		}
 	}
 
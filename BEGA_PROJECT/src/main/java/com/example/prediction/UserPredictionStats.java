@@ -0,0 +1,59 @@
+package com.example.prediction;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 경기 예측 통계 (materialized)
+ *
+ * 경기 정산 때 증분으로 갱신되어 getUserStats가 사용자의 전체 예측을 다시 집계하지 않도록 합니다.
+ * - counted_through 이하 날짜의 경기는 재계산(rebuild)으로 반영되어 있으며, 정산 증분은 그 이후 날짜의 경기만 더합니다.
+ * - 스트릭은 예측 생성 시각 순서를 따르므로, 마지막으로 반영한 예측보다 오래된 예측이 늦게 정산되면
+ *   streak_stale을 켜고 다음 조회 때 재계산합니다.
+ * - version은 정산 증분마다 올라가며, 재계산 결과는 읽어 둔 version이 그대로일 때만 덮어씁니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "user_prediction_stats")
+public class UserPredictionStats {
+
+    /** 스트릭 계산에 사용하는 최근 완료 예측 수 */
+    public static final int STREAK_WINDOW = 50;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_predictions", nullable = false)
+    private int totalPredictions;
+
+    @Column(name = "correct_predictions", nullable = false)
+    private int correctPredictions;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    /** 통계에 반영된 가장 최근 예측의 생성 시각 */
+    @Column(name = "last_prediction_at")
+    private LocalDateTime lastPredictionAt;
+
+    /** 재계산으로 반영된 경기 날짜의 상한 */
+    @Column(name = "counted_through", nullable = false)
+    private LocalDate countedThrough;
+
+    @Column(name = "streak_stale", nullable = false)
+    private boolean streakStale;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
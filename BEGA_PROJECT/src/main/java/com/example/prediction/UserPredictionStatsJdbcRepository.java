@@ -0,0 +1,148 @@
+package com.example.prediction;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 예측 통계(user_prediction_stats) JDBC 저장소.
+ * 정산 증분은 행을 읽지 않고 UPDATE 한 번으로 더하고, 재계산 결과는 version 조건부로만 덮어쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPredictionStatsJdbcRepository {
+
+    /**
+     * 정산된 예측 한 건을 더한다. counted_through 이후 날짜의 경기만 반영하며 행이 없으면 아무것도 하지 않는다.
+     * 마지막으로 반영한 예측보다 오래된 예측이면 스트릭은 건드리지 않고 streak_stale만 켠다.
+     */
+    private static final String APPLY_SETTLEMENT_SQL = """
+            UPDATE user_prediction_stats SET
+                total_predictions = total_predictions + 1,
+                correct_predictions = correct_predictions + ?,
+                current_streak = CASE
+                    WHEN last_prediction_at IS NULL OR last_prediction_at <= ?
+                        THEN CASE WHEN ? = 1 THEN LEAST(current_streak + 1, %d) ELSE 0 END
+                    ELSE current_streak
+                END,
+                streak_stale = CASE WHEN last_prediction_at > ? THEN ? ELSE streak_stale END,
+                last_prediction_at = CASE
+                    WHEN last_prediction_at IS NULL OR last_prediction_at <= ? THEN ?
+                    ELSE last_prediction_at
+                END,
+                version = version + 1,
+                updated_at = ?
+            WHERE user_id = ?
+              AND counted_through < ?
+            """.formatted(UserPredictionStats.STREAK_WINDOW);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO user_prediction_stats
+                (user_id, total_predictions, correct_predictions, current_streak, last_prediction_at,
+                 counted_through, streak_stale, version, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)
+            """;
+
+    private static final String OVERWRITE_SQL = """
+            UPDATE user_prediction_stats SET
+                total_predictions = ?,
+                correct_predictions = ?,
+                current_streak = ?,
+                last_prediction_at = ?,
+                counted_through = ?,
+                streak_stale = ?,
+                version = version + 1,
+                updated_at = ?
+            WHERE user_id = ?
+              AND version = ?
+            """;
+
+    // 생성 시각이 없는 예측은 가장 오래된 것으로 취급해 스트릭을 재계산하게 한다.
+    private static final LocalDateTime UNKNOWN_PREDICTED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 정산된 예측 한 건 (사용자당 경기 하나에 예측 하나) */
+    public record SettledPrediction(Long userId, LocalDateTime predictedAt, boolean correct) {
+    }
+
+    public void applySettlements(LocalDate gameDate, List<SettledPrediction> settledPredictions) {
+        if (gameDate == null || settledPredictions == null || settledPredictions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date gameDay = Date.valueOf(gameDate);
+        List<Object[]> batchArgs = new ArrayList<>(settledPredictions.size());
+        for (SettledPrediction settled : settledPredictions) {
+            Timestamp predictedAt = Timestamp.valueOf(
+                    settled.predictedAt() != null ? settled.predictedAt() : UNKNOWN_PREDICTED_AT);
+            int correct = settled.correct() ? 1 : 0;
+            batchArgs.add(new Object[] {
+                    correct,
+                    predictedAt,
+                    correct,
+                    predictedAt,
+                    Boolean.TRUE,
+                    predictedAt,
+                    predictedAt,
+                    now,
+                    settled.userId(),
+                    gameDay
+            });
+        }
+        jdbcTemplate.batchUpdate(APPLY_SETTLEMENT_SQL, batchArgs);
+    }
+
+    /**
+     * 재계산 결과로 행을 만든다.
+     *
+     * @return 다른 경로가 먼저 행을 만들었으면 false
+     */
+    public boolean insert(UserPredictionStats stats) {
+        try {
+            jdbcTemplate.update(INSERT_SQL,
+                    stats.getUserId(),
+                    stats.getTotalPredictions(),
+                    stats.getCorrectPredictions(),
+                    stats.getCurrentStreak(),
+                    toTimestamp(stats.getLastPredictionAt()),
+                    Date.valueOf(stats.getCountedThrough()),
+                    stats.isStreakStale(),
+                    Timestamp.valueOf(stats.getUpdatedAt()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 읽어 둔 version이 그대로일 때만 재계산 결과로 덮어쓴다.
+     *
+     * @return 그 사이 정산 증분이 반영되어 덮어쓰지 못했으면 false
+     */
+    public boolean overwrite(UserPredictionStats stats, long expectedVersion) {
+        int updated = jdbcTemplate.update(OVERWRITE_SQL,
+                stats.getTotalPredictions(),
+                stats.getCorrectPredictions(),
+                stats.getCurrentStreak(),
+                toTimestamp(stats.getLastPredictionAt()),
+                Date.valueOf(stats.getCountedThrough()),
+                stats.isStreakStale(),
+                Timestamp.valueOf(stats.getUpdatedAt()),
+                stats.getUserId(),
+                expectedVersion);
+        return updated > 0;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.prediction;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserPredictionStatsRepository extends JpaRepository<UserPredictionStats, Long> {
+
+	// 정합성 점검용 user_id 키셋 페이지
+	List<UserPredictionStats> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Pageable pageable);
+}
@@ -0,0 +1,240 @@
+package com.example.prediction;
+
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.repository.PredictionStatsGameProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 예측 적중률/스트릭 통계 서비스
+ *
+ * user_prediction_stats 행을 읽어 통계를 돌려주고, 행이 없거나 스트릭을 다시 계산해야 하면
+ * 사용자의 전체 예측을 재집계해 행을 만든다(rebuild).
+ * - 재계산은 어제까지의 완료 경기와, 오늘 경기 중 이미 정산된 경기만 반영한다.
+ *   아직 정산되지 않은 오늘 경기는 PredictionSettlementService가 정산하면서 증분으로 더한다.
+ * - 재계산 결과는 읽어 둔 version이 그대로일 때만 저장하므로 동시에 들어온 정산 증분을 덮어쓰지 않는다.
+ * - 비활성화되면 행 없이 매번 전체 재집계 결과를 돌려준다.
+ */
+@Service
+@Slf4j
+public class UserPredictionStatsService {
+
+    private static final Snapshot EMPTY = new Snapshot(0, 0, 0, null);
+
+    private final PredictionRepository predictionRepository;
+    private final GameRepository gameRepository;
+    private final UserPredictionStatsRepository statsRepository;
+    private final UserPredictionStatsJdbcRepository statsJdbcRepository;
+    private final boolean enabled;
+    private final Counter rowReadCounter;
+    private final Counter rebuildReadCounter;
+
+    /** 전체 재집계 결과 */
+    record Snapshot(int totalPredictions, int correctPredictions, int streak, LocalDateTime lastPredictionAt) {
+    }
+
+    @Autowired
+    public UserPredictionStatsService(
+            PredictionRepository predictionRepository,
+            GameRepository gameRepository,
+            UserPredictionStatsRepository statsRepository,
+            UserPredictionStatsJdbcRepository statsJdbcRepository,
+            @Nullable MeterRegistry meterRegistry,
+            @Value("${app.prediction.user-stats.enabled:true}") boolean enabled) {
+        this.predictionRepository = predictionRepository;
+        this.gameRepository = gameRepository;
+        this.statsRepository = statsRepository;
+        this.statsJdbcRepository = statsJdbcRepository;
+        this.enabled = enabled && statsRepository != null && statsJdbcRepository != null;
+        this.rowReadCounter = meterRegistry == null ? null : Counter.builder("prediction.user_stats.reads")
+                .tag("source", "row")
+                .register(meterRegistry);
+        this.rebuildReadCounter = meterRegistry == null ? null : Counter.builder("prediction.user_stats.reads")
+                .tag("source", "rebuild")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 통계 행 없이 매번 전체 재집계하는 인스턴스.
+     */
+    public static UserPredictionStatsService recomputeOnly(
+            PredictionRepository predictionRepository,
+            GameRepository gameRepository) {
+        return new UserPredictionStatsService(predictionRepository, gameRepository, null, null, null, false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UserPredictionStatsDto getStats(Long userId) {
+        Objects.requireNonNull(userId);
+        if (!enabled) {
+            return toDto(recompute(userId, null));
+        }
+
+        UserPredictionStats current = statsRepository.findById(userId).orElse(null);
+        if (current != null && !current.isStreakStale()) {
+            increment(rowReadCounter);
+            return toDto(current.getTotalPredictions(), current.getCorrectPredictions(), current.getCurrentStreak());
+        }
+
+        UserPredictionStats rebuilt = computeMaterialized(userId);
+        store(rebuilt, current);
+        increment(rebuildReadCounter);
+        return toDto(rebuilt.getTotalPredictions(), rebuilt.getCorrectPredictions(), rebuilt.getCurrentStreak());
+    }
+
+    /**
+     * 사용자의 전체 예측을 재집계해 저장할 통계 행을 만든다. 저장은 하지 않는다.
+     */
+    UserPredictionStats computeMaterialized(Long userId) {
+        LocalDate countedThrough = LocalDate.now().minusDays(1);
+        Snapshot snapshot = recompute(userId, countedThrough);
+        return UserPredictionStats.builder()
+                .userId(userId)
+                .totalPredictions(snapshot.totalPredictions())
+                .correctPredictions(snapshot.correctPredictions())
+                .currentStreak(snapshot.streak())
+                .lastPredictionAt(snapshot.lastPredictionAt())
+                .countedThrough(countedThrough)
+                .streakStale(false)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 재집계한 통계 행을 저장한다.
+     *
+     * @param rebuilt 재집계 결과
+     * @param current 재집계 전에 읽어 둔 행 (없으면 null)
+     * @return 저장했으면 true, 그 사이 다른 경로가 행을 만들거나 증분을 반영했으면 false
+     */
+    boolean store(UserPredictionStats rebuilt, @Nullable UserPredictionStats current) {
+        boolean stored = current == null
+                ? statsJdbcRepository.insert(rebuilt)
+                : statsJdbcRepository.overwrite(rebuilt, current.getVersion());
+        if (!stored) {
+            // 다음 조회나 정합성 점검에서 다시 재집계한다.
+            log.debug("Skipped storing rebuilt prediction stats for user {} due to a concurrent update", rebuilt.getUserId());
+        }
+        return stored;
+    }
+
+    /**
+     * 사용자의 예측을 완료 경기 기준으로 재집계한다.
+     *
+     * @param countedThrough 이 날짜 이후 경기는 정산된 경우에만 반영 (null이면 모든 완료 경기 반영)
+     */
+    Snapshot recompute(Long userId, @Nullable LocalDate countedThrough) {
+        List<PredictionStatsRowProjection> predictions = predictionRepository
+                .findStatsRowsByUserIdOrderByCreatedAtDesc(userId);
+        if (predictions.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<String> gameIds = predictions.stream()
+                .map(PredictionStatsRowProjection::getGameId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        List<PredictionStatsGameProjection> finishedGames = gameIds.isEmpty()
+                ? List.of()
+                : gameRepository.findPredictionStatsGameSummaries(gameIds, PredictionService.QUERYABLE_TEAM_CODES);
+
+        if (countedThrough != null) {
+            List<String> recentGameIds = finishedGames.stream()
+                    .filter(game -> game.getGameDate() == null || game.getGameDate().isAfter(countedThrough))
+                    .map(PredictionStatsGameProjection::getGameId)
+                    .toList();
+            if (!recentGameIds.isEmpty()) {
+                Set<String> settledGameIds = new HashSet<>(
+                        predictionRepository.findSettledGameIdsByUserIdAndGameIdIn(userId, recentGameIds));
+                finishedGames = finishedGames.stream()
+                        .filter(game -> !recentGameIds.contains(game.getGameId())
+                                || settledGameIds.contains(game.getGameId()))
+                        .toList();
+            }
+        }
+
+        Map<String, String> winnerByGameId = finishedGames.stream()
+                .collect(Collectors.toMap(PredictionStatsGameProjection::getGameId, PredictionStatsGameProjection::getWinner));
+        return calculate(predictions, winnerByGameId);
+    }
+
+    /**
+     * @param predictions    사용자의 예측 (최신순)
+     * @param winnerByGameId 통계에 반영할 완료 경기의 승자
+     */
+    static Snapshot calculate(List<PredictionStatsRowProjection> predictions, Map<String, String> winnerByGameId) {
+        // 집계 루프 (전체 순회, 총 완료 + 정답 수)
+        int totalFinished = 0;
+        int correctCount = 0;
+        LocalDateTime lastPredictionAt = null;
+        for (PredictionStatsRowProjection prediction : predictions) {
+            String actualWinner = winnerByGameId.get(prediction.getGameId());
+            if (actualWinner == null) continue;
+            if (totalFinished == 0) {
+                lastPredictionAt = prediction.getCreatedAt();
+            }
+            totalFinished++;
+            if (prediction.getVotedTeam().equalsIgnoreCase(actualWinner)) {
+                correctCount++;
+            }
+        }
+
+        // 스트릭 루프 (최근 50개 완료 경기만, 최신순으로 정렬됨)
+        int currentStreak = 0;
+        int finishedForStreak = 0;
+        for (PredictionStatsRowProjection prediction : predictions) {
+            if (finishedForStreak >= UserPredictionStats.STREAK_WINDOW) break;
+            String actualWinner = winnerByGameId.get(prediction.getGameId());
+            if (actualWinner == null) continue;
+            finishedForStreak++;
+            if (prediction.getVotedTeam().equalsIgnoreCase(actualWinner)) {
+                currentStreak++;
+            } else {
+                break;
+            }
+        }
+
+        return new Snapshot(totalFinished, correctCount, currentStreak, lastPredictionAt);
+    }
+
+    static UserPredictionStatsDto toDto(Snapshot snapshot) {
+        return toDto(snapshot.totalPredictions(), snapshot.correctPredictions(), snapshot.streak());
+    }
+
+    static UserPredictionStatsDto toDto(int totalPredictions, int correctPredictions, int streak) {
+        double accuracy = totalPredictions > 0
+                ? Math.round((correctPredictions * 100.0 / totalPredictions) * 10.0) / 10.0
+                : 0.0;
+        return Objects.requireNonNull(
+                UserPredictionStatsDto.builder()
+                        .totalPredictions(totalPredictions)
+                        .correctPredictions(correctPredictions)
+                        .accuracy(accuracy)
+                        .streak(streak)
+                        .build());
+    }
+
+    private static void increment(@Nullable Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.prediction;
+
+import com.example.common.config.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 예측 통계 backfill/정합성 점검
+ *
+ * - backfill: 예측이 있지만 통계 행이 없는 사용자의 행을 전체 재집계로 만든다.
+ * - verify: 통계 행을 전체 재집계 결과와 비교해 어긋난 행을 다시 쓰고 drift 지표를 남긴다.
+ * 두 작업 모두 version 조건부로만 저장하므로 정산 증분과 동시에 실행되어도 값을 잃지 않는다.
+ */
+@Service
+@Slf4j
+public class UserPredictionStatsVerifier {
+
+    static final int PAGE_SIZE = 200;
+
+    private final UserPredictionStatsService statsService;
+    private final UserPredictionStatsRepository statsRepository;
+    private final PredictionRepository predictionRepository;
+    private final CacheManager cacheManager;
+    private final Counter totalDriftCounter;
+    private final Counter correctDriftCounter;
+    private final Counter streakDriftCounter;
+
+    public record BackfillReport(int scanned, int created) {
+    }
+
+    public record VerifyReport(int checked, int mismatched, int repaired) {
+    }
+
+    public UserPredictionStatsVerifier(
+            UserPredictionStatsService statsService,
+            UserPredictionStatsRepository statsRepository,
+            PredictionRepository predictionRepository,
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry) {
+        this.statsService = statsService;
+        this.statsRepository = statsRepository;
+        this.predictionRepository = predictionRepository;
+        this.cacheManager = cacheManager;
+        this.totalDriftCounter = driftCounter(meterRegistry, "total");
+        this.correctDriftCounter = driftCounter(meterRegistry, "correct");
+        this.streakDriftCounter = driftCounter(meterRegistry, "streak");
+    }
+
+    public BackfillReport backfill() {
+        if (!statsService.isEnabled()) {
+            return new BackfillReport(0, 0);
+        }
+
+        int scanned = 0;
+        int created = 0;
+        Long lastUserId = 0L;
+        while (true) {
+            List<Long> userIds = predictionRepository.findDistinctUserIdsAfter(lastUserId, PageRequest.of(0, PAGE_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Set<Long> existing = statsRepository.findAllById(userIds).stream()
+                    .map(UserPredictionStats::getUserId)
+                    .collect(Collectors.toSet());
+            for (Long userId : userIds) {
+                scanned++;
+                if (existing.contains(userId)) {
+                    continue;
+                }
+                try {
+                    if (statsService.store(statsService.computeMaterialized(userId), null)) {
+                        created++;
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to backfill prediction stats for user {}: {}", userId, e.getMessage());
+                }
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+            if (userIds.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        log.info("Prediction stats backfill finished: scanned={}, created={}", scanned, created);
+        return new BackfillReport(scanned, created);
+    }
+
+    public VerifyReport verify() {
+        if (!statsService.isEnabled()) {
+            return new VerifyReport(0, 0, 0);
+        }
+
+        int checked = 0;
+        int mismatched = 0;
+        int repaired = 0;
+        Long lastUserId = 0L;
+        Cache cache = cacheManager.getCache(CacheConfig.PREDICTION_USER_STATS);
+        while (true) {
+            List<UserPredictionStats> page = statsRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                    lastUserId, PageRequest.of(0, PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (UserPredictionStats current : page) {
+                checked++;
+                try {
+                    UserPredictionStats expected = statsService.computeMaterialized(current.getUserId());
+                    if (!recordDrift(current, expected)) {
+                        continue;
+                    }
+                    mismatched++;
+                    if (statsService.store(expected, current)) {
+                        repaired++;
+                        if (cache != null) {
+                            cache.evict(current.getUserId());
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to verify prediction stats for user {}: {}", current.getUserId(), e.getMessage());
+                }
+            }
+            lastUserId = page.get(page.size() - 1).getUserId();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        if (mismatched > 0) {
+            log.warn("Prediction stats verify found drift: checked={}, mismatched={}, repaired={}",
+                    checked, mismatched, repaired);
+        } else {
+            log.info("Prediction stats verify finished: checked={}, no drift", checked);
+        }
+        return new VerifyReport(checked, mismatched, repaired);
+    }
+
+    /**
+     * @return 재집계 결과와 다르면 true (스트릭 재계산 대기 중인 행 포함)
+     */
+    private boolean recordDrift(UserPredictionStats current, UserPredictionStats expected) {
+        boolean drifted = current.isStreakStale();
+        if (current.getTotalPredictions() != expected.getTotalPredictions()) {
+            totalDriftCounter.increment();
+            drifted = true;
+        }
+        if (current.getCorrectPredictions() != expected.getCorrectPredictions()) {
+            correctDriftCounter.increment();
+            drifted = true;
+        }
+        if (current.getCurrentStreak() != expected.getCurrentStreak()) {
+            streakDriftCounter.increment();
+            drifted = true;
+        }
+        return drifted;
+    }
+
+    private static Counter driftCounter(MeterRegistry meterRegistry, String field) {
+        return Counter.builder("prediction.user_stats.drift")
+                .description("User prediction stats rows that differed from a full recompute")
+                .tag("field", field)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.prediction.scheduler;
+
+import java.util.UUID;
+
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.common.realtime.RealtimeMessageDispatcher;
+import com.example.common.realtime.RealtimeMessageEnvelope;
+import com.example.prediction.GameLiveHub;
+import com.example.prediction.GameLiveRelayService;
+import com.example.prediction.GameLiveService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중 경기 문자중계 tailer.
+ * GameLiveHub에 등록된 경기마다 새 이벤트/중계 행을 한 번씩 읽어 버퍼를 갱신하고,
+ * 새 행이 있으면 증분을 이 노드의 /topic/live/{gameId}, /topic/live-relay/{gameId} 구독자에게 보낸다.
+ * 모든 노드가 각자 tail하므로 Redis 전송을 거치지 않고 노드 로컬 브로커로만 보낸다.
+ * 폴링이 끊긴 경기도 구독자가 남아 있으면 계속 tail하고, 종료되거나 아무도 보지 않으면 등록을 해제한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameLiveTailScheduler {
+
+	static final String LIVE_TOPIC_PREFIX = "/topic/live/";
+	static final String LIVE_RELAY_TOPIC_PREFIX = "/topic/live-relay/";
+
+	private final GameLiveHub gameLiveHub;
+	private final GameLiveService gameLiveService;
+	private final GameLiveRelayService gameLiveRelayService;
+	private final RealtimeMessageDispatcher realtimeMessageDispatcher;
+	private final SimpUserRegistry simpUserRegistry;
+	private final ObjectMapper objectMapper;
+
+	@Scheduled(
+			fixedDelayString = "${app.baseball.live-hub.tail-fixed-delay-ms:2000}",
+			initialDelayString = "${app.baseball.live-hub.tail-initial-delay-ms:10000}")
+	public void tailLiveGames() {
+		if (!gameLiveHub.isEnabled()) {
+			return;
+		}
+		for (String gameId : gameLiveHub.trackedGameIds()) {
+			try {
+				tailGame(gameId);
+			} catch (Exception e) {
+				log.warn("Live game tail failed: gameId={}, error={}", gameId, e.getMessage());
+			}
+		}
+	}
+
+	void tailGame(String gameId) {
+		if (gameLiveHub.isIdle(gameId)) {
+			if (!hasSubscribers(gameId)) {
+				gameLiveHub.untrack(gameId);
+				return;
+			}
+			gameLiveHub.touch(gameId);
+		}
+
+		GameLiveHub.TailResult result = gameLiveHub.tail(gameId);
+		if (!result.tracked()) {
+			return;
+		}
+		if (result.newEvents() > 0) {
+			gameLiveService.buildLiveDelta(gameId, result.previousLastEventSeq())
+					.ifPresent(delta -> push(LIVE_TOPIC_PREFIX + gameId, delta));
+		}
+		if (result.newRelays() > 0) {
+			gameLiveRelayService.buildRelayDelta(gameId, result.previousLastRelayId())
+					.ifPresent(delta -> push(LIVE_RELAY_TOPIC_PREFIX + gameId, delta));
+		}
+		if (result.finished()) {
+			gameLiveHub.untrack(gameId);
+			log.info("Live game tail stopped: gameId={}", gameId);
+		}
+	}
+
+	private boolean hasSubscribers(String gameId) {
+		String liveTopic = LIVE_TOPIC_PREFIX + gameId;
+		String relayTopic = LIVE_RELAY_TOPIC_PREFIX + gameId;
+		return !simpUserRegistry.findSubscriptions(subscription -> liveTopic.equals(subscription.getDestination())
+				|| relayTopic.equals(subscription.getDestination())).isEmpty();
+	}
+
+	private void push(String destination, Object payload) {
+		realtimeMessageDispatcher.dispatch(RealtimeMessageEnvelope.broadcast(
+				UUID.randomUUID().toString(),
+				destination,
+				objectMapper.valueToTree(payload)));
+	}
+}
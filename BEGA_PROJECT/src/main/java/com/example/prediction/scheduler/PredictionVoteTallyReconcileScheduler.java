@@ -0,0 +1,45 @@
+package com.example.prediction.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.prediction.PredictionVoteTallyReconciler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예측 투표 집계 보정 스케줄러.
+ * Redis 투표 집계를 주기적으로 DB 집계와 비교해 누락된 증감이나 Redis 장애로 어긋난 값을 바로잡는다.
+ */
+@Component
+@Slf4j
+public class PredictionVoteTallyReconcileScheduler {
+
+	private final PredictionVoteTallyReconciler reconciler;
+	private final boolean enabled;
+
+	public PredictionVoteTallyReconcileScheduler(
+			PredictionVoteTallyReconciler reconciler,
+			@Value("${app.prediction.vote-tally.reconcile.enabled:true}") boolean enabled) {
+		this.reconciler = reconciler;
+		this.enabled = enabled;
+	}
+
+	@Scheduled(
+			fixedDelayString = "${app.prediction.vote-tally.reconcile.fixed-delay-ms:60000}",
+			initialDelayString = "${app.prediction.vote-tally.reconcile.initial-delay-ms:60000}")
+	public void reconcileVoteTallies() {
+		if (!enabled) {
+			log.debug("Skipping prediction vote tally reconcile because "
+					+ "app.prediction.vote-tally.reconcile.enabled=false");
+			return;
+		}
+
+		try {
+			reconciler.runReconcile();
+		} catch (Exception e) {
+			log.error("Error reconciling prediction vote tallies: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.prediction.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.prediction.UserPredictionStatsVerifier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 예측 통계 유지보수 스케줄러.
+ * 새벽 경기 정산이 끝난 뒤 통계 행이 없는 사용자를 채우고(backfill), 기존 행을 전체 재집계와 비교해 보정한다.
+ */
+@Component
+@Slf4j
+public class UserPredictionStatsScheduler {
+
+	private final UserPredictionStatsVerifier verifier;
+	private final boolean backfillEnabled;
+	private final boolean verifyEnabled;
+
+	public UserPredictionStatsScheduler(
+			UserPredictionStatsVerifier verifier,
+			@Value("${app.prediction.user-stats.backfill.enabled:true}") boolean backfillEnabled,
+			@Value("${app.prediction.user-stats.verify.enabled:true}") boolean verifyEnabled) {
+		this.verifier = verifier;
+		this.backfillEnabled = backfillEnabled;
+		this.verifyEnabled = verifyEnabled;
+	}
+
+	@Scheduled(cron = "${app.prediction.user-stats.maintenance-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+	public void maintainUserPredictionStats() {
+		if (backfillEnabled) {
+			try {
+				verifier.backfill();
+			} catch (Exception e) {
+				log.error("Error backfilling user prediction stats: {}", e.getMessage(), e);
+			}
+		}
+
+		if (verifyEnabled) {
+			try {
+				verifier.verify();
+			} catch (Exception e) {
+				log.error("Error verifying user prediction stats: {}", e.getMessage(), e);
+			}
+		}
+	}
+}
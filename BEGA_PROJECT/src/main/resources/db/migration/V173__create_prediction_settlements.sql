@@ -0,0 +1,33 @@
+-- V173: Idempotency markers for batched game prediction settlement (Oracle)
+
+DECLARE
+    v_table_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_table_count
+      FROM user_tables
+     WHERE table_name = 'PREDICTION_SETTLEMENTS';
+
+    IF v_table_count = 0 THEN
+        EXECUTE IMMEDIATE q'[
+            CREATE TABLE prediction_settlements (
+                prediction_id NUMBER(19) PRIMARY KEY,
+                user_id NUMBER(19) NOT NULL,
+                game_id VARCHAR2(50) NOT NULL,
+                outcome VARCHAR2(20) NOT NULL,
+                settled_at TIMESTAMP(6) NOT NULL
+            )
+        ]';
+    END IF;
+END;
+/
+
+DECLARE
+    v_index_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_index_count FROM user_indexes
+     WHERE index_name = 'IDX_PRED_SETTLEMENT_GAME';
+    IF v_index_count = 0 THEN
+        EXECUTE IMMEDIATE 'CREATE INDEX idx_pred_settlement_game ON prediction_settlements(game_id)';
+    END IF;
+END;
+/
@@ -0,0 +1,26 @@
+-- V174: Materialized per-user prediction stats maintained by game settlement (Oracle)
+
+DECLARE
+    v_table_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_table_count
+      FROM user_tables
+     WHERE table_name = 'USER_PREDICTION_STATS';
+
+    IF v_table_count = 0 THEN
+        EXECUTE IMMEDIATE q'[
+            CREATE TABLE user_prediction_stats (
+                user_id NUMBER(19) PRIMARY KEY,
+                total_predictions NUMBER(10) DEFAULT 0 NOT NULL,
+                correct_predictions NUMBER(10) DEFAULT 0 NOT NULL,
+                current_streak NUMBER(10) DEFAULT 0 NOT NULL,
+                last_prediction_at TIMESTAMP(6),
+                counted_through DATE NOT NULL,
+                streak_stale NUMBER(1) DEFAULT 0 NOT NULL,
+                version NUMBER(19) DEFAULT 0 NOT NULL,
+                updated_at TIMESTAMP(6) NOT NULL
+            )
+        ]';
+    END IF;
+END;
+/
@@ -0,0 +1,34 @@
+-- V175: 비동기 이미지 파생본(thumbnail/feed/full)을 원본 object key 기준으로 기록 (Oracle)
+
+DECLARE
+    e_column_exists EXCEPTION;
+    PRAGMA EXCEPTION_INIT(e_column_exists, -1430); -- ORA-01430
+BEGIN
+    BEGIN
+        EXECUTE IMMEDIATE 'ALTER TABLE media_assets ADD (source_object_key VARCHAR2(2048))';
+    EXCEPTION
+        WHEN e_column_exists THEN NULL;
+    END;
+
+    BEGIN
+        EXECUTE IMMEDIATE 'ALTER TABLE media_assets ADD (variant VARCHAR2(16))';
+    EXCEPTION
+        WHEN e_column_exists THEN NULL;
+    END;
+END;
+/
+
+DECLARE
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*)
+      INTO v_count
+      FROM user_indexes
+     WHERE table_name = 'MEDIA_ASSETS'
+       AND index_name = 'UK_MEDIA_ASSETS_SOURCE_VARIANT';
+
+    IF v_count = 0 THEN
+        EXECUTE IMMEDIATE 'CREATE UNIQUE INDEX uk_media_assets_source_variant ON media_assets(source_object_key, variant)';
+    END IF;
+END;
+/
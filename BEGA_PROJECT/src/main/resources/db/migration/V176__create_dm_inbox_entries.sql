@@ -0,0 +1,79 @@
+-- V176: Denormalized DM inbox projection, one row per (user, room) (Oracle)
+
+DECLARE
+    v_table_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_table_count
+      FROM user_tables
+     WHERE table_name = 'DM_INBOX_ENTRIES';
+
+    IF v_table_count = 0 THEN
+        EXECUTE IMMEDIATE q'[
+            CREATE TABLE dm_inbox_entries (
+                user_id NUMBER(19) NOT NULL,
+                room_id NUMBER(19) NOT NULL,
+                counterpart_id NUMBER(19) NOT NULL,
+                last_message_id NUMBER(19),
+                last_message_content VARCHAR2(1000 CHAR),
+                last_message_sender_id NUMBER(19),
+                last_activity_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+                unread_count NUMBER(10) DEFAULT 0 NOT NULL,
+                updated_at TIMESTAMP(6) WITH TIME ZONE DEFAULT SYSTIMESTAMP NOT NULL,
+                CONSTRAINT pk_dm_inbox_entries PRIMARY KEY (user_id, room_id),
+                CONSTRAINT fk_dm_inbox_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+                CONSTRAINT fk_dm_inbox_room FOREIGN KEY (room_id) REFERENCES dm_rooms(id) ON DELETE CASCADE
+            )
+        ]';
+    END IF;
+END;
+/
+
+DECLARE
+    v_index_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_index_count FROM user_indexes
+     WHERE index_name = 'IDX_DM_INBOX_USER_ACTIVITY';
+    IF v_index_count = 0 THEN
+        EXECUTE IMMEDIATE 'CREATE INDEX idx_dm_inbox_user_activity '
+            || 'ON dm_inbox_entries (user_id, last_activity_at DESC, room_id DESC)';
+    END IF;
+END;
+/
+
+-- 기존 대화방 backfill: 마지막 메시지와 상대방이 보낸 읽지 않은 메시지 수
+INSERT INTO dm_inbox_entries (
+    user_id, room_id, counterpart_id,
+    last_message_id, last_message_content, last_message_sender_id,
+    last_activity_at, unread_count, updated_at)
+SELECT p.user_id,
+       p.room_id,
+       p.counterpart_id,
+       lm.id,
+       lm.content,
+       lm.sender_id,
+       COALESCE(lm.created_at, p.room_created_at),
+       (SELECT COUNT(*)
+          FROM dm_messages m
+         WHERE m.room_id = p.room_id
+           AND m.sender_id <> p.user_id
+           AND (p.last_read_at IS NULL OR m.created_at > p.last_read_at)),
+       SYSTIMESTAMP
+  FROM (
+        SELECT r.id AS room_id, r.created_at AS room_created_at,
+               r.participant_one_id AS user_id, r.participant_two_id AS counterpart_id,
+               r.participant_one_last_read_at AS last_read_at
+          FROM dm_rooms r
+        UNION ALL
+        SELECT r.id, r.created_at,
+               r.participant_two_id, r.participant_one_id,
+               r.participant_two_last_read_at
+          FROM dm_rooms r
+       ) p
+  LEFT JOIN (
+        SELECT m.room_id, m.id, m.content, m.sender_id, m.created_at,
+               ROW_NUMBER() OVER (PARTITION BY m.room_id ORDER BY m.created_at DESC, m.id DESC) AS rn
+          FROM dm_messages m
+       ) lm ON lm.room_id = p.room_id AND lm.rn = 1
+ WHERE NOT EXISTS (
+        SELECT 1 FROM dm_inbox_entries e
+         WHERE e.user_id = p.user_id AND e.room_id = p.room_id);
@@ -0,0 +1,34 @@
+-- V177: Add (createdat, id) keyset indexes for cursor-based Cheer feed pagination on Oracle.
+
+DECLARE
+    v_table_count NUMBER;
+    v_index_count NUMBER;
+BEGIN
+    SELECT COUNT(*)
+      INTO v_table_count
+      FROM user_tables
+     WHERE table_name = 'CHEER_POST';
+
+    IF v_table_count > 0 THEN
+        SELECT COUNT(*)
+          INTO v_index_count
+          FROM user_indexes
+         WHERE table_name = 'CHEER_POST'
+           AND index_name = 'IDX_CHEER_POST_CREATED_ID';
+
+        IF v_index_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_post_created_id ON cheer_post(createdat DESC, id DESC)';
+        END IF;
+
+        SELECT COUNT(*)
+          INTO v_index_count
+          FROM user_indexes
+         WHERE table_name = 'CHEER_POST'
+           AND index_name = 'IDX_CHEER_POST_TEAM_CREATED_ID';
+
+        IF v_index_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_post_team_created_id ON cheer_post(team_id, createdat DESC, id DESC)';
+        END IF;
+    END IF;
+END;
+/
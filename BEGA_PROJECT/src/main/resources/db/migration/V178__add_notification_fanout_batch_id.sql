@@ -0,0 +1,37 @@
+-- V178: Tag bulk notification fan-out rows with a per-chunk batch id so the JDBC batch insert
+-- can read back exactly its own rows (Oracle returns no generated keys for batched INSERTs).
+
+DECLARE
+    v_table_count NUMBER;
+    v_column_count NUMBER;
+    v_index_count NUMBER;
+BEGIN
+    SELECT COUNT(*)
+      INTO v_table_count
+      FROM user_tables
+     WHERE table_name = 'NOTIFICATIONS';
+
+    IF v_table_count > 0 THEN
+        SELECT COUNT(*)
+          INTO v_column_count
+          FROM user_tab_cols
+         WHERE table_name = 'NOTIFICATIONS'
+           AND column_name = 'FANOUT_BATCH_ID';
+
+        IF v_column_count = 0 THEN
+            EXECUTE IMMEDIATE 'ALTER TABLE notifications ADD fanout_batch_id VARCHAR2(36 CHAR)';
+        END IF;
+
+        SELECT COUNT(*)
+          INTO v_index_count
+          FROM user_indexes
+         WHERE table_name = 'NOTIFICATIONS'
+           AND index_name = 'IDX_NOTIFICATIONS_FANOUT_BATCH';
+
+        -- NULL만 있는 행은 B-tree 인덱스에 들어가지 않으므로 fan-out 행만 색인된다.
+        IF v_index_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX idx_notifications_fanout_batch ON notifications(fanout_batch_id)';
+        END IF;
+    END IF;
+END;
+/
@@ -0,0 +1,35 @@
+-- V7: 팀 순위 projection
+-- team_standings: 시즌/팀별 W/L/D, 순위, 승차, 최근 5경기 (최신순 문자열, 예: WLDWW)
+-- team_standing_games: projection에 반영된 경기 ledger (재반영/점수 정정 시 이전 결과를 되돌리는 기준)
+
+CREATE TABLE IF NOT EXISTS team_standings (
+    season_year INTEGER NOT NULL,
+    team_id VARCHAR(20) NOT NULL,
+    wins INTEGER NOT NULL DEFAULT 0,
+    losses INTEGER NOT NULL DEFAULT 0,
+    draws INTEGER NOT NULL DEFAULT 0,
+    games_played INTEGER NOT NULL DEFAULT 0,
+    season_rank INTEGER,
+    games_behind NUMERIC(5, 1),
+    recent_form VARCHAR(5) NOT NULL DEFAULT '',
+    last_game_date DATE,
+    last_game_id VARCHAR(20),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_team_standings PRIMARY KEY (season_year, team_id)
+);
+
+CREATE TABLE IF NOT EXISTS team_standing_games (
+    game_id VARCHAR(20) NOT NULL,
+    season_year INTEGER NOT NULL,
+    game_date DATE,
+    home_team_id VARCHAR(20),
+    away_team_id VARCHAR(20),
+    home_result CHAR(1) NOT NULL,
+    CONSTRAINT pk_team_standing_games PRIMARY KEY (game_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_team_standing_games_home_recent
+    ON team_standing_games (season_year, home_team_id, game_date DESC, game_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_team_standing_games_away_recent
+    ON team_standing_games (season_year, away_team_id, game_date DESC, game_id DESC);
@@ -0,0 +1,12 @@
+-- V179: Idempotency markers for batched game prediction settlement (PostgreSQL)
+
+CREATE TABLE IF NOT EXISTS prediction_settlements (
+    prediction_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    game_id VARCHAR(50) NOT NULL,
+    outcome VARCHAR(20) NOT NULL,
+    settled_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_pred_settlement_game
+    ON prediction_settlements(game_id);
@@ -0,0 +1,13 @@
+-- V180: Materialized per-user prediction stats maintained by game settlement (PostgreSQL)
+
+CREATE TABLE IF NOT EXISTS user_prediction_stats (
+    user_id BIGINT PRIMARY KEY,
+    total_predictions INTEGER NOT NULL DEFAULT 0,
+    correct_predictions INTEGER NOT NULL DEFAULT 0,
+    current_streak INTEGER NOT NULL DEFAULT 0,
+    last_prediction_at TIMESTAMP,
+    counted_through DATE NOT NULL,
+    streak_stale BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL
+);
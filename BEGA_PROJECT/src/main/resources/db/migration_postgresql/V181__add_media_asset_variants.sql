@@ -0,0 +1,7 @@
+-- V181: 비동기 이미지 파생본(thumbnail/feed/full)을 원본 object key 기준으로 기록 (PostgreSQL)
+
+ALTER TABLE media_assets ADD COLUMN IF NOT EXISTS source_object_key VARCHAR(2048);
+ALTER TABLE media_assets ADD COLUMN IF NOT EXISTS variant VARCHAR(16);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_media_assets_source_variant
+    ON media_assets (source_object_key, variant);
@@ -0,0 +1,49 @@
+-- V183: Denormalized DM inbox projection, one row per (user, room) (PostgreSQL)
+
+CREATE TABLE IF NOT EXISTS dm_inbox_entries (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    room_id BIGINT NOT NULL REFERENCES dm_rooms(id) ON DELETE CASCADE,
+    counterpart_id BIGINT NOT NULL,
+    last_message_id BIGINT,
+    last_message_content VARCHAR(1000),
+    last_message_sender_id BIGINT,
+    last_activity_at TIMESTAMPTZ NOT NULL,
+    unread_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, room_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_dm_inbox_user_activity
+    ON dm_inbox_entries (user_id, last_activity_at DESC, room_id DESC);
+
+-- 기존 대화방 backfill: 마지막 메시지와 상대방이 보낸 읽지 않은 메시지 수
+INSERT INTO dm_inbox_entries (
+    user_id, room_id, counterpart_id,
+    last_message_id, last_message_content, last_message_sender_id,
+    last_activity_at, unread_count, updated_at)
+SELECT p.user_id,
+       r.id,
+       p.counterpart_id,
+       lm.id,
+       lm.content,
+       lm.sender_id,
+       COALESCE(lm.created_at, r.created_at),
+       (SELECT COUNT(*)
+          FROM dm_messages m
+         WHERE m.room_id = r.id
+           AND m.sender_id <> p.user_id
+           AND (p.last_read_at IS NULL OR m.created_at > p.last_read_at)),
+       NOW()
+  FROM dm_rooms r
+ CROSS JOIN LATERAL (
+       VALUES (r.participant_one_id, r.participant_two_id, r.participant_one_last_read_at),
+              (r.participant_two_id, r.participant_one_id, r.participant_two_last_read_at)
+       ) AS p(user_id, counterpart_id, last_read_at)
+  LEFT JOIN LATERAL (
+       SELECT m.id, m.content, m.sender_id, m.created_at
+         FROM dm_messages m
+        WHERE m.room_id = r.id
+        ORDER BY m.created_at DESC, m.id DESC
+        LIMIT 1
+       ) lm ON TRUE
+ON CONFLICT (user_id, room_id) DO NOTHING;
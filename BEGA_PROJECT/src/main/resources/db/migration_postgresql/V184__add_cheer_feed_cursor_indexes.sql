@@ -0,0 +1,7 @@
+-- V184: Add (createdat, id) keyset indexes for cursor-based Cheer feed pagination on PostgreSQL.
+
+CREATE INDEX IF NOT EXISTS idx_cheer_post_created_id
+    ON cheer_post (createdat DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_cheer_post_team_created_id
+    ON cheer_post (team_id, createdat DESC, id DESC);
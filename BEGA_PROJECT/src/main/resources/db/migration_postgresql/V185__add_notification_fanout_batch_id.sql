@@ -0,0 +1,9 @@
+-- V185: Tag bulk notification fan-out rows with a per-chunk batch id so the JDBC batch insert
+-- can read back exactly its own rows.
+
+ALTER TABLE notifications
+    ADD COLUMN IF NOT EXISTS fanout_batch_id VARCHAR(36);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_fanout_batch
+    ON notifications (fanout_batch_id)
+    WHERE fanout_batch_id IS NOT NULL;
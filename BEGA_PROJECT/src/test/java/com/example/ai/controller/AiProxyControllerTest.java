@@ -6,17 +6,22 @@ import com.example.ai.service.AiProxyService;
 import com.example.ai.service.AiProxyService.ProxyByteResponse;
 import com.example.ai.service.AiProxyService.ProxyStreamResponse;
 import com.example.ai.service.AiProxyStreamConcurrencyLimiter;
+import com.example.ai.service.AiStreamRelay;
+import com.example.ai.service.AiStreamRelay.Outcome;
 import com.example.ai.service.CoachAutoBriefMonitoringService;
 import com.example.common.exception.GlobalExceptionHandler;
 import com.example.common.ratelimit.RateLimit;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.OutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -53,6 +58,7 @@ class AiProxyControllerTest {
     private AiProxyService aiProxyService;
     private CoachAutoBriefMonitoringService coachAutoBriefMonitoringService;
     private AiProxyStreamConcurrencyLimiter streamConcurrencyLimiter;
+    private AiStreamRelay streamRelay;
 
     @BeforeEach
     void setup() {
@@ -63,11 +69,14 @@ class AiProxyControllerTest {
                 .serializeStreamError(any());
         coachAutoBriefMonitoringService = mock(CoachAutoBriefMonitoringService.class);
         streamConcurrencyLimiter = new AiProxyStreamConcurrencyLimiter(32, new SimpleMeterRegistry());
+        streamRelay = mock(AiStreamRelay.class);
+        relayWithOutcome(Outcome.COMPLETED);
         AiProxyController controller = new AiProxyController(
                 aiProxyService,
                 coachAutoBriefMonitoringService,
                 new AiProxyRequestLimits(4096, 4096, 1024 * 1024, 1024 * 1024 + 65536, 256 * 1024, 128 * 1024),
-                streamConcurrencyLimiter);
+                streamConcurrencyLimiter,
+                streamRelay);
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -217,19 +226,10 @@ class AiProxyControllerTest {
                                 bufferFactory.wrap("event: message\ndata: {\"delta\":\"안녕\"}\n\n".getBytes(StandardCharsets.UTF_8)),
                                 bufferFactory.wrap("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8))),
                         null));
-        willAnswer(invocation -> {
-            OutputStream outputStream = invocation.getArgument(1);
-            outputStream.write("event: message\ndata: {\"delta\":\"안녕\"}\n\ndata: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
-            return null;
-        }).given(aiProxyService).writeStream(any(), any());
 
-        MvcResult result = mockMvc.perform(post("/api/ai/chat/stream")
+        mockMvc.perform(post("/api/ai/chat/stream")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(payload))
-                .andExpect(request().asyncStarted())
-                .andReturn();
-
-        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
                 .andExpect(header().string("X-Accel-Buffering", "no"))
@@ -254,20 +254,11 @@ class AiProxyControllerTest {
                         headers,
                         Flux.just(bufferFactory.wrap("event: stream.done\ndata: {\"version\":2,\"type\":\"stream.done\",\"data\":{\"reason\":\"completed\"}}\n\n".getBytes(StandardCharsets.UTF_8))),
                         null));
-        willAnswer(invocation -> {
-            OutputStream outputStream = invocation.getArgument(1);
-            outputStream.write("event: stream.done\ndata: {\"version\":2,\"type\":\"stream.done\",\"data\":{\"reason\":\"completed\"}}\n\n".getBytes(StandardCharsets.UTF_8));
-            return null;
-        }).given(aiProxyService).writeStream(any(), any());
 
-        MvcResult result = mockMvc.perform(post("/api/ai/chat/stream")
+        mockMvc.perform(post("/api/ai/chat/stream")
                         .contentType(MediaType.APPLICATION_JSON)
                         .header("X-AI-Event-Version", "2")
                         .content(payload))
-                .andExpect(request().asyncStarted())
-                .andReturn();
-
-        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().string("X-AI-Event-Version", "2"))
                 .andExpect(content().string(containsString("event: stream.done")));
@@ -300,7 +291,7 @@ class AiProxyControllerTest {
                     .andExpect(jsonPath("$.success").doesNotExist());
 
             verify(aiProxyService, never()).forwardJsonStream(any(), any());
-            verify(aiProxyService, never()).writeStream(any(), any());
+            verify(streamRelay, never()).relay(any(), any(), any(), any());
             assertThat(saturatedLimiter.getAvailablePermits()).isZero();
         } finally {
             heldPermit.close();
@@ -359,7 +350,7 @@ class AiProxyControllerTest {
                 .andExpect(jsonPath("$.supported_versions").isArray())
                 .andExpect(jsonPath("$.success").doesNotExist());
 
-        verify(aiProxyService, never()).writeStream(any(), any());
+        verify(streamRelay, never()).relay(any(), any(), any(), any());
         assertThat(streamConcurrencyLimiter.getAvailablePermits())
                 .isEqualTo(streamConcurrencyLimiter.getMaxConcurrentStreams());
     }
@@ -392,7 +383,7 @@ class AiProxyControllerTest {
                 .andExpect(jsonPath("$.supported_versions").isEmpty())
                 .andExpect(content().string(org.hamcrest.Matchers.not(containsString("secret-bearing"))));
 
-        verify(aiProxyService, never()).writeStream(any(), any());
+        verify(streamRelay, never()).relay(any(), any(), any(), any());
         assertThat(streamConcurrencyLimiter.getAvailablePermits())
                 .isEqualTo(streamConcurrencyLimiter.getMaxConcurrentStreams());
     }
@@ -425,7 +416,7 @@ class AiProxyControllerTest {
                 .andExpect(jsonPath("$.supported_versions").isEmpty())
                 .andExpect(content().string(org.hamcrest.Matchers.not(containsString("secret-bearing"))));
 
-        verify(aiProxyService, never()).writeStream(any(), any());
+        verify(streamRelay, never()).relay(any(), any(), any(), any());
         assertThat(streamConcurrencyLimiter.getAvailablePermits())
                 .isEqualTo(streamConcurrencyLimiter.getMaxConcurrentStreams());
     }
@@ -449,19 +440,10 @@ class AiProxyControllerTest {
                                 bufferFactory.wrap("event: meta\ndata: {\"request_mode\":\"manual_detail\"}\n\n".getBytes(StandardCharsets.UTF_8)),
                                 bufferFactory.wrap("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8))),
                         null));
-        willAnswer(invocation -> {
-            OutputStream outputStream = invocation.getArgument(1);
-            outputStream.write("event: meta\ndata: {\"request_mode\":\"manual_detail\"}\n\ndata: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
-            return null;
-        }).given(aiProxyService).writeStream(any(), any());
 
-        MvcResult result = mockMvc.perform(post("/api/ai/coach/analyze")
+        mockMvc.perform(post("/api/ai/coach/analyze")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(payload))
-                .andExpect(request().asyncStarted())
-                .andReturn();
-
-        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
                 .andExpect(header().string("X-Accel-Buffering", "no"))
@@ -486,22 +468,44 @@ class AiProxyControllerTest {
                         headers,
                         Flux.empty(),
                         null));
-        willAnswer(invocation -> null).given(aiProxyService).writeStream(any(), any());
 
-        MvcResult result = mockMvc.perform(post("/api/ai/coach/analyze")
+        mockMvc.perform(post("/api/ai/coach/analyze")
                         .contentType(MediaType.APPLICATION_JSON)
                         .header("X-AI-Event-Version", "2")
                         .content(payload))
-                .andExpect(request().asyncStarted())
-                .andReturn();
-
-        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().string("X-AI-Event-Version", "2"));
 
         verify(aiProxyService).forwardJsonStream("/ai/coach/analyze", payload, "2");
     }
 
+    @Test
+    @DisplayName("coach analyze 중계가 클라이언트 이탈로 끝나도 소요 시간을 기록하고 permit을 반환한다")
+    void coachAnalyzeRelayInterruptedReleasesPermit() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_EVENT_STREAM);
+        String payload = "{\"home_team_id\":\"HH\",\"request_mode\":\"manual_detail\"}";
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        given(coachAutoBriefMonitoringService.extractRequestMode(eq(payload))).willReturn("manual_detail");
+        given(coachAutoBriefMonitoringService.extractAnalysisType(eq(payload))).willReturn("game_review");
+        given(aiProxyService.forwardJsonStream(eq("/ai/coach/analyze"), eq(payload)))
+                .willReturn(new ProxyStreamResponse(
+                        HttpStatus.OK,
+                        headers,
+                        Flux.just(bufferFactory.wrap("event: meta\ndata: {}\n\n".getBytes(StandardCharsets.UTF_8))),
+                        null));
+        relayWithOutcome(Outcome.CLIENT_DISCONNECTED);
+
+        mockMvc.perform(post("/api/ai/coach/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk());
+
+        verify(coachAutoBriefMonitoringService).recordCoachAnalyzeDuration(eq("manual_detail"), eq("game_review"), eq(200), anyLong());
+        assertThat(streamConcurrencyLimiter.getAvailablePermits())
+                .isEqualTo(streamConcurrencyLimiter.getMaxConcurrentStreams());
+    }
+
     @Test
     @DisplayName("coach analyze upstream 오류는 표준 JSON 에러 응답으로 변환된다")
     void coachAnalyzeUpstreamFailureReturnsStandardizedErrorResponse() throws Exception {
@@ -590,7 +594,7 @@ class AiProxyControllerTest {
                 .andExpect(jsonPath("$.success").doesNotExist());
 
         verify(aiProxyService, never()).forwardJsonStream(any(), any());
-        verify(aiProxyService, never()).writeStream(any(), any());
+        verify(streamRelay, never()).relay(any(), any(), any(), any());
         verify(coachAutoBriefMonitoringService).recordCoachAnalyzeDuration(any(), any(), eq(413), anyLong());
         assertThat(streamConcurrencyLimiter.getAvailablePermits())
                 .isEqualTo(streamConcurrencyLimiter.getMaxConcurrentStreams());
@@ -633,13 +637,39 @@ class AiProxyControllerTest {
     @DisplayName("AI 프록시 공개 사용자 엔드포인트는 fail-closed rate limit을 사용한다")
     void aiProxyUserEndpointsHaveFailClosedRateLimits() throws Exception {
         assertRateLimit("chatCompletion", new Class<?>[] {String.class}, 60, "ai:chat");
-        assertRateLimit("chatStream", new Class<?>[] {String.class, String.class}, 60, "ai:chat");
+        assertRateLimit(
+                "chatStream",
+                new Class<?>[] {String.class, String.class, HttpServletRequest.class, HttpServletResponse.class},
+                60,
+                "ai:chat");
         assertRateLimit(
                 "chatVoice",
                 new Class<?>[] {org.springframework.web.multipart.MultipartFile.class},
                 20,
                 "ai:chat_voice");
-        assertRateLimit("coachAnalyze", new Class<?>[] {String.class, String.class}, 25, "ai:coach");
+        assertRateLimit(
+                "coachAnalyze",
+                new Class<?>[] {String.class, String.class, HttpServletRequest.class, HttpServletResponse.class},
+                25,
+                "ai:coach");
+    }
+
+    /**
+     * MockMvc 응답 스트림은 WriteListener를 지원하지 않으므로, 중계기는 본문을 그대로 옮겨 쓰고 결과만 알리는 대역으로 둔다.
+     */
+    private void relayWithOutcome(Outcome outcome) {
+        willAnswer(invocation -> {
+            HttpServletResponse response = invocation.getArgument(1);
+            Flux<DataBuffer> body = invocation.getArgument(2);
+            Consumer<Outcome> onTermination = invocation.getArgument(3);
+            for (DataBuffer dataBuffer : body.toIterable()) {
+                byte[] chunk = new byte[dataBuffer.readableByteCount()];
+                dataBuffer.read(chunk);
+                response.getOutputStream().write(chunk);
+            }
+            onTermination.accept(outcome);
+            return null;
+        }).given(streamRelay).relay(any(), any(), any(), any());
     }
 
     private MockMvc mockMvcWithLimits(AiProxyRequestLimits requestLimits) {
@@ -653,7 +683,8 @@ class AiProxyControllerTest {
                 aiProxyService,
                 coachAutoBriefMonitoringService,
                 requestLimits,
-                streamConcurrencyLimiter);
+                streamConcurrencyLimiter,
+                streamRelay);
         return MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
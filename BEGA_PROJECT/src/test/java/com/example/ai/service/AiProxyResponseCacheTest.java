@@ -0,0 +1,359 @@
+package com.example.ai.service;
+
+import com.example.ai.service.AiProxyService.ProxyByteResponse;
+import com.example.ai.service.AiProxyService.ProxyStreamResponse;
+import com.example.common.cache.TieredCacheInvalidationBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiProxyResponseCacheTest {
+
+    private static final String COACH_URI = "/ai/coach/analyze";
+    private static final String BRIEF_URI = "/ai/chat/completion";
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryBus bus;
+    private AiProxyResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new InMemoryBus();
+        cache = newCache();
+    }
+
+    private AiProxyResponseCache newCache() {
+        return new AiProxyResponseCache(
+                new AiProxyMonitoringMetricsService(meterRegistry),
+                bus.endpoint(),
+                COACH_URI + ", " + BRIEF_URI,
+                300L,
+                1024L * 1024,
+                64 * 1024,
+                180L);
+    }
+
+    @Test
+    void byteResponseIsServedFromCacheForEquivalentPayload() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<ProxyByteResponse> loader = () -> {
+            upstreamCalls.incrementAndGet();
+            return byteResponse(HttpStatus.OK, "{\"answer\":\"LG 승리\"}");
+        };
+
+        ProxyByteResponse first = cache.getOrLoad(BRIEF_URI, "{\"gameId\":\"20260401LGOB0\",\"team\":\"LG\"}", null, loader);
+        ProxyByteResponse second = cache.getOrLoad(BRIEF_URI, "{ \"team\": \"LG\", \"gameId\": \"20260401LGOB0\" }", null, loader);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(new String(second.body(), StandardCharsets.UTF_8)).isEqualTo(new String(first.body(), StandardCharsets.UTF_8));
+        assertThat(second.headers().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(cacheCount(BRIEF_URI, "byte", "miss")).isEqualTo(1.0);
+        assertThat(cacheCount(BRIEF_URI, "byte", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void endpointsOutsideAllowListAndErrorResponsesAreNotCached() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        cache.getOrLoad("/ai/release-decision/draft", "{}", null, () -> {
+            upstreamCalls.incrementAndGet();
+            return byteResponse(HttpStatus.OK, "{}");
+        });
+        cache.getOrLoad("/ai/release-decision/draft", "{}", null, () -> {
+            upstreamCalls.incrementAndGet();
+            return byteResponse(HttpStatus.OK, "{}");
+        });
+        cache.getOrLoad(BRIEF_URI, "{}", null, () -> {
+            upstreamCalls.incrementAndGet();
+            return byteResponse(HttpStatus.SERVICE_UNAVAILABLE, "{}");
+        });
+        cache.getOrLoad(BRIEF_URI, "{}", null, () -> {
+            upstreamCalls.incrementAndGet();
+            return byteResponse(HttpStatus.SERVICE_UNAVAILABLE, "{}");
+        });
+
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void identicalInFlightRequestsShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+        Supplier<ProxyByteResponse> slowLoader = () -> {
+            upstreamCalls.incrementAndGet();
+            upstreamStarted.countDown();
+            await(releaseUpstream);
+            return byteResponse(HttpStatus.OK, "{\"answer\":\"shared\"}");
+        };
+
+        CompletableFuture<ProxyByteResponse> leader =
+                CompletableFuture.supplyAsync(() -> cache.getOrLoad(BRIEF_URI, "{\"q\":1}", null, slowLoader));
+        assertThat(upstreamStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ProxyByteResponse> waiter =
+                CompletableFuture.supplyAsync(() -> cache.getOrLoad(BRIEF_URI, "{\"q\":1}", null, slowLoader));
+        waitUntil(() -> cacheCount(BRIEF_URI, "byte", "coalesced") == 1.0);
+        releaseUpstream.countDown();
+
+        assertThat(new String(leader.get(5, TimeUnit.SECONDS).body(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"answer\":\"shared\"}");
+        assertThat(new String(waiter.get(5, TimeUnit.SECONDS).body(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"answer\":\"shared\"}");
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void streamIsRecordedOnceAndReplayedToWaitersAndLaterHits() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.Many<DataBuffer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        Supplier<ProxyStreamResponse> loader = () -> {
+            upstreamCalls.incrementAndGet();
+            return streamResponse(upstream.asFlux());
+        };
+
+        ProxyStreamResponse leader = cache.getOrLoadStream(COACH_URI, "{\"gameId\":\"g1\"}", "2", loader);
+        upstream.tryEmitNext(chunk("event: meta\n\n"));
+        ProxyStreamResponse waiter = cache.getOrLoadStream(COACH_URI, "{\"gameId\":\"g1\"}", "2", loader);
+        upstream.tryEmitNext(chunk("data: [DONE]\n\n"));
+        upstream.tryEmitComplete();
+        ProxyStreamResponse hit = cache.getOrLoadStream(COACH_URI, "{\"gameId\":\"g1\"}", "2", loader);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(readBody(leader.bodyFlux())).isEqualTo("event: meta\n\ndata: [DONE]\n\n");
+        assertThat(readBody(waiter.bodyFlux())).isEqualTo("event: meta\n\ndata: [DONE]\n\n");
+        assertThat(readBody(hit.bodyFlux())).isEqualTo("event: meta\n\ndata: [DONE]\n\n");
+        assertThat(hit.headers().getContentType()).isEqualTo(MediaType.TEXT_EVENT_STREAM);
+        assertThat(cacheCount(COACH_URI, "stream", "coalesced")).isEqualTo(1.0);
+        assertThat(cacheCount(COACH_URI, "stream", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void eventVersionIsPartOfTheStreamKey() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<ProxyStreamResponse> loader = () -> {
+            upstreamCalls.incrementAndGet();
+            return streamResponse(Flux.just(chunk("data: v\n\n")));
+        };
+
+        readBody(cache.getOrLoadStream(COACH_URI, "{}", "1", loader).bodyFlux());
+        readBody(cache.getOrLoadStream(COACH_URI, "{}", "2", loader).bodyFlux());
+        readBody(cache.getOrLoadStream(COACH_URI, "{}", " 2 ", loader).bodyFlux());
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void failedStreamIsNotCached() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<ProxyStreamResponse> loader = () -> {
+            upstreamCalls.incrementAndGet();
+            return streamResponse(Flux.just(chunk("event: meta\n\n"))
+                    .concatWith(Flux.error(new IllegalStateException("upstream reset"))));
+        };
+
+        ProxyStreamResponse first = cache.getOrLoadStream(COACH_URI, "{}", null, loader);
+        first.bodyFlux().onErrorResume(error -> Flux.empty()).doOnNext(DataBufferUtils::release).blockLast();
+        cache.getOrLoadStream(COACH_URI, "{}", null, loader);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void streamOverEntryLimitIsNotCachedAndLaterRequestsCallUpstream() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.Many<DataBuffer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        String half = "x".repeat(40 * 1024);
+        Supplier<ProxyStreamResponse> loader = () -> {
+            upstreamCalls.incrementAndGet();
+            return upstreamCalls.get() == 1 ? streamResponse(upstream.asFlux()) : streamResponse(Flux.just(chunk("data: small\n\n")));
+        };
+
+        ProxyStreamResponse leader = cache.getOrLoadStream(COACH_URI, "{}", null, loader);
+        upstream.tryEmitNext(chunk(half));
+        ProxyStreamResponse waiter = cache.getOrLoadStream(COACH_URI, "{}", null, loader);
+        upstream.tryEmitNext(chunk(half));
+        ProxyStreamResponse afterLimit = cache.getOrLoadStream(COACH_URI, "{}", null, loader);
+        upstream.tryEmitComplete();
+
+        // 상한을 넘기 전에 받은 응답은 처음부터 끝까지 받고, 넘은 뒤의 요청은 합류하지 않는다.
+        assertThat(readBody(leader.bodyFlux())).isEqualTo(half + half);
+        assertThat(readBody(waiter.bodyFlux())).isEqualTo(half + half);
+        assertThat(readBody(afterLimit.bodyFlux())).isEqualTo("data: small\n\n");
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(cacheCount(COACH_URI, "stream", "coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    void loaderErrorCompletesCoalescedWaiters() throws Exception {
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+        Supplier<ProxyByteResponse> failingLoader = () -> {
+            upstreamStarted.countDown();
+            await(releaseUpstream);
+            throw new AssertionError("loader crashed");
+        };
+
+        CompletableFuture<ProxyByteResponse> leader =
+                CompletableFuture.supplyAsync(() -> cache.getOrLoad(BRIEF_URI, "{\"q\":2}", null, failingLoader));
+        assertThat(upstreamStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ProxyByteResponse> waiter =
+                CompletableFuture.supplyAsync(() -> cache.getOrLoad(BRIEF_URI, "{\"q\":2}", null, failingLoader));
+        waitUntil(() -> cacheCount(BRIEF_URI, "byte", "coalesced") == 1.0);
+        releaseUpstream.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void invalidateAllDropsCachedResponses() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<ProxyByteResponse> loader = () -> {
+            upstreamCalls.incrementAndGet();
+            return byteResponse(HttpStatus.OK, "{}");
+        };
+
+        cache.getOrLoad(BRIEF_URI, "{}", null, loader);
+        cache.invalidateAll();
+        cache.getOrLoad(BRIEF_URI, "{}", null, loader);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void invalidateAllIsBroadcastToOtherNodes() {
+        AiProxyResponseCache otherNode = newCache();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<ProxyByteResponse> loader = () -> {
+            upstreamCalls.incrementAndGet();
+            return byteResponse(HttpStatus.OK, "{}");
+        };
+
+        otherNode.getOrLoad(BRIEF_URI, "{}", null, loader);
+        cache.invalidateAll();
+        otherNode.getOrLoad(BRIEF_URI, "{}", null, loader);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void normalizePayloadSortsJsonKeysAndKeepsNonJsonAsIs() {
+        assertThat(AiProxyResponseCache.normalizePayload("{\"b\":{\"y\":1,\"x\":2},\"a\":[3,1]}"))
+                .isEqualTo("{\"a\":[3,1],\"b\":{\"x\":2,\"y\":1}}");
+        assertThat(AiProxyResponseCache.normalizePayload("  not-json ")).isEqualTo("not-json");
+    }
+
+    private ProxyByteResponse byteResponse(HttpStatus status, String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new ProxyByteResponse(status, headers, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ProxyStreamResponse streamResponse(Flux<DataBuffer> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_EVENT_STREAM);
+        return new ProxyStreamResponse(HttpStatus.OK, headers, body, null);
+    }
+
+    private DataBuffer chunk(String value) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String readBody(Flux<DataBuffer> bodyFlux) {
+        DataBuffer joined = DataBufferUtils.join(bodyFlux).block(Duration.ofSeconds(5));
+        if (joined == null) {
+            return "";
+        }
+        try {
+            return joined.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(joined);
+        }
+    }
+
+    private double cacheCount(String uri, String mode, String result) {
+        String endpoint = COACH_URI.equals(uri) ? "coach_analyze" : "chat_completion";
+        Counter counter = meterRegistry.find(AiProxyMonitoringMetricsService.RESPONSE_CACHE_METRIC)
+                .tags("endpoint", endpoint, "mode", mode, "result", result)
+                .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.get()).isTrue();
+    }
+
+    /**
+     * Redis pub/sub 대용. 발행한 노드를 제외한 모든 노드에 전달한다.
+     */
+    private static final class InMemoryBus {
+
+        private final List<Endpoint> endpoints = new CopyOnWriteArrayList<>();
+
+        Endpoint endpoint() {
+            Endpoint endpoint = new Endpoint();
+            endpoints.add(endpoint);
+            return endpoint;
+        }
+
+        private final class Endpoint implements TieredCacheInvalidationBus {
+
+            private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+
+            @Override
+            public void publish(String cacheName, String key) {
+                for (Endpoint endpoint : endpoints) {
+                    if (endpoint != this) {
+                        endpoint.listeners.forEach(listener -> listener.accept(cacheName, key));
+                    }
+                }
+            }
+
+            @Override
+            public void subscribe(BiConsumer<String, String> listener) {
+                listeners.add(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.ai.service;
+
+import com.example.ai.config.AiServiceSettings;
+import com.example.ai.service.AiStreamRelay.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 stub upstream(reactor-netty)에 SSE 스트림 256개를 동시에 열어 두고 중계 비용을 잰다.
+ * - 모든 스트림이 첫 청크를 받은 상태에서 event loop 외 스레드 증가량과 스트림당 힙 사용량을 측정한다.
+ * - 힙 측정값에는 stub 서버 쪽 연결과 Mock 요청/응답 객체가 포함되므로 상한으로 본다.
+ * 기존 blocking 중계는 스트림마다 스레드 하나를 180초까지 점유했으므로 같은 부하에 스레드 256개가 필요했다.
+ * 일반 test 태스크에서는 빠지며 {@code ./gradlew loadTest}로 실행한다.
+ */
+@Tag("load")
+class AiStreamRelayLoadTest {
+
+    private static final int STREAMS = 256;
+    private static final long HEAP_BUDGET_BYTES = 512L * 1024 * 1024;
+    private static final String FIRST_CHUNK = "event: message\ndata: {\"delta\":\"안녕\"}\n\n";
+    private static final String LAST_CHUNK = "data: [DONE]\n\n";
+
+    private DisposableServer upstream;
+    private AiProxyService aiProxyService;
+
+    @AfterEach
+    void tearDown() {
+        if (aiProxyService != null) {
+            aiProxyService.shutdownConnectionProvider();
+        }
+        if (upstream != null) {
+            upstream.disposeNow();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 스트림 256개를 스트림당 스레드 없이 중계하고 고정 힙에 들어가는 스트림 수를 출력한다")
+    void relayManyConcurrentStreamsWithoutPinningThreads() throws Exception {
+        Sinks.Empty<Void> releaseStreams = Sinks.empty();
+        upstream = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/ai/chat/stream", (request, response) -> response
+                        .header(HttpHeaderNames.CONTENT_TYPE, "text/event-stream")
+                        .sendString(Flux.just(FIRST_CHUNK)
+                                .concatWith(releaseStreams.asMono().thenMany(Flux.just(LAST_CHUNK))),
+                                StandardCharsets.UTF_8)))
+                .bindNow();
+        aiProxyService = newService("http://127.0.0.1:" + upstream.port());
+        AiStreamRelay relay = new AiStreamRelay(new SimpleMeterRegistry());
+
+        long heapBefore = usedHeapAfterGc();
+        int threadsBefore = nonEventLoopThreads();
+        CountDownLatch terminated = new CountDownLatch(STREAMS);
+        Map<Outcome, Integer> outcomes = new ConcurrentHashMap<>();
+        List<NonBlockingServletOutputStream> clients = new ArrayList<>(STREAMS);
+        for (int i = 0; i < STREAMS; i++) {
+            AiProxyService.ProxyStreamResponse proxyResponse =
+                    aiProxyService.forwardJsonStream("/ai/chat/stream", "{\"question\":\"load-" + i + "\"}");
+            NonBlockingServletOutputStream client = new NonBlockingServletOutputStream();
+            clients.add(client);
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/ai/chat/stream");
+            request.setAsyncSupported(true);
+            HttpServletResponseWrapper response = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+                @Override
+                public ServletOutputStream getOutputStream() {
+                    return client;
+                }
+            };
+            WebAsyncUtils.getAsyncManager(request)
+                    .setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+            relay.relay(request, response, proxyResponse.bodyFlux(), outcome -> {
+                outcomes.merge(outcome, 1, Integer::sum);
+                terminated.countDown();
+            });
+        }
+        for (NonBlockingServletOutputStream client : clients) {
+            assertThat(client.firstWrite().await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        int openStreams = relay.getActiveRelays();
+        int threadGrowth = nonEventLoopThreads() - threadsBefore;
+        long heapPerStream = Math.max(1L, (usedHeapAfterGc() - heapBefore) / STREAMS);
+
+        releaseStreams.tryEmitEmpty();
+        assertThat(terminated.await(30, TimeUnit.SECONDS)).isTrue();
+
+        System.out.printf(
+                "ai stream relay: %d concurrent streams, +%d non-event-loop threads (blocking relay: +%d), "
+                        + "~%d KiB heap per open stream -> ~%d streams in a %d MiB heap%n",
+                openStreams,
+                threadGrowth,
+                STREAMS,
+                heapPerStream / 1024,
+                HEAP_BUDGET_BYTES / heapPerStream,
+                HEAP_BUDGET_BYTES / (1024 * 1024));
+        assertThat(openStreams).isEqualTo(STREAMS);
+        assertThat(threadGrowth).isLessThan(8);
+        assertThat(outcomes).isEqualTo(Map.of(Outcome.COMPLETED, STREAMS));
+        assertThat(clients).allSatisfy(client -> assertThat(client.received()).isEqualTo(FIRST_CHUNK + LAST_CHUNK));
+        assertThat(relay.getActiveRelays()).isZero();
+    }
+
+    private AiProxyService newService(String serviceUrl) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("dev");
+        AiServiceSettings settings = new AiServiceSettings(environment, serviceUrl, "load-test-token");
+        return new AiProxyService(
+                settings,
+                WebClient.builder(),
+                AiProxyMonitoringMetricsService.noop(),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(10),
+                STREAMS + 8,
+                Duration.ofSeconds(5),
+                STREAMS);
+    }
+
+    /**
+     * reactor-netty event loop는 코어 수만큼 고정된 풀이라 스트림 수와 무관하므로 제외하고 센다.
+     */
+    private int nonEventLoopThreads() {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> !thread.getName().startsWith("reactor-"))
+                .count();
+    }
+
+    private long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.ai.service;
+
+import com.example.ai.service.AiStreamRelay.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiStreamRelayTest {
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiStreamRelay relay;
+    private MockHttpServletRequest request;
+    private NonBlockingServletOutputStream outputStream;
+    private HttpServletResponseWrapper response;
+    private WebAsyncManager asyncManager;
+    private final AtomicReference<Outcome> outcome = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new AiStreamRelay(meterRegistry);
+        request = new MockHttpServletRequest("POST", "/api/ai/chat/stream");
+        request.setAsyncSupported(true);
+        outputStream = new NonBlockingServletOutputStream();
+        response = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return outputStream;
+            }
+        };
+        asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+    }
+
+    @Test
+    @DisplayName("upstream 청크를 순서대로 중계하고 청크마다 flush한 뒤 비동기 요청을 끝낸다")
+    void relay_writesChunksInOrderAndCompletes() {
+        relay.relay(request, response, Flux.just(chunk("event: message\ndata: 1\n\n"), chunk("data: [DONE]\n\n")),
+                outcome::set);
+
+        assertThat(outputStream.received()).isEqualTo("event: message\ndata: 1\n\ndata: [DONE]\n\n");
+        assertThat(outputStream.flushes()).isEqualTo(2);
+        assertThat(outcome.get()).isEqualTo(Outcome.COMPLETED);
+        assertThat(asyncManager.hasConcurrentResult()).isTrue();
+        assertThat(relay.getActiveRelays()).isZero();
+        assertThat(meterRegistry.counter(AiStreamRelay.RELAY_RESULT_METRIC, "result", "completed").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 읽어 가기 전에는 upstream에 다음 청크를 요청하지 않는다")
+    void relay_appliesBackpressureToSlowClient() throws IOException {
+        List<Long> requests = new ArrayList<>();
+        Flux<DataBuffer> body = Flux.just(chunk("a"), chunk("b"), chunk("c"))
+                .doOnRequest(requests::add);
+        outputStream.blockAfter(1);
+
+        relay.relay(request, response, body, outcome::set);
+
+        assertThat(outputStream.received()).isEqualTo("a");
+        assertThat(requests).containsExactly(1L);
+        assertThat(outcome.get()).isNull();
+
+        outputStream.clientReads();
+
+        assertThat(outputStream.received()).isEqualTo("abc");
+        assertThat(requests).allMatch(requested -> requested == 1L);
+        assertThat(outcome.get()).isEqualTo(Outcome.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 끊기면 upstream 구독을 취소하고 버퍼를 반환한다")
+    void relay_cancelsUpstreamOnClientDisconnect() {
+        NettyDataBufferFactory nettyBufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+        NettyDataBuffer first = nettyBufferFactory.wrap("event: message\n\n".getBytes(StandardCharsets.UTF_8));
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<DataBuffer> body = Flux.<DataBuffer>just(first).concatWith(Flux.never())
+                .doOnCancel(() -> cancelled.set(true));
+        outputStream.failWith(new IOException("Broken pipe"));
+
+        relay.relay(request, response, body, outcome::set);
+
+        assertThat(outcome.get()).isEqualTo(Outcome.CLIENT_DISCONNECTED);
+        assertThat(cancelled).isTrue();
+        assertThat(first.getNativeBuffer().refCnt()).isZero();
+        assertThat(asyncManager.hasConcurrentResult()).isTrue();
+    }
+
+    @Test
+    @DisplayName("upstream이 중간에 실패하면 이미 받은 청크까지 쓰고 끝낸다")
+    void relay_endsAfterDeliveredChunksWhenUpstreamFails() {
+        Flux<DataBuffer> body = Flux.just(chunk("event: message\n\n"))
+                .concatWith(Flux.error(new IllegalStateException("upstream reset")));
+
+        relay.relay(request, response, body, outcome::set);
+
+        assertThat(outputStream.received()).isEqualTo("event: message\n\n");
+        assertThat(outcome.get()).isEqualTo(Outcome.UPSTREAM_FAILED);
+        assertThat(asyncManager.hasConcurrentResult()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 시간 초과되면 upstream을 취소하고 오류 응답 없이 끝낸다")
+    void relay_cancelsUpstreamOnAsyncTimeout() throws IOException {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<DataBuffer> body = Flux.<DataBuffer>never().doOnCancel(() -> cancelled.set(true));
+
+        relay.relay(request, response, body, outcome::set);
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        assertThat(outcome.get()).isEqualTo(Outcome.TIMED_OUT);
+        assertThat(cancelled).isTrue();
+        assertThat(asyncManager.hasConcurrentResult()).isTrue();
+        assertThat(asyncManager.getConcurrentResult()).isNull();
+        assertThat(relay.getActiveRelays()).isZero();
+    }
+
+    private DataBuffer chunk(String value) {
+        return bufferFactory.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
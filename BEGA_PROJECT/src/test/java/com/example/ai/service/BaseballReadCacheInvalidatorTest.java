@@ -8,6 +8,7 @@ import static com.example.common.config.CacheConfig.TEAM_RANKINGS;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.kbo.service.SeasonScheduleIndex;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.cache.Cache;
@@ -25,10 +26,15 @@ class BaseballReadCacheInvalidatorTest {
                 HOME_WIDGETS, org.mockito.Mockito.mock(Cache.class),
                 HOME_RANKING_SNAPSHOT, org.mockito.Mockito.mock(Cache.class));
         caches.forEach((name, cache) -> when(cacheManager.getCache(name)).thenReturn(cache));
-        BaseballReadCacheInvalidator invalidator = new BaseballReadCacheInvalidator(cacheManager);
+        AiProxyResponseCache aiProxyResponseCache = org.mockito.Mockito.mock(AiProxyResponseCache.class);
+        SeasonScheduleIndex seasonScheduleIndex = org.mockito.Mockito.mock(SeasonScheduleIndex.class);
+        BaseballReadCacheInvalidator invalidator =
+                new BaseballReadCacheInvalidator(cacheManager, aiProxyResponseCache, seasonScheduleIndex);
 
         invalidator.invalidateAll();
 
         caches.forEach((name, cache) -> verify(cache).clear());
+        verify(aiProxyResponseCache).invalidateAll();
+        verify(seasonScheduleIndex).rebuildAll();
     }
 }
@@ -0,0 +1,96 @@
+package com.example.ai.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 컨테이너의 non-blocking 쓰기를 흉내 내는 ServletOutputStream.
+ * blockAfter(n)으로 n번 쓴 뒤 isReady를 false로 만들고, clientReads()로 클라이언트가 읽어 간 것처럼 onWritePossible을 부른다.
+ */
+class NonBlockingServletOutputStream extends ServletOutputStream {
+
+    private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+    private final CountDownLatch firstWrite = new CountDownLatch(1);
+    private WriteListener writeListener;
+    private boolean ready = true;
+    private int writesUntilBlocked = Integer.MAX_VALUE;
+    private IOException failure;
+    private int flushes;
+
+    @Override
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public synchronized void setWriteListener(WriteListener writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (!ready) {
+            throw new IllegalStateException("write while not ready");
+        }
+        received.write(b, off, len);
+        firstWrite.countDown();
+        if (--writesUntilBlocked <= 0) {
+            ready = false;
+        }
+    }
+
+    @Override
+    public void write(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public synchronized void flush() {
+        flushes++;
+    }
+
+    synchronized void blockAfter(int writes) {
+        writesUntilBlocked = writes;
+    }
+
+    synchronized void failWith(IOException failure) {
+        this.failure = failure;
+    }
+
+    void clientReads() throws IOException {
+        WriteListener listener;
+        synchronized (this) {
+            ready = true;
+            writesUntilBlocked = Integer.MAX_VALUE;
+            listener = writeListener;
+        }
+        listener.onWritePossible();
+    }
+
+    synchronized String received() {
+        return received.toString(StandardCharsets.UTF_8);
+    }
+
+    synchronized int flushes() {
+        return flushes;
+    }
+
+    CountDownLatch firstWrite() {
+        return firstWrite;
+    }
+}
@@ -287,6 +287,7 @@ class SecurityConfigTest {
                 mock(com.example.auth.oauth2.CookieAuthorizationRequestRepository.class),
                 mock(com.example.auth.service.TokenBlacklistService.class),
                 mock(com.example.auth.repository.UserRepository.class),
+                mock(com.example.auth.service.UserAuthStateCache.class),
                 mock(com.example.auth.service.AuthSecurityMonitoringService.class),
                 environment,
                 aiServiceSettings,
@@ -0,0 +1,136 @@
+package com.example.auth.filter;
+
+import com.example.auth.repository.UserRepository;
+import com.example.auth.service.AuthSecurityMonitoringService;
+import com.example.auth.service.LocalTokenRevocationIndex;
+import com.example.auth.service.TokenBlacklistService;
+import com.example.auth.service.UserAuthStateCache;
+import com.example.auth.util.JWTUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증 요청 1,000건당 JWT 파싱/Redis/DB 호출 수를 기존 경로와 새 경로로 비교한다.
+ * 기존 경로는 필터가 하던 대로 claim getter 다섯 개와 블랙리스트 hasKey, 권한 조회를 매번 호출한다.
+ * HMAC 검증과 네트워크 왕복이 비용의 대부분이므로 호출 수를 지표로 쓰고, 요청당 CPU 시간은 참고로만 출력한다.
+ */
+class JWTFilterBenchmarkTest {
+
+    private static final String SECRET =
+            "test-jwt-secret-64-characters-long-for-hs512-signature-tests-key-1234567890";
+    private static final int REQUESTS = 1_000;
+    private static final int USERS = 20;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청 1k건당 호출 수: 새 경로는 파싱 1회, Redis 0회, 사용자당 DB 1회로 줄어든다")
+    @SuppressWarnings("unchecked")
+    void compareCallsPerThousandRequests() throws Exception {
+        String[] tokens = sampleTokens(newJwtUtil());
+
+        JWTUtil legacyJwtUtil = Mockito.spy(newJwtUtil());
+        StringRedisTemplate legacyRedis = mock(StringRedisTemplate.class);
+        UserRepository legacyUserRepository = mock(UserRepository.class);
+        when(legacyUserRepository.findUsableRoleByIdAndTokenVersion(any(), any())).thenReturn(Optional.of("ROLE_USER"));
+        long legacyStarted = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            String token = tokens[i % tokens.length];
+            legacyRedis.hasKey("token:blacklist:" + token);
+            legacyJwtUtil.isExpired(token);
+            legacyJwtUtil.getTokenType(token);
+            legacyJwtUtil.getRole(token);
+            Long userId = legacyJwtUtil.getUserId(token);
+            Integer tokenVersion = legacyJwtUtil.getTokenVersion(token);
+            legacyUserRepository.findUsableRoleByIdAndTokenVersion(userId, tokenVersion);
+        }
+        long legacyNanos = System.nanoTime() - legacyStarted;
+        long legacyParses = countInvocations(legacyJwtUtil, "getClaims");
+        long legacyRedisCalls = Mockito.mockingDetails(legacyRedis).getInvocations().size();
+        long legacyDbCalls = Mockito.mockingDetails(legacyUserRepository).getInvocations().size();
+
+        JWTUtil jwtUtil = Mockito.spy(newJwtUtil());
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        Cursor<String> emptyCursor = mock(Cursor.class);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(emptyCursor);
+        when(redisTemplate.opsForZSet()).thenReturn(mock(ZSetOperations.class));
+        LocalTokenRevocationIndex revocationIndex = new LocalTokenRevocationIndex(
+                redisTemplate, new SimpleMeterRegistry(), true, "bega:auth:token-revocation:v1", 90_000L);
+        revocationIndex.resync();
+        TokenBlacklistService tokenBlacklistService =
+                new TokenBlacklistService(redisTemplate, revocationIndex, new SimpleMeterRegistry());
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findUsableRoleByIdAndTokenVersion(any(), any())).thenReturn(Optional.of("ROLE_USER"));
+        UserAuthStateCache userAuthStateCache = new UserAuthStateCache(userRepository, redisTemplate,
+                new SimpleMeterRegistry(), true, 30_000L, 1_000L, "bega:auth:user-state:v1");
+        JWTFilter filter = new JWTFilter(jwtUtil, List.of("http://localhost:5176"), tokenBlacklistService,
+                userRepository, mock(AuthSecurityMonitoringService.class), true, userAuthStateCache);
+        Mockito.clearInvocations(redisTemplate);
+        long filterStarted = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            SecurityContextHolder.clearContext();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/protected/resource");
+            request.addHeader("Authorization", "Bearer " + tokens[i % tokens.length]);
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        }
+        long filterNanos = System.nanoTime() - filterStarted;
+        long parses = countInvocations(jwtUtil, "getClaims");
+        long redisCalls = Mockito.mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(invocation -> !invocation.getMethod().getName().equals("convertAndSend"))
+                .count();
+        long dbCalls = Mockito.mockingDetails(userRepository).getInvocations().size();
+
+        System.out.printf(
+                "jwt filter per %d requests: parses legacy=%d new=%d, redis legacy=%d new=%d, db legacy=%d new=%d "
+                        + "(legacy %.1f us/req, new %.1f us/req without the principal cache)%n",
+                REQUESTS, legacyParses, parses, legacyRedisCalls, redisCalls, legacyDbCalls, dbCalls,
+                legacyNanos / 1_000.0 / REQUESTS, filterNanos / 1_000.0 / REQUESTS);
+        assertThat(legacyParses).isEqualTo(5L * REQUESTS);
+        assertThat(parses).isEqualTo(REQUESTS);
+        assertThat(redisCalls).isZero();
+        assertThat(dbCalls).isEqualTo(USERS);
+    }
+
+    private JWTUtil newJwtUtil() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 1000L * 60 * 60 * 24 * 7);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpirationTime", 7_200_000L);
+        return jwtUtil;
+    }
+
+    private String[] sampleTokens(JWTUtil jwtUtil) {
+        String[] tokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            tokens[i] = jwtUtil.createJwt("user" + i + "@test.com", "ROLE_USER", (long) i + 1, 600_000L);
+        }
+        return tokens;
+    }
+
+    private long countInvocations(Object spy, String methodName) {
+        return Mockito.mockingDetails(spy).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals(methodName))
+                .count();
+    }
+}
@@ -2,10 +2,12 @@ package com.example.auth.filter;
 
 import com.example.auth.service.TokenBlacklistService;
 import com.example.auth.service.AuthSecurityMonitoringService;
+import com.example.auth.service.UserAuthStateCache;
 import com.example.auth.repository.UserRepository;
 import com.example.auth.util.JWTUtil;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -23,6 +25,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -91,6 +94,55 @@ class JWTFilterTokenTypeTest {
         Mockito.verify(userRepository, Mockito.never()).findById(Mockito.anyLong());
     }
 
+    @Test
+    @DisplayName("access token은 요청당 한 번만 검증/파싱한다")
+    void accessToken_isParsedOncePerRequest() throws Exception {
+        JWTUtil spiedJwtUtil = Mockito.spy(jwtUtil);
+        JWTFilter spiedFilter = new JWTFilter(spiedJwtUtil, List.of("http://localhost:5176"),
+                tokenBlacklistService, userRepository, securityMonitoringService);
+        String accessToken = jwtUtil.createJwt("user@test.com", "ROLE_USER", 1L, 60_000L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/protected/resource");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+
+        spiedFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        Mockito.verify(spiedJwtUtil, Mockito.times(1)).getClaims(accessToken);
+    }
+
+    @Test
+    @DisplayName("사용자 권한 캐시를 쓰면 같은 사용자의 반복 요청은 DB를 한 번만 조회한다")
+    void userAuthStateCache_skipsRepeatedRoleLookups() throws Exception {
+        UserAuthStateCache userAuthStateCache = new UserAuthStateCache(userRepository,
+                Mockito.mock(StringRedisTemplate.class), new SimpleMeterRegistry(), true, 30_000L, 1_000L,
+                "bega:auth:user-state:v1");
+        JWTFilter cachedFilter = new JWTFilter(jwtUtil, List.of("http://localhost:5176"), tokenBlacklistService,
+                userRepository, securityMonitoringService, true, userAuthStateCache);
+        String accessToken = jwtUtil.createJwt("user@test.com", "ROLE_USER", 1L, 60_000L);
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/protected/resource");
+            request.addHeader("Authorization", "Bearer " + accessToken);
+            cachedFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        }
+
+        Mockito.verify(userRepository, Mockito.times(1)).findUsableRoleByIdAndTokenVersion(1L, 0);
+    }
+
+    @Test
+    @DisplayName("서명이 잘못된 토큰은 만료 토큰과 같이 인증에 사용하지 않는다")
+    void tamperedToken_isRejectedForAuthentication() throws Exception {
+        String accessToken = jwtUtil.createJwt("user@test.com", "ROLE_USER", 1L, 60_000L);
+        String tamperedToken = accessToken.substring(0, accessToken.length() - 4) + "AAAA";
+
+        executeFilter(tamperedToken);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        Mockito.verify(userRepository, Mockito.never()).findUsableRoleByIdAndTokenVersion(Mockito.any(), Mockito.any());
+    }
+
     @Test
     @DisplayName("토큰 role이 현재 DB role과 다르면 인증에 사용하지 않는다")
     void tokenRoleMismatch_isRejectedForAuthentication() throws Exception {
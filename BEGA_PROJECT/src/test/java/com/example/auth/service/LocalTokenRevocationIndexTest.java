@@ -0,0 +1,108 @@
+package com.example.auth.service;
+
+import com.example.auth.util.JWTUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocalTokenRevocationIndexTest {
+
+    private static final String CHANNEL = "bega:auth:token-revocation:v1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private LocalTokenRevocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LocalTokenRevocationIndex(redisTemplate, new SimpleMeterRegistry(), true, CHANNEL, 90_000L);
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 로컬 색인을 쓰지 않는다")
+    void isReady_falseBeforeFirstSync() {
+        assertThat(index.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("첫 동기화는 기존 블랙리스트 키와 Redis 색인을 모두 읽어 들인다")
+    @SuppressWarnings("unchecked")
+    void resync_loadsLegacyKeysAndIndex() {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("token:blacklist:legacy-token");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(redisTemplate.getExpire("token:blacklist:legacy-token", TimeUnit.MILLISECONDS)).thenReturn(60_000L);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        when(zSetOperations.rangeByScoreWithScores(eq(LocalTokenRevocationIndex.INDEX_KEY), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(new DefaultTypedTuple<>(JWTUtil.hashKey("indexed-token"), (double) expiresAt)));
+
+        int synced = index.resync();
+
+        assertThat(synced).isEqualTo(1);
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.isRevoked("legacy-token")).isTrue();
+        assertThat(index.isRevoked("indexed-token")).isTrue();
+        assertThat(index.isRevoked("other-token")).isFalse();
+        verify(zSetOperations).removeRangeByScore(eq(LocalTokenRevocationIndex.INDEX_KEY), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("폐기 기록은 로컬에 바로 반영하고 Redis 색인 기록 후 다른 노드에 알린다")
+    void recordRevocation_updatesLocalIndexAndPublishes() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        index.recordRevocation("logout-token", 60_000L);
+
+        assertThat(index.isRevoked("logout-token")).isTrue();
+        verify(zSetOperations).add(eq(LocalTokenRevocationIndex.INDEX_KEY), eq(JWTUtil.hashKey("logout-token")),
+                anyDouble());
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메시지는 반영하고 만료된 항목은 무시한다")
+    void onMessage_appliesRemoteRevocations() {
+        String liveHash = JWTUtil.hashKey("remote-token");
+        String expiredHash = JWTUtil.hashKey("expired-token");
+
+        index.onMessage(message("other-node\n" + liveHash + "\n" + (System.currentTimeMillis() + 60_000L)), null);
+        index.onMessage(message("other-node\n" + expiredHash + "\n" + (System.currentTimeMillis() - 1L)), null);
+
+        assertThat(index.isRevoked("remote-token")).isTrue();
+        assertThat(index.isRevoked("expired-token")).isFalse();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
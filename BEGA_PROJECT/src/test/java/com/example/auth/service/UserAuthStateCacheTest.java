@@ -0,0 +1,109 @@
+package com.example.auth.service;
+
+import com.example.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserAuthStateCacheTest {
+
+    private static final String CHANNEL = "bega:auth:user-state:v1";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private UserAuthStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserAuthStateCache(
+                userRepository, redisTemplate, new SimpleMeterRegistry(), true, 30_000L, 1_000L, CHANNEL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 토큰 버전으로 다시 조회하면 DB를 보지 않는다")
+    void findUsableRole_servesRepeatedLookupsFromCache() {
+        when(userRepository.findUsableRoleByIdAndTokenVersion(1L, 0)).thenReturn(Optional.of("ROLE_USER"));
+
+        assertThat(cache.findUsableRole(1L, 0)).contains("ROLE_USER");
+        assertThat(cache.findUsableRole(1L, null)).contains("ROLE_USER");
+
+        verify(userRepository, times(1)).findUsableRoleByIdAndTokenVersion(1L, 0);
+    }
+
+    @Test
+    @DisplayName("캐시된 버전과 다른 토큰 버전은 DB에서 다시 확인한다")
+    void findUsableRole_reloadsForDifferentTokenVersion() {
+        when(userRepository.findUsableRoleByIdAndTokenVersion(1L, 1)).thenReturn(Optional.of("ROLE_USER"));
+        when(userRepository.findUsableRoleByIdAndTokenVersion(1L, 0)).thenReturn(Optional.empty());
+
+        assertThat(cache.findUsableRole(1L, 1)).contains("ROLE_USER");
+        assertThat(cache.findUsableRole(1L, 0)).isEmpty();
+        assertThat(cache.findUsableRole(1L, 0)).isEmpty();
+
+        verify(userRepository, times(1)).findUsableRoleByIdAndTokenVersion(1L, 0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋 후 다른 노드에 알린다")
+    void invalidate_publishesAfterCommit() {
+        when(userRepository.findUsableRoleByIdAndTokenVersion(1L, 0))
+                .thenReturn(Optional.of("ROLE_USER"), Optional.of("ROLE_ADMIN"));
+        cache.findUsableRole(1L, 0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate(1L);
+
+        verify(redisTemplate, never()).convertAndSend(eq(CHANNEL), anyString());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+        assertThat(cache.findUsableRole(1L, 0)).contains("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 항목을 지운다")
+    void onMessage_evictsRemoteInvalidations() {
+        when(userRepository.findUsableRoleByIdAndTokenVersion(2L, 0))
+                .thenReturn(Optional.of("ROLE_ADMIN"), Optional.of("ROLE_USER"));
+        cache.findUsableRole(2L, 0);
+
+        cache.onMessage(new DefaultMessage(
+                CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-node\n2".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(cache.findUsableRole(2L, 0)).contains("ROLE_USER");
+    }
+}
@@ -161,6 +161,38 @@ class CheerControllerTest {
         assertThat(handleCaptor.getValue()).isIn("%40User", "User", "@User");
     }
 
+    // ── cursor feed ──
+
+    @Test
+    @DisplayName("커서 피드 URL은 게시글 상세 경로가 아닌 커서 핸들러로 매핑된다")
+    void listCursor_routeIsNotShadowedByPostDetail() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(svc.listCursor("LG", null, "abc", 10))
+                .thenReturn(new PostCursorPageRes(List.of(), 10, null, false));
+
+        mockMvc.perform(get("/api/cheer/posts/cursor")
+                        .param("teamId", "LG")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("listCursor"));
+
+        verify(svc).listCursor("LG", null, "abc", 10);
+    }
+
+    @Test
+    @DisplayName("내 게시글 커서 피드는 기본 크기 20으로 조회한다")
+    void listMyPostsCursor_usesDefaultSize() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(svc.listMyPostsCursor(null, 20)).thenReturn(new PostCursorPageRes(List.of(), 20, null, false));
+
+        mockMvc.perform(get("/api/cheer/me/posts/cursor"))
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("listMyPostsCursor"));
+
+        verify(svc).listMyPostsCursor(null, 20);
+    }
+
     // ── uploadImages ──
 
     @Test
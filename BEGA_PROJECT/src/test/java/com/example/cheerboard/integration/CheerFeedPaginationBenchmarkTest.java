@@ -0,0 +1,268 @@
+package com.example.cheerboard.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.auth.entity.UserEntity;
+import com.example.BegaDiary.Repository.BegaDiaryRepository;
+import com.example.auth.repository.UserBlockRepository;
+import com.example.auth.repository.UserFollowRepository;
+import com.example.auth.service.BlockService;
+import com.example.auth.service.FollowService;
+import com.example.auth.service.PublicVisibilityVerifier;
+import com.example.auth.service.UserService;
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.domain.PostType;
+import com.example.cheerboard.dto.PostCursorPageRes;
+import com.example.cheerboard.dto.PostSummaryRes;
+import com.example.cheerboard.repo.CheerBookmarkRepo;
+import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.cheerboard.service.CheerFeedService;
+import com.example.cheerboard.service.CheerInteractionService;
+import com.example.cheerboard.service.CheerLinkedPostService;
+import com.example.cheerboard.service.CheerMonitoringMetricsService;
+import com.example.cheerboard.service.FollowingTimelineService;
+import com.example.cheerboard.service.FollowingTimelineStore;
+import com.example.cheerboard.service.HotPostChecker;
+import com.example.cheerboard.service.PermissionValidator;
+import com.example.cheerboard.service.PopularFeedScoringService;
+import com.example.cheerboard.service.PostDtoMapper;
+import com.example.cheerboard.service.RedisPostService;
+import com.example.cheerboard.storage.service.ImageService;
+import com.example.kbo.entity.TeamEntity;
+import com.example.mate.repository.PartyRepository;
+import com.example.profile.storage.service.ProfileImageService;
+import com.example.support.HibernateQueryCountSupport;
+import com.example.support.HibernateStatisticsTestConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import(HibernateStatisticsTestConfig.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cheer_feed_pagination;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=ERROR",
+        "logging.level.org.hibernate.orm.jdbc.bind=ERROR"
+})
+class CheerFeedPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int TARGET_PAGE = 50;
+    private static final int POST_COUNT = PAGE_SIZE * TARGET_PAGE + 20;
+    private static final Instant NEWEST_CREATED_AT = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserBlockRepository userBlockRepository;
+
+    @Autowired
+    private UserFollowRepository userFollowRepository;
+
+    @Autowired
+    private CheerPostRepo postRepo;
+
+    @Autowired
+    private CheerBookmarkRepo bookmarkRepo;
+
+    @Autowired
+    private BegaDiaryRepository diaryRepository;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    private CheerFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        ImageService imageService = mock(ImageService.class);
+        RedisPostService redisPostService = mock(RedisPostService.class);
+        ProfileImageService profileImageService = mock(ProfileImageService.class);
+        PopularFeedScoringService scoringService = mock(PopularFeedScoringService.class);
+        CheerInteractionService interactionService = mock(CheerInteractionService.class);
+
+        when(imageService.getPostImageUrlsByPostIds(anyList())).thenReturn(Collections.emptyMap());
+        when(redisPostService.getViewCounts(anyCollection())).thenReturn(Collections.emptyMap());
+        when(profileImageService.getProfileImageUrlForCheerFeed(anyLong(), any(), any())).thenReturn(null);
+        when(scoringService.isHotEligible(any(CheerPost.class), anyInt(), any(Instant.class))).thenReturn(false);
+
+        PublicVisibilityVerifier publicVisibilityVerifier = new PublicVisibilityVerifier(userBlockRepository,
+                userFollowRepository);
+        PostDtoMapper postDtoMapper = new PostDtoMapper(new HotPostChecker(scoringService), imageService,
+                redisPostService, profileImageService);
+
+        feedService = new CheerFeedService(
+                postRepo,
+                interactionService,
+                imageService,
+                redisPostService,
+                scoringService,
+                mock(FollowService.class),
+                mock(BlockService.class),
+                publicVisibilityVerifier,
+                mock(UserService.class),
+                new PermissionValidator(),
+                postDtoMapper,
+                profileImageService,
+                bookmarkRepo,
+                new CheerMonitoringMetricsService(new SimpleMeterRegistry()),
+                new CheerLinkedPostService(diaryRepository, partyRepository, postRepo),
+                new FollowingTimelineService(FollowingTimelineStore.disabled(), postRepo, userFollowRepository, 5000));
+
+        // 테스트 트랜잭션의 미커밋 데이터를 보도록 enrichment를 호출 스레드에서 실행한다.
+        feedService.setFeedEnrichmentExecutorForTest(new AbstractExecutorService() {
+            @Override public void execute(Runnable command) { command.run(); }
+            @Override public void shutdown() {}
+            @Override public List<Runnable> shutdownNow() { return Collections.emptyList(); }
+            @Override public boolean isShutdown() { return false; }
+            @Override public boolean isTerminated() { return false; }
+            @Override public boolean awaitTermination(long timeout, TimeUnit unit) { return true; }
+        });
+    }
+
+    @Test
+    @DisplayName("피드 1페이지/50페이지 지연과 SQL 수: 커서 모드는 COUNT 없이 깊은 페이지도 첫 페이지 비용을 유지한다")
+    void comparePageOneAndPageFiftyInOffsetAndCursorModes() {
+        seedPosts();
+        entityManager.flush();
+        entityManager.clear();
+
+        // JIT/커넥션 워밍업
+        feedService.list(null, null, PageRequest.of(0, PAGE_SIZE), null);
+        feedService.listCursor(null, null, null, PAGE_SIZE, null);
+        entityManager.clear();
+
+        Measured<Page<PostSummaryRes>> offsetFirst = measure(
+                () -> feedService.list(null, null, PageRequest.of(0, PAGE_SIZE), null));
+        Measured<Page<PostSummaryRes>> offsetDeep = measure(
+                () -> feedService.list(null, null, PageRequest.of(TARGET_PAGE - 1, PAGE_SIZE), null));
+
+        Measured<PostCursorPageRes> cursorFirst = measure(
+                () -> feedService.listCursor(null, null, null, PAGE_SIZE, null));
+        String cursor = cursorFirst.result().nextCursor();
+        for (int page = 2; page < TARGET_PAGE; page++) {
+            cursor = feedService.listCursor(null, null, cursor, PAGE_SIZE, null).nextCursor();
+            entityManager.clear();
+        }
+        String deepCursor = cursor;
+        Measured<PostCursorPageRes> cursorDeep = measure(
+                () -> feedService.listCursor(null, null, deepCursor, PAGE_SIZE, null));
+
+        System.out.printf(
+                "cheer feed pagination (%d posts, size %d): "
+                        + "offset page1=%.2fms/%d sql page%d=%.2fms/%d sql | "
+                        + "cursor page1=%.2fms/%d sql page%d=%.2fms/%d sql%n",
+                POST_COUNT, PAGE_SIZE,
+                offsetFirst.millis(), offsetFirst.statements(),
+                TARGET_PAGE, offsetDeep.millis(), offsetDeep.statements(),
+                cursorFirst.millis(), cursorFirst.statements(),
+                TARGET_PAGE, cursorDeep.millis(), cursorDeep.statements());
+
+        assertThat(cursorDeep.result().content())
+                .extracting(PostSummaryRes::id)
+                .containsExactlyElementsOf(offsetDeep.result().getContent().stream().map(PostSummaryRes::id).toList());
+        assertThat(cursorDeep.result().hasNext()).isTrue();
+        assertThat(cursorDeep.statements())
+                .as("cursor page %d skips the COUNT query of offset paging", TARGET_PAGE)
+                .isLessThan(offsetDeep.statements());
+        assertThat(cursorDeep.statements()).isLessThanOrEqualTo(cursorFirst.statements());
+    }
+
+    private <T> Measured<T> measure(Supplier<T> call) {
+        Statistics statistics = HibernateQueryCountSupport.reset(entityManagerFactory);
+        long startedAt = System.nanoTime();
+        T result = call.get();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return new Measured<>(result, elapsedNanos / 1_000_000.0, statements);
+    }
+
+    private void seedPosts() {
+        TeamEntity team = TeamEntity.builder()
+                .teamId("LG")
+                .teamName("LG Twins")
+                .teamShortName("LG")
+                .city("Seoul")
+                .stadiumName("Jamsil")
+                .color("#c30452")
+                .build();
+        entityManager.persist(team);
+
+        UserEntity author = UserEntity.builder()
+                .uniqueId(UUID.randomUUID())
+                .handle("feedauthor")
+                .name("feedauthor")
+                .email("feed-author@example.test")
+                .password("encoded-password")
+                .role("ROLE_USER")
+                .provider("LOCAL")
+                .privateAccount(false)
+                .build();
+        entityManager.persist(author);
+
+        List<Long> postIds = new java.util.ArrayList<>(POST_COUNT);
+        for (int i = 0; i < POST_COUNT; i++) {
+            CheerPost post = CheerPost.builder()
+                    .team(team)
+                    .postType(PostType.NORMAL)
+                    .author(author)
+                    .content("post-" + i)
+                    .likeCount(0)
+                    .commentCount(0)
+                    .views(0)
+                    .repostCount(0)
+                    .deleted(false)
+                    .build();
+            entityManager.persist(post);
+            postIds.add(post.getId());
+        }
+        entityManager.flush();
+
+        // @PrePersist가 작성 시각을 현재 시각으로 덮어쓰므로, 정렬이 모호하지 않도록 1분 간격으로 되돌린다.
+        for (int i = 0; i < postIds.size(); i++) {
+            entityManager.createQuery("UPDATE CheerPost p SET p.createdAt = :createdAt WHERE p.id = :id")
+                    .setParameter("createdAt", NEWEST_CREATED_AT.minusSeconds(60L * i))
+                    .setParameter("id", postIds.get(i))
+                    .executeUpdate();
+        }
+    }
+
+    private record Measured<T>(T result, double millis, long statements) {
+    }
+}
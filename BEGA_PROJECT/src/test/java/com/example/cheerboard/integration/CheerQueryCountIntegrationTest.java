@@ -36,6 +36,8 @@ import com.example.cheerboard.service.CheerInteractionService;
 import com.example.cheerboard.service.CheerLinkedPostService;
 import com.example.cheerboard.service.CheerMonitoringMetricsService;
 import com.example.cheerboard.service.CheerPostService;
+import com.example.cheerboard.service.FollowingTimelineService;
+import com.example.cheerboard.service.FollowingTimelineStore;
 import com.example.cheerboard.service.HotPostChecker;
 import com.example.cheerboard.service.PermissionValidator;
 import com.example.cheerboard.service.PopularFeedScoringService;
@@ -198,7 +200,8 @@ class CheerQueryCountIntegrationTest {
                 profileImageService,
                 bookmarkRepo,
                 new CheerMonitoringMetricsService(new SimpleMeterRegistry()),
-                linkedPostService);
+                linkedPostService,
+                new FollowingTimelineService(FollowingTimelineStore.disabled(), postRepo, null, 5000));
 
         // @DataJpaTest는 테스트 트랜잭션 내 미커밋 데이터를 사용한다.
         // 병렬 virtual thread는 별도 트랜잭션이므로 미커밋 데이터를 볼 수 없다.
@@ -0,0 +1,38 @@
+package com.example.cheerboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.common.exception.BadRequestBusinessException;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CheerFeedCursorTest {
+
+    @Test
+    @DisplayName("cursor round-trips createdAt with sub-millisecond precision and id")
+    void encodeDecode_roundTrips() {
+        CheerFeedCursor cursor = new CheerFeedCursor(Instant.parse("2026-04-01T09:30:15.123456Z"), 4321L);
+
+        CheerFeedCursor decoded = CheerFeedCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("blank cursor means the first page")
+    void decode_blankIsFirstPage() {
+        assertThat(CheerFeedCursor.decode(null)).isNull();
+        assertThat(CheerFeedCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("tampered cursor is rejected as a bad request")
+    void decode_rejectsTamperedCursor() {
+        assertThatThrownBy(() -> CheerFeedCursor.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestBusinessException.class);
+        assertThatThrownBy(() -> CheerFeedCursor.decode("%%%"))
+                .isInstanceOf(BadRequestBusinessException.class);
+    }
+}
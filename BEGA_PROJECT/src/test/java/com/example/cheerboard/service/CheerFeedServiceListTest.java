@@ -47,6 +47,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static com.example.cheerboard.service.CheerFeedServiceTestSupport.awaitActiveFeedEnrichmentCount;
 import static com.example.cheerboard.service.CheerFeedServiceTestSupport.createRepostPost;
@@ -442,4 +443,94 @@ class CheerFeedServiceListTest extends CheerFeedServiceTestFixture {
                 "profiles/88/profile.webp",
                 "profiles/88/feed-v3/profile.webp");
     }
+
+    @Test
+    @DisplayName("listCursor reads one extra row for hasNext and never runs an offset/count page query")
+    @SuppressWarnings("unchecked")
+    void listCursor_fetchesKeysetSliceWithoutCount() {
+        CheerPost first = createSimplePost(503L, 33L);
+        CheerPost second = createSimplePost(502L, 33L);
+        CheerPost extra = createSimplePost(501L, 33L);
+        String cursor = new CheerFeedCursor(java.time.Instant.parse("2026-04-01T00:00:00Z"), 600L).encode();
+        org.mockito.Mockito.doReturn(List.of(first, second, extra))
+                .when(postRepo).findBy(any(Specification.class), any());
+
+        var page = feedService.listCursor(null, null, cursor, 2, null);
+
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.size()).isEqualTo(2);
+        assertThat(page.nextCursor()).isEqualTo(CheerFeedCursor.of(second).encode());
+        verify(postRepo, times(1)).findBy(any(Specification.class), any());
+        verify(postRepo, never()).findAll(org.mockito.ArgumentMatchers.<Specification<CheerPost>>any(),
+                any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("listCursor first page runs a separate pinned-notice head query")
+    @SuppressWarnings("unchecked")
+    void listCursor_firstPageQueriesPinnedNoticeHead() {
+        CheerPost notice = createSimplePost(900L, 1L);
+        notice.setPostType(PostType.NOTICE);
+        CheerPost post = createSimplePost(501L, 33L);
+        org.mockito.Mockito.doReturn(List.of(notice), List.of(post))
+                .when(postRepo).findBy(any(Specification.class), any());
+
+        var page = feedService.listCursor(null, null, null, 20, null);
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(postRepo, times(2)).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @DisplayName("listFollowingPostsCursor returns an empty last page without querying posts when nobody is followed")
+    @SuppressWarnings("unchecked")
+    void listFollowingPostsCursor_returnsEmptyPageWithoutFollows() {
+        UserEntity me = UserEntity.builder().id(77L).name("Me").build();
+        when(followService.getFollowingIds(77L)).thenReturn(Collections.emptyList());
+
+        var page = feedService.listFollowingPostsCursor(null, 500, me);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.size()).isEqualTo(50);
+        assertThat(page.hasNext()).isFalse();
+        verify(postRepo, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @DisplayName("listFollowingPosts keeps the exact-total page query and never reads the following timeline")
+    void listFollowingPosts_usesLegacyPageQuery() {
+        UserEntity me = UserEntity.builder().id(77L).name("Me").build();
+        when(followService.getFollowingIds(77L)).thenReturn(Collections.emptyList());
+
+        Page<PostSummaryRes> page = feedService.listFollowingPosts(PageRequest.of(1, 2), me);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+        verifyNoInteractions(followingTimelineService);
+    }
+
+    @Test
+    @DisplayName("listFollowingPostsCursor builds the next cursor from the last timeline entry")
+    @SuppressWarnings("unchecked")
+    void listFollowingPostsCursor_readsMaterializedTimeline() {
+        UserEntity me = UserEntity.builder().id(77L).name("Me").build();
+        when(followingTimelineService.readEntriesBefore(77L, null, 3)).thenReturn(java.util.Optional.of(List.of(
+                new FollowingTimelineStore.TimelineEntry(703L, 33L, 3_000L),
+                new FollowingTimelineStore.TimelineEntry(702L, 34L, 2_000L),
+                new FollowingTimelineStore.TimelineEntry(701L, 33L, 1_000L))));
+        org.mockito.Mockito.doReturn(List.of(createSimplePost(702L, 34L), createSimplePost(703L, 33L)))
+                .when(postRepo).findBy(any(Specification.class), any());
+
+        var page = feedService.listFollowingPostsCursor(null, 2, me);
+
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.nextCursor())
+                .isEqualTo(new CheerFeedCursor(java.time.Instant.ofEpochMilli(2_000L), 702L).encode());
+        verify(followService, never()).getFollowingIds(anyLong());
+        // 타임라인 ID 묶음도 차단/비공개 조건을 건 명세로 한 번에 읽는다.
+        verify(postRepo, times(1)).findBy(any(Specification.class), any());
+        verify(postRepo, never()).findAllByIdWithGraph(any());
+    }
 }
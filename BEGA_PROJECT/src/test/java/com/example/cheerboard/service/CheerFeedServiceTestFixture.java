@@ -89,6 +89,8 @@ abstract class CheerFeedServiceTestFixture {
     protected PopularFeedScoringService popularFeedScoringService;
     @Mock
     protected CheerMonitoringMetricsService metricsService;
+    @Mock
+    protected FollowingTimelineService followingTimelineService;
 
     @BeforeEach
     void setUp() {
@@ -87,7 +87,8 @@ class CheerFeedServiceTestLinkedContent {
                 profileImageService,
                 bookmarkRepo,
                 mock(CheerMonitoringMetricsService.class),
-                linkedPostService);
+                linkedPostService,
+                mock(FollowingTimelineService.class));
         feedService.setFeedEnrichmentExecutorForTest(new DirectExecutorService());
         when(imageService.getPostImageUrlsByPostIds(anyList())).thenReturn(Collections.emptyMap());
         when(redisPostService.getViewCounts(anyCollection())).thenReturn(Collections.emptyMap());
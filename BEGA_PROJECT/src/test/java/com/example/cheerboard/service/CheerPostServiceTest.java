@@ -110,6 +110,9 @@ class CheerPostServiceTest {
         @Mock
         private CheerLinkedPostService linkedPostService;
 
+        @Mock
+        private FollowingTimelineService followingTimelineService;
+
         @BeforeEach
         void setUp() {
                 lenient().when(storageConfig.getMaxImagesPerPost()).thenReturn(4);
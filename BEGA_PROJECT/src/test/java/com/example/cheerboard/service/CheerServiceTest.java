@@ -56,7 +56,7 @@ class CheerServiceTest {
         @Mock
         private PostDtoMapper postDtoMapper;
         @Mock
-        private RedisPostService redisPostService;
+        private PostViewCountBuffer viewCountBuffer;
         @Mock
         private BlockService blockService;
         @Mock
@@ -383,7 +383,7 @@ class CheerServiceTest {
                 cheerService.get(postId);
 
                 // Then
-                verify(redisPostService).incrementViewCount(postId, me.getId());
+                verify(viewCountBuffer).recordView(postId, me.getId());
                 @SuppressWarnings("unchecked")
                 org.mockito.ArgumentCaptor<java.util.Collection<CheerPost>> postsCaptor =
                                 org.mockito.ArgumentCaptor.forClass(java.util.Collection.class);
@@ -464,7 +464,7 @@ class CheerServiceTest {
                 // When & Then
                 assertThrows(AccessDeniedException.class, () -> cheerService.get(postId));
 
-                verify(redisPostService, never()).incrementViewCount(anyLong(), any());
+                verify(viewCountBuffer, never()).recordView(anyLong(), any());
         }
 
         @Test
@@ -0,0 +1,203 @@
+package com.example.cheerboard.service;
+
+import com.example.auth.entity.UserEntity;
+import com.example.auth.repository.UserFollowRepository;
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.cheerboard.repo.CheerPostTimelineProjection;
+import com.example.cheerboard.service.FollowingTimelineStore.TimelineEntry;
+import com.example.cheerboard.service.FollowingTimelineStore.TimelineSlice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FollowingTimelineServiceTest {
+
+    private static final long VIEWER_ID = 7L;
+
+    @Mock
+    private FollowingTimelineStore timelineStore;
+
+    @Mock
+    private CheerPostRepo postRepo;
+
+    @Mock
+    private UserFollowRepository followRepo;
+
+    private FollowingTimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(timelineStore.isEnabled()).thenReturn(true);
+        lenient().when(timelineStore.maxEntries()).thenReturn(800);
+        timelineService = new FollowingTimelineService(timelineStore, postRepo, followRepo, 3);
+    }
+
+    @Test
+    @DisplayName("초기화된 타임라인은 ZREVRANGE 결과만으로 응답하고 팔로우 목록을 읽지 않는다")
+    void readEntries_servesSeededTimeline() {
+        when(timelineStore.pullAuthorIds()).thenReturn(Optional.of(Set.of()));
+        when(timelineStore.readRange(VIEWER_ID, 20, 3)).thenReturn(Optional.of(new TimelineSlice(List.of(
+                new TimelineEntry(503L, 33L, 3_000L),
+                new TimelineEntry(502L, 34L, 2_000L)), 22L)));
+
+        Optional<List<TimelineEntry>> entries = timelineService.readEntries(VIEWER_ID, 20, 3);
+
+        assertThat(entries).isPresent();
+        assertThat(entries.get()).extracting(TimelineEntry::postId).containsExactly(503L, 502L);
+        verify(followRepo, never()).findFollowingIdsByFollowerId(anyLong());
+        verify(timelineStore, never()).seed(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 팔로우한 작성자의 최신 글로 다시 만들고 그 결과로 응답한다")
+    void readEntries_rebuildsMissingTimeline() {
+        when(timelineStore.pullAuthorIds()).thenReturn(Optional.of(Set.of()));
+        when(timelineStore.readRange(VIEWER_ID, 0, 2)).thenReturn(Optional.empty());
+        when(followRepo.findFollowingIdsByFollowerId(VIEWER_ID)).thenReturn(List.of(33L, 34L));
+        when(postRepo.findTimelineEntriesByAuthorIds(anyCollection(), any())).thenReturn(List.of(
+                row(503L, 33L, 3_000L), row(502L, 34L, 2_000L), row(501L, 33L, 1_000L)));
+
+        Optional<List<TimelineEntry>> entries = timelineService.readEntries(VIEWER_ID, 0, 2);
+
+        assertThat(entries).isPresent();
+        assertThat(entries.get()).extracting(TimelineEntry::postId).containsExactly(503L, 502L);
+        verify(timelineStore).seed(VIEWER_ID, List.of(
+                new TimelineEntry(503L, 33L, 3_000L),
+                new TimelineEntry(502L, 34L, 2_000L),
+                new TimelineEntry(501L, 33L, 1_000L)));
+    }
+
+    @Test
+    @DisplayName("재구성 DB 조회와 seed 사이에 커밋된 글은 seed 후 다시 읽어 타임라인에 채운다")
+    void readEntries_reappliesPostsCommittedDuringSeed() {
+        when(timelineStore.pullAuthorIds()).thenReturn(Optional.of(Set.of()));
+        when(timelineStore.readRange(VIEWER_ID, 0, 2)).thenReturn(Optional.empty());
+        when(followRepo.findFollowingIdsByFollowerId(VIEWER_ID)).thenReturn(List.of(33L));
+        when(postRepo.findTimelineEntriesByAuthorIds(anyCollection(), any())).thenReturn(List.of(
+                row(502L, 33L, 2_000L), row(501L, 33L, 1_000L)));
+        when(postRepo.findTimelineEntriesByAuthorIdsSince(anyCollection(), any(Instant.class), any()))
+                .thenReturn(List.of(row(503L, 33L, 3_000L), row(502L, 33L, 2_000L)));
+
+        Optional<List<TimelineEntry>> entries = timelineService.readEntries(VIEWER_ID, 0, 2);
+
+        assertThat(entries).isPresent();
+        assertThat(entries.get()).extracting(TimelineEntry::postId).containsExactly(503L, 502L);
+        verify(timelineStore).addEntries(VIEWER_ID, List.of(
+                new TimelineEntry(503L, 33L, 3_000L),
+                new TimelineEntry(502L, 33L, 2_000L)));
+    }
+
+    @Test
+    @DisplayName("팔로우한 pull 작성자의 글은 조회 시점에 DB에서 읽어 타임라인과 합친다")
+    void readEntries_mergesPullAuthorsAtReadTime() {
+        when(timelineStore.pullAuthorIds()).thenReturn(Optional.of(Set.of(99L, 100L)));
+        when(followRepo.findFollowingIdsInList(any(), any())).thenReturn(List.of(99L));
+        when(timelineStore.readRange(VIEWER_ID, 0, 2)).thenReturn(Optional.of(new TimelineSlice(List.of(
+                new TimelineEntry(503L, 33L, 3_000L),
+                new TimelineEntry(501L, 33L, 1_000L)), 2L)));
+        when(postRepo.findTimelineEntriesByAuthorIds(List.of(99L), PageRequest.of(0, 2))).thenReturn(List.of(
+                row(504L, 99L, 4_000L), row(502L, 99L, 2_000L)));
+
+        Optional<List<TimelineEntry>> entries = timelineService.readEntries(VIEWER_ID, 1, 1);
+
+        assertThat(entries).isPresent();
+        assertThat(entries.get()).extracting(TimelineEntry::postId).containsExactly(503L);
+    }
+
+    @Test
+    @DisplayName("보관 상한을 넘는 깊은 페이지는 Redis를 읽지 않고 기존 쿼리로 넘긴다")
+    void readEntries_fallsBackBeyondRetainedEntries() {
+        Optional<List<TimelineEntry>> entries = timelineService.readEntries(VIEWER_ID, 790, 20);
+
+        assertThat(entries).isEmpty();
+        verify(timelineStore, never()).readRange(anyLong(), anyLong(), org.mockito.ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @DisplayName("새 글은 팔로워 타임라인에 fan-out한다")
+    void publishAfterCommit_fansOutToFollowers() {
+        CheerPost post = post(601L, 33L, 5_000L);
+        when(followRepo.countByFollowingId(33L)).thenReturn(2L);
+        when(followRepo.findFollowerIdsByFollowingId(33L)).thenReturn(List.of(7L, 8L));
+
+        timelineService.publishAfterCommit(post);
+
+        verify(timelineStore).fanOut(List.of(7L, 8L), new TimelineEntry(601L, 33L, 5_000L));
+        verify(timelineStore, never()).markPullAuthor(anyLong());
+    }
+
+    @Test
+    @DisplayName("팔로워가 임계값 이상인 작성자는 fan-out하지 않고 pull 작성자로 표시한다")
+    void publishAfterCommit_marksHighFollowerAuthorForPull() {
+        CheerPost post = post(602L, 99L, 5_000L);
+        when(followRepo.countByFollowingId(99L)).thenReturn(3L);
+
+        timelineService.publishAfterCommit(post);
+
+        verify(timelineStore).markPullAuthor(99L);
+        verify(followRepo, never()).findFollowerIdsByFollowingId(anyLong());
+        verify(timelineStore, never()).fanOut(any(), any());
+    }
+
+    @Test
+    @DisplayName("팔로우하면 작성자의 최근 글을 채우고, 언팔로우하면 그 작성자의 항목을 지운다")
+    void followChanges_backfillAndPurge() {
+        when(timelineStore.isPullAuthor(33L)).thenReturn(false);
+        when(postRepo.findTimelineEntriesByAuthorIds(List.of(33L), PageRequest.of(0, 800))).thenReturn(List.of(
+                row(503L, 33L, 3_000L)));
+
+        timelineService.onFollowed(VIEWER_ID, 33L);
+        timelineService.onUnfollowed(VIEWER_ID, 34L);
+
+        verify(timelineStore).addEntries(VIEWER_ID, List.of(new TimelineEntry(503L, 33L, 3_000L)));
+        verify(timelineStore).removeAuthor(VIEWER_ID, 34L);
+    }
+
+    private static CheerPost post(Long postId, Long authorId, long createdAtMillis) {
+        CheerPost post = CheerPost.builder()
+                .id(postId)
+                .author(UserEntity.builder().id(authorId).build())
+                .build();
+        post.setCreatedAt(Instant.ofEpochMilli(createdAtMillis));
+        return post;
+    }
+
+    private static CheerPostTimelineProjection row(Long postId, Long authorId, long createdAtMillis) {
+        return new CheerPostTimelineProjection() {
+            @Override
+            public Long getId() {
+                return postId;
+            }
+
+            @Override
+            public Long getAuthorId() {
+                return authorId;
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return Instant.ofEpochMilli(createdAtMillis);
+            }
+        };
+    }
+}
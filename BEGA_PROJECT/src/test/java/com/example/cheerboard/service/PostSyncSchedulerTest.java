@@ -3,19 +3,30 @@ package com.example.cheerboard.service;
 import com.example.cheerboard.domain.CheerPost;
 import com.example.cheerboard.repo.CheerPostHotScoreProjection;
 import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.cheerboard.repo.CheerPostViewCountJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.jobrunr.scheduling.JobScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.ApplicationArguments;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -32,51 +43,101 @@ class PostSyncSchedulerTest {
     @Mock
     private CheerService cheerService;
 
+    @Mock
+    private CheerPostViewCountJdbcRepository viewCountJdbcRepository;
+
     @Mock
     private JobScheduler jobScheduler;
 
-    @Test
-    @DisplayName("view sync는 full CheerPost entity 대신 hot-score projection만 조회한다")
-    void processPostSyncUsesHotScoreProjectionInsteadOfFullEntityLoad() {
-        PostSyncScheduler scheduler = new PostSyncScheduler(redisPostService, postRepo, cheerService, jobScheduler, true);
-        Long postId = 42L;
-
-        when(redisPostService.getViewCount(postId)).thenReturn(7);
-        when(postRepo.findHotScoreProjectionById(postId)).thenReturn(Optional.of(new TestHotScoreProjection(
-                postId,
-                10,
-                3,
-                2,
-                1,
-                Instant.parse("2026-04-05T09:00:00Z"))));
-
-        scheduler.processPostSync(postId);
-
-        verify(postRepo, never()).findById(postId);
-        verify(postRepo).incrementViewCountByDelta(postId, 7);
-        verify(redisPostService).clearDirtyPost(postId, 7);
-
-        ArgumentCaptor<CheerPost> postCaptor = ArgumentCaptor.forClass(CheerPost.class);
-        verify(cheerService).updateHotScore(postCaptor.capture());
-        CheerPost hotScorePost = postCaptor.getValue();
-        assertThat(hotScorePost.getId()).isEqualTo(postId);
-        assertThat(hotScorePost.getViews()).isEqualTo(17);
-        assertThat(hotScorePost.getLikeCount()).isEqualTo(3);
-        assertThat(hotScorePost.getCommentCount()).isEqualTo(2);
-        assertThat(hotScorePost.getRepostCount()).isEqualTo(1);
-        assertThat(hotScorePost.getCreatedAt()).isEqualTo(Instant.parse("2026-04-05T09:00:00Z"));
-    }
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @Test
     @DisplayName("post sync scheduler가 비활성화되면 recurrent jobs를 등록하지 않는다")
     void runSkipsRecurringJobsWhenDisabled() {
-        PostSyncScheduler scheduler = new PostSyncScheduler(redisPostService, postRepo, cheerService, jobScheduler, false);
+        PostSyncScheduler scheduler = scheduler(false, 200);
 
         scheduler.run(org.mockito.Mockito.mock(ApplicationArguments.class));
 
         verifyNoInteractions(jobScheduler);
     }
 
+    @Test
+    @DisplayName("view sync는 chunk마다 Redis 델타 비우기 1회, DB batch 1회, HOT 점수 pipeline으로 처리한다")
+    void syncViewCountsAppliesEachChunkWithBatchedCalls() {
+        PostSyncScheduler scheduler = scheduler(true, 2);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(redisPostService.getDirtyPostIds()).thenReturn(new LinkedHashSet<>(List.of(1L, 2L, 3L)));
+        when(redisPostService.drainViewDeltas(List.of(1L, 2L))).thenReturn(Map.of(1L, 4));
+        when(redisPostService.drainViewDeltas(List.of(3L))).thenReturn(Map.of(3L, 6));
+        when(postRepo.findHotScoreProjectionsByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> (CheerPostHotScoreProjection) new TestHotScoreProjection(
+                            id, (int) (id * 100), 1, 1, 0, Instant.parse("2026-04-05T09:00:00Z")))
+                    .toList();
+        });
+
+        scheduler.syncViewCounts();
+
+        verify(viewCountJdbcRepository).incrementViewCounts(Map.of(1L, 4));
+        verify(viewCountJdbcRepository).incrementViewCounts(Map.of(3L, 6));
+        verify(redisPostService, never()).restoreViewDeltas(anyMap());
+        verify(transactionManager, times(2)).commit(any());
+
+        verify(cheerService, times(2)).updateHotScores(any());
+        // DB에 이미 델타가 더해진 뒤 다시 읽은 조회수를 그대로 HOT 점수에 쓴다.
+        verify(cheerService).updateHotScores(argThat(posts -> posts.stream()
+                .map(CheerPost::getViews)
+                .toList()
+                .equals(List.of(100))));
+    }
+
+    @Test
+    @DisplayName("DB batch가 실패한 chunk는 비운 Redis 델타를 되돌려 다음 실행에서 다시 반영된다")
+    void failedChunkRestoresDrainedDeltasForNextRun() {
+        PostSyncScheduler scheduler = scheduler(true, 200);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(redisPostService.getDirtyPostIds()).thenReturn(Set.of(1L));
+        when(redisPostService.drainViewDeltas(List.of(1L))).thenReturn(Map.of(1L, 4));
+        when(viewCountJdbcRepository.incrementViewCounts(anyMap()))
+                .thenThrow(new IllegalStateException("db unavailable"));
+
+        scheduler.syncViewCounts();
+
+        verify(redisPostService).restoreViewDeltas(Map.of(1L, 4));
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(cheerService);
+    }
+
+    @Test
+    @DisplayName("Redis에서 델타를 읽지 못한 chunk는 DB를 건드리지 않고 dirty 표시를 그대로 남긴다")
+    void redisFailureSkipsChunkWithoutTouchingDatabase() {
+        PostSyncScheduler scheduler = scheduler(true, 200);
+        when(redisPostService.getDirtyPostIds()).thenReturn(Set.of(1L));
+        when(redisPostService.drainViewDeltas(List.of(1L)))
+                .thenThrow(new IllegalStateException("redis unavailable"));
+
+        scheduler.syncViewCounts();
+
+        verifyNoInteractions(viewCountJdbcRepository, transactionManager, cheerService);
+        verify(redisPostService, never()).restoreViewDeltas(anyMap());
+    }
+
+    private PostSyncScheduler scheduler(boolean enabled, int chunkSize) {
+        return new PostSyncScheduler(
+                redisPostService,
+                postRepo,
+                cheerService,
+                viewCountJdbcRepository,
+                jobScheduler,
+                transactionManager,
+                new SimpleMeterRegistry(),
+                enabled,
+                chunkSize,
+                Duration.ofSeconds(10));
+    }
+
     private record TestHotScoreProjection(
             Long id,
             int views,
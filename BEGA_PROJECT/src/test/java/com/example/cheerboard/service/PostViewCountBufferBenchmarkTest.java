@@ -0,0 +1,105 @@
+package com.example.cheerboard.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회 1,000건당 Redis 명령 수를 기존 직접 반영 경로와 버퍼 경로로 비교한다.
+ * 네트워크 왕복이 비용의 대부분이므로 Redis 클라이언트 호출 수를 지표로 쓴다.
+ */
+class PostViewCountBufferBenchmarkTest {
+
+    private static final int VIEWS = 1_000;
+    private static final int POSTS = 5;
+    private static final int VIEWERS = 200;
+
+    @Test
+    @DisplayName("조회 1k건당 Redis 왕복 수: 직접 반영 대비 버퍼 경로가 크게 줄어든다")
+    @SuppressWarnings("unchecked")
+    void compareRedisRoundTripsPerThousandViews() {
+        long[][] views = sampleViews();
+
+        RedisTemplate<String, Object> directTemplate = mock(RedisTemplate.class);
+        SetOperations<String, Object> setOperations = mock(SetOperations.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        when(directTemplate.opsForSet()).thenReturn(setOperations);
+        when(directTemplate.opsForValue()).thenReturn(valueOperations);
+        java.util.Set<String> seen = new java.util.HashSet<>();
+        when(setOperations.isMember(anyString(), any())).thenAnswer(invocation ->
+                !seen.add(invocation.getArgument(0) + "|" + invocation.getArgument(1)));
+        for (long[] view : views) {
+            incrementDirectly(directTemplate, view[0], view[1]);
+        }
+        long directRoundTrips = Mockito.mockingDetails(setOperations).getInvocations().size()
+                + Mockito.mockingDetails(valueOperations).getInvocations().size()
+                + Mockito.mockingDetails(directTemplate).getInvocations().stream()
+                        .filter(invocation -> invocation.getMethod().getName().equals("expire"))
+                        .count();
+
+        RedisPostService bufferedService = mock(RedisPostService.class);
+        when(bufferedService.applyBufferedViews(anyList(), any(ViewerDedupeMode.class), any(Duration.class)))
+                .thenReturn(0L);
+        PostViewCountBuffer buffer = new PostViewCountBuffer(
+                bufferedService,
+                new SimpleMeterRegistry(),
+                true,
+                ViewerDedupeMode.HLL,
+                Duration.ofHours(24),
+                100_000,
+                100_000);
+        long bufferedStarted = System.nanoTime();
+        for (long[] view : views) {
+            buffer.recordView(view[0], view[1]);
+        }
+        buffer.flush();
+        long bufferedNanos = System.nanoTime() - bufferedStarted;
+        long bufferedRoundTrips = Mockito.mockingDetails(bufferedService).getInvocations().size();
+
+        System.out.printf(
+                "view-count redis round trips per %d views: direct=%d buffered=%d (buffer cpu %.2f ms)%n",
+                VIEWS,
+                directRoundTrips,
+                bufferedRoundTrips,
+                bufferedNanos / 1_000_000.0);
+        assertThat(directRoundTrips).isGreaterThanOrEqualTo(VIEWS);
+        assertThat(bufferedRoundTrips).isEqualTo(1L);
+    }
+
+    /**
+     * 버퍼 도입 전 조회마다 Redis에 직접 반영하던 경로. 비교 기준으로만 남겨 둔다.
+     */
+    private static void incrementDirectly(RedisTemplate<String, Object> redisTemplate, long postId, long userId) {
+        String viewedKey = "post:viewed:" + postId;
+        String identifier = Long.toString(userId);
+        Boolean alreadyViewed = redisTemplate.opsForSet().isMember(viewedKey, identifier);
+        if (Boolean.FALSE.equals(alreadyViewed)) {
+            redisTemplate.opsForSet().add(viewedKey, identifier);
+            redisTemplate.expire(viewedKey, Duration.ofDays(1));
+            redisTemplate.opsForValue().increment("post:views:" + postId);
+            redisTemplate.opsForSet().add("posts:dirty:views", Long.toString(postId));
+        }
+    }
+
+    private long[][] sampleViews() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[][] views = new long[VIEWS][];
+        for (int i = 0; i < VIEWS; i++) {
+            views[i] = new long[] { 1 + random.nextInt(POSTS), 1 + random.nextInt(VIEWERS) };
+        }
+        return views;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.cheerboard.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountBufferTest {
+
+    @Mock
+    private RedisPostService redisPostService;
+
+    @Test
+    @DisplayName("같은 노드의 중복 조회는 Redis 호출 없이 버리고 flush 한 번으로 반영한다")
+    void duplicateViewsAreDroppedLocallyAndFlushedOnce() {
+        PostViewCountBuffer buffer = buffer(true, 1000);
+        when(redisPostService.applyBufferedViews(anyList(), eq(ViewerDedupeMode.HLL), any(Duration.class)))
+                .thenReturn(2L);
+
+        buffer.recordView(1L, 10L);
+        buffer.recordView(1L, 10L);
+        buffer.recordView(1L, 11L);
+        verifyNoInteractions(redisPostService);
+
+        buffer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Map.Entry<Long, List<String>>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisPostService).applyBufferedViews(captor.capture(), eq(ViewerDedupeMode.HLL), any(Duration.class));
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getKey()).isEqualTo(1L);
+        assertThat(captor.getValue().get(0).getValue()).containsExactly("10", "11");
+        assertThat(buffer.pendingViewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면 flush는 Redis를 호출하지 않는다")
+    void emptyFlushDoesNotTouchRedis() {
+        PostViewCountBuffer buffer = buffer(true, 1000);
+
+        buffer.flush();
+
+        verifyNoInteractions(redisPostService);
+    }
+
+    @Test
+    @DisplayName("버퍼가 꺼져 있으면 같은 HLL 중복 제거 스크립트로 바로 반영한다")
+    void disabledBufferAppliesThroughSameDedupePath() {
+        PostViewCountBuffer buffer = buffer(false, 1000);
+
+        buffer.recordView(1L, null);
+
+        verify(redisPostService).applyBufferedViews(
+                eq(List.of(Map.entry(1L, List.of(PostViewCountBuffer.ANONYMOUS_VIEWER)))),
+                eq(ViewerDedupeMode.HLL), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 조회가 상한을 넘으면 같은 HLL 중복 제거 스크립트로 바로 반영한다")
+    void overflowAppliesThroughSameDedupePath() {
+        PostViewCountBuffer buffer = buffer(true, 1);
+
+        buffer.recordView(1L, 10L);
+        buffer.recordView(2L, 20L);
+
+        verify(redisPostService).applyBufferedViews(
+                eq(List.of(Map.entry(2L, List.of("20")))), eq(ViewerDedupeMode.HLL), any(Duration.class));
+        assertThat(buffer.pendingViewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 로컬 중복 기록을 지워 다음 조회가 다시 집계되게 한다")
+    void failedFlushForgetsLocalDedupeEntries() {
+        PostViewCountBuffer buffer = buffer(true, 1000);
+        when(redisPostService.applyBufferedViews(anyList(), eq(ViewerDedupeMode.HLL), any(Duration.class)))
+                .thenReturn(-1L, 1L);
+
+        buffer.recordView(1L, 10L);
+        buffer.flush();
+        buffer.recordView(1L, 10L);
+        buffer.flush();
+
+        verify(redisPostService, times(2))
+                .applyBufferedViews(anyList(), eq(ViewerDedupeMode.HLL), any(Duration.class));
+    }
+
+    private PostViewCountBuffer buffer(boolean enabled, int maxPendingViews) {
+        return new PostViewCountBuffer(
+                redisPostService,
+                new SimpleMeterRegistry(),
+                enabled,
+                ViewerDedupeMode.HLL,
+                Duration.ofHours(24),
+                10_000,
+                maxPendingViews);
+    }
+}
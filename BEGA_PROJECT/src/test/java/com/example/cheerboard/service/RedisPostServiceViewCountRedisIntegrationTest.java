@@ -0,0 +1,76 @@
+package com.example.cheerboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.common.config.RedisConfig;
+import com.example.support.RedisIntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RedisPostServiceViewCountRedisIntegrationTest {
+
+    @Test
+    @EnabledIfSystemProperty(named = "realtime.redis.integration", matches = "true")
+    void bufferedViewsAreDedupedPerViewerAndDrainedForSync() {
+        long hllPostId = positiveRandomId();
+        long setPostId = positiveRandomId();
+        List<String> keys = List.of(
+                "post:views:" + hllPostId, "post:viewed:hll:" + hllPostId,
+                "post:views:" + setPostId, "post:viewed:" + setPostId);
+
+        LettuceConnectionFactory connectionFactory = RedisIntegrationTestSupport.connectionFactory();
+        try {
+            RedisConfig redisConfig = new RedisConfig();
+            RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(
+                    connectionFactory, redisConfig.redisValueSerializer(new ObjectMapper()));
+            StringRedisTemplate rawTemplate = new StringRedisTemplate(connectionFactory);
+            rawTemplate.afterPropertiesSet();
+            RedisPostService redisPostService = new RedisPostService(redisTemplate);
+
+            for (ViewerDedupeMode mode : ViewerDedupeMode.values()) {
+                long postId = mode == ViewerDedupeMode.HLL ? hllPostId : setPostId;
+
+                // 같은 스크립트 호출 안에서 게시글이 두 번 나와도 조회자 10은 한 번만 센다.
+                long firstApplied = redisPostService.applyBufferedViews(List.of(
+                        Map.entry(postId, List.of("10", "11")),
+                        Map.entry(postId, List.of("10"))), mode, Duration.ofHours(1));
+                // 다른 노드가 같은 조회자를 다시 보내도 새 조회자 12만 더해진다.
+                long secondApplied = redisPostService.applyBufferedViews(List.of(
+                        Map.entry(postId, List.of("10", "12"))), mode, Duration.ofHours(1));
+
+                assertThat(firstApplied).as("first flush in %s mode", mode).isEqualTo(2L);
+                assertThat(secondApplied).as("second flush in %s mode", mode).isEqualTo(1L);
+                assertThat(rawTemplate.opsForValue().get("post:views:" + postId)).isEqualTo("3");
+                assertThat(redisPostService.getDirtyPostIds()).contains(postId);
+            }
+
+            assertThat(rawTemplate.getExpire("post:viewed:hll:" + hllPostId)).isPositive();
+            assertThat(rawTemplate.opsForSet().size("post:viewed:" + setPostId)).isEqualTo(3L);
+
+
+            // 동기화는 델타를 읽는 동시에 비우고 dirty 표시를 지운다.
+            assertThat(redisPostService.drainViewDeltas(List.of(hllPostId, setPostId)))
+                    .containsExactlyInAnyOrderEntriesOf(Map.of(hllPostId, 3, setPostId, 3));
+            assertThat(rawTemplate.hasKey("post:views:" + hllPostId)).isFalse();
+            assertThat(redisPostService.getDirtyPostIds()).doesNotContain(hllPostId, setPostId);
+        } finally {
+            new StringRedisTemplate(connectionFactory).delete(keys);
+            connectionFactory.destroy();
+        }
+    }
+
+    private long positiveRandomId() {
+        long candidate = UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE;
+        return candidate == 0L ? 1L : candidate;
+    }
+}
@@ -13,13 +13,19 @@ import com.example.cheerboard.storage.strategy.StorageStrategy;
 import com.example.cheerboard.storage.validator.ImageValidator;
 import com.example.common.exception.BadRequestBusinessException;
 import com.example.common.exception.NotFoundBusinessException;
+import com.example.common.image.ImageUtil;
+import com.example.media.entity.MediaDomain;
+import com.example.media.entity.MediaVariant;
 import com.example.media.service.MediaObjectKeyGuard;
+import com.example.media.service.MediaVariantService;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.jobrunr.jobs.lambdas.JobLambda;
+import org.jobrunr.scheduling.JobScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,12 +34,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
@@ -43,7 +52,6 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -88,9 +96,6 @@ class ImageServiceTest {
     @Mock
     private ValueOperations<String, String> stringValueOperations;
 
-    @Mock
-    private com.example.common.image.ImageUtil imageUtil;
-
     @Mock
     private com.example.common.image.ImageOptimizationMetricsService metricsService;
 
@@ -100,6 +105,21 @@ class ImageServiceTest {
     @Mock
     private PublicVisibilityVerifier publicVisibilityVerifier;
 
+    @Mock
+    private MediaVariantService mediaVariantService;
+
+    @Mock
+    private ImageUtil imageUtil;
+
+    @Mock
+    private SignedUrlService signedUrlService;
+
+    @Mock
+    private ObjectProvider<JobScheduler> jobSchedulerProvider;
+
+    @Mock
+    private JobScheduler jobScheduler;
+
     @BeforeEach
     void setUp() {
         lenient().when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
@@ -206,7 +226,7 @@ class ImageServiceTest {
     @Test
     @DisplayName("I-08: 게시글 이미지 캐시가 손상되어도 DB fallback으로 목록 조회를 계속한다")
     void getPostImageUrlsByPostIds_fallsBackWhenCacheEntryIsCorrupted() {
-        when(stringValueOperations.get("postImageUrls::1")).thenThrow(new SerializationException("broken cache payload"));
+        when(stringValueOperations.multiGet(List.of("postImageUrls::1"))).thenReturn(List.of("[1]"));
         when(postImageRepo.findByPostIdInOrderByPostIdAscCreatedAtAsc(Collections.singletonList(1L)))
                 .thenReturn(Collections.emptyList());
 
@@ -221,7 +241,7 @@ class ImageServiceTest {
     @Test
     @DisplayName("I-09: 게시글 이미지 캐시 저장이 실패해도 목록 응답은 계속된다")
     void getPostImageUrlsByPostIds_ignoresCacheWriteFailure() {
-        when(stringValueOperations.get("postImageUrls::1")).thenReturn(null);
+        when(stringValueOperations.multiGet(List.of("postImageUrls::1"))).thenReturn(Collections.singletonList(null));
         when(postImageRepo.findByPostIdInOrderByPostIdAscCreatedAtAsc(Collections.singletonList(1L)))
                 .thenReturn(Collections.emptyList());
         doThrow(new SerializationException("write failed")).when(stringValueOperations)
@@ -330,29 +350,204 @@ class ImageServiceTest {
                 "seat.png",
                 "image/png",
                 "demo".getBytes(StandardCharsets.UTF_8));
-        var processed = new com.example.common.image.ImageUtil.ProcessedImage(
-                "optimized".getBytes(StandardCharsets.UTF_8),
-                "image/webp",
-                "webp");
 
         when(config.getMaxImagesPerDiary()).thenReturn(5);
         when(config.getDiaryBucket()).thenReturn("diary-bucket");
-        when(imageUtil.process(file, "diary")).thenReturn(processed);
-        when(storageStrategy.uploadBytes(
-                eq(processed.getBytes()),
-                eq("image/webp"),
-                eq("diary-bucket"),
-                anyString())).thenReturn(Mono.just("diary/10/100/demo.webp"));
+        when(storageStrategy.upload(eq(file), eq("diary-bucket"), anyString()))
+                .thenReturn(Mono.just("diary/10/100/demo.png"));
 
         List<String> result = imageService.uploadDiaryImages(10L, 100L, List.of(file)).block();
 
-        org.assertj.core.api.Assertions.assertThat(result).containsExactly("diary/10/100/demo.webp");
+        org.assertj.core.api.Assertions.assertThat(result).containsExactly("diary/10/100/demo.png");
         org.assertj.core.api.Assertions.assertThat(executor.executeCount()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("게시글 이미지 URL 일괄 조회는 common pool 대신 전용 이미지 executor를 사용한다")
-    void getPostImageUrlsByPostIds_usesImageUploadExecutorForSignedUrls() {
+    @DisplayName("게시글 이미지 업로드는 메타데이터를 걷어낸 원본을 PUT 한 번으로 저장하고 파생본 생성을 작업으로 넘긴다")
+    void uploadPostImages_storesStrippedOriginalOnceAndEnqueuesVariantJob() throws Exception {
+        imageService.setImageUploadExecutorForTest(new TrackingDirectExecutorService());
+        UserEntity author = UserEntity.builder().id(1L).role("ROLE_USER").build();
+        CheerPost post = CheerPost.builder().id(100L).author(author).build();
+        MockMultipartFile file = new MockMultipartFile(
+                "files",
+                "seat.JPG",
+                "image/jpeg",
+                "demo".getBytes(StandardCharsets.UTF_8));
+        byte[] strippedBytes = "stripped".getBytes(StandardCharsets.UTF_8);
+
+        when(currentUser.get()).thenReturn(author);
+        when(postRepo.findByIdForWrite(100L)).thenReturn(Optional.of(post));
+        when(config.getCheerBucket()).thenReturn("cheer-bucket");
+        when(imageUtil.canDeriveVariants("image/jpeg")).thenReturn(true);
+        when(imageUtil.stripMetadata(file, "cheer_post"))
+                .thenReturn(new ImageUtil.ProcessedImage(strippedBytes, "image/jpeg", "jpg"));
+        when(storageStrategy.uploadBytes(eq(strippedBytes), eq("image/jpeg"), eq("cheer-bucket"), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(3, String.class)));
+        when(signedUrlService.sign(eq("cheer-bucket"), anyString(), eq("post_image"))).thenReturn("signed");
+        when(jobSchedulerProvider.getIfAvailable()).thenReturn(jobScheduler);
+
+        var result = imageService.uploadPostImages(100L, List.of(file));
+
+        org.assertj.core.api.Assertions.assertThat(result).hasSize(1);
+        String storedPath = result.get(0).storagePath();
+        org.assertj.core.api.Assertions.assertThat(storedPath).startsWith("posts/100/").endsWith(".jpg");
+        org.assertj.core.api.Assertions.assertThat(result.get(0).mimeType()).isEqualTo("image/jpeg");
+        org.assertj.core.api.Assertions.assertThat(result.get(0).bytes()).isEqualTo((long) strippedBytes.length);
+        verify(storageStrategy).uploadBytes(eq(strippedBytes), eq("image/jpeg"), eq("cheer-bucket"), anyString());
+        verify(storageStrategy, never()).upload(any(), any(), any());
+        verify(signedUrlService).sign("cheer-bucket", storedPath, "post_image");
+        verify(jobScheduler).enqueue(any(JobLambda.class));
+    }
+
+    @Test
+    @DisplayName("파생본을 만들 수 없는 GIF는 원본을 그대로 저장하고 파생본 작업을 만들지 않는다")
+    void uploadPostImages_storesGifAsIsWithoutVariantJob() {
+        imageService.setImageUploadExecutorForTest(new TrackingDirectExecutorService());
+        UserEntity author = UserEntity.builder().id(1L).role("ROLE_USER").build();
+        CheerPost post = CheerPost.builder().id(100L).author(author).build();
+        MockMultipartFile file = new MockMultipartFile(
+                "files",
+                "cheer.gif",
+                "image/gif",
+                "demo".getBytes(StandardCharsets.UTF_8));
+
+        when(currentUser.get()).thenReturn(author);
+        when(postRepo.findByIdForWrite(100L)).thenReturn(Optional.of(post));
+        when(config.getCheerBucket()).thenReturn("cheer-bucket");
+        when(storageStrategy.upload(eq(file), eq("cheer-bucket"), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(2, String.class)));
+
+        var result = imageService.uploadPostImages(100L, List.of(file));
+
+        org.assertj.core.api.Assertions.assertThat(result.get(0).storagePath()).endsWith(".gif");
+        verify(storageStrategy, never()).uploadBytes(any(), any(), any(), any());
+        verify(jobSchedulerProvider, never()).getIfAvailable();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 받은 다이어리 업로드 Mono는 커밋 전에 구독돼도 파생본 작업을 커밋 후에 등록한다")
+    void uploadDiaryImages_enqueuesVariantJobAfterCallerCommit() throws Exception {
+        imageService.setImageUploadExecutorForTest(new TrackingDirectExecutorService());
+        MockMultipartFile file = new MockMultipartFile(
+                "images",
+                "seat.png",
+                "image/png",
+                "demo".getBytes(StandardCharsets.UTF_8));
+        byte[] strippedBytes = "stripped".getBytes(StandardCharsets.UTF_8);
+
+        when(config.getMaxImagesPerDiary()).thenReturn(5);
+        when(config.getDiaryBucket()).thenReturn("diary-bucket");
+        when(imageUtil.canDeriveVariants("image/png")).thenReturn(true);
+        when(imageUtil.stripMetadata(file, "diary"))
+                .thenReturn(new ImageUtil.ProcessedImage(strippedBytes, "image/png", "png"));
+        when(storageStrategy.uploadBytes(eq(strippedBytes), eq("image/png"), eq("diary-bucket"), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(3, String.class)));
+        when(jobSchedulerProvider.getIfAvailable()).thenReturn(jobScheduler);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            List<String> result = imageService.uploadDiaryImages(10L, 100L, List.of(file)).block();
+
+            org.assertj.core.api.Assertions.assertThat(result).singleElement()
+                    .asString().startsWith("diary/10/100/").endsWith(".png");
+            verify(jobScheduler, never()).enqueue(any(JobLambda.class));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(jobScheduler).enqueue(any(JobLambda.class));
+    }
+
+    @Test
+    @DisplayName("다이어리 업로드 Mono가 호출 트랜잭션 커밋 뒤에 구독되면 업로드가 끝나는 즉시 파생본 작업을 등록한다")
+    void uploadDiaryImages_enqueuesImmediatelyWhenSubscribedAfterCommit() throws Exception {
+        imageService.setImageUploadExecutorForTest(new TrackingDirectExecutorService());
+        MockMultipartFile file = new MockMultipartFile(
+                "images",
+                "seat.png",
+                "image/png",
+                "demo".getBytes(StandardCharsets.UTF_8));
+        byte[] strippedBytes = "stripped".getBytes(StandardCharsets.UTF_8);
+
+        when(config.getMaxImagesPerDiary()).thenReturn(5);
+        when(config.getDiaryBucket()).thenReturn("diary-bucket");
+        when(imageUtil.canDeriveVariants("image/png")).thenReturn(true);
+        when(imageUtil.stripMetadata(file, "diary"))
+                .thenReturn(new ImageUtil.ProcessedImage(strippedBytes, "image/png", "png"));
+        when(storageStrategy.uploadBytes(eq(strippedBytes), eq("image/png"), eq("diary-bucket"), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(3, String.class)));
+        when(jobSchedulerProvider.getIfAvailable()).thenReturn(jobScheduler);
+
+        Mono<List<String>> upload;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            upload = imageService.uploadDiaryImages(10L, 100L, List.of(file));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        upload.block();
+
+        verify(jobScheduler).enqueue(any(JobLambda.class));
+    }
+
+    @Test
+    @DisplayName("다이어리 이미지 URL은 FULL 파생본이 있으면 파생본을, 없으면 원본을 서명한다")
+    void getDiaryImageSignedUrls_prefersFullVariant() {
+        when(config.getDiaryBucket()).thenReturn("diary-bucket");
+        when(config.getSignedUrlTtlSeconds()).thenReturn(600);
+        when(mediaObjectKeyGuard.canReadDiaryKey(anyString(), eq(10L), eq(100L))).thenReturn(true);
+        when(mediaVariantService.resolveVariantKeys(
+                List.of("diary/10/100/a.webp", "diary/10/100/b.webp"), MediaVariant.FULL))
+                .thenReturn(Map.of("diary/10/100/a.webp", "diary/10/100/a_full.webp"));
+        when(storageStrategy.getUrl("diary-bucket", "diary/10/100/a_full.webp", 600))
+                .thenReturn(Mono.just("signed-a-full"));
+        when(storageStrategy.getUrl("diary-bucket", "diary/10/100/b.webp", 600))
+                .thenReturn(Mono.just("signed-b"));
+
+        List<String> result = imageService.getDiaryImageSignedUrls(
+                List.of("diary/10/100/a.webp", "diary/10/100/b.webp"), 10L, 100L).block();
+
+        org.assertj.core.api.Assertions.assertThat(result).containsExactly("signed-a-full", "signed-b");
+    }
+
+    @Test
+    @DisplayName("게시글 목록 이미지 URL은 FEED 파생본이 있으면 파생본을, 없으면 원본을 서명한다")
+    void getPostImageUrlsByPostIds_prefersFeedVariant() {
+        CheerPost post = CheerPost.builder().id(1L).build();
+        PostImage withVariant = PostImage.builder().id(11L).post(post).storagePath("posts/1/a.jpg").build();
+        PostImage pending = PostImage.builder().id(12L).post(post).storagePath("posts/1/b.jpg").build();
+
+        when(postImageRepo.findByPostIdInOrderByPostIdAscCreatedAtAsc(List.of(1L)))
+                .thenReturn(List.of(withVariant, pending));
+        when(mediaVariantService.resolveVariantKeys(List.of("posts/1/a.jpg", "posts/1/b.jpg"), MediaVariant.FEED))
+                .thenReturn(Map.of("posts/1/a.jpg", "posts/1/a_feed.webp"));
+        when(config.getCheerBucket()).thenReturn("cheer-bucket");
+        when(signedUrlService.signAll("cheer-bucket", List.of("posts/1/a_feed.webp", "posts/1/b.jpg"), "post_feed"))
+                .thenReturn(Map.of("posts/1/a_feed.webp", "signed-a-feed", "posts/1/b.jpg", "signed-b"));
+
+        Map<Long, List<String>> result = imageService.getPostImageUrlsByPostIds(List.of(1L));
+
+        org.assertj.core.api.Assertions.assertThat(result.get(1L)).containsExactly("signed-a-feed", "signed-b");
+    }
+
+    @Test
+    @DisplayName("파생본 작업이 새 파생본을 만들면 게시글 이미지 URL 캐시를 비운다")
+    void generatePostImageVariants_evictsPostImageCacheWhenVariantsAreReady() {
+        when(mediaVariantService.generateVariants(MediaDomain.CHEER, 1L, "posts/100/a.jpg")).thenReturn(true);
+
+        imageService.generatePostImageVariants(100L, 1L, "posts/100/a.jpg");
+
+        verify(stringRedisTemplate).delete("postImageUrls::100");
+    }
+
+    @Test
+    @DisplayName("게시글 이미지 URL 일괄 조회는 캐시를 MGET 한 번으로 읽고 executor 없이 한 번에 서명한다")
+    void getPostImageUrlsByPostIds_readsCacheOnceAndSignsInOneBatch() {
         TrackingDirectExecutorService executor = new TrackingDirectExecutorService();
         imageService.setImageUploadExecutorForTest(executor);
         CheerPost post1 = CheerPost.builder().id(1L).build();
@@ -373,21 +568,26 @@ class ImageServiceTest {
                 .storagePath("posts/2/a.webp")
                 .build();
 
+        when(stringValueOperations.multiGet(List.of("postImageUrls::1", "postImageUrls::2", "postImageUrls::3")))
+                .thenReturn(java.util.Arrays.asList(null, null, "[\"signed-3a\"]"));
         when(postImageRepo.findByPostIdInOrderByPostIdAscCreatedAtAsc(List.of(1L, 2L)))
                 .thenReturn(List.of(image1, image2, image3));
         when(config.getCheerBucket()).thenReturn("cheer-bucket");
-        when(storageStrategy.getUrl(eq("cheer-bucket"), eq("posts/1/a.webp"), anyInt()))
-                .thenReturn(Mono.just("signed-1a"));
-        when(storageStrategy.getUrl(eq("cheer-bucket"), eq("posts/1/b.webp"), anyInt()))
-                .thenReturn(Mono.just("signed-1b"));
-        when(storageStrategy.getUrl(eq("cheer-bucket"), eq("posts/2/a.webp"), anyInt()))
-                .thenReturn(Mono.just("signed-2a"));
+        when(signedUrlService.signAll(
+                "cheer-bucket", List.of("posts/1/a.webp", "posts/1/b.webp", "posts/2/a.webp"), "post_feed"))
+                .thenReturn(Map.of(
+                        "posts/1/a.webp", "signed-1a",
+                        "posts/1/b.webp", "signed-1b",
+                        "posts/2/a.webp", "signed-2a"));
 
-        Map<Long, List<String>> result = imageService.getPostImageUrlsByPostIds(List.of(1L, 2L));
+        Map<Long, List<String>> result = imageService.getPostImageUrlsByPostIds(List.of(1L, 2L, 3L));
 
         org.assertj.core.api.Assertions.assertThat(result.get(1L)).containsExactly("signed-1a", "signed-1b");
         org.assertj.core.api.Assertions.assertThat(result.get(2L)).containsExactly("signed-2a");
-        org.assertj.core.api.Assertions.assertThat(executor.executeCount()).isEqualTo(3);
+        org.assertj.core.api.Assertions.assertThat(result.get(3L)).containsExactly("signed-3a");
+        org.assertj.core.api.Assertions.assertThat(executor.executeCount()).isZero();
+        verify(stringValueOperations, never()).get(anyString());
+        verify(signedUrlService).signAll(anyString(), any(), eq("post_feed"));
     }
 
     @Test
@@ -400,24 +600,16 @@ class ImageServiceTest {
                 "seat.png",
                 "image/png",
                 "demo".getBytes(StandardCharsets.UTF_8));
-        var processed = new com.example.common.image.ImageUtil.ProcessedImage(
-                "optimized".getBytes(StandardCharsets.UTF_8),
-                "image/webp",
-                "webp");
 
         when(config.getMaxImagesPerDiary()).thenReturn(5);
         when(config.getDiaryBucket()).thenReturn("diary-bucket");
-        when(imageUtil.process(file, "diary")).thenReturn(processed);
-        when(storageStrategy.uploadBytes(
-                eq(processed.getBytes()),
-                eq("image/webp"),
-                eq("diary-bucket"),
-                anyString())).thenReturn(Mono.just("diary/10/100/demo.webp"));
+        when(storageStrategy.upload(eq(file), eq("diary-bucket"), anyString()))
+                .thenReturn(Mono.just("diary/10/100/demo.png"));
 
         try {
             List<String> result = imageService.uploadDiaryImages(10L, 100L, List.of(file)).block();
 
-            org.assertj.core.api.Assertions.assertThat(result).containsExactly("diary/10/100/demo.webp");
+            org.assertj.core.api.Assertions.assertThat(result).containsExactly("diary/10/100/demo.png");
             org.assertj.core.api.Assertions.assertThat(meterRegistry.get("image_upload_executor_active")
                     .tag("executor", "image_upload")
                     .gauge()
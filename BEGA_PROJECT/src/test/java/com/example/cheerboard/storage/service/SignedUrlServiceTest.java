@@ -0,0 +1,148 @@
+package com.example.cheerboard.storage.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.cheerboard.storage.config.StorageConfig;
+import com.example.cheerboard.storage.strategy.StorageStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class SignedUrlServiceTest {
+
+    // 1시간 버킷 기준으로 10:00~11:00 구간 안의 시각
+    private static final Instant NOW = Instant.parse("2026-10-17T10:20:00Z");
+    private static final long WINDOW_START = Instant.parse("2026-10-17T10:00:00Z").getEpochSecond();
+    private static final int TTL_SECONDS = 518400;
+
+    @Mock
+    private StorageStrategy storageStrategy;
+
+    @Mock
+    private StorageConfig config;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(config.getSignedUrlTtlSeconds()).thenReturn(TTL_SECONDS);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 경로는 서명하지 않고, 미스만 버킷 경계 기준 만료로 서명한다")
+    void signAll_presignsOnlyMissesWithBucketAlignedExpiry() {
+        SignedUrlService service = serviceAt(NOW);
+        when(valueOperations.multiGet(List.of(key("posts/1/a.webp"), key("posts/1/b.webp"))))
+                .thenReturn(Arrays.asList("cached-a", null));
+        // 버킷 끝(11:00) + TTL - 현재(10:20) = 40분 + TTL
+        int expectedExpiry = TTL_SECONDS + (int) Duration.ofMinutes(40).toSeconds();
+        when(storageStrategy.getUrl("cheer-bucket", "posts/1/b.webp", expectedExpiry))
+                .thenReturn(Mono.just("signed-b"));
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.<Object>of(true));
+
+        Map<String, String> urls = service.signAll(
+                "cheer-bucket", List.of("posts/1/a.webp", "posts/1/b.webp", "posts/1/a.webp"), "post_feed");
+
+        assertThat(urls).containsExactly(
+                Map.entry("posts/1/a.webp", "cached-a"),
+                Map.entry("posts/1/b.webp", "signed-b"));
+        verify(storageStrategy, never()).getUrl(eq("cheer-bucket"), eq("posts/1/a.webp"), anyInt());
+        assertThat(meterRegistry.get("image_signed_url_presign_calls").tag("source", "post_feed")
+                .summary().totalAmount()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("image_signed_url_cache_hit_ratio").tag("source", "post_feed")
+                .summary().mean()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("같은 버킷 안에서는 서명 시점이 달라도 만료 시각이 같다")
+    void signAll_alignsExpiryWithinSameBucket() {
+        when(valueOperations.multiGet(List.of(key("posts/1/a.webp")))).thenReturn(Arrays.asList((String) null));
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.<Object>of(true));
+        when(storageStrategy.getUrl(eq("cheer-bucket"), eq("posts/1/a.webp"), anyInt()))
+                .thenAnswer(invocation -> Mono.just("expires-in-" + invocation.getArgument(2, Integer.class)));
+
+        String early = serviceAt(NOW).sign("cheer-bucket", "posts/1/a.webp", "post_image");
+        String late = serviceAt(NOW.plus(Duration.ofMinutes(30))).sign("cheer-bucket", "posts/1/a.webp", "post_image");
+
+        long earlyExpiresAt = NOW.getEpochSecond() + Long.parseLong(early.substring("expires-in-".length()));
+        long lateExpiresAt = NOW.plus(Duration.ofMinutes(30)).getEpochSecond()
+                + Long.parseLong(late.substring("expires-in-".length()));
+        assertThat(earlyExpiresAt).isEqualTo(lateExpiresAt).isEqualTo(WINDOW_START + 3600 + TTL_SECONDS);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 저장했으면 저장된 URL을 따라간다")
+    void signAll_adoptsUrlStoredByAnotherInstance() {
+        SignedUrlService service = serviceAt(NOW);
+        when(storageStrategy.getUrl(eq("cheer-bucket"), eq("posts/1/a.webp"), anyInt()))
+                .thenReturn(Mono.just("signed-here"));
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.<Object>of(false));
+        // 첫 MGET은 미스, SETNX에 진 뒤의 MGET은 다른 인스턴스가 저장한 URL
+        when(valueOperations.multiGet(List.of(key("posts/1/a.webp"))))
+                .thenReturn(Arrays.asList((String) null), List.of("signed-elsewhere"));
+
+        Map<String, String> urls = service.signAll("cheer-bucket", List.of("posts/1/a.webp"), "post_feed");
+
+        assertThat(urls).containsEntry("posts/1/a.webp", "signed-elsewhere");
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패해도 직접 서명으로 응답한다")
+    void signAll_fallsBackToPresignWhenRedisFails() {
+        SignedUrlService service = serviceAt(NOW);
+        when(valueOperations.multiGet(any())).thenThrow(new IllegalStateException("redis down"));
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new IllegalStateException("redis down"));
+        when(storageStrategy.getUrl(eq("cheer-bucket"), anyString(), anyInt())).thenReturn(Mono.just("signed"));
+
+        Map<String, String> urls = service.signAll("cheer-bucket", List.of("posts/1/a.webp"), "post_feed");
+
+        assertThat(urls).containsEntry("posts/1/a.webp", "signed");
+    }
+
+    private SignedUrlService serviceAt(Instant now) {
+        return new SignedUrlService(
+                storageStrategy,
+                config,
+                stringRedisTemplate,
+                meterRegistry,
+                Duration.ofHours(1),
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static String key(String path) {
+        return SignedUrlService.KEY_PREFIX + "cheer-bucket:" + WINDOW_START + ":" + path;
+    }
+}
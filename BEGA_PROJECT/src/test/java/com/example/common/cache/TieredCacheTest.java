@@ -0,0 +1,228 @@
+package com.example.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TieredCacheTest {
+
+    private static final String CACHE = "gameDetail";
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void remoteHitPopulatesLocalTierAndRecordsPerTierStats() {
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager(CACHE);
+        TieredCacheManager node = node(redis, new InMemoryBus());
+        redis.getCache(CACHE).put(7L, "detail");
+        TieredCache cache = tiered(node);
+
+        assertThat(cache.get(7L, String.class)).isEqualTo("detail");
+        redis.getCache(CACHE).evict(7L);
+        assertThat(cache.get(7L, String.class)).isEqualTo("detail");
+        assertThat(cache.get(8L)).isNull();
+
+        assertThat(cache.localStats().hitCount()).isEqualTo(1);
+        assertThat(cache.localStats().missCount()).isEqualTo(2);
+        assertThat(cache.remoteHitCount()).isEqualTo(1);
+        assertThat(cache.remoteMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void writeOnOneNodeInvalidatesOtherNodesLocalTier() {
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager(CACHE);
+        InMemoryBus bus = new InMemoryBus();
+        Cache first = node(redis, bus).getCache(CACHE);
+        Cache second = node(redis, bus).getCache(CACHE);
+
+        first.put("2026-04-01", "v1");
+        assertThat(second.get("2026-04-01", String.class)).isEqualTo("v1");
+
+        first.put("2026-04-01", "v2");
+        assertThat(second.get("2026-04-01", String.class)).isEqualTo("v2");
+
+        first.evict("2026-04-01");
+        assertThat(second.get("2026-04-01")).isNull();
+    }
+
+    @Test
+    void clearPropagatesToOtherNodes() {
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager(CACHE);
+        InMemoryBus bus = new InMemoryBus();
+        Cache first = node(redis, bus).getCache(CACHE);
+        Cache second = node(redis, bus).getCache(CACHE);
+        first.put(1L, "a");
+        assertThat(second.get(1L, String.class)).isEqualTo("a");
+
+        first.clear();
+
+        assertThat(second.get(1L)).isNull();
+    }
+
+    @Test
+    void valueLoaderRunsOnceAndLaterReadsStayLocal() {
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager(CACHE);
+        TieredCache cache = tiered(node(redis, new InMemoryBus()));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(2026, () -> "rankings-" + loads.incrementAndGet())).isEqualTo("rankings-1");
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(redis.getCache(CACHE).get(2026, String.class)).isEqualTo("rankings-1");
+        assertThat(cache.remoteMissCount()).isEqualTo(1);
+        assertThat(cache.localStats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void writesInsideTransactionApplyToBothTiersAfterCommit() {
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager(CACHE);
+        InMemoryBus bus = new InMemoryBus();
+        Cache first = node(redis, bus).getCache(CACHE);
+        Cache second = node(redis, bus).getCache(CACHE);
+        first.put(1L, "before");
+        assertThat(second.get(1L, String.class)).isEqualTo("before");
+        TransactionSynchronizationManager.initSynchronization();
+
+        first.put(1L, "after");
+        first.evict(2L);
+
+        assertThat(redis.getCache(CACHE).get(1L, String.class)).isEqualTo("before");
+        assertThat(second.get(1L, String.class)).isEqualTo("before");
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(redis.getCache(CACHE).get(1L, String.class)).isEqualTo("after");
+        assertThat(second.get(1L, String.class)).isEqualTo("after");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void copyOnReadTierReturnsCopiesSoCallerMutationsDoNotLeak() {
+        TieredCache cache = tiered(node(
+                new ConcurrentMapCacheManager(CACHE),
+                new InMemoryBus(),
+                new TieredCacheManager.LocalTier(Duration.ofMinutes(1), 100, true)));
+        cache.put(1L, new ArrayList<>(List.of("a")));
+
+        List<String> firstRead = cache.get(1L, List.class);
+        firstRead.add("mutated");
+
+        assertThat(cache.get(1L, List.class)).containsExactly("a");
+        assertThat(cache.localStats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void defaultTierServesTheSameInstanceWithoutDeserializing() {
+        TieredCache cache = tiered(node(new ConcurrentMapCacheManager(CACHE), new InMemoryBus()));
+        List<String> value = List.of("a");
+        cache.put(1L, value);
+
+        assertThat(cache.get(1L, List.class)).isSameAs(value);
+        assertThat(cache.localStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownCacheNamesFallThroughToNextManager() {
+        TieredCacheManager node = node(new ConcurrentMapCacheManager(CACHE), new InMemoryBus());
+
+        assertThat(node.getCache("userStats")).isNull();
+    }
+
+    @Test
+    void bindsPerTierHitRatioGauges() {
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager(CACHE);
+        TieredCacheManager node = node(redis, new InMemoryBus());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        node.bindTo(registry);
+        Cache cache = node.getCache(CACHE);
+        cache.put(1L, "a");
+
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(registry.get("cache.tier.hit.ratio").tags("cache", CACHE, "tier", "l1").gauge().value())
+                .isEqualTo(0.5);
+        assertThat(registry.get("cache.tier.hit.ratio").tags("cache", CACHE, "tier", "l2").gauge().value())
+                .isEqualTo(0.0);
+        assertThat(registry.get("cache.tier.gets")
+                .tags("cache", CACHE, "tier", "l2", "result", "miss")
+                .functionCounter()
+                .count()).isEqualTo(1.0);
+    }
+
+    private static TieredCacheManager node(ConcurrentMapCacheManager redis, InMemoryBus bus) {
+        return node(redis, bus, new TieredCacheManager.LocalTier(Duration.ofMinutes(1), 100));
+    }
+
+    private static TieredCacheManager node(
+            ConcurrentMapCacheManager redis,
+            InMemoryBus bus,
+            TieredCacheManager.LocalTier tier) {
+        TieredCacheManager manager = new TieredCacheManager(
+                Map.of(CACHE, tier),
+                redis,
+                RedisSerializer.java(),
+                bus.endpoint());
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private static TieredCache tiered(TieredCacheManager node) {
+        return (TieredCache) ((TransactionAwareCacheDecorator) node.getCache(CACHE)).getTargetCache();
+    }
+
+    /**
+     * Redis pub/sub 대용. 발행한 노드를 제외한 모든 노드에 전달한다.
+     */
+    private static final class InMemoryBus {
+
+        private final List<Endpoint> endpoints = new CopyOnWriteArrayList<>();
+
+        Endpoint endpoint() {
+            Endpoint endpoint = new Endpoint();
+            endpoints.add(endpoint);
+            return endpoint;
+        }
+
+        private final class Endpoint implements TieredCacheInvalidationBus {
+
+            private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+
+            @Override
+            public void publish(String cacheName, String key) {
+                for (Endpoint endpoint : endpoints) {
+                    if (endpoint != this) {
+                        endpoint.listeners.forEach(listener -> listener.accept(cacheName, key));
+                    }
+                }
+            }
+
+            @Override
+            public void subscribe(BiConsumer<String, String> listener) {
+                listeners.add(listener);
+            }
+        }
+    }
+}
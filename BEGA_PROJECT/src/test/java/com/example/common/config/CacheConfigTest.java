@@ -3,10 +3,14 @@ package com.example.common.config;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import com.example.common.cache.RedisTieredCacheInvalidationBus;
+import com.example.common.cache.TieredCache;
+import com.example.common.cache.TieredCacheManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.cache.support.CompositeCacheManager;
@@ -20,15 +24,21 @@ class CacheConfigTest {
         CacheConfig cacheConfig = new CacheConfig();
 
         CaffeineCacheManager caffeineCacheManager = (CaffeineCacheManager) cacheConfig.caffeineCacheManager();
+        CacheManager redisCacheManager = cacheConfig.redisCacheManager(
+                mock(RedisConnectionFactory.class),
+                new RedisConfig().redisValueSerializer(new ObjectMapper()));
+        TieredCacheManager tieredCacheManager = cacheConfig.tieredCacheManager(
+                redisCacheManager, mock(RedisTieredCacheInvalidationBus.class), true);
+        tieredCacheManager.afterPropertiesSet();
         CompositeCacheManager cacheManager = (CompositeCacheManager) cacheConfig.cacheManager(
                 caffeineCacheManager,
-                cacheConfig.redisCacheManager(
-                        mock(RedisConnectionFactory.class),
-                        new RedisConfig().redisValueSerializer(new ObjectMapper())));
+                tieredCacheManager,
+                redisCacheManager);
 
         assertThat(caffeineCacheManager.getCacheNames())
                 .containsExactlyInAnyOrder(
                         CacheConfig.JWT_USER_CACHE,
+                        CacheConfig.JWT_PRINCIPAL_CACHE,
                         CacheConfig.SIGNED_URLS,
                         CacheConfig.DIARY_STATS,
                         CacheConfig.PREDICTION_MATCH_RANGE,
@@ -56,4 +66,47 @@ class CacheConfigTest {
         assertThat(cacheManager.getCache(CacheConfig.PREDICTION_MATCH_DAY)).isNotNull();
         assertThat(cacheManager.getCache(CacheConfig.USER_STATS)).isNotNull();
     }
+
+    @Test
+    @DisplayName("자주 읽히는 공유 캐시는 L1/L2 계층 캐시로 제공하고 나머지는 Redis 전용으로 남긴다")
+    void hotSharedCachesAreTiered() {
+        CacheConfig cacheConfig = new CacheConfig();
+        CacheManager redisCacheManager = cacheConfig.redisCacheManager(
+                mock(RedisConnectionFactory.class),
+                new RedisConfig().redisValueSerializer(new ObjectMapper()));
+        TieredCacheManager tieredCacheManager = cacheConfig.tieredCacheManager(
+                redisCacheManager, mock(RedisTieredCacheInvalidationBus.class), true);
+        tieredCacheManager.afterPropertiesSet();
+        CacheManager cacheManager = cacheConfig.cacheManager(
+                cacheConfig.caffeineCacheManager(), tieredCacheManager, redisCacheManager);
+
+        assertThat(tieredCacheManager.getCacheNames())
+                .containsExactlyInAnyOrder(
+                        CacheConfig.TEAM_RANKINGS,
+                        CacheConfig.GAME_SCHEDULE,
+                        CacheConfig.HOME_BOOTSTRAP,
+                        CacheConfig.GAME_DETAIL);
+        assertThat(cacheManager.getCache(CacheConfig.HOME_BOOTSTRAP)).isInstanceOf(TieredCache.class);
+        assertThat(cacheManager.getCache(CacheConfig.GAME_DETAIL)).isInstanceOf(TieredCache.class);
+        assertThat(cacheManager.getCache(CacheConfig.USER_STATS)).isNotInstanceOf(TieredCache.class);
+    }
+
+    @Test
+    @DisplayName("계층 캐시를 끄면 해당 캐시는 Redis 전용으로 동작한다")
+    void tieredCachesCanBeDisabled() {
+        CacheConfig cacheConfig = new CacheConfig();
+        CacheManager redisCacheManager = cacheConfig.redisCacheManager(
+                mock(RedisConnectionFactory.class),
+                new RedisConfig().redisValueSerializer(new ObjectMapper()));
+        TieredCacheManager tieredCacheManager = cacheConfig.tieredCacheManager(
+                redisCacheManager, mock(RedisTieredCacheInvalidationBus.class), false);
+        tieredCacheManager.afterPropertiesSet();
+        CacheManager cacheManager = cacheConfig.cacheManager(
+                cacheConfig.caffeineCacheManager(), tieredCacheManager, redisCacheManager);
+
+        assertThat(tieredCacheManager.getCacheNames()).isEmpty();
+        assertThat(cacheManager.getCache(CacheConfig.TEAM_RANKINGS))
+                .isNotNull()
+                .isNotInstanceOf(TieredCache.class);
+    }
 }
@@ -28,6 +28,9 @@ class FlywayMigrationVersionUniquenessTest {
             Path.of("src/main/resources/db/migration_baseball"));
 
     private static final Set<Set<String>> ALLOWED_DUPLICATE_MIGRATION_CONTENT = Set.of(
+            Set.of(
+                    "src/main/resources/db/migration_baseball/V7__create_team_standings.sql",
+                    "src/main/resources/db/migration_postgresql/V182__create_team_standings.sql"),
             Set.of(
                     "src/main/resources/db/migration/V168__canonicalize_cheer_linked_attribution.sql",
                     "src/main/resources/db/migration_postgresql/V174__canonicalize_cheer_linked_attribution.sql"),
@@ -0,0 +1,128 @@
+package com.example.common.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import javax.imageio.ImageIO;
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 12MP 휴대폰 사진 크기 JPEG로 피드 썸네일(320px)을 만들 때 기존 경로와 서브샘플링 경로를 비교한다.
+ * - 기존 경로: getBytes -> 원본 해상도 ImageIO.read -> 원본 크기 불투명 RGB 복사 -> Thumbnailator
+ * - 새 경로: ImageUtil.processFeedProfileImage (스트림 디코딩 + 소스 서브샘플링)
+ * 힙 압력은 요청 스레드가 할당한 바이트와 가장 큰 래스터 크기로, 지연은 원본 메가픽셀당 시간으로 출력한다.
+ * WebP 인코더 유무에 따라 결과가 흔들리지 않도록 init()을 부르지 않아 두 경로 모두 JPEG로 인코딩한다.
+ */
+class ImageDecodeBenchmarkTest {
+
+    private static final int WIDTH = 4032;
+    private static final int HEIGHT = 3024;
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 5;
+
+    @Test
+    @DisplayName("피드 썸네일 1건당 할당 바이트/지연: 서브샘플링 경로가 원본 래스터를 만들지 않는다")
+    void compareHeapAndLatencyPerMegapixel() throws IOException {
+        byte[] photo = samplePhoto();
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", photo);
+        ImageUtil imageUtil = new ImageUtil(new ImageOptimizationMetricsService(new SimpleMeterRegistry()));
+        double megapixels = (double) WIDTH * HEIGHT / 1_000_000;
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacyFeedThumbnail(file);
+            imageUtil.processFeedProfileImage(file);
+        }
+
+        long legacyAllocated = 0;
+        long legacyNanos = 0;
+        long allocated = 0;
+        long nanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long allocatedBefore = allocatedBytes();
+            long startedAt = System.nanoTime();
+            byte[] legacy = legacyFeedThumbnail(file);
+            legacyNanos += System.nanoTime() - startedAt;
+            legacyAllocated += allocatedBytes() - allocatedBefore;
+            assertThat(legacy).isNotEmpty();
+
+            allocatedBefore = allocatedBytes();
+            startedAt = System.nanoTime();
+            ImageUtil.ProcessedImage processed = imageUtil.processFeedProfileImage(file);
+            nanos += System.nanoTime() - startedAt;
+            allocated += allocatedBytes() - allocatedBefore;
+            assertThat(processed.getContentType()).isEqualTo("image/jpeg");
+        }
+
+        int subsampling = ImageUtil.subsamplingFactor(WIDTH, HEIGHT, 320, 320);
+        long legacyLargestRaster = (long) WIDTH * HEIGHT * 4;
+        long largestRaster = (long) ((WIDTH + subsampling - 1) / subsampling) * ((HEIGHT + subsampling - 1) / subsampling) * 4;
+        System.out.printf(
+                "feed thumbnail from %.1f MP jpeg: allocated legacy=%.1f MB/MP new=%.1f MB/MP, "
+                        + "largest raster legacy=%.1f MB new=%.2f MB, latency legacy=%.1f ms/MP new=%.1f ms/MP%n",
+                megapixels,
+                legacyAllocated / (double) ITERATIONS / megapixels / (1024 * 1024),
+                allocated / (double) ITERATIONS / megapixels / (1024 * 1024),
+                legacyLargestRaster / (1024.0 * 1024),
+                largestRaster / (1024.0 * 1024),
+                legacyNanos / (double) ITERATIONS / megapixels / 1_000_000,
+                nanos / (double) ITERATIONS / megapixels / 1_000_000);
+        assertThat(allocated).isLessThan(legacyAllocated / 4);
+    }
+
+    private byte[] legacyFeedThumbnail(MockMultipartFile file) throws IOException {
+        byte[] originalBytes = file.getBytes();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(originalBytes));
+        BufferedImage flattened = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = flattened.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, flattened.getWidth(), flattened.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            Thumbnails.of(flattened)
+                    .size(320, 320)
+                    .keepAspectRatio(true)
+                    .outputQuality(1.0)
+                    .outputFormat("jpg")
+                    .toOutputStream(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private byte[] samplePhoto() throws IOException {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            for (int y = 0; y < HEIGHT; y += 48) {
+                graphics.setColor(new Color((y * 7) % 256, (y * 3) % 256, 160));
+                graphics.fillRect(0, y, WIDTH, 48);
+            }
+            graphics.setColor(Color.WHITE);
+            graphics.fillOval(WIDTH / 4, HEIGHT / 4, WIDTH / 2, HEIGHT / 2);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+
+    private long allocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.common.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class ImageDecodeBudgetTest {
+
+    @Test
+    void acquire_blocksWhenBudgetIsExhaustedAndReleasesOnClose() throws IOException {
+        ImageDecodeBudget budget = new ImageDecodeBudget(1_000L, 20L);
+
+        try (ImageDecodeBudget.Permit ignored = budget.acquire(800L)) {
+            assertThat(budget.availablePixels()).isEqualTo(200);
+            assertThatThrownBy(() -> budget.acquire(300L)).isInstanceOf(IOException.class);
+        }
+
+        assertThat(budget.availablePixels()).isEqualTo(1_000);
+    }
+
+    @Test
+    void acquire_clampsImagesLargerThanTheWholeBudget() throws IOException {
+        ImageDecodeBudget budget = new ImageDecodeBudget(1_000L, 20L);
+
+        ImageDecodeBudget.Permit permit = budget.acquire(50_000_000L);
+        assertThat(budget.availablePixels()).isZero();
+
+        permit.close();
+        permit.close();
+        assertThat(budget.availablePixels()).isEqualTo(1_000);
+    }
+}
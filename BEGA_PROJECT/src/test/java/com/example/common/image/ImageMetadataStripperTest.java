@@ -0,0 +1,151 @@
+package com.example.common.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+class ImageMetadataStripperTest {
+
+    private static final String SECRET = "GPS-37.5665-126.9780";
+
+    @Test
+    void stripJpeg_dropsExifAndCommentsButKeepsOrientation() throws IOException {
+        byte[] source = jpegWithMetadata(6);
+
+        byte[] stripped = ImageMetadataStripper.strip(source, "image/jpeg");
+
+        assertThat(ImageIO.read(new ByteArrayInputStream(stripped))).isNotNull();
+        assertThat(contains(stripped, SECRET)).isFalse();
+        assertThat(contains(stripped, "comment")).isFalse();
+        assertThat(contains(stripped, "Exif")).isTrue();
+        assertThat(ImageMetadataStripper.strip(stripped, "image/jpeg")).isEqualTo(stripped);
+    }
+
+    @Test
+    void stripJpeg_omitsExifEntirelyForDefaultOrientation() throws IOException {
+        byte[] stripped = ImageMetadataStripper.strip(jpegWithMetadata(1), "image/jpeg");
+
+        assertThat(contains(stripped, "Exif")).isFalse();
+        assertThat(contains(stripped, SECRET)).isFalse();
+        assertThat(ImageIO.read(new ByteArrayInputStream(stripped))).isNotNull();
+    }
+
+    @Test
+    void stripPng_dropsTextChunks() throws IOException {
+        byte[] png = ImageUtilTest.jpeg(4, 4);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(ImageIO.read(new ByteArrayInputStream(png)), "png", encoded);
+        byte[] source = insertPngChunkAfterHeader(encoded.toByteArray(), "tEXt",
+                ("Comment\0" + SECRET).getBytes(StandardCharsets.ISO_8859_1));
+
+        byte[] stripped = ImageMetadataStripper.strip(source, "image/png");
+
+        assertThat(contains(stripped, SECRET)).isFalse();
+        assertThat(ImageIO.read(new ByteArrayInputStream(stripped))).isNotNull();
+    }
+
+    @Test
+    void stripWebp_dropsExifAndXmpChunksAndClearsFlags() throws IOException {
+        byte[] vp8x = new byte[10];
+        vp8x[0] = 0x0C; // EXIF + XMP
+        byte[] source = riff(
+                chunk("VP8X", vp8x),
+                chunk("VP8 ", new byte[] {1, 2, 3}),
+                chunk("EXIF", tiff(1)),
+                chunk("XMP ", SECRET.getBytes(StandardCharsets.ISO_8859_1)));
+
+        byte[] stripped = ImageMetadataStripper.strip(source, "image/webp");
+
+        assertThat(contains(stripped, SECRET)).isFalse();
+        assertThat(contains(stripped, "EXIF")).isFalse();
+        assertThat(stripped[20]).isZero();
+        assertThat(ByteBuffer.wrap(stripped, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt())
+                .isEqualTo(stripped.length - 8);
+    }
+
+    @Test
+    void strip_rejectsUnparseableContainer() {
+        assertThatThrownBy(() -> ImageMetadataStripper.strip("not-a-jpeg".getBytes(StandardCharsets.UTF_8), "image/jpeg"))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] jpegWithMetadata(int orientation) throws IOException {
+        byte[] jpeg = ImageUtilTest.jpeg(16, 8);
+        ByteArrayOutputStream exif = new ByteArrayOutputStream();
+        exif.write("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1));
+        exif.write(tiff(orientation));
+        exif.write(SECRET.getBytes(StandardCharsets.ISO_8859_1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        writeSegment(out, 0xE1, exif.toByteArray());
+        writeSegment(out, 0xFE, "comment".getBytes(StandardCharsets.ISO_8859_1));
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static byte[] tiff(int orientation) {
+        ByteBuffer buffer = ByteBuffer.allocate(26).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 'I').put((byte) 'I').putShort((short) 42).putInt(8);
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        buffer.putInt(0);
+        return buffer.array();
+    }
+
+    private static void writeSegment(ByteArrayOutputStream out, int marker, byte[] payload) {
+        out.write(0xFF);
+        out.write(marker);
+        out.write(((payload.length + 2) >> 8) & 0xFF);
+        out.write((payload.length + 2) & 0xFF);
+        out.writeBytes(payload);
+    }
+
+    private static byte[] insertPngChunkAfterHeader(byte[] png, String type, byte[] data) throws IOException {
+        int ihdrEnd = 8 + 8 + 13 + 4;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(png, 0, ihdrEnd);
+        DataOutputStream chunk = new DataOutputStream(out);
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc32 = new CRC32();
+        crc32.update(typeBytes);
+        crc32.update(data);
+        chunk.writeInt(data.length);
+        chunk.write(typeBytes);
+        chunk.write(data);
+        chunk.writeInt((int) crc32.getValue());
+        out.write(png, ihdrEnd, png.length - ihdrEnd);
+        return out.toByteArray();
+    }
+
+    private static byte[] chunk(String fourCc, byte[] data) {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + data.length + (data.length & 1)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(fourCc.getBytes(StandardCharsets.ISO_8859_1)).putInt(data.length).put(data);
+        return buffer.array();
+    }
+
+    private static byte[] riff(byte[]... chunks) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes("WEBP".getBytes(StandardCharsets.ISO_8859_1));
+        for (byte[] chunk : chunks) {
+            body.writeBytes(chunk);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(8 + body.size()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.ISO_8859_1)).putInt(body.size()).put(body.toByteArray());
+        return buffer.array();
+    }
+
+    private static boolean contains(byte[] haystack, String needle) {
+        return new String(haystack, StandardCharsets.ISO_8859_1).contains(needle);
+    }
+}
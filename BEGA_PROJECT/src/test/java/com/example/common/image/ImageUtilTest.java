@@ -2,16 +2,21 @@ package com.example.common.image;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 
 @ExtendWith(MockitoExtension.class)
 class ImageUtilTest {
@@ -32,6 +37,86 @@ class ImageUtilTest {
         assertThat(dimension.height()).isEqualTo(8192);
     }
 
+    @Test
+    void processFeedProfileImage_decodesLargePhotoFromStreamToFeedSize() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", jpeg(2240, 1680));
+
+        ImageUtil.ProcessedImage processed = imageUtil.processFeedProfileImage(file);
+
+        ImageUtil.ImageDimension dimension = imageUtil.getImageDimension(processed.getBytes());
+        assertThat(processed.getContentType()).isIn("image/webp", "image/jpeg");
+        assertThat(dimension.width()).isEqualTo(320);
+        assertThat(dimension.height()).isEqualTo(240);
+    }
+
+    @Test
+    void processFeedProfileImage_keepsSmallImageSize() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "small.png", "image/png", png(200, 100));
+
+        ImageUtil.ProcessedImage processed = imageUtil.processFeedProfileImage(file);
+
+        ImageUtil.ImageDimension dimension = imageUtil.getImageDimension(processed.getBytes());
+        assertThat(dimension.width()).isEqualTo(200);
+        assertThat(dimension.height()).isEqualTo(100);
+    }
+
+    @Test
+    void processServedImage_reencodesWithinServedBounds() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", jpeg(2240, 1680));
+
+        ImageUtil.ProcessedImage processed = imageUtil.processServedImage(file, "cheer_post");
+
+        ImageUtil.ImageDimension dimension = imageUtil.getImageDimension(processed.getBytes());
+        assertThat(processed.getContentType()).isIn("image/webp", "image/jpeg");
+        assertThat(dimension.width()).isEqualTo(1024);
+        assertThat(dimension.height()).isEqualTo(768);
+    }
+
+    @Test
+    void stripMetadata_keepsOriginalResolutionAndFormat() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.JPEG", "image/jpeg", jpeg(2240, 1680));
+
+        ImageUtil.ProcessedImage processed = imageUtil.stripMetadata(file, "cheer_post");
+
+        ImageUtil.ImageDimension dimension = imageUtil.getImageDimension(processed.getBytes());
+        assertThat(processed.getContentType()).isEqualTo("image/jpeg");
+        assertThat(processed.getExtension()).isEqualTo("jpg");
+        assertThat(dimension.width()).isEqualTo(2240);
+        assertThat(dimension.height()).isEqualTo(1680);
+    }
+
+    @Test
+    void subsamplingFactor_neverDecodesBelowTargetSize() {
+        assertThat(ImageUtil.subsamplingFactor(4032, 3024, 1024, 1024)).isEqualTo(3);
+        assertThat(ImageUtil.subsamplingFactor(4032, 3024, 320, 320)).isEqualTo(12);
+        assertThat(ImageUtil.subsamplingFactor(1000, 800, 1024, 1024)).isEqualTo(1);
+        assertThat(ImageUtil.subsamplingFactor(1200, 4000, 1536, 1536)).isEqualTo(2);
+    }
+
+    static byte[] jpeg(int width, int height) throws IOException {
+        return encode(width, height, BufferedImage.TYPE_INT_RGB, "jpg");
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        return encode(width, height, BufferedImage.TYPE_INT_ARGB, "png");
+    }
+
+    private static byte[] encode(int width, int height, int type, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(new Color(20, 80, 160));
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(Color.ORANGE);
+            graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
     private byte[] minimalPng(int width, int height) throws IOException {
         ByteArrayOutputStream output = new ByteArrayOutputStream();
         DataOutputStream dataOutput = new DataOutputStream(output);
@@ -0,0 +1,106 @@
+package com.example.common.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RealtimeLocalSubscriptionRegistryTest {
+
+    private static final String CHANNEL = "bega:realtime:v1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RealtimeLocalSubscriptionRegistry registry = new RealtimeLocalSubscriptionRegistry(meterRegistry);
+
+    @Test
+    void routeStaysActiveUntilLastLocalSubscriptionLeaves() {
+        List<RealtimeRoute> notifications = new ArrayList<>();
+        registry.addRouteListener(notifications::add);
+        RealtimeRoute party = RealtimeRoute.destination("/topic/party/5");
+
+        registry.subscribe("session-1", "sub-1", "/topic/party/5", null);
+        registry.subscribe("session-2", "sub-1", "/topic/party/5", null);
+        registry.unsubscribe("session-1", "sub-1");
+
+        assertThat(registry.isActive(party)).isTrue();
+        assertThat(notifications).containsExactly(party);
+
+        registry.disconnect("session-2");
+
+        assertThat(registry.isActive(party)).isFalse();
+        assertThat(notifications).containsExactly(party, party);
+        assertThat(meterRegistry.get("realtime.local.routes").gauge().value()).isZero();
+    }
+
+    @Test
+    void userQueueSubscriptionRoutesByPrincipalName() {
+        Principal user = () -> "42";
+
+        registry.subscribe("session-1", "sub-1", "/user/queue/notifications", user);
+        registry.subscribe("session-2", "sub-1", "/user/queue/notifications", null);
+
+        assertThat(registry.activeRoutes()).containsExactly(RealtimeRoute.user("42"));
+        assertThat(registry.hasLocalInterest(RealtimeMessageEnvelope.user("e1", "42", "/queue/notifications", null)))
+                .isTrue();
+        assertThat(registry.hasLocalInterest(RealtimeMessageEnvelope.user("e2", "43", "/queue/notifications", null)))
+                .isFalse();
+    }
+
+    @Test
+    void duplicateAndUnknownFramesDoNotSkewCounts() {
+        registry.subscribe("session-1", "sub-1", "/topic/dm/9", null);
+        registry.subscribe("session-1", "sub-1", "/topic/dm/9", null);
+        registry.unsubscribe("session-1", "unknown");
+        registry.unsubscribe("session-2", "sub-1");
+        registry.disconnect("session-3");
+
+        registry.unsubscribe("session-1", "sub-1");
+
+        assertThat(registry.activeRoutes()).isEmpty();
+    }
+
+    @Test
+    void routeSubscriptionsFollowRegistryTransitions() {
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        RedisRealtimeMessageSubscriber subscriber = mock(RedisRealtimeMessageSubscriber.class);
+        registry.subscribe("session-0", "sub-1", "/topic/battle/g1", null);
+        RedisRealtimeRouteSubscriptions routeSubscriptions =
+                new RedisRealtimeRouteSubscriptions(registry, container, subscriber, CHANNEL, true);
+        routeSubscriptions.init();
+
+        registry.subscribe("session-1", "sub-1", "/topic/party/5", null);
+        registry.subscribe("session-2", "sub-1", "/topic/party/5", null);
+        registry.disconnect("session-1");
+        registry.disconnect("session-2");
+
+        verify(container).addMessageListener(subscriber, new ChannelTopic(CHANNEL + ":d:/topic/battle/g1"));
+        verify(container, times(1)).addMessageListener(subscriber, new ChannelTopic(CHANNEL + ":d:/topic/party/5"));
+        verify(container, times(1)).removeMessageListener(subscriber, new ChannelTopic(CHANNEL + ":d:/topic/party/5"));
+        assertThat(routeSubscriptions.subscribedRouteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void routeSubscriptionsStayOnSharedChannelWhenRoutingIsDisabled() {
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        RedisRealtimeRouteSubscriptions routeSubscriptions = new RedisRealtimeRouteSubscriptions(
+                registry, container, mock(RedisRealtimeMessageSubscriber.class), CHANNEL, false);
+        routeSubscriptions.init();
+
+        registry.subscribe("session-1", "sub-1", "/topic/party/5", null);
+
+        verify(container, never()).addMessageListener(any(), eq(new ChannelTopic(CHANNEL + ":d:/topic/party/5")));
+    }
+}
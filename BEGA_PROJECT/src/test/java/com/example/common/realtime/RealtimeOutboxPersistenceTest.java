@@ -3,8 +3,11 @@ package com.example.common.realtime;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -115,7 +118,10 @@ class RealtimeOutboxPersistenceTest {
 
     @Test
     void domainRollbackAlsoRollsBackOutboxWrite() {
-        RealtimeOutboxWriter writer = new RealtimeOutboxWriter(repository, new ObjectMapper());
+        RealtimeOutboxWriter writer = new RealtimeOutboxWriter(
+                repository,
+                new ObjectMapper(),
+                new RealtimeOutboxWakeup());
         TransactionTemplate transaction = new TransactionTemplate(transactionManager);
         long countBefore = repository.count();
 
@@ -133,7 +139,7 @@ class RealtimeOutboxPersistenceTest {
         Long id = savePending("event-retry", now);
 
         RealtimeOutboxClaim firstClaim = stateService.claim(
-                id, "worker-a", now, java.time.Duration.ofSeconds(30)).orElseThrow();
+                id, "worker-a", now, Duration.ofSeconds(30)).orElseThrow();
         assertThat(firstClaim.attemptCount()).isEqualTo(1);
         assertThat(stateService.markFailure(
                 id,
@@ -143,7 +149,7 @@ class RealtimeOutboxPersistenceTest {
                 "temporary failure")).isTrue();
 
         RealtimeOutboxClaim retryClaim = stateService.claim(
-                id, "worker-b", now.plusMillis(1), java.time.Duration.ofSeconds(30)).orElseThrow();
+                id, "worker-b", now.plusMillis(1), Duration.ofSeconds(30)).orElseThrow();
         assertThat(retryClaim.eventId()).isEqualTo("event-retry");
         assertThat(retryClaim.attemptCount()).isEqualTo(2);
         assertThat(stateService.markPublished(id, "worker-b", now.plusSeconds(1))).isTrue();
@@ -154,14 +160,74 @@ class RealtimeOutboxPersistenceTest {
         assertThat(published.getPublishedAt()).isEqualTo(now.plusSeconds(1));
     }
 
+    @Test
+    void batchClaimLeasesDueEventsAndBulkMarksThemPublished() {
+        Instant now = Instant.now();
+        Long firstId = savePending("event-batch-1", now.minusSeconds(5));
+        Long secondId = savePending("event-batch-2", now.minusSeconds(5));
+        Long futureId = inTransaction(() -> repository.save(RealtimeOutboxEvent.pending(
+                RealtimeMessageEnvelope.broadcast(
+                        "event-batch-future",
+                        "/topic/party/5",
+                        new ObjectMapper().createObjectNode()),
+                "{}",
+                now.plusSeconds(600))).getId());
+
+        List<RealtimeOutboxClaim> claims = stateService.claimBatch(
+                "worker-a", now, Duration.ofSeconds(30), 100);
+
+        assertThat(claims).extracting(RealtimeOutboxClaim::id).contains(firstId, secondId).doesNotContain(futureId);
+        assertThat(claims).allSatisfy(claim -> assertThat(claim.attemptCount()).isEqualTo(1));
+        assertThat(repository.findById(firstId).orElseThrow().getStatus())
+                .isEqualTo(RealtimeOutboxStatus.PROCESSING);
+        assertThat(stateService.claimBatch("worker-b", now, Duration.ofSeconds(30), 100)
+                .stream()
+                .map(RealtimeOutboxClaim::id))
+                .doesNotContain(firstId, secondId);
+
+        int marked = stateService.markAllPublished(
+                List.of(firstId, secondId), "worker-a", now.plusSeconds(1));
+
+        assertThat(marked).isEqualTo(2);
+        assertThat(repository.findById(secondId).orElseThrow().getStatus())
+                .isEqualTo(RealtimeOutboxStatus.PUBLISHED);
+        assertThat(stateService.markAllPublished(
+                List.of(firstId), "worker-b", now.plusSeconds(2))).isZero();
+    }
+
+    @Test
+    void batchLeaseSkipsRowsAnotherWorkerClaimedAfterCandidateSelect() {
+        Instant now = Instant.now();
+        Long firstId = savePending("event-race-1", now.minusSeconds(5));
+        Long secondId = savePending("event-race-2", now.minusSeconds(5));
+        List<Long> candidates = List.of(firstId, secondId);
+
+        assertThat(inTransaction(() -> repository.claim(
+                firstId, "worker-b", now, now, now.plusSeconds(30)))).isEqualTo(1);
+        int claimed = inTransaction(() -> repository.claimAllIfAvailable(
+                candidates,
+                "worker-a",
+                now,
+                now,
+                now.plusSeconds(30),
+                List.of(RealtimeOutboxStatus.PENDING, RealtimeOutboxStatus.RETRY),
+                RealtimeOutboxStatus.PROCESSING));
+
+        assertThat(claimed).isEqualTo(1);
+        assertThat(inTransaction(() -> repository.findLeasedBy(
+                candidates, "worker-a", RealtimeOutboxStatus.PROCESSING)))
+                .extracting(RealtimeOutboxEvent::getId)
+                .containsExactly(secondId);
+    }
+
     @Test
     void cleanupDeletesOnlyPublishedEventsOlderThanRetentionCutoff() {
         Instant now = Instant.now();
         Long oldId = savePending("event-old", now.minusSeconds(120));
         Long recentId = savePending("event-recent", now.minusSeconds(30));
-        stateService.claim(oldId, "worker-a", now.minusSeconds(110), java.time.Duration.ofSeconds(30));
+        stateService.claim(oldId, "worker-a", now.minusSeconds(110), Duration.ofSeconds(30));
         stateService.markPublished(oldId, "worker-a", now.minusSeconds(100));
-        stateService.claim(recentId, "worker-b", now.minusSeconds(20), java.time.Duration.ofSeconds(30));
+        stateService.claim(recentId, "worker-b", now.minusSeconds(20), Duration.ofSeconds(30));
         stateService.markPublished(recentId, "worker-b", now.minusSeconds(10));
 
         int deleted = stateService.cleanupPublishedBefore(now.minusSeconds(60), 100);
@@ -204,7 +270,7 @@ class RealtimeOutboxPersistenceTest {
                 now.plusSeconds(30)));
     }
 
-    private <T> T inTransaction(java.util.concurrent.Callable<T> callback) {
+    private <T> T inTransaction(Callable<T> callback) {
         TransactionTemplate transaction = new TransactionTemplate(transactionManager);
         return transaction.execute(status -> {
             try {
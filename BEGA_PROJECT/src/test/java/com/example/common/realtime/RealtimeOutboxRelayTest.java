@@ -2,15 +2,21 @@ package com.example.common.realtime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -26,12 +32,15 @@ class RealtimeOutboxRelayTest {
     private final RealtimeMessageTransport transport = mock(RealtimeMessageTransport.class);
     private final RealtimeOutboxProperties properties = new RealtimeOutboxProperties();
     private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RealtimeOutboxWakeup wakeup = new RealtimeOutboxWakeup();
     private final RealtimeOutboxRelay relay = new RealtimeOutboxRelay(
             stateService,
             transport,
             properties,
             meterRegistry,
-            new ObjectMapper());
+            new ObjectMapper(),
+            wakeup,
+            Runnable::run);
 
     @Test
     void successfulDeliveryPreservesEventIdAndMarksPublished() {
@@ -76,7 +85,7 @@ class RealtimeOutboxRelayTest {
                 .thenReturn(List.of(2L));
         when(stateService.claim(eq(2L), anyString(), any(Instant.class), eq(properties.getLeaseDuration())))
                 .thenReturn(Optional.of(claim));
-        org.mockito.Mockito.doThrow(new RealtimeMessageTransportException("redis unavailable"))
+        doThrow(new RealtimeMessageTransportException("redis unavailable"))
                 .when(transport)
                 .publish(any(RealtimeMessageEnvelope.class));
         when(stateService.markFailure(
@@ -94,7 +103,7 @@ class RealtimeOutboxRelayTest {
                 eq(RealtimeOutboxStatus.RETRY),
                 any(Instant.class),
                 eq("redis unavailable"));
-        org.mockito.Mockito.verify(stateService, org.mockito.Mockito.never())
+        verify(stateService, never())
                 .markPublished(any(), anyString(), any(Instant.class));
     }
 
@@ -113,7 +122,7 @@ class RealtimeOutboxRelayTest {
                 .thenReturn(List.of(3L));
         when(stateService.claim(eq(3L), anyString(), any(Instant.class), eq(properties.getLeaseDuration())))
                 .thenReturn(Optional.of(claim));
-        org.mockito.Mockito.doThrow(new RealtimeMessageTransportException("redis unavailable"))
+        doThrow(new RealtimeMessageTransportException("redis unavailable"))
                 .when(transport)
                 .publish(any(RealtimeMessageEnvelope.class));
         when(stateService.markFailure(
@@ -164,7 +173,7 @@ class RealtimeOutboxRelayTest {
 
         relay.cleanup();
 
-        verify(stateService, org.mockito.Mockito.times(3))
+        verify(stateService, times(3))
                 .cleanupPublishedBefore(any(Instant.class), eq(properties.getCleanupBatchSize()));
     }
 
@@ -175,7 +184,7 @@ class RealtimeOutboxRelayTest {
 
         relay.cleanup();
 
-        verify(stateService, org.mockito.Mockito.times(properties.getCleanupMaxBatches()))
+        verify(stateService, times(properties.getCleanupMaxBatches()))
                 .cleanupPublishedBefore(any(Instant.class), eq(properties.getCleanupBatchSize()));
     }
 
@@ -194,7 +203,7 @@ class RealtimeOutboxRelayTest {
                 .thenReturn(List.of(5L));
         when(stateService.claim(eq(5L), anyString(), any(Instant.class), eq(properties.getLeaseDuration())))
                 .thenReturn(Optional.of(claim));
-        org.mockito.Mockito.doThrow(new RealtimeMessageTransportException("redis unavailable"))
+        doThrow(new RealtimeMessageTransportException("redis unavailable"))
                 .when(transport)
                 .publish(any(RealtimeMessageEnvelope.class));
         when(stateService.markFailure(
@@ -211,6 +220,185 @@ class RealtimeOutboxRelayTest {
                 .isZero();
     }
 
+    @Test
+    void batchModePublishesClaimedRowsTogetherAndMarksThemPublishedInBulk() {
+        properties.setBatchClaimEnabled(true);
+        RealtimeOutboxClaim first = new RealtimeOutboxClaim(
+                6L,
+                RealtimeMessageEnvelope.CURRENT_VERSION,
+                "batch-event-1",
+                RealtimeMessageEnvelope.Target.BROADCAST,
+                "/topic/party/5",
+                null,
+                "{}",
+                1);
+        RealtimeOutboxClaim second = new RealtimeOutboxClaim(
+                7L,
+                RealtimeMessageEnvelope.CURRENT_VERSION,
+                "batch-event-2",
+                RealtimeMessageEnvelope.Target.USER,
+                "/queue/notifications",
+                "42",
+                "{}",
+                1);
+        when(stateService.claimBatch(
+                anyString(),
+                any(Instant.class),
+                eq(properties.getLeaseDuration()),
+                eq(properties.getBatchSize())))
+                .thenReturn(List.of(first, second));
+        when(transport.publishAll(anyList())).thenReturn(Map.of());
+        when(stateService.markAllPublished(eq(List.of(6L, 7L)), anyString(), any(Instant.class)))
+                .thenReturn(2);
+
+        relay.poll();
+
+        verify(stateService).markAllPublished(eq(List.of(6L, 7L)), anyString(), any(Instant.class));
+        verify(transport, never())
+                .publish(any(RealtimeMessageEnvelope.class));
+        assertThat(meterRegistry.counter("realtime.outbox.publish", "outcome", "success").count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.summary("realtime.outbox.batch.size").totalAmount()).isEqualTo(2.0);
+        assertThat(meterRegistry.summary("realtime.outbox.batch.throughput").count()).isEqualTo(1L);
+    }
+
+    @Test
+    void batchModeRetriesOnlyFailedEnvelopes() {
+        properties.setBatchClaimEnabled(true);
+        RealtimeOutboxClaim delivered = new RealtimeOutboxClaim(
+                8L,
+                RealtimeMessageEnvelope.CURRENT_VERSION,
+                "batch-delivered",
+                RealtimeMessageEnvelope.Target.BROADCAST,
+                "/topic/party/5",
+                null,
+                "{}",
+                1);
+        RealtimeOutboxClaim failed = new RealtimeOutboxClaim(
+                9L,
+                RealtimeMessageEnvelope.CURRENT_VERSION,
+                "batch-failed",
+                RealtimeMessageEnvelope.Target.BROADCAST,
+                "/topic/party/5",
+                null,
+                "{}",
+                1);
+        when(stateService.claimBatch(
+                anyString(),
+                any(Instant.class),
+                eq(properties.getLeaseDuration()),
+                eq(properties.getBatchSize())))
+                .thenReturn(List.of(delivered, failed));
+        when(transport.publishAll(anyList()))
+                .thenReturn(Map.of("batch-failed", new RealtimeMessageTransportException("redis unavailable")));
+        when(stateService.markAllPublished(eq(List.of(8L)), anyString(), any(Instant.class))).thenReturn(1);
+        when(stateService.markFailure(
+                eq(9L),
+                anyString(),
+                eq(RealtimeOutboxStatus.RETRY),
+                any(Instant.class),
+                eq("redis unavailable"))).thenReturn(true);
+
+        relay.poll();
+
+        verify(stateService).markAllPublished(eq(List.of(8L)), anyString(), any(Instant.class));
+        verify(stateService).markFailure(
+                eq(9L),
+                anyString(),
+                eq(RealtimeOutboxStatus.RETRY),
+                any(Instant.class),
+                eq("redis unavailable"));
+        assertThat(meterRegistry.counter("realtime.outbox.publish", "outcome", "retry").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void batchModeKeepsDrainingFullBatchesUpToConfiguredLimit() {
+        properties.setBatchClaimEnabled(true);
+        properties.setBatchSize(1);
+        properties.setMaxBatchesPerPoll(3);
+        RealtimeOutboxClaim claim = new RealtimeOutboxClaim(
+                10L,
+                RealtimeMessageEnvelope.CURRENT_VERSION,
+                "batch-drain",
+                RealtimeMessageEnvelope.Target.BROADCAST,
+                "/topic/party/5",
+                null,
+                "{}",
+                1);
+        when(stateService.claimBatch(anyString(), any(Instant.class), eq(properties.getLeaseDuration()), eq(1)))
+                .thenReturn(List.of(claim));
+        when(transport.publishAll(anyList())).thenReturn(Map.of());
+        when(stateService.markAllPublished(eq(List.of(10L)), anyString(), any(Instant.class))).thenReturn(1);
+
+        relay.poll();
+
+        verify(stateService, times(3))
+                .claimBatch(anyString(), any(Instant.class), eq(properties.getLeaseDuration()), eq(1));
+    }
+
+    @Test
+    void wakeupSignalDrainsImmediatelyAndDefersTheNextSafetyPoll() {
+        when(stateService.findClaimableIds(any(Instant.class), eq(properties.getBatchSize())))
+                .thenReturn(List.of());
+
+        wakeup.signal();
+        relay.poll();
+
+        verify(stateService, times(1))
+                .findClaimableIds(any(Instant.class), eq(properties.getBatchSize()));
+        assertThat(meterRegistry.counter("realtime.outbox.wakeup").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabledWakeupKeepsFixedDelayPolling() {
+        RealtimeOutboxProperties pollingProperties = new RealtimeOutboxProperties();
+        pollingProperties.setWakeupEnabled(false);
+        RealtimeOutboxWakeup pollingWakeup = new RealtimeOutboxWakeup();
+        RealtimeOutboxRelay pollingRelay = new RealtimeOutboxRelay(
+                stateService,
+                transport,
+                pollingProperties,
+                new SimpleMeterRegistry(),
+                new ObjectMapper(),
+                pollingWakeup,
+                Runnable::run);
+        when(stateService.findClaimableIds(any(Instant.class), eq(pollingProperties.getBatchSize())))
+                .thenReturn(List.of());
+
+        pollingWakeup.signal();
+        pollingRelay.poll();
+        pollingRelay.poll();
+
+        verify(stateService, times(2))
+                .findClaimableIds(any(Instant.class), eq(pollingProperties.getBatchSize()));
+    }
+
+    @Test
+    void successfulDeliveryRecordsEndToEndLatency() {
+        RealtimeOutboxClaim claim = new RealtimeOutboxClaim(
+                11L,
+                RealtimeMessageEnvelope.CURRENT_VERSION,
+                "latency-event",
+                RealtimeMessageEnvelope.Target.BROADCAST,
+                "/topic/party/5",
+                null,
+                "{}",
+                1,
+                Instant.now().minusMillis(50));
+        when(stateService.findClaimableIds(any(Instant.class), eq(properties.getBatchSize())))
+                .thenReturn(List.of(11L));
+        when(stateService.claim(eq(11L), anyString(), any(Instant.class), eq(properties.getLeaseDuration())))
+                .thenReturn(Optional.of(claim));
+        when(stateService.markPublished(eq(11L), anyString(), any(Instant.class))).thenReturn(true);
+
+        relay.poll();
+
+        assertThat(meterRegistry.timer("realtime.outbox.delivery.latency").count()).isEqualTo(1L);
+        assertThat(meterRegistry.timer("realtime.outbox.delivery.latency")
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50.0);
+    }
+
     @Test
     void pollUsesDedicatedOutboxScheduler() throws Exception {
         Scheduled scheduled = RealtimeOutboxRelay.class.getDeclaredMethod("poll").getAnnotation(Scheduled.class);
@@ -19,11 +19,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class RealtimeOutboxWriterTest {
 
     private final RealtimeOutboxRepository repository = mock(RealtimeOutboxRepository.class);
-    private final RealtimeOutboxWriter writer = new RealtimeOutboxWriter(repository, new ObjectMapper());
+    private final RealtimeOutboxWakeup wakeup = new RealtimeOutboxWakeup();
+    private final RealtimeOutboxWriter writer = new RealtimeOutboxWriter(repository, new ObjectMapper(), wakeup);
 
     @AfterEach
     void clearTransactionState() {
         TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -57,4 +61,37 @@ class RealtimeOutboxWriterTest {
         assertThat(event.getAvailableAt()).isNotNull();
         assertThat(event.getCreatedAt()).isNotNull();
     }
+
+    @Test
+    void signalsWakeupOnceAfterCommitForMultipleWrites() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+        java.util.concurrent.atomic.AtomicInteger signals = new java.util.concurrent.atomic.AtomicInteger();
+        wakeup.registerListener(signals::incrementAndGet);
+
+        writer.broadcast("/topic/party/5", Map.of("message", "hello"));
+        writer.sendToUser("42", "/queue/notifications", Map.of("id", 7));
+
+        assertThat(signals).hasValue(0);
+        java.util.List<org.springframework.transaction.support.TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(
+                org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(signals).hasValue(1);
+    }
+
+    @Test
+    void rolledBackWriteDoesNotSignalWakeup() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+        java.util.concurrent.atomic.AtomicInteger signals = new java.util.concurrent.atomic.AtomicInteger();
+        wakeup.registerListener(signals::incrementAndGet);
+
+        writer.broadcast("/topic/party/5", Map.of("message", "hello"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization
+                .afterCompletion(org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(signals).hasValue(0);
+    }
 }
@@ -10,14 +10,18 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class RedisRealtimeMessagePublisherTest {
 
     private static final String CHANNEL = "bega:realtime:v1";
@@ -30,6 +34,17 @@ class RedisRealtimeMessagePublisherTest {
             objectMapper,
             fallbackDispatcher,
             CHANNEL);
+    private final RealtimeLocalSubscriptionRegistry subscriptionRegistry =
+            new RealtimeLocalSubscriptionRegistry(new SimpleMeterRegistry());
+    private final SimpleMeterRegistry routedMeterRegistry = new SimpleMeterRegistry();
+    private final RedisRealtimeMessagePublisher routedPublisher = new RedisRealtimeMessagePublisher(
+            redisTemplate,
+            objectMapper,
+            fallbackDispatcher,
+            CHANNEL,
+            subscriptionRegistry,
+            true,
+            routedMeterRegistry);
 
     @Test
     void broadcastPublishesVersionedEnvelopeToRedis() throws Exception {
@@ -125,6 +140,48 @@ class RedisRealtimeMessagePublisherTest {
         verifyNoInteractions(fallbackDispatcher);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishAllPipelinesEnvelopesAndReportsOnlyUndeliveredOnes() {
+        when(redisTemplate.executePipelined(org.mockito.ArgumentMatchers.any(SessionCallback.class)))
+                .thenReturn(List.of(2L, 0L));
+        RealtimeMessageEnvelope delivered = RealtimeMessageEnvelope.broadcast(
+                "delivered-event",
+                "/topic/party/5",
+                objectMapper.valueToTree(Map.of("message", "hello")));
+        RealtimeMessageEnvelope undelivered = RealtimeMessageEnvelope.broadcast(
+                "undelivered-event",
+                "/topic/party/5",
+                objectMapper.valueToTree(Map.of("message", "hello")));
+
+        Map<String, RuntimeException> failures = publisher.publishAll(List.of(delivered, undelivered));
+
+        assertThat(failures).containsOnlyKeys("undelivered-event");
+        assertThat(failures.get("undelivered-event"))
+                .isInstanceOf(RealtimeMessageTransportException.class)
+                .hasMessageContaining("no subscribers");
+        verify(redisTemplate, times(1)).executePipelined(org.mockito.ArgumentMatchers.any(SessionCallback.class));
+        verifyNoInteractions(fallbackDispatcher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishAllMarksWholeBatchFailedWhenPipelineFails() {
+        when(redisTemplate.executePipelined(org.mockito.ArgumentMatchers.any(SessionCallback.class)))
+                .thenThrow(new IllegalStateException("redis unavailable"));
+        RealtimeMessageEnvelope envelope = RealtimeMessageEnvelope.user(
+                "pipeline-failed-event",
+                "42",
+                "/queue/notifications",
+                objectMapper.valueToTree(Map.of("id", 7)));
+
+        Map<String, RuntimeException> failures = publisher.publishAll(List.of(envelope));
+
+        assertThat(failures.get("pipeline-failed-event"))
+                .isInstanceOf(RealtimeMessageTransportException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void fallbackFailureIsNotRetriedLocally() {
         when(redisTemplate.convertAndSend(eq(CHANNEL), org.mockito.ArgumentMatchers.anyString())).thenReturn(0L);
@@ -156,4 +213,112 @@ class RedisRealtimeMessagePublisherTest {
 
         verifyNoInteractions(redisTemplate, fallbackDispatcher);
     }
+
+    @Test
+    void routedBroadcastIsPublishedToDestinationChannel() {
+        when(redisTemplate.convertAndSend(eq(CHANNEL + ":d:/topic/party/5"), org.mockito.ArgumentMatchers.anyString()))
+                .thenReturn(1L);
+
+        routedPublisher.broadcast("/topic/party/5", Map.of("message", "hello"));
+
+        verify(redisTemplate).convertAndSend(eq(CHANNEL + ":d:/topic/party/5"), org.mockito.ArgumentMatchers.anyString());
+        verifyNoInteractions(fallbackDispatcher);
+        assertThat(routedMeterRegistry.counter("realtime.redis.publish", "outcome", "delivered").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void routedZeroSubscribersWithoutLocalInterestIsTreatedAsDelivered() {
+        when(redisTemplate.convertAndSend(eq(CHANNEL + ":u:42"), org.mockito.ArgumentMatchers.anyString()))
+                .thenReturn(0L);
+        RealtimeMessageEnvelope envelope = RealtimeMessageEnvelope.user(
+                "stable-event-id",
+                "42",
+                "/queue/notifications",
+                objectMapper.valueToTree(Map.of("id", 7)));
+
+        routedPublisher.publish(envelope);
+        routedPublisher.sendToUser("42", "/queue/notifications", Map.of("id", 8));
+
+        verifyNoInteractions(fallbackDispatcher);
+        assertThat(routedMeterRegistry.counter("realtime.redis.publish", "outcome", "unrouted").count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void routedZeroSubscribersWithLocalInterestKeepsFailureSemantics() {
+        subscriptionRegistry.subscribe("session-1", "sub-1", "/topic/party/5", null);
+        when(redisTemplate.convertAndSend(eq(CHANNEL + ":d:/topic/party/5"), org.mockito.ArgumentMatchers.anyString()))
+                .thenReturn(0L);
+        RealtimeMessageEnvelope envelope = RealtimeMessageEnvelope.broadcast(
+                "stable-event-id",
+                "/topic/party/5",
+                objectMapper.valueToTree(Map.of("message", "hello")));
+
+        assertThatThrownBy(() -> routedPublisher.publish(envelope))
+                .isInstanceOf(RealtimeMessageTransportException.class)
+                .hasMessageContaining("no subscribers");
+        routedPublisher.broadcast("/topic/party/5", Map.of("message", "hello"));
+
+        verify(fallbackDispatcher, times(1))
+                .dispatch(org.mockito.ArgumentMatchers.any(RealtimeMessageEnvelope.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void routedPublishAllReportsOnlyEnvelopesWithLocalInterestAsUndelivered() {
+        subscriptionRegistry.subscribe("session-1", "sub-1", "/topic/party/6", null);
+        when(redisTemplate.executePipelined(org.mockito.ArgumentMatchers.any(SessionCallback.class)))
+                .thenReturn(List.of(0L, 0L));
+        RealtimeMessageEnvelope nobodyListening = RealtimeMessageEnvelope.broadcast(
+                "unrouted-event",
+                "/topic/party/5",
+                objectMapper.valueToTree(Map.of("message", "hello")));
+        RealtimeMessageEnvelope missedLocally = RealtimeMessageEnvelope.broadcast(
+                "missed-event",
+                "/topic/party/6",
+                objectMapper.valueToTree(Map.of("message", "hello")));
+
+        Map<String, RuntimeException> failures = routedPublisher.publishAll(List.of(nobodyListening, missedLocally));
+
+        assertThat(failures).containsOnlyKeys("missed-event");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void legacyPublishAlsoSendsToSharedChannelForPreviousReleaseNodes() {
+        RedisRealtimeMessagePublisher dualPublisher = new RedisRealtimeMessagePublisher(
+                redisTemplate,
+                objectMapper,
+                fallbackDispatcher,
+                CHANNEL,
+                subscriptionRegistry,
+                true,
+                true,
+                new SimpleMeterRegistry());
+        when(redisTemplate.convertAndSend(eq(CHANNEL + ":d:/topic/party/5"), org.mockito.ArgumentMatchers.anyString()))
+                .thenReturn(0L);
+        when(redisTemplate.convertAndSend(eq(CHANNEL), org.mockito.ArgumentMatchers.anyString())).thenReturn(1L);
+        when(redisTemplate.executePipelined(org.mockito.ArgumentMatchers.any(SessionCallback.class)))
+                .thenReturn(List.of(0L, 1L, 0L, 0L));
+        RealtimeMessageEnvelope legacyOnly = RealtimeMessageEnvelope.broadcast(
+                "legacy-event",
+                "/topic/party/5",
+                objectMapper.valueToTree(Map.of("message", "hello")));
+        subscriptionRegistry.subscribe("session-1", "sub-1", "/topic/party/6", null);
+        RealtimeMessageEnvelope missed = RealtimeMessageEnvelope.broadcast(
+                "missed-event",
+                "/topic/party/6",
+                objectMapper.valueToTree(Map.of("message", "hello")));
+
+        dualPublisher.publish(legacyOnly);
+        Map<String, RuntimeException> failures = dualPublisher.publishAll(List.of(legacyOnly, missed));
+
+        verify(redisTemplate).convertAndSend(eq(CHANNEL + ":d:/topic/party/5"), org.mockito.ArgumentMatchers.anyString());
+        verify(redisTemplate).convertAndSend(
+                eq(CHANNEL),
+                org.mockito.ArgumentMatchers.startsWith(RedisRealtimeMessagePublisher.LEGACY_COPY_MARKER + "{"));
+        assertThat(failures).containsOnlyKeys("missed-event");
+        verifyNoInteractions(fallbackDispatcher);
+    }
 }
@@ -1,6 +1,9 @@
 package com.example.common.realtime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class RedisRealtimeMessageSubscriberTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -63,4 +68,70 @@ class RedisRealtimeMessageSubscriberTest {
 
         verifyNoInteractions(dispatcher);
     }
+
+    @Test
+    void envelopeWithoutLocalSubscriberIsDroppedBeforeDispatch() throws Exception {
+        RealtimeMessageDispatcher dispatcher = mock(RealtimeMessageDispatcher.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RealtimeLocalSubscriptionRegistry subscriptionRegistry = new RealtimeLocalSubscriptionRegistry(meterRegistry);
+        subscriptionRegistry.subscribe("session-1", "sub-1", "/topic/dm/9", null);
+        RedisRealtimeMessageSubscriber subscriber = new RedisRealtimeMessageSubscriber(
+                objectMapper,
+                dispatcher,
+                subscriptionRegistry,
+                meterRegistry);
+        RealtimeMessageEnvelope subscribed = RealtimeMessageEnvelope.broadcast(
+                "event-1",
+                "/topic/dm/9",
+                objectMapper.valueToTree(Map.of("messageId", 11)));
+        RealtimeMessageEnvelope unsubscribed = RealtimeMessageEnvelope.broadcast(
+                "event-2",
+                "/topic/dm/10",
+                objectMapper.valueToTree(Map.of("messageId", 12)));
+
+        subscriber.handleMessage(objectMapper.writeValueAsString(subscribed));
+        subscriber.handleMessage(objectMapper.writeValueAsString(unsubscribed));
+        subscriber.handleMessage("{");
+
+        verify(dispatcher).dispatch(subscribed);
+        verify(dispatcher, never()).dispatch(unsubscribed);
+        assertThat(meterRegistry.counter("realtime.redis.fanout", "outcome", "received").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("realtime.redis.fanout", "outcome", "dispatched").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("realtime.redis.fanout", "outcome", "dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("realtime.redis.fanout", "outcome", "rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void markedSharedChannelCopyIsSkippedOnlyByRoutingNodes() throws Exception {
+        RealtimeMessageDispatcher routingDispatcher = mock(RealtimeMessageDispatcher.class);
+        RealtimeMessageDispatcher sharedOnlyDispatcher = mock(RealtimeMessageDispatcher.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisRealtimeMessageSubscriber routingSubscriber = new RedisRealtimeMessageSubscriber(
+                objectMapper,
+                routingDispatcher,
+                null,
+                true,
+                meterRegistry);
+        RedisRealtimeMessageSubscriber sharedOnlySubscriber = new RedisRealtimeMessageSubscriber(
+                objectMapper,
+                sharedOnlyDispatcher,
+                null,
+                false,
+                new SimpleMeterRegistry());
+        RealtimeMessageEnvelope envelope = RealtimeMessageEnvelope.broadcast(
+                "event-1",
+                "/topic/dm/9",
+                objectMapper.valueToTree(Map.of("messageId", 11)));
+        String serialized = objectMapper.writeValueAsString(envelope);
+        String legacyCopy = RedisRealtimeMessagePublisher.LEGACY_COPY_MARKER + serialized;
+
+        routingSubscriber.handleMessage(serialized);
+        routingSubscriber.handleMessage(legacyCopy);
+        sharedOnlySubscriber.handleMessage(legacyCopy);
+
+        verify(routingDispatcher, times(1)).dispatch(envelope);
+        verify(sharedOnlyDispatcher).dispatch(envelope);
+        assertThat(meterRegistry.counter("realtime.redis.fanout", "outcome", "skipped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("realtime.redis.fanout", "outcome", "rejected").count()).isZero();
+    }
 }
@@ -0,0 +1,131 @@
+package com.example.dm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.dm.entity.DmInboxEntry;
+import com.example.dm.entity.DmMessage;
+import com.example.dm.entity.DmRoom;
+import com.example.dm.repository.DmInboxEntryRepository;
+import com.example.dm.repository.DmMessageRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DmInboxProjection tests")
+class DmInboxProjectionTest {
+
+    private static final Instant SENT_AT = Instant.parse("2026-03-10T09:00:00Z");
+
+    @Mock
+    private DmInboxEntryRepository dmInboxEntryRepository;
+
+    @Mock
+    private DmMessageRepository dmMessageRepository;
+
+    @InjectMocks
+    private DmInboxProjection dmInboxProjection;
+
+    @Test
+    @DisplayName("sent message updates the sender row and increments the recipient row")
+    void recordMessage_updatesBothRows() {
+        DmRoom room = room();
+        DmMessage message = message(501L, 10L, SENT_AT);
+        when(dmInboxEntryRepository.applySentMessage(55L, 10L, 501L, "안녕하세요", SENT_AT)).thenReturn(1);
+        when(dmInboxEntryRepository.applyReceivedMessage(55L, 20L, 10L, 501L, "안녕하세요", SENT_AT)).thenReturn(1);
+
+        dmInboxProjection.recordMessage(room, message);
+
+        verify(dmInboxEntryRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("missing rows are created from the latest message and the message is applied again")
+    @SuppressWarnings("unchecked")
+    void recordMessage_createsMissingRowsAndRetries() {
+        DmRoom room = room();
+        DmMessage message = message(501L, 10L, SENT_AT);
+        when(dmInboxEntryRepository.applySentMessage(55L, 10L, 501L, "안녕하세요", SENT_AT)).thenReturn(0, 1);
+        when(dmInboxEntryRepository.applyReceivedMessage(55L, 20L, 10L, 501L, "안녕하세요", SENT_AT)).thenReturn(0, 1);
+        when(dmInboxEntryRepository.existsById(any(DmInboxEntry.Id.class))).thenReturn(false);
+        when(dmMessageRepository.findFirstByRoomIdOrderByCreatedAtDescIdDesc(55L)).thenReturn(Optional.of(message));
+
+        dmInboxProjection.recordMessage(room, message);
+
+        ArgumentCaptor<List<DmInboxEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(dmInboxEntryRepository).saveAll(entries.capture());
+        assertThat(entries.getValue())
+                .extracting(DmInboxEntry::getUserId, DmInboxEntry::getCounterpartId, DmInboxEntry::getLastActivityAt)
+                .containsExactly(
+                        Tuple.tuple(10L, 20L, SENT_AT),
+                        Tuple.tuple(20L, 10L, SENT_AT));
+        verify(dmInboxEntryRepository, times(2)).applyReceivedMessage(55L, 20L, 10L, 501L, "안녕하세요", SENT_AT);
+    }
+
+    @Test
+    @DisplayName("deleting the unread last message decrements unread and falls back to the previous message")
+    void recordDeletion_decrementsUnreadAndReplacesPreview() {
+        DmRoom room = room();
+        room.setParticipantTwoLastReadAt(SENT_AT.minusSeconds(60));
+        DmMessage deleted = message(502L, 10L, SENT_AT);
+        DmMessage previous = message(501L, 20L, SENT_AT.minusSeconds(120));
+        when(dmMessageRepository.findFirstByRoomIdOrderByCreatedAtDescIdDesc(55L)).thenReturn(Optional.of(previous));
+
+        dmInboxProjection.recordDeletion(room, deleted);
+
+        verify(dmInboxEntryRepository).decrementUnread(eq(55L), eq(20L), any(Instant.class));
+        verify(dmInboxEntryRepository).replaceLastMessage(
+                eq(55L), eq(502L), eq(501L), eq("안녕하세요"), eq(20L), eq(SENT_AT.minusSeconds(120)), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("deleting a message the recipient already read keeps the unread count")
+    void recordDeletion_keepsUnreadForReadMessage() {
+        DmRoom room = room();
+        room.setParticipantTwoLastReadAt(SENT_AT.plusSeconds(60));
+        when(dmMessageRepository.findFirstByRoomIdOrderByCreatedAtDescIdDesc(55L)).thenReturn(Optional.empty());
+
+        dmInboxProjection.recordDeletion(room, message(502L, 10L, SENT_AT));
+
+        verify(dmInboxEntryRepository, never()).decrementUnread(any(), any(), any());
+        verify(dmInboxEntryRepository).replaceLastMessage(
+                eq(55L), eq(502L), isNull(), isNull(), isNull(), eq(room.getCreatedAt()), any(Instant.class));
+    }
+
+    private static DmRoom room() {
+        return DmRoom.builder()
+                .id(55L)
+                .participantOneId(10L)
+                .participantTwoId(20L)
+                .createdAt(SENT_AT.minusSeconds(3600))
+                .build();
+    }
+
+    private static DmMessage message(Long id, Long senderId, Instant createdAt) {
+        return DmMessage.builder()
+                .id(id)
+                .roomId(55L)
+                .senderId(senderId)
+                .content("안녕하세요")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package com.example.dm.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,6 +41,9 @@ class DmMessageServiceTest {
     @Mock
     private DmRoomRepository dmRoomRepository;
 
+    @Mock
+    private DmInboxProjection dmInboxProjection;
+
     @Mock
     private RealtimeOutboxWriter realtimeOutboxWriter;
 
@@ -96,6 +101,7 @@ class DmMessageServiceTest {
                 .content("새 메시지")
                 .build());
 
+        verify(dmInboxProjection).recordMessage(eq(room), argThat(message -> message.getId().equals(102L)));
         verify(realtimeOutboxWriter).broadcast("/topic/dm/55", response);
     }
 
@@ -120,6 +126,7 @@ class DmMessageServiceTest {
 
         assertThat(roomId).isEqualTo(55L);
         verify(dmMessageRepository).delete(message);
+        verify(dmInboxProjection).recordDeletion(room, message);
         verify(realtimeOutboxWriter).broadcast(
                 "/topic/dm/55",
                 Map.of("messageId", 101L, "deleted", true, "roomId", 55L));
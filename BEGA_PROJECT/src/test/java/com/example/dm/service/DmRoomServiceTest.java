@@ -3,9 +3,15 @@ package com.example.dm.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import com.example.auth.entity.UserEntity;
 import com.example.auth.repository.UserBlockRepository;
@@ -24,7 +31,9 @@ import com.example.common.exception.BadRequestBusinessException;
 import com.example.common.exception.ForbiddenBusinessException;
 import com.example.common.exception.NotFoundBusinessException;
 import com.example.dm.dto.DmRoomDto;
+import com.example.dm.entity.DmInboxEntry;
 import com.example.dm.entity.DmRoom;
+import com.example.dm.repository.DmInboxEntryRepository;
 import com.example.dm.repository.DmRoomRepository;
 import com.example.profile.storage.service.ProfileImageService;
 
@@ -47,6 +56,12 @@ class DmRoomServiceTest {
     @Mock
     private ProfileImageService profileImageService;
 
+    @Mock
+    private DmInboxEntryRepository dmInboxEntryRepository;
+
+    @Mock
+    private DmInboxProjection dmInboxProjection;
+
     @InjectMocks
     private DmRoomService dmRoomService;
 
@@ -199,6 +214,118 @@ class DmRoomServiceTest {
         verify(userBlockRepository).existsBidirectionalBlock(30L, 40L);
     }
 
+    @Test
+    @DisplayName("inbox is served from the projection page with one batched counterpart lookup")
+    void getMyRooms_readsProjectionPage() {
+        Instant activityAt = Instant.parse("2026-03-10T09:00:00Z");
+        DmInboxEntry withMessage = DmInboxEntry.builder()
+                .id(new DmInboxEntry.Id(10L, 88L))
+                .counterpartId(20L)
+                .lastMessageId(501L)
+                .lastMessageContent("안녕하세요")
+                .lastMessageSenderId(20L)
+                .lastActivityAt(activityAt)
+                .unreadCount(2)
+                .build();
+        DmInboxEntry emptyRoom = DmInboxEntry.builder()
+                .id(new DmInboxEntry.Id(10L, 87L))
+                .counterpartId(30L)
+                .lastActivityAt(activityAt.minusSeconds(60))
+                .unreadCount(0)
+                .build();
+        when(dmInboxEntryRepository.findInboxPage(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(withMessage, emptyRoom));
+        when(userRepository.findAllById(List.of(20L, 30L))).thenReturn(List.of(targetUser()));
+
+        List<DmRoomDto.InboxItem> inbox = dmRoomService.getMyRooms(10L);
+
+        assertThat(inbox).extracting(DmRoomDto.InboxItem::getRoomId).containsExactly(88L, 87L);
+        assertThat(inbox.get(0).isHasUnread()).isTrue();
+        assertThat(inbox.get(0).getUnreadCount()).isEqualTo(2);
+        assertThat(inbox.get(0).getLastMessage().getContent()).isEqualTo("안녕하세요");
+        assertThat(inbox.get(0).getTargetUser().getId()).isEqualTo(20L);
+        assertThat(inbox.get(1).getLastMessage()).isNull();
+        assertThat(inbox.get(1).getTargetUser()).isNull();
+        assertThat(inbox.get(1).getLastActivityAt()).isEqualTo(activityAt.minusSeconds(60));
+        verify(dmInboxEntryRepository).findInboxPage(eq(10L), argThat(Pageable::isUnpaged));
+    }
+
+    @Test
+    @DisplayName("inbox first page is capped only when the client asks for paging")
+    void getMyRooms_appliesDefaultLimitOnlyForPagingRequests() {
+        when(dmInboxEntryRepository.findInboxPage(eq(10L), any(Pageable.class))).thenReturn(List.of());
+
+        dmRoomService.getMyRooms(10L, 20, null, null);
+
+        verify(dmInboxEntryRepository).findInboxPage(eq(10L), argThat(pageable -> pageable.getPageSize() == 20));
+    }
+
+    @Test
+    @DisplayName("inbox keyset cursor continues after the last item of the previous page")
+    void getMyRooms_usesKeysetCursorForNextPage() {
+        Instant before = Instant.parse("2026-03-10T09:00:00Z");
+        when(dmInboxEntryRepository.findInboxPageBefore(eq(10L), eq(before), eq(88L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertThat(dmRoomService.getMyRooms(10L, 500, before, 88L)).isEmpty();
+
+        verify(dmInboxEntryRepository).findInboxPageBefore(
+                eq(10L), eq(before), eq(88L), argThat(pageable -> pageable.getPageSize() == 100));
+        verify(dmInboxEntryRepository, never()).findInboxPage(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("inbox request with only half of the keyset cursor is rejected instead of restarting from the first page")
+    void getMyRooms_rejectsIncompleteCursor() {
+        Instant before = Instant.parse("2026-03-10T09:00:00Z");
+
+        assertThatThrownBy(() -> dmRoomService.getMyRooms(10L, 20, before, null))
+                .isInstanceOf(BadRequestBusinessException.class);
+        assertThatThrownBy(() -> dmRoomService.getMyRooms(10L, null, null, 88L))
+                .isInstanceOf(BadRequestBusinessException.class);
+
+        verify(dmInboxEntryRepository, never()).findInboxPage(anyLong(), any(Pageable.class));
+        verify(dmInboxEntryRepository, never()).findInboxPageBefore(anyLong(), any(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("new room creates inbox entries for both participants")
+    void bootstrapRoom_createsInboxEntriesForNewRoom() {
+        UserEntity target = targetUser();
+        when(userRepository.findByHandle("@target")).thenReturn(Optional.of(target));
+        when(userBlockRepository.existsBidirectionalBlock(10L, 20L)).thenReturn(false);
+        when(dmRoomRepository.findByParticipantOneIdAndParticipantTwoId(10L, 20L)).thenReturn(Optional.empty());
+        when(userFollowRepository.existsById(any())).thenReturn(true);
+        when(dmRoomRepository.save(any(DmRoom.class))).thenAnswer(invocation -> {
+            DmRoom room = invocation.getArgument(0);
+            room.setId(89L);
+            return room;
+        });
+
+        DmRoomDto.BootstrapResponse response = dmRoomService.bootstrapRoom(10L, DmRoomDto.BootstrapRequest.builder()
+                .targetHandle("@target")
+                .build());
+
+        assertThat(response.getRoomId()).isEqualTo(89L);
+        verify(dmInboxProjection).ensureEntries(argThat(room -> room.getId().equals(89L)));
+    }
+
+    @Test
+    @DisplayName("reading a room resets its inbox unread count")
+    void markAsRead_resetsInboxUnreadCount() {
+        DmRoom room = DmRoom.builder()
+                .id(88L)
+                .participantOneId(10L)
+                .participantTwoId(20L)
+                .build();
+        when(dmRoomRepository.findAccessibleByIdAndParticipantId(88L, 20L)).thenReturn(Optional.of(room));
+
+        dmRoomService.markAsRead(88L, 20L);
+
+        assertThat(room.getParticipantTwoLastReadAt()).isNotNull();
+        verify(dmInboxProjection).markRead(88L, 20L, room.getParticipantTwoLastReadAt());
+    }
+
     private UserEntity targetUser() {
         return UserEntity.builder()
                 .id(20L)
@@ -1,9 +1,13 @@
 package com.example.homepage;
 
 import com.example.kbo.entity.GameEntity;
+import com.example.kbo.entity.TeamStandingEntity;
 import com.example.kbo.repository.GameRepository;
 import com.example.kbo.repository.MatchRangeProjection;
+import com.example.kbo.repository.ScheduleIndexRowProjection;
 import com.example.kbo.service.LeagueStageResolver;
+import com.example.kbo.service.SeasonScheduleIndex;
+import com.example.kbo.service.TeamStandingsService;
 import com.example.kbo.validation.BaseballDataIntegrityGuard;
 import com.example.kbo.validation.ManualBaseballDataMissingItem;
 import com.example.kbo.validation.ManualBaseballDataRequest;
@@ -13,8 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -45,6 +51,12 @@ class HomePageGameServiceTest {
     @Mock
     private BaseballDataIntegrityGuard baseballDataIntegrityGuard;
 
+    @Mock
+    private TeamStandingsService teamStandingsService;
+
+    @Mock
+    private SeasonScheduleIndex seasonScheduleIndex;
+
     private HomePageGameService homePageGameService;
 
     @BeforeEach
@@ -55,7 +67,9 @@ class HomePageGameServiceTest {
                 homePageTeamRepository,
                 stadiumDataSource,
                 leagueStageResolver,
-                baseballDataIntegrityGuard
+                baseballDataIntegrityGuard,
+                teamStandingsService,
+                seasonScheduleIndex
         );
     }
 
@@ -129,6 +143,30 @@ class HomePageGameServiceTest {
         verify(gameRepository, never()).findTeamRankingsBySeasonFallback(2026);
     }
 
+    @Test
+    @DisplayName("팀 순위 projection이 있으면 전체 집계 쿼리를 실행하지 않는다")
+    void getTeamRankingsPrefersStandingsProjection() {
+        TeamStandingEntity standing = new TeamStandingEntity(2026, "LG");
+        standing.setWins(80);
+        standing.setLosses(50);
+        standing.setDraws(2);
+        standing.setGamesPlayed(132);
+        standing.setSeasonRank(1);
+        standing.setGamesBehind(new BigDecimal("0.0"));
+        standing.setRecentForm("WLDWW");
+        when(teamStandingsService.findRankedStandings(2026)).thenReturn(List.of(standing));
+
+        List<HomePageTeamRankingDto> rankings = homePageGameService.getTeamRankings(2026);
+
+        assertThat(rankings).hasSize(1);
+        assertThat(rankings.get(0).getRank()).isEqualTo(1);
+        assertThat(rankings.get(0).getTeamName()).isEqualTo("LG");
+        assertThat(rankings.get(0).getWinRate()).isEqualTo("0.615");
+        assertThat(rankings.get(0).getGamesBehind()).isEqualTo(0.0);
+        assertThat(rankings.get(0).getRecentForm()).containsExactly("W", "L", "D", "W", "W");
+        verifyNoInteractions(gameRepository);
+    }
+
     @Test
     @DisplayName("fast 팀 순위 결과가 비어 있으면 legacy fallback 쿼리를 사용한다")
     void getTeamRankingsFallsBackToLegacyWhenFastQueryIsEmpty() {
@@ -530,6 +568,90 @@ class HomePageGameServiceTest {
         verifyNoInteractions(baseballDataIntegrityGuard);
     }
 
+    @Test
+    @DisplayName("일정 색인이 준비돼 있으면 scoped 네비게이션을 쿼리 없이 같은 규칙으로 계산한다")
+    void getScopedNavigation_usesScheduleIndexWhenReady() {
+        GameRepository indexRepository = org.mockito.Mockito.mock(GameRepository.class);
+        when(indexRepository.findScheduleIndexRows()).thenReturn(List.of(
+                new IndexRow("20261001LGKT0", LocalDate.of(2026, 10, 1), "LG", "KT", null, "COMPLETED", 2026, 0),
+                new IndexRow("20261003LGKT0", LocalDate.of(2026, 10, 3), "LG", "KT", null, "CANCELLED", 2026, 0),
+                new IndexRow("20261005LGKT0", LocalDate.of(2026, 10, 5), "LG", "KT", null, "COMPLETED", 2026, 0),
+                new IndexRow("20261007LGKT0", LocalDate.of(2026, 10, 7), "LG", "KT", null, "COMPLETED", 2026, 2),
+                new IndexRow("20261009LGKT0", LocalDate.of(2026, 10, 9), "LG", "KT", null, "SCHEDULED", 2026, 0)));
+        SeasonScheduleIndex index = new SeasonScheduleIndex(
+                indexRepository,
+                org.mockito.Mockito.mock(PlatformTransactionManager.class),
+                true,
+                60_000L);
+        index.rebuildAll();
+        when(seasonScheduleIndex.current()).thenReturn(index.current());
+
+        HomeScopedNavigationDto regular = homePageGameService.getScopedNavigation(
+                LocalDate.of(2026, 10, 3), "regular", 2026);
+        HomeScopedNavigationDto scheduled = homePageGameService.getScopedNavigation(
+                LocalDate.of(2026, 10, 3), "scheduled", 2026);
+
+        // 10/3은 취소 경기라 건너뛰고 다음 정규시즌 완료 경기일(10/5)로 맞춘다. 10/7 포스트시즌은 제외된다.
+        assertThat(regular.getResolvedDate()).isEqualTo("2026-10-05");
+        assertThat(regular.getPrevGameDate()).isEqualTo("2026-10-01");
+        assertThat(regular.getNextGameDate()).isNull();
+        assertThat(regular.isHasNext()).isFalse();
+        assertThat(scheduled.getResolvedDate()).isEqualTo("2026-10-09");
+        assertThat(scheduled.getPrevGameDate()).isNull();
+        verifyNoInteractions(gameRepository);
+    }
+
+    private record IndexRow(
+            String gameId,
+            LocalDate gameDate,
+            String homeTeam,
+            String awayTeam,
+            Boolean isDummy,
+            String gameStatus,
+            Integer seasonYear,
+            Integer leagueTypeCode) implements ScheduleIndexRowProjection {
+
+        @Override
+        public String getGameId() {
+            return gameId;
+        }
+
+        @Override
+        public LocalDate getGameDate() {
+            return gameDate;
+        }
+
+        @Override
+        public String getHomeTeam() {
+            return homeTeam;
+        }
+
+        @Override
+        public String getAwayTeam() {
+            return awayTeam;
+        }
+
+        @Override
+        public Boolean getIsDummy() {
+            return isDummy;
+        }
+
+        @Override
+        public String getGameStatus() {
+            return gameStatus;
+        }
+
+        @Override
+        public Integer getSeasonYear() {
+            return seasonYear;
+        }
+
+        @Override
+        public Integer getLeagueTypeCode() {
+            return leagueTypeCode;
+        }
+    }
+
     private MatchRangeProjection projection(
             String gameId,
             LocalDate gameDate,
@@ -0,0 +1,177 @@
+package com.example.homepage;
+
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.repository.ScheduleIndexRowProjection;
+import com.example.kbo.service.LeagueStageResolver;
+import com.example.kbo.service.SeasonScheduleIndex;
+import com.example.kbo.service.TeamStandingsService;
+import com.example.kbo.validation.BaseballDataIntegrityGuard;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 날짜 이동 요청 1,000건당 SQL 호출 수를 기존 쿼리 경로와 일정 색인 경로로 비교한다.
+ * 기존 경로는 scoped 네비게이션 한 번에 MIN/MAX 쿼리를 3~5개 보내므로 DB 왕복 수를 지표로 쓰고,
+ * 색인 경로의 요청당 CPU 시간(이분 탐색)은 참고로 출력한다.
+ */
+class HomePageNavigationBenchmarkTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int SEASON_YEAR = 2026;
+    private static final String[] SCOPES = {"regular", "postseason", "koreanseries", "scheduled"};
+
+    @Test
+    @DisplayName("날짜 이동 1k건당 SQL 호출 수: 색인 경로는 적재 쿼리 1회 외에 0회로 줄어든다")
+    void compareQueriesPerThousandNavigations() {
+        List<LocalDate> anchors = sampleAnchors();
+
+        GameRepository legacyRepository = mock(GameRepository.class);
+        SeasonScheduleIndex notReadyIndex = mock(SeasonScheduleIndex.class);
+        when(notReadyIndex.current()).thenReturn(Optional.empty());
+        HomePageGameService legacyService = newService(legacyRepository, notReadyIndex);
+        long legacyStarted = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            navigate(legacyService, anchors.get(i % anchors.size()), i);
+        }
+        long legacyNanos = System.nanoTime() - legacyStarted;
+        long legacyQueries = Mockito.mockingDetails(legacyRepository).getInvocations().size();
+
+        GameRepository indexRepository = mock(GameRepository.class);
+        when(indexRepository.findScheduleIndexRows()).thenReturn(sampleSeasonRows());
+        SeasonScheduleIndex index = new SeasonScheduleIndex(
+                indexRepository, mock(PlatformTransactionManager.class), true, 600_000L);
+        index.rebuildAll();
+        HomePageGameService indexedService = newService(indexRepository, index);
+        for (int i = 0; i < REQUESTS; i++) {
+            navigate(indexedService, anchors.get(i % anchors.size()), i);
+        }
+        Mockito.clearInvocations(indexRepository);
+        long indexStarted = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            navigate(indexedService, anchors.get(i % anchors.size()), i);
+        }
+        long indexNanos = System.nanoTime() - indexStarted;
+        long indexQueries = Mockito.mockingDetails(indexRepository).getInvocations().size();
+
+        System.out.printf(
+                "date navigation per %d requests: sql legacy=%d index=%d "
+                        + "(legacy %.1f us/req against mocks, index %.1f us/req, %d games indexed)%n",
+                REQUESTS, legacyQueries, indexQueries,
+                legacyNanos / 1_000.0 / REQUESTS, indexNanos / 1_000.0 / REQUESTS,
+                index.current().orElseThrow().gameCount());
+        assertThat(legacyQueries).isGreaterThanOrEqualTo(3L * REQUESTS);
+        assertThat(indexQueries).isZero();
+    }
+
+    private void navigate(HomePageGameService service, LocalDate anchor, int request) {
+        if (request % 5 == 0) {
+            service.getScheduleNavigation(anchor);
+            return;
+        }
+        service.getScopedNavigation(anchor, SCOPES[request % SCOPES.length], SEASON_YEAR);
+    }
+
+    private HomePageGameService newService(GameRepository gameRepository, SeasonScheduleIndex seasonScheduleIndex) {
+        return new HomePageGameService(
+                gameRepository,
+                mock(HomePageTeamRepository.class),
+                mock(DataSource.class),
+                new LeagueStageResolver(gameRepository),
+                mock(BaseballDataIntegrityGuard.class),
+                mock(TeamStandingsService.class),
+                seasonScheduleIndex);
+    }
+
+    private List<LocalDate> sampleAnchors() {
+        List<LocalDate> anchors = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(SEASON_YEAR, 3, 1); date.isBefore(LocalDate.of(SEASON_YEAR, 11, 30));
+                date = date.plusDays(3)) {
+            anchors.add(date);
+        }
+        return anchors;
+    }
+
+    // 정규시즌 경기일마다 5경기(월요일 휴식), 10월 이후 포스트시즌/한국시리즈 하루 1경기, 마지막 2주는 예정 경기
+    private List<ScheduleIndexRowProjection> sampleSeasonRows() {
+        List<String> teams = List.of("LG", "KT", "SSG", "NC", "DB", "KIA", "LT", "SS", "HH", "KH");
+        List<ScheduleIndexRowProjection> rows = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(SEASON_YEAR, 3, 28); date.isBefore(LocalDate.of(SEASON_YEAR, 10, 1));
+                date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() == 1) {
+                continue;
+            }
+            String status = date.isAfter(LocalDate.of(SEASON_YEAR, 9, 16)) ? "SCHEDULED" : "COMPLETED";
+            for (int game = 0; game < 5; game++) {
+                rows.add(new Row(date.toString().replace("-", "") + teams.get(game * 2) + teams.get(game * 2 + 1) + "0",
+                        date, teams.get(game * 2), teams.get(game * 2 + 1), status, 0));
+            }
+        }
+        for (LocalDate date = LocalDate.of(SEASON_YEAR, 10, 6); date.isBefore(LocalDate.of(SEASON_YEAR, 11, 1));
+                date = date.plusDays(1)) {
+            int day = date.getDayOfMonth();
+            int leagueTypeCode = day < 12 ? 2 : day < 18 ? 3 : day < 25 ? 4 : 5;
+            rows.add(new Row(date.toString().replace("-", "") + "LGKT0", date, "LG", "KT", "COMPLETED", leagueTypeCode));
+        }
+        return rows;
+    }
+
+    private record Row(
+            String gameId,
+            LocalDate gameDate,
+            String homeTeam,
+            String awayTeam,
+            String gameStatus,
+            Integer leagueTypeCode) implements ScheduleIndexRowProjection {
+
+        @Override
+        public String getGameId() {
+            return gameId;
+        }
+
+        @Override
+        public LocalDate getGameDate() {
+            return gameDate;
+        }
+
+        @Override
+        public String getHomeTeam() {
+            return homeTeam;
+        }
+
+        @Override
+        public String getAwayTeam() {
+            return awayTeam;
+        }
+
+        @Override
+        public Boolean getIsDummy() {
+            return false;
+        }
+
+        @Override
+        public String getGameStatus() {
+            return gameStatus;
+        }
+
+        @Override
+        public Integer getSeasonYear() {
+            return SEASON_YEAR;
+        }
+
+        @Override
+        public Integer getLeagueTypeCode() {
+            return leagueTypeCode;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.kbo.service;
+
+import com.example.kbo.dto.ScheduleIndexRebuildResultDto;
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.repository.ScheduleIndexRowProjection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeasonScheduleIndexTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SeasonScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SeasonScheduleIndex(gameRepository, transactionManager, true, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("canonical 이전/다음/범위는 더미, MOCK, 비정규 팀 경기를 빼고 시즌을 가로질러 찾는다")
+    void canonicalLookupsMatchCanonicalQueries() {
+        when(gameRepository.findScheduleIndexRows()).thenReturn(List.of(
+                row("20251028LGHH0", LocalDate.of(2025, 10, 28), "LG", "HH", "COMPLETED", 2025, 5),
+                row("20260301XXYY0", LocalDate.of(2026, 3, 1), "XX", "YY", "COMPLETED", 2026, 0),
+                row("MOCK20260310", LocalDate.of(2026, 3, 10), "LG", "KT", "COMPLETED", 2026, 0),
+                dummy("20260315LGKT0", LocalDate.of(2026, 3, 15)),
+                row("20260328LGKT0", LocalDate.of(2026, 3, 28), "LG", "KT", "COMPLETED", 2026, 0),
+                row("20260329SSNC0", LocalDate.of(2026, 3, 29), "SS", "NC", "SCHEDULED", 2026, 0)));
+        index.rebuildAll();
+
+        SeasonScheduleIndex.Snapshot snapshot = index.current().orElseThrow();
+
+        assertThat(snapshot.findCanonicalPrevGameDate(LocalDate.of(2026, 3, 28))).contains(LocalDate.of(2025, 10, 28));
+        assertThat(snapshot.findCanonicalNextGameDate(LocalDate.of(2025, 10, 28))).contains(LocalDate.of(2026, 3, 28));
+        assertThat(snapshot.findCanonicalNextGameDate(LocalDate.of(2026, 3, 29))).isEmpty();
+        assertThat(snapshot.findCanonicalMinGameDate()).contains(LocalDate.of(2025, 10, 28));
+        assertThat(snapshot.findCanonicalMaxGameDate()).contains(LocalDate.of(2026, 3, 29));
+        // 필터 없는 이전/다음 경기일은 더미/MOCK 경기도 포함한다.
+        assertThat(snapshot.findNextGameDate(LocalDate.of(2026, 3, 1))).contains(LocalDate.of(2026, 3, 10));
+        assertThat(snapshot.findGameIds(LocalDate.of(2026, 3, 15))).containsExactly("20260315LGKT0");
+    }
+
+    @Test
+    @DisplayName("scoped 조회는 시즌/리그 코드로 좁히고 예정/취소 상태를 건너뛴다")
+    void scopedLookupsFilterBySeasonLeagueAndStatus() {
+        when(gameRepository.findScheduleIndexRows()).thenReturn(List.of(
+                row("20261001LGKT0", LocalDate.of(2026, 10, 1), "LG", "KT", "completed", 2026, 0),
+                row("20261006LGKT0", LocalDate.of(2026, 10, 6), "LG", "KT", "COMPLETED", 2026, 2),
+                row("20261010LGKT0", LocalDate.of(2026, 10, 10), "LG", "KT", "POSTPONED", 2026, 3),
+                row("20261014LGKT0", LocalDate.of(2026, 10, 14), "LG", "KT", null, 2026, 4),
+                row("20261026LGKT0", LocalDate.of(2026, 10, 26), "LG", "KT", "SCHEDULED", 2026, 5)));
+        index.rebuildAll();
+
+        SeasonScheduleIndex.Snapshot snapshot = index.current().orElseThrow();
+        List<Integer> postseason = List.of(2, 3, 4);
+
+        assertThat(snapshot.findScopedGameDateOnOrAfter(LocalDate.of(2026, 10, 1), 2026, postseason))
+                .contains(LocalDate.of(2026, 10, 6));
+        assertThat(snapshot.findNextScopedGameDate(LocalDate.of(2026, 10, 6), 2026, postseason))
+                .contains(LocalDate.of(2026, 10, 14));
+        assertThat(snapshot.findPrevScopedGameDate(LocalDate.of(2026, 10, 6), 2026, postseason)).isEmpty();
+        assertThat(snapshot.findPrevScopedGameDate(LocalDate.of(2026, 10, 6), 2026, List.of(0)))
+                .contains(LocalDate.of(2026, 10, 1));
+        assertThat(snapshot.findScopedGameDateOnOrAfter(LocalDate.of(2026, 10, 1), 2025, postseason)).isEmpty();
+        assertThat(snapshot.findScopedGameDateOnOrAfter(LocalDate.of(2026, 10, 15), 2026, List.of(5))).isEmpty();
+        assertThat(snapshot.findScheduledNavigationDateOnOrAfter(LocalDate.of(2026, 10, 15)))
+                .contains(LocalDate.of(2026, 10, 26));
+    }
+
+    @Test
+    @DisplayName("시즌 재구성은 해당 시즌만 새로 읽어 스냅샷을 통째로 바꾼다")
+    void rebuildSeasonReplacesOnlyThatSeason() {
+        when(gameRepository.findScheduleIndexRows()).thenReturn(List.of(
+                row("20251028LGHH0", LocalDate.of(2025, 10, 28), "LG", "HH", "COMPLETED", 2025, 5),
+                row("20260328LGKT0", LocalDate.of(2026, 3, 28), "LG", "KT", "SCHEDULED", 2026, 0)));
+        index.rebuildAll();
+        SeasonScheduleIndex.Snapshot before = index.current().orElseThrow();
+        when(gameRepository.findScheduleIndexRowsBySeason(2026)).thenReturn(List.of(
+                row("20260328LGKT0", LocalDate.of(2026, 3, 28), "LG", "KT", "COMPLETED", 2026, 0),
+                row("20260329LGKT0", LocalDate.of(2026, 3, 29), "LG", "KT", "SCHEDULED", 2026, 0)));
+
+        ScheduleIndexRebuildResultDto result = index.rebuildSeason(2026);
+
+        SeasonScheduleIndex.Snapshot after = index.current().orElseThrow();
+        assertThat(result.games()).isEqualTo(2);
+        assertThat(after.seasonCount()).isEqualTo(2);
+        assertThat(after.gameCount()).isEqualTo(3);
+        assertThat(after.findCanonicalPrevGameDate(LocalDate.of(2026, 3, 28))).contains(LocalDate.of(2025, 10, 28));
+        assertThat(after.findNextScopedGameDate(LocalDate.of(2026, 3, 1), 2026, List.of(0)))
+                .contains(LocalDate.of(2026, 3, 28));
+        // 이미 꺼내 간 스냅샷은 바뀌지 않는다.
+        assertThat(before.findNextScopedGameDate(LocalDate.of(2026, 3, 1), 2026, List.of(0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션의 여러 경기 변경은 커밋 뒤 시즌마다 한 번만 다시 읽는다")
+    void rebuildSeasonAfterCommitDeduplicatesSeasonsPerTransaction() {
+        when(gameRepository.findScheduleIndexRows()).thenReturn(List.of(
+                row("20260328LGKT0", LocalDate.of(2026, 3, 28), "LG", "KT", "COMPLETED", 2026, 0)));
+        when(gameRepository.findScheduleIndexRowsBySeason(2026)).thenReturn(List.of(
+                row("20260328LGKT0", LocalDate.of(2026, 3, 28), "LG", "KT", "COMPLETED", 2026, 0)));
+        index.rebuildAll();
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.rebuildSeasonAfterCommit(2026);
+        index.rebuildSeasonAfterCommit(2026);
+        index.rebuildSeasonAfterCommit(2026);
+
+        verify(gameRepository, never()).findScheduleIndexRowsBySeason(2026);
+        List<TransactionSynchronization> synchronizations =
+                new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(gameRepository, times(1)).findScheduleIndexRowsBySeason(2026);
+    }
+
+    @Test
+    @DisplayName("적재 전, 비활성화, 허용 지연 초과 상태에서는 색인을 내주지 않는다")
+    void currentIsEmptyWhenNotReady() throws InterruptedException {
+        assertThat(index.current()).isEmpty();
+
+        SeasonScheduleIndex disabled = new SeasonScheduleIndex(gameRepository, transactionManager, false, 60_000L);
+        assertThat(disabled.rebuildAll().games()).isZero();
+        assertThat(disabled.current()).isEmpty();
+
+        when(gameRepository.findScheduleIndexRows()).thenReturn(List.of());
+        SeasonScheduleIndex stale = new SeasonScheduleIndex(gameRepository, transactionManager, true, 0L);
+        stale.rebuildAll();
+        Thread.sleep(5);
+        assertThat(stale.isLoaded()).isTrue();
+        assertThat(stale.current()).isEmpty();
+    }
+
+    private ScheduleIndexRowProjection row(
+            String gameId,
+            LocalDate gameDate,
+            String homeTeam,
+            String awayTeam,
+            String gameStatus,
+            Integer seasonYear,
+            Integer leagueTypeCode) {
+        return new IndexRow(gameId, gameDate, homeTeam, awayTeam, null, gameStatus, seasonYear, leagueTypeCode);
+    }
+
+    private ScheduleIndexRowProjection dummy(String gameId, LocalDate gameDate) {
+        return new IndexRow(gameId, gameDate, "LG", "KT", true, "COMPLETED", gameDate.getYear(), 0);
+    }
+
+    record IndexRow(
+            String gameId,
+            LocalDate gameDate,
+            String homeTeam,
+            String awayTeam,
+            Boolean isDummy,
+            String gameStatus,
+            Integer seasonYear,
+            Integer leagueTypeCode) implements ScheduleIndexRowProjection {
+
+        @Override
+        public String getGameId() {
+            return gameId;
+        }
+
+        @Override
+        public LocalDate getGameDate() {
+            return gameDate;
+        }
+
+        @Override
+        public String getHomeTeam() {
+            return homeTeam;
+        }
+
+        @Override
+        public String getAwayTeam() {
+            return awayTeam;
+        }
+
+        @Override
+        public Boolean getIsDummy() {
+            return isDummy;
+        }
+
+        @Override
+        public String getGameStatus() {
+            return gameStatus;
+        }
+
+        @Override
+        public Integer getSeasonYear() {
+            return seasonYear;
+        }
+
+        @Override
+        public Integer getLeagueTypeCode() {
+            return leagueTypeCode;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.kbo.service;
+
+import com.example.kbo.dto.TeamStandingsParityResultDto;
+import com.example.kbo.dto.TeamStandingsRebuildResultDto;
+import com.example.kbo.entity.GameEntity;
+import com.example.kbo.entity.TeamStandingEntity;
+import com.example.kbo.entity.TeamStandingGameEntity;
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.repository.TeamStandingGameRepository;
+import com.example.kbo.repository.TeamStandingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.example.common.config.CacheConfig.TEAM_RANKINGS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamStandingsServiceTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private TeamStandingRepository teamStandingRepository;
+
+    @Mock
+    private TeamStandingGameRepository teamStandingGameRepository;
+
+    private final Map<TeamStandingEntity.Id, TeamStandingEntity> standings = new LinkedHashMap<>();
+    private final Map<String, TeamStandingGameEntity> ledger = new LinkedHashMap<>();
+    private CacheManager cacheManager;
+    private TeamStandingsService service;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(TEAM_RANKINGS);
+        service = new TeamStandingsService(gameRepository, teamStandingRepository, teamStandingGameRepository, cacheManager);
+
+        // 저장소 mock을 메모리 map으로 연결해 증분 반영 결과를 그대로 확인한다.
+        lenient().when(teamStandingRepository.existsByIdSeasonYear(anyInt()))
+                .thenAnswer(invocation -> !season(invocation.getArgument(0)).isEmpty());
+        lenient().when(teamStandingRepository.findAllBySeasonYearForUpdate(anyInt()))
+                .thenAnswer(invocation -> season(invocation.getArgument(0)));
+        lenient().when(teamStandingRepository.findByIdSeasonYear(anyInt()))
+                .thenAnswer(invocation -> season(invocation.getArgument(0)));
+        lenient().when(teamStandingRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(standings.get(invocation.getArgument(0))));
+        lenient().when(teamStandingRepository.save(any())).thenAnswer(invocation -> {
+            TeamStandingEntity standing = invocation.getArgument(0);
+            standings.put(standing.getId(), standing);
+            return standing;
+        });
+        lenient().when(teamStandingRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<TeamStandingEntity> saved = new ArrayList<>();
+            ((Iterable<TeamStandingEntity>) invocation.getArgument(0)).forEach(saved::add);
+            saved.forEach(standing -> standings.put(standing.getId(), standing));
+            return saved;
+        });
+        lenient().doAnswer(invocation -> standings.remove(((TeamStandingEntity) invocation.getArgument(0)).getId()))
+                .when(teamStandingRepository).delete(any());
+        lenient().when(teamStandingGameRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(ledger.get(invocation.getArgument(0))));
+        lenient().when(teamStandingGameRepository.save(any())).thenAnswer(invocation -> {
+            TeamStandingGameEntity entry = invocation.getArgument(0);
+            ledger.put(entry.getGameId(), entry);
+            return entry;
+        });
+        lenient().when(teamStandingGameRepository.findRecentByTeam(anyInt(), anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> recentByTeam(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    @Test
+    @DisplayName("새 경기는 두 팀 행만 증감하고 최근 5경기 맨 앞에 결과를 붙인 뒤 순위/승차를 다시 매긴다")
+    void applyGame_appliesNewFinalGameIncrementally() {
+        seedStanding("LG", 10, 5, 0, "LLWWW", LocalDate.of(2026, 5, 1), "20260501LGKT0");
+        seedStanding("KT", 11, 5, 0, "WWWLL", LocalDate.of(2026, 5, 1), "20260501LGKT0");
+        when(gameRepository.findByGameId("20260502LGKT0"))
+                .thenReturn(Optional.of(finalGame("20260502LGKT0", LocalDate.of(2026, 5, 2), " lg ", "KT", 5, 3)));
+
+        boolean changed = service.applyGame("20260502LGKT0");
+
+        assertThat(changed).isTrue();
+        TeamStandingEntity lg = standings.get(new TeamStandingEntity.Id(2026, "LG"));
+        TeamStandingEntity kt = standings.get(new TeamStandingEntity.Id(2026, "KT"));
+        assertThat(lg.getWins()).isEqualTo(11);
+        assertThat(lg.getGamesPlayed()).isEqualTo(16);
+        assertThat(lg.getRecentForm()).isEqualTo("WLLWW");
+        assertThat(lg.getLastGameId()).isEqualTo("20260502LGKT0");
+        assertThat(kt.getLosses()).isEqualTo(6);
+        assertThat(kt.getRecentForm()).isEqualTo("LWWWL");
+        // LG 11-5, KT 11-6 -> LG 1위, KT 0.5경기 차
+        assertThat(lg.getSeasonRank()).isEqualTo(1);
+        assertThat(kt.getSeasonRank()).isEqualTo(2);
+        assertThat(kt.getGamesBehind()).isEqualByComparingTo(new BigDecimal("0.5"));
+        assertThat(ledger.get("20260502LGKT0").getHomeResult()).isEqualTo("W");
+        verify(teamStandingGameRepository, never()).findRecentByTeam(anyInt(), anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("이미 같은 결과로 반영된 경기는 다시 반영하지 않는다")
+    void applyGame_isIdempotentForUnchangedGame() {
+        seedStanding("LG", 1, 0, 0, "W", LocalDate.of(2026, 5, 2), "20260502LGKT0");
+        seedStanding("KT", 0, 1, 0, "L", LocalDate.of(2026, 5, 2), "20260502LGKT0");
+        ledger.put("20260502LGKT0", ledgerEntry("20260502LGKT0", LocalDate.of(2026, 5, 2), "W"));
+        when(gameRepository.findByGameId("20260502LGKT0"))
+                .thenReturn(Optional.of(finalGame("20260502LGKT0", LocalDate.of(2026, 5, 2), "LG", "KT", 5, 3)));
+
+        boolean changed = service.applyGame("20260502LGKT0");
+
+        assertThat(changed).isFalse();
+        assertThat(standings.get(new TeamStandingEntity.Id(2026, "LG")).getWins()).isEqualTo(1);
+        verify(teamStandingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("점수가 정정되면 이전 결과를 되돌리고 ledger 기준으로 최근 5경기를 다시 읽는다")
+    void applyGame_revertsPreviousResultOnCorrection() {
+        seedStanding("LG", 1, 0, 0, "W", LocalDate.of(2026, 5, 2), "20260502LGKT0");
+        seedStanding("KT", 0, 1, 0, "L", LocalDate.of(2026, 5, 2), "20260502LGKT0");
+        ledger.put("20260502LGKT0", ledgerEntry("20260502LGKT0", LocalDate.of(2026, 5, 2), "W"));
+        when(gameRepository.findByGameId("20260502LGKT0"))
+                .thenReturn(Optional.of(finalGame("20260502LGKT0", LocalDate.of(2026, 5, 2), "LG", "KT", 2, 3)));
+
+        boolean changed = service.applyGame("20260502LGKT0");
+
+        assertThat(changed).isTrue();
+        TeamStandingEntity lg = standings.get(new TeamStandingEntity.Id(2026, "LG"));
+        TeamStandingEntity kt = standings.get(new TeamStandingEntity.Id(2026, "KT"));
+        assertThat(lg.getWins()).isZero();
+        assertThat(lg.getLosses()).isEqualTo(1);
+        assertThat(lg.getGamesPlayed()).isEqualTo(1);
+        assertThat(lg.getRecentForm()).isEqualTo("L");
+        assertThat(kt.getRecentForm()).isEqualTo("W");
+        assertThat(kt.getSeasonRank()).isEqualTo(1);
+        assertThat(ledger.get("20260502LGKT0").getHomeResult()).isEqualTo("L");
+    }
+
+    @Test
+    @DisplayName("재구성 전 시즌은 증분 반영하지 않는다")
+    void applyGame_skipsSeasonWithoutProjection() {
+        when(gameRepository.findByGameId("20260502LGKT0"))
+                .thenReturn(Optional.of(finalGame("20260502LGKT0", LocalDate.of(2026, 5, 2), "LG", "KT", 5, 3)));
+
+        boolean changed = service.applyGame("20260502LGKT0");
+
+        assertThat(changed).isFalse();
+        assertThat(standings).isEmpty();
+        assertThat(ledger).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 재구성은 최신순 최근 5경기와 경기 수 상위 10팀 순위를 계산한다")
+    void rebuildSeason_computesStandingsFromSeasonGames() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {"20260401LGKT0", java.sql.Date.valueOf("2026-04-01"), "LG", "KT", 3, 1});
+        rows.add(new Object[] {"20260402LGKT0", LocalDate.of(2026, 4, 2), "LG", "KT", 2, 2});
+        rows.add(new Object[] {"20260403KTLG0", LocalDate.of(2026, 4, 3), "KT", "LG", 4, 0});
+        rows.add(new Object[] {"20260403SSNC0", LocalDate.of(2026, 4, 3), "SS", "", 7, 1});
+        when(gameRepository.findStandingGamesBySeason(2026, LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 1)))
+                .thenReturn(rows);
+        cacheManager.getCache(TEAM_RANKINGS).put(2026, List.of());
+
+        TeamStandingsRebuildResultDto result = service.rebuildSeason(2026);
+
+        assertThat(result.games()).isEqualTo(4);
+        assertThat(result.teams()).isEqualTo(3);
+        TeamStandingEntity lg = standings.get(new TeamStandingEntity.Id(2026, "LG"));
+        TeamStandingEntity kt = standings.get(new TeamStandingEntity.Id(2026, "KT"));
+        TeamStandingEntity ss = standings.get(new TeamStandingEntity.Id(2026, "SS"));
+        assertThat(lg.getRecentForm()).isEqualTo("LDW");
+        assertThat(kt.getRecentForm()).isEqualTo("WDL");
+        assertThat(lg.getLastGameId()).isEqualTo("20260403KTLG0");
+        // SS 1-0, LG 1-1-1, KT 1-1-1 -> SS 1위, KT/LG는 team_id 순
+        assertThat(ss.getSeasonRank()).isEqualTo(1);
+        assertThat(kt.getSeasonRank()).isEqualTo(2);
+        assertThat(lg.getSeasonRank()).isEqualTo(3);
+        assertThat(lg.getGamesBehind()).isEqualByComparingTo(new BigDecimal("0.5"));
+        assertThat(TeamStandingsService.winRate(lg)).isEqualTo("0.500");
+        verify(teamStandingGameRepository).deleteBySeasonYear(2026);
+        verify(teamStandingRepository).deleteBySeasonYear(2026);
+        assertThat(cacheManager.getCache(TEAM_RANKINGS).get(2026)).isNull();
+    }
+
+    @Test
+    @DisplayName("정합성 확인은 기존 집계 쿼리와 다른 항목을 보고한다")
+    void verifySeason_reportsMismatchesAgainstLiveQueries() {
+        TeamStandingEntity lg = seedStanding("LG", 2, 1, 0, "WLW", LocalDate.of(2026, 4, 3), "20260403LGKT0");
+        lg.setSeasonRank(1);
+        lg.setGamesBehind(new BigDecimal("0.0"));
+        when(teamStandingRepository.findByIdSeasonYearAndSeasonRankIsNotNullOrderBySeasonRankAsc(2026))
+                .thenReturn(List.of(lg));
+        when(gameRepository.findTeamRankingsBySeasonFast(eq(2026), any(), any()))
+                .thenReturn(List.<Object[]>of(
+                        new Object[] {1L, "LG", "LG", 2L, 1L, 0L, new BigDecimal("0.667"), 3L, new BigDecimal("0.0")},
+                        new Object[] {2L, "KT", "KT", 1L, 2L, 0L, new BigDecimal("0.333"), 3L, new BigDecimal("1.0")}));
+        when(gameRepository.findRecentFormBySeasonAndTeams(eq(2026), any(), any()))
+                .thenReturn(List.<Object[]>of(
+                        new Object[] {"LG", LocalDate.of(2026, 4, 3), "W"},
+                        new Object[] {"LG", LocalDate.of(2026, 4, 2), "L"},
+                        new Object[] {"LG", LocalDate.of(2026, 4, 1), "W"}));
+
+        TeamStandingsParityResultDto result = service.verifySeason(2026);
+
+        assertThat(result.matched()).isFalse();
+        assertThat(result.projectedTeams()).isEqualTo(1);
+        assertThat(result.liveTeams()).isEqualTo(2);
+        assertThat(result.mismatches()).containsExactly("KT: missing in projection");
+    }
+
+    private TeamStandingEntity seedStanding(
+            String teamId,
+            int wins,
+            int losses,
+            int draws,
+            String recentForm,
+            LocalDate lastGameDate,
+            String lastGameId) {
+        TeamStandingEntity standing = new TeamStandingEntity(2026, teamId);
+        standing.setWins(wins);
+        standing.setLosses(losses);
+        standing.setDraws(draws);
+        standing.setGamesPlayed(wins + losses + draws);
+        standing.setRecentForm(recentForm);
+        standing.setLastGameDate(lastGameDate);
+        standing.setLastGameId(lastGameId);
+        standings.put(standing.getId(), standing);
+        return standing;
+    }
+
+    private List<TeamStandingEntity> season(int seasonYear) {
+        return standings.values().stream()
+                .filter(standing -> standing.getSeasonYear() == seasonYear)
+                .toList();
+    }
+
+    private List<TeamStandingGameEntity> recentByTeam(int seasonYear, String teamId, Pageable pageable) {
+        return ledger.values().stream()
+                .filter(entry -> entry.getSeasonYear() == seasonYear)
+                .filter(entry -> teamId.equals(entry.getHomeTeamId()) || teamId.equals(entry.getAwayTeamId()))
+                .sorted(Comparator.comparing(TeamStandingGameEntity::getGameDate)
+                        .thenComparing(TeamStandingGameEntity::getGameId)
+                        .reversed())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static TeamStandingGameEntity ledgerEntry(String gameId, LocalDate gameDate, String homeResult) {
+        return TeamStandingGameEntity.builder()
+                .gameId(gameId)
+                .seasonYear(2026)
+                .gameDate(gameDate)
+                .homeTeamId("LG")
+                .awayTeamId("KT")
+                .homeResult(homeResult)
+                .build();
+    }
+
+    private static GameEntity finalGame(
+            String gameId,
+            LocalDate gameDate,
+            String homeTeam,
+            String awayTeam,
+            int homeScore,
+            int awayScore) {
+        return GameEntity.builder()
+                .gameId(gameId)
+                .gameDate(gameDate)
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .isDummy(false)
+                .build();
+    }
+}
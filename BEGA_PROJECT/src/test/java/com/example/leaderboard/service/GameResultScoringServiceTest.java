@@ -2,8 +2,6 @@ package com.example.leaderboard.service;
 
 import com.example.kbo.entity.GameEntity;
 import com.example.kbo.repository.GameRepository;
-import com.example.leaderboard.dto.ScoreResultDto;
-import com.example.leaderboard.repository.ScoreEventRepository;
 import com.example.prediction.Prediction;
 import com.example.prediction.PredictionRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -38,20 +37,20 @@ class GameResultScoringServiceTest {
     private PredictionRepository predictionRepository;
 
     @Mock
-    private ScoreEventRepository scoreEventRepository;
+    private ScoringService scoringService;
 
     @Mock
-    private ScoringService scoringService;
+    private PredictionSettlementService settlementService;
 
     private static final LocalDate DATE = LocalDate.of(2024, 9, 15);
 
     @BeforeEach
     void setUpDefaults() {
         lenient().when(gameRepository.findByGameDate(any())).thenReturn(Collections.emptyList());
-        lenient().when(scoreEventRepository.findProcessedPredictionIdsByPredictionIdIn(anyList()))
-                .thenReturn(Collections.emptyList());
         lenient().when(predictionRepository.findByGameIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
+        lenient().when(settlementService.settleGame(anyString(), any(), anyString(), anyBoolean()))
+                .thenAnswer(invocation -> report(invocation.getArgument(0), 0, 0, 0));
     }
 
     // ============================================
@@ -59,44 +58,29 @@ class GameResultScoringServiceTest {
     // ============================================
 
     @Test
-    @DisplayName("홈팀 승리: 2명 예측 중 1명 정답 → processedCount=2")
+    @DisplayName("홈팀 승리: 정산된 예측 수를 반환하고 isUpset=false 전달")
     void processGameResult_happyPathHomeWin() {
         GameEntity game = finishedGame("g1", "LG", "KIA", 5, 3, DATE);
-        Prediction p1 = prediction(1L, "g1", "home"); // correct
-        Prediction p2 = prediction(2L, "g1", "away"); // wrong
-
         when(gameRepository.findByGameId("g1")).thenReturn(Optional.of(game));
-        when(predictionRepository.findByGameId("g1")).thenReturn(List.of(p1, p2));
-
-        ScoreResultDto correctResult = ScoreResultDto.builder().userId(1L).correct(true).totalEarned(100).currentStreak(1).build();
-        ScoreResultDto wrongResult = ScoreResultDto.incorrect(2L, 0);
-        when(scoringService.processPredictionResult(eq(1L), anyLong(), eq("g1"), eq(true), eq(false)))
-                .thenReturn(correctResult);
-        when(scoringService.processPredictionResult(eq(2L), anyLong(), eq("g1"), eq(false), eq(false)))
-                .thenReturn(wrongResult);
+        when(settlementService.settleGame("g1", DATE, "home", false)).thenReturn(report("g1", 2, 0, 0));
 
         int count = gameResultScoringService.processGameResult("g1");
 
         assertThat(count).isEqualTo(2);
-        verify(scoringService, times(2)).processPredictionResult(anyLong(), anyLong(), anyString(), anyBoolean(), anyBoolean());
+        verify(settlementService).settleGame("g1", DATE, "home", false);
     }
 
     @Test
     @DisplayName("원정팀 승리 시 isUpset=true 전달")
     void processGameResult_awayWinIsUpset() {
         GameEntity game = finishedGame("g2", "LG", "KIA", 2, 5, DATE);
-        Prediction p = prediction(1L, "g2", "away"); // correct
-
         when(gameRepository.findByGameId("g2")).thenReturn(Optional.of(game));
-        when(predictionRepository.findByGameId("g2")).thenReturn(List.of(p));
-        when(scoringService.processPredictionResult(eq(1L), anyLong(), eq("g2"), eq(true), eq(true)))
-                .thenReturn(ScoreResultDto.builder().userId(1L).correct(true).totalEarned(150).currentStreak(1).build());
+        when(settlementService.settleGame("g2", DATE, "away", true)).thenReturn(report("g2", 1, 0, 0));
 
         int count = gameResultScoringService.processGameResult("g2");
 
         assertThat(count).isEqualTo(1);
-        // isUpset=true because away wins
-        verify(scoringService).processPredictionResult(eq(1L), anyLong(), eq("g2"), eq(true), eq(true));
+        verify(settlementService).settleGame("g2", DATE, "away", true);
     }
 
     @Test
@@ -118,7 +102,7 @@ class GameResultScoringServiceTest {
         int count = gameResultScoringService.processGameResult("g3");
 
         assertThat(count).isZero();
-        verify(predictionRepository, never()).findByGameId(anyString());
+        verify(settlementService, never()).settleGame(anyString(), any(), anyString(), anyBoolean());
     }
 
     @Test
@@ -134,18 +118,15 @@ class GameResultScoringServiceTest {
         int count = gameResultScoringService.processGameResult("g4");
 
         assertThat(count).isZero();
+        verify(settlementService, never()).settleGame(anyString(), any(), anyString(), anyBoolean());
     }
 
     @Test
-    @DisplayName("무승부 게임도 처리 (winner='draw')")
+    @DisplayName("무승부 게임도 정산 (winner='draw')")
     void processGameResult_noWinner() {
         GameEntity game = finishedGame("g5", "LG", "KIA", 3, 3, DATE);
-        Prediction p = prediction(1L, "g5", "home"); // votedTeam != "draw" → incorrect
-
         when(gameRepository.findByGameId("g5")).thenReturn(Optional.of(game));
-        when(predictionRepository.findByGameId("g5")).thenReturn(List.of(p));
-        when(scoringService.processPredictionResult(eq(1L), anyLong(), eq("g5"), eq(false), eq(false)))
-                .thenReturn(ScoreResultDto.incorrect(1L, 0));
+        when(settlementService.settleGame("g5", DATE, "draw", false)).thenReturn(report("g5", 1, 0, 0));
 
         int count = gameResultScoringService.processGameResult("g5");
 
@@ -153,57 +134,27 @@ class GameResultScoringServiceTest {
     }
 
     @Test
-    @DisplayName("예측이 없으면 0 반환 (checkPerfectDay 전에 리턴)")
+    @DisplayName("예측이 없으면 0 반환하고 퍼펙트 데이 확인을 하지 않는다")
     void processGameResult_noPredictions() {
         GameEntity game = finishedGame("g6", "LG", "KIA", 5, 3, DATE);
         when(gameRepository.findByGameId("g6")).thenReturn(Optional.of(game));
-        when(predictionRepository.findByGameId("g6")).thenReturn(Collections.emptyList());
 
         int count = gameResultScoringService.processGameResult("g6");
 
         assertThat(count).isZero();
+        verify(gameRepository, never()).findByGameDate(any());
     }
 
     @Test
-    @DisplayName("이미 처리된 예측은 건너뛰고 나머지만 처리")
-    void processGameResult_alreadyProcessedSkipped() {
+    @DisplayName("이미 정산된 예측만 남은 경기는 정산 수 0을 반환한다")
+    void processGameResult_alreadySettled() {
         GameEntity game = finishedGame("g7", "LG", "KIA", 5, 3, DATE);
-        Prediction p1 = prediction(1L, "g7", "home");
-        Prediction p2 = prediction(2L, "g7", "home");
-
         when(gameRepository.findByGameId("g7")).thenReturn(Optional.of(game));
-        when(predictionRepository.findByGameId("g7")).thenReturn(List.of(p1, p2));
-        // p1 already processed, p2 not
-        when(scoreEventRepository.findProcessedPredictionIdsByPredictionIdIn(List.of(p1.getId(), p2.getId())))
-                .thenReturn(List.of(p1.getId()));
-        when(scoringService.processPredictionResult(eq(2L), eq(p2.getId()), eq("g7"), eq(true), eq(false)))
-                .thenReturn(ScoreResultDto.builder().userId(2L).correct(true).totalEarned(100).currentStreak(1).build());
+        when(settlementService.settleGame("g7", DATE, "home", false)).thenReturn(report("g7", 0, 2, 0));
 
         int count = gameResultScoringService.processGameResult("g7");
 
-        assertThat(count).isEqualTo(1);
-        verify(scoringService, times(1)).processPredictionResult(anyLong(), anyLong(), anyString(), anyBoolean(), anyBoolean());
-    }
-
-    @Test
-    @DisplayName("한 예측에서 예외 발생해도 나머지 계속 처리")
-    void processGameResult_exceptionContinuesOthers() {
-        GameEntity game = finishedGame("g8", "LG", "KIA", 5, 3, DATE);
-        Prediction p1 = prediction(1L, "g8", "home");
-        Prediction p2 = prediction(2L, "g8", "home");
-
-        when(gameRepository.findByGameId("g8")).thenReturn(Optional.of(game));
-        when(predictionRepository.findByGameId("g8")).thenReturn(List.of(p1, p2));
-        // p1 throws, p2 succeeds
-        when(scoringService.processPredictionResult(eq(1L), anyLong(), anyString(), anyBoolean(), anyBoolean()))
-                .thenThrow(new RuntimeException("test error"));
-        when(scoringService.processPredictionResult(eq(2L), anyLong(), anyString(), anyBoolean(), anyBoolean()))
-                .thenReturn(ScoreResultDto.builder().userId(2L).correct(true).totalEarned(100).currentStreak(1).build());
-
-        int count = gameResultScoringService.processGameResult("g8");
-
-        // p1 failed (not counted), p2 succeeded
-        assertThat(count).isEqualTo(1);
+        assertThat(count).isZero();
     }
 
     // ============================================
@@ -211,7 +162,7 @@ class GameResultScoringServiceTest {
     // ============================================
 
     @Test
-    @DisplayName("여러 종료 게임 처리: 종료+canonical만 처리")
+    @DisplayName("여러 종료 게임 처리: 종료+canonical만 정산")
     void processGamesForDate_multipleFinishedGames() {
         GameEntity finished1 = finishedGame("gd1", "LG", "KIA", 5, 3, DATE);
         GameEntity finished2 = finishedGame("gd2", "HH", "SSG", 4, 2, DATE);
@@ -222,12 +173,12 @@ class GameResultScoringServiceTest {
                 .build();
 
         when(gameRepository.findByGameDate(DATE)).thenReturn(List.of(finished1, finished2, unfinished));
-        when(predictionRepository.findByGameId(anyString())).thenReturn(Collections.emptyList());
+        when(settlementService.settleGame("gd1", DATE, "home", false)).thenReturn(report("gd1", 3, 0, 0));
+        when(settlementService.settleGame("gd2", DATE, "home", false)).thenReturn(report("gd2", 4, 1, 0));
 
-        assertThat(gameResultScoringService.processGamesForDate(DATE)).isZero();
+        assertThat(gameResultScoringService.processGamesForDate(DATE)).isEqualTo(7);
 
-        // Both games processed but no predictions → 0 total processed predictions
-        verify(predictionRepository, times(2)).findByGameId(anyString());
+        verify(settlementService, times(2)).settleGame(anyString(), any(), anyString(), anyBoolean());
     }
 
     @Test
@@ -242,7 +193,7 @@ class GameResultScoringServiceTest {
         int count = gameResultScoringService.processGamesForDate(DATE);
 
         assertThat(count).isZero();
-        verify(gameRepository, never()).findByGameId(anyString());
+        verify(settlementService, never()).settleGame(anyString(), any(), anyString(), anyBoolean());
     }
 
     @Test
@@ -252,13 +203,13 @@ class GameResultScoringServiceTest {
         GameEntity game2 = finishedGame("ge2", "HH", "SSG", 4, 2, DATE);
 
         when(gameRepository.findByGameDate(DATE)).thenReturn(List.of(game1, game2));
-        when(predictionRepository.findByGameId("ge1")).thenThrow(new RuntimeException("db error"));
-        when(predictionRepository.findByGameId("ge2")).thenReturn(Collections.emptyList());
+        when(settlementService.settleGame("ge1", DATE, "home", false)).thenThrow(new RuntimeException("db error"));
+        when(settlementService.settleGame("ge2", DATE, "home", false)).thenReturn(report("ge2", 2, 0, 0));
 
         // Should not throw despite game1 error
-        assertThat(gameResultScoringService.processGamesForDate(DATE)).isZero();
+        assertThat(gameResultScoringService.processGamesForDate(DATE)).isEqualTo(2);
 
-        verify(predictionRepository).findByGameId("ge2");
+        verify(settlementService).settleGame("ge2", DATE, "home", false);
     }
 
     // ============================================
@@ -278,11 +229,8 @@ class GameResultScoringServiceTest {
         Prediction pred2 = prediction(userId, "pd2", "home");
         Prediction pred3 = prediction(userId, "pd3", "home");
 
-        // processGameResult("pd1") flow
         when(gameRepository.findByGameId("pd1")).thenReturn(Optional.of(g1));
-        when(predictionRepository.findByGameId("pd1")).thenReturn(List.of(pred1));
-        when(scoringService.processPredictionResult(eq(userId), anyLong(), eq("pd1"), eq(true), eq(false)))
-                .thenReturn(ScoreResultDto.builder().userId(userId).correct(true).totalEarned(100).currentStreak(1).build());
+        when(settlementService.settleGame("pd1", DATE, "home", false)).thenReturn(report("pd1", 1, 0, 0));
 
         when(gameRepository.findByGameDate(DATE)).thenReturn(List.of(g1, g2, g3));
         when(predictionRepository.findByGameIdIn(List.of("pd1", "pd2", "pd3")))
@@ -300,13 +248,8 @@ class GameResultScoringServiceTest {
         GameEntity g1 = finishedGame("np1", "LG", "KIA", 5, 3, DATE);
         GameEntity g2 = finishedGame("np2", "HH", "SSG", 4, 2, DATE);
 
-        Long userId = 98L;
-        Prediction pred = prediction(userId, "np1", "home");
-
         when(gameRepository.findByGameId("np1")).thenReturn(Optional.of(g1));
-        when(predictionRepository.findByGameId("np1")).thenReturn(List.of(pred));
-        when(scoringService.processPredictionResult(eq(userId), anyLong(), eq("np1"), eq(true), eq(false)))
-                .thenReturn(ScoreResultDto.builder().userId(userId).correct(true).totalEarned(100).currentStreak(1).build());
+        when(settlementService.settleGame("np1", DATE, "home", false)).thenReturn(report("np1", 1, 0, 0));
 
         when(gameRepository.findByGameDate(DATE)).thenReturn(List.of(g1, g2));
 
@@ -314,4 +257,9 @@ class GameResultScoringServiceTest {
 
         verify(scoringService, never()).processPerfectDay(anyLong(), anyInt());
     }
+
+    private static PredictionSettlementService.SettlementReport report(String gameId, int settled, int skipped,
+            int failedChunks) {
+        return new PredictionSettlementService.SettlementReport(gameId, settled, skipped, failedChunks, Duration.ZERO);
+    }
 }
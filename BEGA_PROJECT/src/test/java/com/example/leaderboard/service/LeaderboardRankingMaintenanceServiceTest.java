@@ -0,0 +1,156 @@
+package com.example.leaderboard.service;
+
+import com.example.leaderboard.entity.UserScore;
+import com.example.leaderboard.repository.UserScoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardRankingMaintenanceServiceTest {
+
+    @Mock
+    private UserScoreRepository userScoreRepository;
+
+    @Mock
+    private LeaderboardRankingStore rankingStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LeaderboardRankingMaintenanceService maintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        maintenanceService = new LeaderboardRankingMaintenanceService(userScoreRepository, rankingStore, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("재구축은 id 키셋 페이지를 스테이징에 적재한 뒤 교체하고 재구축 중 변경분을 다시 반영한다")
+    void rebuild_stagesKeysetPagesThenPublishes() {
+        List<UserScore> fullPage = scores(1, LeaderboardRankingMaintenanceService.PAGE_SIZE);
+        List<UserScore> lastPage = scores(LeaderboardRankingMaintenanceService.PAGE_SIZE + 1, 2);
+        UserScore updatedDuringRebuild = score(3L, 30L, 900L);
+        when(userScoreRepository.findByIdGreaterThanOrderByIdAsc(0L,
+                PageRequest.of(0, LeaderboardRankingMaintenanceService.PAGE_SIZE))).thenReturn(fullPage);
+        when(userScoreRepository.findByIdGreaterThanOrderByIdAsc((long) LeaderboardRankingMaintenanceService.PAGE_SIZE,
+                PageRequest.of(0, LeaderboardRankingMaintenanceService.PAGE_SIZE))).thenReturn(lastPage);
+        when(userScoreRepository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of(updatedDuringRebuild));
+
+        long loaded = maintenanceService.rebuild();
+
+        assertThat(loaded).isEqualTo(LeaderboardRankingMaintenanceService.PAGE_SIZE + 2L);
+        InOrder inOrder = inOrder(rankingStore);
+        inOrder.verify(rankingStore).beginRebuild();
+        inOrder.verify(rankingStore).stage(fullPage);
+        inOrder.verify(rankingStore).stage(lastPage);
+        inOrder.verify(rankingStore).publishRebuild();
+        inOrder.verify(rankingStore).sync(List.of(updatedDuringRebuild));
+        assertThat(meterRegistry.get("leaderboard.ranking.rebuild.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정합성 점검은 ZSET 점수가 어긋난 사용자만 DB 최신값으로 보정한다")
+    void checkAndRepair_repairsOnlyDriftedUsers() {
+        UserScore consistent = score(1L, 10L, 100L);
+        UserScore drifted = score(2L, 20L, 200L);
+        when(userScoreRepository.findByIdGreaterThanOrderByIdAsc(0L,
+                PageRequest.of(0, LeaderboardRankingMaintenanceService.PAGE_SIZE)))
+                .thenReturn(List.of(consistent, drifted));
+        Map<LeaderboardType, List<Double>> indexed = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            indexed.put(type, Arrays.asList(100.0, type == LeaderboardType.WEEKLY ? null : 150.0));
+        }
+        when(rankingStore.scores(List.of(10L, 20L))).thenReturn(indexed);
+        UserScore reloaded = score(2L, 20L, 250L);
+        when(userScoreRepository.findByUserIdIn(List.of(20L))).thenReturn(List.of(reloaded));
+        when(rankingStore.sizes()).thenReturn(sizes(2L));
+
+        LeaderboardRankingMaintenanceService.ConsistencyReport report = maintenanceService.checkAndRepair();
+
+        assertThat(report.checked()).isEqualTo(2);
+        assertThat(report.totalMismatched()).isEqualTo(4);
+        assertThat(report.requiresRebuild()).isFalse();
+        verify(rankingStore).sync(List.of(reloaded));
+        assertThat(meterRegistry.get("leaderboard.ranking.drift").tag("type", "weekly").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("ZSET에 DB보다 많은 member가 있으면 점검 후 재구축한다")
+    void runMaintenance_rebuildsWhenIndexHasExtraMembers() {
+        when(rankingStore.isEnabled()).thenReturn(true);
+        when(rankingStore.tryAcquireMaintenanceLock(any())).thenReturn(true);
+        when(rankingStore.isReady()).thenReturn(true);
+        when(userScoreRepository.findByIdGreaterThanOrderByIdAsc(0L,
+                PageRequest.of(0, LeaderboardRankingMaintenanceService.PAGE_SIZE))).thenReturn(List.of());
+        when(rankingStore.sizes()).thenReturn(sizes(3L));
+        when(userScoreRepository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of());
+
+        maintenanceService.runMaintenance();
+
+        verify(rankingStore).beginRebuild();
+        verify(rankingStore).publishRebuild();
+        verify(rankingStore).releaseMaintenanceLock();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 아무 작업도 하지 않는다")
+    void runMaintenance_skipsWithoutLock() {
+        when(rankingStore.isEnabled()).thenReturn(true);
+        when(rankingStore.tryAcquireMaintenanceLock(any())).thenReturn(false);
+
+        maintenanceService.runMaintenance();
+
+        verify(rankingStore, never()).beginRebuild();
+        verify(rankingStore, never()).sync(anyList());
+        verify(rankingStore, never()).releaseMaintenanceLock();
+    }
+
+    private static List<UserScore> scores(int firstId, int count) {
+        List<UserScore> scores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            scores.add(score(id, id * 10, id));
+        }
+        return scores;
+    }
+
+    private static UserScore score(Long id, Long userId, Long score) {
+        return UserScore.builder()
+                .id(id)
+                .userId(userId)
+                .totalScore(score)
+                .seasonScore(score)
+                .monthlyScore(score)
+                .weeklyScore(score)
+                .build();
+    }
+
+    private static Map<LeaderboardType, Long> sizes(long size) {
+        Map<LeaderboardType, Long> sizes = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            sizes.put(type, size);
+        }
+        return sizes;
+    }
+}
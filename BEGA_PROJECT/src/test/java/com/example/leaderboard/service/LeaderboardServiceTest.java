@@ -23,12 +23,16 @@ import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -53,6 +57,9 @@ class LeaderboardServiceTest {
     @Mock
     private PublicVisibilityVerifier publicVisibilityVerifier;
 
+    @Mock
+    private LeaderboardRankingStore rankingStore;
+
     @Test
     @DisplayName("Public leaderboard filters inaccessible private users")
     void getLeaderboard_filtersInaccessibleUsers() {
@@ -193,4 +200,73 @@ class LeaderboardServiceTest {
         assertThat(streaks).hasSize(1);
         assertThat(streaks.get(0).getHandle()).isEqualTo("@visible");
     }
+
+    @Test
+    @DisplayName("Leaderboard page is read from the ranking ZSET in rank order when the index is ready")
+    void getLeaderboard_readsRankingIndexWhenReady() {
+        UserScore first = UserScore.builder().userId(20L).weeklyScore(500L).userLevel(1).currentStreak(0).maxStreak(0).build();
+        UserScore second = UserScore.builder().userId(10L).weeklyScore(300L).userLevel(1).currentStreak(0).maxStreak(0).build();
+        UserEntity firstUser = UserEntity.builder().id(20L).handle("@first").name("First").build();
+        UserEntity secondUser = UserEntity.builder().id(10L).handle("@second").name("Second").build();
+
+        when(rankingStore.page(LeaderboardType.WEEKLY, 20L, 20)).thenReturn(Optional.of(List.of(
+                new LeaderboardRankingStore.RankedUser(20L, 500L),
+                new LeaderboardRankingStore.RankedUser(10L, 300L))));
+        when(userScoreRepository.findByUserIdIn(List.of(20L, 10L))).thenReturn(List.of(second, first));
+        when(userRepository.findAllById(List.of(20L, 10L))).thenReturn(List.of(firstUser, secondUser));
+        when(publicVisibilityVerifier.canAccess(any(), eq(null))).thenReturn(true);
+
+        List<LeaderboardEntryDto> entries = leaderboardService.getLeaderboard("weekly", 1, 20, null).getContent();
+
+        assertThat(entries).extracting(LeaderboardEntryDto::getHandle).containsExactly("@first", "@second");
+        assertThat(entries).extracting(LeaderboardEntryDto::getRank).containsExactly(21L, 22L);
+        assertThat(entries).extracting(LeaderboardEntryDto::getScore).containsExactly(500L, 300L);
+        verify(userScoreRepository, never()).findAllByWeeklyScoreDesc(any());
+    }
+
+    @Test
+    @DisplayName("User stats ranks come from the ranking ZSET without the COUNT(*) snapshot query")
+    void getUserStats_usesRankingIndexWhenReady() {
+        UserScore userScore = UserScore.builder()
+                .userId(42L)
+                .totalScore(120L)
+                .seasonScore(80L)
+                .monthlyScore(30L)
+                .weeklyScore(10L)
+                .userLevel(3)
+                .build();
+
+        when(userScoreRepository.findByUserId(42L)).thenReturn(Optional.of(userScore));
+        when(userRepository.findById(42L)).thenReturn(Optional.empty());
+        when(rankingStore.ranks(Map.of(
+                LeaderboardType.TOTAL, 120L,
+                LeaderboardType.SEASON, 80L,
+                LeaderboardType.MONTHLY, 30L,
+                LeaderboardType.WEEKLY, 10L)))
+                .thenReturn(Optional.of(Map.of(
+                        LeaderboardType.TOTAL, 9L,
+                        LeaderboardType.SEASON, 4L,
+                        LeaderboardType.MONTHLY, 2L,
+                        LeaderboardType.WEEKLY, 1L)));
+
+        UserStatsDto stats = leaderboardService.getUserStats(42L);
+
+        assertThat(stats.getRank()).isEqualTo(4L);
+        assertThat(stats.getTotalRank()).isEqualTo(9L);
+        assertThat(stats.getWeeklyRank()).isEqualTo(1L);
+        verify(userScoreRepository, never()).findRanksByScores(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("User rank falls back to the DB count query when the ranking index is unavailable")
+    void getUserRank_fallsBackToDbWhenIndexUnavailable() {
+        UserScore userScore = UserScore.builder().userId(42L).seasonScore(80L).userLevel(3).build();
+        when(userScoreRepository.findByUserId(42L)).thenReturn(Optional.of(userScore));
+        when(rankingStore.rank(LeaderboardType.SEASON, 80L)).thenReturn(Optional.empty());
+        when(userScoreRepository.findSeasonRankByScore(80L)).thenReturn(5L);
+
+        assertThat(leaderboardService.getUserRank(42L).getRank()).isEqualTo(5L);
+        verify(rankingStore, never()).ranks(anyMap());
+        verify(rankingStore, never()).page(any(), anyLong(), anyInt());
+    }
 }
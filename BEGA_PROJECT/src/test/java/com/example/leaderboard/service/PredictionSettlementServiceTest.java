@@ -0,0 +1,237 @@
+package com.example.leaderboard.service;
+
+import com.example.common.config.CacheConfig;
+import com.example.leaderboard.entity.PredictionSettlement;
+import com.example.leaderboard.entity.ScoreEvent;
+import com.example.leaderboard.entity.UserScore;
+import com.example.leaderboard.repository.ActivePowerupRepository;
+import com.example.leaderboard.repository.PredictionSettlementJdbcRepository;
+import com.example.leaderboard.repository.PredictionSettlementRepository;
+import com.example.leaderboard.repository.ScoreEventRepository;
+import com.example.leaderboard.repository.UserScoreRepository;
+import com.example.prediction.Prediction;
+import com.example.prediction.PredictionRepository;
+import com.example.prediction.UserPredictionStatsJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.leaderboard.support.LeaderboardTestFixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PredictionSettlementServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final LocalDate GAME_DATE = LocalDate.of(2026, 4, 1);
+
+    @Mock
+    private PredictionRepository predictionRepository;
+
+    @Mock
+    private UserScoreRepository userScoreRepository;
+
+    @Mock
+    private ActivePowerupRepository activePowerupRepository;
+
+    @Mock
+    private ScoreEventRepository scoreEventRepository;
+
+    @Mock
+    private PredictionSettlementRepository settlementRepository;
+
+    @Mock
+    private PredictionSettlementJdbcRepository settlementJdbcRepository;
+
+    @Mock
+    private UserPredictionStatsJdbcRepository userPredictionStatsJdbcRepository;
+
+    @Mock
+    private AchievementService achievementService;
+
+    @Mock
+    private LeaderboardRankingStore rankingStore;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache userRankCache;
+
+    @Mock
+    private Cache userStatsCache;
+
+    @Mock
+    private Cache predictionStatsCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PredictionSettlementService settlementService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        settlementService = new PredictionSettlementService(
+                predictionRepository,
+                userScoreRepository,
+                activePowerupRepository,
+                scoreEventRepository,
+                settlementRepository,
+                settlementJdbcRepository,
+                userPredictionStatsJdbcRepository,
+                achievementService,
+                rankingStore,
+                cacheManager,
+                transactionManager,
+                meterRegistry,
+                CHUNK_SIZE,
+                Duration.ofSeconds(30));
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(cacheManager.getCache(CacheConfig.USER_RANK)).thenReturn(userRankCache);
+        lenient().when(cacheManager.getCache(CacheConfig.USER_STATS)).thenReturn(userStatsCache);
+        lenient().when(cacheManager.getCache(CacheConfig.PREDICTION_USER_STATS)).thenReturn(predictionStatsCache);
+        lenient().when(settlementRepository.findSettledPredictionIds(anyCollection())).thenReturn(List.of());
+        lenient().when(scoreEventRepository.findProcessedPredictionIdsByPredictionIdIn(anyCollection()))
+                .thenReturn(List.of());
+        lenient().when(userScoreRepository.saveAll(anyList())).thenAnswer(returnsFirstArg());
+    }
+
+    @Test
+    @DisplayName("id 키셋 chunk마다 점수를 메모리에서 계산하고 이벤트/마커를 배치로 저장한 뒤 ZSET을 한 번 갱신한다")
+    void settleGame_batchesChunksAndRefreshesRankingOnce() {
+        Prediction correct = prediction(1L, "g1", "home");
+        Prediction incorrect = prediction(2L, "g1", "away");
+        Prediction newUser = prediction(3L, "g1", "home");
+        stubChunks("g1", List.of(correct, incorrect), List.of(newUser));
+        UserScore user1 = freshUserScore(1L);
+        UserScore user2 = userScoreWithStats(2L, 500L, 3, 3, 2, 500L, 5, 6);
+        when(userScoreRepository.findByUserIdIn(Set.of(1L, 2L))).thenReturn(List.of(user1, user2));
+        when(userScoreRepository.findByUserIdIn(Set.of(3L))).thenReturn(List.of());
+        when(activePowerupRepository.findActiveForGameByUserIdIn(Set.of(1L), "g1")).thenReturn(List.of());
+        when(activePowerupRepository.findActiveForGameByUserIdIn(Set.of(3L), "g1")).thenReturn(List.of());
+
+        PredictionSettlementService.SettlementReport report = settlementService.settleGame("g1", GAME_DATE, "home", false);
+
+        assertThat(report.settled()).isEqualTo(3);
+        assertThat(report.skipped()).isZero();
+        assertThat(report.failedChunks()).isZero();
+        assertThat(user1.getTotalScore()).isEqualTo(100L);
+        assertThat(user2.getCurrentStreak()).isZero();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PredictionSettlement>> settlements = ArgumentCaptor.forClass(List.class);
+        verify(settlementJdbcRepository, times(2)).insertSettlements(settlements.capture());
+        assertThat(settlements.getAllValues().get(0))
+                .extracting(PredictionSettlement::getOutcome)
+                .containsExactly(PredictionSettlement.Outcome.CORRECT, PredictionSettlement.Outcome.INCORRECT);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ScoreEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(settlementJdbcRepository, times(2)).insertScoreEvents(events.capture(), any());
+        assertThat(events.getAllValues().get(0))
+                .extracting(ScoreEvent::getPredictionId)
+                .containsExactly(correct.getId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UserScore>> synced = ArgumentCaptor.forClass(Collection.class);
+        verify(rankingStore, times(1)).sync(synced.capture());
+        assertThat(synced.getValue()).extracting(UserScore::getUserId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(userRankCache).evict(3L);
+        verify(userStatsCache).evict(3L);
+        verify(predictionStatsCache).evict(3L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserPredictionStatsJdbcRepository.SettledPrediction>> statsUpdates =
+                ArgumentCaptor.forClass(List.class);
+        verify(userPredictionStatsJdbcRepository, times(2)).applySettlements(eq(GAME_DATE), statsUpdates.capture());
+        assertThat(statsUpdates.getAllValues().get(0))
+                .extracting(UserPredictionStatsJdbcRepository.SettledPrediction::userId,
+                        UserPredictionStatsJdbcRepository.SettledPrediction::correct)
+                .containsExactly(tuple(1L, true), tuple(2L, false));
+        verify(achievementService, times(2)).checkAndAwardAchievements(anyLong(), any(), anyInt());
+        assertThat(meterRegistry.get("leaderboard.settlement.predictions").tag("outcome", "settled")
+                .counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("leaderboard.settlement.throughput").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정산 마커나 기존 score_events가 있는 예측은 건너뛴다")
+    void settleGame_skipsAlreadySettledPredictions() {
+        Prediction marked = prediction(1L, "g2", "home");
+        Prediction legacy = prediction(2L, "g2", "home");
+        stubChunks("g2", List.of(marked, legacy), List.of());
+        when(settlementRepository.findSettledPredictionIds(List.of(marked.getId(), legacy.getId())))
+                .thenReturn(List.of(marked.getId()));
+        when(scoreEventRepository.findProcessedPredictionIdsByPredictionIdIn(List.of(marked.getId(), legacy.getId())))
+                .thenReturn(List.of(legacy.getId()));
+
+        PredictionSettlementService.SettlementReport report = settlementService.settleGame("g2", GAME_DATE, "home", false);
+
+        assertThat(report.settled()).isZero();
+        assertThat(report.skipped()).isEqualTo(2);
+        verify(userScoreRepository, never()).findByUserIdIn(anyCollection());
+        verify(settlementJdbcRepository, never()).insertSettlements(anyList());
+        verify(userPredictionStatsJdbcRepository, never()).applySettlements(any(), anyList());
+        verify(rankingStore, never()).sync(anyCollection());
+    }
+
+    @Test
+    @DisplayName("한 chunk가 실패하면 그 chunk만 롤백하고 다음 chunk는 계속 정산한다")
+    void settleGame_rollsBackFailedChunkAndContinues() {
+        Prediction first = prediction(1L, "g3", "away");
+        Prediction second = prediction(2L, "g3", "away");
+        Prediction third = prediction(3L, "g3", "away");
+        stubChunks("g3", List.of(first, second), List.of(third));
+        when(userScoreRepository.findByUserIdIn(Set.of(1L, 2L)))
+                .thenReturn(List.of(freshUserScore(1L), freshUserScore(2L)));
+        UserScore user3 = freshUserScore(3L);
+        when(userScoreRepository.findByUserIdIn(Set.of(3L))).thenReturn(List.of(user3));
+        when(activePowerupRepository.findActiveForGameByUserIdIn(anyCollection(), eq("g3"))).thenReturn(List.of());
+        doThrow(new DuplicateKeyException("prediction_settlements pk"))
+                .doNothing()
+                .when(settlementJdbcRepository).insertSettlements(anyList());
+
+        PredictionSettlementService.SettlementReport report = settlementService.settleGame("g3", GAME_DATE, "away", true);
+
+        assertThat(report.settled()).isEqualTo(1);
+        assertThat(report.failedChunks()).isEqualTo(1);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(rankingStore).sync(argThat(scores -> scores.size() == 1 && scores.contains(user3)));
+        // 이변 보너스 50 + 정답 100
+        assertThat(user3.getTotalScore()).isEqualTo(150L);
+    }
+
+    private void stubChunks(String gameId, List<Prediction> firstChunk, List<Prediction> secondChunk) {
+        when(predictionRepository.findByGameIdAndIdGreaterThanOrderByIdAsc(
+                gameId, 0L, PageRequest.of(0, CHUNK_SIZE))).thenReturn(firstChunk);
+        if (firstChunk.size() == CHUNK_SIZE) {
+            Long lastId = firstChunk.get(firstChunk.size() - 1).getId();
+            when(predictionRepository.findByGameIdAndIdGreaterThanOrderByIdAsc(
+                    gameId, lastId, PageRequest.of(0, CHUNK_SIZE))).thenReturn(secondChunk);
+        }
+    }
+}
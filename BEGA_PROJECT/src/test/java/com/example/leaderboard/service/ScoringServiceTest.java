@@ -42,6 +42,9 @@ class ScoringServiceTest {
     @Mock
     private AchievementService achievementService;
 
+    @Mock
+    private LeaderboardRankingStore rankingStore;
+
     // ============================================
     // processPredictionResult — correct prediction
     // ============================================
@@ -220,6 +220,25 @@ class WebSocketAuthorizationChannelInterceptorTest {
                 .hasMessageContaining("로그인");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/live/20260309HHLG0", "/topic/live-relay/20260309HHLG0"})
+    @DisplayName("live game subscription should allow an authenticated literal game id")
+    void subscribe_liveGameTopic_allowsAuthenticatedLiteralGameId(String destination) {
+        Message<byte[]> message = message(StompCommand.SUBSCRIBE, destination, principal("123"));
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/live/*", "/topic/live/game/extra", "/topic/live-relay/{gameId}"})
+    @DisplayName("live game subscription should reject wildcard and path patterns")
+    void subscribe_liveGameTopic_rejectsNonLiteralGameId(String destination) {
+        Message<byte[]> message = message(StompCommand.SUBSCRIBE, destination, principal("123"));
+
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {
             "/topic/battle/*",
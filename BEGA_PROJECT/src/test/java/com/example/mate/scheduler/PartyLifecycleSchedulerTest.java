@@ -9,11 +9,14 @@ import com.example.mate.repository.PartyRepository;
 import com.example.mate.service.PartyLifecycleMutationService;
 import com.example.mate.service.PaymentTransactionService;
 import com.example.notification.entity.Notification;
+import com.example.notification.service.NotificationFanoutService;
 import com.example.notification.service.NotificationService;
 import org.jobrunr.scheduling.JobScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +27,7 @@ import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -45,6 +49,9 @@ class PartyLifecycleSchedulerTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private NotificationFanoutService notificationFanoutService;
+
     @Mock
     private JobScheduler jobScheduler;
 
@@ -57,6 +64,9 @@ class PartyLifecycleSchedulerTest {
     @InjectMocks
     private PartyLifecycleScheduler scheduler;
 
+    @Captor
+    private ArgumentCaptor<List<NotificationFanoutService.NotificationDraft>> draftsCaptor;
+
     @Test
     @DisplayName("내일 경기 알림은 파티 신청자를 한 번의 bulk 쿼리로 조회한다 (N+1 방지)")
     void sendGameTomorrowReminders_loadsApplicantsInOneBulkQuery() {
@@ -84,11 +94,12 @@ class PartyLifecycleSchedulerTest {
         verify(applicationRepository, times(1)).findByPartyIdInAndIsApprovedTrue(any());
         verify(applicationRepository, never()).findByPartyIdAndIsApprovedTrue(anyLong());
 
-        // 호스트 3명 + 신청자 4명 = 7회 알림
-        verify(notificationService, times(7)).createNotification(
-                anyLong(),
-                eq(Notification.NotificationType.GAME_TOMORROW_REMINDER),
-                anyString(), anyString(), anyLong());
+        // 호스트 3명 + 신청자 4명 = 7건을 fan-out 한 번으로 보낸다
+        verify(notificationFanoutService, times(1)).fanOut(
+                eq(Notification.NotificationType.GAME_TOMORROW_REMINDER), draftsCaptor.capture());
+        assertThat(draftsCaptor.getValue()).hasSize(7);
+        verify(notificationService, never()).createNotification(
+                anyLong(), any(), anyString(), anyString(), anyLong());
     }
 
     @Test
@@ -105,8 +116,7 @@ class PartyLifecycleSchedulerTest {
 
         verify(applicationRepository, never()).findByPartyIdInAndIsApprovedTrue(any());
         verify(applicationRepository, never()).findByPartyIdAndIsApprovedTrue(anyLong());
-        verify(notificationService, never()).createNotification(
-                anyLong(), any(), anyString(), anyString(), anyLong());
+        verify(notificationFanoutService).fanOut(Notification.NotificationType.GAME_DAY_REMINDER, List.of());
     }
 
     @Test
@@ -130,15 +140,15 @@ class PartyLifecycleSchedulerTest {
 
         scheduler.sendGameTomorrowReminders();
 
-        // 호스트 1 + 승인 신청자 3 = 4회
-        verify(notificationService, times(4)).createNotification(
-                anyLong(),
-                eq(Notification.NotificationType.GAME_TOMORROW_REMINDER),
-                anyString(), anyString(), eq(500L));
-        verify(notificationService, times(1)).createNotification(
-                eq(7L),
-                eq(Notification.NotificationType.GAME_TOMORROW_REMINDER),
-                anyString(), anyString(), eq(500L));
+        // 호스트 1 + 승인 신청자 3 = 4건
+        verify(notificationFanoutService).fanOut(
+                eq(Notification.NotificationType.GAME_TOMORROW_REMINDER), draftsCaptor.capture());
+        assertThat(draftsCaptor.getValue())
+                .extracting(NotificationFanoutService.NotificationDraft::userId)
+                .containsExactly(7L, 9001L, 9002L, 9003L);
+        assertThat(draftsCaptor.getValue())
+                .extracting(NotificationFanoutService.NotificationDraft::relatedId)
+                .containsOnly(500L);
     }
 
     @Test
@@ -20,10 +20,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.security.Principal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +38,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.anyCollection;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ChatMessageService tests")
@@ -64,6 +68,9 @@ class ChatMessageServiceTest {
     @Mock
     private RealtimeOutboxWriter realtimeOutboxWriter;
 
+    @Mock
+    private ChatUnreadCounterStore unreadCounterStore;
+
     @InjectMocks
     private ChatMessageService chatMessageService;
 
@@ -107,6 +114,68 @@ class ChatMessageServiceTest {
         assertThat(unreadCount).isEqualTo(5L);
         verify(chatMessageRepository).countByPartyIdAndCreatedAtAfterAndSenderIdNot(10L, Instant.EPOCH, 77L);
         verify(chatMessageRepository).countByPartyIdAndCreatedAtAfterAndSenderIdNot(11L, Instant.EPOCH, 77L);
+        verify(unreadCounterStore).seed(77L, ChatUnreadCounterStore.UnreadCounts.of(Map.of(10L, 2L, 11L, 3L)));
+    }
+
+    @Test
+    @DisplayName("getTotalUnreadCount answers from the seeded unread counter without per-party COUNT queries")
+    void getTotalUnreadCount_usesSeededCounter() {
+        when(unreadCounterStore.readTotal(77L)).thenReturn(Optional.of(12L));
+
+        long unreadCount = chatMessageService.getTotalUnreadCount(77L);
+
+        assertThat(unreadCount).isEqualTo(12L);
+        verifyNoInteractions(chatMessageRepository, partyRepository, applicationRepository);
+    }
+
+    @Test
+    @DisplayName("sendMessage increments unread counters of every other participant after commit")
+    void sendMessage_incrementsUnreadCountersOfOtherParticipantsAfterCommit() {
+        Party party = Party.builder()
+                .id(56L)
+                .hostId(77L)
+                .status(Party.PartyStatus.MATCHED)
+                .build();
+
+        when(unreadCounterStore.isEnabled()).thenReturn(true);
+        when(partyRepository.findAccessibleByIdAndParticipantId(56L, 88L)).thenReturn(Optional.of(party));
+        when(applicationRepository.findApprovedApplicantIdsByPartyId(56L)).thenReturn(List.of(88L, 89L));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage message = invocation.getArgument(0);
+            message.setId(104L);
+            return message;
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            chatMessageService.sendMessage(ChatMessageDTO.Request.builder()
+                    .partyId(56L)
+                    .message("카운터 테스트")
+                    .build(), 88L);
+
+            verify(unreadCounterStore, never()).incrementForRecipients(anyLong(), anyCollection());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(unreadCounterStore).incrementForRecipients(56L, List.of(77L, 89L));
+    }
+
+    @Test
+    @DisplayName("updateChatReadTimestamp resets the party unread counter")
+    void updateChatReadTimestamp_resetsUnreadCounter() {
+        Party party = Party.builder()
+                .id(56L)
+                .hostId(77L)
+                .build();
+
+        when(unreadCounterStore.isEnabled()).thenReturn(true);
+        when(partyRepository.findAccessibleByIdAndParticipantId(56L, 77L)).thenReturn(Optional.of(party));
+
+        chatMessageService.updateChatReadTimestamp(56L, 77L);
+
+        verify(unreadCounterStore).reset(77L, 56L);
     }
 
     @Test
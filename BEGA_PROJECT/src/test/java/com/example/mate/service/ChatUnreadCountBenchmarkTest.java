@@ -0,0 +1,136 @@
+package com.example.mate.service;
+
+import com.example.auth.repository.UserRepository;
+import com.example.auth.service.UserService;
+import com.example.common.realtime.RealtimeOutboxWriter;
+import com.example.mate.entity.Party;
+import com.example.mate.entity.PartyApplication;
+import com.example.mate.repository.ChatMessageRepository;
+import com.example.mate.repository.PartyApplicationRepository;
+import com.example.mate.repository.PartyRepository;
+import com.example.media.service.MediaLinkService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 활동 중인 파티가 많은 사용자의 전체 unread 배지 조회 1회당 왕복 수를 기존 파티별 COUNT 경로와 카운터 경로로 비교한다.
+ * DB/Redis 왕복이 비용의 대부분이므로 저장소 호출 수를 지표로 쓴다.
+ */
+class ChatUnreadCountBenchmarkTest {
+
+    private static final long USER_ID = 77L;
+    private static final int HOSTED_PARTIES = 10;
+    private static final int JOINED_PARTIES = 40;
+    private static final int POLLS = 100;
+
+    @Test
+    @DisplayName("파티 50개 사용자 배지 조회당 왕복 수: 파티별 COUNT 대비 카운터 경로는 1회")
+    @SuppressWarnings("unchecked")
+    void compareRoundTripsPerBadgePoll() {
+        ChatMessageRepository legacyMessages = mock(ChatMessageRepository.class);
+        PartyRepository legacyParties = mock(PartyRepository.class);
+        PartyApplicationRepository legacyApplications = mock(PartyApplicationRepository.class);
+        stubActiveParties(legacyParties, legacyApplications);
+        when(legacyMessages.countByPartyIdAndCreatedAtAfterAndSenderIdNot(anyLong(), any(Instant.class), eq(USER_ID)))
+                .thenReturn(1L);
+        ChatMessageService legacyService = service(
+                legacyMessages, legacyParties, legacyApplications, ChatUnreadCounterStore.disabled());
+
+        long legacyStarted = System.nanoTime();
+        long legacyTotal = 0L;
+        for (int i = 0; i < POLLS; i++) {
+            legacyTotal = legacyService.getTotalUnreadCount(USER_ID);
+        }
+        long legacyNanos = System.nanoTime() - legacyStarted;
+        long legacyRoundTrips = invocations(legacyMessages) + invocations(legacyParties)
+                + invocations(legacyApplications);
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get(anyString(), eq(ChatUnreadCounterStore.TOTAL_FIELD)))
+                .thenReturn(String.valueOf(HOSTED_PARTIES + JOINED_PARTIES));
+        ChatMessageRepository counterMessages = mock(ChatMessageRepository.class);
+        PartyRepository counterParties = mock(PartyRepository.class);
+        PartyApplicationRepository counterApplications = mock(PartyApplicationRepository.class);
+        ChatMessageService counterService = service(counterMessages, counterParties, counterApplications,
+                new ChatUnreadCounterStore(redisTemplate, new SimpleMeterRegistry(), true));
+
+        long counterStarted = System.nanoTime();
+        long counterTotal = 0L;
+        for (int i = 0; i < POLLS; i++) {
+            counterTotal = counterService.getTotalUnreadCount(USER_ID);
+        }
+        long counterNanos = System.nanoTime() - counterStarted;
+        long counterRoundTrips = invocations(hashOperations) + invocations(counterMessages)
+                + invocations(counterParties) + invocations(counterApplications);
+
+        System.out.printf(
+                "chat unread round trips per %d polls (%d active parties): count=%d counter=%d "
+                        + "(cpu %.2f ms vs %.2f ms)%n",
+                POLLS,
+                HOSTED_PARTIES + JOINED_PARTIES,
+                legacyRoundTrips,
+                counterRoundTrips,
+                legacyNanos / 1_000_000.0,
+                counterNanos / 1_000_000.0);
+        assertThat(counterTotal).isEqualTo(legacyTotal);
+        assertThat(legacyRoundTrips).isEqualTo((long) POLLS * (HOSTED_PARTIES + JOINED_PARTIES + 2));
+        assertThat(counterRoundTrips).isEqualTo(POLLS);
+    }
+
+    private static void stubActiveParties(PartyRepository parties, PartyApplicationRepository applications) {
+        List<Party> hosted = new ArrayList<>();
+        for (long id = 1; id <= HOSTED_PARTIES; id++) {
+            hosted.add(Party.builder().id(id).hostId(USER_ID).createdAt(Instant.EPOCH).build());
+        }
+        List<PartyApplication> joined = new ArrayList<>();
+        for (long id = 1; id <= JOINED_PARTIES; id++) {
+            joined.add(PartyApplication.builder()
+                    .partyId(1_000L + id)
+                    .applicantId(USER_ID)
+                    .isApproved(true)
+                    .createdAt(Instant.EPOCH)
+                    .build());
+        }
+        when(parties.findByHostIdAndStatusIn(eq(USER_ID), anyList())).thenReturn(hosted);
+        when(applications.findApprovedByApplicantIdAndPartyStatusIn(eq(USER_ID), anyList())).thenReturn(joined);
+    }
+
+    private static ChatMessageService service(
+            ChatMessageRepository chatMessageRepository,
+            PartyRepository partyRepository,
+            PartyApplicationRepository applicationRepository,
+            ChatUnreadCounterStore unreadCounterStore) {
+        return new ChatMessageService(
+                chatMessageRepository,
+                mock(UserService.class),
+                mock(UserRepository.class),
+                partyRepository,
+                applicationRepository,
+                mock(ChatImageService.class),
+                mock(MediaLinkService.class),
+                mock(RealtimeOutboxWriter.class),
+                unreadCounterStore);
+    }
+
+    private static long invocations(Object mock) {
+        return Mockito.mockingDetails(mock).getInvocations().size();
+    }
+}
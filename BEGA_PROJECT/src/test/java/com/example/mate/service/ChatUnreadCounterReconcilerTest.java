@@ -0,0 +1,113 @@
+package com.example.mate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCounterReconcilerTest {
+
+    @Mock
+    private ChatMessageService chatMessageService;
+
+    @Mock
+    private ChatUnreadCounterStore unreadCounterStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatUnreadCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new ChatUnreadCounterReconciler(chatMessageService, unreadCounterStore, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("파티별 COUNT와 다른 unread 카운터만 덮어쓴다")
+    void reconcile_overwritesOnlyDriftedCounters() {
+        ChatUnreadCounterStore.UnreadCounts inSync = counts(Map.of(10L, 2L));
+        ChatUnreadCounterStore.UnreadCounts stale = counts(Map.of(10L, 1L, 20L, 4L));
+        ChatUnreadCounterStore.UnreadCounts expected = counts(Map.of(20L, 5L));
+        when(unreadCounterStore.trackedUserIds()).thenReturn(Set.of(1L, 2L));
+        when(unreadCounterStore.readRemote(1L)).thenReturn(Optional.of(inSync));
+        when(unreadCounterStore.readRemote(2L)).thenReturn(Optional.of(stale));
+        when(chatMessageService.countUnreadByPartyForUsers(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, inSync, 2L, expected));
+
+        ChatUnreadCounterReconciler.ReconcileReport report = reconciler.reconcile();
+
+        assertThat(report.checked()).isEqualTo(2);
+        assertThat(report.repaired()).isEqualTo(1);
+        verify(unreadCounterStore).overwrite(2L, expected);
+        verify(unreadCounterStore, never()).overwrite(1L, inSync);
+        assertThat(meterRegistry.counter("mate.chat_unread.drift").count()).isEqualTo(1.0);
+        verify(chatMessageService, never()).countUnreadByParty(anyLong());
+    }
+
+    @Test
+    @DisplayName("비교 중 카운터가 바뀐 사용자는 다음 주기로 미루고, 사라진 카운터는 추적에서 뺀다")
+    void reconcile_skipsChangedCountersAndUntracksExpiredOnes() {
+        when(unreadCounterStore.trackedUserIds()).thenReturn(Set.of(1L, 2L));
+        when(unreadCounterStore.readRemote(1L))
+                .thenReturn(Optional.of(counts(Map.of(10L, 1L))), Optional.of(counts(Map.of(10L, 2L))));
+        when(unreadCounterStore.readRemote(2L)).thenReturn(Optional.empty());
+        when(chatMessageService.countUnreadByPartyForUsers(Set.of(1L)))
+                .thenReturn(Map.of(1L, counts(Map.of(10L, 2L))));
+
+        ChatUnreadCounterReconciler.ReconcileReport report = reconciler.reconcile();
+
+        assertThat(report.repaired()).isZero();
+        assertThat(report.removed()).isEqualTo(1);
+        verify(unreadCounterStore).untrack(2L);
+        verify(unreadCounterStore, never()).overwrite(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("한 사용자의 보정이 실패해도 나머지 사용자는 계속 보정한다")
+    void reconcile_isolatesPerUserFailures() {
+        ChatUnreadCounterStore.UnreadCounts stale = counts(Map.of(10L, 1L));
+        ChatUnreadCounterStore.UnreadCounts expected = counts(Map.of(10L, 3L));
+        when(unreadCounterStore.trackedUserIds()).thenReturn(Set.of(1L, 2L));
+        when(unreadCounterStore.readRemote(1L)).thenReturn(Optional.of(stale));
+        when(unreadCounterStore.readRemote(2L)).thenReturn(Optional.of(stale));
+        when(chatMessageService.countUnreadByPartyForUsers(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, expected, 2L, expected));
+        doThrow(new IllegalStateException("redis down")).when(unreadCounterStore).overwrite(1L, expected);
+
+        ChatUnreadCounterReconciler.ReconcileReport report = reconciler.reconcile();
+
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.repaired()).isEqualTo(1);
+        verify(unreadCounterStore).overwrite(2L, expected);
+    }
+
+    @Test
+    @DisplayName("보정 락을 얻지 못한 인스턴스는 보정하지 않는다")
+    void runReconcile_skipsWithoutLock() {
+        when(unreadCounterStore.isEnabled()).thenReturn(true);
+        when(unreadCounterStore.tryAcquireReconcileLock(any(Duration.class))).thenReturn(false);
+
+        assertThat(reconciler.runReconcile()).isEmpty();
+        verify(unreadCounterStore, never()).trackedUserIds();
+    }
+
+    private static ChatUnreadCounterStore.UnreadCounts counts(Map<Long, Long> byParty) {
+        return ChatUnreadCounterStore.UnreadCounts.of(byParty);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.mate.service;
+
+import com.example.common.config.CacheConfig;
+import com.example.mate.repository.MateSearchTermJdbcRepository;
+import com.example.mate.repository.MateSearchTermJdbcRepository.DailyTermDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MateSearchTermAggregator tests")
+class MateSearchTermAggregatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 9);
+    private static final Instant NOW = Instant.parse("2026-06-09T12:00:00Z");
+
+    @Mock
+    private MateSearchTermJdbcRepository jdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCacheManager cacheManager;
+    private MateSearchTermAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.MATE_POPULAR_SEARCH_TERMS);
+        aggregator = new MateSearchTermAggregator(
+                jdbcRepository, cacheManager, transactionManager, meterRegistry, true, 2, 2);
+    }
+
+    @Test
+    @DisplayName("repeated searches accumulate into one pending term with the latest display text")
+    void offer_accumulatesPerNormalizedTerm() {
+        aggregator.offer(TODAY, "kia", "kia", NOW);
+        aggregator.offer(TODAY, "kia", "KIA", NOW.plusSeconds(1));
+        aggregator.offer(TODAY.minusDays(8), "kia", "KIA", NOW.minusSeconds(60));
+
+        Map<String, MateSearchTermAggregator.PendingTermView> pending = aggregator.pendingTerms(TODAY.minusDays(6));
+
+        assertThat(pending).containsOnlyKeys("kia");
+        assertThat(pending.get("kia").count()).isEqualTo(2L);
+        assertThat(pending.get("kia").displayTerm()).isEqualTo("KIA");
+        assertThat(pending.get("kia").lastSearchedAt()).isEqualTo(NOW.plusSeconds(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("flush increments existing rows in one batch and inserts only the missing ones")
+    void flush_batchesIncrementsAndInsertsMissingRows() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        aggregator.offer(TODAY, "kia", "KIA", NOW);
+        aggregator.offer(TODAY, "kia", "KIA", NOW.plusSeconds(1));
+        aggregator.offer(TODAY, "잠실", "잠실", NOW);
+        when(jdbcRepository.incrementDailyTerms(anyList())).thenAnswer(invocation -> {
+            List<DailyTermDelta> deltas = invocation.getArgument(0);
+            return deltas.stream().filter(delta -> delta.normalizedTerm().equals("잠실")).toList();
+        });
+
+        int flushed = aggregator.flush();
+
+        ArgumentCaptor<List<DailyTermDelta>> incremented = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository).incrementDailyTerms(incremented.capture());
+        assertThat(incremented.getValue()).hasSize(2);
+        assertThat(incremented.getValue())
+                .filteredOn(delta -> delta.normalizedTerm().equals("kia"))
+                .singleElement()
+                .extracting(DailyTermDelta::count)
+                .isEqualTo(2L);
+        ArgumentCaptor<List<DailyTermDelta>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository).insertDailyTerms(inserted.capture());
+        assertThat(inserted.getValue()).extracting(DailyTermDelta::normalizedTerm).containsExactly("잠실");
+        assertThat(flushed).isEqualTo(2);
+        assertThat(aggregator.pendingTerms(TODAY)).isEmpty();
+        assertThat(meterRegistry.get("mate.search_terms.flush.rows").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("successful flush evicts the popular term cache once")
+    void flush_evictsPopularTermCache() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS).put(5, List.of());
+        aggregator.offer(TODAY, "kia", "KIA", NOW);
+        when(jdbcRepository.incrementDailyTerms(anyList())).thenReturn(List.of());
+
+        aggregator.flush();
+
+        assertThat(cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS).get(5)).isNull();
+    }
+
+    @Test
+    @DisplayName("new terms beyond the pending capacity are rejected so the caller writes directly")
+    void offer_rejectsNewTermsAtCapacity() {
+        assertThat(aggregator.offer(TODAY, "kia", "KIA", NOW)).isTrue();
+        assertThat(aggregator.offer(TODAY, "잠실", "잠실", NOW)).isTrue();
+
+        assertThat(aggregator.offer(TODAY, "블루존", "블루존", NOW)).isFalse();
+        assertThat(aggregator.offer(TODAY, "kia", "KIA", NOW)).isTrue();
+        assertThat(meterRegistry.get("mate.search_terms.recorded").tag("path", "overflow").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("failed flush restores drained counts for the next cycle")
+    void flush_restoresCountsOnFailure() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        aggregator.offer(TODAY, "kia", "KIA", NOW);
+        when(jdbcRepository.incrementDailyTerms(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        int flushed = aggregator.flush();
+        aggregator.offer(TODAY, "kia", "KIA", NOW.plusSeconds(1));
+
+        assertThat(flushed).isZero();
+        assertThat(aggregator.pendingTerms(TODAY).get("kia").count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("mate.search_terms.flush.failures").counter().count()).isEqualTo(1.0);
+        verify(jdbcRepository, never()).insertDailyTerms(anyList());
+    }
+
+    @Test
+    @DisplayName("a term that keeps failing on its own is dropped after the attempt limit")
+    void flush_dropsTermAfterRepeatedPerTermFailures() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS).put(5, List.of());
+        aggregator.offer(TODAY, "kia", "KIA", NOW);
+        when(jdbcRepository.incrementDailyTerms(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new QueryTimeoutException("bad term"))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new QueryTimeoutException("bad term"));
+        doThrow(new DataIntegrityViolationException("duplicate"))
+                .when(jdbcRepository).insertDailyTerms(anyList());
+
+        assertThat(aggregator.flush()).isZero();
+        assertThat(aggregator.pendingTerms(TODAY).get("kia").count()).isEqualTo(1L);
+
+        assertThat(aggregator.flush()).isZero();
+        assertThat(aggregator.pendingTerms(TODAY)).isEmpty();
+        assertThat(meterRegistry.get("mate.search_terms.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS).get(5)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("batch insert race falls back to per-term upserts")
+    void flush_fallsBackToPerTermUpsertOnInsertRace() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        aggregator.offer(TODAY, "kia", "KIA", NOW);
+        DailyTermDelta delta = new DailyTermDelta(TODAY, "kia", "KIA", 1L, NOW);
+        when(jdbcRepository.incrementDailyTerms(List.of(delta)))
+                .thenReturn(List.of(delta), List.of(delta), List.of());
+        doThrow(new DataIntegrityViolationException("duplicate"))
+                .when(jdbcRepository).insertDailyTerms(List.of(delta));
+
+        int flushed = aggregator.flush();
+
+        assertThat(flushed).isEqualTo(1);
+        verify(jdbcRepository, times(3)).incrementDailyTerms(List.of(delta));
+        verify(jdbcRepository, times(2)).insertDailyTerms(List.of(delta));
+        assertThat(aggregator.pendingTerms(TODAY)).isEmpty();
+    }
+}
@@ -2,9 +2,11 @@ package com.example.mate.service;
 
 import com.example.common.config.CacheConfig;
 import com.example.mate.dto.MateSearchTermDTO;
+import com.example.mate.repository.MateSearchTermJdbcRepository;
 import com.example.mate.repository.MateSearchTermLatestDisplayProjection;
 import com.example.mate.repository.MateSearchTermPopularProjection;
 import com.example.mate.repository.MateSearchTermRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -19,11 +21,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -45,9 +49,13 @@ class MateSearchTermServiceCacheTest {
     @jakarta.annotation.Resource
     private CacheManager cacheManager;
 
+    @jakarta.annotation.Resource
+    private MateSearchTermAggregator searchTermAggregator;
+
     @BeforeEach
     void resetRepositoryAndCache() {
         reset(mateSearchTermRepository);
+        searchTermAggregator.flush();
         Cache cache = cacheManager.getCache(CacheConfig.MATE_POPULAR_SEARCH_TERMS);
         if (cache != null) {
             cache.clear();
@@ -72,33 +80,27 @@ class MateSearchTermServiceCacheTest {
     }
 
     @Test
-    @DisplayName("recording a search term evicts cached popular terms")
-    void recordSearchTerm_evictsPopularTermsCache() {
+    @DisplayName("recorded terms are merged into cached popular terms without eviction")
+    void recordSearchTerm_mergesIntoCachedPopularTerms() {
         when(mateSearchTermRepository.findPopularTermSummaries(any(LocalDate.class), any(Pageable.class)))
-                .thenReturn(
-                        List.of(popular("kia", 7L)),
-                        List.of(popular("잠실", 8L)));
+                .thenReturn(List.of(popular("kia", 7L)));
         when(mateSearchTermRepository.findLatestDisplayTerms(any(LocalDate.class), any()))
-                .thenReturn(
-                        List.of(display("kia", "KIA")),
-                        List.of(display("잠실", "잠실")));
-        when(mateSearchTermRepository.incrementDailyTerm(
-                any(LocalDate.class),
-                anyString(),
-                anyString(),
-                any(Instant.class))).thenReturn(1);
+                .thenReturn(List.of(display("kia", "KIA")));
 
         List<MateSearchTermDTO.PopularResponse> before = mateSearchTermService.getPopularTerms(5);
-        mateSearchTermService.getPopularTerms(5);
         mateSearchTermService.recordSearchTerm("잠실 블루존");
         List<MateSearchTermDTO.PopularResponse> after = mateSearchTermService.getPopularTerms(5);
 
         assertThat(before).extracting(MateSearchTermDTO.PopularResponse::getTerm)
                 .containsExactly("KIA");
         assertThat(after).extracting(MateSearchTermDTO.PopularResponse::getTerm)
-                .containsExactly("잠실");
-        verify(mateSearchTermRepository, times(2))
+                .containsExactly("KIA", "잠실 블루존");
+        assertThat(after).extracting(MateSearchTermDTO.PopularResponse::getCount)
+                .containsExactly(7L, 1L);
+        verify(mateSearchTermRepository, times(1))
                 .findPopularTermSummaries(any(LocalDate.class), any(Pageable.class));
+        verify(mateSearchTermRepository, never()).incrementDailyTerm(
+                any(LocalDate.class), anyString(), anyString(), any(Instant.class));
     }
 
     @Test
@@ -174,5 +176,17 @@ class MateSearchTermServiceCacheTest {
         MateSearchTermRepository mateSearchTermRepository() {
             return mock(MateSearchTermRepository.class);
         }
+
+        @Bean
+        MateSearchTermAggregator mateSearchTermAggregator(CacheManager cacheManager) {
+            return new MateSearchTermAggregator(
+                    mock(MateSearchTermJdbcRepository.class),
+                    cacheManager,
+                    mock(PlatformTransactionManager.class),
+                    new SimpleMeterRegistry(),
+                    true,
+                    100,
+                    3);
+        }
     }
 }
@@ -19,6 +19,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,11 +40,14 @@ class MateSearchTermServiceTest {
     @Mock
     private CacheManager cacheManager;
 
+    @Mock
+    private MateSearchTermAggregator searchTermAggregator;
+
     private MateSearchTermService mateSearchTermService;
 
     @BeforeEach
     void setUp() {
-        mateSearchTermService = new MateSearchTermService(mateSearchTermRepository, cacheManager);
+        mateSearchTermService = new MateSearchTermService(mateSearchTermRepository, cacheManager, searchTermAggregator);
     }
 
     @Test
@@ -54,11 +58,24 @@ class MateSearchTermServiceTest {
         mateSearchTermService.recordSearchTerm("123456789012345678901234567890123456789012345678901");
 
         verifyNoInteractions(mateSearchTermRepository);
+        verifyNoInteractions(searchTermAggregator);
+    }
+
+    @Test
+    @DisplayName("valid term is normalized and buffered without touching the database")
+    void recordSearchTerm_buffersNormalizedTerm() {
+        when(searchTermAggregator.offer(any(), anyString(), anyString(), any())).thenReturn(true);
+
+        mateSearchTermService.recordSearchTerm("  KIA\u0000  응원석  ");
+
+        verify(searchTermAggregator).offer(eq(LocalDate.now()), eq("kia 응원석"), eq("KIA 응원석"), any());
+        verifyNoInteractions(mateSearchTermRepository);
     }
 
     @Test
-    @DisplayName("new valid term is normalized and inserted")
+    @DisplayName("new valid term is normalized and inserted when the aggregator rejects it")
     void recordSearchTerm_newTermInsertsNormalizedRow() {
+        when(searchTermAggregator.offer(any(), anyString(), anyString(), any())).thenReturn(false);
         when(mateSearchTermRepository.incrementDailyTerm(any(), anyString(), anyString(), any()))
                 .thenReturn(0);
 
@@ -74,8 +91,9 @@ class MateSearchTermServiceTest {
     }
 
     @Test
-    @DisplayName("existing term is incremented without inserting")
+    @DisplayName("existing term is incremented without inserting when the aggregator rejects it")
     void recordSearchTerm_existingTermIncrementsOnly() {
+        when(searchTermAggregator.offer(any(), anyString(), anyString(), any())).thenReturn(false);
         when(mateSearchTermRepository.incrementDailyTerm(any(), anyString(), anyString(), any()))
                 .thenReturn(1);
 
@@ -114,6 +132,31 @@ class MateSearchTermServiceTest {
         verify(mateSearchTermRepository).findPopularTermSummaries(today.minusDays(6), PageRequest.of(0, 5));
     }
 
+    @Test
+    @DisplayName("popular terms merge counts that are still buffered on this node")
+    void getPopularTerms_mergesPendingTerms() {
+        LocalDate today = LocalDate.now();
+        Instant now = Instant.parse("2026-06-09T12:00:00Z");
+        when(mateSearchTermRepository.findPopularTermSummaries(today.minusDays(6), PageRequest.of(0, 2)))
+                .thenReturn(List.of(
+                        popular("kia", 5, now),
+                        popular("잠실", 4, now.minusSeconds(10))));
+        when(mateSearchTermRepository.findLatestDisplayTerms(today.minusDays(6), List.of("kia", "잠실")))
+                .thenReturn(List.of(
+                        display("kia", "KIA", now, 2L),
+                        display("잠실", "잠실", now.minusSeconds(10), 3L)));
+        when(searchTermAggregator.pendingTerms(today.minusDays(6))).thenReturn(Map.of(
+                "잠실", new MateSearchTermAggregator.PendingTermView("잠실", 3, now.plusSeconds(5)),
+                "블루존", new MateSearchTermAggregator.PendingTermView("블루존", 1, now.plusSeconds(6))));
+
+        List<MateSearchTermDTO.PopularResponse> popularTerms = mateSearchTermService.getPopularTerms(2);
+
+        assertThat(popularTerms).extracting(MateSearchTermDTO.PopularResponse::getTerm)
+                .containsExactly("잠실", "KIA");
+        assertThat(popularTerms).extracting(MateSearchTermDTO.PopularResponse::getCount)
+                .containsExactly(7L, 5L);
+    }
+
     @Test
     @DisplayName("popular term limit is capped")
     void getPopularTerms_capsLimit() {
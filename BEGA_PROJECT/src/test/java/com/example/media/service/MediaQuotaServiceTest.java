@@ -50,7 +50,7 @@ class MediaQuotaServiceTest {
         when(storageConfig.getMediaDailyUploadBytesLimit()).thenReturn(1_000L);
         when(storageConfig.getMediaCheerDailyCountLimit()).thenReturn(2);
         when(mediaAssetRepository.sumDailyUsageBytes(eq(7L), any(), eq(MediaAssetStatus.DELETED))).thenReturn(100L);
-        when(mediaAssetRepository.countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNot(
+        when(mediaAssetRepository.countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNotAndVariantIsNull(
                         eq(7L),
                         eq(MediaDomain.CHEER),
                         any(),
@@ -70,7 +70,7 @@ class MediaQuotaServiceTest {
         when(storageConfig.getMediaDailyUploadBytesLimit()).thenReturn(1_000L);
         when(storageConfig.getMediaChatDailyCountLimit()).thenReturn(5);
         when(mediaAssetRepository.sumDailyUsageBytes(eq(5L), any(), eq(MediaAssetStatus.DELETED))).thenReturn(400L);
-        when(mediaAssetRepository.countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNot(
+        when(mediaAssetRepository.countByOwnerUserIdAndDomainAndCreatedAtGreaterThanEqualAndStatusNotAndVariantIsNull(
                         eq(5L),
                         eq(MediaDomain.CHAT),
                         any(),
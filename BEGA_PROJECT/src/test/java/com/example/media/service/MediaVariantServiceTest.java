@@ -0,0 +1,191 @@
+package com.example.media.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.cheerboard.storage.config.StorageConfig;
+import com.example.cheerboard.storage.strategy.StorageStrategy;
+import com.example.cheerboard.storage.strategy.StoredObject;
+import com.example.common.image.ImageOptimizationMetricsService;
+import com.example.common.image.ImageUtil;
+import com.example.media.entity.MediaAsset;
+import com.example.media.entity.MediaAssetStatus;
+import com.example.media.entity.MediaDomain;
+import com.example.media.entity.MediaVariant;
+import com.example.media.repository.MediaAssetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class MediaVariantServiceTest {
+
+    private static final String SOURCE_KEY = "posts/100/abc.jpg";
+
+    @Mock
+    private MediaAssetRepository mediaAssetRepository;
+
+    @Mock
+    private StorageStrategy storageStrategy;
+
+    @Mock
+    private StorageConfig storageConfig;
+
+    private MediaVariantService mediaVariantService;
+
+    @BeforeEach
+    void setUp() {
+        // init()을 부르지 않아 WebP writer 유무와 상관없이 JPEG로 인코딩한다.
+        ImageUtil imageUtil = new ImageUtil(new ImageOptimizationMetricsService(new SimpleMeterRegistry()));
+        mediaVariantService = new MediaVariantService(mediaAssetRepository, storageStrategy, storageConfig, imageUtil);
+        lenient().when(storageConfig.getCheerBucket()).thenReturn("cheer-bucket");
+    }
+
+    @Test
+    @DisplayName("원본 하나에서 thumbnail/feed/full 파생본을 만들고 원본 key 기준으로 기록한다")
+    void generateVariants_storesEveryWidthVariant() throws IOException {
+        when(storageStrategy.download("cheer-bucket", SOURCE_KEY))
+                .thenReturn(Mono.just(new StoredObject(jpeg(2560, 1920), "image/jpeg")));
+        when(storageStrategy.uploadBytes(any(), eq("image/jpeg"), eq("cheer-bucket"), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(3, String.class)));
+        when(storageStrategy.exists("cheer-bucket", SOURCE_KEY)).thenReturn(Mono.just(true));
+
+        boolean generated = mediaVariantService.generateVariants(MediaDomain.CHEER, 1L, SOURCE_KEY);
+
+        ArgumentCaptor<MediaAsset> saved = ArgumentCaptor.forClass(MediaAsset.class);
+        verify(mediaAssetRepository, times(3)).save(saved.capture());
+        List<MediaAsset> variants = saved.getAllValues().stream()
+                .sorted(Comparator.comparing(MediaAsset::getVariant))
+                .toList();
+        assertThat(generated).isTrue();
+        assertThat(variants).extracting(MediaAsset::getVariant)
+                .containsExactly(MediaVariant.THUMBNAIL, MediaVariant.FEED, MediaVariant.FULL);
+        assertThat(variants).extracting(MediaAsset::getObjectKey)
+                .containsExactly("posts/100/abc_thumb.jpg", "posts/100/abc_feed.jpg", "posts/100/abc_full.jpg");
+        assertThat(variants).extracting(MediaAsset::getStoredWidth).containsExactly(320, 640, 1280);
+        assertThat(variants).extracting(MediaAsset::getStoredHeight).containsExactly(240, 480, 960);
+        assertThat(variants).allSatisfy(asset -> {
+            assertThat(asset.getStatus()).isEqualTo(MediaAssetStatus.READY);
+            assertThat(asset.getSourceObjectKey()).isEqualTo(SOURCE_KEY);
+            assertThat(asset.getOwnerUserId()).isEqualTo(1L);
+            assertThat(asset.getDomain()).isEqualTo(MediaDomain.CHEER);
+            assertThat(asset.getDeclaredWidth()).isEqualTo(2560);
+        });
+    }
+
+    @Test
+    @DisplayName("모든 파생본이 이미 READY면 원본을 다시 내려받지 않는다")
+    void generateVariants_isNoOpWhenAllVariantsAreReady() {
+        List<MediaAsset> ready = Arrays.stream(MediaVariant.values())
+                .map(variant -> MediaAsset.builder()
+                        .status(MediaAssetStatus.READY)
+                        .sourceObjectKey(SOURCE_KEY)
+                        .variant(variant)
+                        .build())
+                .toList();
+        when(mediaAssetRepository.findBySourceObjectKey(SOURCE_KEY)).thenReturn(ready);
+
+        boolean generated = mediaVariantService.generateVariants(MediaDomain.CHEER, 1L, SOURCE_KEY);
+
+        assertThat(generated).isFalse();
+        verify(storageStrategy, never()).download(any(), any());
+        verify(mediaAssetRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("생성 도중 원본이 지워졌으면 방금 만든 파생본도 정리한다")
+    void generateVariants_cleansUpWhenSourceWasDeletedMeanwhile() throws IOException {
+        when(storageStrategy.download("cheer-bucket", SOURCE_KEY))
+                .thenReturn(Mono.just(new StoredObject(jpeg(640, 480), "image/jpeg")));
+        when(storageStrategy.uploadBytes(any(), eq("image/jpeg"), eq("cheer-bucket"), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(3, String.class)));
+        when(storageStrategy.exists("cheer-bucket", SOURCE_KEY)).thenReturn(Mono.just(false));
+        MediaAsset stored = MediaAsset.builder()
+                .status(MediaAssetStatus.READY)
+                .objectKey("posts/100/abc_feed.jpg")
+                .sourceObjectKey(SOURCE_KEY)
+                .variant(MediaVariant.FEED)
+                .build();
+        when(mediaAssetRepository.findBySourceObjectKeyIn(List.of(SOURCE_KEY))).thenReturn(List.of(stored));
+        when(storageStrategy.delete("cheer-bucket", "posts/100/abc_feed.jpg")).thenReturn(Mono.empty());
+
+        boolean generated = mediaVariantService.generateVariants(MediaDomain.CHEER, 1L, SOURCE_KEY);
+
+        assertThat(generated).isFalse();
+        assertThat(stored.getStatus()).isEqualTo(MediaAssetStatus.DELETED);
+        verify(storageStrategy).delete("cheer-bucket", "posts/100/abc_feed.jpg");
+    }
+
+    @Test
+    @DisplayName("원본 삭제 시 파생본 object를 지우고 DELETED로 남긴다")
+    void deleteVariants_deletesObjectsAndMarksRows() {
+        MediaAsset thumbnail = MediaAsset.builder()
+                .status(MediaAssetStatus.READY)
+                .objectKey("posts/100/abc_thumb.jpg")
+                .sourceObjectKey(SOURCE_KEY)
+                .variant(MediaVariant.THUMBNAIL)
+                .build();
+        MediaAsset alreadyDeleted = MediaAsset.builder()
+                .status(MediaAssetStatus.DELETED)
+                .objectKey("posts/100/abc_full.jpg")
+                .sourceObjectKey(SOURCE_KEY)
+                .variant(MediaVariant.FULL)
+                .build();
+        when(mediaAssetRepository.findBySourceObjectKeyIn(List.of(SOURCE_KEY)))
+                .thenReturn(List.of(thumbnail, alreadyDeleted));
+        when(storageStrategy.delete("cheer-bucket", "posts/100/abc_thumb.jpg")).thenReturn(Mono.empty());
+
+        List<String> deleted = mediaVariantService.deleteVariants(MediaDomain.CHEER, List.of(SOURCE_KEY));
+
+        assertThat(deleted).containsExactly("posts/100/abc_thumb.jpg");
+        assertThat(thumbnail.getStatus()).isEqualTo(MediaAssetStatus.DELETED);
+        verify(storageStrategy, never()).delete("cheer-bucket", "posts/100/abc_full.jpg");
+    }
+
+    @Test
+    @DisplayName("파생본 key는 원본 확장자를 떼고 suffix와 인코딩 확장자를 붙인다")
+    void variantObjectKeyReplacesSourceExtension() {
+        assertThat(MediaVariant.FEED.buildObjectKey("diary/1/2/photo.v1.PNG", "webp"))
+                .isEqualTo("diary/1/2/photo.v1_feed.webp");
+        assertThat(MediaVariant.THUMBNAIL.buildObjectKey("posts/3.d/noext", "jpg"))
+                .isEqualTo("posts/3.d/noext_thumb.jpg");
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(new Color(40, 90, 160));
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(Color.WHITE);
+            graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.notification.entity.Notification;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "realtime.oracle.integration", matches = "true")
+@Import(NotificationJdbcRepository.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=ERROR",
+        "logging.level.org.hibernate.orm.jdbc.bind=ERROR"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationJdbcRepositoryOracleIntegrationTest {
+
+    @Autowired
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void oracleProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> requiredProperty("realtime.oracle.url"));
+        registry.add("spring.datasource.username", () -> requiredProperty("realtime.oracle.username"));
+        registry.add("spring.datasource.password", () -> requiredProperty("realtime.oracle.password"));
+        registry.add("spring.datasource.driver-class-name", () -> "oracle.jdbc.OracleDriver");
+    }
+
+    @Test
+    void batchInsertAssignsTheGeneratedIdOfEachRow() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Notification> notifications = List.of(
+                notification(101L, "경기 알림", 7L, createdAt),
+                notification(101L, "경기 알림", 8L, createdAt),
+                notification(102L, "경기 알림", null, createdAt));
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> notificationJdbcRepository.insertAll(notifications));
+
+        assertThat(notifications).extracting(Notification::getId).doesNotContainNull().doesNotHaveDuplicates();
+        for (Notification notification : notifications) {
+            Notification stored = notificationRepository.findById(notification.getId()).orElseThrow();
+            assertThat(stored.getUserId()).isEqualTo(notification.getUserId());
+            assertThat(stored.getRelatedId()).isEqualTo(notification.getRelatedId());
+            assertThat(stored.getCreatedAt()).isEqualTo(notification.getCreatedAt());
+        }
+    }
+
+    @Test
+    void identicalRowsFromAnotherChunkAreNotClaimed() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Notification> first = List.of(notification(201L, "경기 알림", 9L, createdAt));
+        List<Notification> second = List.of(notification(201L, "경기 알림", 9L, createdAt));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> notificationJdbcRepository.insertAll(first));
+        transactionTemplate.executeWithoutResult(status -> notificationJdbcRepository.insertAll(second));
+
+        assertThat(first.get(0).getId()).isNotNull();
+        assertThat(second.get(0).getId()).isNotNull().isNotEqualTo(first.get(0).getId());
+        assertThat(second.get(0).getFanoutBatchId()).isNotEqualTo(first.get(0).getFanoutBatchId());
+    }
+
+    private static Notification notification(Long userId, String title, Long relatedId, LocalDateTime createdAt) {
+        return Notification.builder()
+                .userId(userId)
+                .type(Notification.NotificationType.GAME_TOMORROW_REMINDER)
+                .title(title)
+                .message(title + " 내용")
+                .relatedId(relatedId)
+                .isRead(false)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static String requiredProperty(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(name + " is required");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jobrunr.jobs.lambdas.JobLambda;
+import org.jobrunr.scheduling.JobScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.common.realtime.RealtimeOutboxWriter;
+import com.example.notification.dto.NotificationDTO;
+import com.example.notification.entity.Notification;
+import com.example.notification.repository.NotificationJdbcRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationFanoutServiceTest {
+
+    private final NotificationJdbcRepository notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+    private final RealtimeOutboxWriter realtimeOutboxWriter = mock(RealtimeOutboxWriter.class);
+    private final JobScheduler jobScheduler = mock(JobScheduler.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void writesEachChunkWithOneNotificationBatchAndOneOutboxBatch() {
+        assignIdsOnInsert();
+        NotificationFanoutService service = service(null, 2);
+
+        service.fanOut(
+                Notification.NotificationType.FOLLOWING_NEW_POST,
+                "새 게시글",
+                "작성자님이 새 게시글을 작성했습니다.",
+                77L,
+                List.of(11L, 12L, 12L, 13L, 14L, 15L));
+
+        verify(notificationJdbcRepository, times(3)).insertAll(anyList());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RealtimeOutboxWriter.UserMessage>> messages = ArgumentCaptor.forClass(List.class);
+        verify(realtimeOutboxWriter, times(3)).sendToUsers(eq("/queue/notifications"), messages.capture());
+        List<RealtimeOutboxWriter.UserMessage> sent = messages.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(sent).extracting(RealtimeOutboxWriter.UserMessage::userId)
+                .containsExactly("11", "12", "13", "14", "15");
+        NotificationDTO.Response first = (NotificationDTO.Response) sent.get(0).payload();
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(first.getRelatedId()).isEqualTo(77L);
+        assertThat(first.getIsRead()).isFalse();
+        assertThat(first.getCreatedAt()).isNotNull();
+        assertThat(meterRegistry.counter("notification.fanout.notifications", "outcome", "delivered").count())
+                .isEqualTo(5.0);
+        assertThat(meterRegistry.timer("notification.fanout.lag").count()).isEqualTo(3L);
+    }
+
+    @Test
+    void waitsForSourceCommitAndSkipsRolledBackSource() {
+        NotificationFanoutService service = service(null, 500);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.fanOut(Notification.NotificationType.GAME_DAY_REMINDER, List.of(
+                new NotificationFanoutService.NotificationDraft(1L, "오늘 경기 알림", "오늘 경기가 있습니다!", 5L)));
+
+        verifyNoInteractions(notificationJdbcRepository, realtimeOutboxWriter);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verifyNoInteractions(notificationJdbcRepository, realtimeOutboxWriter);
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(notificationJdbcRepository).insertAll(anyList());
+    }
+
+    @Test
+    void enqueuesOneJobPerChunkWhenJobSchedulerIsAvailable() {
+        NotificationFanoutService service = service(jobScheduler, 2);
+        List<NotificationFanoutService.NotificationDraft> drafts = new ArrayList<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            drafts.add(new NotificationFanoutService.NotificationDraft(userId, "리뷰 요청", "리뷰를 작성해주세요.", 9L));
+        }
+        drafts.add(new NotificationFanoutService.NotificationDraft(null, "리뷰 요청", "리뷰를 작성해주세요.", 9L));
+
+        service.fanOut(Notification.NotificationType.REVIEW_REQUEST, drafts);
+
+        verify(jobScheduler, times(3)).enqueue(any(JobLambda.class));
+        verifyNoInteractions(notificationJdbcRepository, realtimeOutboxWriter);
+    }
+
+    @Test
+    void failedChunkIsCountedAndRethrownForRetry() {
+        doThrow(new IllegalStateException("db down")).when(notificationJdbcRepository).insertAll(anyList());
+        NotificationFanoutService service = service(null, 500);
+        List<NotificationFanoutService.NotificationDraft> chunk = new ArrayList<>(List.of(
+                new NotificationFanoutService.NotificationDraft(1L, "새 게시글", "새 글", 3L)));
+
+        assertThatThrownBy(() -> service.deliverChunk(
+                Notification.NotificationType.FOLLOWING_NEW_POST, chunk, System.currentTimeMillis()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.counter("notification.fanout.chunks", "outcome", "failure").count())
+                .isEqualTo(1.0);
+        verifyNoInteractions(realtimeOutboxWriter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assignIdsOnInsert() {
+        doAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            notifications.forEach(notification -> notification.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(notificationJdbcRepository).insertAll(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private NotificationFanoutService service(JobScheduler scheduler, int chunkSize) {
+        ObjectProvider<JobScheduler> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(scheduler);
+        return new NotificationFanoutService(
+                notificationJdbcRepository,
+                realtimeOutboxWriter,
+                provider,
+                mock(PlatformTransactionManager.class),
+                meterRegistry,
+                chunkSize,
+                Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.prediction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.kbo.entity.GameEntity;
+import com.example.kbo.entity.GameEventEntity;
+import com.example.kbo.entity.GamePlayByPlayEntity;
+import com.example.kbo.repository.GameDetailHeaderProjection;
+import com.example.kbo.repository.GameEventRepository;
+import com.example.kbo.repository.GameInningScoreRepository;
+import com.example.kbo.repository.GamePlayByPlayRepository;
+import com.example.kbo.repository.GameRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameLiveHubTest {
+
+    private static final String GAME_ID = "20260417LGKT0";
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameEventRepository gameEventRepository;
+
+    @Mock
+    private GameInningScoreRepository gameInningScoreRepository;
+
+    @Mock
+    private GamePlayByPlayRepository gamePlayByPlayRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GameLiveHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new GameLiveHub(
+                gameRepository,
+                gameEventRepository,
+                gameInningScoreRepository,
+                gamePlayByPlayRepository,
+                transactionManager,
+                true,
+                200,
+                180_000L,
+                60_000L);
+        GameDetailHeaderProjection header = mock(GameDetailHeaderProjection.class);
+        lenient().when(header.getStartTime()).thenReturn(LocalTime.of(18, 30));
+        lenient().when(gameRepository.findGameDetailHeaderByGameId(GAME_ID)).thenReturn(Optional.of(header));
+        lenient().when(gameRepository.findByGameId(GAME_ID)).thenReturn(Optional.of(game("LIVE")));
+        lenient().when(gameInningScoreRepository.findAllByGameIdOrderByInningAscTeamSideAsc(anyString()))
+                .thenReturn(List.of());
+        lenient().when(gamePlayByPlayRepository.findByGameIdOrderByIdDesc(anyString(), any(Pageable.class)))
+                .thenReturn(List.of());
+        lenient().when(gamePlayByPlayRepository.findByGameIdAndIdGreaterThanOrderByIdAsc(
+                anyString(), any(), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    @Test
+    void trackIgnoresGamesThatAreNotLive() {
+        hub.track(GAME_ID, "COMPLETED");
+        hub.track(GAME_ID, "SCHEDULED");
+
+        assertThat(hub.trackedGameIds()).isEmpty();
+        assertThat(hub.tail(GAME_ID).tracked()).isFalse();
+        verify(gameRepository, never()).findByGameId(anyString());
+    }
+
+    @Test
+    void seededBufferAnswersCursorsAndTailAppendsOnlyNewRows() {
+        when(gameEventRepository.findByGameIdOrderByEventSeqDesc(eq(GAME_ID), any(Pageable.class)))
+                .thenReturn(descending(events(1, 3)));
+        when(gameEventRepository.findByGameIdAndEventSeqGreaterThanOrderByEventSeqAsc(
+                eq(GAME_ID), eq(3), any(Pageable.class))).thenReturn(events(4, 5));
+        hub.track(GAME_ID, "LIVE");
+
+        GameLiveHub.TailResult seeded = hub.tail(GAME_ID);
+        GameLiveHub.Feed seededFeed = hub.current(GAME_ID).orElseThrow();
+        GameLiveHub.TailResult tailed = hub.tail(GAME_ID);
+        GameLiveHub.Feed feed = hub.current(GAME_ID).orElseThrow();
+
+        assertThat(seeded.seeded()).isTrue();
+        assertThat(seeded.newEvents()).isZero();
+        assertThat(seededFeed.lastEventSeq()).isEqualTo(3);
+        assertThat(tailed.previousLastEventSeq()).isEqualTo(3);
+        assertThat(tailed.newEvents()).isEqualTo(2);
+        assertThat(tailed.finished()).isFalse();
+        assertThat(feed.findEvents(null, 50).orElseThrow())
+                .extracting(GameEventEntity::getEventSeq)
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(feed.findEvents(0, 50).orElseThrow())
+                .extracting(GameEventEntity::getEventSeq)
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(feed.findEvents(3, 1).orElseThrow())
+                .extracting(GameEventEntity::getEventSeq)
+                .containsExactly(4);
+        assertThat(feed.findEvents(5, 50).orElseThrow()).isEmpty();
+        assertThat(feed.startTime()).isEqualTo(LocalTime.of(18, 30));
+        verify(gameRepository, times(1)).findGameDetailHeaderByGameId(GAME_ID);
+    }
+
+    @Test
+    void cursorsOlderThanTheBufferFallBackToQueries() {
+        when(gameEventRepository.findByGameIdOrderByEventSeqDesc(eq(GAME_ID), any(Pageable.class)))
+                .thenReturn(descending(events(101, 300)));
+        when(gameEventRepository.findByGameIdAndEventSeqGreaterThanOrderByEventSeqAsc(
+                eq(GAME_ID), eq(300), any(Pageable.class))).thenReturn(events(301, 305));
+        hub.track(GAME_ID, "LIVE");
+        hub.tail(GAME_ID);
+
+        GameLiveHub.Feed seeded = hub.current(GAME_ID).orElseThrow();
+        assertThat(seeded.findEvents(99, 10)).isEmpty();
+        assertThat(seeded.findEvents(100, 2).orElseThrow())
+                .extracting(GameEventEntity::getEventSeq)
+                .containsExactly(101, 102);
+
+        hub.tail(GAME_ID);
+        GameLiveHub.Feed trimmed = hub.current(GAME_ID).orElseThrow();
+
+        assertThat(trimmed.gameEventCount()).isEqualTo(200);
+        assertThat(trimmed.findEvents(104, 10)).isEmpty();
+        assertThat(trimmed.findEvents(105, 2).orElseThrow())
+                .extracting(GameEventEntity::getEventSeq)
+                .containsExactly(106, 107);
+        assertThat(trimmed.findEvents(null, 200).orElseThrow()).hasSize(200);
+        assertThat(trimmed.findEvents(null, 201)).isEmpty();
+    }
+
+    @Test
+    void relayBufferTracksIdsAndFinishedGameIsReported() {
+        when(gameEventRepository.findByGameIdOrderByEventSeqDesc(eq(GAME_ID), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(gameEventRepository.findByGameIdAndEventSeqGreaterThanOrderByEventSeqAsc(
+                eq(GAME_ID), eq(-1), any(Pageable.class))).thenReturn(List.of());
+        when(gamePlayByPlayRepository.findByGameIdOrderByIdDesc(eq(GAME_ID), any(Pageable.class)))
+                .thenReturn(List.of(relay(12), relay(11)));
+        when(gamePlayByPlayRepository.findByGameIdAndIdGreaterThanOrderByIdAsc(
+                eq(GAME_ID), eq(12), any(Pageable.class))).thenReturn(List.of(relay(13)));
+        hub.track(GAME_ID, "LIVE");
+        hub.tail(GAME_ID);
+        when(gameRepository.findByGameId(GAME_ID)).thenReturn(Optional.of(game("COMPLETED")));
+
+        GameLiveHub.TailResult result = hub.tail(GAME_ID);
+        GameLiveHub.Feed feed = hub.current(GAME_ID).orElseThrow();
+
+        assertThat(result.newRelays()).isEqualTo(1);
+        assertThat(result.previousLastRelayId()).isEqualTo(12);
+        assertThat(result.finished()).isTrue();
+        assertThat(feed.findRelays(11, 50).orElseThrow())
+                .extracting(GamePlayByPlayEntity::getId)
+                .containsExactly(12, 13);
+        assertThat(feed.latestEvent()).isNull();
+    }
+
+    @Test
+    void currentIsEmptyBeforeFirstTailAndWhenStale() throws InterruptedException {
+        when(gameEventRepository.findByGameIdOrderByEventSeqDesc(eq(GAME_ID), any(Pageable.class)))
+                .thenReturn(List.of());
+        hub.track(GAME_ID, "LIVE");
+        assertThat(hub.current(GAME_ID)).isEmpty();
+
+        GameLiveHub stale = new GameLiveHub(
+                gameRepository,
+                gameEventRepository,
+                gameInningScoreRepository,
+                gamePlayByPlayRepository,
+                transactionManager,
+                true,
+                200,
+                180_000L,
+                0L);
+        stale.track(GAME_ID, "LIVE");
+        stale.tail(GAME_ID);
+        Thread.sleep(5);
+
+        assertThat(stale.current(GAME_ID)).isEmpty();
+    }
+
+    private GameEntity game(String status) {
+        return GameEntity.builder()
+                .gameId(GAME_ID)
+                .gameDate(LocalDate.now())
+                .homeTeam("LG")
+                .awayTeam("KT")
+                .gameStatus(status)
+                .homeScore(3)
+                .awayScore(2)
+                .build();
+    }
+
+    private List<GameEventEntity> events(int fromSeq, int toSeq) {
+        List<GameEventEntity> events = new ArrayList<>();
+        for (int seq = fromSeq; seq <= toSeq; seq++) {
+            events.add(GameEventEntity.builder()
+                    .gameId(GAME_ID)
+                    .eventSeq(seq)
+                    .inning(1 + seq / 30)
+                    .inningHalf(seq % 2 == 0 ? "TOP" : "BOTTOM")
+                    .description("이벤트 " + seq)
+                    .homeScore(0)
+                    .awayScore(0)
+                    .build());
+        }
+        return events;
+    }
+
+    private List<GameEventEntity> descending(List<GameEventEntity> events) {
+        List<GameEventEntity> reversed = new ArrayList<>(events);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private GamePlayByPlayEntity relay(int id) {
+        return GamePlayByPlayEntity.builder()
+                .id(id)
+                .gameId(GAME_ID)
+                .inning(7)
+                .inningHalf("BOTTOM")
+                .playDescription("중계 " + id)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.prediction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.kbo.entity.GameEntity;
+import com.example.kbo.entity.GameEventEntity;
+import com.example.kbo.repository.GameDetailHeaderProjection;
+import com.example.kbo.repository.GameEventRepository;
+import com.example.kbo.repository.GameInningScoreRepository;
+import com.example.kbo.repository.GamePlayByPlayRepository;
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.validation.BaseballDataIntegrityGuard;
+
+/**
+ * 진행 중 경기 하나를 시청자 1,000명이 afterSeq로 폴링할 때 DB 호출 수를 기존 쿼리 경로와 문자중계 버퍼 경로로 비교한다.
+ * 기존 경로는 폴링마다 경기/헤더/이벤트 증분/최근 이벤트/최신 이벤트/이닝 점수를 읽으므로 DB 왕복 수를 지표로 쓰고,
+ * 버퍼 경로는 tail 한 번의 쿼리 외에 폴링이 DB를 거치지 않는다. 요청당 CPU 시간은 참고로 출력한다.
+ */
+class GameLivePollingBenchmarkTest {
+
+    private static final String GAME_ID = "20260417LGKT0";
+    private static final int VIEWERS = 1_000;
+    private static final int EVENTS = 180;
+
+    @Test
+    @DisplayName("시청자 1k명 폴링당 DB 호출 수: 버퍼 경로는 시청자 수와 무관하게 tail 쿼리만 남는다")
+    void compareQueriesPerThousandViewers() {
+        List<GameEventEntity> events = sampleEvents();
+
+        GameRepository legacyGameRepository = mock(GameRepository.class);
+        GameEventRepository legacyEventRepository = mock(GameEventRepository.class);
+        GameInningScoreRepository legacyInningScoreRepository = mock(GameInningScoreRepository.class);
+        stubRepositories(legacyGameRepository, legacyEventRepository, legacyInningScoreRepository, events);
+        // 무결성 검사는 findByGameId 한 번으로 경기를 읽으므로 호출 수를 같이 센다.
+        BaseballDataIntegrityGuard guard = mock(BaseballDataIntegrityGuard.class);
+        when(guard.requireValidGame("prediction.live_snapshot", GAME_ID))
+                .thenAnswer(invocation -> legacyGameRepository.findByGameId(GAME_ID).orElseThrow());
+        GameLiveService legacyService = new GameLiveService(
+                legacyGameRepository,
+                legacyEventRepository,
+                legacyInningScoreRepository,
+                guard,
+                mock(PredictionLiveMetricsService.class));
+        long legacyStarted = System.nanoTime();
+        for (int viewer = 0; viewer < VIEWERS; viewer++) {
+            legacyService.getLiveSnapshot(GAME_ID, EVENTS - 1 - viewer % 5, 50);
+        }
+        long legacyNanos = System.nanoTime() - legacyStarted;
+        long legacyQueries = invocations(legacyGameRepository, legacyEventRepository, legacyInningScoreRepository);
+
+        GameRepository hubGameRepository = mock(GameRepository.class);
+        GameEventRepository hubEventRepository = mock(GameEventRepository.class);
+        GameInningScoreRepository hubInningScoreRepository = mock(GameInningScoreRepository.class);
+        GamePlayByPlayRepository hubRelayRepository = mock(GamePlayByPlayRepository.class);
+        stubRepositories(hubGameRepository, hubEventRepository, hubInningScoreRepository, events);
+        when(hubRelayRepository.findByGameIdOrderByIdDesc(anyString(), any(Pageable.class))).thenReturn(List.of());
+        GameLiveHub hub = new GameLiveHub(
+                hubGameRepository,
+                hubEventRepository,
+                hubInningScoreRepository,
+                hubRelayRepository,
+                mock(PlatformTransactionManager.class),
+                true,
+                500,
+                180_000L,
+                600_000L);
+        GameLiveService hubService = new GameLiveService(
+                hubGameRepository,
+                hubEventRepository,
+                hubInningScoreRepository,
+                mock(BaseballDataIntegrityGuard.class),
+                mock(PredictionLiveMetricsService.class),
+                hub);
+        hub.track(GAME_ID, "LIVE");
+        hub.tail(GAME_ID);
+        long tailQueries = invocations(hubGameRepository, hubEventRepository, hubInningScoreRepository, hubRelayRepository);
+        Mockito.clearInvocations(hubGameRepository, hubEventRepository, hubInningScoreRepository, hubRelayRepository);
+        long hubStarted = System.nanoTime();
+        for (int viewer = 0; viewer < VIEWERS; viewer++) {
+            hubService.findBufferedLiveSnapshot(GAME_ID, EVENTS - 1 - viewer % 5, 50).orElseThrow();
+        }
+        long hubNanos = System.nanoTime() - hubStarted;
+        long hubQueries = invocations(hubGameRepository, hubEventRepository, hubInningScoreRepository, hubRelayRepository);
+
+        System.out.printf(
+                "live polling per %d viewers: sql legacy=%d buffer=%d (+%d per tail pass) "
+                        + "(legacy %.1f us/req against mocks, buffer %.1f us/req, %d events buffered)%n",
+                VIEWERS, legacyQueries, hubQueries, tailQueries,
+                legacyNanos / 1_000.0 / VIEWERS, hubNanos / 1_000.0 / VIEWERS,
+                hub.current(GAME_ID).orElseThrow().gameEventCount());
+        assertThat(legacyQueries).isGreaterThanOrEqualTo(5L * VIEWERS);
+        assertThat(hubQueries).isZero();
+        assertThat(tailQueries).isLessThanOrEqualTo(5L);
+    }
+
+    private void stubRepositories(
+            GameRepository gameRepository,
+            GameEventRepository gameEventRepository,
+            GameInningScoreRepository gameInningScoreRepository,
+            List<GameEventEntity> events) {
+        GameEntity game = GameEntity.builder()
+                .gameId(GAME_ID)
+                .gameDate(LocalDate.now())
+                .homeTeam("LG")
+                .awayTeam("KT")
+                .gameStatus("LIVE")
+                .seasonId(LocalDate.now().getYear())
+                .build();
+        GameDetailHeaderProjection header = mock(GameDetailHeaderProjection.class);
+        when(header.getStartTime()).thenReturn(LocalTime.of(18, 30));
+        when(gameRepository.findByGameId(GAME_ID)).thenReturn(Optional.of(game));
+        when(gameRepository.findGameDetailHeaderByGameId(GAME_ID)).thenReturn(Optional.of(header));
+        List<GameEventEntity> descending = new ArrayList<>(events);
+        Collections.reverse(descending);
+        when(gameEventRepository.findByGameIdOrderByEventSeqDesc(anyString(), any(Pageable.class)))
+                .thenReturn(descending);
+        when(gameEventRepository.findByGameIdAndEventSeqGreaterThanOrderByEventSeqAsc(
+                anyString(), anyInt(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    int afterSeq = invocation.getArgument(1);
+                    return events.stream().filter(event -> event.getEventSeq() > afterSeq).toList();
+                });
+        when(gameEventRepository.findFirstByGameIdOrderByEventSeqDesc(GAME_ID))
+                .thenReturn(Optional.of(events.get(events.size() - 1)));
+        when(gameInningScoreRepository.findAllByGameIdOrderByInningAscTeamSideAsc(GAME_ID)).thenReturn(List.of());
+    }
+
+    private long invocations(Object... mocks) {
+        long count = 0;
+        for (Object repository : mocks) {
+            count += Mockito.mockingDetails(repository).getInvocations().size();
+        }
+        return count;
+    }
+
+    // 9이닝 동안 이벤트 180건, 이닝마다 한 점씩 나는 경기
+    private List<GameEventEntity> sampleEvents() {
+        List<GameEventEntity> events = new ArrayList<>();
+        for (int seq = 0; seq < EVENTS; seq++) {
+            int inning = 1 + seq / 20;
+            events.add(GameEventEntity.builder()
+                    .gameId(GAME_ID)
+                    .eventSeq(seq)
+                    .inning(inning)
+                    .inningHalf(seq % 20 < 10 ? "TOP" : "BOTTOM")
+                    .description("이벤트 " + seq)
+                    .homeScore(seq % 20 < 10 ? inning - 1 : inning)
+                    .awayScore(inning)
+                    .build());
+        }
+        return events;
+    }
+}
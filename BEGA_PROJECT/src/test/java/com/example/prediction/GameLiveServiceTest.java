@@ -12,6 +12,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -377,6 +378,66 @@ class GameLiveServiceTest {
         assertThat(summaries.get(0).getLastEventSeq()).isNull();
     }
 
+    @Test
+    void bufferedLiveSnapshotIsServedFromHubWithoutQueries() {
+        GameLiveHub gameLiveHub = mock(GameLiveHub.class);
+        GameLiveService bufferedService = new GameLiveService(
+                gameRepository,
+                gameEventRepository,
+                gameInningScoreRepository,
+                baseballDataIntegrityGuard,
+                predictionLiveMetricsService,
+                gameLiveHub);
+        GameEntity game = game("GAME-BUFFER", LocalDate.now(), "LIVE", null, null);
+        GameLiveHub.Feed feed = new GameLiveHub.Feed(
+                game,
+                LocalTime.of(18, 30),
+                List.of(),
+                "LIVE",
+                List.of(
+                        event("GAME-BUFFER", 1, 1, "TOP", 0, 1, "원정 득점"),
+                        event("GAME-BUFFER", 2, 1, "BOTTOM", 2, 1, "홈 득점"),
+                        event("GAME-BUFFER", 3, 2, "TOP", 2, 3, "원정 추가 득점")),
+                Integer.MIN_VALUE,
+                List.of(),
+                Integer.MIN_VALUE);
+        when(gameLiveHub.current("GAME-BUFFER")).thenReturn(Optional.of(feed));
+
+        GameLiveSnapshotDto snapshot = bufferedService.findBufferedLiveSnapshot("GAME-BUFFER", 2, 50).orElseThrow();
+
+        assertThat(snapshot.getEvents()).extracting(GameLiveEventDto::getEventSeq).containsExactly(3);
+        assertThat(snapshot.getLastEventSeq()).isEqualTo(3);
+        assertThat(snapshot.getHomeScore()).isEqualTo(2);
+        assertThat(snapshot.getAwayScore()).isEqualTo(3);
+        assertThat(snapshot.getInningScores()).hasSize(4);
+        verify(predictionLiveMetricsService).recordLiveBufferLookup("snapshot", true);
+        verifyNoInteractions(gameRepository, gameEventRepository, gameInningScoreRepository, baseballDataIntegrityGuard);
+    }
+
+    @Test
+    void liveSnapshotFromQueriesRegistersLiveGameWithHub() {
+        GameLiveHub gameLiveHub = mock(GameLiveHub.class);
+        GameLiveService trackingService = new GameLiveService(
+                gameRepository,
+                gameEventRepository,
+                gameInningScoreRepository,
+                baseballDataIntegrityGuard,
+                predictionLiveMetricsService,
+                gameLiveHub);
+        GameEntity game = game("GAME-TRACK", LocalDate.now(), "LIVE", 0, 0);
+        GameEventEntity latestEvent = event("GAME-TRACK", 1, 1, "TOP", 0, 0, "초구");
+        when(baseballDataIntegrityGuard.requireValidGame("prediction.live_snapshot", "GAME-TRACK")).thenReturn(game);
+        when(gameRepository.findGameDetailHeaderByGameId("GAME-TRACK"))
+                .thenReturn(Optional.of(header("GAME-TRACK", LocalTime.of(18, 30))));
+        when(gameEventRepository.findFirstByGameIdOrderByEventSeqDesc("GAME-TRACK")).thenReturn(Optional.of(latestEvent));
+
+        assertThat(trackingService.findBufferedLiveSnapshot("GAME-TRACK", null, 50)).isEmpty();
+        trackingService.getLiveSnapshot("GAME-TRACK", null, 50);
+
+        verify(predictionLiveMetricsService).recordLiveBufferLookup("snapshot", false);
+        verify(gameLiveHub).track("GAME-TRACK", "LIVE");
+    }
+
     private GameEntity game(String gameId, LocalDate gameDate, String status, Integer homeScore, Integer awayScore) {
         return GameEntity.builder()
                 .gameId(gameId)
@@ -227,6 +227,23 @@ abstract class PredictionServiceTestFixture {
                 new ManualBaseballDataOverrideService(Set.of(dates)));
     }
 
+    protected PredictionService predictionServiceWithVoteTally(PredictionVoteTallyStore voteTallyStore) {
+        return new PredictionService(
+                predictionRepository,
+                gameRepository,
+                gameMetadataRepository,
+                gameInningScoreRepository,
+                gameSummaryRepository,
+                voteFinalResultRepository,
+                userRepository,
+                new LeagueStageResolver(gameRepository),
+                baseballDataIntegrityGuard,
+                cacheManager,
+                transactionManager,
+                ManualBaseballDataOverrideService.disabled(),
+                voteTallyStore);
+    }
+
     protected GameInningScoreRequestDto scoreRequest(
             Integer inning,
             String teamSide,
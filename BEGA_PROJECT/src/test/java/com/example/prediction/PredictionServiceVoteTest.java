@@ -165,8 +165,93 @@ class PredictionServiceVoteTest extends PredictionServiceTestFixture {
         verify(predictionRepository, never()).countByGameIdAndVotedTeam(any(), any());
     }
 
+    @Test
+    @DisplayName("getVoteStatus - 투표 집계가 있으면 SQL 없이 집계로 응답")
+    void getVoteStatus_servedFromVoteTallyWithoutSql() {
+        PredictionVoteTallyStore voteTallyStore = mock(PredictionVoteTallyStore.class);
+        when(voteTallyStore.read("202603200001"))
+                .thenReturn(Optional.of(new PredictionVoteTallyStore.VoteTally(6L, 4L)));
+        PredictionService tallyService = predictionServiceWithVoteTally(voteTallyStore);
+
+        PredictionResponseDto response = tallyService.getVoteStatus("202603200001");
+
+        assertThat(response.getHomeVotes()).isEqualTo(6L);
+        assertThat(response.getAwayVotes()).isEqualTo(4L);
+        assertThat(response.getHomePercentage()).isEqualTo(60);
+        verify(voteFinalResultRepository, never()).findById(any());
+        verify(predictionRepository, never()).findVoteCountsByGameId(any());
+    }
+
+    @Test
+    @DisplayName("getVoteStatus - 집계가 없으면 DB 집계로 응답하고 집계를 초기화")
+    void getVoteStatus_seedsVoteTallyFromAggregateOnMiss() {
+        PredictionVoteTallyStore voteTallyStore = mock(PredictionVoteTallyStore.class);
+        when(voteTallyStore.read("202603200001")).thenReturn(Optional.empty());
+        PredictionVoteCountsProjection voteCounts = mock(PredictionVoteCountsProjection.class);
+        when(voteFinalResultRepository.findById("202603200001")).thenReturn(Optional.empty());
+        when(voteCounts.getHomeVotes()).thenReturn(7L);
+        when(voteCounts.getAwayVotes()).thenReturn(3L);
+        when(predictionRepository.findVoteCountsByGameId("202603200001")).thenReturn(voteCounts);
+        PredictionService tallyService = predictionServiceWithVoteTally(voteTallyStore);
+
+        PredictionResponseDto response = tallyService.getVoteStatus("202603200001");
+
+        assertThat(response.getTotalVotes()).isEqualTo(10L);
+        verify(voteTallyStore).seed("202603200001", 7L, 3L);
+    }
+
     // ========== vote() ==========
 
+    @Test
+    @DisplayName("vote - 신규 투표는 커밋 후 집계에 +1 반영하고 GROUP BY 재집계를 하지 않음")
+    void vote_newVoteIncrementsVoteTally() {
+        PredictionVoteTallyStore voteTallyStore = mock(PredictionVoteTallyStore.class);
+        when(voteTallyStore.isEnabled()).thenReturn(true);
+        when(voteTallyStore.applyCommittedChange("202603200001", "home", null)).thenReturn(true);
+        PredictionService tallyService = predictionServiceWithVoteTally(voteTallyStore);
+        GameEntity game = buildCanonicalMockGame("202603200001");
+        stubVoteWindowOpen(game, "202603200001");
+        UserEntity user = mock(UserEntity.class);
+        when(user.getCheerPoints()).thenReturn(3);
+        when(gameRepository.findByGameId("202603200001")).thenReturn(Optional.of(game));
+        when(userRepository.findByIdForWrite(1L)).thenReturn(Optional.of(user));
+        when(predictionRepository.findByGameIdAndUserIdForWrite("202603200001", 1L))
+                .thenReturn(Optional.empty());
+
+        PredictionRequestDto request = new PredictionRequestDto();
+        request.setGameId("202603200001");
+        request.setVotedTeam("home");
+
+        tallyService.vote(1L, request);
+
+        verify(voteTallyStore).applyCommittedChange("202603200001", "home", null);
+        verify(predictionRepository, never()).findVoteCountsByGameId(any());
+    }
+
+    @Test
+    @DisplayName("vote - 팀을 바꾸면 이전 팀 -1, 새 팀 +1을 집계에 반영")
+    void vote_switchingTeamMovesVoteTally() {
+        PredictionVoteTallyStore voteTallyStore = mock(PredictionVoteTallyStore.class);
+        when(voteTallyStore.isEnabled()).thenReturn(true);
+        PredictionService tallyService = predictionServiceWithVoteTally(voteTallyStore);
+        GameEntity game = buildCanonicalMockGame("202603200001");
+        stubVoteWindowOpen(game, "202603200001");
+        Prediction existingPrediction = mock(Prediction.class);
+        when(existingPrediction.getVotedTeam()).thenReturn("away");
+        when(gameRepository.findByGameId("202603200001")).thenReturn(Optional.of(game));
+        when(predictionRepository.findByGameIdAndUserIdForWrite("202603200001", 1L))
+                .thenReturn(Optional.of(existingPrediction));
+
+        PredictionRequestDto request = new PredictionRequestDto();
+        request.setGameId("202603200001");
+        request.setVotedTeam("home");
+
+        tallyService.vote(1L, request);
+
+        verify(existingPrediction).updateVotedTeam("home");
+        verify(voteTallyStore).applyCommittedChange("202603200001", "home", "away");
+    }
+
     @Test
     @DisplayName("vote - 존재하지 않는 경기에 투표하면 예외 발생")
     void vote_throwsIllegalArgumentWhenGameNotFound() {
@@ -257,6 +342,26 @@ class PredictionServiceVoteTest extends PredictionServiceTestFixture {
         verify(userRepository, org.mockito.Mockito.never()).findByIdForWrite(any());
     }
 
+    @Test
+    @DisplayName("cancelVote - 커밋 후 취소한 팀의 집계를 -1 반영")
+    void cancelVote_decrementsVoteTally() {
+        PredictionVoteTallyStore voteTallyStore = mock(PredictionVoteTallyStore.class);
+        when(voteTallyStore.isEnabled()).thenReturn(true);
+        PredictionService tallyService = predictionServiceWithVoteTally(voteTallyStore);
+        GameEntity game = buildCanonicalMockGame("202603200001");
+        stubVoteWindowOpen(game, "202603200001");
+        Prediction prediction = mock(Prediction.class);
+        when(prediction.getVotedTeam()).thenReturn("away");
+        when(gameRepository.findByGameId("202603200001")).thenReturn(Optional.of(game));
+        when(predictionRepository.findByGameIdAndUserIdForWrite("202603200001", 1L))
+                .thenReturn(Optional.of(prediction));
+
+        tallyService.cancelVote(1L, "202603200001");
+
+        verify(predictionRepository).delete(prediction);
+        verify(voteTallyStore).applyCommittedChange("202603200001", null, "away");
+    }
+
     // ========== getUserStats() ==========
 
     @Test
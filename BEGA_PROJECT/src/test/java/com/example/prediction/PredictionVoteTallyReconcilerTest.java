@@ -0,0 +1,119 @@
+package com.example.prediction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PredictionVoteTallyReconcilerTest {
+
+    @Mock
+    private PredictionRepository predictionRepository;
+
+    @Mock
+    private VoteFinalResultRepository voteFinalResultRepository;
+
+    @Mock
+    private PredictionVoteTallyStore voteTallyStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PredictionVoteTallyReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new PredictionVoteTallyReconciler(
+                predictionRepository, voteFinalResultRepository, voteTallyStore, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("DB 집계와 다른 투표 집계만 덮어쓴다")
+    void reconcile_overwritesOnlyDriftedTallies() {
+        when(voteTallyStore.trackedGameIds()).thenReturn(Set.of("g1", "g2"));
+        when(voteFinalResultRepository.existsById(anyString())).thenReturn(false);
+        when(voteTallyStore.readRemote("g1")).thenReturn(tally(5L, 5L));
+        when(voteTallyStore.readRemote("g2")).thenReturn(tally(3L, 1L));
+        PredictionVoteCountsProjection g1Counts = voteCounts(5L, 5L);
+        PredictionVoteCountsProjection g2Counts = voteCounts(4L, 1L);
+        when(predictionRepository.findVoteCountsByGameId("g1")).thenReturn(g1Counts);
+        when(predictionRepository.findVoteCountsByGameId("g2")).thenReturn(g2Counts);
+
+        PredictionVoteTallyReconciler.ReconcileReport report = reconciler.reconcile();
+
+        assertThat(report.checked()).isEqualTo(2);
+        assertThat(report.repaired()).isEqualTo(1);
+        verify(voteTallyStore).overwrite("g2", 4L, 1L);
+        verify(voteTallyStore, never()).overwrite(ArgumentMatchers.eq("g1"), anyLong(), anyLong());
+        assertThat(meterRegistry.get("prediction.vote_tally.drift").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비교 중 집계가 바뀌면 이번 주기에는 보정하지 않는다")
+    void reconcile_skipsTallyChangedDuringComparison() {
+        when(voteTallyStore.trackedGameIds()).thenReturn(Set.of("g1"));
+        when(voteTallyStore.readRemote("g1")).thenReturn(tally(5L, 5L), tally(6L, 5L));
+        PredictionVoteCountsProjection g1Counts = voteCounts(6L, 5L);
+        when(predictionRepository.findVoteCountsByGameId("g1")).thenReturn(g1Counts);
+
+        PredictionVoteTallyReconciler.ReconcileReport report = reconciler.reconcile();
+
+        assertThat(report.repaired()).isZero();
+        verify(voteTallyStore, never()).overwrite(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("최종 결과가 저장된 경기는 집계를 지우고, 만료된 집계는 추적에서 뺀다")
+    void reconcile_removesFinishedAndExpiredTallies() {
+        when(voteTallyStore.trackedGameIds()).thenReturn(Set.of("finished", "expired"));
+        when(voteFinalResultRepository.existsById("finished")).thenReturn(true);
+        when(voteFinalResultRepository.existsById("expired")).thenReturn(false);
+        when(voteTallyStore.readRemote("expired")).thenReturn(Optional.empty());
+
+        PredictionVoteTallyReconciler.ReconcileReport report = reconciler.reconcile();
+
+        assertThat(report.removed()).isEqualTo(2);
+        verify(voteTallyStore).remove("finished");
+        verify(voteTallyStore).untrack("expired");
+        verify(predictionRepository, never()).findVoteCountsByGameId(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 로컬 집계 정리만 한다")
+    void runReconcile_skipsWithoutLock() {
+        when(voteTallyStore.isEnabled()).thenReturn(true);
+        when(voteTallyStore.tryAcquireReconcileLock(Duration.ofMinutes(5))).thenReturn(false);
+
+        assertThat(reconciler.runReconcile()).isEmpty();
+
+        verify(voteTallyStore).pruneLocal(Duration.ofMinutes(10));
+        verify(voteTallyStore, never()).trackedGameIds();
+        verify(voteTallyStore, never()).releaseReconcileLock();
+    }
+
+    private static Optional<PredictionVoteTallyStore.VoteTally> tally(long home, long away) {
+        return Optional.of(new PredictionVoteTallyStore.VoteTally(home, away));
+    }
+
+    private static PredictionVoteCountsProjection voteCounts(long home, long away) {
+        PredictionVoteCountsProjection projection = mock(PredictionVoteCountsProjection.class);
+        when(projection.getHomeVotes()).thenReturn(home);
+        when(projection.getAwayVotes()).thenReturn(away);
+        return projection;
+    }
+}
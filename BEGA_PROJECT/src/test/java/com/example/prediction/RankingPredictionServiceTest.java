@@ -50,7 +50,7 @@ class RankingPredictionServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private com.example.notification.service.NotificationService notificationService;
+    private com.example.notification.service.NotificationFanoutService notificationFanoutService;
 
     private RankingPredictionService rankingPredictionService;
 
@@ -65,7 +65,7 @@ class RankingPredictionServiceTest {
                 homePageTeamRepository,
                 userRepository,
                 cacheManager,
-                notificationService);
+                notificationFanoutService);
     }
 
     @Test
@@ -194,7 +194,7 @@ class RankingPredictionServiceTest {
                 homePageTeamRepository,
                 userRepository,
                 cacheManager,
-                notificationService);
+                notificationFanoutService);
 
         RankingPredictionResponseDto response = localService.getPrediction("7", 2026);
 
@@ -237,7 +237,7 @@ class RankingPredictionServiceTest {
                 homePageTeamRepository,
                 userRepository,
                 cacheManager,
-                notificationService);
+                notificationFanoutService);
 
         RankingPredictionResponseDto response = localService.getPrediction("7", 2026);
 
@@ -315,50 +315,55 @@ class RankingPredictionServiceTest {
         // LG(1), KT(4), KH(5), NC(6), SS(7), LT(8), KIA(9), HH(10) 8개 적중, DB/SSG는 순서가 어긋남
         assertThat(prediction.getExactMatchCount()).isEqualTo(8);
         verify(rankingPredictionRepository).saveAll(List.of(prediction));
-        verify(notificationService).createNotification(
-                7L,
+        verify(notificationFanoutService).fanOut(
                 com.example.notification.entity.Notification.NotificationType.RANKING_PREDICTION_SETTLED,
-                "2026 시즌 순위 예측 결과",
-                "예측한 10개 팀 중 8개 순위를 정확히 맞췄어요!",
-                prediction.getId());
+                List.of(new com.example.notification.service.NotificationFanoutService.NotificationDraft(
+                        7L,
+                        "2026 시즌 순위 예측 결과",
+                        "예측한 10개 팀 중 8개 순위를 정확히 맞췄어요!",
+                        prediction.getId())));
     }
 
     @Test
-    void settleSeason_continuesBatchWhenNotificationFailsForOneUser() {
+    void settleSeason_sendsOneFanoutAndSkipsInvalidRecipients() {
         RankingPrediction predictionA = new RankingPrediction(
                 "7", 2026,
                 List.of("LG", "DB", "SSG", "KT", "KH", "NC", "SS", "LT", "KIA", "HH"));
         RankingPrediction predictionB = new RankingPrediction(
+                "not-a-user-id", 2026,
+                List.of("LG", "DB", "SSG", "KT", "KH", "NC", "SS", "LT", "KIA", "HH"));
+        RankingPrediction predictionC = new RankingPrediction(
                 "8", 2026,
                 List.of("LG", "DB", "SSG", "KT", "KH", "NC", "SS", "LT", "KIA", "HH"));
 
         when(rankingPredictionRepository.findBySeasonYearAndSettledAtIsNull(2026))
-                .thenReturn(new java.util.ArrayList<>(List.of(predictionA, predictionB)));
+                .thenReturn(new java.util.ArrayList<>(List.of(predictionA, predictionB, predictionC)));
         when(gameRepository.findTeamRankingsBySeason(2026)).thenReturn(List.<Object[]>of(
                 new Object[] { 1, "LG" }, new Object[] { 2, "DB" }, new Object[] { 3, "SSG" },
                 new Object[] { 4, "KT" }, new Object[] { 5, "KH" }, new Object[] { 6, "NC" },
                 new Object[] { 7, "SS" }, new Object[] { 8, "LT" }, new Object[] { 9, "KIA" },
                 new Object[] { 10, "HH" }));
-        org.mockito.Mockito.doThrow(new RuntimeException("notification service down"))
-                .when(notificationService)
-                .createNotification(
-                        org.mockito.ArgumentMatchers.eq(7L),
-                        org.mockito.ArgumentMatchers.any(),
-                        org.mockito.ArgumentMatchers.anyString(),
-                        org.mockito.ArgumentMatchers.anyString(),
-                        org.mockito.ArgumentMatchers.any());
+        org.mockito.Mockito.doThrow(new RuntimeException("notification fan-out down"))
+                .when(notificationFanoutService)
+                .fanOut(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.<List<
+                        com.example.notification.service.NotificationFanoutService.NotificationDraft>>any());
 
         int settledCount = rankingPredictionService.settleSeason(2026);
 
-        assertThat(settledCount).isEqualTo(2);
+        assertThat(settledCount).isEqualTo(3);
         assertThat(predictionA.getSettledAt()).isNotNull();
         assertThat(predictionB.getSettledAt()).isNotNull();
-        verify(notificationService).createNotification(
-                org.mockito.ArgumentMatchers.eq(8L),
-                org.mockito.ArgumentMatchers.any(),
-                org.mockito.ArgumentMatchers.anyString(),
-                org.mockito.ArgumentMatchers.anyString(),
-                org.mockito.ArgumentMatchers.any());
+        assertThat(predictionC.getSettledAt()).isNotNull();
+        @SuppressWarnings("unchecked")
+        org.mockito.ArgumentCaptor<List<com.example.notification.service.NotificationFanoutService.NotificationDraft>> drafts =
+                org.mockito.ArgumentCaptor.forClass(List.class);
+        verify(notificationFanoutService).fanOut(
+                org.mockito.ArgumentMatchers.eq(
+                        com.example.notification.entity.Notification.NotificationType.RANKING_PREDICTION_SETTLED),
+                drafts.capture());
+        assertThat(drafts.getValue())
+                .extracting(com.example.notification.service.NotificationFanoutService.NotificationDraft::userId)
+                .containsExactly(7L, 8L);
     }
 
     @Test
@@ -0,0 +1,189 @@
+package com.example.prediction;
+
+import com.example.kbo.repository.GameRepository;
+import com.example.kbo.repository.PredictionStatsGameProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPredictionStatsServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate YESTERDAY = TODAY.minusDays(1);
+
+    @Mock
+    private PredictionRepository predictionRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private UserPredictionStatsRepository statsRepository;
+
+    @Mock
+    private UserPredictionStatsJdbcRepository statsJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPredictionStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statsService = new UserPredictionStatsService(
+                predictionRepository, gameRepository, statsRepository, statsJdbcRepository, meterRegistry, true);
+    }
+
+    @Test
+    @DisplayName("통계 행이 있으면 예측을 재집계하지 않고 행 값을 그대로 돌려준다")
+    void getStats_readsMaterializedRow() {
+        when(statsRepository.findById(1L)).thenReturn(Optional.of(row(1L, 8, 6, 3, 4L, false)));
+
+        UserPredictionStatsDto stats = statsService.getStats(1L);
+
+        assertThat(stats.getTotalPredictions()).isEqualTo(8);
+        assertThat(stats.getCorrectPredictions()).isEqualTo(6);
+        assertThat(stats.getAccuracy()).isEqualTo(75.0);
+        assertThat(stats.getStreak()).isEqualTo(3);
+        verify(predictionRepository, never()).findStatsRowsByUserIdOrderByCreatedAtDesc(any());
+        assertThat(meterRegistry.get("prediction.user_stats.reads").tag("source", "row").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("행이 없으면 어제까지의 완료 경기와 오늘 정산된 경기만으로 행을 만든다")
+    void getStats_buildsRowFromSettledGamesWhenMissing() {
+        LocalDateTime now = LocalDateTime.now();
+        when(statsRepository.findById(2L)).thenReturn(Optional.empty());
+        when(predictionRepository.findStatsRowsByUserIdOrderByCreatedAtDesc(2L)).thenReturn(List.of(
+                new StatsRow("today-unsettled", "home", now.minusHours(1)),
+                new StatsRow("today-settled", "away", now.minusHours(2)),
+                new StatsRow("yesterday", "home", now.minusDays(1)),
+                new StatsRow("older", "away", now.minusDays(2))));
+        when(gameRepository.findPredictionStatsGameSummaries(
+                eq(List.of("today-unsettled", "today-settled", "yesterday", "older")), anyList()))
+                .thenReturn(List.of(
+                        new StatsGame("today-unsettled", "away", TODAY),
+                        new StatsGame("today-settled", "away", TODAY),
+                        new StatsGame("yesterday", "home", YESTERDAY),
+                        new StatsGame("older", "home", YESTERDAY.minusDays(1))));
+        when(predictionRepository.findSettledGameIdsByUserIdAndGameIdIn(
+                2L, List.of("today-unsettled", "today-settled")))
+                .thenReturn(List.of("today-settled"));
+        when(statsJdbcRepository.insert(any())).thenReturn(true);
+
+        UserPredictionStatsDto stats = statsService.getStats(2L);
+
+        // 오늘 미정산 경기는 정산 때 증분으로 더해지므로 제외된다.
+        assertThat(stats.getTotalPredictions()).isEqualTo(3);
+        assertThat(stats.getCorrectPredictions()).isEqualTo(2);
+        assertThat(stats.getStreak()).isEqualTo(2);
+        ArgumentCaptor<UserPredictionStats> inserted = ArgumentCaptor.forClass(UserPredictionStats.class);
+        verify(statsJdbcRepository).insert(inserted.capture());
+        assertThat(inserted.getValue().getCountedThrough()).isEqualTo(YESTERDAY);
+        assertThat(inserted.getValue().getLastPredictionAt()).isEqualTo(now.minusHours(2));
+    }
+
+    @Test
+    @DisplayName("스트릭 재계산이 필요한 행은 읽어 둔 version 조건으로 덮어쓴다")
+    void getStats_rebuildsStaleRowWithVersionCheck() {
+        UserPredictionStats stale = row(3L, 2, 1, 1, 7L, true);
+        when(statsRepository.findById(3L)).thenReturn(Optional.of(stale));
+        when(predictionRepository.findStatsRowsByUserIdOrderByCreatedAtDesc(3L)).thenReturn(List.of(
+                new StatsRow("g2", "home", LocalDateTime.now().minusDays(2)),
+                new StatsRow("g1", "home", LocalDateTime.now().minusDays(3))));
+        when(gameRepository.findPredictionStatsGameSummaries(eq(List.of("g2", "g1")), anyList()))
+                .thenReturn(List.of(
+                        new StatsGame("g2", "away", YESTERDAY.minusDays(1)),
+                        new StatsGame("g1", "home", YESTERDAY.minusDays(2))));
+        when(statsJdbcRepository.overwrite(any(), eq(7L))).thenReturn(false);
+
+        UserPredictionStatsDto stats = statsService.getStats(3L);
+
+        assertThat(stats.getTotalPredictions()).isEqualTo(2);
+        assertThat(stats.getStreak()).isZero();
+        verify(statsJdbcRepository, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("비활성화되면 행 없이 모든 완료 경기를 재집계한다")
+    void recomputeOnly_countsAllFinishedGames() {
+        UserPredictionStatsService recomputeOnly =
+                UserPredictionStatsService.recomputeOnly(predictionRepository, gameRepository);
+        when(predictionRepository.findStatsRowsByUserIdOrderByCreatedAtDesc(4L)).thenReturn(List.of(
+                new StatsRow("today", "home", LocalDateTime.now())));
+        when(gameRepository.findPredictionStatsGameSummaries(eq(List.of("today")), anyList()))
+                .thenReturn(List.of(new StatsGame("today", "home", TODAY)));
+
+        UserPredictionStatsDto stats = recomputeOnly.getStats(4L);
+
+        assertThat(stats.getTotalPredictions()).isEqualTo(1);
+        assertThat(stats.getStreak()).isEqualTo(1);
+        verify(predictionRepository, never()).findSettledGameIdsByUserIdAndGameIdIn(any(), anyList());
+    }
+
+    static UserPredictionStats row(Long userId, int total, int correct, int streak, long version, boolean stale) {
+        return UserPredictionStats.builder()
+                .userId(userId)
+                .totalPredictions(total)
+                .correctPredictions(correct)
+                .currentStreak(streak)
+                .countedThrough(YESTERDAY)
+                .streakStale(stale)
+                .version(version)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    record StatsRow(String gameId, String votedTeam, LocalDateTime createdAt) implements PredictionStatsRowProjection {
+        @Override
+        public String getGameId() {
+            return gameId;
+        }
+
+        @Override
+        public String getVotedTeam() {
+            return votedTeam;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    record StatsGame(String gameId, String winner, LocalDate gameDate) implements PredictionStatsGameProjection {
+        @Override
+        public String getGameId() {
+            return gameId;
+        }
+
+        @Override
+        public String getWinner() {
+            return winner;
+        }
+
+        @Override
+        public LocalDate getGameDate() {
+            return gameDate;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.prediction;
+
+import com.example.common.config.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static com.example.prediction.UserPredictionStatsServiceTest.row;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPredictionStatsVerifierTest {
+
+    @Mock
+    private UserPredictionStatsService statsService;
+
+    @Mock
+    private UserPredictionStatsRepository statsRepository;
+
+    @Mock
+    private PredictionRepository predictionRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPredictionStatsVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifier = new UserPredictionStatsVerifier(
+                statsService, statsRepository, predictionRepository, cacheManager, meterRegistry);
+        when(statsService.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("정합성 점검은 재집계와 다른 행만 version 조건으로 다시 쓰고 drift를 기록한다")
+    void verify_repairsOnlyDriftedRows() {
+        UserPredictionStats consistent = row(1L, 5, 3, 1, 2L, false);
+        UserPredictionStats drifted = row(2L, 4, 2, 2, 9L, false);
+        when(cacheManager.getCache(CacheConfig.PREDICTION_USER_STATS)).thenReturn(cache);
+        when(statsRepository.findByUserIdGreaterThanOrderByUserIdAsc(0L,
+                PageRequest.of(0, UserPredictionStatsVerifier.PAGE_SIZE)))
+                .thenReturn(List.of(consistent, drifted));
+        UserPredictionStats expectedConsistent = row(1L, 5, 3, 1, 0L, false);
+        UserPredictionStats expectedDrifted = row(2L, 5, 2, 0, 0L, false);
+        when(statsService.computeMaterialized(1L)).thenReturn(expectedConsistent);
+        when(statsService.computeMaterialized(2L)).thenReturn(expectedDrifted);
+        when(statsService.store(expectedDrifted, drifted)).thenReturn(true);
+
+        UserPredictionStatsVerifier.VerifyReport report = verifier.verify();
+
+        assertThat(report.checked()).isEqualTo(2);
+        assertThat(report.mismatched()).isEqualTo(1);
+        assertThat(report.repaired()).isEqualTo(1);
+        verify(statsService, never()).store(eq(expectedConsistent), any());
+        verify(cache).evict(2L);
+        assertThat(meterRegistry.get("prediction.user_stats.drift").tag("field", "total").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("prediction.user_stats.drift").tag("field", "correct").counter().count())
+                .isZero();
+        assertThat(meterRegistry.get("prediction.user_stats.drift").tag("field", "streak").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("backfill은 통계 행이 없는 사용자만 재집계해 만든다")
+    void backfill_createsRowsOnlyForMissingUsers() {
+        when(predictionRepository.findDistinctUserIdsAfter(0L,
+                PageRequest.of(0, UserPredictionStatsVerifier.PAGE_SIZE)))
+                .thenReturn(List.of(10L, 11L));
+        when(statsRepository.findAllById(List.of(10L, 11L))).thenReturn(List.of(row(10L, 1, 1, 1, 0L, false)));
+        UserPredictionStats built = row(11L, 3, 1, 0, 0L, false);
+        when(statsService.computeMaterialized(11L)).thenReturn(built);
+        when(statsService.store(built, null)).thenReturn(true);
+
+        UserPredictionStatsVerifier.BackfillReport report = verifier.backfill();
+
+        assertThat(report.scanned()).isEqualTo(2);
+        assertThat(report.created()).isEqualTo(1);
+        verify(statsService, never()).computeMaterialized(10L);
+    }
+}
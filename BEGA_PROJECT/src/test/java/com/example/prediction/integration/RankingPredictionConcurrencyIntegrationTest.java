@@ -92,7 +92,7 @@ class RankingPredictionConcurrencyIntegrationTest {
     private UserRepository userRepository;
 
     @MockitoBean
-    private com.example.notification.service.NotificationService notificationService;
+    private com.example.notification.service.NotificationFanoutService notificationFanoutService;
 
     private JdbcTemplate jdbcTemplate;
 
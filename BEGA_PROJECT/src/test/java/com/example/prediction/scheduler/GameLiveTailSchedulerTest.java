@@ -0,0 +1,126 @@
+package com.example.prediction.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import com.example.common.realtime.RealtimeMessageDispatcher;
+import com.example.common.realtime.RealtimeMessageEnvelope;
+import com.example.prediction.GameLiveEventDto;
+import com.example.prediction.GameLiveHub;
+import com.example.prediction.GameLiveRelayService;
+import com.example.prediction.GameLiveService;
+import com.example.prediction.GameLiveSnapshotDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class GameLiveTailSchedulerTest {
+
+    private static final String GAME_ID = "20260417LGKT0";
+
+    @Mock
+    private GameLiveHub gameLiveHub;
+
+    @Mock
+    private GameLiveService gameLiveService;
+
+    @Mock
+    private GameLiveRelayService gameLiveRelayService;
+
+    @Mock
+    private RealtimeMessageDispatcher realtimeMessageDispatcher;
+
+    @Mock
+    private SimpUserRegistry simpUserRegistry;
+
+    private GameLiveTailScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new GameLiveTailScheduler(
+                gameLiveHub,
+                gameLiveService,
+                gameLiveRelayService,
+                realtimeMessageDispatcher,
+                simpUserRegistry,
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("새 이벤트가 있으면 직전 커서 이후 증분만 경기 토픽으로 보낸다")
+    void tailPushesEventDeltaToLiveTopic() {
+        when(gameLiveHub.isEnabled()).thenReturn(true);
+        when(gameLiveHub.trackedGameIds()).thenReturn(Set.of(GAME_ID));
+        when(gameLiveHub.tail(GAME_ID)).thenReturn(new GameLiveHub.TailResult(true, false, false, 7, 1, 40, 0));
+        when(gameLiveService.buildLiveDelta(GAME_ID, 7)).thenReturn(Optional.of(GameLiveSnapshotDto.builder()
+                .gameId(GAME_ID)
+                .gameStatus("LIVE")
+                .lastEventSeq(8)
+                .events(List.of(GameLiveEventDto.builder().eventSeq(8).description("안타").build()))
+                .inningScores(List.of())
+                .build()));
+
+        scheduler.tailLiveGames();
+
+        ArgumentCaptor<RealtimeMessageEnvelope> envelope = ArgumentCaptor.forClass(RealtimeMessageEnvelope.class);
+        verify(realtimeMessageDispatcher).dispatch(envelope.capture());
+        assertThat(envelope.getValue().destination()).isEqualTo("/topic/live/" + GAME_ID);
+        assertThat(envelope.getValue().payload().get("lastEventSeq").asInt()).isEqualTo(8);
+        verify(gameLiveRelayService, never()).buildRelayDelta(any(), any());
+        verify(gameLiveHub, never()).untrack(GAME_ID);
+    }
+
+    @Test
+    @DisplayName("종료된 경기는 마지막 증분을 보낸 뒤 tail을 멈춘다")
+    void finishedGameIsUntrackedAfterLastDelta() {
+        when(gameLiveHub.tail(GAME_ID)).thenReturn(new GameLiveHub.TailResult(true, false, true, 9, 0, 40, 0));
+
+        scheduler.tailGame(GAME_ID);
+
+        verify(gameLiveHub).untrack(GAME_ID);
+        verify(realtimeMessageDispatcher, never()).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("폴링도 구독자도 없는 경기는 DB를 읽지 않고 등록을 해제한다")
+    void idleGameWithoutSubscribersIsUntracked() {
+        when(gameLiveHub.isIdle(GAME_ID)).thenReturn(true);
+        when(simpUserRegistry.findSubscriptions(any())).thenReturn(Set.of());
+
+        scheduler.tailGame(GAME_ID);
+
+        verify(gameLiveHub).untrack(GAME_ID);
+        verify(gameLiveHub, never()).tail(GAME_ID);
+    }
+
+    @Test
+    @DisplayName("폴링이 끊겨도 구독자가 남아 있으면 계속 tail한다")
+    void idleGameWithSubscribersKeepsTailing() {
+        when(gameLiveHub.isIdle(GAME_ID)).thenReturn(true);
+        when(simpUserRegistry.findSubscriptions(any())).thenReturn(Set.of(mock(SimpSubscription.class)));
+        when(gameLiveHub.tail(GAME_ID)).thenReturn(new GameLiveHub.TailResult(true, false, false, 9, 0, 40, 0));
+
+        scheduler.tailGame(GAME_ID);
+
+        verify(gameLiveHub).touch(GAME_ID);
+        verify(gameLiveHub).tail(GAME_ID);
+        verify(gameLiveHub, never()).untrack(GAME_ID);
+    }
+}